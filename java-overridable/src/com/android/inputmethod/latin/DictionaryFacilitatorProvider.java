@@ -21,6 +21,8 @@ package com.android.inputmethod.latin;
  */
 public class DictionaryFacilitatorProvider {
     public static DictionaryFacilitator getDictionaryFacilitator(boolean isNeededForSpellChecking) {
-        return new DictionaryFacilitatorImpl();
+        // LatinIME and the spell checker run in the same process, so they share their main,
+        // contacts and user dictionaries.
+        return new DictionaryFacilitatorImpl(true /* sharesDictionaries */);
     }
 }
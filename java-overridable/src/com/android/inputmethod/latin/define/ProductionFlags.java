@@ -34,6 +34,12 @@ public final class ProductionFlags {
      */
     public static final boolean IS_METRICS_LOGGING_SUPPORTED = false;
 
+    /**
+     * When {@code true}, suggestions are fetched from every dictionary in parallel and
+     * dictionaries that miss the per-query deadline are dropped from the results.
+     */
+    public static final boolean ENABLE_PARALLEL_SUGGESTION_FAN_OUT = false;
+
     /**
      * When {@code false}, the split keyboard is not yet ready to be enabled.
      */
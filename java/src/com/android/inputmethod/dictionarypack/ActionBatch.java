@@ -88,6 +88,20 @@ public final class ActionBatch {
         void execute(final Context context);
     }
 
+    /**
+     * An action that only works on the metadata database of its client.
+     *
+     * Consecutive database actions for the same client are executed in a single transaction.
+     * Actions that have effects outside of the database that rely on it being up to date, like
+     * starting a download or installing a word list, must not be database actions.
+     */
+    public interface DatabaseAction extends Action {
+        /**
+         * Returns the id of the client whose database this action works on.
+         */
+        String getClientId();
+    }
+
     /**
      * An action that starts downloading an available word list.
      */
@@ -202,7 +216,7 @@ public final class ActionBatch {
     /**
      * An action that enables an existing word list.
      */
-    public static final class EnableAction implements Action {
+    public static final class EnableAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:" + EnableAction.class.getSimpleName();
         private final String mClientId;
         // The state to upgrade from. May not be null.
@@ -214,6 +228,11 @@ public final class ActionBatch {
             mWordList = wordList;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) {
@@ -237,6 +256,9 @@ public final class ActionBatch {
 
     /**
      * An action that disables a word list.
+     *
+     * This is not a database action, as disabling a word list that is still downloading cancels
+     * the download.
      */
     public static final class DisableAction implements Action {
         static final String TAG = "DictionaryProvider:" + DisableAction.class.getSimpleName();
@@ -280,7 +302,7 @@ public final class ActionBatch {
     /**
      * An action that makes a word list available.
      */
-    public static final class MakeAvailableAction implements Action {
+    public static final class MakeAvailableAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:" + MakeAvailableAction.class.getSimpleName();
         private final String mClientId;
         // The word list to make available. May not be null.
@@ -291,6 +313,11 @@ public final class ActionBatch {
             mWordList = wordlist;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) { // This should never happen
@@ -329,7 +356,7 @@ public final class ActionBatch {
      * It also explicitly sets the filename to the empty string, so that we don't try to open
      * it on our side.
      */
-    public static final class MarkPreInstalledAction implements Action {
+    public static final class MarkPreInstalledAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:"
                 + MarkPreInstalledAction.class.getSimpleName();
         private final String mClientId;
@@ -341,6 +368,11 @@ public final class ActionBatch {
             mWordList = wordlist;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) { // This should never happen
@@ -373,7 +405,7 @@ public final class ActionBatch {
     /**
      * An action that updates information about a word list - description, locale etc
      */
-    public static final class UpdateDataAction implements Action {
+    public static final class UpdateDataAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:" + UpdateDataAction.class.getSimpleName();
         private final String mClientId;
         final WordListMetadata mWordList;
@@ -383,6 +415,11 @@ public final class ActionBatch {
             mWordList = wordlist;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) { // This should never happen
@@ -423,7 +460,7 @@ public final class ActionBatch {
      * If the word list has not been installed, it's possible to delete its associated metadata.
      * Otherwise, the settings are retained so that the user can still administrate it.
      */
-    public static final class ForgetAction implements Action {
+    public static final class ForgetAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:" + ForgetAction.class.getSimpleName();
         private final String mClientId;
         // The word list to remove. May not be null.
@@ -437,6 +474,11 @@ public final class ActionBatch {
             mHasNewerVersion = hasNewerVersion;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) { // This should never happen
@@ -497,7 +539,7 @@ public final class ActionBatch {
      * dictionary. This way, there is no need for the user to make a distinction between
      * dictionaries installed by default and add-on dictionaries.
      */
-    public static final class StartDeleteAction implements Action {
+    public static final class StartDeleteAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:" + StartDeleteAction.class.getSimpleName();
         private final String mClientId;
         // The word list to delete. May not be null.
@@ -508,6 +550,11 @@ public final class ActionBatch {
             mWordList = wordlist;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) { // This should never happen
@@ -536,7 +583,7 @@ public final class ActionBatch {
      * This will restore the word list as available if it still is, or remove the entry if
      * it is not any more.
      */
-    public static final class FinishDeleteAction implements Action {
+    public static final class FinishDeleteAction implements DatabaseAction {
         static final String TAG = "DictionaryProvider:" + FinishDeleteAction.class.getSimpleName();
         private final String mClientId;
         // The word list to delete. May not be null.
@@ -547,6 +594,11 @@ public final class ActionBatch {
             mWordList = wordlist;
         }
 
+        @Override
+        public String getClientId() {
+            return mClientId;
+        }
+
         @Override
         public void execute(final Context context) {
             if (null == mWordList) { // This should never happen
@@ -612,14 +664,50 @@ public final class ActionBatch {
     public void execute(final Context context, final ProblemReporter reporter) {
         DebugLogUtils.l("Executing a batch of actions");
         Queue<Action> remainingActions = mActions;
-        while (!remainingActions.isEmpty()) {
-            final Action a = remainingActions.poll();
-            try {
-                a.execute(context);
-            } catch (Exception e) {
-                if (null != reporter)
-                    reporter.report(e);
+        // The database of the current transaction, if any, and the client it belongs to. Each
+        // write would otherwise be committed on its own, which is slow for large batches.
+        SQLiteDatabase transactionDb = null;
+        String transactionClientId = null;
+        try {
+            while (!remainingActions.isEmpty()) {
+                final Action a = remainingActions.poll();
+                final boolean isDatabaseAction = a instanceof DatabaseAction;
+                final String clientId =
+                        isDatabaseAction ? ((DatabaseAction) a).getClientId() : null;
+                if (null != transactionDb && (!isDatabaseAction
+                        || !TextUtils.equals(transactionClientId, clientId))) {
+                    endTransaction(transactionDb, reporter);
+                    transactionDb = null;
+                }
+                try {
+                    if (isDatabaseAction && null == transactionDb) {
+                        final SQLiteDatabase db = MetadataDbHelper.getDb(context, clientId);
+                        db.beginTransactionNonExclusive();
+                        transactionDb = db;
+                        transactionClientId = clientId;
+                    }
+                    a.execute(context);
+                } catch (Exception e) {
+                    if (null != reporter)
+                        reporter.report(e);
+                }
             }
+        } finally {
+            if (null != transactionDb) {
+                endTransaction(transactionDb, reporter);
+            }
+        }
+    }
+
+    // Commits the writes of the actions executed in the transaction. As without a transaction,
+    // an action that failed doesn't prevent the others from being committed.
+    private static void endTransaction(final SQLiteDatabase db, final ProblemReporter reporter) {
+        try {
+            db.setTransactionSuccessful();
+            db.endTransaction();
+        } catch (Exception e) {
+            if (null != reporter)
+                reporter.report(e);
         }
     }
 }
@@ -18,23 +18,54 @@ package com.android.inputmethod.dictionarypack;
 
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.security.MessageDigest;
 
 public final class MD5Calculator {
+    private static final int BUFFER_SIZE = 8192;
+
     private MD5Calculator() {} // This helper class is not instantiable
 
     public static String checksum(final InputStream in) throws IOException {
+        return checksumAndCopy(in, null);
+    }
+
+    /**
+     * Copies a stream to another one and computes the checksum of the copied bytes at the same
+     * time, so that the data is only read once.
+     *
+     * @param in the stream to copy from.
+     * @param out the stream to copy to, or null to only compute the checksum.
+     * @return the checksum, or null if the platform does not support MD5. The stream is copied
+     *  anyway in this case.
+     * @throws IOException if a read or a write fails.
+     */
+    public static String checksumAndCopy(final InputStream in, final OutputStream out)
+            throws IOException {
         // This code from the Android documentation for MessageDigest. Nearly verbatim.
         MessageDigest digester;
         try {
             digester = MessageDigest.getInstance("MD5");
         } catch (java.security.NoSuchAlgorithmException e) {
-            return null; // Platform does not support MD5 : can't check, so return null
+            // Platform does not support MD5 : can't check, so return null, after copying the
+            // stream if needed
+            if (null == out) {
+                return null;
+            }
+            digester = null;
         }
-        final byte[] bytes = new byte[8192];
+        final byte[] bytes = new byte[BUFFER_SIZE];
         int byteCount;
         while ((byteCount = in.read(bytes)) > 0) {
-            digester.update(bytes, 0, byteCount);
+            if (null != digester) {
+                digester.update(bytes, 0, byteCount);
+            }
+            if (null != out) {
+                out.write(bytes, 0, byteCount);
+            }
+        }
+        if (null == digester) {
+            return null;
         }
         final byte[] digest = digester.digest();
         final StringBuilder s = new StringBuilder();
@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.Collections;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -170,4 +171,28 @@ public class MetadataHandler {
         // If we didn't find any match we'll return null.
         return bestWordList;
     }
+
+    /**
+     * Indexes metadata by word list ID.
+     *
+     * For each ID, this keeps the same word list as {@link #findWordListById(List, String)}
+     * would return, but finds all of them in one pass over the metadata.
+     *
+     * @param metadata the metadata to index.
+     * @return the metadata for each word list ID that has a word list in a supported format.
+     */
+    public static HashMap<String, WordListMetadata> indexWordListsById(
+            final List<WordListMetadata> metadata) {
+        final HashMap<String, WordListMetadata> wordListsById = new HashMap<>();
+        for (WordListMetadata wordList : metadata) {
+            if (wordList.mFormatVersion > UpdateHandler.MAXIMUM_SUPPORTED_FORMAT_VERSION) {
+                continue;
+            }
+            final WordListMetadata bestWordList = wordListsById.get(wordList.mId);
+            if (null == bestWordList || wordList.mFormatVersion > bestWordList.mFormatVersion) {
+                wordListsById.put(wordList.mId, wordList);
+            }
+        }
+        return wordListsById;
+    }
 }
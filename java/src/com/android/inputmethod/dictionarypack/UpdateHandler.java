@@ -36,6 +36,7 @@ import android.provider.Settings;
 import android.text.TextUtils;
 import android.util.Log;
 
+import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.compat.ConnectivityManagerCompatUtils;
 import com.android.inputmethod.compat.NotificationCompatUtils;
 import com.android.inputmethod.latin.R;
@@ -45,16 +46,14 @@ import com.android.inputmethod.latin.utils.ApplicationUtils;
 import com.android.inputmethod.latin.utils.DebugLogUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -82,9 +81,6 @@ public final class UpdateHandler {
     public static final int MAXIMUM_SUPPORTED_FORMAT_VERSION =
             FormatSpec.MAXIMUM_SUPPORTED_STATIC_VERSION;
 
-    // Arbitrary. Probably good if it's a power of 2, and a couple thousand bytes long.
-    private static final int FILE_COPY_BUFFER_SIZE = 8192;
-
     // Table fixed values for metadata / downloads
     final static String METADATA_NAME = "metadata";
     final static int METADATA_TYPE = 0;
@@ -514,7 +510,8 @@ public final class UpdateHandler {
         signalNewDictionaryState(context);
     }
 
-    private static boolean handleDownloadedFile(final Context context,
+    @UsedForTesting
+    static boolean handleDownloadedFile(final Context context,
             final DownloadRecord downloadRecord, final DownloadManagerWrapper manager,
             final long fileId) {
         try {
@@ -634,28 +631,23 @@ public final class UpdateHandler {
         final String destinationFile = getTempFileName(context, locale);
         downloadRecord.mAttributes.put(MetadataDbHelper.LOCAL_FILENAME_COLUMN, destinationFile);
 
+        // The checksum is computed while copying, so that the file is only read once.
         FileOutputStream outputStream = null;
+        String md5sum = null;
+        boolean copied = false;
         try {
             outputStream = context.openFileOutput(destinationFile, Context.MODE_PRIVATE);
-            copyFile(inputStream, outputStream);
+            DebugLogUtils.l("Copying files");
+            md5sum = MD5Calculator.checksumAndCopy(inputStream, outputStream);
+            copied = true;
         } finally {
             inputStream.close();
             if (outputStream != null) {
                 outputStream.close();
             }
-        }
-
-        // TODO: Consolidate this MD5 calculation with file copying above.
-        // We need to reopen the file because the inputstream bytes have been consumed, and there
-        // is nothing in InputStream to reopen or rewind the stream
-        FileInputStream copiedFile = null;
-        final String md5sum;
-        try {
-            copiedFile = context.openFileInput(destinationFile);
-            md5sum = MD5Calculator.checksum(copiedFile);
-        } finally {
-            if (copiedFile != null) {
-                copiedFile.close();
+            if (!copied) {
+                // Don't leave a truncated file behind.
+                context.deleteFile(destinationFile);
             }
         }
         if (TextUtils.isEmpty(md5sum)) {
@@ -670,50 +662,6 @@ public final class UpdateHandler {
         }
     }
 
-    /**
-     * Copies in to out using FileChannels.
-     *
-     * This tries to use channels for fast copying. If it doesn't work, fall back to
-     * copyFileFallBack below.
-     *
-     * @param in the stream to copy from.
-     * @param out the stream to copy to.
-     * @throws IOException if both the normal and fallback methods raise exceptions.
-     */
-    private static void copyFile(final InputStream in, final OutputStream out)
-            throws IOException {
-        DebugLogUtils.l("Copying files");
-        if (!(in instanceof FileInputStream) || !(out instanceof FileOutputStream)) {
-            DebugLogUtils.l("Not the right types");
-            copyFileFallback(in, out);
-        } else {
-            try {
-                final FileChannel sourceChannel = ((FileInputStream) in).getChannel();
-                final FileChannel destinationChannel = ((FileOutputStream) out).getChannel();
-                sourceChannel.transferTo(0, Integer.MAX_VALUE, destinationChannel);
-            } catch (IOException e) {
-                // Can't work with channels, or something went wrong. Copy by hand.
-                DebugLogUtils.l("Won't work");
-                copyFileFallback(in, out);
-            }
-        }
-    }
-
-    /**
-     * Copies in to out with read/write methods, not FileChannels.
-     *
-     * @param in the stream to copy from.
-     * @param out the stream to copy to.
-     * @throws IOException if a read or a write fails.
-     */
-    private static void copyFileFallback(final InputStream in, final OutputStream out)
-            throws IOException {
-        DebugLogUtils.l("Falling back to slow copy");
-        final byte[] buffer = new byte[FILE_COPY_BUFFER_SIZE];
-        for (int readBytes = in.read(buffer); readBytes >= 0; readBytes = in.read(buffer))
-            out.write(buffer, 0, readBytes);
-    }
-
     /**
      * Creates and returns a new file to store a dictionary
      * @param context the context to use to open the file.
@@ -757,11 +705,16 @@ public final class UpdateHandler {
                 : to;
         for (WordListMetadata wlData : fromList) wordListIds.add(wlData.mId);
         for (WordListMetadata wlData : toList) wordListIds.add(wlData.mId);
+        // Index the word lists once, instead of looking for each id in both lists.
+        final HashMap<String, WordListMetadata> fromWordListsById =
+                MetadataHandler.indexWordListsById(fromList);
+        final HashMap<String, WordListMetadata> toWordListsById =
+                MetadataHandler.indexWordListsById(toList);
         for (String id : wordListIds) {
-            final WordListMetadata currentInfo = MetadataHandler.findWordListById(fromList, id);
-            final WordListMetadata metadataInfo = MetadataHandler.findWordListById(toList, id);
+            final WordListMetadata currentInfo = fromWordListsById.get(id);
+            final WordListMetadata metadataInfo = toWordListsById.get(id);
             // TODO: Remove the following unnecessary check, since we are now doing the filtering
-            // inside findWordListById.
+            // inside indexWordListsById.
             final WordListMetadata newInfo = null == metadataInfo
                     || metadataInfo.mFormatVersion > MAXIMUM_SUPPORTED_FORMAT_VERSION
                             ? null : metadataInfo;
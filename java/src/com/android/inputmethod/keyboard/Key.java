@@ -35,11 +35,15 @@ import com.android.inputmethod.keyboard.internal.KeyVisualAttributes;
 import com.android.inputmethod.keyboard.internal.KeyboardIconsSet;
 import com.android.inputmethod.keyboard.internal.KeyboardParams;
 import com.android.inputmethod.keyboard.internal.KeyboardRow;
+import com.android.inputmethod.keyboard.internal.KeyboardSerializationUtils;
 import com.android.inputmethod.keyboard.internal.MoreKeySpec;
 import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.common.Constants;
 import com.android.inputmethod.latin.common.StringUtils;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -441,6 +445,105 @@ public class Key implements Comparable<Key> {
         mEnabled = key.mEnabled;
     }
 
+    /**
+     * Constructor for a key read back from the persistent keyboard cache.
+     *
+     * @param buffer the buffer positioned after the data written by
+     *        {@link #writeTo(DataOutputStream)} for the key type.
+     */
+    Key(@Nonnull final ByteBuffer buffer) {
+        mCode = buffer.getInt();
+        mLabel = KeyboardSerializationUtils.readString(buffer);
+        mHintLabel = KeyboardSerializationUtils.readString(buffer);
+        mLabelFlags = buffer.getInt();
+        mIconId = buffer.getInt();
+        mWidth = buffer.getInt();
+        mHeight = buffer.getInt();
+        mHorizontalGap = buffer.getInt();
+        mVerticalGap = buffer.getInt();
+        mX = buffer.getInt();
+        mY = buffer.getInt();
+        mHitBox.set(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+        final int moreKeysCount = KeyboardSerializationUtils.readLength(buffer,
+                1 /* elementSize */);
+        if (moreKeysCount < 0) {
+            mMoreKeys = null;
+        } else {
+            mMoreKeys = new MoreKeySpec[moreKeysCount];
+            for (int i = 0; i < moreKeysCount; i++) {
+                mMoreKeys[i] = MoreKeySpec.readFrom(buffer);
+            }
+        }
+        mMoreKeysColumnAndFlags = buffer.getInt();
+        mBackgroundType = buffer.getInt();
+        mActionFlags = buffer.getInt();
+        mKeyVisualAttributes = KeyVisualAttributes.readFrom(buffer);
+        if (buffer.get() != 0) {
+            final String outputText = KeyboardSerializationUtils.readString(buffer);
+            final int altCode = buffer.getInt();
+            final int disabledIconId = buffer.getInt();
+            final int visualInsetsLeft = buffer.getInt();
+            final int visualInsetsRight = buffer.getInt();
+            mOptionalAttributes = new OptionalAttributes(outputText, altCode, disabledIconId,
+                    visualInsetsLeft, visualInsetsRight);
+        } else {
+            mOptionalAttributes = null;
+        }
+        mEnabled = buffer.get() != 0;
+        mHashCode = computeHashCode(this);
+    }
+
+    /**
+     * Writes this key so that {@link #readFrom(ByteBuffer)} can read it back. The pressed state
+     * is not written.
+     */
+    void writeTo(@Nonnull final DataOutputStream out) throws IOException {
+        out.writeBoolean(isSpacer());
+        out.writeInt(mCode);
+        KeyboardSerializationUtils.writeString(out, mLabel);
+        KeyboardSerializationUtils.writeString(out, mHintLabel);
+        out.writeInt(mLabelFlags);
+        out.writeInt(mIconId);
+        out.writeInt(mWidth);
+        out.writeInt(mHeight);
+        out.writeInt(mHorizontalGap);
+        out.writeInt(mVerticalGap);
+        out.writeInt(mX);
+        out.writeInt(mY);
+        out.writeInt(mHitBox.left);
+        out.writeInt(mHitBox.top);
+        out.writeInt(mHitBox.right);
+        out.writeInt(mHitBox.bottom);
+        if (mMoreKeys == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(mMoreKeys.length);
+            for (final MoreKeySpec moreKey : mMoreKeys) {
+                moreKey.writeTo(out);
+            }
+        }
+        out.writeInt(mMoreKeysColumnAndFlags);
+        out.writeInt(mBackgroundType);
+        out.writeInt(mActionFlags);
+        KeyVisualAttributes.writeTo(out, mKeyVisualAttributes);
+        final OptionalAttributes attrs = mOptionalAttributes;
+        out.writeBoolean(attrs != null);
+        if (attrs != null) {
+            KeyboardSerializationUtils.writeString(out, attrs.mOutputText);
+            out.writeInt(attrs.mAltCode);
+            out.writeInt(attrs.mDisabledIconId);
+            out.writeInt(attrs.mVisualInsetsLeft);
+            out.writeInt(attrs.mVisualInsetsRight);
+        }
+        out.writeBoolean(mEnabled);
+    }
+
+    @Nonnull
+    static Key readFrom(@Nonnull final ByteBuffer buffer) {
+        final boolean isSpacer = buffer.get() != 0;
+        return isSpacer ? new Spacer(buffer) : new Key(buffer);
+    }
+
     @Nonnull
     public static Key removeRedundantMoreKeys(@Nonnull final Key key,
             @Nonnull final MoreKeySpec.LettersOnBaseLayout lettersOnBaseLayout) {
@@ -1018,5 +1121,9 @@ public class Key implements Comparable<Key> {
                     null /* hintLabel */, 0 /* labelFlags */, BACKGROUND_TYPE_EMPTY, x, y, width,
                     height, params.mHorizontalGap, params.mVerticalGap);
         }
+
+        Spacer(@Nonnull final ByteBuffer buffer) {
+            super(buffer);
+        }
     }
 }
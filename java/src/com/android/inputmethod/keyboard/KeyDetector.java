@@ -16,6 +16,8 @@
 
 package com.android.inputmethod.keyboard;
 
+import java.util.List;
+
 /**
  * This class handles key detection.
  */
@@ -26,6 +28,9 @@ public class KeyDetector {
     private Keyboard mKeyboard;
     private int mCorrectionX;
     private int mCorrectionY;
+    // Scratch buffer for the nearest keys of a touch point, reused to avoid allocating on every
+    // touch event.
+    private int[] mNearestKeyIndices = new int[0];
 
     public KeyDetector() {
         this(0.0f /* keyHysteresisDistance */, 0.0f /* keyHysteresisDistanceForSlidingModifier */);
@@ -92,9 +97,16 @@ public class KeyDetector {
         final int touchX = getTouchX(x);
         final int touchY = getTouchY(y);
 
+        final List<Key> sortedKeys = mKeyboard.getSortedKeys();
+        if (mNearestKeyIndices.length < sortedKeys.size()) {
+            mNearestKeyIndices = new int[sortedKeys.size()];
+        }
+        final int nearestKeyCount =
+                mKeyboard.getNearestKeyIndices(touchX, touchY, mNearestKeyIndices);
         int minDistance = Integer.MAX_VALUE;
         Key primaryKey = null;
-        for (final Key key: mKeyboard.getNearestKeys(touchX, touchY)) {
+        for (int i = 0; i < nearestKeyCount; i++) {
+            final Key key = sortedKeys.get(mNearestKeyIndices[i]);
             // An edge key always has its enlarged hitbox to respond to an event that occurred in
             // the empty area around the key. (@see Key#markAsLeftEdge(KeyboardParams)} etc.)
             if (!key.isOnKey(touchX, touchY)) {
@@ -101,6 +101,17 @@ public class Keyboard {
     private final boolean mProximityCharsCorrectionEnabled;
 
     public Keyboard(@Nonnull final KeyboardParams params) {
+        this(params, null /* gridNeighborOffsets */, null /* gridNeighborKeyIndices */);
+    }
+
+    /**
+     * @param gridNeighborOffsets the offsets of the proximity grid of a keyboard read back from
+     *        the persistent cache, or null to compute the grid; see {@link KeyboardDiskCache}.
+     * @param gridNeighborKeyIndices the key indices of the proximity grid of a keyboard read back
+     *        from the persistent cache, or null to compute the grid.
+     */
+    Keyboard(@Nonnull final KeyboardParams params, @Nullable final int[] gridNeighborOffsets,
+            @Nullable final int[] gridNeighborKeyIndices) {
         mId = params.mId;
         mThemeId = params.mThemeId;
         mOccupiedHeight = params.mOccupiedHeight;
@@ -122,7 +133,8 @@ public class Keyboard {
 
         mProximityInfo = new ProximityInfo(params.GRID_WIDTH, params.GRID_HEIGHT,
                 mOccupiedWidth, mOccupiedHeight, mMostCommonKeyWidth, mMostCommonKeyHeight,
-                mSortedKeys, params.mTouchPositionCorrection);
+                mSortedKeys, params.mTouchPositionCorrection, gridNeighborOffsets,
+                gridNeighborKeyIndices);
         mProximityCharsCorrectionEnabled = params.mProximityCharsCorrectionEnabled;
         mKeyboardLayout = KeyboardLayout.newKeyboardLayout(mSortedKeys, mMostCommonKeyWidth,
                 mMostCommonKeyHeight, mOccupiedWidth, mOccupiedHeight);
@@ -228,18 +240,19 @@ public class Keyboard {
     }
 
     /**
-     * Returns the array of the keys that are closest to the given point.
+     * Writes the indices in {@link #getSortedKeys()} of the keys that are closest to the given
+     * point.
      * @param x the x-coordinate of the point
      * @param y the y-coordinate of the point
-     * @return the list of the nearest keys to the given point. If the given
-     * point is out of range, then an array of size zero is returned.
+     * @param outKeyIndices the array to write the indices to. It should be at least as long as
+     * {@link #getSortedKeys()}, as indices that don't fit are left out.
+     * @return the number of indices written to outKeyIndices.
      */
-    @Nonnull
-    public List<Key> getNearestKeys(final int x, final int y) {
+    public int getNearestKeyIndices(final int x, final int y, @Nonnull final int[] outKeyIndices) {
         // Avoid dead pixels at edges of the keyboard
         final int adjustedX = Math.max(0, Math.min(x, mOccupiedWidth - 1));
         final int adjustedY = Math.max(0, Math.min(y, mOccupiedHeight - 1));
-        return mProximityInfo.getNearestKeys(adjustedX, adjustedY);
+        return mProximityInfo.fillArrayWithNearestKeyIndices(adjustedX, adjustedY, outKeyIndices);
     }
 
     @Nonnull
@@ -0,0 +1,452 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.content.res.TypedArray;
+import android.util.Log;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+import com.android.inputmethod.keyboard.internal.KeyVisualAttributes;
+import com.android.inputmethod.keyboard.internal.KeyboardParams;
+import com.android.inputmethod.keyboard.internal.KeyboardSerializationUtils;
+import com.android.inputmethod.keyboard.internal.UniqueKeysCache;
+import com.android.inputmethod.latin.R;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Persistent cache of built keyboards.
+ *
+ * Building a keyboard parses its XML layout, which dominates the time to show the first keyboard
+ * after the process starts. This cache writes the keys, the keyboard parameters and the proximity
+ * grid of each built keyboard to a file in the cache directory, and maps that file to rebuild the
+ * keyboard the next time the process needs it.
+ *
+ * Icons are not written: they are drawables of the keyboard theme, and are loaded again from the
+ * theme when a keyboard is read. Everything else that the layout depends on is part of the cache
+ * key, including the version of the package and the hash of the resource configuration, so that
+ * entries are never stale; old entries are simply evicted.
+ */
+final class KeyboardDiskCache {
+    private static final String TAG = KeyboardDiskCache.class.getSimpleName();
+    private static final boolean DEBUG = false;
+
+    private static final String CACHE_DIRECTORY_NAME = "keyboards";
+    private static final String CACHE_FILE_EXTENSION = ".kbd";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int MAGIC_NUMBER = 0x4B424443; // "KBDC"
+    // Must be incremented whenever the format of the cache files changes.
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_CACHE_FILE_COUNT = 64;
+
+    @Nullable
+    private static String sPackageVersion;
+
+    private KeyboardDiskCache() {
+        // This utility class is not publicly instantiable.
+    }
+
+    /**
+     * Returns the key of the cache entry of a keyboard, or null if the keyboard can't be cached.
+     *
+     * @param context the context the keyboard is built with.
+     * @param id the id of the keyboard.
+     * @param keyboardThemeId the id of the keyboard theme of the context.
+     * @param keyboardXmlId the resource id of the layout of the keyboard.
+     * @param proximityCharsCorrectionEnabled whether the keyboard corrects proximity chars.
+     * @param allowRedundantMoreKeys whether the keyboard keeps more keys found on its base layout.
+     */
+    @Nullable
+    public static String getCacheKey(@Nonnull final Context context, @Nonnull final KeyboardId id,
+            final int keyboardThemeId, final int keyboardXmlId,
+            final boolean proximityCharsCorrectionEnabled, final boolean allowRedundantMoreKeys) {
+        final String packageVersion = getPackageVersion(context);
+        if (packageVersion == null) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append(':').append(packageVersion)
+                .append(':').append(context.getResources().getConfiguration().hashCode())
+                .append(':').append(keyboardThemeId)
+                .append(':').append(keyboardXmlId)
+                .append(':').append(proximityCharsCorrectionEnabled)
+                .append(':').append(allowRedundantMoreKeys)
+                .append(':').append(id.mElementId)
+                .append(':').append(id.mMode)
+                .append(':').append(id.mWidth).append('x').append(id.mHeight)
+                .append(':').append(id.passwordInput())
+                .append(':').append(id.mClobberSettingsKey)
+                .append(':').append(id.mHasShortcutKey)
+                .append(':').append(id.mLanguageSwitchKeyEnabled)
+                .append(':').append(id.isMultiLine())
+                .append(':').append(id.imeAction())
+                .append(':').append(id.navigateNext())
+                .append(':').append(id.navigatePrevious())
+                .append(':').append(id.mIsSplitLayout)
+                .append(':').append(id.getLocale())
+                .append(':').append(id.mSubtype.getRawSubtype().getLocale())
+                .append(':').append(id.mSubtype.getRawSubtype().getMode())
+                .append(':').append(id.mSubtype.getRawSubtype().getExtraValue())
+                .append(':').append(id.mCustomActionLabel);
+        return sb.toString();
+    }
+
+    @Nullable
+    private static synchronized String getPackageVersion(@Nonnull final Context context) {
+        if (sPackageVersion == null) {
+            try {
+                final PackageInfo info = context.getPackageManager().getPackageInfo(
+                        context.getPackageName(), 0 /* flags */);
+                // The update time covers reinstalling a package of the same version code.
+                sPackageVersion = info.versionCode + "." + info.lastUpdateTime;
+            } catch (final PackageManager.NameNotFoundException e) {
+                Log.e(TAG, "Could not find the version of the package", e);
+            }
+        }
+        return sPackageVersion;
+    }
+
+    @Nonnull
+    private static File getCacheFile(@Nonnull final Context context,
+            @Nonnull final String cacheKey) {
+        return new File(getCacheDirectory(context),
+                Integer.toHexString(cacheKey.hashCode()) + CACHE_FILE_EXTENSION);
+    }
+
+    @Nonnull
+    private static File getCacheDirectory(@Nonnull final Context context) {
+        return new File(context.getCacheDir(), CACHE_DIRECTORY_NAME);
+    }
+
+    /**
+     * Reads a keyboard from the cache.
+     *
+     * @param context the context the keyboard would be built with. Its theme provides the icons.
+     * @param cacheKey the key returned by {@link #getCacheKey}.
+     * @param id the id of the keyboard.
+     * @param uniqueKeysCache the cache to share the keys with other keyboards.
+     * @return the keyboard, or null if it is not in the cache.
+     */
+    @Nullable
+    public static Keyboard load(@Nonnull final Context context, @Nonnull final String cacheKey,
+            @Nonnull final KeyboardId id, @Nonnull final UniqueKeysCache uniqueKeysCache) {
+        final File file = getCacheFile(context, cacheKey);
+        if (!file.isFile()) {
+            return null;
+        }
+        final long startTime = DEBUG ? System.currentTimeMillis() : 0;
+        final ByteBuffer buffer;
+        FileInputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            final FileChannel channel = in.getChannel();
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (final IOException e) {
+            Log.e(TAG, "Could not map the keyboard cache file " + file, e);
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+        final Keyboard keyboard;
+        try {
+            keyboard = readKeyboard(context, buffer, cacheKey, id, uniqueKeysCache);
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            Log.e(TAG, "Corrupted keyboard cache file " + file, e);
+            file.delete();
+            return null;
+        }
+        if (keyboard == null) {
+            // Another keyboard with the same hash of its key.
+            return null;
+        }
+        // Keep the file from being evicted.
+        file.setLastModified(System.currentTimeMillis());
+        if (DEBUG) {
+            Log.d(TAG, "Read " + id + " in " + (System.currentTimeMillis() - startTime) + "ms");
+        }
+        return keyboard;
+    }
+
+    /**
+     * Writes a keyboard to the cache. The keyboard is serialized on the calling thread, but the
+     * file is written in the background.
+     *
+     * @param context the context the keyboard was built with.
+     * @param cacheKey the key returned by {@link #getCacheKey}.
+     * @param keyboard the keyboard.
+     * @param params the parameters the keyboard was built from.
+     */
+    public static void save(@Nonnull final Context context, @Nonnull final String cacheKey,
+            @Nonnull final Keyboard keyboard, @Nonnull final KeyboardParams params) {
+        final byte[] data;
+        try {
+            data = writeKeyboard(cacheKey, keyboard, params);
+        } catch (final IOException e) {
+            Log.e(TAG, "Could not serialize " + keyboard.mId, e);
+            return;
+        }
+        if (data == null) {
+            return;
+        }
+        final File file = getCacheFile(context, cacheKey);
+        final File directory = getCacheDirectory(context);
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+            @Override
+            public void run() {
+                writeFile(directory, file, data);
+                evictOldFiles(directory);
+            }
+        });
+    }
+
+    @UsedForTesting
+    @Nullable
+    static byte[] writeKeyboard(@Nonnull final String cacheKey, @Nonnull final Keyboard keyboard,
+            @Nonnull final KeyboardParams params) throws IOException {
+        final List<Key> sortedKeys = keyboard.getSortedKeys();
+        final int[] gridNeighborOffsets = keyboard.getProximityInfo().getGridNeighborOffsets();
+        final int[] gridNeighborKeyIndices =
+                keyboard.getProximityInfo().getGridNeighborKeyIndices();
+        final int[] shiftKeyIndices = getKeyIndices(keyboard.mShiftKeys, sortedKeys);
+        final int[] altCodeKeyIndices = getKeyIndices(keyboard.mAltCodeKeysWhileTyping,
+                sortedKeys);
+        if (gridNeighborOffsets == null || gridNeighborKeyIndices == null
+                || shiftKeyIndices == null
+                || altCodeKeyIndices == null) {
+            return null;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        KeyboardSerializationUtils.writeString(out, cacheKey);
+
+        out.writeInt(params.mThemeId);
+        out.writeInt(params.mOccupiedHeight);
+        out.writeInt(params.mOccupiedWidth);
+        out.writeInt(params.mBaseHeight);
+        out.writeInt(params.mBaseWidth);
+        out.writeInt(params.mTopPadding);
+        out.writeInt(params.mBottomPadding);
+        out.writeInt(params.mLeftPadding);
+        out.writeInt(params.mRightPadding);
+        out.writeInt(params.mDefaultRowHeight);
+        out.writeInt(params.mDefaultKeyWidth);
+        out.writeInt(params.mHorizontalGap);
+        out.writeInt(params.mVerticalGap);
+        out.writeInt(params.mMoreKeysTemplate);
+        out.writeInt(params.mMaxMoreKeysKeyboardColumn);
+        out.writeInt(params.GRID_WIDTH);
+        out.writeInt(params.GRID_HEIGHT);
+        out.writeInt(params.mMostCommonKeyHeight);
+        out.writeInt(params.mMostCommonKeyWidth);
+        out.writeBoolean(params.mProximityCharsCorrectionEnabled);
+        KeyVisualAttributes.writeTo(out, params.mKeyVisualAttributes);
+        params.mTouchPositionCorrection.writeTo(out);
+
+        out.writeInt(sortedKeys.size());
+        for (final Key key : sortedKeys) {
+            key.writeTo(out);
+        }
+        writeIntArray(out, shiftKeyIndices);
+        writeIntArray(out, altCodeKeyIndices);
+        writeIntArray(out, gridNeighborOffsets);
+        writeIntArray(out, gridNeighborKeyIndices);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @UsedForTesting
+    @Nullable
+    static Keyboard readKeyboard(@Nonnull final Context context, @Nonnull final ByteBuffer buffer,
+            @Nonnull final String cacheKey, @Nonnull final KeyboardId id,
+            @Nonnull final UniqueKeysCache uniqueKeysCache) {
+        if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION
+                || !cacheKey.equals(KeyboardSerializationUtils.readString(buffer))) {
+            return null;
+        }
+        final KeyboardParams params = new KeyboardParams(uniqueKeysCache);
+        params.mId = id;
+        params.mThemeId = buffer.getInt();
+        params.mOccupiedHeight = buffer.getInt();
+        params.mOccupiedWidth = buffer.getInt();
+        params.mBaseHeight = buffer.getInt();
+        params.mBaseWidth = buffer.getInt();
+        params.mTopPadding = buffer.getInt();
+        params.mBottomPadding = buffer.getInt();
+        params.mLeftPadding = buffer.getInt();
+        params.mRightPadding = buffer.getInt();
+        params.mDefaultRowHeight = buffer.getInt();
+        params.mDefaultKeyWidth = buffer.getInt();
+        params.mHorizontalGap = buffer.getInt();
+        params.mVerticalGap = buffer.getInt();
+        params.mMoreKeysTemplate = buffer.getInt();
+        params.mMaxMoreKeysKeyboardColumn = buffer.getInt();
+        params.GRID_WIDTH = buffer.getInt();
+        params.GRID_HEIGHT = buffer.getInt();
+        params.mMostCommonKeyHeight = buffer.getInt();
+        params.mMostCommonKeyWidth = buffer.getInt();
+        params.mProximityCharsCorrectionEnabled = buffer.get() != 0;
+        params.mKeyVisualAttributes = KeyVisualAttributes.readFrom(buffer);
+        params.mTouchPositionCorrection.load(buffer);
+
+        final int keyCount = KeyboardSerializationUtils.readLength(buffer, 1 /* elementSize */);
+        final Key[] keys = new Key[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = uniqueKeysCache.getUniqueKey(Key.readFrom(buffer));
+            params.mSortedKeys.add(keys[i]);
+        }
+        if (params.mSortedKeys.size() != keyCount) {
+            throw new IllegalArgumentException("Keys overlap");
+        }
+        for (final int keyIndex : readIntArray(buffer)) {
+            params.mShiftKeys.add(getKey(keys, keyIndex));
+        }
+        for (final int keyIndex : readIntArray(buffer)) {
+            params.mAltCodeKeysWhileTyping.add(getKey(keys, keyIndex));
+        }
+        final int[] gridNeighborOffsets = readIntArray(buffer);
+        if (gridNeighborOffsets.length != params.GRID_WIDTH * params.GRID_HEIGHT + 1) {
+            throw new IllegalArgumentException("Invalid grid size: " + gridNeighborOffsets.length);
+        }
+        final int[] gridNeighborKeyIndices = readIntArray(buffer);
+
+        final TypedArray keyboardAttr = context.obtainStyledAttributes(null /* set */,
+                R.styleable.Keyboard, R.attr.keyboardStyle, R.style.Keyboard);
+        try {
+            params.mIconsSet.loadIcons(keyboardAttr);
+        } finally {
+            keyboardAttr.recycle();
+        }
+        return new Keyboard(params, gridNeighborOffsets, gridNeighborKeyIndices);
+    }
+
+    @Nonnull
+    private static Key getKey(@Nonnull final Key[] keys, final int keyIndex) {
+        if (keyIndex < 0 || keyIndex >= keys.length) {
+            throw new IllegalArgumentException("Invalid key index: " + keyIndex);
+        }
+        return keys[keyIndex];
+    }
+
+    // Returns the indices of the keys in the sorted keys, or null if one of them is not there.
+    @Nullable
+    private static int[] getKeyIndices(@Nonnull final List<Key> keys,
+            @Nonnull final List<Key> sortedKeys) {
+        final int[] indices = new int[keys.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = sortedKeys.indexOf(keys.get(i));
+            if (indices[i] < 0) {
+                return null;
+            }
+        }
+        return indices;
+    }
+
+    private static void writeIntArray(@Nonnull final DataOutputStream out,
+            @Nonnull final int[] array) throws IOException {
+        out.writeInt(array.length);
+        for (final int value : array) {
+            out.writeInt(value);
+        }
+    }
+
+    @Nonnull
+    private static int[] readIntArray(@Nonnull final ByteBuffer buffer) {
+        final int length = KeyboardSerializationUtils.readLength(buffer, 4 /* elementSize */);
+        if (length < 0) {
+            throw new IllegalArgumentException("Null array");
+        }
+        final int[] array = new int[length];
+        buffer.asIntBuffer().get(array);
+        buffer.position(buffer.position() + length * 4);
+        return array;
+    }
+
+    private static void writeFile(@Nonnull final File directory, @Nonnull final File file,
+            @Nonnull final byte[] data) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.e(TAG, "Could not create the keyboard cache directory " + directory);
+            return;
+        }
+        // Write to a temporary file first, so that a reader never maps a partial file.
+        final File tempFile = new File(directory, file.getName() + TEMP_FILE_EXTENSION);
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(tempFile);
+            out.write(data);
+        } catch (final IOException e) {
+            Log.e(TAG, "Could not write the keyboard cache file " + tempFile, e);
+            closeQuietly(out);
+            tempFile.delete();
+            return;
+        }
+        closeQuietly(out);
+        if (!tempFile.renameTo(file)) {
+            Log.e(TAG, "Could not rename " + tempFile + " to " + file);
+            tempFile.delete();
+        }
+    }
+
+    private static void evictOldFiles(@Nonnull final File directory) {
+        final File[] files = directory.listFiles();
+        if (files == null || files.length <= MAX_CACHE_FILE_COUNT) {
+            return;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File lhs, final File rhs) {
+                final long lhsTime = lhs.lastModified();
+                final long rhsTime = rhs.lastModified();
+                return lhsTime < rhsTime ? 1 : (lhsTime > rhsTime ? -1 : 0);
+            }
+        });
+        for (int i = MAX_CACHE_FILE_COUNT; i < files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    private static void closeQuietly(@Nullable final Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException e) {
+            // Nothing to do.
+        }
+    }
+}
@@ -30,6 +30,7 @@ import android.util.Xml;
 import android.view.inputmethod.EditorInfo;
 import android.view.inputmethod.InputMethodSubtype;
 
+import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.compat.EditorInfoCompatUtils;
 import com.android.inputmethod.compat.InputMethodSubtypeCompatUtils;
 import com.android.inputmethod.compat.UserManagerCompatUtils;
@@ -40,7 +41,9 @@ import com.android.inputmethod.latin.InputAttributes;
 import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.RichInputMethodSubtype;
 import com.android.inputmethod.latin.define.DebugFlags;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
 import com.android.inputmethod.latin.utils.InputTypeUtils;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 import com.android.inputmethod.latin.utils.ScriptUtils;
 import com.android.inputmethod.latin.utils.SubtypeLocaleUtils;
 import com.android.inputmethod.latin.utils.XmlParseUtils;
@@ -51,6 +54,11 @@ import org.xmlpull.v1.XmlPullParserException;
 import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -76,6 +84,17 @@ public final class KeyboardLayoutSet {
     @Nonnull
     private final Params mParams;
 
+    // The elements that the user can switch to from the keyboard that is shown first.
+    private static final int[] PREBUILT_ELEMENT_IDS = {
+        KeyboardId.ELEMENT_ALPHABET,
+        KeyboardId.ELEMENT_ALPHABET_MANUAL_SHIFTED,
+        KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED,
+        KeyboardId.ELEMENT_ALPHABET_SHIFT_LOCKED,
+        KeyboardId.ELEMENT_ALPHABET_SHIFT_LOCK_SHIFTED,
+        KeyboardId.ELEMENT_SYMBOLS,
+        KeyboardId.ELEMENT_SYMBOLS_SHIFTED
+    };
+
     // How many layouts we forcibly keep in cache. This only includes ALPHABET (default) and
     // ALPHABET_AUTOMATIC_SHIFTED layouts - other layouts may stay in memory in the map of
     // soft-references, but we forcibly cache this many alphabetic/auto-shifted layouts.
@@ -86,8 +105,17 @@ public final class KeyboardLayoutSet {
     private static final Keyboard[] sForcibleKeyboardCache = new Keyboard[FORCIBLE_CACHE_SIZE];
     private static final HashMap<KeyboardId, SoftReference<Keyboard>> sKeyboardCache =
             new HashMap<>();
+    // The keyboards being built in the background by {@link #prebuildKeyboards()}, for whichever
+    // layout set asks for them first. Like sKeyboardCache, only accessed on the thread that calls
+    // {@link #getKeyboard(int)}.
+    private static final HashMap<KeyboardId, Future<Keyboard>> sPrebuiltKeyboards =
+            new HashMap<>();
     @Nonnull
     private static final UniqueKeysCache sUniqueKeysCache = UniqueKeysCache.newInstance();
+    static {
+        // Whether a keyboard shares its keys is decided when it is built; see buildKeyboard().
+        sUniqueKeysCache.setEnabled(true);
+    }
     private final static HashMap<InputMethodSubtype, Integer> sScriptIdsForSubtypes =
             new HashMap<>();
 
@@ -130,6 +158,9 @@ public final class KeyboardLayoutSet {
         // Indicates if split layout is actually enabled, taking into account
         // whether the user has enabled it, and the keyboard layout supports it.
         boolean mIsSplitLayoutEnabled;
+        // The theme of the context, which the persistent keyboard cache requires. Null if unknown.
+        @Nullable
+        KeyboardTheme mKeyboardTheme;
         // Sparse array of KeyboardLayoutSet element parameters indexed by element's id.
         final SparseArray<ElementParams> mKeyboardLayoutSetElementIdToParamsMap =
                 new SparseArray<>();
@@ -146,6 +177,10 @@ public final class KeyboardLayoutSet {
     private static void clearKeyboardCache() {
         sKeyboardCache.clear();
         sUniqueKeysCache.clear();
+        for (final Future<Keyboard> prebuiltKeyboard : sPrebuiltKeyboards.values()) {
+            prebuiltKeyboard.cancel(false /* mayInterruptIfRunning */);
+        }
+        sPrebuiltKeyboards.clear();
     }
 
     public static int getScriptId(final Resources resources,
@@ -166,32 +201,110 @@ public final class KeyboardLayoutSet {
 
     @Nonnull
     public Keyboard getKeyboard(final int baseKeyboardLayoutSetElementId) {
-        final int keyboardLayoutSetElementId;
+        final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_KEYBOARD_SWITCH);
+        final int keyboardLayoutSetElementId =
+                getKeyboardLayoutSetElementId(baseKeyboardLayoutSetElementId);
+        final ElementParams elementParams = getElementParams(keyboardLayoutSetElementId);
+        final KeyboardId id = getKeyboardId(keyboardLayoutSetElementId, elementParams);
+        try {
+            final Keyboard keyboard = getKeyboard(elementParams, id);
+            LatencyTracer.end(LatencyTracer.STAGE_KEYBOARD_SWITCH, traceStartTime);
+            return keyboard;
+        } catch (final RuntimeException e) {
+            Log.e(TAG, "Can't create keyboard: " + id, e);
+            throw new KeyboardLayoutSetException(e, id);
+        }
+    }
+
+    /**
+     * Starts building the keyboards the user can switch to, such as the shifted and the symbols
+     * keyboards, on background threads, so that switching to them doesn't wait for their layouts
+     * to be parsed. This should be called once the first keyboard has been shown, on the thread
+     * that calls {@link #getKeyboard(int)}. The keyboards built since the previous call are moved
+     * to the keyboard cache, where any layout set can find them.
+     */
+    public void prebuildKeyboards() {
+        publishPrebuiltKeyboards();
+        for (final int baseKeyboardLayoutSetElementId : PREBUILT_ELEMENT_IDS) {
+            final int keyboardLayoutSetElementId =
+                    getKeyboardLayoutSetElementId(baseKeyboardLayoutSetElementId);
+            final ElementParams elementParams = getElementParams(keyboardLayoutSetElementId);
+            final KeyboardId id = getKeyboardId(keyboardLayoutSetElementId, elementParams);
+            if (sPrebuiltKeyboards.containsKey(id) || getCachedKeyboard(id) != null) {
+                continue;
+            }
+            final String diskCacheKey = getDiskCacheKey(elementParams, id);
+            sPrebuiltKeyboards.put(id, ExecutorUtils.getBackgroundExecutor(
+                    ExecutorUtils.KEYBOARD_LAYOUT).submit(new Callable<Keyboard>() {
+                        @Override
+                        public Keyboard call() {
+                            return buildKeyboard(elementParams, id, diskCacheKey);
+                        }
+                    }));
+        }
+    }
+
+    // Moves the keyboards that have been prebuilt to the keyboard cache. The ones that are still
+    // being built are kept until they are needed or until the next call.
+    private static void publishPrebuiltKeyboards() {
+        final Iterator<Map.Entry<KeyboardId, Future<Keyboard>>> iterator =
+                sPrebuiltKeyboards.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<KeyboardId, Future<Keyboard>> entry = iterator.next();
+            if (!entry.getValue().isDone()) {
+                continue;
+            }
+            iterator.remove();
+            final Keyboard keyboard = getPrebuiltKeyboard(entry.getKey(), entry.getValue());
+            if (keyboard != null && getCachedKeyboard(entry.getKey()) == null) {
+                sKeyboardCache.put(entry.getKey(), new SoftReference<>(keyboard));
+            }
+        }
+    }
+
+    @UsedForTesting
+    static int getPendingPrebuiltKeyboardCountForTests() {
+        return sPrebuiltKeyboards.size();
+    }
+
+    @UsedForTesting
+    static void waitForPrebuiltKeyboardsForTests() {
+        for (final Map.Entry<KeyboardId, Future<Keyboard>> entry : sPrebuiltKeyboards.entrySet()) {
+            getPrebuiltKeyboard(entry.getKey(), entry.getValue());
+        }
+        publishPrebuiltKeyboards();
+    }
+
+    private int getKeyboardLayoutSetElementId(final int baseKeyboardLayoutSetElementId) {
         switch (mParams.mMode) {
         case KeyboardId.MODE_PHONE:
             if (baseKeyboardLayoutSetElementId == KeyboardId.ELEMENT_SYMBOLS) {
-                keyboardLayoutSetElementId = KeyboardId.ELEMENT_PHONE_SYMBOLS;
-            } else {
-                keyboardLayoutSetElementId = KeyboardId.ELEMENT_PHONE;
+                return KeyboardId.ELEMENT_PHONE_SYMBOLS;
             }
-            break;
+            return KeyboardId.ELEMENT_PHONE;
         case KeyboardId.MODE_NUMBER:
         case KeyboardId.MODE_DATE:
         case KeyboardId.MODE_TIME:
         case KeyboardId.MODE_DATETIME:
-            keyboardLayoutSetElementId = KeyboardId.ELEMENT_NUMBER;
-            break;
+            return KeyboardId.ELEMENT_NUMBER;
         default:
-            keyboardLayoutSetElementId = baseKeyboardLayoutSetElementId;
-            break;
+            return baseKeyboardLayoutSetElementId;
         }
+    }
 
-        ElementParams elementParams = mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
+    private ElementParams getElementParams(final int keyboardLayoutSetElementId) {
+        final ElementParams elementParams = mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
                 keyboardLayoutSetElementId);
         if (elementParams == null) {
-            elementParams = mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
+            return mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
                     KeyboardId.ELEMENT_ALPHABET);
         }
+        return elementParams;
+    }
+
+    @Nonnull
+    private KeyboardId getKeyboardId(final int keyboardLayoutSetElementId,
+            final ElementParams elementParams) {
         // Note: The keyboard for each shift state, and mode are represented as an elementName
         // attribute in a keyboard_layout_set XML file.  Also each keyboard layout XML resource is
         // specified as an elementKeyboard attribute in the file.
@@ -199,13 +312,13 @@ public final class KeyboardLayoutSet {
 
         mParams.mIsSplitLayoutEnabled = mParams.mIsSplitLayoutEnabledByUser
                 && elementParams.mSupportsSplitLayout;
-        final KeyboardId id = new KeyboardId(keyboardLayoutSetElementId, mParams);
-        try {
-            return getKeyboard(elementParams, id);
-        } catch (final RuntimeException e) {
-            Log.e(TAG, "Can't create keyboard: " + id, e);
-            throw new KeyboardLayoutSetException(e, id);
-        }
+        return new KeyboardId(keyboardLayoutSetElementId, mParams);
+    }
+
+    @Nullable
+    private static Keyboard getCachedKeyboard(final KeyboardId id) {
+        final SoftReference<Keyboard> ref = sKeyboardCache.get(id);
+        return (ref == null) ? null : ref.get();
     }
 
     @Nonnull
@@ -219,17 +332,10 @@ public final class KeyboardLayoutSet {
             return cachedKeyboard;
         }
 
-        final KeyboardBuilder<KeyboardParams> builder =
-                new KeyboardBuilder<>(mContext, new KeyboardParams(sUniqueKeysCache));
-        sUniqueKeysCache.setEnabled(id.isAlphabetKeyboard());
-        builder.setAllowRedundantMoreKes(elementParams.mAllowRedundantMoreKeys);
-        final int keyboardXmlId = elementParams.mKeyboardXmlId;
-        builder.load(keyboardXmlId, id);
-        if (mParams.mDisableTouchPositionCorrectionDataForTest) {
-            builder.disableTouchPositionCorrectionDataForTest();
+        Keyboard keyboard = getPrebuiltKeyboard(id);
+        if (keyboard == null) {
+            keyboard = buildKeyboard(elementParams, id, getDiskCacheKey(elementParams, id));
         }
-        builder.setProximityCharsCorrectionEnabled(elementParams.mProximityCharsCorrectionEnabled);
-        final Keyboard keyboard = builder.build();
         sKeyboardCache.put(id, new SoftReference<>(keyboard));
         if ((id.mElementId == KeyboardId.ELEMENT_ALPHABET
                 || id.mElementId == KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED)
@@ -250,6 +356,79 @@ public final class KeyboardLayoutSet {
         return keyboard;
     }
 
+    // Returns the keyboard built by prebuildKeyboards(), waiting for it if it is still being
+    // built, or null if it has not been prebuilt or could not be.
+    @Nullable
+    private static Keyboard getPrebuiltKeyboard(final KeyboardId id) {
+        final Future<Keyboard> prebuiltKeyboard = sPrebuiltKeyboards.remove(id);
+        if (prebuiltKeyboard == null) {
+            return null;
+        }
+        return getPrebuiltKeyboard(id, prebuiltKeyboard);
+    }
+
+    @Nullable
+    private static Keyboard getPrebuiltKeyboard(final KeyboardId id,
+            final Future<Keyboard> prebuiltKeyboard) {
+        try {
+            return prebuiltKeyboard.get();
+        } catch (final ExecutionException e) {
+            // The keyboard is built again on this thread when it is needed, which reports the
+            // failure.
+            Log.w(TAG, "Could not prebuild keyboard: " + id, e.getCause());
+        } catch (final InterruptedException e) {
+            Log.w(TAG, "Interrupted while waiting for keyboard: " + id, e);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    // Builds a keyboard from the persistent cache or from its layout. This may be called on any
+    // thread, so it must not touch the in-memory keyboard cache.
+    @Nonnull
+    private Keyboard buildKeyboard(final ElementParams elementParams, final KeyboardId id,
+            @Nullable final String diskCacheKey) {
+        // Only the alphabet keyboards, which have mostly the same keys, share their keys.
+        final UniqueKeysCache uniqueKeysCache =
+                id.isAlphabetKeyboard() ? sUniqueKeysCache : UniqueKeysCache.NO_CACHE;
+        final long startTime = DEBUG_CACHE ? System.currentTimeMillis() : 0;
+        Keyboard keyboard = (diskCacheKey == null) ? null
+                : KeyboardDiskCache.load(mContext, diskCacheKey, id, uniqueKeysCache);
+        if (keyboard == null) {
+            final KeyboardParams params = new KeyboardParams(uniqueKeysCache);
+            final KeyboardBuilder<KeyboardParams> builder =
+                    new KeyboardBuilder<>(mContext, params);
+            builder.setAllowRedundantMoreKes(elementParams.mAllowRedundantMoreKeys);
+            builder.load(elementParams.mKeyboardXmlId, id);
+            if (mParams.mDisableTouchPositionCorrectionDataForTest) {
+                builder.disableTouchPositionCorrectionDataForTest();
+            }
+            builder.setProximityCharsCorrectionEnabled(
+                    elementParams.mProximityCharsCorrectionEnabled);
+            keyboard = builder.build();
+            if (diskCacheKey != null) {
+                KeyboardDiskCache.save(mContext, diskCacheKey, keyboard, params);
+            }
+        }
+        if (DEBUG_CACHE) {
+            Log.d(TAG, "built keyboard in " + (System.currentTimeMillis() - startTime) + "ms on "
+                    + Thread.currentThread().getName() + " id=" + id);
+        }
+        return keyboard;
+    }
+
+    // Returns null for the keyboards that are not worth or not safe to keep on disk.
+    @Nullable
+    private String getDiskCacheKey(final ElementParams elementParams, final KeyboardId id) {
+        if (mParams.mKeyboardTheme == null || mParams.mIsSpellChecker
+                || mParams.mDisableTouchPositionCorrectionDataForTest) {
+            return null;
+        }
+        return KeyboardDiskCache.getCacheKey(mContext, id, mParams.mKeyboardTheme.mThemeId,
+                elementParams.mKeyboardXmlId, elementParams.mProximityCharsCorrectionEnabled,
+                elementParams.mAllowRedundantMoreKeys);
+    }
+
     public int getScriptId() {
         return mParams.mScriptId;
     }
@@ -332,6 +511,15 @@ public final class KeyboardLayoutSet {
             return this;
         }
 
+        /**
+         * Sets the keyboard theme of the context of this builder. Keyboards are only kept in the
+         * persistent cache when it is known.
+         */
+        public Builder setKeyboardTheme(@Nonnull final KeyboardTheme keyboardTheme) {
+            mParams.mKeyboardTheme = keyboardTheme;
+            return this;
+        }
+
         public Builder setSplitLayoutEnabledByUser(final boolean enabled) {
             mParams.mIsSplitLayoutEnabledByUser = enabled;
             return this;
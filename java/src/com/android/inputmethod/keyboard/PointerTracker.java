@@ -39,6 +39,7 @@ import com.android.inputmethod.latin.common.CoordinateUtils;
 import com.android.inputmethod.latin.common.InputPointers;
 import com.android.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.settings.Settings;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 import com.android.inputmethod.latin.utils.ResourceUtils;
 
 import java.util.ArrayList;
@@ -575,6 +576,7 @@ public final class PointerTracker implements PointerTrackerQueue.Element,
     }
 
     public void processMotionEvent(final MotionEvent me, final KeyDetector keyDetector) {
+        final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_TOUCH_EVENT);
         final int action = me.getActionMasked();
         final long eventTime = me.getEventTime();
         if (action == MotionEvent.ACTION_MOVE) {
@@ -593,6 +595,7 @@ public final class PointerTracker implements PointerTrackerQueue.Element,
                 final PointerTracker tracker = getPointerTracker(id);
                 tracker.onMoveEvent(x, y, eventTime, me);
             }
+            LatencyTracer.end(LatencyTracer.STAGE_TOUCH_EVENT, traceStartTime);
             return;
         }
         final int index = me.getActionIndex();
@@ -611,6 +614,7 @@ public final class PointerTracker implements PointerTrackerQueue.Element,
             onCancelEvent(x, y, eventTime);
             break;
         }
+        LatencyTracer.end(LatencyTracer.STAGE_TOUCH_EVENT, traceStartTime);
     }
 
     private void onDownEvent(final int x, final int y, final long eventTime,
@@ -21,14 +21,14 @@ import android.util.Log;
 
 import com.android.inputmethod.keyboard.internal.TouchPositionCorrection;
 import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.ResizableIntArray;
 import com.android.inputmethod.latin.utils.JniUtils;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public class ProximityInfo {
     private static final String TAG = ProximityInfo.class.getSimpleName();
@@ -38,9 +38,8 @@ public class ProximityInfo {
     public static final int MAX_PROXIMITY_CHARS_SIZE = 16;
     /** Number of key widths from current touch point to search for nearest keys. */
     private static final float SEARCH_DISTANCE = 1.2f;
-    @Nonnull
-    private static final List<Key> EMPTY_KEY_LIST = Collections.emptyList();
     private static final float DEFAULT_TOUCH_POSITION_CORRECTION_RADIUS = 0.15f;
+    private static final int NOT_A_CELL_INDEX = -1;
 
     private final int mGridWidth;
     private final int mGridHeight;
@@ -54,14 +53,38 @@ public class ProximityInfo {
     private final int mMostCommonKeyHeight;
     @Nonnull
     private final List<Key> mSortedKeys;
-    @Nonnull
-    private final List<Key>[] mGridNeighbors;
+    // The neighbors of the cells of the grid in compressed sparse row format: the neighbors of
+    // cell i are the keys in mSortedKeys at the indices found in mGridNeighborKeyIndices from
+    // mGridNeighborOffsets[i] inclusive to mGridNeighborOffsets[i + 1] exclusive. Both are null
+    // if there is no grid.
+    @Nullable
+    private int[] mGridNeighborOffsets;
+    @Nullable
+    private int[] mGridNeighborKeyIndices;
 
-    @SuppressWarnings("unchecked")
     ProximityInfo(final int gridWidth, final int gridHeight, final int minWidth, final int height,
             final int mostCommonKeyWidth, final int mostCommonKeyHeight,
             @Nonnull final List<Key> sortedKeys,
             @Nonnull final TouchPositionCorrection touchPositionCorrection) {
+        this(gridWidth, gridHeight, minWidth, height, mostCommonKeyWidth, mostCommonKeyHeight,
+                sortedKeys, touchPositionCorrection, null /* gridNeighborOffsets */,
+                null /* gridNeighborKeyIndices */);
+    }
+
+    /**
+     * @param gridNeighborOffsets the offsets of the neighbors of each cell of the grid in
+     *        gridNeighborKeyIndices, as returned by {@link #getGridNeighborOffsets()}, or null to
+     *        compute the grid from the keys.
+     * @param gridNeighborKeyIndices the neighbors of the cells of the grid as indices in
+     *        sortedKeys, as returned by {@link #getGridNeighborKeyIndices()}, or null to compute
+     *        the grid from the keys.
+     */
+    ProximityInfo(final int gridWidth, final int gridHeight, final int minWidth, final int height,
+            final int mostCommonKeyWidth, final int mostCommonKeyHeight,
+            @Nonnull final List<Key> sortedKeys,
+            @Nonnull final TouchPositionCorrection touchPositionCorrection,
+            @Nullable final int[] gridNeighborOffsets,
+            @Nullable final int[] gridNeighborKeyIndices) {
         mGridWidth = gridWidth;
         mGridHeight = gridHeight;
         mGridSize = mGridWidth * mGridHeight;
@@ -72,12 +95,13 @@ public class ProximityInfo {
         mMostCommonKeyHeight = mostCommonKeyHeight;
         mMostCommonKeyWidth = mostCommonKeyWidth;
         mSortedKeys = sortedKeys;
-        mGridNeighbors = new List[mGridSize];
         if (minWidth == 0 || height == 0) {
             // No proximity required. Keyboard might be more keys keyboard.
             return;
         }
-        computeNearestNeighbors();
+        if (!setGridNeighbors(gridNeighborOffsets, gridNeighborKeyIndices)) {
+            computeNearestNeighbors();
+        }
         mNativeProximityInfo = createNativeProximityInfo(touchPositionCorrection);
     }
 
@@ -112,15 +136,14 @@ public class ProximityInfo {
 
     private long createNativeProximityInfo(
             @Nonnull final TouchPositionCorrection touchPositionCorrection) {
-        final List<Key>[] gridNeighborKeys = mGridNeighbors;
+        final int[] gridNeighborOffsets = mGridNeighborOffsets;
+        final int[] gridNeighborKeyIndices = mGridNeighborKeyIndices;
         final int[] proximityCharsArray = new int[mGridSize * MAX_PROXIMITY_CHARS_SIZE];
         Arrays.fill(proximityCharsArray, Constants.NOT_A_CODE);
         for (int i = 0; i < mGridSize; ++i) {
-            final List<Key> neighborKeys = gridNeighborKeys[i];
-            final int proximityCharsLength = neighborKeys.size();
             int infoIndex = i * MAX_PROXIMITY_CHARS_SIZE;
-            for (int j = 0; j < proximityCharsLength; ++j) {
-                final Key neighborKey = neighborKeys.get(j);
+            for (int j = gridNeighborOffsets[i]; j < gridNeighborOffsets[i + 1]; ++j) {
+                final Key neighborKey = mSortedKeys.get(gridNeighborKeyIndices[j]);
                 // Excluding from proximityCharsArray
                 if (!needsProximityInfo(neighborKey)) {
                     continue;
@@ -241,28 +264,68 @@ public class ProximityInfo {
         }
     }
 
+    private boolean setGridNeighbors(@Nullable final int[] gridNeighborOffsets,
+            @Nullable final int[] gridNeighborKeyIndices) {
+        if (gridNeighborOffsets == null || gridNeighborKeyIndices == null
+                || gridNeighborOffsets.length != mGridSize + 1 || gridNeighborOffsets[0] != 0
+                || gridNeighborOffsets[mGridSize] != gridNeighborKeyIndices.length) {
+            return false;
+        }
+        for (int i = 0; i < mGridSize; ++i) {
+            if (gridNeighborOffsets[i] > gridNeighborOffsets[i + 1]) {
+                return false;
+            }
+        }
+        final int keyCount = mSortedKeys.size();
+        for (final int keyIndex : gridNeighborKeyIndices) {
+            if (keyIndex < 0 || keyIndex >= keyCount) {
+                return false;
+            }
+        }
+        mGridNeighborOffsets = gridNeighborOffsets;
+        mGridNeighborKeyIndices = gridNeighborKeyIndices;
+        return true;
+    }
+
+    /**
+     * Returns the offsets of the neighbors of each cell of the grid in
+     * {@link #getGridNeighborKeyIndices()}, with an extra offset for the end of the last cell, or
+     * null if this proximity info has no grid. The returned array must not be modified.
+     */
+    @Nullable
+    int[] getGridNeighborOffsets() {
+        return mGridNeighborOffsets;
+    }
+
+    /**
+     * Returns the neighbors of the cells of the grid as indices in the sorted keys, or null if
+     * this proximity info has no grid. The returned array must not be modified.
+     */
+    @Nullable
+    int[] getGridNeighborKeyIndices() {
+        return mGridNeighborKeyIndices;
+    }
+
     private void computeNearestNeighbors() {
         final int defaultWidth = mMostCommonKeyWidth;
         final int keyCount = mSortedKeys.size();
-        final int gridSize = mGridNeighbors.length;
+        final int gridSize = mGridSize;
         final int threshold = (int) (defaultWidth * SEARCH_DISTANCE);
         final int thresholdSquared = threshold * threshold;
         // Round-up so we don't have any pixels outside the grid
         final int lastPixelXCoordinate = mGridWidth * mCellWidth - 1;
         final int lastPixelYCoordinate = mGridHeight * mCellHeight - 1;
 
-        // For large layouts, 'neighborsFlatBuffer' is about 80k of memory: gridSize is usually 512,
-        // keycount is about 40 and a pointer to a Key is 4 bytes. This contains, for each cell,
-        // enough space for as many keys as there are on the keyboard. Hence, every
-        // keycount'th element is the start of a new cell, and each of these virtual subarrays
-        // start empty with keycount spaces available. This fills up gradually in the loop below.
-        // Since in the practice each cell does not have a lot of neighbors, most of this space is
-        // actually just empty padding in this fixed-size buffer.
-        final Key[] neighborsFlatBuffer = new Key[gridSize * keyCount];
+        // The (cell, key) pairs of neighbors are collected in the order of the keys, and are then
+        // grouped by cell. Each cell has only a few neighbors, so this is much smaller than
+        // reserving room for all the keys in every cell.
+        final ResizableIntArray neighborCells = new ResizableIntArray(gridSize * 4);
+        final ResizableIntArray neighborKeyIndices = new ResizableIntArray(gridSize * 4);
         final int[] neighborCountPerCell = new int[gridSize];
         final int halfCellWidth = mCellWidth / 2;
         final int halfCellHeight = mCellHeight / 2;
-        for (final Key key : mSortedKeys) {
+        for (int keyIndex = 0; keyIndex < keyCount; ++keyIndex) {
+            final Key key = mSortedKeys.get(keyIndex);
             if (key.isSpacer()) continue;
 
 /* HOW WE PRE-SELECT THE CELLS (iterate over only the relevant cells, instead of all of them)
@@ -346,7 +409,8 @@ y |---+---+---+---+-v-+-|-+---+---+---+---+---|          | thresholdBase and get
                 int index = baseIndexOfCurrentRow;
                 for (int centerX = xStart; centerX <= xEnd; centerX += mCellWidth) {
                     if (key.squaredDistanceToEdge(centerX, centerY) < thresholdSquared) {
-                        neighborsFlatBuffer[index * keyCount + neighborCountPerCell[index]] = key;
+                        neighborCells.add(index);
+                        neighborKeyIndices.add(keyIndex);
                         ++neighborCountPerCell[index];
                     }
                     ++index;
@@ -355,15 +419,20 @@ y |---+---+---+---+-v-+-|-+---+---+---+---+---|          | thresholdBase and get
             }
         }
 
+        final int[] gridNeighborOffsets = new int[gridSize + 1];
         for (int i = 0; i < gridSize; ++i) {
-            final int indexStart = i * keyCount;
-            final int indexEnd = indexStart + neighborCountPerCell[i];
-            final ArrayList<Key> neighbors = new ArrayList<>(indexEnd - indexStart);
-            for (int index = indexStart; index < indexEnd; index++) {
-                neighbors.add(neighborsFlatBuffer[index]);
-            }
-            mGridNeighbors[i] = Collections.unmodifiableList(neighbors);
+            gridNeighborOffsets[i + 1] = gridNeighborOffsets[i] + neighborCountPerCell[i];
         }
+        // From here on, neighborCountPerCell holds the next position to fill in each cell.
+        System.arraycopy(gridNeighborOffsets, 0, neighborCountPerCell, 0, gridSize);
+        final int neighborCount = neighborCells.getLength();
+        final int[] gridNeighborKeyIndices = new int[neighborCount];
+        for (int i = 0; i < neighborCount; ++i) {
+            gridNeighborKeyIndices[neighborCountPerCell[neighborCells.get(i)]++] =
+                    neighborKeyIndices.get(i);
+        }
+        mGridNeighborOffsets = gridNeighborOffsets;
+        mGridNeighborKeyIndices = gridNeighborKeyIndices;
     }
 
     public void fillArrayWithNearestKeyCodes(final int x, final int y, final int primaryKeyCode,
@@ -376,30 +445,52 @@ y |---+---+---+---+-v-+-|-+---+---+---+---+---|          | thresholdBase and get
         if (primaryKeyCode > Constants.CODE_SPACE) {
             dest[index++] = primaryKeyCode;
         }
-        final List<Key> nearestKeys = getNearestKeys(x, y);
-        for (Key key : nearestKeys) {
-            if (index >= destLength) {
-                break;
-            }
-            final int code = key.getCode();
-            if (code <= Constants.CODE_SPACE) {
-                break;
+        final int cellIndex = getCellIndex(x, y);
+        if (cellIndex != NOT_A_CELL_INDEX) {
+            final int end = mGridNeighborOffsets[cellIndex + 1];
+            for (int i = mGridNeighborOffsets[cellIndex]; i < end; ++i) {
+                if (index >= destLength) {
+                    break;
+                }
+                final int code = mSortedKeys.get(mGridNeighborKeyIndices[i]).getCode();
+                if (code <= Constants.CODE_SPACE) {
+                    break;
+                }
+                dest[index++] = code;
             }
-            dest[index++] = code;
         }
         if (index < destLength) {
             dest[index] = Constants.NOT_A_CODE;
         }
     }
 
-    @Nonnull
-    public List<Key> getNearestKeys(final int x, final int y) {
+    /**
+     * Writes the indices in the sorted keys of the keys that are closest to the given point.
+     *
+     * @param dest the array to write the indices to. Indices that don't fit are left out.
+     * @return the number of indices written to dest, 0 if the point is out of the grid.
+     */
+    public int fillArrayWithNearestKeyIndices(final int x, final int y, final int[] dest) {
+        final int cellIndex = getCellIndex(x, y);
+        if (cellIndex == NOT_A_CELL_INDEX) {
+            return 0;
+        }
+        final int start = mGridNeighborOffsets[cellIndex];
+        final int count = Math.min(mGridNeighborOffsets[cellIndex + 1] - start, dest.length);
+        System.arraycopy(mGridNeighborKeyIndices, start, dest, 0, count);
+        return count;
+    }
+
+    private int getCellIndex(final int x, final int y) {
+        if (mGridNeighborOffsets == null) {
+            return NOT_A_CELL_INDEX;
+        }
         if (x >= 0 && x < mKeyboardMinWidth && y >= 0 && y < mKeyboardHeight) {
-            int index = (y / mCellHeight) * mGridWidth + (x / mCellWidth);
+            final int index = (y / mCellHeight) * mGridWidth + (x / mCellWidth);
             if (index < mGridSize) {
-                return mGridNeighbors[index];
+                return index;
             }
         }
-        return EMPTY_KEY_LIST;
+        return NOT_A_CELL_INDEX;
     }
 }
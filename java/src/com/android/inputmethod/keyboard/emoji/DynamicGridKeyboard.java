@@ -218,9 +218,13 @@ final class DynamicGridKeyboard extends Keyboard {
     }
 
     @Override
-    public List<Key> getNearestKeys(final int x, final int y) {
+    public int getNearestKeyIndices(final int x, final int y, final int[] outKeyIndices) {
         // TODO: Calculate the nearest key index in mGridKeys from x and y.
-        return getSortedKeys();
+        final int keyCount = Math.min(getSortedKeys().size(), outKeyIndices.length);
+        for (int i = 0; i < keyCount; i++) {
+            outKeyIndices[i] = i;
+        }
+        return keyCount;
     }
 
     static final class GridKey extends Key {
@@ -23,6 +23,10 @@ import android.util.SparseIntArray;
 import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.utils.ResourceUtils;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -79,6 +83,8 @@ public final class KeyVisualAttributes {
     private static final SparseIntArray sVisualAttributeIds = new SparseIntArray();
     private static final int ATTR_DEFINED = 1;
     private static final int ATTR_NOT_FOUND = 0;
+    // Written in place of the style of a null typeface.
+    private static final int NO_TYPEFACE = -1;
     static {
         for (final int attrId : VISUAL_ATTRIBUTE_IDS) {
             sVisualAttributeIds.put(attrId, ATTR_DEFINED);
@@ -145,4 +151,76 @@ public final class KeyVisualAttributes {
         mHintLabelOffCenterRatio = ResourceUtils.getFraction(keyAttr,
                 R.styleable.Keyboard_Key_keyHintLabelOffCenterRatio, 0.0f);
     }
+
+    private KeyVisualAttributes(@Nonnull final ByteBuffer buffer) {
+        final int typefaceStyle = buffer.getInt();
+        mTypeface = (typefaceStyle == NO_TYPEFACE) ? null
+                : Typeface.defaultFromStyle(typefaceStyle);
+
+        mLetterRatio = buffer.getFloat();
+        mLetterSize = buffer.getInt();
+        mLabelRatio = buffer.getFloat();
+        mLabelSize = buffer.getInt();
+        mLargeLetterRatio = buffer.getFloat();
+        mHintLetterRatio = buffer.getFloat();
+        mShiftedLetterHintRatio = buffer.getFloat();
+        mHintLabelRatio = buffer.getFloat();
+        mPreviewTextRatio = buffer.getFloat();
+
+        mTextColor = buffer.getInt();
+        mTextInactivatedColor = buffer.getInt();
+        mTextShadowColor = buffer.getInt();
+        mFunctionalTextColor = buffer.getInt();
+        mHintLetterColor = buffer.getInt();
+        mHintLabelColor = buffer.getInt();
+        mShiftedLetterHintInactivatedColor = buffer.getInt();
+        mShiftedLetterHintActivatedColor = buffer.getInt();
+        mPreviewTextColor = buffer.getInt();
+
+        mHintLabelVerticalAdjustment = buffer.getFloat();
+        mLabelOffCenterRatio = buffer.getFloat();
+        mHintLabelOffCenterRatio = buffer.getFloat();
+    }
+
+    /**
+     * Writes the given attributes so that {@link #readFrom(ByteBuffer)} can read them back.
+     * The attributes may be null.
+     */
+    public static void writeTo(@Nonnull final DataOutputStream out,
+            @Nullable final KeyVisualAttributes attrs) throws IOException {
+        out.writeBoolean(attrs != null);
+        if (attrs == null) {
+            return;
+        }
+        out.writeInt(attrs.mTypeface == null ? NO_TYPEFACE : attrs.mTypeface.getStyle());
+
+        out.writeFloat(attrs.mLetterRatio);
+        out.writeInt(attrs.mLetterSize);
+        out.writeFloat(attrs.mLabelRatio);
+        out.writeInt(attrs.mLabelSize);
+        out.writeFloat(attrs.mLargeLetterRatio);
+        out.writeFloat(attrs.mHintLetterRatio);
+        out.writeFloat(attrs.mShiftedLetterHintRatio);
+        out.writeFloat(attrs.mHintLabelRatio);
+        out.writeFloat(attrs.mPreviewTextRatio);
+
+        out.writeInt(attrs.mTextColor);
+        out.writeInt(attrs.mTextInactivatedColor);
+        out.writeInt(attrs.mTextShadowColor);
+        out.writeInt(attrs.mFunctionalTextColor);
+        out.writeInt(attrs.mHintLetterColor);
+        out.writeInt(attrs.mHintLabelColor);
+        out.writeInt(attrs.mShiftedLetterHintInactivatedColor);
+        out.writeInt(attrs.mShiftedLetterHintActivatedColor);
+        out.writeInt(attrs.mPreviewTextColor);
+
+        out.writeFloat(attrs.mHintLabelVerticalAdjustment);
+        out.writeFloat(attrs.mLabelOffCenterRatio);
+        out.writeFloat(attrs.mHintLabelOffCenterRatio);
+    }
+
+    @Nullable
+    public static KeyVisualAttributes readFrom(@Nonnull final ByteBuffer buffer) {
+        return (buffer.get() != 0) ? new KeyVisualAttributes(buffer) : null;
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.internal;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Helpers to write the parts of a keyboard to a stream and read them back from a buffer.
+ *
+ * Values are written by {@link DataOutputStream}, which is big endian like the default order of
+ * a {@link ByteBuffer}. Null strings and arrays are written as a length of -1. The readers check
+ * lengths against the remaining bytes, so that a truncated or corrupted file throws
+ * {@link BufferUnderflowException} instead of allocating a huge array.
+ */
+public final class KeyboardSerializationUtils {
+    private static final int NULL_LENGTH = -1;
+
+    private KeyboardSerializationUtils() {
+        // This utility class is not publicly instantiable.
+    }
+
+    public static void writeString(@Nonnull final DataOutputStream out,
+            @Nullable final String string) throws IOException {
+        if (string == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(string.length());
+        out.writeChars(string);
+    }
+
+    @Nullable
+    public static String readString(@Nonnull final ByteBuffer buffer) {
+        final int length = readLength(buffer, 2 /* elementSize */);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final char[] chars = new char[length];
+        buffer.asCharBuffer().get(chars);
+        buffer.position(buffer.position() + length * 2);
+        return new String(chars);
+    }
+
+    public static void writeFloatArray(@Nonnull final DataOutputStream out,
+            @Nullable final float[] array) throws IOException {
+        if (array == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(array.length);
+        for (final float value : array) {
+            out.writeFloat(value);
+        }
+    }
+
+    @Nullable
+    public static float[] readFloatArray(@Nonnull final ByteBuffer buffer) {
+        final int length = readLength(buffer, 4 /* elementSize */);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final float[] array = new float[length];
+        buffer.asFloatBuffer().get(array);
+        buffer.position(buffer.position() + length * 4);
+        return array;
+    }
+
+    /**
+     * Reads the length of a following array, which may be -1 for a null array.
+     *
+     * @param buffer the buffer to read from.
+     * @param elementSize the size in bytes of an element of the array.
+     * @return the length of the array.
+     * @throws BufferUnderflowException if the array would not fit in the remaining bytes.
+     */
+    public static int readLength(@Nonnull final ByteBuffer buffer, final int elementSize) {
+        final int length = buffer.getInt();
+        if (length < NULL_LENGTH || (long)length * elementSize > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+}
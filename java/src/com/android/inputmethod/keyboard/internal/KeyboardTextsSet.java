@@ -76,7 +76,9 @@ public final class KeyboardTextsSet {
         return size;
     }
 
-    // TODO: Resolve text reference when creating {@link KeyboardTextsTable} class.
+    // The "!text/" references between the texts of {@link KeyboardTextsTable} are resolved when
+    // it is generated, so that a reference to a text expands in one level here unless the text
+    // has "!string/" references.
     public String resolveTextReference(final String rawText) {
         if (TextUtils.isEmpty(rawText)) {
             return null;
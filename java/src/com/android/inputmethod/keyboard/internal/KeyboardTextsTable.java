@@ -43,17 +43,24 @@ import java.util.Locale;
 public final class KeyboardTextsTable {
     // Name to index map.
     private static final HashMap<String, Integer> sNameToIndexesMap = new HashMap<>();
-    // Locale to texts table map.
+    // Locale to texts table map. A texts table is unpacked when its locale is first used. Guarded
+    // by itself as keyboards may be built on several threads.
     private static final HashMap<String, String[]> sLocaleToTextsTableMap = new HashMap<>();
     // TODO: Remove this variable after debugging.
-    // Texts table to locale maps.
+    // Texts table to locale maps. Guarded by {@link #sLocaleToTextsTableMap}.
     private static final HashMap<String[], String> sTextsTableToLocaleMap = new HashMap<>();
 
+    // The texts of a locale are packed into a string of "<index>=<text>" entries, each of them
+    // followed by {@link #TEXT_TERMINATOR}. The "!text/" references in the texts are resolved
+    // by tools/make-keyboard-text. A name that has no entry has the default text.
+    private static final char INDEX_SEPARATOR = '=';
+    private static final char TEXT_TERMINATOR = '\u0000';
+
     public static String getText(final String name, final String[] textsTable) {
         final Integer indexObj = sNameToIndexesMap.get(name);
         if (indexObj == null) {
             throw new RuntimeException("Unknown text name=" + name + " locale="
-                    + sTextsTableToLocaleMap.get(textsTable));
+                    + getLocaleOfTextsTable(textsTable));
         }
         final int index = indexObj;
         final String text = (index < textsTable.length) ? textsTable[index] : null;
@@ -66,19 +73,56 @@ public final class KeyboardTextsTable {
         }
         // Throw exception for debugging purpose.
         throw new RuntimeException("Illegal index=" + index + " for name=" + name
-                + " locale=" + sTextsTableToLocaleMap.get(textsTable));
+                + " locale=" + getLocaleOfTextsTable(textsTable));
+    }
+
+    private static String getLocaleOfTextsTable(final String[] textsTable) {
+        synchronized (sLocaleToTextsTableMap) {
+            return sTextsTableToLocaleMap.get(textsTable);
+        }
     }
 
     public static String[] getTextsTable(final Locale locale) {
-        final String localeKey = locale.toString();
-        if (sLocaleToTextsTableMap.containsKey(localeKey)) {
-            return sLocaleToTextsTableMap.get(localeKey);
+        synchronized (sLocaleToTextsTableMap) {
+            final String[] textsTable = getTextsTableLocked(locale.toString());
+            if (textsTable != null) {
+                return textsTable;
+            }
+            final String[] languageTextsTable = getTextsTableLocked(locale.getLanguage());
+            if (languageTextsTable != null) {
+                return languageTextsTable;
+            }
+            return TEXTS_DEFAULT;
+        }
+    }
+
+    // Returns the texts table of the locale, or null if the locale has no texts of its own.
+    private static String[] getTextsTableLocked(final String localeKey) {
+        final String[] cachedTextsTable = sLocaleToTextsTableMap.get(localeKey);
+        if (cachedTextsTable != null) {
+            return cachedTextsTable;
+        }
+        final String packedTexts = getPackedTexts(localeKey);
+        if (packedTexts == null) {
+            return null;
         }
-        final String languageKey = locale.getLanguage();
-        if (sLocaleToTextsTableMap.containsKey(languageKey)) {
-            return sLocaleToTextsTableMap.get(languageKey);
+        final String[] textsTable = unpackTexts(packedTexts);
+        sLocaleToTextsTableMap.put(localeKey, textsTable);
+        sTextsTableToLocaleMap.put(textsTable, localeKey);
+        return textsTable;
+    }
+
+    private static String[] unpackTexts(final String packedTexts) {
+        final String[] textsTable = new String[NAMES.length];
+        int pos = 0;
+        while (pos < packedTexts.length()) {
+            final int separatorPos = packedTexts.indexOf(INDEX_SEPARATOR, pos);
+            final int terminatorPos = packedTexts.indexOf(TEXT_TERMINATOR, separatorPos);
+            final int index = Integer.parseInt(packedTexts.substring(pos, separatorPos));
+            textsTable[index] = packedTexts.substring(separatorPos + 1, terminatorPos);
+            pos = terminatorPos + 1;
         }
-        return TEXTS_DEFAULT;
+        return textsTable;
     }
 
     private static final String[] NAMES = {
@@ -261,3993 +305,3456 @@ public final class KeyboardTextsTable {
         /* 175: 0 */ "keyspec_emoji_action_key",
     };
 
-    private static final String EMPTY = "";
-
     /* Default texts */
-    private static final String[] TEXTS_DEFAULT = {
-        /* morekeys_a ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        /* keylabel_to_alpha */ "ABC",
-        /* morekeys_n */ EMPTY,
-        /* morekeys_c */ EMPTY,
-        /* double_quotes */ "!text/double_lqm_rqm",
-        /* morekeys_s */ EMPTY,
-        /* single_quotes */ "!text/single_lqm_rqm",
-        /* keyspec_currency */ "$",
-        /* morekeys_y ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_laqm_raqm",
-        /* double_angle_quotes */ "!text/double_laqm_raqm",
-        /* morekeys_r ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ morekeys_cyrillic_soft_sign */
-        /* keyspec_symbols_1 */ "1",
-        /* keyspec_symbols_2 */ "2",
-        /* keyspec_symbols_3 */ "3",
-        /* keyspec_symbols_4 */ "4",
-        /* keyspec_symbols_5 */ "5",
-        /* keyspec_symbols_6 */ "6",
-        /* keyspec_symbols_7 */ "7",
-        /* keyspec_symbols_8 */ "8",
-        /* keyspec_symbols_9 */ "9",
-        /* keyspec_symbols_0 */ "0",
-        // Label for "switch to symbols" key.
-        /* keylabel_to_symbol */ "?123",
-        /* additional_morekeys_symbols_1 ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ additional_morekeys_symbols_0 */
-        /* morekeys_tablet_period */ "!text/morekeys_tablet_punctuation",
-        /* morekeys_nordic_row2_11 */ EMPTY,
-        /* morekeys_punctuation */ "!autoColumnOrder!8,\\,,?,!,#,!text/keyspec_right_parenthesis,!text/keyspec_left_parenthesis,/,;,',@,:,-,\",+,\\%,&",
-        /* keyspec_tablet_comma */ ",",
-        // Period key
-        /* keyspec_period */ ".",
-        /* morekeys_period */ "!text/morekeys_punctuation",
-        /* keyspec_tablet_period */ ".",
-        /* keyspec_swiss_row1_11 ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ morekeys_swiss_row2_11 */
-        // U+2020: "†" DAGGER
-        // U+2021: "‡" DOUBLE DAGGER
-        // U+2605: "★" BLACK STAR
-        /* morekeys_star */ "\u2020,\u2021,\u2605",
-        // The all letters need to be mirrored are found at
-        // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
-        // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
-        // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
-        // U+2264: "≤" LESS-THAN OR EQUAL TO
-        // U+2265: "≥" GREATER-THAN EQUAL TO
-        // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
-        /* keyspec_left_parenthesis */ "(",
-        /* keyspec_right_parenthesis */ ")",
-        /* keyspec_left_square_bracket */ "[",
-        /* keyspec_right_square_bracket */ "]",
-        /* keyspec_left_curly_bracket */ "{",
-        /* keyspec_right_curly_bracket */ "}",
-        /* keyspec_less_than */ "<",
-        /* keyspec_greater_than */ ">",
-        /* keyspec_less_than_equal */ "\u2264",
-        /* keyspec_greater_than_equal */ "\u2265",
-        /* keyspec_left_double_angle_quote */ "\u00AB",
-        /* keyspec_right_double_angle_quote */ "\u00BB",
-        /* keyspec_left_single_angle_quote */ "\u2039",
-        /* keyspec_right_single_angle_quote */ "\u203A",
-        // Comma key
-        /* keyspec_comma */ ",",
-        /* morekeys_tablet_comma */ EMPTY,
-        /* keyhintlabel_period */ EMPTY,
-        // U+00BF: "¿" INVERTED QUESTION MARK
-        /* morekeys_question */ "\u00BF",
-        /* morekeys_h ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ keyspec_south_slavic_row3_8 */
-        /* morekeys_tablet_punctuation */ "!autoColumnOrder!7,\\,,',#,!text/keyspec_right_parenthesis,!text/keyspec_left_parenthesis,/,;,@,:,-,\",+,\\%,&",
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* keyspec_spanish_row2_10 */ "\u00F1",
-        // U+266A: "♪" EIGHTH NOTE
-        // U+2665: "♥" BLACK HEART SUIT
-        // U+2660: "♠" BLACK SPADE SUIT
-        // U+2666: "♦" BLACK DIAMOND SUIT
-        // U+2663: "♣" BLACK CLUB SUIT
-        /* morekeys_bullet */ "\u266A,\u2665,\u2660,\u2666,\u2663",
-        /* morekeys_left_parenthesis */ "!fixedColumnOrder!3,!text/keyspecs_left_parenthesis_more_keys",
-        /* morekeys_right_parenthesis */ "!fixedColumnOrder!3,!text/keyspecs_right_parenthesis_more_keys",
-        /* morekeys_arabic_diacritics ~ */
-        EMPTY, EMPTY, EMPTY,
-        /* ~ keyhintlabel_tablet_period */
-        /* keyspec_symbols_question */ "?",
-        /* keyspec_symbols_semicolon */ ";",
-        /* keyspec_symbols_percent */ "%",
-        /* morekeys_symbols_semicolon */ EMPTY,
-        // U+2030: "‰" PER MILLE SIGN
-        /* morekeys_symbols_percent */ "\u2030",
-        /* label_go_key */ "!string/label_go_key",
-        /* label_send_key */ "!string/label_send_key",
-        /* label_next_key */ "!string/label_next_key",
-        /* label_done_key */ "!string/label_done_key",
-        /* label_search_key */ "!string/label_search_key",
-        /* label_previous_key */ "!string/label_previous_key",
-        /* label_pause_key */ "!string/label_pause_key",
-        /* label_wait_key */ "!string/label_wait_key",
-        /* morekeys_v ~ */
-        EMPTY, EMPTY, EMPTY, EMPTY,
-        /* ~ morekeys_x */
-        /* keyspec_q */ "q",
-        /* keyspec_w */ "w",
-        /* keyspec_y */ "y",
-        /* keyspec_x */ "x",
-        /* morekeys_east_slavic_row2_11 ~ */
-        EMPTY, EMPTY, EMPTY,
-        /* ~ morekeys_cyrillic_a */
-        // U+00A2: "¢" CENT SIGN
-        // U+00A3: "£" POUND SIGN
-        // U+20AC: "€" EURO SIGN
-        // U+00A5: "¥" YEN SIGN
-        // U+20B1: "₱" PESO SIGN
-        /* morekeys_currency_dollar */ "\u00A2,\u00A3,\u20AC,\u00A5,\u20B1",
-        // U+00B1: "±" PLUS-MINUS SIGN
-        /* morekeys_plus */ "\u00B1",
-        /* morekeys_less_than */ "!fixedColumnOrder!3,!text/keyspec_left_single_angle_quote,!text/keyspec_less_than_equal,!text/keyspec_left_double_angle_quote",
-        /* morekeys_greater_than */ "!fixedColumnOrder!3,!text/keyspec_right_single_angle_quote,!text/keyspec_greater_than_equal,!text/keyspec_right_double_angle_quote",
-        // U+00A1: "¡" INVERTED EXCLAMATION MARK
-        /* morekeys_exclamation */ "\u00A1",
-        /* morekeys_currency_generic */ "$,\u00A2,\u20AC,\u00A3,\u00A5,\u20B1",
-        // U+00B9: "¹" SUPERSCRIPT ONE
-        // U+00BD: "½" VULGAR FRACTION ONE HALF
-        // U+2153: "⅓" VULGAR FRACTION ONE THIRD
-        // U+00BC: "¼" VULGAR FRACTION ONE QUARTER
-        // U+215B: "⅛" VULGAR FRACTION ONE EIGHTH
-        /* morekeys_symbols_1 */ "\u00B9,\u00BD,\u2153,\u00BC,\u215B",
-        // U+00B2: "²" SUPERSCRIPT TWO
-        // U+2154: "⅔" VULGAR FRACTION TWO THIRDS
-        /* morekeys_symbols_2 */ "\u00B2,\u2154",
-        // U+00B3: "³" SUPERSCRIPT THREE
-        // U+00BE: "¾" VULGAR FRACTION THREE QUARTERS
-        // U+215C: "⅜" VULGAR FRACTION THREE EIGHTHS
-        /* morekeys_symbols_3 */ "\u00B3,\u00BE,\u215C",
-        // U+2074: "⁴" SUPERSCRIPT FOUR
-        /* morekeys_symbols_4 */ "\u2074",
-        // U+215D: "⅝" VULGAR FRACTION FIVE EIGHTHS
-        /* morekeys_symbols_5 */ "\u215D",
-        /* morekeys_symbols_6 */ EMPTY,
-        // U+215E: "⅞" VULGAR FRACTION SEVEN EIGHTHS
-        /* morekeys_symbols_7 */ "\u215E",
-        /* morekeys_symbols_8 */ EMPTY,
-        /* morekeys_symbols_9 */ EMPTY,
-        // U+207F: "ⁿ" SUPERSCRIPT LATIN SMALL LETTER N
-        // U+2205: "∅" EMPTY SET
-        /* morekeys_symbols_0 */ "\u207F,\u2205",
-        /* morekeys_am_pm */ "!fixedColumnOrder!2,!hasLabels!,!text/keylabel_time_am,!text/keylabel_time_pm",
-        /* keyspec_settings */ "!icon/settings_key|!code/key_settings",
-        /* keyspec_shortcut */ "!icon/shortcut_key|!code/key_shortcut",
-        /* keyspec_action_next */ "!hasLabels!,!text/label_next_key|!code/key_action_next",
-        /* keyspec_action_previous */ "!hasLabels!,!text/label_previous_key|!code/key_action_previous",
-        // Label for "switch to more symbol" modifier key ("= \ <"). Must be short to fit on key!
-        /* keylabel_to_more_symbol */ "= \\\\ <",
-        // Label for "switch to more symbol" modifier key on tablets.  Must be short to fit on key!
-        /* keylabel_tablet_to_more_symbol */ "~ [ <",
-        // Label for "switch to phone numeric" key.  Must be short to fit on key!
-        /* keylabel_to_phone_numeric */ "123",
-        // Label for "switch to phone symbols" key.  Must be short to fit on key!
-        // U+FF0A: "＊" FULLWIDTH ASTERISK
-        // U+FF03: "＃" FULLWIDTH NUMBER SIGN
-        /* keylabel_to_phone_symbols */ "\uFF0A\uFF03",
-        // Key label for "ante meridiem"
-        /* keylabel_time_am */ "AM",
-        // Key label for "post meridiem"
-        /* keylabel_time_pm */ "PM",
-        /* keyspec_popular_domain */ ".com",
-        // popular web domains for the locale - most popular, displayed on the keyboard
-        /* morekeys_popular_domain */ "!hasLabels!,.net,.org,.gov,.edu",
-        /* keyspecs_left_parenthesis_more_keys */ "!text/keyspec_less_than,!text/keyspec_left_curly_bracket,!text/keyspec_left_square_bracket",
-        /* keyspecs_right_parenthesis_more_keys */ "!text/keyspec_greater_than,!text/keyspec_right_curly_bracket,!text/keyspec_right_square_bracket",
-        // The following characters don't need BIDI mirroring.
-        // U+2018: "‘" LEFT SINGLE QUOTATION MARK
-        // U+2019: "’" RIGHT SINGLE QUOTATION MARK
-        // U+201A: "‚" SINGLE LOW-9 QUOTATION MARK
-        // U+201C: "“" LEFT DOUBLE QUOTATION MARK
-        // U+201D: "”" RIGHT DOUBLE QUOTATION MARK
-        // U+201E: "„" DOUBLE LOW-9 QUOTATION MARK
-        // Abbreviations are:
-        // laqm: LEFT-POINTING ANGLE QUOTATION MARK
-        // raqm: RIGHT-POINTING ANGLE QUOTATION MARK
-        // lqm: LEFT QUOTATION MARK
-        // rqm: RIGHT QUOTATION MARK
-        // 9qm: LOW-9 QUOTATION MARK
-        // The following each quotation mark pair consist of
-        // <opening quotation mark>, <closing quotation mark>
-        // and is named after (single|double)_<opening quotation mark>_<closing quotation mark>.
-        /* single_laqm_raqm */ "!text/keyspec_left_single_angle_quote,!text/keyspec_right_single_angle_quote",
-        /* single_raqm_laqm */ "!text/keyspec_right_single_angle_quote,!text/keyspec_left_single_angle_quote",
-        /* double_laqm_raqm */ "!text/keyspec_left_double_angle_quote,!text/keyspec_right_double_angle_quote",
-        /* double_raqm_laqm */ "!text/keyspec_right_double_angle_quote,!text/keyspec_left_double_angle_quote",
-        // The following each quotation mark triplet consists of
-        // <another quotation mark>, <opening quotation mark>, <closing quotation mark>
-        // and is named after (single|double)_<opening quotation mark>_<closing quotation mark>.
-        /* single_lqm_rqm */ "\u201A,\u2018,\u2019",
-        /* single_9qm_lqm */ "\u2019,\u201A,\u2018",
-        /* single_9qm_rqm */ "\u2018,\u201A,\u2019",
-        /* single_rqm_9qm */ "\u2018,\u2019,\u201A",
-        /* double_lqm_rqm */ "\u201E,\u201C,\u201D",
-        /* double_9qm_lqm */ "\u201D,\u201E,\u201C",
-        /* double_9qm_rqm */ "\u201C,\u201E,\u201D",
-        /* double_rqm_9qm */ "\u201C,\u201D,\u201E",
-        /* morekeys_single_quote */ "!fixedColumnOrder!5,!text/single_quotes,!text/single_angle_quotes",
-        /* morekeys_double_quote */ "!fixedColumnOrder!5,!text/double_quotes,!text/double_angle_quotes",
-        /* morekeys_tablet_double_quote */ "!fixedColumnOrder!6,!text/double_quotes,!text/single_quotes,!text/double_angle_quotes,!text/single_angle_quotes",
-        /* keyspec_emoji_action_key */ "!icon/emoji_action_key|!code/key_emoji",
-    };
+    private static final String PACKED_TEXTS_DEFAULT =
+            /* morekeys_a */ "0=\u0000"
+            + /* morekeys_o */ "1=\u0000"
+            + /* morekeys_e */ "2=\u0000"
+            + /* morekeys_u */ "3=\u0000"
+            + /* morekeys_i */ "4=\u0000"
+            // Label for "switch to alphabetic" key.
+            + /* keylabel_to_alpha */ "5=ABC\u0000"
+            + /* morekeys_n */ "6=\u0000"
+            + /* morekeys_c */ "7=\u0000"
+            + /* double_quotes */ "8=\u201E,\u201C,\u201D\u0000"
+            + /* morekeys_s */ "9=\u0000"
+            + /* single_quotes */ "10=\u201A,\u2018,\u2019\u0000"
+            + /* keyspec_currency */ "11=$\u0000"
+            + /* morekeys_y */ "12=\u0000"
+            + /* morekeys_z */ "13=\u0000"
+            + /* morekeys_d */ "14=\u0000"
+            + /* morekeys_t */ "15=\u0000"
+            + /* morekeys_l */ "16=\u0000"
+            + /* morekeys_g */ "17=\u0000"
+            + /* single_angle_quotes */ "18=\u2039,\u203A\u0000"
+            + /* double_angle_quotes */ "19=\u00AB,\u00BB\u0000"
+            + /* morekeys_r */ "20=\u0000"
+            + /* morekeys_k */ "21=\u0000"
+            + /* morekeys_cyrillic_ie */ "22=\u0000"
+            + /* keyspec_nordic_row1_11 */ "23=\u0000"
+            + /* keyspec_nordic_row2_10 */ "24=\u0000"
+            + /* keyspec_nordic_row2_11 */ "25=\u0000"
+            + /* morekeys_nordic_row2_10 */ "26=\u0000"
+            + /* keyspec_east_slavic_row1_9 */ "27=\u0000"
+            + /* keyspec_east_slavic_row2_2 */ "28=\u0000"
+            + /* keyspec_east_slavic_row2_11 */ "29=\u0000"
+            + /* keyspec_east_slavic_row3_5 */ "30=\u0000"
+            + /* morekeys_cyrillic_soft_sign */ "31=\u0000"
+            + /* keyspec_symbols_1 */ "32=1\u0000"
+            + /* keyspec_symbols_2 */ "33=2\u0000"
+            + /* keyspec_symbols_3 */ "34=3\u0000"
+            + /* keyspec_symbols_4 */ "35=4\u0000"
+            + /* keyspec_symbols_5 */ "36=5\u0000"
+            + /* keyspec_symbols_6 */ "37=6\u0000"
+            + /* keyspec_symbols_7 */ "38=7\u0000"
+            + /* keyspec_symbols_8 */ "39=8\u0000"
+            + /* keyspec_symbols_9 */ "40=9\u0000"
+            + /* keyspec_symbols_0 */ "41=0\u0000"
+            // Label for "switch to symbols" key.
+            + /* keylabel_to_symbol */ "42=?123\u0000"
+            + /* additional_morekeys_symbols_1 */ "43=\u0000"
+            + /* additional_morekeys_symbols_2 */ "44=\u0000"
+            + /* additional_morekeys_symbols_3 */ "45=\u0000"
+            + /* additional_morekeys_symbols_4 */ "46=\u0000"
+            + /* additional_morekeys_symbols_5 */ "47=\u0000"
+            + /* additional_morekeys_symbols_6 */ "48=\u0000"
+            + /* additional_morekeys_symbols_7 */ "49=\u0000"
+            + /* additional_morekeys_symbols_8 */ "50=\u0000"
+            + /* additional_morekeys_symbols_9 */ "51=\u0000"
+            + /* additional_morekeys_symbols_0 */ "52=\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!7,\\,,',#,),(,/,;,@,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_nordic_row2_11 */ "54=\u0000"
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!8,\\,,?,!,#,),(,/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* keyspec_tablet_comma */ "56=,\u0000"
+            // Period key
+            + /* keyspec_period */ "57=.\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!8,\\,,?,!,#,),(,/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* keyspec_tablet_period */ "59=.\u0000"
+            + /* keyspec_swiss_row1_11 */ "60=\u0000"
+            + /* keyspec_swiss_row2_10 */ "61=\u0000"
+            + /* keyspec_swiss_row2_11 */ "62=\u0000"
+            + /* morekeys_swiss_row1_11 */ "63=\u0000"
+            + /* morekeys_swiss_row2_10 */ "64=\u0000"
+            + /* morekeys_swiss_row2_11 */ "65=\u0000"
+            // U+2020: "†" DAGGER
+            // U+2021: "‡" DOUBLE DAGGER
+            // U+2605: "★" BLACK STAR
+            + /* morekeys_star */ "66=\u2020,\u2021,\u2605\u0000"
+            // The all letters need to be mirrored are found at
+            // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
+            // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
+            // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
+            // U+2264: "≤" LESS-THAN OR EQUAL TO
+            // U+2265: "≥" GREATER-THAN EQUAL TO
+            // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
+            + /* keyspec_left_parenthesis */ "67=(\u0000"
+            + /* keyspec_right_parenthesis */ "68=)\u0000"
+            + /* keyspec_left_square_bracket */ "69=[\u0000"
+            + /* keyspec_right_square_bracket */ "70=]\u0000"
+            + /* keyspec_left_curly_bracket */ "71={\u0000"
+            + /* keyspec_right_curly_bracket */ "72=}\u0000"
+            + /* keyspec_less_than */ "73=<\u0000"
+            + /* keyspec_greater_than */ "74=>\u0000"
+            + /* keyspec_less_than_equal */ "75=\u2264\u0000"
+            + /* keyspec_greater_than_equal */ "76=\u2265\u0000"
+            + /* keyspec_left_double_angle_quote */ "77=\u00AB\u0000"
+            + /* keyspec_right_double_angle_quote */ "78=\u00BB\u0000"
+            + /* keyspec_left_single_angle_quote */ "79=\u2039\u0000"
+            + /* keyspec_right_single_angle_quote */ "80=\u203A\u0000"
+            // Comma key
+            + /* keyspec_comma */ "81=,\u0000"
+            + /* morekeys_tablet_comma */ "82=\u0000"
+            + /* keyhintlabel_period */ "83=\u0000"
+            // U+00BF: "¿" INVERTED QUESTION MARK
+            + /* morekeys_question */ "84=\u00BF\u0000"
+            + /* morekeys_h */ "85=\u0000"
+            + /* morekeys_w */ "86=\u0000"
+            + /* morekeys_east_slavic_row2_2 */ "87=\u0000"
+            + /* morekeys_cyrillic_u */ "88=\u0000"
+            + /* morekeys_cyrillic_en */ "89=\u0000"
+            + /* morekeys_cyrillic_ghe */ "90=\u0000"
+            + /* morekeys_cyrillic_o */ "91=\u0000"
+            + /* morekeys_cyrillic_i */ "92=\u0000"
+            + /* keyspec_south_slavic_row1_6 */ "93=\u0000"
+            + /* keyspec_south_slavic_row2_11 */ "94=\u0000"
+            + /* keyspec_south_slavic_row3_1 */ "95=\u0000"
+            + /* keyspec_south_slavic_row3_8 */ "96=\u0000"
+            + /* morekeys_tablet_punctuation */ "97=!autoColumnOrder!7,\\,,',#,),(,/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* keyspec_spanish_row2_10 */ "98=\u00F1\u0000"
+            // U+266A: "♪" EIGHTH NOTE
+            // U+2665: "♥" BLACK HEART SUIT
+            // U+2660: "♠" BLACK SPADE SUIT
+            // U+2666: "♦" BLACK DIAMOND SUIT
+            // U+2663: "♣" BLACK CLUB SUIT
+            + /* morekeys_bullet */ "99=\u266A,\u2665,\u2660,\u2666,\u2663\u0000"
+            + /* morekeys_left_parenthesis */ "100=!fixedColumnOrder!3,<,{,[\u0000"
+            + /* morekeys_right_parenthesis */ "101=!fixedColumnOrder!3,>,},]\u0000"
+            + /* morekeys_arabic_diacritics */ "102=\u0000"
+            + /* keyhintlabel_tablet_comma */ "103=\u0000"
+            + /* keyhintlabel_tablet_period */ "104=\u0000"
+            + /* keyspec_symbols_question */ "105=?\u0000"
+            + /* keyspec_symbols_semicolon */ "106=;\u0000"
+            + /* keyspec_symbols_percent */ "107=%\u0000"
+            + /* morekeys_symbols_semicolon */ "108=\u0000"
+            // U+2030: "‰" PER MILLE SIGN
+            + /* morekeys_symbols_percent */ "109=\u2030\u0000"
+            + /* label_go_key */ "110=!string/label_go_key\u0000"
+            + /* label_send_key */ "111=!string/label_send_key\u0000"
+            + /* label_next_key */ "112=!string/label_next_key\u0000"
+            + /* label_done_key */ "113=!string/label_done_key\u0000"
+            + /* label_search_key */ "114=!string/label_search_key\u0000"
+            + /* label_previous_key */ "115=!string/label_previous_key\u0000"
+            + /* label_pause_key */ "116=!string/label_pause_key\u0000"
+            + /* label_wait_key */ "117=!string/label_wait_key\u0000"
+            + /* morekeys_v */ "118=\u0000"
+            + /* morekeys_j */ "119=\u0000"
+            + /* morekeys_q */ "120=\u0000"
+            + /* morekeys_x */ "121=\u0000"
+            + /* keyspec_q */ "122=q\u0000"
+            + /* keyspec_w */ "123=w\u0000"
+            + /* keyspec_y */ "124=y\u0000"
+            + /* keyspec_x */ "125=x\u0000"
+            + /* morekeys_east_slavic_row2_11 */ "126=\u0000"
+            + /* morekeys_cyrillic_ka */ "127=\u0000"
+            + /* morekeys_cyrillic_a */ "128=\u0000"
+            // U+00A2: "¢" CENT SIGN
+            // U+00A3: "£" POUND SIGN
+            // U+20AC: "€" EURO SIGN
+            // U+00A5: "¥" YEN SIGN
+            // U+20B1: "₱" PESO SIGN
+            + /* morekeys_currency_dollar */ "129=\u00A2,\u00A3,\u20AC,\u00A5,\u20B1\u0000"
+            // U+00B1: "±" PLUS-MINUS SIGN
+            + /* morekeys_plus */ "130=\u00B1\u0000"
+            + /* morekeys_less_than */ "131=!fixedColumnOrder!3,\u2039,\u2264,\u00AB\u0000"
+            + /* morekeys_greater_than */ "132=!fixedColumnOrder!3,\u203A,\u2265,\u00BB\u0000"
+            // U+00A1: "¡" INVERTED EXCLAMATION MARK
+            + /* morekeys_exclamation */ "133=\u00A1\u0000"
+            + /* morekeys_currency_generic */ "134=$,\u00A2,\u20AC,\u00A3,\u00A5,\u20B1\u0000"
+            // U+00B9: "¹" SUPERSCRIPT ONE
+            // U+00BD: "½" VULGAR FRACTION ONE HALF
+            // U+2153: "⅓" VULGAR FRACTION ONE THIRD
+            // U+00BC: "¼" VULGAR FRACTION ONE QUARTER
+            // U+215B: "⅛" VULGAR FRACTION ONE EIGHTH
+            + /* morekeys_symbols_1 */ "135=\u00B9,\u00BD,\u2153,\u00BC,\u215B\u0000"
+            // U+00B2: "²" SUPERSCRIPT TWO
+            // U+2154: "⅔" VULGAR FRACTION TWO THIRDS
+            + /* morekeys_symbols_2 */ "136=\u00B2,\u2154\u0000"
+            // U+00B3: "³" SUPERSCRIPT THREE
+            // U+00BE: "¾" VULGAR FRACTION THREE QUARTERS
+            // U+215C: "⅜" VULGAR FRACTION THREE EIGHTHS
+            + /* morekeys_symbols_3 */ "137=\u00B3,\u00BE,\u215C\u0000"
+            // U+2074: "⁴" SUPERSCRIPT FOUR
+            + /* morekeys_symbols_4 */ "138=\u2074\u0000"
+            // U+215D: "⅝" VULGAR FRACTION FIVE EIGHTHS
+            + /* morekeys_symbols_5 */ "139=\u215D\u0000"
+            + /* morekeys_symbols_6 */ "140=\u0000"
+            // U+215E: "⅞" VULGAR FRACTION SEVEN EIGHTHS
+            + /* morekeys_symbols_7 */ "141=\u215E\u0000"
+            + /* morekeys_symbols_8 */ "142=\u0000"
+            + /* morekeys_symbols_9 */ "143=\u0000"
+            // U+207F: "ⁿ" SUPERSCRIPT LATIN SMALL LETTER N
+            // U+2205: "∅" EMPTY SET
+            + /* morekeys_symbols_0 */ "144=\u207F,\u2205\u0000"
+            + /* morekeys_am_pm */ "145=!fixedColumnOrder!2,!hasLabels!,AM,PM\u0000"
+            + /* keyspec_settings */ "146=!icon/settings_key|!code/key_settings\u0000"
+            + /* keyspec_shortcut */ "147=!icon/shortcut_key|!code/key_shortcut\u0000"
+            + /* keyspec_action_next */ "148=!hasLabels!,!string/label_next_key|!code/key_action_next\u0000"
+            + /* keyspec_action_previous */ "149=!hasLabels!,!string/label_previous_key|!code/key_action_previous\u0000"
+            // Label for "switch to more symbol" modifier key ("= \ <"). Must be short to fit on key!
+            + /* keylabel_to_more_symbol */ "150== \\\\ <\u0000"
+            // Label for "switch to more symbol" modifier key on tablets.  Must be short to fit on key!
+            + /* keylabel_tablet_to_more_symbol */ "151=~ [ <\u0000"
+            // Label for "switch to phone numeric" key.  Must be short to fit on key!
+            + /* keylabel_to_phone_numeric */ "152=123\u0000"
+            // Label for "switch to phone symbols" key.  Must be short to fit on key!
+            // U+FF0A: "＊" FULLWIDTH ASTERISK
+            // U+FF03: "＃" FULLWIDTH NUMBER SIGN
+            + /* keylabel_to_phone_symbols */ "153=\uFF0A\uFF03\u0000"
+            // Key label for "ante meridiem"
+            + /* keylabel_time_am */ "154=AM\u0000"
+            // Key label for "post meridiem"
+            + /* keylabel_time_pm */ "155=PM\u0000"
+            + /* keyspec_popular_domain */ "156=.com\u0000"
+            // popular web domains for the locale - most popular, displayed on the keyboard
+            + /* morekeys_popular_domain */ "157=!hasLabels!,.net,.org,.gov,.edu\u0000"
+            + /* keyspecs_left_parenthesis_more_keys */ "158=<,{,[\u0000"
+            + /* keyspecs_right_parenthesis_more_keys */ "159=>,},]\u0000"
+            // The following characters don't need BIDI mirroring.
+            // U+2018: "‘" LEFT SINGLE QUOTATION MARK
+            // U+2019: "’" RIGHT SINGLE QUOTATION MARK
+            // U+201A: "‚" SINGLE LOW-9 QUOTATION MARK
+            // U+201C: "“" LEFT DOUBLE QUOTATION MARK
+            // U+201D: "”" RIGHT DOUBLE QUOTATION MARK
+            // U+201E: "„" DOUBLE LOW-9 QUOTATION MARK
+            // Abbreviations are:
+            // laqm: LEFT-POINTING ANGLE QUOTATION MARK
+            // raqm: RIGHT-POINTING ANGLE QUOTATION MARK
+            // lqm: LEFT QUOTATION MARK
+            // rqm: RIGHT QUOTATION MARK
+            // 9qm: LOW-9 QUOTATION MARK
+            // The following each quotation mark pair consist of
+            // <opening quotation mark>, <closing quotation mark>
+            // and is named after (single|double)_<opening quotation mark>_<closing quotation mark>.
+            + /* single_laqm_raqm */ "160=\u2039,\u203A\u0000"
+            + /* single_raqm_laqm */ "161=\u203A,\u2039\u0000"
+            + /* double_laqm_raqm */ "162=\u00AB,\u00BB\u0000"
+            + /* double_raqm_laqm */ "163=\u00BB,\u00AB\u0000"
+            // The following each quotation mark triplet consists of
+            // <another quotation mark>, <opening quotation mark>, <closing quotation mark>
+            // and is named after (single|double)_<opening quotation mark>_<closing quotation mark>.
+            + /* single_lqm_rqm */ "164=\u201A,\u2018,\u2019\u0000"
+            + /* single_9qm_lqm */ "165=\u2019,\u201A,\u2018\u0000"
+            + /* single_9qm_rqm */ "166=\u2018,\u201A,\u2019\u0000"
+            + /* single_rqm_9qm */ "167=\u2018,\u2019,\u201A\u0000"
+            + /* double_lqm_rqm */ "168=\u201E,\u201C,\u201D\u0000"
+            + /* double_9qm_lqm */ "169=\u201D,\u201E,\u201C\u0000"
+            + /* double_9qm_rqm */ "170=\u201C,\u201E,\u201D\u0000"
+            + /* double_rqm_9qm */ "171=\u201C,\u201D,\u201E\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u201A,\u2018,\u2019,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201E,\u201C,\u201D,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201E,\u201C,\u201D,\u201A,\u2018,\u2019,\u00AB,\u00BB,\u2039,\u203A\u0000"
+            + /* keyspec_emoji_action_key */ "175=!icon/emoji_action_key|!code/key_emoji\u0000";
+
+    private static final String[] TEXTS_DEFAULT = unpackTexts(PACKED_TEXTS_DEFAULT);
 
     /* Locale af: Afrikaans */
-    private static final String[] TEXTS_af = {
-        // This is the same as Dutch except more keys of y and demoting vowels with diaeresis.
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E1,\u00E2,\u00E4,\u00E0,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F3,\u00F4,\u00F6,\u00F2,\u00F5,\u0153,\u00F8,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FB,\u00FC,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_i */ "\u00ED,\u00EC,\u00EF,\u00EE,\u012F,\u012B,\u0133",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        /* morekeys_c ~ */
-        null, null, null, null, null,
-        /* ~ keyspec_currency */
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_y */ "\u00FD,\u0133",
-    };
+    private static final String TEXTS_af =
+            // This is the same as Dutch except more keys of y and demoting vowels with diaeresis.
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E1,\u00E2,\u00E4,\u00E0,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F3,\u00F4,\u00F6,\u00F2,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FB,\u00FC,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_i */ "4=\u00ED,\u00EC,\u00EF,\u00EE,\u012F,\u012B,\u0133\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_y */ "12=\u00FD,\u0133\u0000";
 
     /* Locale ar: Arabic */
-    private static final String[] TEXTS_ar = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0623: "أ" ARABIC LETTER ALEF WITH HAMZA ABOVE
-        // U+200C: ZERO WIDTH NON-JOINER
-        // U+0628: "ب" ARABIC LETTER BEH
-        // U+062C: "ج" ARABIC LETTER JEEM
-        /* keylabel_to_alpha */ "\u0623\u200C\u0628\u200C\u062C",
-        /* morekeys_n ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_cyrillic_soft_sign */
-        // U+0661: "١" ARABIC-INDIC DIGIT ONE
-        /* keyspec_symbols_1 */ "\u0661",
-        // U+0662: "٢" ARABIC-INDIC DIGIT TWO
-        /* keyspec_symbols_2 */ "\u0662",
-        // U+0663: "٣" ARABIC-INDIC DIGIT THREE
-        /* keyspec_symbols_3 */ "\u0663",
-        // U+0664: "٤" ARABIC-INDIC DIGIT FOUR
-        /* keyspec_symbols_4 */ "\u0664",
-        // U+0665: "٥" ARABIC-INDIC DIGIT FIVE
-        /* keyspec_symbols_5 */ "\u0665",
-        // U+0666: "٦" ARABIC-INDIC DIGIT SIX
-        /* keyspec_symbols_6 */ "\u0666",
-        // U+0667: "٧" ARABIC-INDIC DIGIT SEVEN
-        /* keyspec_symbols_7 */ "\u0667",
-        // U+0668: "٨" ARABIC-INDIC DIGIT EIGHT
-        /* keyspec_symbols_8 */ "\u0668",
-        // U+0669: "٩" ARABIC-INDIC DIGIT NINE
-        /* keyspec_symbols_9 */ "\u0669",
-        // U+0660: "٠" ARABIC-INDIC DIGIT ZERO
-        /* keyspec_symbols_0 */ "\u0660",
-        // Label for "switch to symbols" key.
-        // U+061F: "؟" ARABIC QUESTION MARK
-        /* keylabel_to_symbol */ "\u0663\u0662\u0661\u061F",
-        /* additional_morekeys_symbols_1 */ "1",
-        /* additional_morekeys_symbols_2 */ "2",
-        /* additional_morekeys_symbols_3 */ "3",
-        /* additional_morekeys_symbols_4 */ "4",
-        /* additional_morekeys_symbols_5 */ "5",
-        /* additional_morekeys_symbols_6 */ "6",
-        /* additional_morekeys_symbols_7 */ "7",
-        /* additional_morekeys_symbols_8 */ "8",
-        /* additional_morekeys_symbols_9 */ "9",
-        // U+066B: "٫" ARABIC DECIMAL SEPARATOR
-        // U+066C: "٬" ARABIC THOUSANDS SEPARATOR
-        /* additional_morekeys_symbols_0 */ "0,\u066B,\u066C",
-        /* morekeys_tablet_period */ "!text/morekeys_arabic_diacritics",
-        /* morekeys_nordic_row2_11 */ null,
-        /* morekeys_punctuation */ null,
-        // U+061F: "؟" ARABIC QUESTION MARK
-        // U+060C: "،" ARABIC COMMA
-        // U+061B: "؛" ARABIC SEMICOLON
-        /* keyspec_tablet_comma */ "\u060C",
-        /* keyspec_period */ null,
-        /* morekeys_period */ "!text/morekeys_arabic_diacritics",
-        /* keyspec_tablet_period ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_swiss_row2_11 */
-        // U+2605: "★" BLACK STAR
-        // U+066D: "٭" ARABIC FIVE POINTED STAR
-        /* morekeys_star */ "\u2605,\u066D",
-        // U+2264: "≤" LESS-THAN OR EQUAL TO
-        // U+2265: "≥" GREATER-THAN EQUAL TO
-        // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
-        // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
-        /* keyspec_left_parenthesis */ "(|)",
-        /* keyspec_right_parenthesis */ ")|(",
-        /* keyspec_left_square_bracket */ "[|]",
-        /* keyspec_right_square_bracket */ "]|[",
-        /* keyspec_left_curly_bracket */ "{|}",
-        /* keyspec_right_curly_bracket */ "}|{",
-        /* keyspec_less_than */ "<|>",
-        /* keyspec_greater_than */ ">|<",
-        /* keyspec_less_than_equal */ "\u2264|\u2265",
-        /* keyspec_greater_than_equal */ "\u2265|\u2264",
-        /* keyspec_left_double_angle_quote */ "\u00AB|\u00BB",
-        /* keyspec_right_double_angle_quote */ "\u00BB|\u00AB",
-        /* keyspec_left_single_angle_quote */ "\u2039|\u203A",
-        /* keyspec_right_single_angle_quote */ "\u203A|\u2039",
-        // U+060C: "،" ARABIC COMMA
-        /* keyspec_comma */ "\u060C",
-        /* morekeys_tablet_comma */ "!fixedColumnOrder!4,:,!,\u061F,\u061B,-,\",\'",
-        // U+0651: "ّ" ARABIC SHADDA
-        /* keyhintlabel_period */ "\u0651",
-        // U+00BF: "¿" INVERTED QUESTION MARK
-        /* morekeys_question */ "?,\u00BF",
-        /* morekeys_h ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ keyspec_spanish_row2_10 */
-        // U+266A: "♪" EIGHTH NOTE
-        /* morekeys_bullet */ "\u266A",
-        // The all letters need to be mirrored are found at
-        // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
-        // U+FD3E: "﴾" ORNATE LEFT PARENTHESIS
-        // U+FD3F: "﴿" ORNATE RIGHT PARENTHESIS
-        /* morekeys_left_parenthesis */ "!fixedColumnOrder!4,\uFD3E|\uFD3F,!text/keyspecs_left_parenthesis_more_keys",
-        /* morekeys_right_parenthesis */ "!fixedColumnOrder!4,\uFD3F|\uFD3E,!text/keyspecs_right_parenthesis_more_keys",
-        // U+0655: "ٕ" ARABIC HAMZA BELOW
-        // U+0654: "ٔ" ARABIC HAMZA ABOVE
-        // U+0652: "ْ" ARABIC SUKUN
-        // U+064D: "ٍ" ARABIC KASRATAN
-        // U+064C: "ٌ" ARABIC DAMMATAN
-        // U+064B: "ً" ARABIC FATHATAN
-        // U+0651: "ّ" ARABIC SHADDA
-        // U+0656: "ٖ" ARABIC SUBSCRIPT ALEF
-        // U+0670: "ٰ" ARABIC LETTER SUPERSCRIPT ALEF
-        // U+0653: "ٓ" ARABIC MADDAH ABOVE
-        // U+0650: "ِ" ARABIC KASRA
-        // U+064F: "ُ" ARABIC DAMMA
-        // U+064E: "َ" ARABIC FATHA
-        // U+0640: "ـ" ARABIC TATWEEL
-        // In order to make Tatweel easily distinguishable from other punctuations, we use consecutive Tatweels only for its displayed label.
-        // Note: The space character is needed as a preceding letter to draw Arabic diacritics characters correctly.
-        /* morekeys_arabic_diacritics */ "!fixedColumnOrder!7, \u0655|\u0655, \u0654|\u0654, \u0652|\u0652, \u064D|\u064D, \u064C|\u064C, \u064B|\u064B, \u0651|\u0651, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u0650|\u0650, \u064F|\u064F, \u064E|\u064E,\u0640\u0640\u0640|\u0640",
-        /* keyhintlabel_tablet_comma */ "\u061F",
-        /* keyhintlabel_tablet_period */ "\u0651",
-        /* keyspec_symbols_question */ "\u061F",
-        /* keyspec_symbols_semicolon */ "\u061B",
-        // U+066A: "٪" ARABIC PERCENT SIGN
-        /* keyspec_symbols_percent */ "\u066A",
-        /* morekeys_symbols_semicolon */ ";",
-        // U+2030: "‰" PER MILLE SIGN
-        /* morekeys_symbols_percent */ "\\%,\u2030",
-    };
+    private static final String TEXTS_ar =
+            // Label for "switch to alphabetic" key.
+            // U+0623: "أ" ARABIC LETTER ALEF WITH HAMZA ABOVE
+            // U+200C: ZERO WIDTH NON-JOINER
+            // U+0628: "ب" ARABIC LETTER BEH
+            // U+062C: "ج" ARABIC LETTER JEEM
+            /* keylabel_to_alpha */ "5=\u0623\u200C\u0628\u200C\u062C\u0000"
+            + /* single_angle_quotes */ "18=\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            // U+0661: "١" ARABIC-INDIC DIGIT ONE
+            + /* keyspec_symbols_1 */ "32=\u0661\u0000"
+            // U+0662: "٢" ARABIC-INDIC DIGIT TWO
+            + /* keyspec_symbols_2 */ "33=\u0662\u0000"
+            // U+0663: "٣" ARABIC-INDIC DIGIT THREE
+            + /* keyspec_symbols_3 */ "34=\u0663\u0000"
+            // U+0664: "٤" ARABIC-INDIC DIGIT FOUR
+            + /* keyspec_symbols_4 */ "35=\u0664\u0000"
+            // U+0665: "٥" ARABIC-INDIC DIGIT FIVE
+            + /* keyspec_symbols_5 */ "36=\u0665\u0000"
+            // U+0666: "٦" ARABIC-INDIC DIGIT SIX
+            + /* keyspec_symbols_6 */ "37=\u0666\u0000"
+            // U+0667: "٧" ARABIC-INDIC DIGIT SEVEN
+            + /* keyspec_symbols_7 */ "38=\u0667\u0000"
+            // U+0668: "٨" ARABIC-INDIC DIGIT EIGHT
+            + /* keyspec_symbols_8 */ "39=\u0668\u0000"
+            // U+0669: "٩" ARABIC-INDIC DIGIT NINE
+            + /* keyspec_symbols_9 */ "40=\u0669\u0000"
+            // U+0660: "٠" ARABIC-INDIC DIGIT ZERO
+            + /* keyspec_symbols_0 */ "41=\u0660\u0000"
+            // Label for "switch to symbols" key.
+            // U+061F: "؟" ARABIC QUESTION MARK
+            + /* keylabel_to_symbol */ "42=\u0663\u0662\u0661\u061F\u0000"
+            + /* additional_morekeys_symbols_1 */ "43=1\u0000"
+            + /* additional_morekeys_symbols_2 */ "44=2\u0000"
+            + /* additional_morekeys_symbols_3 */ "45=3\u0000"
+            + /* additional_morekeys_symbols_4 */ "46=4\u0000"
+            + /* additional_morekeys_symbols_5 */ "47=5\u0000"
+            + /* additional_morekeys_symbols_6 */ "48=6\u0000"
+            + /* additional_morekeys_symbols_7 */ "49=7\u0000"
+            + /* additional_morekeys_symbols_8 */ "50=8\u0000"
+            + /* additional_morekeys_symbols_9 */ "51=9\u0000"
+            // U+066B: "٫" ARABIC DECIMAL SEPARATOR
+            // U+066C: "٬" ARABIC THOUSANDS SEPARATOR
+            + /* additional_morekeys_symbols_0 */ "52=0,\u066B,\u066C\u0000"
+            + /* morekeys_tablet_period */ "53=!fixedColumnOrder!7, \u0655|\u0655, \u0654|\u0654, \u0652|\u0652, \u064D|\u064D, \u064C|\u064C, \u064B|\u064B, \u0651|\u0651, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u0650|\u0650, \u064F|\u064F, \u064E|\u064E,\u0640\u0640\u0640|\u0640\u0000"
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!8,\\,,?,!,#,)|(,(|),/,;,',@,:,-,\",+,\\%,&\u0000"
+            // U+061F: "؟" ARABIC QUESTION MARK
+            // U+060C: "،" ARABIC COMMA
+            // U+061B: "؛" ARABIC SEMICOLON
+            + /* keyspec_tablet_comma */ "56=\u060C\u0000"
+            + /* morekeys_period */ "58=!fixedColumnOrder!7, \u0655|\u0655, \u0654|\u0654, \u0652|\u0652, \u064D|\u064D, \u064C|\u064C, \u064B|\u064B, \u0651|\u0651, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u0650|\u0650, \u064F|\u064F, \u064E|\u064E,\u0640\u0640\u0640|\u0640\u0000"
+            // U+2605: "★" BLACK STAR
+            // U+066D: "٭" ARABIC FIVE POINTED STAR
+            + /* morekeys_star */ "66=\u2605,\u066D\u0000"
+            // U+2264: "≤" LESS-THAN OR EQUAL TO
+            // U+2265: "≥" GREATER-THAN EQUAL TO
+            // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
+            // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
+            + /* keyspec_left_parenthesis */ "67=(|)\u0000"
+            + /* keyspec_right_parenthesis */ "68=)|(\u0000"
+            + /* keyspec_left_square_bracket */ "69=[|]\u0000"
+            + /* keyspec_right_square_bracket */ "70=]|[\u0000"
+            + /* keyspec_left_curly_bracket */ "71={|}\u0000"
+            + /* keyspec_right_curly_bracket */ "72=}|{\u0000"
+            + /* keyspec_less_than */ "73=<|>\u0000"
+            + /* keyspec_greater_than */ "74=>|<\u0000"
+            + /* keyspec_less_than_equal */ "75=\u2264|\u2265\u0000"
+            + /* keyspec_greater_than_equal */ "76=\u2265|\u2264\u0000"
+            + /* keyspec_left_double_angle_quote */ "77=\u00AB|\u00BB\u0000"
+            + /* keyspec_right_double_angle_quote */ "78=\u00BB|\u00AB\u0000"
+            + /* keyspec_left_single_angle_quote */ "79=\u2039|\u203A\u0000"
+            + /* keyspec_right_single_angle_quote */ "80=\u203A|\u2039\u0000"
+            // U+060C: "،" ARABIC COMMA
+            + /* keyspec_comma */ "81=\u060C\u0000"
+            + /* morekeys_tablet_comma */ "82=!fixedColumnOrder!4,:,!,\u061F,\u061B,-,\",'\u0000"
+            // U+0651: "ّ" ARABIC SHADDA
+            + /* keyhintlabel_period */ "83=\u0651\u0000"
+            // U+00BF: "¿" INVERTED QUESTION MARK
+            + /* morekeys_question */ "84=?,\u00BF\u0000"
+            + /* morekeys_tablet_punctuation */ "97=!autoColumnOrder!7,\\,,',#,)|(,(|),/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+266A: "♪" EIGHTH NOTE
+            + /* morekeys_bullet */ "99=\u266A\u0000"
+            // The all letters need to be mirrored are found at
+            // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
+            // U+FD3E: "﴾" ORNATE LEFT PARENTHESIS
+            // U+FD3F: "﴿" ORNATE RIGHT PARENTHESIS
+            + /* morekeys_left_parenthesis */ "100=!fixedColumnOrder!4,\uFD3E|\uFD3F,<|>,{|},[|]\u0000"
+            + /* morekeys_right_parenthesis */ "101=!fixedColumnOrder!4,\uFD3F|\uFD3E,>|<,}|{,]|[\u0000"
+            // U+0655: "ٕ" ARABIC HAMZA BELOW
+            // U+0654: "ٔ" ARABIC HAMZA ABOVE
+            // U+0652: "ْ" ARABIC SUKUN
+            // U+064D: "ٍ" ARABIC KASRATAN
+            // U+064C: "ٌ" ARABIC DAMMATAN
+            // U+064B: "ً" ARABIC FATHATAN
+            // U+0651: "ّ" ARABIC SHADDA
+            // U+0656: "ٖ" ARABIC SUBSCRIPT ALEF
+            // U+0670: "ٰ" ARABIC LETTER SUPERSCRIPT ALEF
+            // U+0653: "ٓ" ARABIC MADDAH ABOVE
+            // U+0650: "ِ" ARABIC KASRA
+            // U+064F: "ُ" ARABIC DAMMA
+            // U+064E: "َ" ARABIC FATHA
+            // U+0640: "ـ" ARABIC TATWEEL
+            // In order to make Tatweel easily distinguishable from other punctuations, we use consecutive Tatweels only for its displayed label.
+            // Note: The space character is needed as a preceding letter to draw Arabic diacritics characters correctly.
+            + /* morekeys_arabic_diacritics */ "102=!fixedColumnOrder!7, \u0655|\u0655, \u0654|\u0654, \u0652|\u0652, \u064D|\u064D, \u064C|\u064C, \u064B|\u064B, \u0651|\u0651, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u0650|\u0650, \u064F|\u064F, \u064E|\u064E,\u0640\u0640\u0640|\u0640\u0000"
+            + /* keyhintlabel_tablet_comma */ "103=\u061F\u0000"
+            + /* keyhintlabel_tablet_period */ "104=\u0651\u0000"
+            + /* keyspec_symbols_question */ "105=\u061F\u0000"
+            + /* keyspec_symbols_semicolon */ "106=\u061B\u0000"
+            // U+066A: "٪" ARABIC PERCENT SIGN
+            + /* keyspec_symbols_percent */ "107=\u066A\u0000"
+            + /* morekeys_symbols_semicolon */ "108=;\u0000"
+            // U+2030: "‰" PER MILLE SIGN
+            + /* morekeys_symbols_percent */ "109=\\%,\u2030\u0000"
+            + /* morekeys_less_than */ "131=!fixedColumnOrder!3,\u2039|\u203A,\u2264|\u2265,\u00AB|\u00BB\u0000"
+            + /* morekeys_greater_than */ "132=!fixedColumnOrder!3,\u203A|\u2039,\u2265|\u2264,\u00BB|\u00AB\u0000"
+            + /* keyspecs_left_parenthesis_more_keys */ "158=<|>,{|},[|]\u0000"
+            + /* keyspecs_right_parenthesis_more_keys */ "159=>|<,}|{,]|[\u0000"
+            + /* single_laqm_raqm */ "160=\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* single_raqm_laqm */ "161=\u203A|\u2039,\u2039|\u203A\u0000"
+            + /* double_laqm_raqm */ "162=\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* double_raqm_laqm */ "163=\u00BB|\u00AB,\u00AB|\u00BB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u201A,\u2018,\u2019,\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201E,\u201C,\u201D,\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201E,\u201C,\u201D,\u201A,\u2018,\u2019,\u00AB|\u00BB,\u00BB|\u00AB,\u2039|\u203A,\u203A|\u2039\u0000";
 
     /* Locale az_AZ: Azerbaijani (Azerbaijan) */
-    private static final String[] TEXTS_az_AZ = {
-        // This is the same as Turkish
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        /* morekeys_a */ "\u00E2,\u00E4,\u00E1",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,\u00F4,\u0153,\u00F2,\u00F3,\u00F5,\u00F8,\u014D",
-        // U+0259: "ə" LATIN SMALL LETTER SCHWA
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* morekeys_e */ "\u0259,\u00E9",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,\u00FB,\u00F9,\u00FA,\u016B",
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u0131,\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u0148,\u00F1",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-        /* double_quotes */ null,
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u015F,\u00DF,\u015B,\u0161",
-        /* single_quotes */ null,
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        /* morekeys_y */ "\u00FD",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017E",
-        /* morekeys_d ~ */
-        null, null, null,
-        /* ~ morekeys_l */
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u011F",
-    };
+    private static final String TEXTS_az_AZ =
+            // This is the same as Turkish
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            /* morekeys_a */ "0=\u00E2,\u00E4,\u00E1\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,\u00F4,\u0153,\u00F2,\u00F3,\u00F5,\u00F8,\u014D\u0000"
+            // U+0259: "ə" LATIN SMALL LETTER SCHWA
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* morekeys_e */ "2=\u0259,\u00E9\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,\u00FB,\u00F9,\u00FA,\u016B\u0000"
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u0131,\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B\u0000"
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u0148,\u00F1\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000"
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u015F,\u00DF,\u015B,\u0161\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            + /* morekeys_y */ "12=\u00FD\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017E\u0000"
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u011F\u0000";
 
     /* Locale be_BY: Belarusian (Belarus) */
-    private static final String[] TEXTS_be_BY = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_k */
-        // U+0451: "ё" CYRILLIC SMALL LETTER IO
-        /* morekeys_cyrillic_ie */ "\u0451",
-        /* keyspec_nordic_row1_11 ~ */
-        null, null, null, null,
-        /* ~ morekeys_nordic_row2_10 */
-        // U+045E: "ў" CYRILLIC SMALL LETTER SHORT U
-        /* keyspec_east_slavic_row1_9 */ "\u045E",
-        // U+044B: "ы" CYRILLIC SMALL LETTER YERU
-        /* keyspec_east_slavic_row2_2 */ "\u044B",
-        // U+044D: "э" CYRILLIC SMALL LETTER E
-        /* keyspec_east_slavic_row2_11 */ "\u044D",
-        // U+0456: "і" CYRILLIC SMALL LETTER BYELORUSSIAN-UKRAINIAN I
-        /* keyspec_east_slavic_row3_5 */ "\u0456",
-        // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
-        /* morekeys_cyrillic_soft_sign */ "\u044A",
-    };
+    private static final String TEXTS_be_BY =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+0451: "ё" CYRILLIC SMALL LETTER IO
+            + /* morekeys_cyrillic_ie */ "22=\u0451\u0000"
+            // U+045E: "ў" CYRILLIC SMALL LETTER SHORT U
+            + /* keyspec_east_slavic_row1_9 */ "27=\u045E\u0000"
+            // U+044B: "ы" CYRILLIC SMALL LETTER YERU
+            + /* keyspec_east_slavic_row2_2 */ "28=\u044B\u0000"
+            // U+044D: "э" CYRILLIC SMALL LETTER E
+            + /* keyspec_east_slavic_row2_11 */ "29=\u044D\u0000"
+            // U+0456: "і" CYRILLIC SMALL LETTER BYELORUSSIAN-UKRAINIAN I
+            + /* keyspec_east_slavic_row3_5 */ "30=\u0456\u0000"
+            // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
+            + /* morekeys_cyrillic_soft_sign */ "31=\u044A\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale bg: Bulgarian */
-    private static final String[] TEXTS_bg = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        // single_quotes of Bulgarian is default single_quotes_right_left.
-        /* double_quotes */ "!text/double_9qm_lqm",
-    };
+    private static final String TEXTS_bg =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            // single_quotes of Bulgarian is default single_quotes_right_left.
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u201A,\u2018,\u2019,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale bn_BD: Bengali (Bangladesh) */
-    private static final String[] TEXTS_bn_BD = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0995: "क" BENGALI LETTER KA
-        // U+0996: "ख" BENGALI LETTER KHA
-        // U+0997: "ग" BENGALI LETTER GA
-        /* keylabel_to_alpha */ "\u0995\u0996\u0997",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+09F3: "৳" BENGALI RUPEE SIGN
-        /* keyspec_currency */ "\u09F3",
-    };
+    private static final String TEXTS_bn_BD =
+            // Label for "switch to alphabetic" key.
+            // U+0995: "क" BENGALI LETTER KA
+            // U+0996: "ख" BENGALI LETTER KHA
+            // U+0997: "ग" BENGALI LETTER GA
+            /* keylabel_to_alpha */ "5=\u0995\u0996\u0997\u0000"
+            // U+09F3: "৳" BENGALI RUPEE SIGN
+            + /* keyspec_currency */ "11=\u09F3\u0000";
 
     /* Locale bn_IN: Bengali (India) */
-    private static final String[] TEXTS_bn_IN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0995: "क" BENGALI LETTER KA
-        // U+0996: "ख" BENGALI LETTER KHA
-        // U+0997: "ग" BENGALI LETTER GA
-        /* keylabel_to_alpha */ "\u0995\u0996\u0997",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-    };
+    private static final String TEXTS_bn_IN =
+            // Label for "switch to alphabetic" key.
+            // U+0995: "क" BENGALI LETTER KA
+            // U+0996: "ख" BENGALI LETTER KHA
+            // U+0997: "ग" BENGALI LETTER GA
+            /* keylabel_to_alpha */ "5=\u0995\u0996\u0997\u0000"
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            + /* keyspec_currency */ "11=\u20B9\u0000";
 
     /* Locale ca: Catalan */
-    private static final String[] TEXTS_ca = {
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E0,\u00E1,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA",
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F2,\u00F3,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E8,\u00E9,\u00EB,\u00EA,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-        /* double_quotes ~ */
-        null, null, null, null, null, null, null, null,
-        /* ~ morekeys_t */
-        // U+00B7: "·" MIDDLE DOT
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "l\u00B7l,\u0142",
-        /* morekeys_g ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null,
-        /* ~ morekeys_nordic_row2_11 */
-        // U+00B7: "·" MIDDLE DOT
-        /* morekeys_punctuation */ "!autoColumnOrder!9,\\,,?,!,\u00B7,#,),(,/,;,',@,:,-,\",+,\\%,&",
-        /* keyspec_tablet_comma ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ keyspec_south_slavic_row3_8 */
-        /* morekeys_tablet_punctuation */ "!autoColumnOrder!8,\\,,',\u00B7,#,),(,/,;,@,:,-,\",+,\\%,&",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        /* keyspec_spanish_row2_10 */ "\u00E7",
-    };
+    private static final String TEXTS_ca =
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA\u0000"
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F2,\u00F3,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E8,\u00E9,\u00EB,\u00EA,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000"
+            // U+00B7: "·" MIDDLE DOT
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=l\u00B7l,\u0142\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!8,\\,,',\u00B7,#,),(,/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+00B7: "·" MIDDLE DOT
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!9,\\,,?,!,\u00B7,#,),(,/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!9,\\,,?,!,\u00B7,#,),(,/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_tablet_punctuation */ "97=!autoColumnOrder!8,\\,,',\u00B7,#,),(,/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            + /* keyspec_spanish_row2_10 */ "98=\u00E7\u0000";
 
     /* Locale cs: Czech */
-    private static final String[] TEXTS_cs = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E1,\u00E0,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u011B,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u016F,\u00FB,\u00FC,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EE,\u00EF,\u00EC,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u0148,\u00F1,\u0144",
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u00E7,\u0107",
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        /* morekeys_s */ "\u0161,\u00DF,\u015B",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        /* morekeys_z */ "\u017E,\u017A,\u017C",
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        /* morekeys_d */ "\u010F",
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        /* morekeys_t */ "\u0165",
-        /* morekeys_l */ null,
-        /* morekeys_g */ null,
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        /* morekeys_r */ "\u0159",
-    };
+    private static final String TEXTS_cs =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E1,\u00E0,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u011B,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u016F,\u00FB,\u00FC,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EE,\u00EF,\u00EC,\u012F,\u012B\u0000"
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u0148,\u00F1,\u0144\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u010D,\u00E7,\u0107\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            + /* morekeys_s */ "9=\u0161,\u00DF,\u015B\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            + /* morekeys_z */ "13=\u017E,\u017A,\u017C\u0000"
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            + /* morekeys_d */ "14=\u010F\u0000"
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            + /* morekeys_t */ "15=\u0165\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            + /* morekeys_r */ "20=\u0159\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale da: Danish */
-    private static final String[] TEXTS_da = {
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E5,\u00E6,\u00E1,\u00E4,\u00E0,\u00E2,\u00E3,\u0101",
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F8,\u00F6,\u00F3,\u00F4,\u00F2,\u00F5,\u0153,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        /* morekeys_e */ "\u00E9,\u00EB",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00FB,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        /* morekeys_i */ "\u00ED,\u00EF",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u00DF,\u015B,\u0161",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        /* morekeys_z */ null,
-        // U+00F0: "ð" LATIN SMALL LETTER ETH
-        /* morekeys_d */ "\u00F0",
-        /* morekeys_t */ null,
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "\u0142",
-        /* morekeys_g */ null,
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-        /* morekeys_r ~ */
-        null, null, null,
-        /* ~ morekeys_cyrillic_ie */
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        /* keyspec_nordic_row1_11 */ "\u00E5",
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        /* keyspec_nordic_row2_10 */ "\u00E6",
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* keyspec_nordic_row2_11 */ "\u00F8",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* morekeys_nordic_row2_10 */ "\u00E4",
-        /* keyspec_east_slavic_row1_9 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_tablet_period */
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* morekeys_nordic_row2_11 */ "\u00F6",
-    };
+    private static final String TEXTS_da =
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E5,\u00E6,\u00E1,\u00E4,\u00E0,\u00E2,\u00E3,\u0101\u0000"
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F8,\u00F6,\u00F3,\u00F4,\u00F2,\u00F5,\u0153,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            + /* morekeys_e */ "2=\u00E9,\u00EB\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00FB,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            + /* morekeys_i */ "4=\u00ED,\u00EF\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u00DF,\u015B,\u0161\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+00F0: "ð" LATIN SMALL LETTER ETH
+            + /* morekeys_d */ "14=\u00F0\u0000"
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=\u0142\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            + /* keyspec_nordic_row1_11 */ "23=\u00E5\u0000"
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            + /* keyspec_nordic_row2_10 */ "24=\u00E6\u0000"
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* keyspec_nordic_row2_11 */ "25=\u00F8\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* morekeys_nordic_row2_10 */ "26=\u00E4\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* morekeys_nordic_row2_11 */ "54=\u00F6\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale de: German */
-    private static final String[] TEXTS_de = {
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E4,%,\u00E2,\u00E0,\u00E1,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,%,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u00F8,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,\u0117",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,%,\u00FB,\u00F9,\u00FA,\u016B",
-        /* morekeys_i */ null,
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u00DF,\u015B,\u0161",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-        /* morekeys_r ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null,
-        /* ~ keyspec_tablet_period */
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        /* keyspec_swiss_row1_11 */ "\u00FC",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* keyspec_swiss_row2_10 */ "\u00F6",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* keyspec_swiss_row2_11 */ "\u00E4",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        /* morekeys_swiss_row1_11 */ "\u00E8",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* morekeys_swiss_row2_10 */ "\u00E9",
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        /* morekeys_swiss_row2_11 */ "\u00E0",
-    };
+    private static final String TEXTS_de =
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E4,%,\u00E2,\u00E0,\u00E1,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,%,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,\u0117\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,%,\u00FB,\u00F9,\u00FA,\u016B\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u00DF,\u015B,\u0161\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            + /* keyspec_swiss_row1_11 */ "60=\u00FC\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* keyspec_swiss_row2_10 */ "61=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* keyspec_swiss_row2_11 */ "62=\u00E4\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            + /* morekeys_swiss_row1_11 */ "63=\u00E8\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* morekeys_swiss_row2_10 */ "64=\u00E9\u0000"
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            + /* morekeys_swiss_row2_11 */ "65=\u00E0\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale el: Greek */
-    private static final String[] TEXTS_el = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0391: "Α" GREEK CAPITAL LETTER ALPHA
-        // U+0392: "Β" GREEK CAPITAL LETTER BETA
-        // U+0393: "Γ" GREEK CAPITAL LETTER GAMMA
-        /* keylabel_to_alpha */ "\u0391\u0392\u0393",
-    };
+    private static final String TEXTS_el =
+            // Label for "switch to alphabetic" key.
+            // U+0391: "Α" GREEK CAPITAL LETTER ALPHA
+            // U+0392: "Β" GREEK CAPITAL LETTER BETA
+            // U+0393: "Γ" GREEK CAPITAL LETTER GAMMA
+            /* keylabel_to_alpha */ "5=\u0391\u0392\u0393\u0000";
 
     /* Locale en: English */
-    private static final String[] TEXTS_en = {
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        /* morekeys_o */ "\u00F3,\u00F4,\u00F6,\u00F2,\u0153,\u00F8,\u014D,\u00F5",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FB,\u00FC,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        /* morekeys_i */ "\u00ED,\u00EE,\u00EF,\u012B,\u00EC",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u00F1",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        /* morekeys_c */ "\u00E7",
-        /* double_quotes */ null,
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        /* morekeys_s */ "\u00DF",
-    };
+    private static final String TEXTS_en =
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            + /* morekeys_o */ "1=\u00F3,\u00F4,\u00F6,\u00F2,\u0153,\u00F8,\u014D,\u00F5\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FB,\u00FC,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            + /* morekeys_i */ "4=\u00ED,\u00EE,\u00EF,\u012B,\u00EC\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u00F1\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            + /* morekeys_c */ "7=\u00E7\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            + /* morekeys_s */ "9=\u00DF\u0000";
 
     /* Locale eo: Esperanto */
-    private static final String[] TEXTS_eo = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E1,\u00E0,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101,\u0103,\u0105,\u00AA",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D,\u0151,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u011B,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+0169: "ũ" LATIN SMALL LETTER U WITH TILDE
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
-        // U+00B5: "µ" MICRO SIGN
-        /* morekeys_u */ "\u00FA,\u016F,\u00FB,\u00FC,\u00F9,\u016B,\u0169,\u0171,\u0173,\u00B5",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+0129: "ĩ" LATIN SMALL LETTER I WITH TILDE
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_i */ "\u00ED,\u00EE,\u00EF,\u0129,\u00EC,\u012F,\u012B,\u0131,\u0133",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+0149: "ŉ" LATIN SMALL LETTER N PRECEDED BY APOSTROPHE
-        // U+014B: "ŋ" LATIN SMALL LETTER ENG
-        /* morekeys_n */ "\u00F1,\u0144,\u0146,\u0148,\u0149,\u014B",
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+010B: "ċ" LATIN SMALL LETTER C WITH DOT ABOVE
-        /* morekeys_c */ "\u0107,\u010D,\u00E7,\u010B",
-        /* double_quotes */ null,
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0219: "ș" LATIN SMALL LETTER S WITH COMMA BELOW
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        /* morekeys_s */ "\u00DF,\u0161,\u015B,\u0219,\u015F",
-        /* single_quotes */ null,
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+0177: "ŷ" LATIN SMALL LETTER Y WITH CIRCUMFLEX
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        // U+00FE: "þ" LATIN SMALL LETTER THORN
-        /* morekeys_y */ "y,\u00FD,\u0177,\u00FF,\u00FE",
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017A,\u017C,\u017E",
-        // U+00F0: "ð" LATIN SMALL LETTER ETH
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
-        /* morekeys_d */ "\u00F0,\u010F,\u0111",
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        // U+021B: "ț" LATIN SMALL LETTER T WITH COMMA BELOW
-        // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
-        // U+0167: "ŧ" LATIN SMALL LETTER T WITH STROKE
-        /* morekeys_t */ "\u0165,\u021B,\u0163,\u0167",
-        // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
-        // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
-        // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
-        // U+0140: "ŀ" LATIN SMALL LETTER L WITH MIDDLE DOT
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "\u013A,\u013C,\u013E,\u0140,\u0142",
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        // U+0121: "ġ" LATIN SMALL LETTER G WITH DOT ABOVE
-        // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
-        /* morekeys_g */ "\u011F,\u0121,\u0123",
-        /* single_angle_quotes */ null,
-        /* double_angle_quotes */ null,
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
-        // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
-        /* morekeys_r */ "\u0159,\u0155,\u0157",
-        // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
-        // U+0138: "ĸ" LATIN SMALL LETTER KRA
-        /* morekeys_k */ "\u0137,\u0138",
-        /* morekeys_cyrillic_ie ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null,
-        /* ~ morekeys_question */
-        // U+0125: "ĥ" LATIN SMALL LETTER H WITH CIRCUMFLEX
-        // U+0127: "ħ" LATIN SMALL LETTER H WITH STROKE
-        /* morekeys_h */ "\u0125,\u0127",
-        // U+0175: "ŵ" LATIN SMALL LETTER W WITH CIRCUMFLEX
-        /* morekeys_w */ "w,\u0175",
-        /* morekeys_east_slavic_row2_2 ~ */
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_tablet_punctuation */
-        // U+0135: "ĵ" LATIN SMALL LETTER J WITH CIRCUMFLEX
-        /* keyspec_spanish_row2_10 */ "\u0135",
-        /* morekeys_bullet ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null,
-        /* ~ label_wait_key */
-        // U+0175: "ŵ" LATIN SMALL LETTER W WITH CIRCUMFLEX
-        /* morekeys_v */ "w,\u0175",
-        /* morekeys_j */ null,
-        /* morekeys_q */ "q",
-        /* morekeys_x */ "x",
-        // U+015D: "ŝ" LATIN SMALL LETTER S WITH CIRCUMFLEX
-        /* keyspec_q */ "\u015D",
-        // U+011D: "ĝ" LATIN SMALL LETTER G WITH CIRCUMFLEX
-        /* keyspec_w */ "\u011D",
-        // U+016D: "ŭ" LATIN SMALL LETTER U WITH BREVE
-        /* keyspec_y */ "\u016D",
-        // U+0109: "ĉ" LATIN SMALL LETTER C WITH CIRCUMFLEX
-        /* keyspec_x */ "\u0109",
-    };
+    private static final String TEXTS_eo =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E1,\u00E0,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101,\u0103,\u0105,\u00AA\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D,\u0151,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u011B,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+0169: "ũ" LATIN SMALL LETTER U WITH TILDE
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
+            // U+00B5: "µ" MICRO SIGN
+            + /* morekeys_u */ "3=\u00FA,\u016F,\u00FB,\u00FC,\u00F9,\u016B,\u0169,\u0171,\u0173,\u00B5\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+0129: "ĩ" LATIN SMALL LETTER I WITH TILDE
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_i */ "4=\u00ED,\u00EE,\u00EF,\u0129,\u00EC,\u012F,\u012B,\u0131,\u0133\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+0149: "ŉ" LATIN SMALL LETTER N PRECEDED BY APOSTROPHE
+            // U+014B: "ŋ" LATIN SMALL LETTER ENG
+            + /* morekeys_n */ "6=\u00F1,\u0144,\u0146,\u0148,\u0149,\u014B\u0000"
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+010B: "ċ" LATIN SMALL LETTER C WITH DOT ABOVE
+            + /* morekeys_c */ "7=\u0107,\u010D,\u00E7,\u010B\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0219: "ș" LATIN SMALL LETTER S WITH COMMA BELOW
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            + /* morekeys_s */ "9=\u00DF,\u0161,\u015B,\u0219,\u015F\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+0177: "ŷ" LATIN SMALL LETTER Y WITH CIRCUMFLEX
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            // U+00FE: "þ" LATIN SMALL LETTER THORN
+            + /* morekeys_y */ "12=y,\u00FD,\u0177,\u00FF,\u00FE\u0000"
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017A,\u017C,\u017E\u0000"
+            // U+00F0: "ð" LATIN SMALL LETTER ETH
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
+            + /* morekeys_d */ "14=\u00F0,\u010F,\u0111\u0000"
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            // U+021B: "ț" LATIN SMALL LETTER T WITH COMMA BELOW
+            // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
+            // U+0167: "ŧ" LATIN SMALL LETTER T WITH STROKE
+            + /* morekeys_t */ "15=\u0165,\u021B,\u0163,\u0167\u0000"
+            // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
+            // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
+            // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
+            // U+0140: "ŀ" LATIN SMALL LETTER L WITH MIDDLE DOT
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=\u013A,\u013C,\u013E,\u0140,\u0142\u0000"
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            // U+0121: "ġ" LATIN SMALL LETTER G WITH DOT ABOVE
+            // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
+            + /* morekeys_g */ "17=\u011F,\u0121,\u0123\u0000"
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
+            // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
+            + /* morekeys_r */ "20=\u0159,\u0155,\u0157\u0000"
+            // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
+            // U+0138: "ĸ" LATIN SMALL LETTER KRA
+            + /* morekeys_k */ "21=\u0137,\u0138\u0000"
+            // U+0125: "ĥ" LATIN SMALL LETTER H WITH CIRCUMFLEX
+            // U+0127: "ħ" LATIN SMALL LETTER H WITH STROKE
+            + /* morekeys_h */ "85=\u0125,\u0127\u0000"
+            // U+0175: "ŵ" LATIN SMALL LETTER W WITH CIRCUMFLEX
+            + /* morekeys_w */ "86=w,\u0175\u0000"
+            // U+0135: "ĵ" LATIN SMALL LETTER J WITH CIRCUMFLEX
+            + /* keyspec_spanish_row2_10 */ "98=\u0135\u0000"
+            // U+0175: "ŵ" LATIN SMALL LETTER W WITH CIRCUMFLEX
+            + /* morekeys_v */ "118=w,\u0175\u0000"
+            + /* morekeys_q */ "120=q\u0000"
+            + /* morekeys_x */ "121=x\u0000"
+            // U+015D: "ŝ" LATIN SMALL LETTER S WITH CIRCUMFLEX
+            + /* keyspec_q */ "122=\u015D\u0000"
+            // U+011D: "ĝ" LATIN SMALL LETTER G WITH CIRCUMFLEX
+            + /* keyspec_w */ "123=\u011D\u0000"
+            // U+016D: "ŭ" LATIN SMALL LETTER U WITH BREVE
+            + /* keyspec_y */ "124=\u016D\u0000"
+            // U+0109: "ĉ" LATIN SMALL LETTER C WITH CIRCUMFLEX
+            + /* keyspec_x */ "125=\u0109\u0000";
 
     /* Locale es: Spanish */
-    private static final String[] TEXTS_es = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-        /* double_quotes ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null,
-        /* ~ morekeys_nordic_row2_11 */
-        // U+00A1: "¡" INVERTED EXCLAMATION MARK
-        // U+00BF: "¿" INVERTED QUESTION MARK
-        /* morekeys_punctuation */ "!autoColumnOrder!9,\\,,?,!,#,),(,/,;,\u00A1,',@,:,-,\",+,\\%,&,\u00BF",
-    };
+    private static final String TEXTS_es =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000"
+            // U+00A1: "¡" INVERTED EXCLAMATION MARK
+            // U+00BF: "¿" INVERTED QUESTION MARK
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!9,\\,,?,!,#,),(,/,;,\u00A1,',@,:,-,\",+,\\%,&,\u00BF\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!9,\\,,?,!,#,),(,/,;,\u00A1,',@,:,-,\",+,\\%,&,\u00BF\u0000";
 
     /* Locale et_EE: Estonian (Estonia) */
-    private static final String[] TEXTS_et_EE = {
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        /* morekeys_a */ "\u00E4,\u0101,\u00E0,\u00E1,\u00E2,\u00E3,\u00E5,\u00E6,\u0105",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* morekeys_o */ "\u00F6,\u00F5,\u00F2,\u00F3,\u00F4,\u0153,\u0151,\u00F8",
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        /* morekeys_e */ "\u0113,\u00E8,\u0117,\u00E9,\u00EA,\u00EB,\u0119,\u011B",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        /* morekeys_u */ "\u00FC,\u016B,\u0173,\u00F9,\u00FA,\u00FB,\u016F,\u0171",
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        /* morekeys_i */ "\u012B,\u00EC,\u012F,\u00ED,\u00EE,\u00EF,\u0131",
-        /* keylabel_to_alpha */ null,
-        // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u0146,\u00F1,\u0144",
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u00E7,\u0107",
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        /* morekeys_s */ "\u0161,\u00DF,\u015B,\u015F",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        /* morekeys_z */ "\u017E,\u017C,\u017A",
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        /* morekeys_d */ "\u010F",
-        // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        /* morekeys_t */ "\u0163,\u0165",
-        // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
-        // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
-        /* morekeys_l */ "\u013C,\u0142,\u013A,\u013E",
-        // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u0123,\u011F",
-        /* single_angle_quotes */ null,
-        /* double_angle_quotes */ null,
-        // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
-        /* morekeys_r */ "\u0157,\u0159,\u0155",
-        // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
-        /* morekeys_k */ "\u0137",
-        /* morekeys_cyrillic_ie */ null,
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        /* keyspec_nordic_row1_11 */ "\u00FC",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* keyspec_nordic_row2_10 */ "\u00F6",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* keyspec_nordic_row2_11 */ "\u00E4",
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        /* morekeys_nordic_row2_10 */ "\u00F5",
-    };
+    private static final String TEXTS_et_EE =
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            /* morekeys_a */ "0=\u00E4,\u0101,\u00E0,\u00E1,\u00E2,\u00E3,\u00E5,\u00E6,\u0105\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* morekeys_o */ "1=\u00F6,\u00F5,\u00F2,\u00F3,\u00F4,\u0153,\u0151,\u00F8\u0000"
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            + /* morekeys_e */ "2=\u0113,\u00E8,\u0117,\u00E9,\u00EA,\u00EB,\u0119,\u011B\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            + /* morekeys_u */ "3=\u00FC,\u016B,\u0173,\u00F9,\u00FA,\u00FB,\u016F,\u0171\u0000"
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            + /* morekeys_i */ "4=\u012B,\u00EC,\u012F,\u00ED,\u00EE,\u00EF,\u0131\u0000"
+            // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u0146,\u00F1,\u0144\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u010D,\u00E7,\u0107\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            + /* morekeys_s */ "9=\u0161,\u00DF,\u015B,\u015F\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            + /* morekeys_z */ "13=\u017E,\u017C,\u017A\u0000"
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            + /* morekeys_d */ "14=\u010F\u0000"
+            // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            + /* morekeys_t */ "15=\u0163,\u0165\u0000"
+            // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
+            // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
+            + /* morekeys_l */ "16=\u013C,\u0142,\u013A,\u013E\u0000"
+            // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u0123,\u011F\u0000"
+            // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
+            + /* morekeys_r */ "20=\u0157,\u0159,\u0155\u0000"
+            // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
+            + /* morekeys_k */ "21=\u0137\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            + /* keyspec_nordic_row1_11 */ "23=\u00FC\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* keyspec_nordic_row2_10 */ "24=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* keyspec_nordic_row2_11 */ "25=\u00E4\u0000"
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            + /* morekeys_nordic_row2_10 */ "26=\u00F5\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale eu_ES: Basque (Spain) */
-    private static final String[] TEXTS_eu_ES = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-    };
+    private static final String TEXTS_eu_ES =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000";
 
     /* Locale fa: Persian */
-    private static final String[] TEXTS_fa = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0627: "ا" ARABIC LETTER ALEF
-        // U+200C: ZERO WIDTH NON-JOINER
-        // U+0628: "ب" ARABIC LETTER BEH
-        // U+067E: "پ" ARABIC LETTER PEH
-        /* keylabel_to_alpha */ "\u0627\u200C\u0628\u200C\u067E",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+FDFC: "﷼" RIAL SIGN
-        /* keyspec_currency */ "\uFDFC",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null,
-        /* ~ morekeys_cyrillic_soft_sign */
-        // U+06F1: "۱" EXTENDED ARABIC-INDIC DIGIT ONE
-        /* keyspec_symbols_1 */ "\u06F1",
-        // U+06F2: "۲" EXTENDED ARABIC-INDIC DIGIT TWO
-        /* keyspec_symbols_2 */ "\u06F2",
-        // U+06F3: "۳" EXTENDED ARABIC-INDIC DIGIT THREE
-        /* keyspec_symbols_3 */ "\u06F3",
-        // U+06F4: "۴" EXTENDED ARABIC-INDIC DIGIT FOUR
-        /* keyspec_symbols_4 */ "\u06F4",
-        // U+06F5: "۵" EXTENDED ARABIC-INDIC DIGIT FIVE
-        /* keyspec_symbols_5 */ "\u06F5",
-        // U+06F6: "۶" EXTENDED ARABIC-INDIC DIGIT SIX
-        /* keyspec_symbols_6 */ "\u06F6",
-        // U+06F7: "۷" EXTENDED ARABIC-INDIC DIGIT SEVEN
-        /* keyspec_symbols_7 */ "\u06F7",
-        // U+06F8: "۸" EXTENDED ARABIC-INDIC DIGIT EIGHT
-        /* keyspec_symbols_8 */ "\u06F8",
-        // U+06F9: "۹" EXTENDED ARABIC-INDIC DIGIT NINE
-        /* keyspec_symbols_9 */ "\u06F9",
-        // U+06F0: "۰" EXTENDED ARABIC-INDIC DIGIT ZERO
-        /* keyspec_symbols_0 */ "\u06F0",
-        // Label for "switch to symbols" key.
-        // U+061F: "؟" ARABIC QUESTION MARK
-        /* keylabel_to_symbol */ "\u06F3\u06F2\u06F1\u061F",
-        /* additional_morekeys_symbols_1 */ "1",
-        /* additional_morekeys_symbols_2 */ "2",
-        /* additional_morekeys_symbols_3 */ "3",
-        /* additional_morekeys_symbols_4 */ "4",
-        /* additional_morekeys_symbols_5 */ "5",
-        /* additional_morekeys_symbols_6 */ "6",
-        /* additional_morekeys_symbols_7 */ "7",
-        /* additional_morekeys_symbols_8 */ "8",
-        /* additional_morekeys_symbols_9 */ "9",
-        // U+066B: "٫" ARABIC DECIMAL SEPARATOR
-        // U+066C: "٬" ARABIC THOUSANDS SEPARATOR
-        /* additional_morekeys_symbols_0 */ "0,\u066B,\u066C",
-        /* morekeys_tablet_period */ "!text/morekeys_arabic_diacritics",
-        /* morekeys_nordic_row2_11 */ null,
-        /* morekeys_punctuation */ null,
-        // U+060C: "،" ARABIC COMMA
-        // U+061B: "؛" ARABIC SEMICOLON
-        // U+061F: "؟" ARABIC QUESTION MARK
-        // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
-        /* keyspec_tablet_comma */ "\u060C",
-        /* keyspec_period */ null,
-        /* morekeys_period */ "!text/morekeys_arabic_diacritics",
-        /* keyspec_tablet_period ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_swiss_row2_11 */
-        // U+2605: "★" BLACK STAR
-        // U+066D: "٭" ARABIC FIVE POINTED STAR
-        /* morekeys_star */ "\u2605,\u066D",
-        /* keyspec_left_parenthesis */ "(|)",
-        /* keyspec_right_parenthesis */ ")|(",
-        /* keyspec_left_square_bracket */ "[|]",
-        /* keyspec_right_square_bracket */ "]|[",
-        /* keyspec_left_curly_bracket */ "{|}",
-        /* keyspec_right_curly_bracket */ "}|{",
-        /* keyspec_less_than */ "<|>",
-        /* keyspec_greater_than */ ">|<",
-        /* keyspec_less_than_equal */ "\u2264|\u2265",
-        /* keyspec_greater_than_equal */ "\u2265|\u2264",
-        /* keyspec_left_double_angle_quote */ "\u00AB|\u00BB",
-        /* keyspec_right_double_angle_quote */ "\u00BB|\u00AB",
-        /* keyspec_left_single_angle_quote */ "\u2039|\u203A",
-        /* keyspec_right_single_angle_quote */ "\u203A|\u2039",
-        // U+060C: "،" ARABIC COMMA
-        /* keyspec_comma */ "\u060C",
-        /* morekeys_tablet_comma */ "!fixedColumnOrder!4,:,!,\u061F,\u061B,-,!text/keyspec_left_double_angle_quote,!text/keyspec_right_double_angle_quote",
-        // U+064B: "ً" ARABIC FATHATAN
-        /* keyhintlabel_period */ "\u064B",
-        // U+00BF: "¿" INVERTED QUESTION MARK
-        /* morekeys_question */ "?,\u00BF",
-        /* morekeys_h ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ keyspec_spanish_row2_10 */
-        // U+266A: "♪" EIGHTH NOTE
-        /* morekeys_bullet */ "\u266A",
-        // The all letters need to be mirrored are found at
-        // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
-        // U+FD3E: "﴾" ORNATE LEFT PARENTHESIS
-        // U+FD3F: "﴿" ORNATE RIGHT PARENTHESIS
-        /* morekeys_left_parenthesis */ "!fixedColumnOrder!4,\uFD3E|\uFD3F,!text/keyspecs_left_parenthesis_more_keys",
-        /* morekeys_right_parenthesis */ "!fixedColumnOrder!4,\uFD3F|\uFD3E,!text/keyspecs_right_parenthesis_more_keys",
-        // U+0655: "ٕ" ARABIC HAMZA BELOW
-        // U+0652: "ْ" ARABIC SUKUN
-        // U+0651: "ّ" ARABIC SHADDA
-        // U+064C: "ٌ" ARABIC DAMMATAN
-        // U+064D: "ٍ" ARABIC KASRATAN
-        // U+064B: "ً" ARABIC FATHATAN
-        // U+0654: "ٔ" ARABIC HAMZA ABOVE
-        // U+0656: "ٖ" ARABIC SUBSCRIPT ALEF
-        // U+0670: "ٰ" ARABIC LETTER SUPERSCRIPT ALEF
-        // U+0653: "ٓ" ARABIC MADDAH ABOVE
-        // U+064F: "ُ" ARABIC DAMMA
-        // U+0650: "ِ" ARABIC KASRA
-        // U+064E: "َ" ARABIC FATHA
-        // U+0640: "ـ" ARABIC TATWEEL
-        // In order to make Tatweel easily distinguishable from other punctuations, we use consecutive Tatweels only for its displayed label.
-        // Note: The space character is needed as a preceding letter to draw Arabic diacritics characters correctly.
-        /* morekeys_arabic_diacritics */ "!fixedColumnOrder!7, \u0655|\u0655, \u0652|\u0652, \u0651|\u0651, \u064C|\u064C, \u064D|\u064D, \u064B|\u064B, \u0654|\u0654, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u064F|\u064F, \u0650|\u0650, \u064E|\u064E,\u0640\u0640\u0640|\u0640",
-        /* keyhintlabel_tablet_comma */ "\u061F",
-        /* keyhintlabel_tablet_period */ "\u064B",
-        /* keyspec_symbols_question */ "\u061F",
-        /* keyspec_symbols_semicolon */ "\u061B",
-        // U+066A: "٪" ARABIC PERCENT SIGN
-        /* keyspec_symbols_percent */ "\u066A",
-        /* morekeys_symbols_semicolon */ ";",
-        // U+2030: "‰" PER MILLE SIGN
-        /* morekeys_symbols_percent */ "\\%,\u2030",
-        /* label_go_key ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null,
-        /* ~ morekeys_plus */
-        // U+2264: "≤" LESS-THAN OR EQUAL TO
-        // U+2265: "≥" GREATER-THAN EQUAL TO
-        // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
-        // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
-        /* morekeys_less_than */ "!fixedColumnOrder!3,!text/keyspec_left_single_angle_quote,!text/keyspec_less_than_equal,!text/keyspec_less_than",
-        /* morekeys_greater_than */ "!fixedColumnOrder!3,!text/keyspec_right_single_angle_quote,!text/keyspec_greater_than_equal,!text/keyspec_greater_than",
-    };
+    private static final String TEXTS_fa =
+            // Label for "switch to alphabetic" key.
+            // U+0627: "ا" ARABIC LETTER ALEF
+            // U+200C: ZERO WIDTH NON-JOINER
+            // U+0628: "ب" ARABIC LETTER BEH
+            // U+067E: "پ" ARABIC LETTER PEH
+            /* keylabel_to_alpha */ "5=\u0627\u200C\u0628\u200C\u067E\u0000"
+            // U+FDFC: "﷼" RIAL SIGN
+            + /* keyspec_currency */ "11=\uFDFC\u0000"
+            + /* single_angle_quotes */ "18=\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            // U+06F1: "۱" EXTENDED ARABIC-INDIC DIGIT ONE
+            + /* keyspec_symbols_1 */ "32=\u06F1\u0000"
+            // U+06F2: "۲" EXTENDED ARABIC-INDIC DIGIT TWO
+            + /* keyspec_symbols_2 */ "33=\u06F2\u0000"
+            // U+06F3: "۳" EXTENDED ARABIC-INDIC DIGIT THREE
+            + /* keyspec_symbols_3 */ "34=\u06F3\u0000"
+            // U+06F4: "۴" EXTENDED ARABIC-INDIC DIGIT FOUR
+            + /* keyspec_symbols_4 */ "35=\u06F4\u0000"
+            // U+06F5: "۵" EXTENDED ARABIC-INDIC DIGIT FIVE
+            + /* keyspec_symbols_5 */ "36=\u06F5\u0000"
+            // U+06F6: "۶" EXTENDED ARABIC-INDIC DIGIT SIX
+            + /* keyspec_symbols_6 */ "37=\u06F6\u0000"
+            // U+06F7: "۷" EXTENDED ARABIC-INDIC DIGIT SEVEN
+            + /* keyspec_symbols_7 */ "38=\u06F7\u0000"
+            // U+06F8: "۸" EXTENDED ARABIC-INDIC DIGIT EIGHT
+            + /* keyspec_symbols_8 */ "39=\u06F8\u0000"
+            // U+06F9: "۹" EXTENDED ARABIC-INDIC DIGIT NINE
+            + /* keyspec_symbols_9 */ "40=\u06F9\u0000"
+            // U+06F0: "۰" EXTENDED ARABIC-INDIC DIGIT ZERO
+            + /* keyspec_symbols_0 */ "41=\u06F0\u0000"
+            // Label for "switch to symbols" key.
+            // U+061F: "؟" ARABIC QUESTION MARK
+            + /* keylabel_to_symbol */ "42=\u06F3\u06F2\u06F1\u061F\u0000"
+            + /* additional_morekeys_symbols_1 */ "43=1\u0000"
+            + /* additional_morekeys_symbols_2 */ "44=2\u0000"
+            + /* additional_morekeys_symbols_3 */ "45=3\u0000"
+            + /* additional_morekeys_symbols_4 */ "46=4\u0000"
+            + /* additional_morekeys_symbols_5 */ "47=5\u0000"
+            + /* additional_morekeys_symbols_6 */ "48=6\u0000"
+            + /* additional_morekeys_symbols_7 */ "49=7\u0000"
+            + /* additional_morekeys_symbols_8 */ "50=8\u0000"
+            + /* additional_morekeys_symbols_9 */ "51=9\u0000"
+            // U+066B: "٫" ARABIC DECIMAL SEPARATOR
+            // U+066C: "٬" ARABIC THOUSANDS SEPARATOR
+            + /* additional_morekeys_symbols_0 */ "52=0,\u066B,\u066C\u0000"
+            + /* morekeys_tablet_period */ "53=!fixedColumnOrder!7, \u0655|\u0655, \u0652|\u0652, \u0651|\u0651, \u064C|\u064C, \u064D|\u064D, \u064B|\u064B, \u0654|\u0654, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u064F|\u064F, \u0650|\u0650, \u064E|\u064E,\u0640\u0640\u0640|\u0640\u0000"
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!8,\\,,?,!,#,)|(,(|),/,;,',@,:,-,\",+,\\%,&\u0000"
+            // U+060C: "،" ARABIC COMMA
+            // U+061B: "؛" ARABIC SEMICOLON
+            // U+061F: "؟" ARABIC QUESTION MARK
+            // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
+            + /* keyspec_tablet_comma */ "56=\u060C\u0000"
+            + /* morekeys_period */ "58=!fixedColumnOrder!7, \u0655|\u0655, \u0652|\u0652, \u0651|\u0651, \u064C|\u064C, \u064D|\u064D, \u064B|\u064B, \u0654|\u0654, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u064F|\u064F, \u0650|\u0650, \u064E|\u064E,\u0640\u0640\u0640|\u0640\u0000"
+            // U+2605: "★" BLACK STAR
+            // U+066D: "٭" ARABIC FIVE POINTED STAR
+            + /* morekeys_star */ "66=\u2605,\u066D\u0000"
+            + /* keyspec_left_parenthesis */ "67=(|)\u0000"
+            + /* keyspec_right_parenthesis */ "68=)|(\u0000"
+            + /* keyspec_left_square_bracket */ "69=[|]\u0000"
+            + /* keyspec_right_square_bracket */ "70=]|[\u0000"
+            + /* keyspec_left_curly_bracket */ "71={|}\u0000"
+            + /* keyspec_right_curly_bracket */ "72=}|{\u0000"
+            + /* keyspec_less_than */ "73=<|>\u0000"
+            + /* keyspec_greater_than */ "74=>|<\u0000"
+            + /* keyspec_less_than_equal */ "75=\u2264|\u2265\u0000"
+            + /* keyspec_greater_than_equal */ "76=\u2265|\u2264\u0000"
+            + /* keyspec_left_double_angle_quote */ "77=\u00AB|\u00BB\u0000"
+            + /* keyspec_right_double_angle_quote */ "78=\u00BB|\u00AB\u0000"
+            + /* keyspec_left_single_angle_quote */ "79=\u2039|\u203A\u0000"
+            + /* keyspec_right_single_angle_quote */ "80=\u203A|\u2039\u0000"
+            // U+060C: "،" ARABIC COMMA
+            + /* keyspec_comma */ "81=\u060C\u0000"
+            + /* morekeys_tablet_comma */ "82=!fixedColumnOrder!4,:,!,\u061F,\u061B,-,\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            // U+064B: "ً" ARABIC FATHATAN
+            + /* keyhintlabel_period */ "83=\u064B\u0000"
+            // U+00BF: "¿" INVERTED QUESTION MARK
+            + /* morekeys_question */ "84=?,\u00BF\u0000"
+            + /* morekeys_tablet_punctuation */ "97=!autoColumnOrder!7,\\,,',#,)|(,(|),/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+266A: "♪" EIGHTH NOTE
+            + /* morekeys_bullet */ "99=\u266A\u0000"
+            // The all letters need to be mirrored are found at
+            // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
+            // U+FD3E: "﴾" ORNATE LEFT PARENTHESIS
+            // U+FD3F: "﴿" ORNATE RIGHT PARENTHESIS
+            + /* morekeys_left_parenthesis */ "100=!fixedColumnOrder!4,\uFD3E|\uFD3F,<|>,{|},[|]\u0000"
+            + /* morekeys_right_parenthesis */ "101=!fixedColumnOrder!4,\uFD3F|\uFD3E,>|<,}|{,]|[\u0000"
+            // U+0655: "ٕ" ARABIC HAMZA BELOW
+            // U+0652: "ْ" ARABIC SUKUN
+            // U+0651: "ّ" ARABIC SHADDA
+            // U+064C: "ٌ" ARABIC DAMMATAN
+            // U+064D: "ٍ" ARABIC KASRATAN
+            // U+064B: "ً" ARABIC FATHATAN
+            // U+0654: "ٔ" ARABIC HAMZA ABOVE
+            // U+0656: "ٖ" ARABIC SUBSCRIPT ALEF
+            // U+0670: "ٰ" ARABIC LETTER SUPERSCRIPT ALEF
+            // U+0653: "ٓ" ARABIC MADDAH ABOVE
+            // U+064F: "ُ" ARABIC DAMMA
+            // U+0650: "ِ" ARABIC KASRA
+            // U+064E: "َ" ARABIC FATHA
+            // U+0640: "ـ" ARABIC TATWEEL
+            // In order to make Tatweel easily distinguishable from other punctuations, we use consecutive Tatweels only for its displayed label.
+            // Note: The space character is needed as a preceding letter to draw Arabic diacritics characters correctly.
+            + /* morekeys_arabic_diacritics */ "102=!fixedColumnOrder!7, \u0655|\u0655, \u0652|\u0652, \u0651|\u0651, \u064C|\u064C, \u064D|\u064D, \u064B|\u064B, \u0654|\u0654, \u0656|\u0656, \u0670|\u0670, \u0653|\u0653, \u064F|\u064F, \u0650|\u0650, \u064E|\u064E,\u0640\u0640\u0640|\u0640\u0000"
+            + /* keyhintlabel_tablet_comma */ "103=\u061F\u0000"
+            + /* keyhintlabel_tablet_period */ "104=\u064B\u0000"
+            + /* keyspec_symbols_question */ "105=\u061F\u0000"
+            + /* keyspec_symbols_semicolon */ "106=\u061B\u0000"
+            // U+066A: "٪" ARABIC PERCENT SIGN
+            + /* keyspec_symbols_percent */ "107=\u066A\u0000"
+            + /* morekeys_symbols_semicolon */ "108=;\u0000"
+            // U+2030: "‰" PER MILLE SIGN
+            + /* morekeys_symbols_percent */ "109=\\%,\u2030\u0000"
+            // U+2264: "≤" LESS-THAN OR EQUAL TO
+            // U+2265: "≥" GREATER-THAN EQUAL TO
+            // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
+            // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
+            + /* morekeys_less_than */ "131=!fixedColumnOrder!3,\u2039|\u203A,\u2264|\u2265,<|>\u0000"
+            + /* morekeys_greater_than */ "132=!fixedColumnOrder!3,\u203A|\u2039,\u2265|\u2264,>|<\u0000"
+            + /* keyspecs_left_parenthesis_more_keys */ "158=<|>,{|},[|]\u0000"
+            + /* keyspecs_right_parenthesis_more_keys */ "159=>|<,}|{,]|[\u0000"
+            + /* single_laqm_raqm */ "160=\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* single_raqm_laqm */ "161=\u203A|\u2039,\u2039|\u203A\u0000"
+            + /* double_laqm_raqm */ "162=\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* double_raqm_laqm */ "163=\u00BB|\u00AB,\u00AB|\u00BB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u201A,\u2018,\u2019,\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201E,\u201C,\u201D,\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201E,\u201C,\u201D,\u201A,\u2018,\u2019,\u00AB|\u00BB,\u00BB|\u00AB,\u2039|\u203A,\u203A|\u2039\u0000";
 
     /* Locale fi: Finnish */
-    private static final String[] TEXTS_fi = {
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E4,\u00E5,\u00E6,\u00E0,\u00E1,\u00E2,\u00E3,\u0101",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,\u00F8,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u014D",
-        /* morekeys_e */ null,
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        /* morekeys_u */ "\u00FC",
-        /* morekeys_i ~ */
-        null, null, null, null, null,
-        /* ~ double_quotes */
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        /* morekeys_s */ "\u0161,\u00DF,\u015B",
-        /* single_quotes ~ */
-        null, null, null,
-        /* ~ morekeys_y */
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        /* morekeys_z */ "\u017E,\u017A,\u017C",
-        /* morekeys_d ~ */
-        null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_cyrillic_ie */
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        /* keyspec_nordic_row1_11 */ "\u00E5",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* keyspec_nordic_row2_10 */ "\u00F6",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* keyspec_nordic_row2_11 */ "\u00E4",
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* morekeys_nordic_row2_10 */ "\u00F8",
-        /* keyspec_east_slavic_row1_9 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_tablet_period */
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        /* morekeys_nordic_row2_11 */ "\u00E6",
-    };
+    private static final String TEXTS_fi =
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E4,\u00E5,\u00E6,\u00E0,\u00E1,\u00E2,\u00E3,\u0101\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,\u00F8,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u014D\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            + /* morekeys_u */ "3=\u00FC\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            + /* morekeys_s */ "9=\u0161,\u00DF,\u015B\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            + /* morekeys_z */ "13=\u017E,\u017A,\u017C\u0000"
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            + /* keyspec_nordic_row1_11 */ "23=\u00E5\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* keyspec_nordic_row2_10 */ "24=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* keyspec_nordic_row2_11 */ "25=\u00E4\u0000"
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* morekeys_nordic_row2_10 */ "26=\u00F8\u0000"
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            + /* morekeys_nordic_row2_11 */ "54=\u00E6\u0000";
 
     /* Locale fr: French */
-    private static final String[] TEXTS_fr = {
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E0,\u00E2,%,\u00E6,\u00E1,\u00E4,\u00E3,\u00E5,\u0101,\u00AA",
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F4,\u0153,%,\u00F6,\u00F2,\u00F3,\u00F5,\u00F8,\u014D,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,%,\u0119,\u0117,\u0113",
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00F9,\u00FB,%,\u00FC,\u00FA,\u016B",
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00EE,%,\u00EF,\u00EC,\u00ED,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        /* morekeys_n */ null,
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,%,\u0107,\u010D",
-        /* double_quotes ~ */
-        null, null, null, null,
-        /* ~ keyspec_currency */
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "%,\u00FF",
-        /* morekeys_z ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null,
-        /* ~ keyspec_tablet_period */
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        /* keyspec_swiss_row1_11 */ "\u00E8",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* keyspec_swiss_row2_10 */ "\u00E9",
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        /* keyspec_swiss_row2_11 */ "\u00E0",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        /* morekeys_swiss_row1_11 */ "\u00FC",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* morekeys_swiss_row2_10 */ "\u00F6",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* morekeys_swiss_row2_11 */ "\u00E4",
-    };
+    private static final String TEXTS_fr =
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E0,\u00E2,%,\u00E6,\u00E1,\u00E4,\u00E3,\u00E5,\u0101,\u00AA\u0000"
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F4,\u0153,%,\u00F6,\u00F2,\u00F3,\u00F5,\u00F8,\u014D,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,%,\u0119,\u0117,\u0113\u0000"
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00F9,\u00FB,%,\u00FC,\u00FA,\u016B\u0000"
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00EE,%,\u00EF,\u00EC,\u00ED,\u012F,\u012B\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,%,\u0107,\u010D\u0000"
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=%,\u00FF\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            + /* keyspec_swiss_row1_11 */ "60=\u00E8\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* keyspec_swiss_row2_10 */ "61=\u00E9\u0000"
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            + /* keyspec_swiss_row2_11 */ "62=\u00E0\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            + /* morekeys_swiss_row1_11 */ "63=\u00FC\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* morekeys_swiss_row2_10 */ "64=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* morekeys_swiss_row2_11 */ "65=\u00E4\u0000";
 
     /* Locale gl_ES: Gallegan (Spain) */
-    private static final String[] TEXTS_gl_ES = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-    };
+    private static final String TEXTS_gl_ES =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000";
 
     /* Locale hi: Hindi */
-    private static final String[] TEXTS_hi = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0915: "क" DEVANAGARI LETTER KA
-        // U+0916: "ख" DEVANAGARI LETTER KHA
-        // U+0917: "ग" DEVANAGARI LETTER GA
-        /* keylabel_to_alpha */ "\u0915\u0916\u0917",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null,
-        /* ~ morekeys_cyrillic_soft_sign */
-        // U+0967: "१" DEVANAGARI DIGIT ONE
-        /* keyspec_symbols_1 */ "\u0967",
-        // U+0968: "२" DEVANAGARI DIGIT TWO
-        /* keyspec_symbols_2 */ "\u0968",
-        // U+0969: "३" DEVANAGARI DIGIT THREE
-        /* keyspec_symbols_3 */ "\u0969",
-        // U+096A: "४" DEVANAGARI DIGIT FOUR
-        /* keyspec_symbols_4 */ "\u096A",
-        // U+096B: "५" DEVANAGARI DIGIT FIVE
-        /* keyspec_symbols_5 */ "\u096B",
-        // U+096C: "६" DEVANAGARI DIGIT SIX
-        /* keyspec_symbols_6 */ "\u096C",
-        // U+096D: "७" DEVANAGARI DIGIT SEVEN
-        /* keyspec_symbols_7 */ "\u096D",
-        // U+096E: "८" DEVANAGARI DIGIT EIGHT
-        /* keyspec_symbols_8 */ "\u096E",
-        // U+096F: "९" DEVANAGARI DIGIT NINE
-        /* keyspec_symbols_9 */ "\u096F",
-        // U+0966: "०" DEVANAGARI DIGIT ZERO
-        /* keyspec_symbols_0 */ "\u0966",
-        // Label for "switch to symbols" key.
-        /* keylabel_to_symbol */ "?\u0967\u0968\u0969",
-        /* additional_morekeys_symbols_1 */ "1",
-        /* additional_morekeys_symbols_2 */ "2",
-        /* additional_morekeys_symbols_3 */ "3",
-        /* additional_morekeys_symbols_4 */ "4",
-        /* additional_morekeys_symbols_5 */ "5",
-        /* additional_morekeys_symbols_6 */ "6",
-        /* additional_morekeys_symbols_7 */ "7",
-        /* additional_morekeys_symbols_8 */ "8",
-        /* additional_morekeys_symbols_9 */ "9",
-        /* additional_morekeys_symbols_0 */ "0",
-        /* morekeys_tablet_period */ "!autoColumnOrder!8,\\,,.,',#,),(,/,;,@,:,-,\",+,\\%,&",
-        /* morekeys_nordic_row2_11 ~ */
-        null, null, null,
-        /* ~ keyspec_tablet_comma */
-        // U+0964: "।" DEVANAGARI DANDA
-        /* keyspec_period */ "\u0964",
-        /* morekeys_period */ "!autoColumnOrder!9,\\,,.,?,!,#,),(,/,;,',@,:,-,\",+,\\%,&",
-        /* keyspec_tablet_period */ "\u0964",
-    };
-
-    /* Locale hi_ZZ: Hindi (ZZ) */
-    private static final String[] TEXTS_hi_ZZ = {
-        /* morekeys_a ~ */
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null,
-        /* ~ morekeys_symbols_percent */
-        /* label_go_key */ "Go",
-        /* label_send_key */ "Send",
-        /* label_next_key */ "Next",
-        /* label_done_key */ "Done",
-        /* label_search_key */ "Search",
-        /* label_previous_key */ "Prev",
-        /* label_pause_key */ "Pause",
-        /* label_wait_key */ "Wait",
-    };
+    private static final String TEXTS_hi =
+            // Label for "switch to alphabetic" key.
+            // U+0915: "क" DEVANAGARI LETTER KA
+            // U+0916: "ख" DEVANAGARI LETTER KHA
+            // U+0917: "ग" DEVANAGARI LETTER GA
+            /* keylabel_to_alpha */ "5=\u0915\u0916\u0917\u0000"
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            + /* keyspec_currency */ "11=\u20B9\u0000"
+            // U+0967: "१" DEVANAGARI DIGIT ONE
+            + /* keyspec_symbols_1 */ "32=\u0967\u0000"
+            // U+0968: "२" DEVANAGARI DIGIT TWO
+            + /* keyspec_symbols_2 */ "33=\u0968\u0000"
+            // U+0969: "३" DEVANAGARI DIGIT THREE
+            + /* keyspec_symbols_3 */ "34=\u0969\u0000"
+            // U+096A: "४" DEVANAGARI DIGIT FOUR
+            + /* keyspec_symbols_4 */ "35=\u096A\u0000"
+            // U+096B: "५" DEVANAGARI DIGIT FIVE
+            + /* keyspec_symbols_5 */ "36=\u096B\u0000"
+            // U+096C: "६" DEVANAGARI DIGIT SIX
+            + /* keyspec_symbols_6 */ "37=\u096C\u0000"
+            // U+096D: "७" DEVANAGARI DIGIT SEVEN
+            + /* keyspec_symbols_7 */ "38=\u096D\u0000"
+            // U+096E: "८" DEVANAGARI DIGIT EIGHT
+            + /* keyspec_symbols_8 */ "39=\u096E\u0000"
+            // U+096F: "९" DEVANAGARI DIGIT NINE
+            + /* keyspec_symbols_9 */ "40=\u096F\u0000"
+            // U+0966: "०" DEVANAGARI DIGIT ZERO
+            + /* keyspec_symbols_0 */ "41=\u0966\u0000"
+            // Label for "switch to symbols" key.
+            + /* keylabel_to_symbol */ "42=?\u0967\u0968\u0969\u0000"
+            + /* additional_morekeys_symbols_1 */ "43=1\u0000"
+            + /* additional_morekeys_symbols_2 */ "44=2\u0000"
+            + /* additional_morekeys_symbols_3 */ "45=3\u0000"
+            + /* additional_morekeys_symbols_4 */ "46=4\u0000"
+            + /* additional_morekeys_symbols_5 */ "47=5\u0000"
+            + /* additional_morekeys_symbols_6 */ "48=6\u0000"
+            + /* additional_morekeys_symbols_7 */ "49=7\u0000"
+            + /* additional_morekeys_symbols_8 */ "50=8\u0000"
+            + /* additional_morekeys_symbols_9 */ "51=9\u0000"
+            + /* additional_morekeys_symbols_0 */ "52=0\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!8,\\,,.,',#,),(,/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+0964: "।" DEVANAGARI DANDA
+            + /* keyspec_period */ "57=\u0964\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!9,\\,,.,?,!,#,),(,/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* keyspec_tablet_period */ "59=\u0964\u0000";
+
+    /* Locale hi_ZZ: Hindi (Unknown Region) */
+    private static final String TEXTS_hi_ZZ =
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            /* keyspec_currency */ "11=\u20B9\u0000"
+            + /* label_go_key */ "110=Go\u0000"
+            + /* label_send_key */ "111=Send\u0000"
+            + /* label_next_key */ "112=Next\u0000"
+            + /* label_done_key */ "113=Done\u0000"
+            + /* label_search_key */ "114=Search\u0000"
+            + /* label_previous_key */ "115=Prev\u0000"
+            + /* label_pause_key */ "116=Pause\u0000"
+            + /* label_wait_key */ "117=Wait\u0000"
+            + /* keyspec_action_next */ "148=!hasLabels!,Next|!code/key_action_next\u0000"
+            + /* keyspec_action_previous */ "149=!hasLabels!,Prev|!code/key_action_previous\u0000";
 
     /* Locale hr: Croatian */
-    private static final String[] TEXTS_hr = {
-        /* morekeys_a ~ */
-        null, null, null, null, null, null,
-        /* ~ keylabel_to_alpha */
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        /* morekeys_c */ "\u010D,\u0107,\u00E7",
-        /* double_quotes */ "!text/double_9qm_rqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        /* morekeys_s */ "\u0161,\u015B,\u00DF",
-        /* single_quotes */ "!text/single_9qm_rqm",
-        /* keyspec_currency */ null,
-        /* morekeys_y */ null,
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        /* morekeys_z */ "\u017E,\u017A,\u017C",
-        // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
-        /* morekeys_d */ "\u0111",
-        /* morekeys_t ~ */
-        null, null, null,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-    };
+    private static final String TEXTS_hr =
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            + /* morekeys_c */ "7=\u010D,\u0107,\u00E7\u0000"
+            + /* double_quotes */ "8=\u201C,\u201E,\u201D\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            + /* morekeys_s */ "9=\u0161,\u015B,\u00DF\u0000"
+            + /* single_quotes */ "10=\u2018,\u201A,\u2019\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            + /* morekeys_z */ "13=\u017E,\u017A,\u017C\u0000"
+            // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
+            + /* morekeys_d */ "14=\u0111\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u201A,\u2019,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201E,\u201D,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201E,\u201D,\u2018,\u201A,\u2019,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale hu: Hungarian */
-    private static final String[] TEXTS_hu = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        /* morekeys_a */ "\u00E1",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        /* morekeys_o */ "\u00F3,\u00F6,\u0151",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* morekeys_e */ "\u00E9",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        /* morekeys_u */ "\u00FA,\u00FC,\u0171",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        /* morekeys_i */ "\u00ED",
-        /* keylabel_to_alpha ~ */
-        null, null, null,
-        /* ~ morekeys_c */
-        /* double_quotes */ "!text/double_9qm_rqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_rqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-    };
+    private static final String TEXTS_hu =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            /* morekeys_a */ "0=\u00E1\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            + /* morekeys_o */ "1=\u00F3,\u00F6,\u0151\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* morekeys_e */ "2=\u00E9\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u0171\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            + /* morekeys_i */ "4=\u00ED\u0000"
+            + /* double_quotes */ "8=\u201C,\u201E,\u201D\u0000"
+            + /* single_quotes */ "10=\u2018,\u201A,\u2019\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u201A,\u2019,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201E,\u201D,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201E,\u201D,\u2018,\u201A,\u2019,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale hy_AM: Armenian (Armenia) */
-    private static final String[] TEXTS_hy_AM = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0531: "Ա" ARMENIAN CAPITAL LETTER AYB
-        // U+0532: "Բ" ARMENIAN CAPITAL LETTER BEN
-        // U+0533: "Գ" ARMENIAN CAPITAL LETTER GIM
-        /* keylabel_to_alpha */ "\u0531\u0532\u0533",
-        /* morekeys_n ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null,
-        /* ~ additional_morekeys_symbols_0 */
-        /* morekeys_tablet_period */ "!text/morekeys_punctuation",
-        /* morekeys_nordic_row2_11 */ null,
-        // U+055E: "՞" ARMENIAN QUESTION MARK
-        // U+055C: "՜" ARMENIAN EXCLAMATION MARK
-        // U+055A: "՚" ARMENIAN APOSTROPHE
-        // U+0559: "ՙ" ARMENIAN MODIFIER LETTER LEFT HALF RING
-        // U+055D: "՝" ARMENIAN COMMA
-        // U+055B: "՛" ARMENIAN EMPHASIS MARK
-        // U+058A: "֊" ARMENIAN HYPHEN
-        // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+055F: "՟" ARMENIAN ABBREVIATION MARK
-        /* morekeys_punctuation */ "!autoColumnOrder!8,\\,,\u055E,\u055C,.,\u055A,\u0559,?,!,\u055D,\u055B,\u058A,\u00BB,\u00AB,\u055F,;,:",
-        /* keyspec_tablet_comma */ "\u055D",
-        // U+0589: "։" ARMENIAN FULL STOP
-        /* keyspec_period */ "\u0589",
-        /* morekeys_period */ null,
-        /* keyspec_tablet_period */ "\u0589",
-        /* keyspec_swiss_row1_11 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null,
-        /* ~ keyspec_right_single_angle_quote */
-        // U+058F: "֏" ARMENIAN DRAM SIGN
-        // TODO: Enable this when we have glyph for the following letter
-        // <string name="keyspec_currency">&#x058F;</string>
-        // 
-        // U+055D: "՝" ARMENIAN COMMA
-        /* keyspec_comma */ "\u055D",
-        /* morekeys_tablet_comma */ null,
-        /* keyhintlabel_period */ null,
-        // U+055E: "՞" ARMENIAN QUESTION MARK
-        // U+00BF: "¿" INVERTED QUESTION MARK
-        /* morekeys_question */ "\u055E,\u00BF",
-        /* morekeys_h ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null,
-        /* ~ morekeys_greater_than */
-        // U+055C: "՜" ARMENIAN EXCLAMATION MARK
-        // U+00A1: "¡" INVERTED EXCLAMATION MARK
-        /* morekeys_exclamation */ "\u055C,\u00A1",
-    };
+    private static final String TEXTS_hy_AM =
+            // Label for "switch to alphabetic" key.
+            // U+0531: "Ա" ARMENIAN CAPITAL LETTER AYB
+            // U+0532: "Բ" ARMENIAN CAPITAL LETTER BEN
+            // U+0533: "Գ" ARMENIAN CAPITAL LETTER GIM
+            /* keylabel_to_alpha */ "5=\u0531\u0532\u0533\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!8,\\,,\u055E,\u055C,.,\u055A,\u0559,?,!,\u055D,\u055B,\u058A,\u00BB,\u00AB,\u055F,;,:\u0000"
+            // U+055E: "՞" ARMENIAN QUESTION MARK
+            // U+055C: "՜" ARMENIAN EXCLAMATION MARK
+            // U+055A: "՚" ARMENIAN APOSTROPHE
+            // U+0559: "ՙ" ARMENIAN MODIFIER LETTER LEFT HALF RING
+            // U+055D: "՝" ARMENIAN COMMA
+            // U+055B: "՛" ARMENIAN EMPHASIS MARK
+            // U+058A: "֊" ARMENIAN HYPHEN
+            // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+055F: "՟" ARMENIAN ABBREVIATION MARK
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!8,\\,,\u055E,\u055C,.,\u055A,\u0559,?,!,\u055D,\u055B,\u058A,\u00BB,\u00AB,\u055F,;,:\u0000"
+            + /* keyspec_tablet_comma */ "56=\u055D\u0000"
+            // U+0589: "։" ARMENIAN FULL STOP
+            + /* keyspec_period */ "57=\u0589\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!8,\\,,\u055E,\u055C,.,\u055A,\u0559,?,!,\u055D,\u055B,\u058A,\u00BB,\u00AB,\u055F,;,:\u0000"
+            + /* keyspec_tablet_period */ "59=\u0589\u0000"
+            // U+058F: "֏" ARMENIAN DRAM SIGN
+            // TODO: Enable this when we have glyph for the following letter
+            // <string name="keyspec_currency">&#x058F;</string>
+            // 
+            // U+055D: "՝" ARMENIAN COMMA
+            + /* keyspec_comma */ "81=\u055D\u0000"
+            // U+055E: "՞" ARMENIAN QUESTION MARK
+            // U+00BF: "¿" INVERTED QUESTION MARK
+            + /* morekeys_question */ "84=\u055E,\u00BF\u0000"
+            // U+055C: "՜" ARMENIAN EXCLAMATION MARK
+            // U+00A1: "¡" INVERTED EXCLAMATION MARK
+            + /* morekeys_exclamation */ "133=\u055C,\u00A1\u0000";
 
     /* Locale is: Icelandic */
-    private static final String[] TEXTS_is = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E1,\u00E4,\u00E6,\u00E5,\u00E0,\u00E2,\u00E3,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00EB,\u00E8,\u00EA,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00FB,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EE,\u00EC,\u012F,\u012B",
-        /* keylabel_to_alpha ~ */
-        null, null, null,
-        /* ~ morekeys_c */
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        /* morekeys_z */ null,
-        // U+00F0: "ð" LATIN SMALL LETTER ETH
-        /* morekeys_d */ "\u00F0",
-        // U+00FE: "þ" LATIN SMALL LETTER THORN
-        /* morekeys_t */ "\u00FE",
-    };
+    private static final String TEXTS_is =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E1,\u00E4,\u00E6,\u00E5,\u00E0,\u00E2,\u00E3,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00EB,\u00E8,\u00EA,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00FB,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EE,\u00EC,\u012F,\u012B\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+00F0: "ð" LATIN SMALL LETTER ETH
+            + /* morekeys_d */ "14=\u00F0\u0000"
+            // U+00FE: "þ" LATIN SMALL LETTER THORN
+            + /* morekeys_t */ "15=\u00FE\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale it: Italian */
-    private static final String[] TEXTS_it = {
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101,\u00AA",
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F2,\u00F3,\u00F4,\u00F6,\u00F5,\u0153,\u00F8,\u014D,\u00BA",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E8,\u00E9,\u00EA,\u00EB,\u0119,\u0117,\u0113",
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00F9,\u00FA,\u00FB,\u00FC,\u016B",
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00EC,\u00ED,\u00EE,\u00EF,\u012F,\u012B",
-        /* keylabel_to_alpha ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null,
-        /* ~ keyspec_tablet_period */
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        /* keyspec_swiss_row1_11 */ "\u00FC",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* keyspec_swiss_row2_10 */ "\u00F6",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* keyspec_swiss_row2_11 */ "\u00E4",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        /* morekeys_swiss_row1_11 */ "\u00E8",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* morekeys_swiss_row2_10 */ "\u00E9",
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        /* morekeys_swiss_row2_11 */ "\u00E0",
-    };
+    private static final String TEXTS_it =
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101,\u00AA\u0000"
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F2,\u00F3,\u00F4,\u00F6,\u00F5,\u0153,\u00F8,\u014D,\u00BA\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E8,\u00E9,\u00EA,\u00EB,\u0119,\u0117,\u0113\u0000"
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00F9,\u00FA,\u00FB,\u00FC,\u016B\u0000"
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00EC,\u00ED,\u00EE,\u00EF,\u012F,\u012B\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            + /* keyspec_swiss_row1_11 */ "60=\u00FC\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* keyspec_swiss_row2_10 */ "61=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* keyspec_swiss_row2_11 */ "62=\u00E4\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            + /* morekeys_swiss_row1_11 */ "63=\u00E8\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* morekeys_swiss_row2_10 */ "64=\u00E9\u0000"
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            + /* morekeys_swiss_row2_11 */ "65=\u00E0\u0000";
 
     /* Locale iw: Hebrew */
-    private static final String[] TEXTS_iw = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+05D0: "א" HEBREW LETTER ALEF
-        // U+05D1: "ב" HEBREW LETTER BET
-        // U+05D2: "ג" HEBREW LETTER GIMEL
-        /* keylabel_to_alpha */ "\u05D0\u05D1\u05D2",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_rqm_9qm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_rqm_9qm",
-        // U+20AA: "₪" NEW SHEQEL SIGN
-        /* keyspec_currency */ "\u20AA",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_swiss_row2_11 */
-        // U+2605: "★" BLACK STAR
-        /* morekeys_star */ "\u2605",
-        // The all letters need to be mirrored are found at
-        // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
-        // U+2264: "≤" LESS-THAN OR EQUAL TO
-        // U+2265: "≥" GREATER-THAN EQUAL TO
-        // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
-        // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
-        // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
-        /* keyspec_left_parenthesis */ "(|)",
-        /* keyspec_right_parenthesis */ ")|(",
-        /* keyspec_left_square_bracket */ "[|]",
-        /* keyspec_right_square_bracket */ "]|[",
-        /* keyspec_left_curly_bracket */ "{|}",
-        /* keyspec_right_curly_bracket */ "}|{",
-        /* keyspec_less_than */ "<|>",
-        /* keyspec_greater_than */ ">|<",
-        /* keyspec_less_than_equal */ "\u2264|\u2265",
-        /* keyspec_greater_than_equal */ "\u2265|\u2264",
-        /* keyspec_left_double_angle_quote */ "\u00AB|\u00BB",
-        /* keyspec_right_double_angle_quote */ "\u00BB|\u00AB",
-        /* keyspec_left_single_angle_quote */ "\u2039|\u203A",
-        /* keyspec_right_single_angle_quote */ "\u203A|\u2039",
-        /* keyspec_comma ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null,
-        /* ~ morekeys_currency_dollar */
-        // U+00B1: "±" PLUS-MINUS SIGN
-        // U+FB29: "﬩" HEBREW LETTER ALTERNATIVE PLUS SIGN
-        /* morekeys_plus */ "\u00B1,\uFB29",
-    };
+    private static final String TEXTS_iw =
+            // Label for "switch to alphabetic" key.
+            // U+05D0: "א" HEBREW LETTER ALEF
+            // U+05D1: "ב" HEBREW LETTER BET
+            // U+05D2: "ג" HEBREW LETTER GIMEL
+            /* keylabel_to_alpha */ "5=\u05D0\u05D1\u05D2\u0000"
+            + /* double_quotes */ "8=\u201C,\u201D,\u201E\u0000"
+            + /* single_quotes */ "10=\u2018,\u2019,\u201A\u0000"
+            // U+20AA: "₪" NEW SHEQEL SIGN
+            + /* keyspec_currency */ "11=\u20AA\u0000"
+            + /* single_angle_quotes */ "18=\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!7,\\,,',#,)|(,(|),/,;,@,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!8,\\,,?,!,#,)|(,(|),/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!8,\\,,?,!,#,)|(,(|),/,;,',@,:,-,\",+,\\%,&\u0000"
+            // U+2605: "★" BLACK STAR
+            + /* morekeys_star */ "66=\u2605\u0000"
+            // The all letters need to be mirrored are found at
+            // http://www.unicode.org/Public/6.1.0/ucd/BidiMirroring.txt
+            // U+2264: "≤" LESS-THAN OR EQUAL TO
+            // U+2265: "≥" GREATER-THAN EQUAL TO
+            // U+00AB: "«" LEFT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+00BB: "»" RIGHT-POINTING DOUBLE ANGLE QUOTATION MARK
+            // U+2039: "‹" SINGLE LEFT-POINTING ANGLE QUOTATION MARK
+            // U+203A: "›" SINGLE RIGHT-POINTING ANGLE QUOTATION MARK
+            + /* keyspec_left_parenthesis */ "67=(|)\u0000"
+            + /* keyspec_right_parenthesis */ "68=)|(\u0000"
+            + /* keyspec_left_square_bracket */ "69=[|]\u0000"
+            + /* keyspec_right_square_bracket */ "70=]|[\u0000"
+            + /* keyspec_left_curly_bracket */ "71={|}\u0000"
+            + /* keyspec_right_curly_bracket */ "72=}|{\u0000"
+            + /* keyspec_less_than */ "73=<|>\u0000"
+            + /* keyspec_greater_than */ "74=>|<\u0000"
+            + /* keyspec_less_than_equal */ "75=\u2264|\u2265\u0000"
+            + /* keyspec_greater_than_equal */ "76=\u2265|\u2264\u0000"
+            + /* keyspec_left_double_angle_quote */ "77=\u00AB|\u00BB\u0000"
+            + /* keyspec_right_double_angle_quote */ "78=\u00BB|\u00AB\u0000"
+            + /* keyspec_left_single_angle_quote */ "79=\u2039|\u203A\u0000"
+            + /* keyspec_right_single_angle_quote */ "80=\u203A|\u2039\u0000"
+            + /* morekeys_tablet_punctuation */ "97=!autoColumnOrder!7,\\,,',#,)|(,(|),/,;,@,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_left_parenthesis */ "100=!fixedColumnOrder!3,<|>,{|},[|]\u0000"
+            + /* morekeys_right_parenthesis */ "101=!fixedColumnOrder!3,>|<,}|{,]|[\u0000"
+            // U+00B1: "±" PLUS-MINUS SIGN
+            // U+FB29: "﬩" HEBREW LETTER ALTERNATIVE PLUS SIGN
+            + /* morekeys_plus */ "130=\u00B1,\uFB29\u0000"
+            + /* morekeys_less_than */ "131=!fixedColumnOrder!3,\u2039|\u203A,\u2264|\u2265,\u00AB|\u00BB\u0000"
+            + /* morekeys_greater_than */ "132=!fixedColumnOrder!3,\u203A|\u2039,\u2265|\u2264,\u00BB|\u00AB\u0000"
+            + /* keyspecs_left_parenthesis_more_keys */ "158=<|>,{|},[|]\u0000"
+            + /* keyspecs_right_parenthesis_more_keys */ "159=>|<,}|{,]|[\u0000"
+            + /* single_laqm_raqm */ "160=\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* single_raqm_laqm */ "161=\u203A|\u2039,\u2039|\u203A\u0000"
+            + /* double_laqm_raqm */ "162=\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* double_raqm_laqm */ "163=\u00BB|\u00AB,\u00AB|\u00BB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u2019,\u201A,\u2039|\u203A,\u203A|\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201D,\u201E,\u00AB|\u00BB,\u00BB|\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201D,\u201E,\u2018,\u2019,\u201A,\u00AB|\u00BB,\u00BB|\u00AB,\u2039|\u203A,\u203A|\u2039\u0000";
 
     /* Locale ka_GE: Georgian (Georgia) */
-    private static final String[] TEXTS_ka_GE = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+10D0: "ა" GEORGIAN LETTER AN
-        // U+10D1: "ბ" GEORGIAN LETTER BAN
-        // U+10D2: "გ" GEORGIAN LETTER GAN
-        /* keylabel_to_alpha */ "\u10D0\u10D1\u10D2",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-    };
+    private static final String TEXTS_ka_GE =
+            // Label for "switch to alphabetic" key.
+            // U+10D0: "ა" GEORGIAN LETTER AN
+            // U+10D1: "ბ" GEORGIAN LETTER BAN
+            // U+10D2: "გ" GEORGIAN LETTER GAN
+            /* keylabel_to_alpha */ "5=\u10D0\u10D1\u10D2\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale kk: Kazakh */
-    private static final String[] TEXTS_kk = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null,
-        /* ~ morekeys_k */
-        // U+0451: "ё" CYRILLIC SMALL LETTER IO
-        /* morekeys_cyrillic_ie */ "\u0451",
-        /* keyspec_nordic_row1_11 ~ */
-        null, null, null, null,
-        /* ~ morekeys_nordic_row2_10 */
-        // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
-        /* keyspec_east_slavic_row1_9 */ "\u0449",
-        // U+044B: "ы" CYRILLIC SMALL LETTER YERU
-        /* keyspec_east_slavic_row2_2 */ "\u044B",
-        // U+044D: "э" CYRILLIC SMALL LETTER E
-        /* keyspec_east_slavic_row2_11 */ "\u044D",
-        // U+0438: "и" CYRILLIC SMALL LETTER I
-        /* keyspec_east_slavic_row3_5 */ "\u0438",
-        // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
-        /* morekeys_cyrillic_soft_sign */ "\u044A",
-        /* keyspec_symbols_1 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_w */
-        // U+0456: "і" CYRILLIC SMALL LETTER BYELORUSSIAN-UKRAINIAN I
-        /* morekeys_east_slavic_row2_2 */ "\u0456",
-        // U+04AF: "ү" CYRILLIC SMALL LETTER STRAIGHT U
-        // U+04B1: "ұ" CYRILLIC SMALL LETTER STRAIGHT U WITH STROKE
-        /* morekeys_cyrillic_u */ "\u04AF,\u04B1",
-        // U+04A3: "ң" CYRILLIC SMALL LETTER EN WITH DESCENDER
-        /* morekeys_cyrillic_en */ "\u04A3",
-        // U+0493: "ғ" CYRILLIC SMALL LETTER GHE WITH STROKE
-        /* morekeys_cyrillic_ghe */ "\u0493",
-        // U+04E9: "ө" CYRILLIC SMALL LETTER BARRED O
-        /* morekeys_cyrillic_o */ "\u04E9",
-        /* morekeys_cyrillic_i ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null,
-        /* ~ keyspec_x */
-        // U+04BB: "һ" CYRILLIC SMALL LETTER SHHA
-        /* morekeys_east_slavic_row2_11 */ "\u04BB",
-        // U+049B: "қ" CYRILLIC SMALL LETTER KA WITH DESCENDER
-        /* morekeys_cyrillic_ka */ "\u049B",
-        // U+04D9: "ә" CYRILLIC SMALL LETTER SCHWA
-        /* morekeys_cyrillic_a */ "\u04D9",
-    };
+    private static final String TEXTS_kk =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            // U+0451: "ё" CYRILLIC SMALL LETTER IO
+            + /* morekeys_cyrillic_ie */ "22=\u0451\u0000"
+            // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
+            + /* keyspec_east_slavic_row1_9 */ "27=\u0449\u0000"
+            // U+044B: "ы" CYRILLIC SMALL LETTER YERU
+            + /* keyspec_east_slavic_row2_2 */ "28=\u044B\u0000"
+            // U+044D: "э" CYRILLIC SMALL LETTER E
+            + /* keyspec_east_slavic_row2_11 */ "29=\u044D\u0000"
+            // U+0438: "и" CYRILLIC SMALL LETTER I
+            + /* keyspec_east_slavic_row3_5 */ "30=\u0438\u0000"
+            // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
+            + /* morekeys_cyrillic_soft_sign */ "31=\u044A\u0000"
+            // U+0456: "і" CYRILLIC SMALL LETTER BYELORUSSIAN-UKRAINIAN I
+            + /* morekeys_east_slavic_row2_2 */ "87=\u0456\u0000"
+            // U+04AF: "ү" CYRILLIC SMALL LETTER STRAIGHT U
+            // U+04B1: "ұ" CYRILLIC SMALL LETTER STRAIGHT U WITH STROKE
+            + /* morekeys_cyrillic_u */ "88=\u04AF,\u04B1\u0000"
+            // U+04A3: "ң" CYRILLIC SMALL LETTER EN WITH DESCENDER
+            + /* morekeys_cyrillic_en */ "89=\u04A3\u0000"
+            // U+0493: "ғ" CYRILLIC SMALL LETTER GHE WITH STROKE
+            + /* morekeys_cyrillic_ghe */ "90=\u0493\u0000"
+            // U+04E9: "ө" CYRILLIC SMALL LETTER BARRED O
+            + /* morekeys_cyrillic_o */ "91=\u04E9\u0000"
+            // U+04BB: "һ" CYRILLIC SMALL LETTER SHHA
+            + /* morekeys_east_slavic_row2_11 */ "126=\u04BB\u0000"
+            // U+049B: "қ" CYRILLIC SMALL LETTER KA WITH DESCENDER
+            + /* morekeys_cyrillic_ka */ "127=\u049B\u0000"
+            // U+04D9: "ә" CYRILLIC SMALL LETTER SCHWA
+            + /* morekeys_cyrillic_a */ "128=\u04D9\u0000";
 
     /* Locale km_KH: Khmer (Cambodia) */
-    private static final String[] TEXTS_km_KH = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+1780: "ក" KHMER LETTER KA
-        // U+1781: "ខ" KHMER LETTER KHA
-        // U+1782: "គ" KHMER LETTER KO
-        /* keylabel_to_alpha */ "\u1780\u1781\u1782",
-        /* morekeys_n ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null,
-        /* ~ morekeys_cyrillic_a */
-        // U+17DB: "៛" KHMER CURRENCY SYMBOL RIEL
-        /* morekeys_currency_dollar */ "\u17DB,\u00A2,\u00A3,\u20AC,\u00A5,\u20B1",
-    };
+    private static final String TEXTS_km_KH =
+            // Label for "switch to alphabetic" key.
+            // U+1780: "ក" KHMER LETTER KA
+            // U+1781: "ខ" KHMER LETTER KHA
+            // U+1782: "គ" KHMER LETTER KO
+            /* keylabel_to_alpha */ "5=\u1780\u1781\u1782\u0000"
+            // U+17DB: "៛" KHMER CURRENCY SYMBOL RIEL
+            + /* morekeys_currency_dollar */ "129=\u17DB,\u00A2,\u00A3,\u20AC,\u00A5,\u20B1\u0000";
 
     /* Locale kn_IN: Kannada (India) */
-    private static final String[] TEXTS_kn_IN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0C85: "ಅ" KANNADA LETTER A
-        // U+0C86: "ಆ" KANNADA LETTER AA
-        // U+0C87: "ಇ" KANNADA LETTER I
-        /* keylabel_to_alpha */ "\u0C85\u0C86\u0C87",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-    };
+    private static final String TEXTS_kn_IN =
+            // Label for "switch to alphabetic" key.
+            // U+0C85: "ಅ" KANNADA LETTER A
+            // U+0C86: "ಆ" KANNADA LETTER AA
+            // U+0C87: "ಇ" KANNADA LETTER I
+            /* keylabel_to_alpha */ "5=\u0C85\u0C86\u0C87\u0000"
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            + /* keyspec_currency */ "11=\u20B9\u0000";
 
     /* Locale ky: Kirghiz */
-    private static final String[] TEXTS_ky = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null,
-        /* ~ morekeys_k */
-        // U+0451: "ё" CYRILLIC SMALL LETTER IO
-        /* morekeys_cyrillic_ie */ "\u0451",
-        /* keyspec_nordic_row1_11 ~ */
-        null, null, null, null,
-        /* ~ morekeys_nordic_row2_10 */
-        // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
-        /* keyspec_east_slavic_row1_9 */ "\u0449",
-        // U+044B: "ы" CYRILLIC SMALL LETTER YERU
-        /* keyspec_east_slavic_row2_2 */ "\u044B",
-        // U+044D: "э" CYRILLIC SMALL LETTER E
-        /* keyspec_east_slavic_row2_11 */ "\u044D",
-        // U+0438: "и" CYRILLIC SMALL LETTER I
-        /* keyspec_east_slavic_row3_5 */ "\u0438",
-        // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
-        /* morekeys_cyrillic_soft_sign */ "\u044A",
-        /* keyspec_symbols_1 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_east_slavic_row2_2 */
-        // U+04AF: "ү" CYRILLIC SMALL LETTER STRAIGHT U
-        /* morekeys_cyrillic_u */ "\u04AF",
-        // U+04A3: "ң" CYRILLIC SMALL LETTER EN WITH DESCENDER
-        /* morekeys_cyrillic_en */ "\u04A3",
-        /* morekeys_cyrillic_ghe */ null,
-        // U+04E9: "ө" CYRILLIC SMALL LETTER BARRED O
-        /* morekeys_cyrillic_o */ "\u04E9",
-    };
+    private static final String TEXTS_ky =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            // U+0451: "ё" CYRILLIC SMALL LETTER IO
+            + /* morekeys_cyrillic_ie */ "22=\u0451\u0000"
+            // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
+            + /* keyspec_east_slavic_row1_9 */ "27=\u0449\u0000"
+            // U+044B: "ы" CYRILLIC SMALL LETTER YERU
+            + /* keyspec_east_slavic_row2_2 */ "28=\u044B\u0000"
+            // U+044D: "э" CYRILLIC SMALL LETTER E
+            + /* keyspec_east_slavic_row2_11 */ "29=\u044D\u0000"
+            // U+0438: "и" CYRILLIC SMALL LETTER I
+            + /* keyspec_east_slavic_row3_5 */ "30=\u0438\u0000"
+            // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
+            + /* morekeys_cyrillic_soft_sign */ "31=\u044A\u0000"
+            // U+04AF: "ү" CYRILLIC SMALL LETTER STRAIGHT U
+            + /* morekeys_cyrillic_u */ "88=\u04AF\u0000"
+            // U+04A3: "ң" CYRILLIC SMALL LETTER EN WITH DESCENDER
+            + /* morekeys_cyrillic_en */ "89=\u04A3\u0000"
+            // U+04E9: "ө" CYRILLIC SMALL LETTER BARRED O
+            + /* morekeys_cyrillic_o */ "91=\u04E9\u0000";
 
     /* Locale lb: Luxembourgish */
-    private static final String[] TEXTS_lb = {
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+0040: "@" COMMERCIAL AT
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E4,@,\u00E2,\u00E0,\u00E1,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u00F8,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,\u00FB,\u00F9,\u00FA,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        /* morekeys_i */ "\u00ED,\u00EC,\u00EE,\u00EF",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u00DF,\u015B,\u0161",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-    };
+    private static final String TEXTS_lb =
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+0040: "@" COMMERCIAL AT
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E4,@,\u00E2,\u00E0,\u00E1,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,\u00FB,\u00F9,\u00FA,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            + /* morekeys_i */ "4=\u00ED,\u00EC,\u00EE,\u00EF\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u00DF,\u015B,\u0161\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale lo_LA: Lao (Laos) */
-    private static final String[] TEXTS_lo_LA = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0E81: "ກ" LAO LETTER KO
-        // U+0E82: "ຂ" LAO LETTER KHO SUNG
-        // U+0E84: "ຄ" LAO LETTER KHO TAM
-        /* keylabel_to_alpha */ "\u0E81\u0E82\u0E84",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20AD: "₭" KIP SIGN
-        /* keyspec_currency */ "\u20AD",
-    };
+    private static final String TEXTS_lo_LA =
+            // Label for "switch to alphabetic" key.
+            // U+0E81: "ກ" LAO LETTER KO
+            // U+0E82: "ຂ" LAO LETTER KHO SUNG
+            // U+0E84: "ຄ" LAO LETTER KHO TAM
+            /* keylabel_to_alpha */ "5=\u0E81\u0E82\u0E84\u0000"
+            // U+20AD: "₭" KIP SIGN
+            + /* keyspec_currency */ "11=\u20AD\u0000";
 
     /* Locale lt: Lithuanian */
-    private static final String[] TEXTS_lt = {
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        /* morekeys_a */ "\u0105,\u00E4,\u0101,\u00E0,\u00E1,\u00E2,\u00E3,\u00E5,\u00E6",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* morekeys_o */ "\u00F6,\u00F5,\u00F2,\u00F3,\u00F4,\u0153,\u0151,\u00F8",
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        /* morekeys_e */ "\u0117,\u0119,\u0113,\u00E8,\u00E9,\u00EA,\u00EB,\u011B",
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        /* morekeys_u */ "\u016B,\u0173,\u00FC,\u016B,\u00F9,\u00FA,\u00FB,\u016F,\u0171",
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        /* morekeys_i */ "\u012F,\u012B,\u00EC,\u00ED,\u00EE,\u00EF,\u0131",
-        /* keylabel_to_alpha */ null,
-        // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u0146,\u00F1,\u0144",
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u00E7,\u0107",
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        /* morekeys_s */ "\u0161,\u00DF,\u015B,\u015F",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        /* morekeys_z */ "\u017E,\u017C,\u017A",
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        /* morekeys_d */ "\u010F",
-        // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        /* morekeys_t */ "\u0163,\u0165",
-        // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
-        // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
-        /* morekeys_l */ "\u013C,\u0142,\u013A,\u013E",
-        // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u0123,\u011F",
-        /* single_angle_quotes */ null,
-        /* double_angle_quotes */ null,
-        // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
-        /* morekeys_r */ "\u0157,\u0159,\u0155",
-        // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
-        /* morekeys_k */ "\u0137",
-    };
+    private static final String TEXTS_lt =
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            /* morekeys_a */ "0=\u0105,\u00E4,\u0101,\u00E0,\u00E1,\u00E2,\u00E3,\u00E5,\u00E6\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* morekeys_o */ "1=\u00F6,\u00F5,\u00F2,\u00F3,\u00F4,\u0153,\u0151,\u00F8\u0000"
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            + /* morekeys_e */ "2=\u0117,\u0119,\u0113,\u00E8,\u00E9,\u00EA,\u00EB,\u011B\u0000"
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            + /* morekeys_u */ "3=\u016B,\u0173,\u00FC,\u016B,\u00F9,\u00FA,\u00FB,\u016F,\u0171\u0000"
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            + /* morekeys_i */ "4=\u012F,\u012B,\u00EC,\u00ED,\u00EE,\u00EF,\u0131\u0000"
+            // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u0146,\u00F1,\u0144\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u010D,\u00E7,\u0107\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            + /* morekeys_s */ "9=\u0161,\u00DF,\u015B,\u015F\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            + /* morekeys_z */ "13=\u017E,\u017C,\u017A\u0000"
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            + /* morekeys_d */ "14=\u010F\u0000"
+            // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            + /* morekeys_t */ "15=\u0163,\u0165\u0000"
+            // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
+            // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
+            + /* morekeys_l */ "16=\u013C,\u0142,\u013A,\u013E\u0000"
+            // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u0123,\u011F\u0000"
+            // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
+            + /* morekeys_r */ "20=\u0157,\u0159,\u0155\u0000"
+            // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
+            + /* morekeys_k */ "21=\u0137\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale lv: Latvian */
-    private static final String[] TEXTS_lv = {
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        /* morekeys_a */ "\u0101,\u00E0,\u00E1,\u00E2,\u00E3,\u00E4,\u00E5,\u00E6,\u0105",
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* morekeys_o */ "\u00F2,\u00F3,\u00F4,\u00F5,\u00F6,\u0153,\u0151,\u00F8",
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        /* morekeys_e */ "\u0113,\u0117,\u00E8,\u00E9,\u00EA,\u00EB,\u0119,\u011B",
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        /* morekeys_u */ "\u016B,\u0173,\u00F9,\u00FA,\u00FB,\u00FC,\u016F,\u0171",
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        /* morekeys_i */ "\u012B,\u012F,\u00EC,\u00ED,\u00EE,\u00EF,\u0131",
-        /* keylabel_to_alpha */ null,
-        // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u0146,\u00F1,\u0144",
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u00E7,\u0107",
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        /* morekeys_s */ "\u0161,\u00DF,\u015B,\u015F",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        /* morekeys_z */ "\u017E,\u017C,\u017A",
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        /* morekeys_d */ "\u010F",
-        // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        /* morekeys_t */ "\u0163,\u0165",
-        // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
-        // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
-        /* morekeys_l */ "\u013C,\u0142,\u013A,\u013E",
-        // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u0123,\u011F",
-        /* single_angle_quotes */ null,
-        /* double_angle_quotes */ null,
-        // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
-        /* morekeys_r */ "\u0157,\u0159,\u0155",
-        // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
-        /* morekeys_k */ "\u0137",
-    };
+    private static final String TEXTS_lv =
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            /* morekeys_a */ "0=\u0101,\u00E0,\u00E1,\u00E2,\u00E3,\u00E4,\u00E5,\u00E6,\u0105\u0000"
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* morekeys_o */ "1=\u00F2,\u00F3,\u00F4,\u00F5,\u00F6,\u0153,\u0151,\u00F8\u0000"
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            + /* morekeys_e */ "2=\u0113,\u0117,\u00E8,\u00E9,\u00EA,\u00EB,\u0119,\u011B\u0000"
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            + /* morekeys_u */ "3=\u016B,\u0173,\u00F9,\u00FA,\u00FB,\u00FC,\u016F,\u0171\u0000"
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            + /* morekeys_i */ "4=\u012B,\u012F,\u00EC,\u00ED,\u00EE,\u00EF,\u0131\u0000"
+            // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u0146,\u00F1,\u0144\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u010D,\u00E7,\u0107\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            + /* morekeys_s */ "9=\u0161,\u00DF,\u015B,\u015F\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            + /* morekeys_z */ "13=\u017E,\u017C,\u017A\u0000"
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            + /* morekeys_d */ "14=\u010F\u0000"
+            // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            + /* morekeys_t */ "15=\u0163,\u0165\u0000"
+            // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
+            // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
+            + /* morekeys_l */ "16=\u013C,\u0142,\u013A,\u013E\u0000"
+            // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u0123,\u011F\u0000"
+            // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
+            + /* morekeys_r */ "20=\u0157,\u0159,\u0155\u0000"
+            // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
+            + /* morekeys_k */ "21=\u0137\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale mk: Macedonian */
-    private static final String[] TEXTS_mk = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_k */
-        // U+0450: "ѐ" CYRILLIC SMALL LETTER IE WITH GRAVE
-        /* morekeys_cyrillic_ie */ "\u0450",
-        /* keyspec_nordic_row1_11 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_cyrillic_o */
-        // U+045D: "ѝ" CYRILLIC SMALL LETTER I WITH GRAVE
-        /* morekeys_cyrillic_i */ "\u045D",
-        // U+0455: "ѕ" CYRILLIC SMALL LETTER DZE
-        /* keyspec_south_slavic_row1_6 */ "\u0455",
-        // U+045C: "ќ" CYRILLIC SMALL LETTER KJE
-        /* keyspec_south_slavic_row2_11 */ "\u045C",
-        // U+0437: "з" CYRILLIC SMALL LETTER ZE
-        /* keyspec_south_slavic_row3_1 */ "\u0437",
-        // U+0453: "ѓ" CYRILLIC SMALL LETTER GJE
-        /* keyspec_south_slavic_row3_8 */ "\u0453",
-    };
+    private static final String TEXTS_mk =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+0450: "ѐ" CYRILLIC SMALL LETTER IE WITH GRAVE
+            + /* morekeys_cyrillic_ie */ "22=\u0450\u0000"
+            // U+045D: "ѝ" CYRILLIC SMALL LETTER I WITH GRAVE
+            + /* morekeys_cyrillic_i */ "92=\u045D\u0000"
+            // U+0455: "ѕ" CYRILLIC SMALL LETTER DZE
+            + /* keyspec_south_slavic_row1_6 */ "93=\u0455\u0000"
+            // U+045C: "ќ" CYRILLIC SMALL LETTER KJE
+            + /* keyspec_south_slavic_row2_11 */ "94=\u045C\u0000"
+            // U+0437: "з" CYRILLIC SMALL LETTER ZE
+            + /* keyspec_south_slavic_row3_1 */ "95=\u0437\u0000"
+            // U+0453: "ѓ" CYRILLIC SMALL LETTER GJE
+            + /* keyspec_south_slavic_row3_8 */ "96=\u0453\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale ml_IN: Malayalam (India) */
-    private static final String[] TEXTS_ml_IN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0D05: "അ" MALAYALAM LETTER A
-        /* keylabel_to_alpha */ "\u0D05",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-    };
+    private static final String TEXTS_ml_IN =
+            // Label for "switch to alphabetic" key.
+            // U+0D05: "അ" MALAYALAM LETTER A
+            /* keylabel_to_alpha */ "5=\u0D05\u0000"
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            + /* keyspec_currency */ "11=\u20B9\u0000";
 
     /* Locale mn_MN: Mongolian (Mongolia) */
-    private static final String[] TEXTS_mn_MN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20AE: "₮" TUGRIK SIGN
-        /* keyspec_currency */ "\u20AE",
-    };
+    private static final String TEXTS_mn_MN =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            // U+20AE: "₮" TUGRIK SIGN
+            + /* keyspec_currency */ "11=\u20AE\u0000";
 
     /* Locale mr_IN: Marathi (India) */
-    private static final String[] TEXTS_mr_IN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0915: "क" DEVANAGARI LETTER KA
-        // U+0916: "ख" DEVANAGARI LETTER KHA
-        // U+0917: "ग" DEVANAGARI LETTER GA
-        /* keylabel_to_alpha */ "\u0915\u0916\u0917",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null,
-        /* ~ morekeys_cyrillic_soft_sign */
-        // U+0967: "१" DEVANAGARI DIGIT ONE
-        /* keyspec_symbols_1 */ "\u0967",
-        // U+0968: "२" DEVANAGARI DIGIT TWO
-        /* keyspec_symbols_2 */ "\u0968",
-        // U+0969: "३" DEVANAGARI DIGIT THREE
-        /* keyspec_symbols_3 */ "\u0969",
-        // U+096A: "४" DEVANAGARI DIGIT FOUR
-        /* keyspec_symbols_4 */ "\u096A",
-        // U+096B: "५" DEVANAGARI DIGIT FIVE
-        /* keyspec_symbols_5 */ "\u096B",
-        // U+096C: "६" DEVANAGARI DIGIT SIX
-        /* keyspec_symbols_6 */ "\u096C",
-        // U+096D: "७" DEVANAGARI DIGIT SEVEN
-        /* keyspec_symbols_7 */ "\u096D",
-        // U+096E: "८" DEVANAGARI DIGIT EIGHT
-        /* keyspec_symbols_8 */ "\u096E",
-        // U+096F: "९" DEVANAGARI DIGIT NINE
-        /* keyspec_symbols_9 */ "\u096F",
-        // U+0966: "०" DEVANAGARI DIGIT ZERO
-        /* keyspec_symbols_0 */ "\u0966",
-        // Label for "switch to symbols" key.
-        /* keylabel_to_symbol */ "?\u0967\u0968\u0969",
-        /* additional_morekeys_symbols_1 */ "1",
-        /* additional_morekeys_symbols_2 */ "2",
-        /* additional_morekeys_symbols_3 */ "3",
-        /* additional_morekeys_symbols_4 */ "4",
-        /* additional_morekeys_symbols_5 */ "5",
-        /* additional_morekeys_symbols_6 */ "6",
-        /* additional_morekeys_symbols_7 */ "7",
-        /* additional_morekeys_symbols_8 */ "8",
-        /* additional_morekeys_symbols_9 */ "9",
-        /* additional_morekeys_symbols_0 */ "0",
-    };
+    private static final String TEXTS_mr_IN =
+            // Label for "switch to alphabetic" key.
+            // U+0915: "क" DEVANAGARI LETTER KA
+            // U+0916: "ख" DEVANAGARI LETTER KHA
+            // U+0917: "ग" DEVANAGARI LETTER GA
+            /* keylabel_to_alpha */ "5=\u0915\u0916\u0917\u0000"
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            + /* keyspec_currency */ "11=\u20B9\u0000"
+            // U+0967: "१" DEVANAGARI DIGIT ONE
+            + /* keyspec_symbols_1 */ "32=\u0967\u0000"
+            // U+0968: "२" DEVANAGARI DIGIT TWO
+            + /* keyspec_symbols_2 */ "33=\u0968\u0000"
+            // U+0969: "३" DEVANAGARI DIGIT THREE
+            + /* keyspec_symbols_3 */ "34=\u0969\u0000"
+            // U+096A: "४" DEVANAGARI DIGIT FOUR
+            + /* keyspec_symbols_4 */ "35=\u096A\u0000"
+            // U+096B: "५" DEVANAGARI DIGIT FIVE
+            + /* keyspec_symbols_5 */ "36=\u096B\u0000"
+            // U+096C: "६" DEVANAGARI DIGIT SIX
+            + /* keyspec_symbols_6 */ "37=\u096C\u0000"
+            // U+096D: "७" DEVANAGARI DIGIT SEVEN
+            + /* keyspec_symbols_7 */ "38=\u096D\u0000"
+            // U+096E: "८" DEVANAGARI DIGIT EIGHT
+            + /* keyspec_symbols_8 */ "39=\u096E\u0000"
+            // U+096F: "९" DEVANAGARI DIGIT NINE
+            + /* keyspec_symbols_9 */ "40=\u096F\u0000"
+            // U+0966: "०" DEVANAGARI DIGIT ZERO
+            + /* keyspec_symbols_0 */ "41=\u0966\u0000"
+            // Label for "switch to symbols" key.
+            + /* keylabel_to_symbol */ "42=?\u0967\u0968\u0969\u0000"
+            + /* additional_morekeys_symbols_1 */ "43=1\u0000"
+            + /* additional_morekeys_symbols_2 */ "44=2\u0000"
+            + /* additional_morekeys_symbols_3 */ "45=3\u0000"
+            + /* additional_morekeys_symbols_4 */ "46=4\u0000"
+            + /* additional_morekeys_symbols_5 */ "47=5\u0000"
+            + /* additional_morekeys_symbols_6 */ "48=6\u0000"
+            + /* additional_morekeys_symbols_7 */ "49=7\u0000"
+            + /* additional_morekeys_symbols_8 */ "50=8\u0000"
+            + /* additional_morekeys_symbols_9 */ "51=9\u0000"
+            + /* additional_morekeys_symbols_0 */ "52=0\u0000";
 
     /* Locale my_MM: Burmese (Myanmar) */
-    private static final String[] TEXTS_my_MM = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+1000: "က" MYANMAR LETTER KA
-        // U+1001: "ခ" MYANMAR LETTER KHA
-        // U+1002: "ဂ" MYANMAR LETTER GA
-        /* keylabel_to_alpha */ "\u1000\u1001\u1002",
-        /* morekeys_n ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null,
-        /* ~ morekeys_nordic_row2_11 */
-        /* morekeys_punctuation */ "!autoColumnOrder!9,\u104A,.,?,!,#,),(,/,;,...,',@,:,-,\",+,\\%,&",
-        // U+104A: "၊" MYANMAR SIGN LITTLE SECTION
-        // U+104B: "။" MYANMAR SIGN SECTION
-        /* keyspec_tablet_comma */ "\u104A",
-        /* keyspec_period */ "\u104B",
-        /* morekeys_period */ null,
-        /* keyspec_tablet_period */ "\u104B",
-        /* keyspec_swiss_row1_11 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null,
-        /* ~ keyspec_comma */
-        /* morekeys_tablet_comma */ "\\,",
-        /* keyhintlabel_period */ "\u104A",
-        /* morekeys_question ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ keyspec_south_slavic_row3_8 */
-        /* morekeys_tablet_punctuation */ "!autoColumnOrder!8,.,',#,),(,/,;,@,...,:,-,\",+,\\%,&",
-    };
+    private static final String TEXTS_my_MM =
+            // Label for "switch to alphabetic" key.
+            // U+1000: "က" MYANMAR LETTER KA
+            // U+1001: "ခ" MYANMAR LETTER KHA
+            // U+1002: "ဂ" MYANMAR LETTER GA
+            /* keylabel_to_alpha */ "5=\u1000\u1001\u1002\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!8,.,',#,),(,/,;,@,...,:,-,\",+,\\%,&\u0000"
+            + /* morekeys_punctuation */ "55=!autoColumnOrder!9,\u104A,.,?,!,#,),(,/,;,...,',@,:,-,\",+,\\%,&\u0000"
+            // U+104A: "၊" MYANMAR SIGN LITTLE SECTION
+            // U+104B: "။" MYANMAR SIGN SECTION
+            + /* keyspec_tablet_comma */ "56=\u104A\u0000"
+            + /* keyspec_period */ "57=\u104B\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!9,\u104A,.,?,!,#,),(,/,;,...,',@,:,-,\",+,\\%,&\u0000"
+            + /* keyspec_tablet_period */ "59=\u104B\u0000"
+            + /* morekeys_tablet_comma */ "82=\\,\u0000"
+            + /* keyhintlabel_period */ "83=\u104A\u0000"
+            + /* morekeys_tablet_punctuation */ "97=!autoColumnOrder!8,.,',#,),(,/,;,@,...,:,-,\",+,\\%,&\u0000";
 
     /* Locale nb: Norwegian Bokmål */
-    private static final String[] TEXTS_nb = {
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E5,\u00E6,\u00E4,\u00E0,\u00E1,\u00E2,\u00E3,\u0101",
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F8,\u00F6,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,\u00FB,\u00F9,\u00FA,\u016B",
-        /* morekeys_i ~ */
-        null, null, null, null,
-        /* ~ morekeys_c */
-        /* double_quotes */ "!text/double_9qm_rqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_rqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_cyrillic_ie */
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        /* keyspec_nordic_row1_11 */ "\u00E5",
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* keyspec_nordic_row2_10 */ "\u00F8",
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        /* keyspec_nordic_row2_11 */ "\u00E6",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* morekeys_nordic_row2_10 */ "\u00F6",
-        /* keyspec_east_slavic_row1_9 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_tablet_period */
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* morekeys_nordic_row2_11 */ "\u00E4",
-    };
+    private static final String TEXTS_nb =
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E5,\u00E6,\u00E4,\u00E0,\u00E1,\u00E2,\u00E3,\u0101\u0000"
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F8,\u00F6,\u00F4,\u00F2,\u00F3,\u00F5,\u0153,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,\u0119,\u0117,\u0113\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,\u00FB,\u00F9,\u00FA,\u016B\u0000"
+            + /* double_quotes */ "8=\u201C,\u201E,\u201D\u0000"
+            + /* single_quotes */ "10=\u2018,\u201A,\u2019\u0000"
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            + /* keyspec_nordic_row1_11 */ "23=\u00E5\u0000"
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* keyspec_nordic_row2_10 */ "24=\u00F8\u0000"
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            + /* keyspec_nordic_row2_11 */ "25=\u00E6\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* morekeys_nordic_row2_10 */ "26=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* morekeys_nordic_row2_11 */ "54=\u00E4\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u201A,\u2019,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201E,\u201D,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201E,\u201D,\u2018,\u201A,\u2019,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale ne_NP: Nepali (Nepal) */
-    private static final String[] TEXTS_ne_NP = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0915: "क" DEVANAGARI LETTER KA
-        // U+0916: "ख" DEVANAGARI LETTER KHA
-        // U+0917: "ग" DEVANAGARI LETTER GA
-        /* keylabel_to_alpha */ "\u0915\u0916\u0917",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+0930/U+0941/U+002E "रु." NEPALESE RUPEE SIGN
-        /* keyspec_currency */ "\u0930\u0941.",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null,
-        /* ~ morekeys_cyrillic_soft_sign */
-        // U+0967: "१" DEVANAGARI DIGIT ONE
-        /* keyspec_symbols_1 */ "\u0967",
-        // U+0968: "२" DEVANAGARI DIGIT TWO
-        /* keyspec_symbols_2 */ "\u0968",
-        // U+0969: "३" DEVANAGARI DIGIT THREE
-        /* keyspec_symbols_3 */ "\u0969",
-        // U+096A: "४" DEVANAGARI DIGIT FOUR
-        /* keyspec_symbols_4 */ "\u096A",
-        // U+096B: "५" DEVANAGARI DIGIT FIVE
-        /* keyspec_symbols_5 */ "\u096B",
-        // U+096C: "६" DEVANAGARI DIGIT SIX
-        /* keyspec_symbols_6 */ "\u096C",
-        // U+096D: "७" DEVANAGARI DIGIT SEVEN
-        /* keyspec_symbols_7 */ "\u096D",
-        // U+096E: "८" DEVANAGARI DIGIT EIGHT
-        /* keyspec_symbols_8 */ "\u096E",
-        // U+096F: "९" DEVANAGARI DIGIT NINE
-        /* keyspec_symbols_9 */ "\u096F",
-        // U+0966: "०" DEVANAGARI DIGIT ZERO
-        /* keyspec_symbols_0 */ "\u0966",
-        // Label for "switch to symbols" key.
-        /* keylabel_to_symbol */ "?\u0967\u0968\u0969",
-        /* additional_morekeys_symbols_1 */ "1",
-        /* additional_morekeys_symbols_2 */ "2",
-        /* additional_morekeys_symbols_3 */ "3",
-        /* additional_morekeys_symbols_4 */ "4",
-        /* additional_morekeys_symbols_5 */ "5",
-        /* additional_morekeys_symbols_6 */ "6",
-        /* additional_morekeys_symbols_7 */ "7",
-        /* additional_morekeys_symbols_8 */ "8",
-        /* additional_morekeys_symbols_9 */ "9",
-        /* additional_morekeys_symbols_0 */ "0",
-        /* morekeys_tablet_period */ "!autoColumnOrder!8,.,\\,,',#,),(,/,;,@,:,-,\",+,\\%,&",
-        /* morekeys_nordic_row2_11 ~ */
-        null, null, null,
-        /* ~ keyspec_tablet_comma */
-        // U+0964: "।" DEVANAGARI DANDA
-        /* keyspec_period */ "\u0964",
-        /* morekeys_period */ "!autoColumnOrder!9,.,\\,,?,!,#,),(,/,;,',@,:,-,\",+,\\%,&",
-        /* keyspec_tablet_period */ "\u0964",
-    };
+    private static final String TEXTS_ne_NP =
+            // Label for "switch to alphabetic" key.
+            // U+0915: "क" DEVANAGARI LETTER KA
+            // U+0916: "ख" DEVANAGARI LETTER KHA
+            // U+0917: "ग" DEVANAGARI LETTER GA
+            /* keylabel_to_alpha */ "5=\u0915\u0916\u0917\u0000"
+            // U+0930/U+0941/U+002E "रु." NEPALESE RUPEE SIGN
+            + /* keyspec_currency */ "11=\u0930\u0941.\u0000"
+            // U+0967: "१" DEVANAGARI DIGIT ONE
+            + /* keyspec_symbols_1 */ "32=\u0967\u0000"
+            // U+0968: "२" DEVANAGARI DIGIT TWO
+            + /* keyspec_symbols_2 */ "33=\u0968\u0000"
+            // U+0969: "३" DEVANAGARI DIGIT THREE
+            + /* keyspec_symbols_3 */ "34=\u0969\u0000"
+            // U+096A: "४" DEVANAGARI DIGIT FOUR
+            + /* keyspec_symbols_4 */ "35=\u096A\u0000"
+            // U+096B: "५" DEVANAGARI DIGIT FIVE
+            + /* keyspec_symbols_5 */ "36=\u096B\u0000"
+            // U+096C: "६" DEVANAGARI DIGIT SIX
+            + /* keyspec_symbols_6 */ "37=\u096C\u0000"
+            // U+096D: "७" DEVANAGARI DIGIT SEVEN
+            + /* keyspec_symbols_7 */ "38=\u096D\u0000"
+            // U+096E: "८" DEVANAGARI DIGIT EIGHT
+            + /* keyspec_symbols_8 */ "39=\u096E\u0000"
+            // U+096F: "९" DEVANAGARI DIGIT NINE
+            + /* keyspec_symbols_9 */ "40=\u096F\u0000"
+            // U+0966: "०" DEVANAGARI DIGIT ZERO
+            + /* keyspec_symbols_0 */ "41=\u0966\u0000"
+            // Label for "switch to symbols" key.
+            + /* keylabel_to_symbol */ "42=?\u0967\u0968\u0969\u0000"
+            + /* additional_morekeys_symbols_1 */ "43=1\u0000"
+            + /* additional_morekeys_symbols_2 */ "44=2\u0000"
+            + /* additional_morekeys_symbols_3 */ "45=3\u0000"
+            + /* additional_morekeys_symbols_4 */ "46=4\u0000"
+            + /* additional_morekeys_symbols_5 */ "47=5\u0000"
+            + /* additional_morekeys_symbols_6 */ "48=6\u0000"
+            + /* additional_morekeys_symbols_7 */ "49=7\u0000"
+            + /* additional_morekeys_symbols_8 */ "50=8\u0000"
+            + /* additional_morekeys_symbols_9 */ "51=9\u0000"
+            + /* additional_morekeys_symbols_0 */ "52=0\u0000"
+            + /* morekeys_tablet_period */ "53=!autoColumnOrder!8,.,\\,,',#,),(,/,;,@,:,-,\",+,\\%,&\u0000"
+            // U+0964: "।" DEVANAGARI DANDA
+            + /* keyspec_period */ "57=\u0964\u0000"
+            + /* morekeys_period */ "58=!autoColumnOrder!9,.,\\,,?,!,#,),(,/,;,',@,:,-,\",+,\\%,&\u0000"
+            + /* keyspec_tablet_period */ "59=\u0964\u0000";
 
     /* Locale nl: Dutch */
-    private static final String[] TEXTS_nl = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E1,\u00E4,\u00E2,\u00E0,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00EB,\u00EA,\u00E8,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00FB,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B,\u0133",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_rqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_rqm",
-        /* keyspec_currency */ null,
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_y */ "\u0133",
-    };
+    private static final String TEXTS_nl =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E1,\u00E4,\u00E2,\u00E0,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00EB,\u00EA,\u00E8,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00FB,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B,\u0133\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            + /* double_quotes */ "8=\u201C,\u201E,\u201D\u0000"
+            + /* single_quotes */ "10=\u2018,\u201A,\u2019\u0000"
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_y */ "12=\u0133\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u201A,\u2019,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201E,\u201D,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201E,\u201D,\u2018,\u201A,\u2019,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale pl: Polish */
-    private static final String[] TEXTS_pl = {
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u0105,\u00E1,\u00E0,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D",
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u0119,\u00E8,\u00E9,\u00EA,\u00EB,\u0117,\u0113",
-        /* morekeys_u ~ */
-        null, null, null,
-        /* ~ keylabel_to_alpha */
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u0144,\u00F1",
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u0107,\u00E7,\u010D",
-        /* double_quotes */ "!text/double_9qm_rqm",
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u015B,\u00DF,\u0161",
-        /* single_quotes */ "!text/single_9qm_rqm",
-        /* keyspec_currency */ null,
-        /* morekeys_y */ null,
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017C,\u017A,\u017E",
-        /* morekeys_d */ null,
-        /* morekeys_t */ null,
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "\u0142",
-    };
+    private static final String TEXTS_pl =
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u0105,\u00E1,\u00E0,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F3,\u00F6,\u00F4,\u00F2,\u00F5,\u0153,\u00F8,\u014D\u0000"
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u0119,\u00E8,\u00E9,\u00EA,\u00EB,\u0117,\u0113\u0000"
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u0144,\u00F1\u0000"
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u0107,\u00E7,\u010D\u0000"
+            + /* double_quotes */ "8=\u201C,\u201E,\u201D\u0000"
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u015B,\u00DF,\u0161\u0000"
+            + /* single_quotes */ "10=\u2018,\u201A,\u2019\u0000"
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017C,\u017A,\u017E\u0000"
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=\u0142\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u201A,\u2019,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201E,\u201D,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201E,\u201D,\u2018,\u201A,\u2019,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale pt: Portuguese */
-    private static final String[] TEXTS_pt = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E1,\u00E3,\u00E0,\u00E2,\u00E4,\u00E5,\u00E6,\u00AA",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F3,\u00F5,\u00F4,\u00F2,\u00F6,\u0153,\u00F8,\u014D,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        /* morekeys_e */ "\u00E9,\u00EA,\u00E8,\u0119,\u0117,\u0113,\u00EB",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EE,\u00EC,\u00EF,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        /* morekeys_n */ null,
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u00E7,\u010D,\u0107",
-    };
+    private static final String TEXTS_pt =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E1,\u00E3,\u00E0,\u00E2,\u00E4,\u00E5,\u00E6,\u00AA\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F3,\u00F5,\u00F4,\u00F2,\u00F6,\u0153,\u00F8,\u014D,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            + /* morekeys_e */ "2=\u00E9,\u00EA,\u00E8,\u0119,\u0117,\u0113,\u00EB\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EE,\u00EC,\u00EF,\u012F,\u012B\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u00E7,\u010D,\u0107\u0000";
 
     /* Locale rm: Raeto-Romance */
-    private static final String[] TEXTS_rm = {
-        /* morekeys_a */ null,
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* morekeys_o */ "\u00F2,\u00F3,\u00F6,\u00F4,\u00F5,\u0153,\u00F8",
-    };
+    private static final String TEXTS_rm =
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            /* morekeys_o */ "1=\u00F2,\u00F3,\u00F6,\u00F4,\u00F5,\u0153,\u00F8\u0000";
 
     /* Locale ro: Romanian */
-    private static final String[] TEXTS_ro = {
-        // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u0103,\u00E2,\u00E3,\u00E0,\u00E1,\u00E4,\u00E6,\u00E5,\u0101",
-        /* morekeys_o ~ */
-        null, null, null,
-        /* ~ morekeys_u */
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B",
-        /* keylabel_to_alpha ~ */
-        null, null, null,
-        /* ~ morekeys_c */
-        /* double_quotes */ "!text/double_9qm_rqm",
-        // U+0219: "ș" LATIN SMALL LETTER S WITH COMMA BELOW
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u0219,\u00DF,\u015B,\u0161",
-        /* single_quotes */ "!text/single_9qm_rqm",
-        /* keyspec_currency ~ */
-        null, null, null, null,
-        /* ~ morekeys_d */
-        // U+021B: "ț" LATIN SMALL LETTER T WITH COMMA BELOW
-        /* morekeys_t */ "\u021B",
-    };
+    private static final String TEXTS_ro =
+            // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u0103,\u00E2,\u00E3,\u00E0,\u00E1,\u00E4,\u00E6,\u00E5,\u0101\u0000"
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B\u0000"
+            + /* double_quotes */ "8=\u201C,\u201E,\u201D\u0000"
+            // U+0219: "ș" LATIN SMALL LETTER S WITH COMMA BELOW
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u0219,\u00DF,\u015B,\u0161\u0000"
+            + /* single_quotes */ "10=\u2018,\u201A,\u2019\u0000"
+            // U+021B: "ț" LATIN SMALL LETTER T WITH COMMA BELOW
+            + /* morekeys_t */ "15=\u021B\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2018,\u201A,\u2019,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201C,\u201E,\u201D,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201C,\u201E,\u201D,\u2018,\u201A,\u2019,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale ru: Russian */
-    private static final String[] TEXTS_ru = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_k */
-        // U+0451: "ё" CYRILLIC SMALL LETTER IO
-        /* morekeys_cyrillic_ie */ "\u0451",
-        /* keyspec_nordic_row1_11 ~ */
-        null, null, null, null,
-        /* ~ morekeys_nordic_row2_10 */
-        // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
-        /* keyspec_east_slavic_row1_9 */ "\u0449",
-        // U+044B: "ы" CYRILLIC SMALL LETTER YERU
-        /* keyspec_east_slavic_row2_2 */ "\u044B",
-        // U+044D: "э" CYRILLIC SMALL LETTER E
-        /* keyspec_east_slavic_row2_11 */ "\u044D",
-        // U+0438: "и" CYRILLIC SMALL LETTER I
-        /* keyspec_east_slavic_row3_5 */ "\u0438",
-        // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
-        /* morekeys_cyrillic_soft_sign */ "\u044A",
-    };
+    private static final String TEXTS_ru =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+0451: "ё" CYRILLIC SMALL LETTER IO
+            + /* morekeys_cyrillic_ie */ "22=\u0451\u0000"
+            // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
+            + /* keyspec_east_slavic_row1_9 */ "27=\u0449\u0000"
+            // U+044B: "ы" CYRILLIC SMALL LETTER YERU
+            + /* keyspec_east_slavic_row2_2 */ "28=\u044B\u0000"
+            // U+044D: "э" CYRILLIC SMALL LETTER E
+            + /* keyspec_east_slavic_row2_11 */ "29=\u044D\u0000"
+            // U+0438: "и" CYRILLIC SMALL LETTER I
+            + /* keyspec_east_slavic_row3_5 */ "30=\u0438\u0000"
+            // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
+            + /* morekeys_cyrillic_soft_sign */ "31=\u044A\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale si_LK: Sinhalese (Sri Lanka) */
-    private static final String[] TEXTS_si_LK = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0D85: "අ" SINHALA LETTER AYANNA
-        // U+0D86: "ආ" SINHALA LETTER AAYANNA
-        /* keylabel_to_alpha */ "\u0D85,\u0D86",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+0DBB/U+0DD4: "රු" SINHALA LETTER RAYANNA/SINHALA VOWEL SIGN KETTI PAA-PILLA
-        /* keyspec_currency */ "\u0DBB\u0DD4",
-    };
+    private static final String TEXTS_si_LK =
+            // Label for "switch to alphabetic" key.
+            // U+0D85: "අ" SINHALA LETTER AYANNA
+            // U+0D86: "ආ" SINHALA LETTER AAYANNA
+            /* keylabel_to_alpha */ "5=\u0D85,\u0D86\u0000"
+            // U+0DBB/U+0DD4: "රු" SINHALA LETTER RAYANNA/SINHALA VOWEL SIGN KETTI PAA-PILLA
+            + /* keyspec_currency */ "11=\u0DBB\u0DD4\u0000";
 
     /* Locale sk: Slovak */
-    private static final String[] TEXTS_sk = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        /* morekeys_a */ "\u00E1,\u00E4,\u0101,\u00E0,\u00E2,\u00E3,\u00E5,\u00E6,\u0105",
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        /* morekeys_o */ "\u00F4,\u00F3,\u00F6,\u00F2,\u00F5,\u0153,\u0151,\u00F8",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        /* morekeys_e */ "\u00E9,\u011B,\u0113,\u0117,\u00E8,\u00EA,\u00EB,\u0119",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        /* morekeys_u */ "\u00FA,\u016F,\u00FC,\u016B,\u0173,\u00F9,\u00FB,\u0171",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        /* morekeys_i */ "\u00ED,\u012B,\u012F,\u00EC,\u00EE,\u00EF,\u0131",
-        /* keylabel_to_alpha */ null,
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u0148,\u0146,\u00F1,\u0144",
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u00E7,\u0107",
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        /* morekeys_s */ "\u0161,\u00DF,\u015B,\u015F",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        /* morekeys_z */ "\u017E,\u017C,\u017A",
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        /* morekeys_d */ "\u010F",
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
-        /* morekeys_t */ "\u0165,\u0163",
-        // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
-        // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
-        // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "\u013E,\u013A,\u013C,\u0142",
-        // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u0123,\u011F",
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-        // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
-        /* morekeys_r */ "\u0155,\u0159,\u0157",
-        // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
-        /* morekeys_k */ "\u0137",
-    };
+    private static final String TEXTS_sk =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            /* morekeys_a */ "0=\u00E1,\u00E4,\u0101,\u00E0,\u00E2,\u00E3,\u00E5,\u00E6,\u0105\u0000"
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            + /* morekeys_o */ "1=\u00F4,\u00F3,\u00F6,\u00F2,\u00F5,\u0153,\u0151,\u00F8\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            + /* morekeys_e */ "2=\u00E9,\u011B,\u0113,\u0117,\u00E8,\u00EA,\u00EB,\u0119\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            + /* morekeys_u */ "3=\u00FA,\u016F,\u00FC,\u016B,\u0173,\u00F9,\u00FB,\u0171\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            + /* morekeys_i */ "4=\u00ED,\u012B,\u012F,\u00EC,\u00EE,\u00EF,\u0131\u0000"
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u0148,\u0146,\u00F1,\u0144\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u010D,\u00E7,\u0107\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            + /* morekeys_s */ "9=\u0161,\u00DF,\u015B,\u015F\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            + /* morekeys_z */ "13=\u017E,\u017C,\u017A\u0000"
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            + /* morekeys_d */ "14=\u010F\u0000"
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
+            + /* morekeys_t */ "15=\u0165,\u0163\u0000"
+            // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
+            // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
+            // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=\u013E,\u013A,\u013C,\u0142\u0000"
+            // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u0123,\u011F\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
+            + /* morekeys_r */ "20=\u0155,\u0159,\u0157\u0000"
+            // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
+            + /* morekeys_k */ "21=\u0137\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale sl: Slovenian */
-    private static final String[] TEXTS_sl = {
-        /* morekeys_a ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_n */
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u0107",
-        /* double_quotes */ "!text/double_9qm_lqm",
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u0161",
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency */ null,
-        /* morekeys_y */ null,
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017E",
-        // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
-        /* morekeys_d */ "\u0111",
-        /* morekeys_t ~ */
-        null, null, null,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-    };
+    private static final String TEXTS_sl =
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            /* morekeys_c */ "7=\u010D,\u0107\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u0161\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017E\u0000"
+            // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
+            + /* morekeys_d */ "14=\u0111\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale sr: Serbian */
-    private static final String[] TEXTS_sr = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // END: More keys definitions for Serbian (Cyrillic)
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-        /* keyspec_currency ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_g */
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-        /* morekeys_r */ null,
-        /* morekeys_k */ null,
-        // U+0450: "ѐ" CYRILLIC SMALL LETTER IE WITH GRAVE
-        /* morekeys_cyrillic_ie */ "\u0450",
-        /* keyspec_nordic_row1_11 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_cyrillic_o */
-        // U+045D: "ѝ" CYRILLIC SMALL LETTER I WITH GRAVE
-        /* morekeys_cyrillic_i */ "\u045D",
-        // TODO: Move these to sr-Latn once we can handle IETF language tag with script name specified.
-        // BEGIN: More keys definitions for Serbian (Latin)
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // <string name="morekeys_s">&#x0161;,&#x00DF;,&#x015B;</string>
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // <string name="morekeys_c">&#x010D;,&#x00E7;,&#x0107;</string>
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        // <string name="morekeys_d">&#x010F;</string>
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // <string name="morekeys_z">&#x017E;,&#x017A;,&#x017C;</string>
-        // END: More keys definitions for Serbian (Latin)
-        // BEGIN: More keys definitions for Serbian (Cyrillic)
-        // U+0437: "з" CYRILLIC SMALL LETTER ZE
-        /* keyspec_south_slavic_row1_6 */ "\u0437",
-        // U+045B: "ћ" CYRILLIC SMALL LETTER TSHE
-        /* keyspec_south_slavic_row2_11 */ "\u045B",
-        // U+0455: "ѕ" CYRILLIC SMALL LETTER DZE
-        /* keyspec_south_slavic_row3_1 */ "\u0455",
-        // U+0452: "ђ" CYRILLIC SMALL LETTER DJE
-        /* keyspec_south_slavic_row3_8 */ "\u0452",
-    };
-
-    /* Locale sr_ZZ: Serbian (ZZ) */
-    private static final String[] TEXTS_sr_ZZ = {
-        /* morekeys_a */ null,
-        /* morekeys_o */ null,
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        /* morekeys_e */ "\u00E8",
-        /* morekeys_u */ null,
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        /* morekeys_i */ "\u00EC",
-        /* keylabel_to_alpha */ null,
-        /* morekeys_n */ null,
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        /* morekeys_c */ "\u010D,\u0107,%",
-        /* double_quotes */ null,
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u0161,%",
-        /* single_quotes ~ */
-        null, null, null,
-        /* ~ morekeys_y */
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017E,%",
-        // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
-        /* morekeys_d */ "\u0111,%",
-        /* morekeys_t ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null,
-        /* ~ morekeys_symbols_percent */
-        /* label_go_key */ "Idi",
-        /* label_send_key */ "\u0160alji",
-        /* label_next_key */ "Sled",
-        /* label_done_key */ "Gotov",
-        /* label_search_key */ "Tra\u017Ei",
-        /* label_previous_key */ "Preth",
-        /* label_pause_key */ "Pauza",
-        /* label_wait_key */ "\u010Cekaj",
-    };
+    private static final String TEXTS_sr =
+            // END: More keys definitions for Serbian (Cyrillic)
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            // U+0450: "ѐ" CYRILLIC SMALL LETTER IE WITH GRAVE
+            + /* morekeys_cyrillic_ie */ "22=\u0450\u0000"
+            // U+045D: "ѝ" CYRILLIC SMALL LETTER I WITH GRAVE
+            + /* morekeys_cyrillic_i */ "92=\u045D\u0000"
+            // TODO: Move these to sr-Latn once we can handle IETF language tag with script name specified.
+            // BEGIN: More keys definitions for Serbian (Latin)
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // <string name="morekeys_s">&#x0161;,&#x00DF;,&#x015B;</string>
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // <string name="morekeys_c">&#x010D;,&#x00E7;,&#x0107;</string>
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            // <string name="morekeys_d">&#x010F;</string>
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // <string name="morekeys_z">&#x017E;,&#x017A;,&#x017C;</string>
+            // END: More keys definitions for Serbian (Latin)
+            // BEGIN: More keys definitions for Serbian (Cyrillic)
+            // U+0437: "з" CYRILLIC SMALL LETTER ZE
+            + /* keyspec_south_slavic_row1_6 */ "93=\u0437\u0000"
+            // U+045B: "ћ" CYRILLIC SMALL LETTER TSHE
+            + /* keyspec_south_slavic_row2_11 */ "94=\u045B\u0000"
+            // U+0455: "ѕ" CYRILLIC SMALL LETTER DZE
+            + /* keyspec_south_slavic_row3_1 */ "95=\u0455\u0000"
+            // U+0452: "ђ" CYRILLIC SMALL LETTER DJE
+            + /* keyspec_south_slavic_row3_8 */ "96=\u0452\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00BB,\u00AB,\u203A,\u2039\u0000";
+
+    /* Locale sr_ZZ: Serbian (Unknown Region) */
+    private static final String TEXTS_sr_ZZ =
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            /* morekeys_e */ "2=\u00E8\u0000"
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            + /* morekeys_i */ "4=\u00EC\u0000"
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            + /* morekeys_c */ "7=\u010D,\u0107,%\u0000"
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u0161,%\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017E,%\u0000"
+            // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
+            + /* morekeys_d */ "14=\u0111,%\u0000"
+            + /* label_go_key */ "110=Idi\u0000"
+            + /* label_send_key */ "111=\u0160alji\u0000"
+            + /* label_next_key */ "112=Sled\u0000"
+            + /* label_done_key */ "113=Gotov\u0000"
+            + /* label_search_key */ "114=Tra\u017Ei\u0000"
+            + /* label_previous_key */ "115=Preth\u0000"
+            + /* label_pause_key */ "116=Pauza\u0000"
+            + /* label_wait_key */ "117=\u010Cekaj\u0000"
+            + /* keyspec_action_next */ "148=!hasLabels!,Sled|!code/key_action_next\u0000"
+            + /* keyspec_action_previous */ "149=!hasLabels!,Preth|!code/key_action_previous\u0000";
 
     /* Locale sv: Swedish */
-    private static final String[] TEXTS_sv = {
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        /* morekeys_a */ "\u00E4,\u00E5,\u00E6,\u00E1,\u00E0,\u00E2,\u0105,\u00E3",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,\u00F8,\u0153,\u00F3,\u00F2,\u00F4,\u00F5,\u014D",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,\u0119",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,\u00FA,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        /* morekeys_i */ "\u00ED,\u00EC,\u00EE,\u00EF",
-        /* keylabel_to_alpha */ null,
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        /* morekeys_n */ "\u0144,\u00F1,\u0148",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-        /* double_quotes */ null,
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        /* morekeys_s */ "\u015B,\u0161,\u015F,\u00DF",
-        /* single_quotes */ null,
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        /* morekeys_y */ "\u00FD,\u00FF",
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        /* morekeys_z */ "\u017A,\u017E,\u017C",
-        // U+00F0: "ð" LATIN SMALL LETTER ETH
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        /* morekeys_d */ "\u00F0,\u010F",
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        // U+00FE: "þ" LATIN SMALL LETTER THORN
-        /* morekeys_t */ "\u0165,\u00FE",
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "\u0142",
-        /* morekeys_g */ null,
-        /* single_angle_quotes */ "!text/single_raqm_laqm",
-        /* double_angle_quotes */ "!text/double_raqm_laqm",
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        /* morekeys_r */ "\u0159",
-        /* morekeys_k */ null,
-        /* morekeys_cyrillic_ie */ null,
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        /* keyspec_nordic_row1_11 */ "\u00E5",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        /* keyspec_nordic_row2_10 */ "\u00F6",
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        /* keyspec_nordic_row2_11 */ "\u00E4",
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        /* morekeys_nordic_row2_10 */ "\u00F8,\u0153",
-        /* keyspec_east_slavic_row1_9 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_tablet_period */
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        /* morekeys_nordic_row2_11 */ "\u00E6",
-    };
+    private static final String TEXTS_sv =
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            /* morekeys_a */ "0=\u00E4,\u00E5,\u00E6,\u00E1,\u00E0,\u00E2,\u0105,\u00E3\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,\u00F8,\u0153,\u00F3,\u00F2,\u00F4,\u00F5,\u014D\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,\u0119\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,\u00FA,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            + /* morekeys_i */ "4=\u00ED,\u00EC,\u00EE,\u00EF\u0000"
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            + /* morekeys_n */ "6=\u0144,\u00F1,\u0148\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000"
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            + /* morekeys_s */ "9=\u015B,\u0161,\u015F,\u00DF\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            + /* morekeys_y */ "12=\u00FD,\u00FF\u0000"
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            + /* morekeys_z */ "13=\u017A,\u017E,\u017C\u0000"
+            // U+00F0: "ð" LATIN SMALL LETTER ETH
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            + /* morekeys_d */ "14=\u00F0,\u010F\u0000"
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            // U+00FE: "þ" LATIN SMALL LETTER THORN
+            + /* morekeys_t */ "15=\u0165,\u00FE\u0000"
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=\u0142\u0000"
+            + /* single_angle_quotes */ "18=\u203A,\u2039\u0000"
+            + /* double_angle_quotes */ "19=\u00BB,\u00AB\u0000"
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            + /* morekeys_r */ "20=\u0159\u0000"
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            + /* keyspec_nordic_row1_11 */ "23=\u00E5\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            + /* keyspec_nordic_row2_10 */ "24=\u00F6\u0000"
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            + /* keyspec_nordic_row2_11 */ "25=\u00E4\u0000"
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            + /* morekeys_nordic_row2_10 */ "26=\u00F8,\u0153\u0000"
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            + /* morekeys_nordic_row2_11 */ "54=\u00E6\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u201A,\u2018,\u2019,\u203A,\u2039\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201E,\u201C,\u201D,\u00BB,\u00AB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201E,\u201C,\u201D,\u201A,\u2018,\u2019,\u00BB,\u00AB,\u203A,\u2039\u0000";
 
     /* Locale sw: Swahili */
-    private static final String[] TEXTS_sw = {
-        // This is the same as English except morekeys_g.
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        /* morekeys_o */ "\u00F4,\u00F6,\u00F2,\u00F3,\u0153,\u00F8,\u014D,\u00F5",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E8,\u00E9,\u00EA,\u00EB,\u0113",
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FB,\u00FC,\u00F9,\u00FA,\u016B",
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        /* morekeys_i */ "\u00EE,\u00EF,\u00ED,\u012B,\u00EC",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u00F1",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        /* morekeys_c */ "\u00E7",
-        /* double_quotes */ null,
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        /* morekeys_s */ "\u00DF",
-        /* single_quotes ~ */
-        null, null, null, null, null, null, null,
-        /* ~ morekeys_l */
-        /* morekeys_g */ "g\'",
-    };
+    private static final String TEXTS_sw =
+            // This is the same as English except morekeys_g.
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            + /* morekeys_o */ "1=\u00F4,\u00F6,\u00F2,\u00F3,\u0153,\u00F8,\u014D,\u00F5\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E8,\u00E9,\u00EA,\u00EB,\u0113\u0000"
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FB,\u00FC,\u00F9,\u00FA,\u016B\u0000"
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            + /* morekeys_i */ "4=\u00EE,\u00EF,\u00ED,\u012B,\u00EC\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u00F1\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            + /* morekeys_c */ "7=\u00E7\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            + /* morekeys_s */ "9=\u00DF\u0000"
+            + /* morekeys_g */ "17=g'\u0000";
 
     /* Locale ta_IN: Tamil (India) */
-    private static final String[] TEXTS_ta_IN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0BA4: "த" TAMIL LETTER TA
-        // U+0BAE/U+0BBF: "மி" TAMIL LETTER MA/TAMIL VOWEL SIGN I
-        // U+0BB4/U+0BCD: "ழ்" TAMIL LETTER LLLA/TAMIL SIGN VIRAMA
-        /* keylabel_to_alpha */ "\u0BA4\u0BAE\u0BBF\u0BB4\u0BCD",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+0BF9: "௹" TAMIL RUPEE SIGN
-        /* keyspec_currency */ "\u0BF9",
-    };
+    private static final String TEXTS_ta_IN =
+            // Label for "switch to alphabetic" key.
+            // U+0BA4: "த" TAMIL LETTER TA
+            // U+0BAE/U+0BBF: "மி" TAMIL LETTER MA/TAMIL VOWEL SIGN I
+            // U+0BB4/U+0BCD: "ழ்" TAMIL LETTER LLLA/TAMIL SIGN VIRAMA
+            /* keylabel_to_alpha */ "5=\u0BA4\u0BAE\u0BBF\u0BB4\u0BCD\u0000"
+            // U+0BF9: "௹" TAMIL RUPEE SIGN
+            + /* keyspec_currency */ "11=\u0BF9\u0000";
 
     /* Locale ta_LK: Tamil (Sri Lanka) */
-    private static final String[] TEXTS_ta_LK = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0BA4: "த" TAMIL LETTER TA
-        // U+0BAE/U+0BBF: "மி" TAMIL LETTER MA/TAMIL VOWEL SIGN I
-        // U+0BB4/U+0BCD: "ழ்" TAMIL LETTER LLLA/TAMIL SIGN VIRAMA
-        /* keylabel_to_alpha */ "\u0BA4\u0BAE\u0BBF\u0BB4\u0BCD",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+0DBB/U+0DD4: "රු" SINHALA LETTER RAYANNA/SINHALA VOWEL SIGN KETTI PAA-PILLA
-        /* keyspec_currency */ "\u0DBB\u0DD4",
-    };
+    private static final String TEXTS_ta_LK =
+            // Label for "switch to alphabetic" key.
+            // U+0BA4: "த" TAMIL LETTER TA
+            // U+0BAE/U+0BBF: "மி" TAMIL LETTER MA/TAMIL VOWEL SIGN I
+            // U+0BB4/U+0BCD: "ழ்" TAMIL LETTER LLLA/TAMIL SIGN VIRAMA
+            /* keylabel_to_alpha */ "5=\u0BA4\u0BAE\u0BBF\u0BB4\u0BCD\u0000"
+            // U+0DBB/U+0DD4: "රු" SINHALA LETTER RAYANNA/SINHALA VOWEL SIGN KETTI PAA-PILLA
+            + /* keyspec_currency */ "11=\u0DBB\u0DD4\u0000";
 
     /* Locale ta_SG: Tamil (Singapore) */
-    private static final String[] TEXTS_ta_SG = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0BA4: "த" TAMIL LETTER TA
-        // U+0BAE/U+0BBF: "மி" TAMIL LETTER MA/TAMIL VOWEL SIGN I
-        // U+0BB4/U+0BCD: "ழ்" TAMIL LETTER LLLA/TAMIL SIGN VIRAMA
-        /* keylabel_to_alpha */ "\u0BA4\u0BAE\u0BBF\u0BB4\u0BCD",
-    };
+    private static final String TEXTS_ta_SG =
+            // Label for "switch to alphabetic" key.
+            // U+0BA4: "த" TAMIL LETTER TA
+            // U+0BAE/U+0BBF: "மி" TAMIL LETTER MA/TAMIL VOWEL SIGN I
+            // U+0BB4/U+0BCD: "ழ்" TAMIL LETTER LLLA/TAMIL SIGN VIRAMA
+            /* keylabel_to_alpha */ "5=\u0BA4\u0BAE\u0BBF\u0BB4\u0BCD\u0000";
 
     /* Locale te_IN: Telugu (India) */
-    private static final String[] TEXTS_te_IN = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0C05: "అ" TELUGU LETTER A
-        // U+0C06: "ఆ" TELUGU LETTER AA
-        // U+0C07: "ఇ" TELUGU LETTER I
-        /* keylabel_to_alpha */ "\u0C05\u0C06\u0C07",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20B9: "₹" INDIAN RUPEE SIGN
-        /* keyspec_currency */ "\u20B9",
-    };
+    private static final String TEXTS_te_IN =
+            // Label for "switch to alphabetic" key.
+            // U+0C05: "అ" TELUGU LETTER A
+            // U+0C06: "ఆ" TELUGU LETTER AA
+            // U+0C07: "ఇ" TELUGU LETTER I
+            /* keylabel_to_alpha */ "5=\u0C05\u0C06\u0C07\u0000"
+            // U+20B9: "₹" INDIAN RUPEE SIGN
+            + /* keyspec_currency */ "11=\u20B9\u0000";
 
     /* Locale th: Thai */
-    private static final String[] TEXTS_th = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0E01: "ก" THAI CHARACTER KO KAI
-        // U+0E02: "ข" THAI CHARACTER KHO KHAI
-        // U+0E04: "ค" THAI CHARACTER KHO KHWAI
-        /* keylabel_to_alpha */ "\u0E01\u0E02\u0E04",
-        /* morekeys_n ~ */
-        null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+0E3F: "฿" THAI CURRENCY SYMBOL BAHT
-        /* keyspec_currency */ "\u0E3F",
-    };
+    private static final String TEXTS_th =
+            // Label for "switch to alphabetic" key.
+            // U+0E01: "ก" THAI CHARACTER KO KAI
+            // U+0E02: "ข" THAI CHARACTER KHO KHAI
+            // U+0E04: "ค" THAI CHARACTER KHO KHWAI
+            /* keylabel_to_alpha */ "5=\u0E01\u0E02\u0E04\u0000"
+            // U+0E3F: "฿" THAI CURRENCY SYMBOL BAHT
+            + /* keyspec_currency */ "11=\u0E3F\u0000";
 
     /* Locale tl: Tagalog */
-    private static final String[] TEXTS_tl = {
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FC,\u00F9,\u00FB,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        /* morekeys_n */ "\u00F1,\u0144",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-    };
+    private static final String TEXTS_tl =
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E1,\u00E0,\u00E4,\u00E2,\u00E3,\u00E5,\u0105,\u00E6,\u0101,\u00AA\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F3,\u00F2,\u00F6,\u00F4,\u00F5,\u00F8,\u0153,\u014D,\u00BA\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EB,\u00EA,\u0119,\u0117,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FC,\u00F9,\u00FB,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u00ED,\u00EF,\u00EC,\u00EE,\u012F,\u012B\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            + /* morekeys_n */ "6=\u00F1,\u0144\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000";
 
     /* Locale tr: Turkish */
-    private static final String[] TEXTS_tr = {
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        /* morekeys_a */ "\u00E2,\u00E4,\u00E1",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,\u00F4,\u0153,\u00F2,\u00F3,\u00F5,\u00F8,\u014D",
-        // U+0259: "ə" LATIN SMALL LETTER SCHWA
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* morekeys_e */ "\u0259,\u00E9",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,\u00FB,\u00F9,\u00FA,\u016B",
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u0131,\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u0148,\u00F1",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-        /* double_quotes */ null,
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u015F,\u00DF,\u015B,\u0161",
-        /* single_quotes */ null,
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        /* morekeys_y */ "\u00FD",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017E",
-        /* morekeys_d ~ */
-        null, null, null,
-        /* ~ morekeys_l */
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u011F",
-    };
+    private static final String TEXTS_tr =
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            /* morekeys_a */ "0=\u00E2,\u00E4,\u00E1\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,\u00F4,\u0153,\u00F2,\u00F3,\u00F5,\u00F8,\u014D\u0000"
+            // U+0259: "ə" LATIN SMALL LETTER SCHWA
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* morekeys_e */ "2=\u0259,\u00E9\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,\u00FB,\u00F9,\u00FA,\u016B\u0000"
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u0131,\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B\u0000"
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u0148,\u00F1\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000"
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u015F,\u00DF,\u015B,\u0161\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            + /* morekeys_y */ "12=\u00FD\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017E\u0000"
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u011F\u0000";
 
     /* Locale uk: Ukrainian */
-    private static final String[] TEXTS_uk = {
-        /* morekeys_a ~ */
-        null, null, null, null, null,
-        /* ~ morekeys_i */
-        // Label for "switch to alphabetic" key.
-        // U+0410: "А" CYRILLIC CAPITAL LETTER A
-        // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
-        // U+0412: "В" CYRILLIC CAPITAL LETTER VE
-        /* keylabel_to_alpha */ "\u0410\u0411\u0412",
-        /* morekeys_n */ null,
-        /* morekeys_c */ null,
-        /* double_quotes */ "!text/double_9qm_lqm",
-        /* morekeys_s */ null,
-        /* single_quotes */ "!text/single_9qm_lqm",
-        // U+20B4: "₴" HRYVNIA SIGN
-        /* keyspec_currency */ "\u20B4",
-        /* morekeys_y ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_nordic_row2_10 */
-        // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
-        /* keyspec_east_slavic_row1_9 */ "\u0449",
-        // U+0456: "і" CYRILLIC SMALL LETTER BYELORUSSIAN-UKRAINIAN I
-        /* keyspec_east_slavic_row2_2 */ "\u0456",
-        // U+0454: "є" CYRILLIC SMALL LETTER UKRAINIAN IE
-        /* keyspec_east_slavic_row2_11 */ "\u0454",
-        // U+0438: "и" CYRILLIC SMALL LETTER I
-        /* keyspec_east_slavic_row3_5 */ "\u0438",
-        // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
-        /* morekeys_cyrillic_soft_sign */ "\u044A",
-        /* keyspec_symbols_1 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null,
-        /* ~ morekeys_w */
-        // U+0457: "ї" CYRILLIC SMALL LETTER YI
-        /* morekeys_east_slavic_row2_2 */ "\u0457",
-        /* morekeys_cyrillic_u */ null,
-        /* morekeys_cyrillic_en */ null,
-        // U+0491: "ґ" CYRILLIC SMALL LETTER GHE WITH UPTURN
-        /* morekeys_cyrillic_ghe */ "\u0491",
-    };
+    private static final String TEXTS_uk =
+            // Label for "switch to alphabetic" key.
+            // U+0410: "А" CYRILLIC CAPITAL LETTER A
+            // U+0411: "Б" CYRILLIC CAPITAL LETTER BE
+            // U+0412: "В" CYRILLIC CAPITAL LETTER VE
+            /* keylabel_to_alpha */ "5=\u0410\u0411\u0412\u0000"
+            + /* double_quotes */ "8=\u201D,\u201E,\u201C\u0000"
+            + /* single_quotes */ "10=\u2019,\u201A,\u2018\u0000"
+            // U+20B4: "₴" HRYVNIA SIGN
+            + /* keyspec_currency */ "11=\u20B4\u0000"
+            // U+0449: "щ" CYRILLIC SMALL LETTER SHCHA
+            + /* keyspec_east_slavic_row1_9 */ "27=\u0449\u0000"
+            // U+0456: "і" CYRILLIC SMALL LETTER BYELORUSSIAN-UKRAINIAN I
+            + /* keyspec_east_slavic_row2_2 */ "28=\u0456\u0000"
+            // U+0454: "є" CYRILLIC SMALL LETTER UKRAINIAN IE
+            + /* keyspec_east_slavic_row2_11 */ "29=\u0454\u0000"
+            // U+0438: "и" CYRILLIC SMALL LETTER I
+            + /* keyspec_east_slavic_row3_5 */ "30=\u0438\u0000"
+            // U+044A: "ъ" CYRILLIC SMALL LETTER HARD SIGN
+            + /* morekeys_cyrillic_soft_sign */ "31=\u044A\u0000"
+            // U+0457: "ї" CYRILLIC SMALL LETTER YI
+            + /* morekeys_east_slavic_row2_2 */ "87=\u0457\u0000"
+            // U+0491: "ґ" CYRILLIC SMALL LETTER GHE WITH UPTURN
+            + /* morekeys_cyrillic_ghe */ "90=\u0491\u0000"
+            + /* morekeys_single_quote */ "172=!fixedColumnOrder!5,\u2019,\u201A,\u2018,\u2039,\u203A\u0000"
+            + /* morekeys_double_quote */ "173=!fixedColumnOrder!5,\u201D,\u201E,\u201C,\u00AB,\u00BB\u0000"
+            + /* morekeys_tablet_double_quote */ "174=!fixedColumnOrder!6,\u201D,\u201E,\u201C,\u2019,\u201A,\u2018,\u00AB,\u00BB,\u2039,\u203A\u0000";
 
     /* Locale uz_UZ: Uzbek (Uzbekistan) */
-    private static final String[] TEXTS_uz_UZ = {
-        // This is the same as Turkish
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        /* morekeys_a */ "\u00E2,\u00E4,\u00E1",
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        /* morekeys_o */ "\u00F6,\u00F4,\u0153,\u00F2,\u00F3,\u00F5,\u00F8,\u014D",
-        // U+0259: "ə" LATIN SMALL LETTER SCHWA
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        /* morekeys_e */ "\u0259,\u00E9",
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FC,\u00FB,\u00F9,\u00FA,\u016B",
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        /* morekeys_i */ "\u0131,\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B",
-        /* keylabel_to_alpha */ null,
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u0148,\u00F1",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u010D",
-        /* double_quotes */ null,
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        /* morekeys_s */ "\u015F,\u00DF,\u015B,\u0161",
-        /* single_quotes */ null,
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        /* morekeys_y */ "\u00FD",
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017E",
-        /* morekeys_d ~ */
-        null, null, null,
-        /* ~ morekeys_l */
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        /* morekeys_g */ "\u011F",
-    };
+    private static final String TEXTS_uz_UZ =
+            // This is the same as Turkish
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            /* morekeys_a */ "0=\u00E2,\u00E4,\u00E1\u0000"
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            + /* morekeys_o */ "1=\u00F6,\u00F4,\u0153,\u00F2,\u00F3,\u00F5,\u00F8,\u014D\u0000"
+            // U+0259: "ə" LATIN SMALL LETTER SCHWA
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            + /* morekeys_e */ "2=\u0259,\u00E9\u0000"
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FC,\u00FB,\u00F9,\u00FA,\u016B\u0000"
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            + /* morekeys_i */ "4=\u0131,\u00EE,\u00EF,\u00EC,\u00ED,\u012F,\u012B\u0000"
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u0148,\u00F1\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u010D\u0000"
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            + /* morekeys_s */ "9=\u015F,\u00DF,\u015B,\u0161\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            + /* morekeys_y */ "12=\u00FD\u0000"
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017E\u0000"
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            + /* morekeys_g */ "17=\u011F\u0000";
 
     /* Locale vi: Vietnamese */
-    private static final String[] TEXTS_vi = {
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+1EA3: "ả" LATIN SMALL LETTER A WITH HOOK ABOVE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+1EA1: "ạ" LATIN SMALL LETTER A WITH DOT BELOW
-        // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
-        // U+1EB1: "ằ" LATIN SMALL LETTER A WITH BREVE AND GRAVE
-        // U+1EAF: "ắ" LATIN SMALL LETTER A WITH BREVE AND ACUTE
-        // U+1EB3: "ẳ" LATIN SMALL LETTER A WITH BREVE AND HOOK ABOVE
-        // U+1EB5: "ẵ" LATIN SMALL LETTER A WITH BREVE AND TILDE
-        // U+1EB7: "ặ" LATIN SMALL LETTER A WITH BREVE AND DOT BELOW
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+1EA7: "ầ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND GRAVE
-        // U+1EA5: "ấ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND ACUTE
-        // U+1EA9: "ẩ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND HOOK ABOVE
-        // U+1EAB: "ẫ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND TILDE
-        // U+1EAD: "ậ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND DOT BELOW
-        /* morekeys_a */ "\u00E0,\u00E1,\u1EA3,\u00E3,\u1EA1,\u0103,\u1EB1,\u1EAF,\u1EB3,\u1EB5,\u1EB7,\u00E2,\u1EA7,\u1EA5,\u1EA9,\u1EAB,\u1EAD",
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+1ECF: "ỏ" LATIN SMALL LETTER O WITH HOOK ABOVE
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+1ECD: "ọ" LATIN SMALL LETTER O WITH DOT BELOW
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+1ED3: "ồ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND GRAVE
-        // U+1ED1: "ố" LATIN SMALL LETTER O WITH CIRCUMFLEX AND ACUTE
-        // U+1ED5: "ổ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND HOOK ABOVE
-        // U+1ED7: "ỗ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND TILDE
-        // U+1ED9: "ộ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND DOT BELOW
-        // U+01A1: "ơ" LATIN SMALL LETTER O WITH HORN
-        // U+1EDD: "ờ" LATIN SMALL LETTER O WITH HORN AND GRAVE
-        // U+1EDB: "ớ" LATIN SMALL LETTER O WITH HORN AND ACUTE
-        // U+1EDF: "ở" LATIN SMALL LETTER O WITH HORN AND HOOK ABOVE
-        // U+1EE1: "ỡ" LATIN SMALL LETTER O WITH HORN AND TILDE
-        // U+1EE3: "ợ" LATIN SMALL LETTER O WITH HORN AND DOT BELOW
-        /* morekeys_o */ "\u00F2,\u00F3,\u1ECF,\u00F5,\u1ECD,\u00F4,\u1ED3,\u1ED1,\u1ED5,\u1ED7,\u1ED9,\u01A1,\u1EDD,\u1EDB,\u1EDF,\u1EE1,\u1EE3",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+1EBB: "ẻ" LATIN SMALL LETTER E WITH HOOK ABOVE
-        // U+1EBD: "ẽ" LATIN SMALL LETTER E WITH TILDE
-        // U+1EB9: "ẹ" LATIN SMALL LETTER E WITH DOT BELOW
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+1EC1: "ề" LATIN SMALL LETTER E WITH CIRCUMFLEX AND GRAVE
-        // U+1EBF: "ế" LATIN SMALL LETTER E WITH CIRCUMFLEX AND ACUTE
-        // U+1EC3: "ể" LATIN SMALL LETTER E WITH CIRCUMFLEX AND HOOK ABOVE
-        // U+1EC5: "ễ" LATIN SMALL LETTER E WITH CIRCUMFLEX AND TILDE
-        // U+1EC7: "ệ" LATIN SMALL LETTER E WITH CIRCUMFLEX AND DOT BELOW
-        /* morekeys_e */ "\u00E8,\u00E9,\u1EBB,\u1EBD,\u1EB9,\u00EA,\u1EC1,\u1EBF,\u1EC3,\u1EC5,\u1EC7",
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+1EE7: "ủ" LATIN SMALL LETTER U WITH HOOK ABOVE
-        // U+0169: "ũ" LATIN SMALL LETTER U WITH TILDE
-        // U+1EE5: "ụ" LATIN SMALL LETTER U WITH DOT BELOW
-        // U+01B0: "ư" LATIN SMALL LETTER U WITH HORN
-        // U+1EEB: "ừ" LATIN SMALL LETTER U WITH HORN AND GRAVE
-        // U+1EE9: "ứ" LATIN SMALL LETTER U WITH HORN AND ACUTE
-        // U+1EED: "ử" LATIN SMALL LETTER U WITH HORN AND HOOK ABOVE
-        // U+1EEF: "ữ" LATIN SMALL LETTER U WITH HORN AND TILDE
-        // U+1EF1: "ự" LATIN SMALL LETTER U WITH HORN AND DOT BELOW
-        /* morekeys_u */ "\u00F9,\u00FA,\u1EE7,\u0169,\u1EE5,\u01B0,\u1EEB,\u1EE9,\u1EED,\u1EEF,\u1EF1",
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+1EC9: "ỉ" LATIN SMALL LETTER I WITH HOOK ABOVE
-        // U+0129: "ĩ" LATIN SMALL LETTER I WITH TILDE
-        // U+1ECB: "ị" LATIN SMALL LETTER I WITH DOT BELOW
-        /* morekeys_i */ "\u00EC,\u00ED,\u1EC9,\u0129,\u1ECB",
-        /* keylabel_to_alpha ~ */
-        null, null, null, null, null, null,
-        /* ~ single_quotes */
-        // U+20AB: "₫" DONG SIGN
-        /* keyspec_currency */ "\u20AB",
-        // U+1EF3: "ỳ" LATIN SMALL LETTER Y WITH GRAVE
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+1EF7: "ỷ" LATIN SMALL LETTER Y WITH HOOK ABOVE
-        // U+1EF9: "ỹ" LATIN SMALL LETTER Y WITH TILDE
-        // U+1EF5: "ỵ" LATIN SMALL LETTER Y WITH DOT BELOW
-        /* morekeys_y */ "\u1EF3,\u00FD,\u1EF7,\u1EF9,\u1EF5",
-        /* morekeys_z */ null,
-        // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
-        /* morekeys_d */ "\u0111",
-    };
+    private static final String TEXTS_vi =
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+1EA3: "ả" LATIN SMALL LETTER A WITH HOOK ABOVE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+1EA1: "ạ" LATIN SMALL LETTER A WITH DOT BELOW
+            // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
+            // U+1EB1: "ằ" LATIN SMALL LETTER A WITH BREVE AND GRAVE
+            // U+1EAF: "ắ" LATIN SMALL LETTER A WITH BREVE AND ACUTE
+            // U+1EB3: "ẳ" LATIN SMALL LETTER A WITH BREVE AND HOOK ABOVE
+            // U+1EB5: "ẵ" LATIN SMALL LETTER A WITH BREVE AND TILDE
+            // U+1EB7: "ặ" LATIN SMALL LETTER A WITH BREVE AND DOT BELOW
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+1EA7: "ầ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND GRAVE
+            // U+1EA5: "ấ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND ACUTE
+            // U+1EA9: "ẩ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND HOOK ABOVE
+            // U+1EAB: "ẫ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND TILDE
+            // U+1EAD: "ậ" LATIN SMALL LETTER A WITH CIRCUMFLEX AND DOT BELOW
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u1EA3,\u00E3,\u1EA1,\u0103,\u1EB1,\u1EAF,\u1EB3,\u1EB5,\u1EB7,\u00E2,\u1EA7,\u1EA5,\u1EA9,\u1EAB,\u1EAD\u0000"
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+1ECF: "ỏ" LATIN SMALL LETTER O WITH HOOK ABOVE
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+1ECD: "ọ" LATIN SMALL LETTER O WITH DOT BELOW
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+1ED3: "ồ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND GRAVE
+            // U+1ED1: "ố" LATIN SMALL LETTER O WITH CIRCUMFLEX AND ACUTE
+            // U+1ED5: "ổ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND HOOK ABOVE
+            // U+1ED7: "ỗ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND TILDE
+            // U+1ED9: "ộ" LATIN SMALL LETTER O WITH CIRCUMFLEX AND DOT BELOW
+            // U+01A1: "ơ" LATIN SMALL LETTER O WITH HORN
+            // U+1EDD: "ờ" LATIN SMALL LETTER O WITH HORN AND GRAVE
+            // U+1EDB: "ớ" LATIN SMALL LETTER O WITH HORN AND ACUTE
+            // U+1EDF: "ở" LATIN SMALL LETTER O WITH HORN AND HOOK ABOVE
+            // U+1EE1: "ỡ" LATIN SMALL LETTER O WITH HORN AND TILDE
+            // U+1EE3: "ợ" LATIN SMALL LETTER O WITH HORN AND DOT BELOW
+            + /* morekeys_o */ "1=\u00F2,\u00F3,\u1ECF,\u00F5,\u1ECD,\u00F4,\u1ED3,\u1ED1,\u1ED5,\u1ED7,\u1ED9,\u01A1,\u1EDD,\u1EDB,\u1EDF,\u1EE1,\u1EE3\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+1EBB: "ẻ" LATIN SMALL LETTER E WITH HOOK ABOVE
+            // U+1EBD: "ẽ" LATIN SMALL LETTER E WITH TILDE
+            // U+1EB9: "ẹ" LATIN SMALL LETTER E WITH DOT BELOW
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+1EC1: "ề" LATIN SMALL LETTER E WITH CIRCUMFLEX AND GRAVE
+            // U+1EBF: "ế" LATIN SMALL LETTER E WITH CIRCUMFLEX AND ACUTE
+            // U+1EC3: "ể" LATIN SMALL LETTER E WITH CIRCUMFLEX AND HOOK ABOVE
+            // U+1EC5: "ễ" LATIN SMALL LETTER E WITH CIRCUMFLEX AND TILDE
+            // U+1EC7: "ệ" LATIN SMALL LETTER E WITH CIRCUMFLEX AND DOT BELOW
+            + /* morekeys_e */ "2=\u00E8,\u00E9,\u1EBB,\u1EBD,\u1EB9,\u00EA,\u1EC1,\u1EBF,\u1EC3,\u1EC5,\u1EC7\u0000"
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+1EE7: "ủ" LATIN SMALL LETTER U WITH HOOK ABOVE
+            // U+0169: "ũ" LATIN SMALL LETTER U WITH TILDE
+            // U+1EE5: "ụ" LATIN SMALL LETTER U WITH DOT BELOW
+            // U+01B0: "ư" LATIN SMALL LETTER U WITH HORN
+            // U+1EEB: "ừ" LATIN SMALL LETTER U WITH HORN AND GRAVE
+            // U+1EE9: "ứ" LATIN SMALL LETTER U WITH HORN AND ACUTE
+            // U+1EED: "ử" LATIN SMALL LETTER U WITH HORN AND HOOK ABOVE
+            // U+1EEF: "ữ" LATIN SMALL LETTER U WITH HORN AND TILDE
+            // U+1EF1: "ự" LATIN SMALL LETTER U WITH HORN AND DOT BELOW
+            + /* morekeys_u */ "3=\u00F9,\u00FA,\u1EE7,\u0169,\u1EE5,\u01B0,\u1EEB,\u1EE9,\u1EED,\u1EEF,\u1EF1\u0000"
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+1EC9: "ỉ" LATIN SMALL LETTER I WITH HOOK ABOVE
+            // U+0129: "ĩ" LATIN SMALL LETTER I WITH TILDE
+            // U+1ECB: "ị" LATIN SMALL LETTER I WITH DOT BELOW
+            + /* morekeys_i */ "4=\u00EC,\u00ED,\u1EC9,\u0129,\u1ECB\u0000"
+            // U+20AB: "₫" DONG SIGN
+            + /* keyspec_currency */ "11=\u20AB\u0000"
+            // U+1EF3: "ỳ" LATIN SMALL LETTER Y WITH GRAVE
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+1EF7: "ỷ" LATIN SMALL LETTER Y WITH HOOK ABOVE
+            // U+1EF9: "ỹ" LATIN SMALL LETTER Y WITH TILDE
+            // U+1EF5: "ỵ" LATIN SMALL LETTER Y WITH DOT BELOW
+            + /* morekeys_y */ "12=\u1EF3,\u00FD,\u1EF7,\u1EF9,\u1EF5\u0000"
+            // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
+            + /* morekeys_d */ "14=\u0111\u0000";
 
     /* Locale zu: Zulu */
-    private static final String[] TEXTS_zu = {
-        // This is the same as English
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        /* morekeys_a */ "\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101",
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        /* morekeys_o */ "\u00F3,\u00F4,\u00F6,\u00F2,\u0153,\u00F8,\u014D,\u00F5",
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        /* morekeys_e */ "\u00E9,\u00E8,\u00EA,\u00EB,\u0113",
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        /* morekeys_u */ "\u00FA,\u00FB,\u00FC,\u00F9,\u016B",
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        /* morekeys_i */ "\u00ED,\u00EE,\u00EF,\u012B,\u00EC",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        /* morekeys_n */ "\u00F1",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        /* morekeys_c */ "\u00E7",
-        /* double_quotes */ null,
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        /* morekeys_s */ "\u00DF",
-    };
+    private static final String TEXTS_zu =
+            // This is the same as English
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u00E2,\u00E4,\u00E6,\u00E3,\u00E5,\u0101\u0000"
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            + /* morekeys_o */ "1=\u00F3,\u00F4,\u00F6,\u00F2,\u0153,\u00F8,\u014D,\u00F5\u0000"
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            + /* morekeys_e */ "2=\u00E9,\u00E8,\u00EA,\u00EB,\u0113\u0000"
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            + /* morekeys_u */ "3=\u00FA,\u00FB,\u00FC,\u00F9,\u016B\u0000"
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            + /* morekeys_i */ "4=\u00ED,\u00EE,\u00EF,\u012B,\u00EC\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            + /* morekeys_n */ "6=\u00F1\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            + /* morekeys_c */ "7=\u00E7\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            + /* morekeys_s */ "9=\u00DF\u0000";
 
     /* Locale zz: Alphabet */
-    private static final String[] TEXTS_zz = {
-        // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
-        // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
-        // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
-        // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
-        // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
-        // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
-        // U+00E6: "æ" LATIN SMALL LETTER AE
-        // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
-        // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
-        // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
-        // U+00AA: "ª" FEMININE ORDINAL INDICATOR
-        /* morekeys_a */ "\u00E0,\u00E1,\u00E2,\u00E3,\u00E4,\u00E5,\u00E6,\u0101,\u0103,\u0105,\u00AA",
-        // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
-        // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
-        // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
-        // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
-        // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
-        // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
-        // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
-        // U+014F: "ŏ" LATIN SMALL LETTER O WITH BREVE
-        // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
-        // U+0153: "œ" LATIN SMALL LIGATURE OE
-        // U+00BA: "º" MASCULINE ORDINAL INDICATOR
-        /* morekeys_o */ "\u00F2,\u00F3,\u00F4,\u00F5,\u00F6,\u00F8,\u014D,\u014F,\u0151,\u0153,\u00BA",
-        // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
-        // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
-        // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
-        // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
-        // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
-        // U+0115: "ĕ" LATIN SMALL LETTER E WITH BREVE
-        // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
-        // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
-        // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
-        /* morekeys_e */ "\u00E8,\u00E9,\u00EA,\u00EB,\u0113,\u0115,\u0117,\u0119,\u011B",
-        // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
-        // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
-        // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
-        // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
-        // U+0169: "ũ" LATIN SMALL LETTER U WITH TILDE
-        // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
-        // U+016D: "ŭ" LATIN SMALL LETTER U WITH BREVE
-        // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
-        // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
-        // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
-        /* morekeys_u */ "\u00F9,\u00FA,\u00FB,\u00FC,\u0169,\u016B,\u016D,\u016F,\u0171,\u0173",
-        // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
-        // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
-        // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
-        // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
-        // U+0129: "ĩ" LATIN SMALL LETTER I WITH TILDE
-        // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
-        // U+012D: "ĭ" LATIN SMALL LETTER I WITH BREVE
-        // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
-        // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_i */ "\u00EC,\u00ED,\u00EE,\u00EF,\u0129,\u012B,\u012D,\u012F,\u0131,\u0133",
-        /* keylabel_to_alpha */ null,
-        // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
-        // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
-        // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
-        // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
-        // U+0149: "ŉ" LATIN SMALL LETTER N PRECEDED BY APOSTROPHE
-        // U+014B: "ŋ" LATIN SMALL LETTER ENG
-        /* morekeys_n */ "\u00F1,\u0144,\u0146,\u0148,\u0149,\u014B",
-        // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
-        // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
-        // U+0109: "ĉ" LATIN SMALL LETTER C WITH CIRCUMFLEX
-        // U+010B: "ċ" LATIN SMALL LETTER C WITH DOT ABOVE
-        // U+010D: "č" LATIN SMALL LETTER C WITH CARON
-        /* morekeys_c */ "\u00E7,\u0107,\u0109,\u010B,\u010D",
-        /* double_quotes */ null,
-        // U+00DF: "ß" LATIN SMALL LETTER SHARP S
-        // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
-        // U+015D: "ŝ" LATIN SMALL LETTER S WITH CIRCUMFLEX
-        // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
-        // U+0161: "š" LATIN SMALL LETTER S WITH CARON
-        // U+017F: "ſ" LATIN SMALL LETTER LONG S
-        /* morekeys_s */ "\u00DF,\u015B,\u015D,\u015F,\u0161,\u017F",
-        /* single_quotes */ null,
-        /* keyspec_currency */ null,
-        // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
-        // U+0177: "ŷ" LATIN SMALL LETTER Y WITH CIRCUMFLEX
-        // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
-        // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
-        /* morekeys_y */ "\u00FD,\u0177,\u00FF,\u0133",
-        // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
-        // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
-        // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
-        /* morekeys_z */ "\u017A,\u017C,\u017E",
-        // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
-        // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
-        // U+00F0: "ð" LATIN SMALL LETTER ETH
-        /* morekeys_d */ "\u010F,\u0111,\u00F0",
-        // U+00FE: "þ" LATIN SMALL LETTER THORN
-        // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
-        // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
-        // U+0167: "ŧ" LATIN SMALL LETTER T WITH STROKE
-        /* morekeys_t */ "\u00FE,\u0163,\u0165,\u0167",
-        // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
-        // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
-        // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
-        // U+0140: "ŀ" LATIN SMALL LETTER L WITH MIDDLE DOT
-        // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
-        /* morekeys_l */ "\u013A,\u013C,\u013E,\u0140,\u0142",
-        // U+011D: "ĝ" LATIN SMALL LETTER G WITH CIRCUMFLEX
-        // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
-        // U+0121: "ġ" LATIN SMALL LETTER G WITH DOT ABOVE
-        // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
-        /* morekeys_g */ "\u011D,\u011F,\u0121,\u0123",
-        /* single_angle_quotes */ null,
-        /* double_angle_quotes */ null,
-        // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
-        // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
-        // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
-        /* morekeys_r */ "\u0155,\u0157,\u0159",
-        // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
-        // U+0138: "ĸ" LATIN SMALL LETTER KRA
-        /* morekeys_k */ "\u0137,\u0138",
-        /* morekeys_cyrillic_ie ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null,
-        /* ~ morekeys_question */
-        // U+0125: "ĥ" LATIN SMALL LETTER H WITH CIRCUMFLEX
-        /* morekeys_h */ "\u0125",
-        // U+0175: "ŵ" LATIN SMALL LETTER W WITH CIRCUMFLEX
-        /* morekeys_w */ "\u0175",
-        /* morekeys_east_slavic_row2_2 ~ */
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null, null,
-        /* ~ morekeys_v */
-        // U+0135: "ĵ" LATIN SMALL LETTER J WITH CIRCUMFLEX
-        /* morekeys_j */ "\u0135",
-    };
-
-    private static final Object[] LOCALES_AND_TEXTS = {
-    // "locale", TEXT_ARRAY,  /* numberOfNonNullText/lengthOf_TEXT_ARRAY localeName */
-        "DEFAULT", TEXTS_DEFAULT, /* 176/176 DEFAULT */
-        "af"     , TEXTS_af,    /*   7/ 13 Afrikaans */
-        "ar"     , TEXTS_ar,    /*  55/110 Arabic */
-        "az_AZ"  , TEXTS_az_AZ, /*  11/ 18 Azerbaijani (Azerbaijan) */
-        "be_BY"  , TEXTS_be_BY, /*   9/ 32 Belarusian (Belarus) */
-        "bg"     , TEXTS_bg,    /*   2/  9 Bulgarian */
-        "bn_BD"  , TEXTS_bn_BD, /*   2/ 12 Bengali (Bangladesh) */
-        "bn_IN"  , TEXTS_bn_IN, /*   2/ 12 Bengali (India) */
-        "ca"     , TEXTS_ca,    /*  11/ 99 Catalan */
-        "cs"     , TEXTS_cs,    /*  17/ 21 Czech */
-        "da"     , TEXTS_da,    /*  19/ 55 Danish */
-        "de"     , TEXTS_de,    /*  16/ 66 German */
-        "el"     , TEXTS_el,    /*   1/  6 Greek */
-        "en"     , TEXTS_en,    /*   8/ 10 English */
-        "eo"     , TEXTS_eo,    /*  26/126 Esperanto */
-        "es"     , TEXTS_es,    /*   8/ 56 Spanish */
-        "et_EE"  , TEXTS_et_EE, /*  22/ 27 Estonian (Estonia) */
-        "eu_ES"  , TEXTS_eu_ES, /*   7/  8 Basque (Spain) */
-        "fa"     , TEXTS_fa,    /*  58/133 Persian */
-        "fi"     , TEXTS_fi,    /*  10/ 55 Finnish */
-        "fr"     , TEXTS_fr,    /*  13/ 66 French */
-        "gl_ES"  , TEXTS_gl_ES, /*   7/  8 Gallegan (Spain) */
-        "hi"     , TEXTS_hi,    /*  27/ 60 Hindi */
-        "hi_ZZ"  , TEXTS_hi_ZZ, /*   9/118 Hindi (ZZ) */
-        "hr"     , TEXTS_hr,    /*   9/ 20 Croatian */
-        "hu"     , TEXTS_hu,    /*   9/ 20 Hungarian */
-        "hy_AM"  , TEXTS_hy_AM, /*   9/134 Armenian (Armenia) */
-        "is"     , TEXTS_is,    /*  10/ 16 Icelandic */
-        "it"     , TEXTS_it,    /*  11/ 66 Italian */
-        "iw"     , TEXTS_iw,    /*  20/131 Hebrew */
-        "ka_GE"  , TEXTS_ka_GE, /*   3/ 11 Georgian (Georgia) */
-        "kk"     , TEXTS_kk,    /*  15/129 Kazakh */
-        "km_KH"  , TEXTS_km_KH, /*   2/130 Khmer (Cambodia) */
-        "kn_IN"  , TEXTS_kn_IN, /*   2/ 12 Kannada (India) */
-        "ky"     , TEXTS_ky,    /*  10/ 92 Kirghiz */
-        "lb"     , TEXTS_lb,    /*  11/ 20 Luxembourgish */
-        "lo_LA"  , TEXTS_lo_LA, /*   2/ 12 Lao (Laos) */
-        "lt"     , TEXTS_lt,    /*  18/ 22 Lithuanian */
-        "lv"     , TEXTS_lv,    /*  18/ 22 Latvian */
-        "mk"     , TEXTS_mk,    /*   9/ 97 Macedonian */
-        "ml_IN"  , TEXTS_ml_IN, /*   2/ 12 Malayalam (India) */
-        "mn_MN"  , TEXTS_mn_MN, /*   2/ 12 Mongolian (Mongolia) */
-        "mr_IN"  , TEXTS_mr_IN, /*  23/ 53 Marathi (India) */
-        "my_MM"  , TEXTS_my_MM, /*   8/ 98 Burmese (Myanmar) */
-        "nb"     , TEXTS_nb,    /*  11/ 55 Norwegian Bokmål */
-        "ne_NP"  , TEXTS_ne_NP, /*  27/ 60 Nepali (Nepal) */
-        "nl"     , TEXTS_nl,    /*   9/ 13 Dutch */
-        "pl"     , TEXTS_pl,    /*  10/ 17 Polish */
-        "pt"     , TEXTS_pt,    /*   6/  8 Portuguese */
-        "rm"     , TEXTS_rm,    /*   1/  2 Raeto-Romance */
-        "ro"     , TEXTS_ro,    /*   6/ 16 Romanian */
-        "ru"     , TEXTS_ru,    /*   9/ 32 Russian */
-        "si_LK"  , TEXTS_si_LK, /*   2/ 12 Sinhalese (Sri Lanka) */
-        "sk"     , TEXTS_sk,    /*  20/ 22 Slovak */
-        "sl"     , TEXTS_sl,    /*   8/ 20 Slovenian */
-        "sr"     , TEXTS_sr,    /*  11/ 97 Serbian */
-        "sr_ZZ"  , TEXTS_sr_ZZ, /*  14/118 Serbian (ZZ) */
-        "sv"     , TEXTS_sv,    /*  21/ 55 Swedish */
-        "sw"     , TEXTS_sw,    /*   9/ 18 Swahili */
-        "ta_IN"  , TEXTS_ta_IN, /*   2/ 12 Tamil (India) */
-        "ta_LK"  , TEXTS_ta_LK, /*   2/ 12 Tamil (Sri Lanka) */
-        "ta_SG"  , TEXTS_ta_SG, /*   1/  6 Tamil (Singapore) */
-        "te_IN"  , TEXTS_te_IN, /*   2/ 12 Telugu (India) */
-        "th"     , TEXTS_th,    /*   2/ 12 Thai */
-        "tl"     , TEXTS_tl,    /*   7/  8 Tagalog */
-        "tr"     , TEXTS_tr,    /*  11/ 18 Turkish */
-        "uk"     , TEXTS_uk,    /*  11/ 91 Ukrainian */
-        "uz_UZ"  , TEXTS_uz_UZ, /*  11/ 18 Uzbek (Uzbekistan) */
-        "vi"     , TEXTS_vi,    /*   8/ 15 Vietnamese */
-        "zu"     , TEXTS_zu,    /*   8/ 10 Zulu */
-        "zz"     , TEXTS_zz,    /*  19/120 Alphabet */
-    };
+    private static final String TEXTS_zz =
+            // U+00E0: "à" LATIN SMALL LETTER A WITH GRAVE
+            // U+00E1: "á" LATIN SMALL LETTER A WITH ACUTE
+            // U+00E2: "â" LATIN SMALL LETTER A WITH CIRCUMFLEX
+            // U+00E3: "ã" LATIN SMALL LETTER A WITH TILDE
+            // U+00E4: "ä" LATIN SMALL LETTER A WITH DIAERESIS
+            // U+00E5: "å" LATIN SMALL LETTER A WITH RING ABOVE
+            // U+00E6: "æ" LATIN SMALL LETTER AE
+            // U+0101: "ā" LATIN SMALL LETTER A WITH MACRON
+            // U+0103: "ă" LATIN SMALL LETTER A WITH BREVE
+            // U+0105: "ą" LATIN SMALL LETTER A WITH OGONEK
+            // U+00AA: "ª" FEMININE ORDINAL INDICATOR
+            /* morekeys_a */ "0=\u00E0,\u00E1,\u00E2,\u00E3,\u00E4,\u00E5,\u00E6,\u0101,\u0103,\u0105,\u00AA\u0000"
+            // U+00F2: "ò" LATIN SMALL LETTER O WITH GRAVE
+            // U+00F3: "ó" LATIN SMALL LETTER O WITH ACUTE
+            // U+00F4: "ô" LATIN SMALL LETTER O WITH CIRCUMFLEX
+            // U+00F5: "õ" LATIN SMALL LETTER O WITH TILDE
+            // U+00F6: "ö" LATIN SMALL LETTER O WITH DIAERESIS
+            // U+00F8: "ø" LATIN SMALL LETTER O WITH STROKE
+            // U+014D: "ō" LATIN SMALL LETTER O WITH MACRON
+            // U+014F: "ŏ" LATIN SMALL LETTER O WITH BREVE
+            // U+0151: "ő" LATIN SMALL LETTER O WITH DOUBLE ACUTE
+            // U+0153: "œ" LATIN SMALL LIGATURE OE
+            // U+00BA: "º" MASCULINE ORDINAL INDICATOR
+            + /* morekeys_o */ "1=\u00F2,\u00F3,\u00F4,\u00F5,\u00F6,\u00F8,\u014D,\u014F,\u0151,\u0153,\u00BA\u0000"
+            // U+00E8: "è" LATIN SMALL LETTER E WITH GRAVE
+            // U+00E9: "é" LATIN SMALL LETTER E WITH ACUTE
+            // U+00EA: "ê" LATIN SMALL LETTER E WITH CIRCUMFLEX
+            // U+00EB: "ë" LATIN SMALL LETTER E WITH DIAERESIS
+            // U+0113: "ē" LATIN SMALL LETTER E WITH MACRON
+            // U+0115: "ĕ" LATIN SMALL LETTER E WITH BREVE
+            // U+0117: "ė" LATIN SMALL LETTER E WITH DOT ABOVE
+            // U+0119: "ę" LATIN SMALL LETTER E WITH OGONEK
+            // U+011B: "ě" LATIN SMALL LETTER E WITH CARON
+            + /* morekeys_e */ "2=\u00E8,\u00E9,\u00EA,\u00EB,\u0113,\u0115,\u0117,\u0119,\u011B\u0000"
+            // U+00F9: "ù" LATIN SMALL LETTER U WITH GRAVE
+            // U+00FA: "ú" LATIN SMALL LETTER U WITH ACUTE
+            // U+00FB: "û" LATIN SMALL LETTER U WITH CIRCUMFLEX
+            // U+00FC: "ü" LATIN SMALL LETTER U WITH DIAERESIS
+            // U+0169: "ũ" LATIN SMALL LETTER U WITH TILDE
+            // U+016B: "ū" LATIN SMALL LETTER U WITH MACRON
+            // U+016D: "ŭ" LATIN SMALL LETTER U WITH BREVE
+            // U+016F: "ů" LATIN SMALL LETTER U WITH RING ABOVE
+            // U+0171: "ű" LATIN SMALL LETTER U WITH DOUBLE ACUTE
+            // U+0173: "ų" LATIN SMALL LETTER U WITH OGONEK
+            + /* morekeys_u */ "3=\u00F9,\u00FA,\u00FB,\u00FC,\u0169,\u016B,\u016D,\u016F,\u0171,\u0173\u0000"
+            // U+00EC: "ì" LATIN SMALL LETTER I WITH GRAVE
+            // U+00ED: "í" LATIN SMALL LETTER I WITH ACUTE
+            // U+00EE: "î" LATIN SMALL LETTER I WITH CIRCUMFLEX
+            // U+00EF: "ï" LATIN SMALL LETTER I WITH DIAERESIS
+            // U+0129: "ĩ" LATIN SMALL LETTER I WITH TILDE
+            // U+012B: "ī" LATIN SMALL LETTER I WITH MACRON
+            // U+012D: "ĭ" LATIN SMALL LETTER I WITH BREVE
+            // U+012F: "į" LATIN SMALL LETTER I WITH OGONEK
+            // U+0131: "ı" LATIN SMALL LETTER DOTLESS I
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_i */ "4=\u00EC,\u00ED,\u00EE,\u00EF,\u0129,\u012B,\u012D,\u012F,\u0131,\u0133\u0000"
+            // U+00F1: "ñ" LATIN SMALL LETTER N WITH TILDE
+            // U+0144: "ń" LATIN SMALL LETTER N WITH ACUTE
+            // U+0146: "ņ" LATIN SMALL LETTER N WITH CEDILLA
+            // U+0148: "ň" LATIN SMALL LETTER N WITH CARON
+            // U+0149: "ŉ" LATIN SMALL LETTER N PRECEDED BY APOSTROPHE
+            // U+014B: "ŋ" LATIN SMALL LETTER ENG
+            + /* morekeys_n */ "6=\u00F1,\u0144,\u0146,\u0148,\u0149,\u014B\u0000"
+            // U+00E7: "ç" LATIN SMALL LETTER C WITH CEDILLA
+            // U+0107: "ć" LATIN SMALL LETTER C WITH ACUTE
+            // U+0109: "ĉ" LATIN SMALL LETTER C WITH CIRCUMFLEX
+            // U+010B: "ċ" LATIN SMALL LETTER C WITH DOT ABOVE
+            // U+010D: "č" LATIN SMALL LETTER C WITH CARON
+            + /* morekeys_c */ "7=\u00E7,\u0107,\u0109,\u010B,\u010D\u0000"
+            // U+00DF: "ß" LATIN SMALL LETTER SHARP S
+            // U+015B: "ś" LATIN SMALL LETTER S WITH ACUTE
+            // U+015D: "ŝ" LATIN SMALL LETTER S WITH CIRCUMFLEX
+            // U+015F: "ş" LATIN SMALL LETTER S WITH CEDILLA
+            // U+0161: "š" LATIN SMALL LETTER S WITH CARON
+            // U+017F: "ſ" LATIN SMALL LETTER LONG S
+            + /* morekeys_s */ "9=\u00DF,\u015B,\u015D,\u015F,\u0161,\u017F\u0000"
+            // U+00FD: "ý" LATIN SMALL LETTER Y WITH ACUTE
+            // U+0177: "ŷ" LATIN SMALL LETTER Y WITH CIRCUMFLEX
+            // U+00FF: "ÿ" LATIN SMALL LETTER Y WITH DIAERESIS
+            // U+0133: "ĳ" LATIN SMALL LIGATURE IJ
+            + /* morekeys_y */ "12=\u00FD,\u0177,\u00FF,\u0133\u0000"
+            // U+017A: "ź" LATIN SMALL LETTER Z WITH ACUTE
+            // U+017C: "ż" LATIN SMALL LETTER Z WITH DOT ABOVE
+            // U+017E: "ž" LATIN SMALL LETTER Z WITH CARON
+            + /* morekeys_z */ "13=\u017A,\u017C,\u017E\u0000"
+            // U+010F: "ď" LATIN SMALL LETTER D WITH CARON
+            // U+0111: "đ" LATIN SMALL LETTER D WITH STROKE
+            // U+00F0: "ð" LATIN SMALL LETTER ETH
+            + /* morekeys_d */ "14=\u010F,\u0111,\u00F0\u0000"
+            // U+00FE: "þ" LATIN SMALL LETTER THORN
+            // U+0163: "ţ" LATIN SMALL LETTER T WITH CEDILLA
+            // U+0165: "ť" LATIN SMALL LETTER T WITH CARON
+            // U+0167: "ŧ" LATIN SMALL LETTER T WITH STROKE
+            + /* morekeys_t */ "15=\u00FE,\u0163,\u0165,\u0167\u0000"
+            // U+013A: "ĺ" LATIN SMALL LETTER L WITH ACUTE
+            // U+013C: "ļ" LATIN SMALL LETTER L WITH CEDILLA
+            // U+013E: "ľ" LATIN SMALL LETTER L WITH CARON
+            // U+0140: "ŀ" LATIN SMALL LETTER L WITH MIDDLE DOT
+            // U+0142: "ł" LATIN SMALL LETTER L WITH STROKE
+            + /* morekeys_l */ "16=\u013A,\u013C,\u013E,\u0140,\u0142\u0000"
+            // U+011D: "ĝ" LATIN SMALL LETTER G WITH CIRCUMFLEX
+            // U+011F: "ğ" LATIN SMALL LETTER G WITH BREVE
+            // U+0121: "ġ" LATIN SMALL LETTER G WITH DOT ABOVE
+            // U+0123: "ģ" LATIN SMALL LETTER G WITH CEDILLA
+            + /* morekeys_g */ "17=\u011D,\u011F,\u0121,\u0123\u0000"
+            // U+0155: "ŕ" LATIN SMALL LETTER R WITH ACUTE
+            // U+0157: "ŗ" LATIN SMALL LETTER R WITH CEDILLA
+            // U+0159: "ř" LATIN SMALL LETTER R WITH CARON
+            + /* morekeys_r */ "20=\u0155,\u0157,\u0159\u0000"
+            // U+0137: "ķ" LATIN SMALL LETTER K WITH CEDILLA
+            // U+0138: "ĸ" LATIN SMALL LETTER KRA
+            + /* morekeys_k */ "21=\u0137,\u0138\u0000"
+            // U+0125: "ĥ" LATIN SMALL LETTER H WITH CIRCUMFLEX
+            + /* morekeys_h */ "85=\u0125\u0000"
+            // U+0175: "ŵ" LATIN SMALL LETTER W WITH CIRCUMFLEX
+            + /* morekeys_w */ "86=\u0175\u0000"
+            // U+0135: "ĵ" LATIN SMALL LETTER J WITH CIRCUMFLEX
+            + /* morekeys_j */ "119=\u0135\u0000";
+
+    // The packed texts are string constants, so that only the ones of the locales in use are
+    // ever loaded.
+    private static String getPackedTexts(final String locale) {
+        switch (locale) {
+        // case "locale": return TEXTS_locale; /* numberOfTexts localeName */
+        case "af":     return TEXTS_af;     /*   7 Afrikaans */
+        case "ar":     return TEXTS_ar;     /*  70 Arabic */
+        case "az_AZ":  return TEXTS_az_AZ;  /*  11 Azerbaijani (Azerbaijan) */
+        case "be_BY":  return TEXTS_be_BY;  /*  12 Belarusian (Belarus) */
+        case "bg":     return TEXTS_bg;     /*   4 Bulgarian */
+        case "bn_BD":  return TEXTS_bn_BD;  /*   2 Bengali (Bangladesh) */
+        case "bn_IN":  return TEXTS_bn_IN;  /*   2 Bengali (India) */
+        case "ca":     return TEXTS_ca;     /*  13 Catalan */
+        case "cs":     return TEXTS_cs;     /*  20 Czech */
+        case "da":     return TEXTS_da;     /*  22 Danish */
+        case "de":     return TEXTS_de;     /*  19 German */
+        case "el":     return TEXTS_el;     /*   1 Greek */
+        case "en":     return TEXTS_en;     /*   8 English */
+        case "eo":     return TEXTS_eo;     /*  26 Esperanto */
+        case "es":     return TEXTS_es;     /*   9 Spanish */
+        case "et_EE":  return TEXTS_et_EE;  /*  25 Estonian (Estonia) */
+        case "eu_ES":  return TEXTS_eu_ES;  /*   7 Basque (Spain) */
+        case "fa":     return TEXTS_fa;     /*  71 Persian */
+        case "fi":     return TEXTS_fi;     /*  10 Finnish */
+        case "fr":     return TEXTS_fr;     /*  13 French */
+        case "gl_ES":  return TEXTS_gl_ES;  /*   7 Gallegan (Spain) */
+        case "hi":     return TEXTS_hi;     /*  27 Hindi */
+        case "hi_ZZ":  return TEXTS_hi_ZZ;  /*  11 Hindi (Unknown Region) */
+        case "hr":     return TEXTS_hr;     /*  12 Croatian */
+        case "hu":     return TEXTS_hu;     /*  12 Hungarian */
+        case "hy_AM":  return TEXTS_hy_AM;  /*  10 Armenian (Armenia) */
+        case "is":     return TEXTS_is;     /*  13 Icelandic */
+        case "it":     return TEXTS_it;     /*  11 Italian */
+        case "iw":     return TEXTS_iw;     /*  39 Hebrew */
+        case "ka_GE":  return TEXTS_ka_GE;  /*   6 Georgian (Georgia) */
+        case "kk":     return TEXTS_kk;     /*  15 Kazakh */
+        case "km_KH":  return TEXTS_km_KH;  /*   2 Khmer (Cambodia) */
+        case "kn_IN":  return TEXTS_kn_IN;  /*   2 Kannada (India) */
+        case "ky":     return TEXTS_ky;     /*  10 Kirghiz */
+        case "lb":     return TEXTS_lb;     /*  14 Luxembourgish */
+        case "lo_LA":  return TEXTS_lo_LA;  /*   2 Lao (Laos) */
+        case "lt":     return TEXTS_lt;     /*  21 Lithuanian */
+        case "lv":     return TEXTS_lv;     /*  21 Latvian */
+        case "mk":     return TEXTS_mk;     /*  12 Macedonian */
+        case "ml_IN":  return TEXTS_ml_IN;  /*   2 Malayalam (India) */
+        case "mn_MN":  return TEXTS_mn_MN;  /*   2 Mongolian (Mongolia) */
+        case "mr_IN":  return TEXTS_mr_IN;  /*  23 Marathi (India) */
+        case "my_MM":  return TEXTS_my_MM;  /*  10 Burmese (Myanmar) */
+        case "nb":     return TEXTS_nb;     /*  14 Norwegian Bokmål */
+        case "ne_NP":  return TEXTS_ne_NP;  /*  27 Nepali (Nepal) */
+        case "nl":     return TEXTS_nl;     /*  12 Dutch */
+        case "pl":     return TEXTS_pl;     /*  13 Polish */
+        case "pt":     return TEXTS_pt;     /*   6 Portuguese */
+        case "rm":     return TEXTS_rm;     /*   1 Raeto-Romance */
+        case "ro":     return TEXTS_ro;     /*   9 Romanian */
+        case "ru":     return TEXTS_ru;     /*  12 Russian */
+        case "si_LK":  return TEXTS_si_LK;  /*   2 Sinhalese (Sri Lanka) */
+        case "sk":     return TEXTS_sk;     /*  23 Slovak */
+        case "sl":     return TEXTS_sl;     /*  11 Slovenian */
+        case "sr":     return TEXTS_sr;     /*  14 Serbian */
+        case "sr_ZZ":  return TEXTS_sr_ZZ;  /*  16 Serbian (Unknown Region) */
+        case "sv":     return TEXTS_sv;     /*  24 Swedish */
+        case "sw":     return TEXTS_sw;     /*   9 Swahili */
+        case "ta_IN":  return TEXTS_ta_IN;  /*   2 Tamil (India) */
+        case "ta_LK":  return TEXTS_ta_LK;  /*   2 Tamil (Sri Lanka) */
+        case "ta_SG":  return TEXTS_ta_SG;  /*   1 Tamil (Singapore) */
+        case "te_IN":  return TEXTS_te_IN;  /*   2 Telugu (India) */
+        case "th":     return TEXTS_th;     /*   2 Thai */
+        case "tl":     return TEXTS_tl;     /*   7 Tagalog */
+        case "tr":     return TEXTS_tr;     /*  11 Turkish */
+        case "uk":     return TEXTS_uk;     /*  14 Ukrainian */
+        case "uz_UZ":  return TEXTS_uz_UZ;  /*  11 Uzbek (Uzbekistan) */
+        case "vi":     return TEXTS_vi;     /*   8 Vietnamese */
+        case "zu":     return TEXTS_zu;     /*   8 Zulu */
+        case "zz":     return TEXTS_zz;     /*  19 Alphabet */
+        default:
+            return null;
+        }
+    }
 
     static {
         for (int index = 0; index < NAMES.length; index++) {
             sNameToIndexesMap.put(NAMES[index], index);
         }
-
-        for (int i = 0; i < LOCALES_AND_TEXTS.length; i += 2) {
-            final String locale = (String)LOCALES_AND_TEXTS[i];
-            final String[] textsTable = (String[])LOCALES_AND_TEXTS[i + 1];
-            sLocaleToTextsTableMap.put(locale, textsTable);
-            sTextsTableToLocaleMap.put(textsTable, locale);
-        }
+        sTextsTableToLocaleMap.put(TEXTS_DEFAULT, "DEFAULT");
     }
 }
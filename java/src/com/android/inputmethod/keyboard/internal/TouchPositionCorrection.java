@@ -19,6 +19,12 @@ package com.android.inputmethod.keyboard.internal;
 import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.latin.define.DebugFlags;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+
 public final class TouchPositionCorrection {
     private static final int TOUCH_POSITION_CORRECTION_RECORD_SIZE = 3;
 
@@ -67,6 +73,31 @@ public final class TouchPositionCorrection {
         }
     }
 
+    public void writeTo(@Nonnull final DataOutputStream out) throws IOException {
+        out.writeBoolean(mEnabled);
+        KeyboardSerializationUtils.writeFloatArray(out, mXs);
+        KeyboardSerializationUtils.writeFloatArray(out, mYs);
+        KeyboardSerializationUtils.writeFloatArray(out, mRadii);
+    }
+
+    /**
+     * Loads the data written by {@link #writeTo(DataOutputStream)}.
+     */
+    public void load(@Nonnull final ByteBuffer buffer) {
+        final boolean enabled = buffer.get() != 0;
+        final float[] xs = KeyboardSerializationUtils.readFloatArray(buffer);
+        final float[] ys = KeyboardSerializationUtils.readFloatArray(buffer);
+        final float[] radii = KeyboardSerializationUtils.readFloatArray(buffer);
+        if (enabled && (xs == null || ys == null || radii == null
+                || xs.length != radii.length || ys.length != radii.length)) {
+            throw new IllegalArgumentException("Invalid touch position correction data");
+        }
+        mXs = xs;
+        mYs = ys;
+        mRadii = radii;
+        mEnabled = enabled;
+    }
+
     @UsedForTesting
     public void setEnabled(final boolean enabled) {
         mEnabled = enabled;
@@ -54,17 +54,18 @@ public abstract class UniqueKeysCache {
         }
 
         @Override
-        public void setEnabled(final boolean enabled) {
+        public synchronized void setEnabled(final boolean enabled) {
             mEnabled = enabled;
         }
 
         @Override
-        public void clear() {
+        public synchronized void clear() {
             mCache.clear();
         }
 
+        // Synchronized as keyboards may be built on several threads at the same time.
         @Override
-        public Key getUniqueKey(final Key key) {
+        public synchronized Key getUniqueKey(final Key key) {
             if (!mEnabled) {
                 return key;
             }
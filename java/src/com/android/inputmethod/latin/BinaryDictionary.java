@@ -68,6 +68,11 @@ public final class BinaryDictionary extends Dictionary {
     public static final String MAX_UNIGRAM_COUNT_QUERY = "MAX_UNIGRAM_COUNT";
     @UsedForTesting
     public static final String MAX_BIGRAM_COUNT_QUERY = "MAX_BIGRAM_COUNT";
+    // Typing queries answered from the suggestions cached by the session, and the other ones.
+    @UsedForTesting
+    public static final String SUGGESTION_CACHE_HIT_COUNT_QUERY = "SUGGESTION_CACHE_HIT_COUNT";
+    @UsedForTesting
+    public static final String SUGGESTION_CACHE_MISS_COUNT_QUERY = "SUGGESTION_CACHE_MISS_COUNT";
 
     public static final int NOT_A_VALID_TIMESTAMP = -1;
 
@@ -174,6 +179,7 @@ public final class BinaryDictionary extends Dictionary {
             int[] outFormatVersion, ArrayList<int[]> outAttributeKeys,
             ArrayList<int[]> outAttributeValues);
     private static native boolean flushNative(long dict, String filePath);
+    private static native boolean setHeaderIntAttributeNative(long dict, String key, int value);
     private static native boolean needsToRunGCNative(long dict, boolean mindsBlockByGC);
     private static native boolean flushWithGCNative(long dict, String filePath);
     private static native void closeNative(long dict);
@@ -190,6 +196,8 @@ public final class BinaryDictionary extends Dictionary {
             ArrayList<int[]> outShortcutTargets, ArrayList<Integer> outShortcutProbabilities);
     private static native int getNextWordNative(long dict, int token, int[] outCodePoints,
             boolean[] outIsBeginningOfSentence);
+    private static native int[] getNextWordPropertiesNative(long dict, int token,
+            int[] outBuffer, int[] outNextTokenAndSize);
     private static native void getSuggestionsNative(long dict, long proximityInfo,
             long traverseSession, int[] xCoordinates, int[] yCoordinates, int[] times,
             int[] pointerIds, int[] inputCodePoints, int inputSize, int[] suggestOptions,
@@ -304,7 +312,7 @@ public final class BinaryDictionary extends Dictionary {
         }
         // TOOD: Pass multiple previous words information for n-gram.
         getSuggestionsNative(mNativeDict, proximityInfoHandle,
-                getTraverseSession(sessionId).getSession(), inputPointers.getXCoordinates(),
+                session.getSession(), inputPointers.getXCoordinates(),
                 inputPointers.getYCoordinates(), inputPointers.getTimes(),
                 inputPointers.getPointerIds(), session.mInputCodePoints, inputSize,
                 session.mNativeSuggestOptions.getOptions(), session.mPrevWordCodePointArrays,
@@ -318,7 +326,7 @@ public final class BinaryDictionary extends Dictionary {
                     session.mInputOutputWeightOfLangModelVsSpatialModel[0];
         }
         final int count = session.mOutputSuggestionCount[0];
-        final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>();
+        final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>(count);
         for (int j = 0; j < count; ++j) {
             final int start = j * DICTIONARY_MAX_WORD_LENGTH;
             int len = 0;
@@ -443,6 +451,35 @@ public final class BinaryDictionary extends Dictionary {
                 getWordProperty(word, isBeginningOfSentence[0]), nextToken);
     }
 
+    /**
+     * Method to export the properties of many words at once, starting from the word at the token.
+     * If token is 0, this method newly starts iterating the dictionary.
+     *
+     * @param token the token of the first word to export.
+     * @param outBuffer the buffer to pack the word properties into. It is filled with as many
+     * word properties as fit, and always at least one.
+     * @param outNextTokenAndSize receives the token of the next word, which is 0 when all words
+     * have been exported, and the number of ints used in the returned buffer.
+     * @return outBuffer, or a larger array when a word property does not fit in outBuffer.
+     */
+    int[] getNextWordProperties(final int token, final int[] outBuffer,
+            final int[] outNextTokenAndSize) {
+        outNextTokenAndSize[0] = 0;
+        outNextTokenAndSize[1] = 0;
+        if (!isValidDictionary()) {
+            return outBuffer;
+        }
+        return getNextWordPropertiesNative(mNativeDict, token, outBuffer, outNextTokenAndSize);
+    }
+
+    /**
+     * Returns an iterator over the properties of all the words in the dictionary. This is much
+     * faster than {@link #getNextWordProperty(int)} because the words are exported in chunks.
+     */
+    public WordPropertyIterator getWordPropertyIterator() {
+        return new WordPropertyIterator(this);
+    }
+
     // Add a unigram entry to binary dictionary with unigram attributes in native code.
     public boolean addUnigramEntry(final String word, final int probability,
             final String shortcutTarget, final int shortcutProbability,
@@ -494,6 +531,23 @@ public final class BinaryDictionary extends Dictionary {
         return true;
     }
 
+    // Remove an n-gram entry from the binary dictionary in native code.
+    public boolean removeNgramEntry(final NgramContext ngramContext, final String word) {
+        if (!ngramContext.isValid() || TextUtils.isEmpty(word)) {
+            return false;
+        }
+        final int[][] prevWordCodePointArrays = new int[ngramContext.getPrevWordCount()][];
+        final boolean[] isBeginningOfSentenceArray = new boolean[ngramContext.getPrevWordCount()];
+        ngramContext.outputToArray(prevWordCodePointArrays, isBeginningOfSentenceArray);
+        final int[] wordCodePoints = StringUtils.toCodePointArray(word);
+        if (!removeNgramEntryNative(mNativeDict, prevWordCodePointArrays,
+                isBeginningOfSentenceArray, wordCodePoints)) {
+            return false;
+        }
+        mHasUpdated = true;
+        return true;
+    }
+
     // Update entries for the word occurrence with the ngramContext.
     public boolean updateEntriesForWordWithNgramContext(@Nonnull final NgramContext ngramContext,
             final String word, final boolean isValidWord, final int count, final int timestamp) {
@@ -541,6 +595,18 @@ public final class BinaryDictionary extends Dictionary {
                 dictFile.length(), mIsUpdatable);
     }
 
+    // Set an int attribute of the header, which is written to dict file at the next flush.
+    public boolean setHeaderIntAttribute(final String key, final int value) {
+        if (!isValidDictionary()) {
+            return false;
+        }
+        if (!setHeaderIntAttributeNative(mNativeDict, key, value)) {
+            return false;
+        }
+        mHasUpdated = true;
+        return true;
+    }
+
     // Flush to dict file if the dictionary has been updated.
     public boolean flush() {
         if (!isValidDictionary()) {
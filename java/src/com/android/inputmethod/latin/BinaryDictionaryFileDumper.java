@@ -39,13 +39,14 @@ import com.android.inputmethod.latin.utils.MetadataFileUriGetter;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -60,10 +61,6 @@ public final class BinaryDictionaryFileDumper {
     private static final String TAG = BinaryDictionaryFileDumper.class.getSimpleName();
     private static final boolean DEBUG = false;
 
-    /**
-     * The size of the temporary buffer to copy files.
-     */
-    private static final int FILE_READ_BUFFER_SIZE = 8192;
     // TODO: make the following data common with the native code
     private static final byte[] MAGIC_NUMBER_VERSION_1 =
             new byte[] { (byte)0x78, (byte)0xB1, (byte)0x00, (byte)0x00 };
@@ -307,13 +304,13 @@ public final class BinaryDictionaryFileDumper {
                 }
                 bufferedInputStream = new BufferedInputStream(inputStream);
                 bufferedOutputStream = new BufferedOutputStream(new FileOutputStream(outputFile));
-                checkMagicAndCopyFileTo(bufferedInputStream, bufferedOutputStream);
+                // The checksum is computed while copying, so that the file is only read once.
+                final String actualRawChecksum =
+                        checkMagicAndCopyFileTo(bufferedInputStream, bufferedOutputStream);
                 bufferedOutputStream.flush();
                 bufferedOutputStream.close();
 
                 if (SHOULD_VERIFY_CHECKSUM) {
-                    final String actualRawChecksum = MD5Calculator.checksum(
-                            new BufferedInputStream(new FileInputStream(outputFile)));
                     Log.i(TAG, "Computed checksum for downloaded dictionary. Expected = "
                             + rawChecksum + " ; actual = " + actualRawChecksum);
                     if (!TextUtils.isEmpty(rawChecksum) && !rawChecksum.equals(actualRawChecksum)) {
@@ -461,8 +458,9 @@ public final class BinaryDictionaryFileDumper {
      *
      * @param input the stream to be copied.
      * @param output an output stream to copy the data to.
+     * @return the checksum of the copied data, or null if it can't be computed.
      */
-    public static void checkMagicAndCopyFileTo(final BufferedInputStream input,
+    public static String checkMagicAndCopyFileTo(final BufferedInputStream input,
             final BufferedOutputStream output) throws FileNotFoundException, IOException {
         // Check the magic number
         final int length = MAGIC_NUMBER_VERSION_2.length;
@@ -478,14 +476,12 @@ public final class BinaryDictionaryFileDumper {
                 }
             }
         }
-        output.write(magicNumberBuffer);
 
-        // Actually copy the file
-        final byte[] buffer = new byte[FILE_READ_BUFFER_SIZE];
-        for (int readBytes = input.read(buffer); readBytes >= 0; readBytes = input.read(buffer)) {
-            output.write(buffer, 0, readBytes);
-        }
+        // Actually copy the file, including the magic number that has already been read
+        final String checksum = MD5Calculator.checksumAndCopy(new SequenceInputStream(
+                new ByteArrayInputStream(magicNumberBuffer), input), output);
         input.close();
+        return checksum;
     }
 
     private static void reinitializeClientRecordInDictionaryContentProvider(final Context context,
@@ -21,9 +21,11 @@ import android.content.Context;
 import android.net.Uri;
 import android.provider.ContactsContract;
 import android.provider.ContactsContract.Contacts;
+import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.inputmethod.annotations.ExternallyReferenced;
+import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.latin.ContactsManager.ContactsChangedListener;
 import com.android.inputmethod.latin.common.StringUtils;
 import com.android.inputmethod.latin.permissions.PermissionsUtil;
@@ -31,6 +33,8 @@ import com.android.inputmethod.latin.personalization.AccountUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -50,12 +54,27 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
     private final boolean mUseFirstLastBigrams;
     private final ContactsManager mContactsManager;
 
+    // The following are guarded by the lock of the dictionary, and let changes to the contacts
+    // be applied without rebuilding the whole dictionary.
+    // The number of loaded names and account addresses that have each entry. An entry is a word,
+    // or for an n-gram the words from its context to it separated with spaces.
+    private final HashMap<String, Integer> mEntryCounts = new HashMap<>();
+    // The names loaded from Contacts.CONTENT_URI, or null if they are not known because the
+    // dictionary was loaded from its file.
+    @Nullable private HashSet<String> mContactNames = null;
+
     protected ContactsBinaryDictionary(final Context context, final Locale locale,
             final File dictFile, final String name) {
+        this(context, locale, dictFile, name, new ContactsManager(context));
+    }
+
+    @UsedForTesting
+    ContactsBinaryDictionary(final Context context, final Locale locale, final File dictFile,
+            final String name, final ContactsManager contactsManager) {
         super(context, getDictName(name, locale, dictFile), locale, Dictionary.TYPE_CONTACTS,
                 dictFile);
         mUseFirstLastBigrams = ContactsDictionaryUtils.useFirstLastBigramsForLocale(locale);
-        mContactsManager = new ContactsManager(context);
+        mContactsManager = contactsManager;
         mContactsManager.registerForUpdates(this /* listener */);
         reloadDictionaryIfRequired();
     }
@@ -80,6 +99,8 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
      */
     @Override
     public void loadInitialContentsLocked() {
+        mEntryCounts.clear();
+        mContactNames = null;
         loadDeviceAccountsEmailAddressesLocked();
         loadDictionaryForUriLocked(ContactsContract.Profile.CONTENT_URI);
         // TODO: Switch this URL to the newer ContactsContract too
@@ -105,6 +126,7 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
                     0 /* shortcutFreq */,
                     false /* isNotAWord */, false /* isPossiblyOffensive */,
                     BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            incrementEntryCount(word);
         }
     }
 
@@ -122,6 +144,7 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
             addNameLocked(name);
         }
         if (uri.equals(Contacts.CONTENT_URI)) {
+            mContactNames = new HashSet<>(validNames);
             // Since we were able to add content successfully, update the local
             // state of the manager.
             mContactsManager.updateLocalState(validNames);
@@ -129,13 +152,11 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
     }
 
     /**
-     * Adds the words in a name (e.g., firstname/lastname) to the binary dictionary along with their
-     * bigrams depending on locale.
+     * Returns the words in a name that go into the dictionary.
      */
-    private void addNameLocked(final String name) {
+    private static ArrayList<String> getWordsInName(final String name) {
+        final ArrayList<String> words = new ArrayList<>();
         int len = StringUtils.codePointCount(name);
-        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
-                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
         // TODO: Better tokenization for non-Latin writing systems
         for (int i = 0; i < len; i++) {
             if (Character.isLetter(name.codePointAt(i))) {
@@ -149,30 +170,140 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
                 // capitalization of i.
                 final int wordLen = StringUtils.codePointCount(word);
                 if (wordLen <= MAX_WORD_LENGTH && wordLen > 1) {
-                    if (DEBUG) {
-                        Log.d(TAG, "addName " + name + ", " + word + ", "  + ngramContext);
-                    }
-                    runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                    addUnigramLocked(word, ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS,
-                            null /* shortcut */, 0 /* shortcutFreq */, false /* isNotAWord */,
-                            false /* isPossiblyOffensive */,
-                            BinaryDictionary.NOT_A_VALID_TIMESTAMP);
-                    if (ngramContext.isValid() && mUseFirstLastBigrams) {
-                        runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                        addNgramEntryLocked(ngramContext,
-                                word,
-                                ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
-                                BinaryDictionary.NOT_A_VALID_TIMESTAMP);
-                    }
-                    ngramContext = ngramContext.getNextNgramContext(
-                            new NgramContext.WordInfo(word));
+                    words.add(word);
                 }
             }
         }
+        return words;
+    }
+
+    // Returns the entry of the n-gram from the words before the index to the word at the index.
+    private static String getNgramEntry(final ArrayList<String> words, final int index) {
+        final int start = Math.max(index - BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM, 0);
+        return TextUtils.join(" ", words.subList(start, index + 1));
+    }
+
+    private void incrementEntryCount(final String entry) {
+        final Integer count = mEntryCounts.get(entry);
+        mEntryCounts.put(entry, (count == null) ? 1 : count + 1);
+    }
+
+    // Returns whether no loaded name has the entry anymore.
+    private boolean decrementEntryCount(final String entry) {
+        final Integer count = mEntryCounts.get(entry);
+        if (count == null || count <= 1) {
+            mEntryCounts.remove(entry);
+            return true;
+        }
+        mEntryCounts.put(entry, count - 1);
+        return false;
     }
 
+    /**
+     * Adds the words in a name (e.g., firstname/lastname) to the binary dictionary along with their
+     * bigrams depending on locale.
+     */
+    private void addNameLocked(final String name) {
+        final ArrayList<String> words = getWordsInName(name);
+        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
+                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        for (int i = 0; i < words.size(); i++) {
+            final String word = words.get(i);
+            if (DEBUG) {
+                Log.d(TAG, "addName " + name + ", " + word + ", "  + ngramContext);
+            }
+            runGCIfRequiredLocked(true /* mindsBlockByGC */);
+            addUnigramLocked(word, ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS,
+                    null /* shortcut */, 0 /* shortcutFreq */, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */,
+                    BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            incrementEntryCount(word);
+            if (ngramContext.isValid() && mUseFirstLastBigrams) {
+                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                addNgramEntryLocked(ngramContext,
+                        word,
+                        ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
+                        BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+                incrementEntryCount(getNgramEntry(words, i));
+            }
+            ngramContext = ngramContext.getNextNgramContext(new NgramContext.WordInfo(word));
+        }
+    }
+
+    /**
+     * Removes the words in a name and their n-grams from the binary dictionary, except for the
+     * ones other loaded names also have.
+     */
+    private void removeNameLocked(final String name) {
+        final ArrayList<String> words = getWordsInName(name);
+        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
+                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        for (int i = 0; i < words.size(); i++) {
+            final String word = words.get(i);
+            if (DEBUG) {
+                Log.d(TAG, "removeName " + name + ", " + word + ", "  + ngramContext);
+            }
+            if (ngramContext.isValid() && mUseFirstLastBigrams
+                    && decrementEntryCount(getNgramEntry(words, i))) {
+                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                removeNgramEntryLocked(ngramContext, word);
+            }
+            if (decrementEntryCount(word)) {
+                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                removeUnigramLocked(word);
+            }
+            ngramContext = ngramContext.getNextNgramContext(new NgramContext.WordInfo(word));
+        }
+    }
+
+    /**
+     * Applies the difference between the loaded contact names and the current ones to the
+     * dictionary.
+     */
+    private void updateContactNamesLocked(final ArrayList<String> validNames) {
+        if (mContactNames == null) {
+            // The names the dictionary file was built from are not known, so the names that have
+            // been removed since can't be found.
+            setNeedsToRecreate();
+            reloadDictionaryIfRequired();
+            return;
+        }
+        final HashSet<String> names = new HashSet<>(validNames);
+        int changeCount = 0;
+        for (final String name : mContactNames) {
+            if (!names.contains(name)) {
+                removeNameLocked(name);
+                changeCount++;
+            }
+        }
+        for (final String name : names) {
+            if (!mContactNames.contains(name)) {
+                addNameLocked(name);
+                changeCount++;
+            }
+        }
+        mContactNames = names;
+        mContactsManager.updateLocalState(validNames);
+        if (changeCount > 0) {
+            flushBinaryDictionaryLocked();
+        }
+        if (DEBUG) {
+            Log.d(TAG, "updateContactNames: " + changeCount + " names changed");
+        }
+    }
+
+    /**
+     * Called on a background thread once a series of changes to the contacts have settled.
+     */
     @Override
     public void onContactsChange() {
-        setNeedsToRecreate();
+        // Query the names before taking the lock, so that updates are not blocked meanwhile.
+        final ArrayList<String> validNames = mContactsManager.getValidNames(Contacts.CONTENT_URI);
+        updateDictionaryWithWriteLock(new Runnable() {
+            @Override
+            public void run() {
+                updateContactNamesLocked(validNames);
+            }
+        });
     }
 }
@@ -30,17 +30,25 @@ import com.android.inputmethod.latin.permissions.PermissionsUtil;
 import com.android.inputmethod.latin.utils.ExecutorUtils;
 
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A content observer that listens to updates to content provider {@link Contacts#CONTENT_URI}.
+ *
+ * Syncing contacts notifies many changes in a row, so the changes notified within
+ * {@link #CHANGE_COALESCING_DELAY_IN_MILLISECONDS} of the first one are checked together.
  */
 public class ContactsContentObserver implements Runnable {
     private static final String TAG = "ContactsContentObserver";
 
+    static final long CHANGE_COALESCING_DELAY_IN_MILLISECONDS =
+            TimeUnit.SECONDS.toMillis(3);
+
     private final Context mContext;
     private final ContactsManager mManager;
     private final AtomicBoolean mRunning = new AtomicBoolean(false);
+    private final AtomicBoolean mIsCheckScheduled = new AtomicBoolean(false);
 
     private ContentObserver mContentObserver;
     private ContactsChangedListener mContactsChangedListener;
@@ -65,16 +73,30 @@ public class ContactsContentObserver implements Runnable {
         mContentObserver = new ContentObserver(null /* handler */) {
             @Override
             public void onChange(boolean self) {
-                ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD)
-                        .execute(ContactsContentObserver.this);
+                scheduleCheck();
             }
         };
         final ContentResolver contentResolver = mContext.getContentResolver();
         contentResolver.registerContentObserver(Contacts.CONTENT_URI, true, mContentObserver);
     }
 
+    /**
+     * Schedules a check of the contacts after the coalescing delay, unless one is already
+     * scheduled.
+     */
+    void scheduleCheck() {
+        if (!mIsCheckScheduled.compareAndSet(false /* expect */, true /* update */)) {
+            // The check that is already scheduled will see this change too.
+            return;
+        }
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).schedule(this,
+                CHANGE_COALESCING_DELAY_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public void run() {
+        // Changes notified from now on need another check.
+        mIsCheckScheduled.set(false);
         if (!PermissionsUtil.checkAllPermissionsGranted(
                 mContext, Manifest.permission.READ_CONTACTS)) {
             Log.i(TAG, "No permission to read contacts. Not updating the contacts.");
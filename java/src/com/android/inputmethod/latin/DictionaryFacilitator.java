@@ -56,7 +56,8 @@ public interface DictionaryFacilitator {
             Dictionary.TYPE_USER};
 
     /**
-     * The facilitator will put words into the cache whenever it decodes them.
+     * The facilitator will put words into the cache whenever it checks their spelling, and get
+     * them from it until the dictionaries are reset or the personalized dictionaries change.
      * @param cache
      */
     void setValidSpellingWordReadCache(final LruCache<String, Boolean> cache);
@@ -164,6 +165,13 @@ public interface DictionaryFacilitator {
 
     boolean isValidSpellingWord(final String word);
 
+    /**
+     * Returns the greatest generation of the personalized dictionaries, which changes whenever
+     * one of them may have been modified.
+     * See {@link ExpandableBinaryDictionary#getGeneration()}.
+     */
+    int getPersonalizedDictionariesGeneration();
+
     boolean isValidSuggestionWord(final String word);
 
     boolean clearUserHistoryDictionary(final Context context);
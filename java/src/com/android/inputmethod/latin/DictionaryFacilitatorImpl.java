@@ -28,11 +28,14 @@ import com.android.inputmethod.latin.NgramContext.WordInfo;
 import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
 import com.android.inputmethod.latin.common.ComposedData;
 import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.FileUtils;
 import com.android.inputmethod.latin.common.StringUtils;
+import com.android.inputmethod.latin.define.ProductionFlags;
 import com.android.inputmethod.latin.permissions.PermissionsUtil;
 import com.android.inputmethod.latin.personalization.UserHistoryDictionary;
 import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
 import com.android.inputmethod.latin.utils.ExecutorUtils;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 import com.android.inputmethod.latin.utils.SuggestionResults;
 
 import java.io.File;
@@ -42,12 +45,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -58,7 +69,9 @@ import javax.annotation.Nullable;
  * update entries and fetch suggestions.
  *
  * Currently AndroidSpellCheckerService and LatinIME both use DictionaryFacilitator as
- * a client for interacting with dictionaries.
+ * a client for interacting with dictionaries. A facilitator created to share dictionaries uses
+ * the {@link SharedDictionaries} of the process for the main, contacts and user dictionaries, so
+ * that these are loaded once per locale however many facilitators use them.
  */
 public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
     // TODO: Consolidate dictionaries in native code.
@@ -68,7 +81,15 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
     // dictionary.
     private static final int CAPITALIZED_FORM_MAX_PROBABILITY_FOR_INSERT = 140;
 
+    // The time given to all dictionaries to return their suggestions when they are queried in
+    // parallel. Dictionaries that don't answer in time are left out of the suggestion results.
+    // Keystrokes of a fast typist come about 150ms apart, and a dictionary query normally takes a
+    // few milliseconds, so this only cuts off a dictionary that is stalled, e.g. while it is being
+    // reloaded, and leaves most of the time between keystrokes to the rest of the pipeline.
+    private static final long SUGGESTION_FAN_OUT_DEADLINE_IN_MILLISECONDS = 50;
+
     private DictionaryGroup mDictionaryGroup = new DictionaryGroup();
+    private final boolean mSharesDictionaries;
     private volatile CountDownLatch mLatchForWaitingLoadingMainDictionaries = new CountDownLatch(0);
     // To synchronize assigning mDictionaryGroup to ensure closing dictionaries.
     private final Object mLock = new Object();
@@ -87,8 +108,23 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             new Class[] { Context.class, Locale.class, File.class, String.class, String.class };
 
     private LruCache<String, Boolean> mValidSpellingWordReadCache;
+    // The generation of the personalized dictionaries the words of the read cache were looked up
+    // in. See {@link #getPersonalizedDictionariesGeneration()}.
+    private volatile int mValidSpellingWordReadCacheGeneration;
     private LruCache<String, Boolean> mValidSpellingWordWriteCache;
 
+    private volatile boolean mIsSuggestionFanOutEnabled =
+            ProductionFlags.ENABLE_PARALLEL_SUGGESTION_FAN_OUT;
+    private volatile long mSuggestionFanOutDeadlineInMillis =
+            SUGGESTION_FAN_OUT_DEADLINE_IN_MILLISECONDS;
+    // Queries that were started for a dictionary and haven't returned yet. A dictionary that is
+    // still busy with a previous query is skipped, as a traverse session must not be used by two
+    // threads at the same time.
+    private final ConcurrentHashMap<Dictionary, Future<ArrayList<SuggestedWordInfo>>>
+            mPendingSuggestionQueries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SuggestionTimingStats> mSuggestionTimingStats =
+            new ConcurrentHashMap<>();
+
     @Override
     public void setValidSpellingWordReadCache(final LruCache<String, Boolean> cache) {
         mValidSpellingWordReadCache = cache;
@@ -174,7 +210,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             final Dictionary oldDict = mMainDict;
             mMainDict = mainDict;
             if (oldDict != null && mainDict != oldDict) {
-                oldDict.close();
+                SharedDictionaries.release(oldDict);
             }
         }
 
@@ -210,13 +246,16 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             } else {
                 dict = mSubDictMap.remove(dictType);
             }
-            if (dict != null) {
-                dict.close();
-            }
+            SharedDictionaries.release(dict);
         }
     }
 
     public DictionaryFacilitatorImpl() {
+        this(false /* sharesDictionaries */);
+    }
+
+    public DictionaryFacilitatorImpl(final boolean sharesDictionaries) {
+        mSharesDictionaries = sharesDictionaries;
     }
 
     @Override
@@ -269,6 +308,46 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         }
     }
 
+    // Returns a sub dictionary for the locale, shared with the other facilitators if possible.
+    @Nullable
+    private ExpandableBinaryDictionary getSubDict(final String dictType,
+            final Context context, final Locale locale, final String dictNamePrefix,
+            @Nullable final String account) {
+        if (!mSharesDictionaries || !SharedDictionaries.isShareable(dictType)) {
+            return getSubDict(dictType, context, locale, null /* dictFile */, dictNamePrefix,
+                    account);
+        }
+        final ExpandableBinaryDictionary dict = (ExpandableBinaryDictionary)
+                SharedDictionaries.acquireOrCreate(SharedDictionaries.getKey(dictType, locale),
+                        false /* forceCreate */, new SharedDictionaries.Creator() {
+                            @Override
+                            public Dictionary create() {
+                                // A shared dictionary doesn't take the prefix of the facilitator
+                                // that happens to create it, so that the same files are used
+                                // whichever facilitator comes first.
+                                return getSubDict(dictType, context, locale, null /* dictFile */,
+                                        "" /* dictNamePrefix */, account);
+                            }
+                        });
+        if (dict != null && !TextUtils.isEmpty(dictNamePrefix)) {
+            removeUnsharedDictionaryFiles(dict, dictNamePrefix);
+        }
+        return dict;
+    }
+
+    // Removes the files of the dictionary that this facilitator used before it shared its
+    // dictionaries, as they are not used any more.
+    private static void removeUnsharedDictionaryFiles(
+            @Nonnull final ExpandableBinaryDictionary sharedDict,
+            @Nonnull final String dictNamePrefix) {
+        final File sharedDictFile = sharedDict.getDictionaryFile();
+        final File unsharedDictFile = new File(sharedDictFile.getParentFile(),
+                dictNamePrefix + sharedDictFile.getName());
+        if (unsharedDictFile.exists() && !FileUtils.deleteRecursively(unsharedDictFile)) {
+            Log.e(TAG, "Can't remove a file: " + unsharedDictFile.getName());
+        }
+    }
+
     @Nullable
     static DictionaryGroup findDictionaryGroupWithLocale(final DictionaryGroup dictionaryGroup,
             final Locale locale) {
@@ -337,8 +416,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             if (noExistingDictsForThisLocale
                     || !dictionaryGroupForLocale.hasDict(subDictType, account)) {
                 // Create a new dictionary.
-                subDict = getSubDict(subDictType, context, newLocale, null /* dictFile */,
-                        dictNamePrefix, account);
+                subDict = getSubDict(subDictType, context, newLocale, dictNamePrefix, account);
             } else {
                 // Reuse the existing dictionary, and don't close it at the end
                 subDict = dictionaryGroupForLocale.getSubDict(subDictType);
@@ -355,7 +433,8 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             oldDictionaryGroup = mDictionaryGroup;
             mDictionaryGroup = newDictionaryGroup;
             if (hasAtLeastOneUninitializedMainDictionary()) {
-                asyncReloadUninitializedMainDictionaries(context, newLocale, listener);
+                asyncReloadUninitializedMainDictionaries(context, newLocale,
+                        forceReloadMainDictionary, listener);
             }
         }
         if (listener != null) {
@@ -372,26 +451,33 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
                 dictionarySetToCleanup.closeDict(dictType);
             }
         }
+        removePendingSuggestionQueriesOfReplacedDictionaries();
 
+        if (mValidSpellingWordReadCache != null) {
+            mValidSpellingWordReadCache.evictAll();
+        }
         if (mValidSpellingWordWriteCache != null) {
             mValidSpellingWordWriteCache.evictAll();
         }
     }
 
     private void asyncReloadUninitializedMainDictionaries(final Context context,
-            final Locale locale, final DictionaryInitializationListener listener) {
+            final Locale locale, final boolean forceReloadMainDictionary,
+            final DictionaryInitializationListener listener) {
         final CountDownLatch latchForWaitingLoadingMainDictionary = new CountDownLatch(1);
         mLatchForWaitingLoadingMainDictionaries = latchForWaitingLoadingMainDictionary;
         ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
             @Override
             public void run() {
-                doReloadUninitializedMainDictionaries(
-                        context, locale, listener, latchForWaitingLoadingMainDictionary);
+                doReloadUninitializedMainDictionaries(context, locale,
+                        forceReloadMainDictionary, listener,
+                        latchForWaitingLoadingMainDictionary);
             }
         });
     }
 
     void doReloadUninitializedMainDictionaries(final Context context, final Locale locale,
+            final boolean forceReloadMainDictionary,
             final DictionaryInitializationListener listener,
             final CountDownLatch latchForWaitingLoadingMainDictionary) {
         final DictionaryGroup dictionaryGroup =
@@ -401,22 +487,38 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             Log.w(TAG, "Expected a dictionary group for " + locale + " but none found");
             return;
         }
-        final Dictionary mainDict =
-                DictionaryFactory.createMainDictionaryFromManager(context, locale);
+        final Dictionary mainDict = getMainDict(context, locale, forceReloadMainDictionary);
         synchronized (mLock) {
             if (locale.equals(dictionaryGroup.mLocale)) {
                 dictionaryGroup.setMainDict(mainDict);
             } else {
                 // Dictionary facilitator has been reset for another locale.
-                mainDict.close();
+                SharedDictionaries.release(mainDict);
             }
         }
+        removePendingSuggestionQueriesOfReplacedDictionaries();
         if (listener != null) {
             listener.onUpdateMainDictionaryAvailability(hasAtLeastOneInitializedMainDictionary());
         }
         latchForWaitingLoadingMainDictionary.countDown();
     }
 
+    // Returns the main dictionary for the locale, shared with the other facilitators if possible.
+    private Dictionary getMainDict(final Context context, final Locale locale,
+            final boolean forceReloadMainDictionary) {
+        if (!mSharesDictionaries) {
+            return DictionaryFactory.createMainDictionaryFromManager(context, locale);
+        }
+        return SharedDictionaries.acquireOrCreate(
+                SharedDictionaries.getKey(Dictionary.TYPE_MAIN, locale),
+                forceReloadMainDictionary /* forceCreate */, new SharedDictionaries.Creator() {
+                    @Override
+                    public Dictionary create() {
+                        return DictionaryFactory.createMainDictionaryFromManager(context, locale);
+                    }
+                });
+    }
+
     @UsedForTesting
     public void resetDictionariesForTesting(final Context context, final Locale locale,
             final ArrayList<String> dictionaryTypes, final HashMap<String, File> dictionaryFiles,
@@ -446,6 +548,7 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
             }
         }
         mDictionaryGroup = new DictionaryGroup(locale, mainDictionary, account, subDicts);
+        removePendingSuggestionQueriesOfReplacedDictionaries();
     }
 
     public void closeDictionaries() {
@@ -457,6 +560,38 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         for (final String dictType : ALL_DICTIONARY_TYPES) {
             dictionaryGroupToClose.closeDict(dictType);
         }
+        removePendingSuggestionQueriesOfReplacedDictionaries();
+        if (mValidSpellingWordReadCache != null) {
+            mValidSpellingWordReadCache.evictAll();
+        }
+    }
+
+    /**
+     * Forgets the queries of the dictionaries that are not in the dictionary group anymore. The
+     * queries that are still running finish on their own, but their dictionaries won't be queried
+     * again.
+     */
+    private void removePendingSuggestionQueriesOfReplacedDictionaries() {
+        final DictionaryGroup dictionaryGroup = mDictionaryGroup;
+        final Iterator<Dictionary> iterator = mPendingSuggestionQueries.keySet().iterator();
+        while (iterator.hasNext()) {
+            final Dictionary dictionary = iterator.next();
+            if (dictionaryGroup.getDict(dictionary.mDictType) != dictionary) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @UsedForTesting
+    void setDictionariesForTesting(final Locale locale, @Nullable final Dictionary mainDict,
+            final Map<String, ExpandableBinaryDictionary> subDicts) {
+        mDictionaryGroup = new DictionaryGroup(locale, mainDict, null /* account */, subDicts);
+        removePendingSuggestionQueriesOfReplacedDictionaries();
+    }
+
+    @UsedForTesting
+    int getPendingSuggestionQueryCountForTesting() {
+        return mPendingSuggestionQueries.size();
     }
 
     @UsedForTesting
@@ -611,52 +746,234 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         putWordIntoValidSpellingWordCache("unlearnFromUserHistory", word.toLowerCase());
     }
 
+    /**
+     * Timing counters of the suggestion queries sent to one dictionary type.
+     */
+    private static class SuggestionTimingStats {
+        public final AtomicInteger mQueryCount = new AtomicInteger(0);
+        public final AtomicInteger mMissedDeadlineCount = new AtomicInteger(0);
+        public final AtomicInteger mSkippedCount = new AtomicInteger(0);
+        public final AtomicLong mTotalTimeInNanos = new AtomicLong(0);
+        public final AtomicLong mMaxTimeInNanos = new AtomicLong(0);
+
+        public void addQueryTime(final long timeInNanos) {
+            mQueryCount.incrementAndGet();
+            mTotalTimeInNanos.addAndGet(timeInNanos);
+            long maxTime = mMaxTimeInNanos.get();
+            while (timeInNanos > maxTime
+                    && !mMaxTimeInNanos.compareAndSet(maxTime, timeInNanos)) {
+                maxTime = mMaxTimeInNanos.get();
+            }
+        }
+
+        @Override
+        public String toString() {
+            final int queryCount = mQueryCount.get();
+            final long averageTimeInMicros = (queryCount == 0) ? 0
+                    : TimeUnit.NANOSECONDS.toMicros(mTotalTimeInNanos.get() / queryCount);
+            return "queries: " + queryCount
+                    + ", avg: " + averageTimeInMicros + "us"
+                    + ", max: " + TimeUnit.NANOSECONDS.toMicros(mMaxTimeInNanos.get()) + "us"
+                    + ", missed deadline: " + mMissedDeadlineCount.get()
+                    + ", skipped: " + mSkippedCount.get();
+        }
+    }
+
+    @Nonnull
+    private SuggestionTimingStats getSuggestionTimingStats(final String dictType) {
+        SuggestionTimingStats stats = mSuggestionTimingStats.get(dictType);
+        if (stats == null) {
+            mSuggestionTimingStats.putIfAbsent(dictType, new SuggestionTimingStats());
+            stats = mSuggestionTimingStats.get(dictType);
+        }
+        return stats;
+    }
+
+    /**
+     * Enables or disables querying all dictionaries in parallel in
+     * {@link #getSuggestionResults}.
+     *
+     * @param enabled whether the suggestion queries should be fanned out.
+     * @param deadlineInMillis the time to wait for all the dictionaries to return their
+     * suggestions. Dictionaries that miss this deadline are left out of the results.
+     */
+    @UsedForTesting
+    public void setSuggestionFanOutEnabled(final boolean enabled, final long deadlineInMillis) {
+        mIsSuggestionFanOutEnabled = enabled;
+        mSuggestionFanOutDeadlineInMillis = deadlineInMillis;
+    }
+
     // TODO: Revise the way to fusion suggestion results.
     @Override
     @Nonnull public SuggestionResults getSuggestionResults(ComposedData composedData,
             NgramContext ngramContext, @Nonnull final Keyboard keyboard,
             SettingsValuesForSuggestion settingsValuesForSuggestion, int sessionId,
             int inputStyle) {
-        long proximityInfoHandle = keyboard.getProximityInfo().getNativeProximityInfo();
+        return getSuggestionResults(composedData, ngramContext,
+                keyboard.getProximityInfo().getNativeProximityInfo(),
+                settingsValuesForSuggestion, sessionId);
+    }
+
+    @UsedForTesting
+    @Nonnull SuggestionResults getSuggestionResults(final ComposedData composedData,
+            final NgramContext ngramContext, final long proximityInfoHandle,
+            final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId) {
         final SuggestionResults suggestionResults = new SuggestionResults(
                 SuggestedWords.MAX_SUGGESTIONS, ngramContext.isBeginningOfSentenceContext(),
                 false /* firstSuggestionExceedsConfidenceThreshold */);
+        final float weightForLocale = composedData.mIsBatchMode
+                ? mDictionaryGroup.mWeightForGesturingInLocale
+                : mDictionaryGroup.mWeightForTypingInLocale;
+        if (mIsSuggestionFanOutEnabled) {
+            getSuggestionResultsInParallel(suggestionResults, composedData, ngramContext,
+                    proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                    weightForLocale);
+            return suggestionResults;
+        }
         final float[] weightOfLangModelVsSpatialModel =
                 new float[] { Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL };
         for (final String dictType : ALL_DICTIONARY_TYPES) {
             final Dictionary dictionary = mDictionaryGroup.getDict(dictType);
             if (null == dictionary) continue;
-            final float weightForLocale = composedData.mIsBatchMode
-                    ? mDictionaryGroup.mWeightForGesturingInLocale
-                    : mDictionaryGroup.mWeightForTypingInLocale;
+            final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_DICTIONARY_QUERY);
+            final long startTime = System.nanoTime();
             final ArrayList<SuggestedWordInfo> dictionarySuggestions =
                     dictionary.getSuggestions(composedData, ngramContext,
                             proximityInfoHandle, settingsValuesForSuggestion, sessionId,
                             weightForLocale, weightOfLangModelVsSpatialModel);
-            if (null == dictionarySuggestions) continue;
-            suggestionResults.addAll(dictionarySuggestions);
-            if (null != suggestionResults.mRawSuggestions) {
-                suggestionResults.mRawSuggestions.addAll(dictionarySuggestions);
-            }
+            getSuggestionTimingStats(dictType).addQueryTime(System.nanoTime() - startTime);
+            LatencyTracer.end(LatencyTracer.STAGE_DICTIONARY_QUERY, traceStartTime);
+            addDictionarySuggestions(suggestionResults, dictionarySuggestions);
         }
         return suggestionResults;
     }
 
-    public boolean isValidSpellingWord(final String word) {
-        if (mValidSpellingWordReadCache != null) {
-            final Boolean cachedValue = mValidSpellingWordReadCache.get(word);
-            if (cachedValue != null) {
-                return cachedValue;
+    private static void addDictionarySuggestions(final SuggestionResults suggestionResults,
+            @Nullable final ArrayList<SuggestedWordInfo> dictionarySuggestions) {
+        if (null == dictionarySuggestions) return;
+        suggestionResults.addAll(dictionarySuggestions);
+        if (null != suggestionResults.mRawSuggestions) {
+            suggestionResults.mRawSuggestions.addAll(dictionarySuggestions);
+        }
+    }
+
+    /**
+     * Queries every dictionary on its own worker and merges the suggestions as they come in.
+     *
+     * Dictionaries are independent from each other in this mode, so each of them computes its
+     * own weight of the language model vs the spatial model instead of reusing the one computed
+     * by the main dictionary.
+     */
+    private void getSuggestionResultsInParallel(final SuggestionResults suggestionResults,
+            final ComposedData composedData, final NgramContext ngramContext,
+            final long proximityInfoHandle,
+            final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
+            final float weightForLocale) {
+        final CompletionService<ArrayList<SuggestedWordInfo>> completionService =
+                new ExecutorCompletionService<>(
+                        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.SUGGESTION));
+        final HashMap<Future<ArrayList<SuggestedWordInfo>>, Dictionary> submittedQueries =
+                new HashMap<>();
+        for (final String dictType : ALL_DICTIONARY_TYPES) {
+            final Dictionary dictionary = mDictionaryGroup.getDict(dictType);
+            if (null == dictionary) continue;
+            final Future<ArrayList<SuggestedWordInfo>> pendingQuery =
+                    mPendingSuggestionQueries.get(dictionary);
+            if (pendingQuery != null && !pendingQuery.isDone()) {
+                // This dictionary is still busy with a query that missed its deadline.
+                getSuggestionTimingStats(dictType).mSkippedCount.incrementAndGet();
+                continue;
+            }
+            final Future<ArrayList<SuggestedWordInfo>> query = completionService.submit(
+                    new Callable<ArrayList<SuggestedWordInfo>>() {
+                        @Override
+                        public ArrayList<SuggestedWordInfo> call() {
+                            final float[] weightOfLangModelVsSpatialModel = new float[] {
+                                    Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL };
+                            final long traceStartTime =
+                                    LatencyTracer.start(LatencyTracer.STAGE_DICTIONARY_QUERY);
+                            final long startTime = System.nanoTime();
+                            try {
+                                return dictionary.getSuggestions(composedData, ngramContext,
+                                        proximityInfoHandle, settingsValuesForSuggestion,
+                                        sessionId, weightForLocale,
+                                        weightOfLangModelVsSpatialModel);
+                            } finally {
+                                getSuggestionTimingStats(dictType).addQueryTime(
+                                        System.nanoTime() - startTime);
+                                LatencyTracer.end(LatencyTracer.STAGE_DICTIONARY_QUERY,
+                                        traceStartTime);
+                            }
+                        }
+                    });
+            mPendingSuggestionQueries.put(dictionary, query);
+            submittedQueries.put(query, dictionary);
+        }
+        final long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(mSuggestionFanOutDeadlineInMillis);
+        int remainingQueryCount = submittedQueries.size();
+        try {
+            while (remainingQueryCount > 0) {
+                final long timeout = deadline - System.nanoTime();
+                if (timeout <= 0) break;
+                final Future<ArrayList<SuggestedWordInfo>> completedQuery =
+                        completionService.poll(timeout, TimeUnit.NANOSECONDS);
+                if (completedQuery == null) break;
+                remainingQueryCount--;
+                mPendingSuggestionQueries.remove(submittedQueries.remove(completedQuery),
+                        completedQuery);
+                try {
+                    addDictionarySuggestions(suggestionResults, completedQuery.get());
+                } catch (final ExecutionException e) {
+                    Log.e(TAG, "Failed to get suggestions", e.getCause());
+                }
             }
+        } catch (final InterruptedException e) {
+            Log.w(TAG, "Interrupted while waiting for suggestions", e);
+            Thread.currentThread().interrupt();
         }
+        for (final Dictionary dictionary : submittedQueries.values()) {
+            // The native traversal can't be interrupted, so the query is left running and the
+            // dictionary is skipped until it has returned.
+            getSuggestionTimingStats(dictionary.mDictType).mMissedDeadlineCount.incrementAndGet();
+        }
+    }
 
-        return isValidWord(word, ALL_DICTIONARY_TYPES);
+    public boolean isValidSpellingWord(final String word) {
+        final LruCache<String, Boolean> cache = mValidSpellingWordReadCache;
+        if (cache == null) {
+            return isValidWord(word, ALL_DICTIONARY_TYPES);
+        }
+        // Read before the lookup, so that a lookup that races with an update is not cached.
+        final int generation = getPersonalizedDictionariesGeneration();
+        if (generation != mValidSpellingWordReadCacheGeneration) {
+            // The contacts or the personal dictionary have changed since the words were cached.
+            cache.evictAll();
+            mValidSpellingWordReadCacheGeneration = generation;
+        }
+        final Boolean cachedValue = cache.get(word);
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+        final boolean isValid = isValidWord(word, ALL_DICTIONARY_TYPES);
+        if (generation == getPersonalizedDictionariesGeneration()) {
+            cache.put(word, isValid);
+        }
+        return isValid;
     }
 
     public boolean isValidSuggestionWord(final String word) {
         return isValidWord(word, ALL_DICTIONARY_TYPES);
     }
 
+    public int getPersonalizedDictionariesGeneration() {
+        int generation = 0;
+        for (final ExpandableBinaryDictionary dict : mDictionaryGroup.mSubDictMap.values()) {
+            generation = Math.max(generation, dict.getGeneration());
+        }
+        return generation;
+    }
+
     private boolean isValidWord(final String word, final String[] dictionariesToCheck) {
         if (TextUtils.isEmpty(word)) {
             return false;
@@ -731,6 +1048,23 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
 
     @Override
     public String dump(final Context context) {
-        return "";
+        final StringBuilder builder = new StringBuilder("Suggestion timing");
+        builder.append(mIsSuggestionFanOutEnabled ? " (parallel, deadline: "
+                + mSuggestionFanOutDeadlineInMillis + "ms)" : " (sequential)");
+        for (final String dictType : ALL_DICTIONARY_TYPES) {
+            final SuggestionTimingStats stats = mSuggestionTimingStats.get(dictType);
+            if (stats == null) continue;
+            builder.append("\n    ");
+            builder.append(dictType);
+            builder.append(": ");
+            builder.append(stats);
+        }
+        builder.append("\n");
+        builder.append(LatencyTracer.dump());
+        if (mSharesDictionaries) {
+            builder.append("\n");
+            builder.append(SharedDictionaries.dump());
+        }
+        return builder.toString();
     }
 }
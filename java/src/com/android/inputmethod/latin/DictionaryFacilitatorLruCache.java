@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 
 import android.content.Context;
 import android.util.Log;
+import android.util.LruCache;
 
 /**
  * Cache for dictionary facilitators of multiple locales.
@@ -30,6 +31,7 @@ public class DictionaryFacilitatorLruCache {
     private static final String TAG = "DictionaryFacilitatorLruCache";
     private static final int WAIT_FOR_LOADING_MAIN_DICT_IN_MILLISECONDS = 1000;
     private static final int MAX_RETRY_COUNT_FOR_WAITING_FOR_LOADING_DICT = 5;
+    private static final int VALID_SPELLING_WORD_CACHE_SIZE = 1000;
 
     private final Context mContext;
     private final String mDictionaryNamePrefix;
@@ -43,6 +45,10 @@ public class DictionaryFacilitatorLruCache {
         mDictionaryNamePrefix = dictionaryNamePrefix;
         mDictionaryFacilitator = DictionaryFacilitatorProvider.getDictionaryFacilitator(
                 true /* isNeededForSpellChecking */);
+        // Most of the checked text is made of a few words, which can be answered without looking
+        // them up in the dictionaries again.
+        mDictionaryFacilitator.setValidSpellingWordReadCache(
+                new LruCache<String, Boolean>(VALID_SPELLING_WORD_CACHE_SIZE));
     }
 
     private static void waitForLoadingMainDictionary(
@@ -0,0 +1,439 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.util.Log;
+
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.define.DecoderSpecificConstants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.SyncFailedException;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An append-only log of the word updates and removals applied to an
+ * {@link ExpandableBinaryDictionary} since its file was last written.
+ *
+ * Writing the whole dictionary out is expensive, so updates are appended to this log instead and
+ * the dictionary file is only rewritten once the log gets large. The log is replayed when the
+ * dictionary is loaded, so that learned words survive the process being killed in between.
+ *
+ * Appended entries are buffered and written out in groups by {@link #sync()}. Each entry is
+ * checksummed. Reading stops at the first entry that is incomplete or corrupted, which is what a
+ * process killed in the middle of a write leaves behind, and the log is truncated there.
+ *
+ * Entries are numbered in the order they are appended. The dictionary file records the number of
+ * the last entry it has been written with as its checkpoint, and the entries up to the checkpoint
+ * are skipped when the log is read. So the entries are never applied twice, even if the process
+ * is killed after the dictionary file has been written but before the log has been emptied.
+ *
+ * This class is not thread safe.
+ */
+final class DictionaryUpdateLog {
+    private static final String TAG = DictionaryUpdateLog.class.getSimpleName();
+
+    /** The checkpoint of a dictionary file that has not been written with any entry. */
+    public static final int NO_CHECKPOINT = 0;
+
+    // The size of the length and of the checksum around the payload of an entry.
+    private static final int ENTRY_OVERHEAD_SIZE = 8;
+    // Entries are much smaller than this. A larger length means the log is corrupted.
+    private static final int MAX_ENTRY_PAYLOAD_SIZE = 4096;
+
+    // Kinds of an entry.
+    private static final int ENTRY_KIND_UPDATE = 0;
+    private static final int ENTRY_KIND_UNIGRAM_REMOVAL = 1;
+
+    // Kinds of a previous word of an entry.
+    private static final int PREV_WORD_KIND_EMPTY = 0;
+    private static final int PREV_WORD_KIND_BEGINNING_OF_SENTENCE = 1;
+    private static final int PREV_WORD_KIND_WORD = 2;
+
+    /**
+     * An update of a word, as passed to
+     * {@link ExpandableBinaryDictionary#updateEntriesForWord(NgramContext, String, boolean, int,
+     * int)}, or the removal of a word, as passed to
+     * {@link ExpandableBinaryDictionary#removeUnigramEntryDynamically(String)}.
+     */
+    public static final class Entry {
+        public final int mSequenceNumber;
+        public final boolean mIsUnigramRemoval;
+        @Nonnull public final NgramContext mNgramContext;
+        public final String mWord;
+        public final boolean mIsValidWord;
+        public final int mCount;
+        public final int mTimestamp;
+
+        public Entry(final int sequenceNumber, @Nonnull final NgramContext ngramContext,
+                final String word, final boolean isValidWord, final int count,
+                final int timestamp) {
+            this(sequenceNumber, false /* isUnigramRemoval */, ngramContext, word, isValidWord,
+                    count, timestamp);
+        }
+
+        private Entry(final int sequenceNumber, final boolean isUnigramRemoval,
+                @Nonnull final NgramContext ngramContext, final String word,
+                final boolean isValidWord, final int count, final int timestamp) {
+            mSequenceNumber = sequenceNumber;
+            mIsUnigramRemoval = isUnigramRemoval;
+            mNgramContext = ngramContext;
+            mWord = word;
+            mIsValidWord = isValidWord;
+            mCount = count;
+            mTimestamp = timestamp;
+        }
+
+        public static Entry createUnigramRemoval(final int sequenceNumber, final String word) {
+            return new Entry(sequenceNumber, true /* isUnigramRemoval */,
+                    NgramContext.EMPTY_PREV_WORDS_INFO, word, false /* isValidWord */,
+                    0 /* count */, 0 /* timestamp */);
+        }
+    }
+
+    private final File mFile;
+    private final ByteArrayOutputStream mPayloadBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream mPayloadOutputStream = new DataOutputStream(mPayloadBuffer);
+    private final CRC32 mChecksum = new CRC32();
+    private FileOutputStream mFileOutputStream;
+    private DataOutputStream mOutputStream;
+    private long mSize;
+    private int mUnsyncedEntryCount;
+    private int mLastSequenceNumber;
+
+    public DictionaryUpdateLog(@Nonnull final File file) {
+        mFile = file;
+    }
+
+    /**
+     * Reads the entries of the log and opens it for appending.
+     *
+     * @param checkpoint the checkpoint of the dictionary file, or {@link #NO_CHECKPOINT}.
+     * @return the entries of the log after the checkpoint, or null if the log cannot be opened
+     * for appending.
+     */
+    @Nullable
+    public ArrayList<Entry> open(final int checkpoint) {
+        final ArrayList<Entry> entries = new ArrayList<>();
+        mLastSequenceNumber = checkpoint;
+        final long validSize = readEntries(checkpoint, entries);
+        try {
+            mFileOutputStream = new FileOutputStream(mFile, true /* append */);
+            if (mFileOutputStream.getChannel().size() > validSize) {
+                Log.w(TAG, "Truncating the broken end of " + mFile.getName());
+                mFileOutputStream.getChannel().truncate(validSize);
+            }
+        } catch (final IOException e) {
+            Log.e(TAG, "Cannot open " + mFile.getName(), e);
+            close();
+            return null;
+        }
+        mOutputStream = new DataOutputStream(new BufferedOutputStream(mFileOutputStream));
+        mSize = validSize;
+        mUnsyncedEntryCount = 0;
+        return entries;
+    }
+
+    // Returns the size of the valid entries at the start of the file.
+    private long readEntries(final int checkpoint, @Nonnull final ArrayList<Entry> outEntries) {
+        long validSize = 0;
+        DataInputStream inputStream = null;
+        try {
+            inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(mFile)));
+            final byte[] payload = new byte[MAX_ENTRY_PAYLOAD_SIZE];
+            while (true) {
+                final int payloadSize = inputStream.readInt();
+                if (payloadSize < 0 || payloadSize > MAX_ENTRY_PAYLOAD_SIZE) {
+                    break;
+                }
+                inputStream.readFully(payload, 0, payloadSize);
+                final int checksum = inputStream.readInt();
+                mChecksum.reset();
+                mChecksum.update(payload, 0, payloadSize);
+                if (checksum != (int)mChecksum.getValue()) {
+                    break;
+                }
+                final Entry entry = readPayload(new DataInputStream(
+                        new ByteArrayInputStream(payload, 0, payloadSize)));
+                if (entry.mSequenceNumber > checkpoint) {
+                    outEntries.add(entry);
+                }
+                mLastSequenceNumber = Math.max(mLastSequenceNumber, entry.mSequenceNumber);
+                validSize += payloadSize + ENTRY_OVERHEAD_SIZE;
+            }
+        } catch (final FileNotFoundException e) {
+            // The log has not been created yet.
+        } catch (final EOFException e) {
+            // Reached the end of the log, possibly in the middle of an entry.
+        } catch (final IOException e) {
+            Log.e(TAG, "Cannot read " + mFile.getName(), e);
+        } finally {
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (final IOException e) {
+                    // Ignore.
+                }
+            }
+        }
+        return validSize;
+    }
+
+    private static Entry readPayload(@Nonnull final DataInputStream inputStream)
+            throws IOException {
+        final int sequenceNumber = inputStream.readInt();
+        final int entryKind = inputStream.readByte();
+        if (entryKind == ENTRY_KIND_UNIGRAM_REMOVAL) {
+            return Entry.createUnigramRemoval(sequenceNumber, inputStream.readUTF());
+        }
+        if (entryKind != ENTRY_KIND_UPDATE) {
+            throw new IOException("Invalid entry kind: " + entryKind);
+        }
+        final int prevWordCount = inputStream.readByte();
+        if (prevWordCount < 0
+                || prevWordCount > DecoderSpecificConstants.MAX_PREV_WORD_COUNT_FOR_N_GRAM) {
+            throw new IOException("Invalid previous word count: " + prevWordCount);
+        }
+        final WordInfo[] prevWordsInfo = new WordInfo[prevWordCount];
+        for (int i = 0; i < prevWordCount; i++) {
+            final int kind = inputStream.readByte();
+            if (kind == PREV_WORD_KIND_BEGINNING_OF_SENTENCE) {
+                prevWordsInfo[i] = WordInfo.BEGINNING_OF_SENTENCE_WORD_INFO;
+            } else if (kind == PREV_WORD_KIND_WORD) {
+                prevWordsInfo[i] = new WordInfo(inputStream.readUTF());
+            } else {
+                prevWordsInfo[i] = WordInfo.EMPTY_WORD_INFO;
+            }
+        }
+        final String word = inputStream.readUTF();
+        final boolean isValidWord = inputStream.readBoolean();
+        final int count = inputStream.readInt();
+        final int timestamp = inputStream.readInt();
+        return new Entry(sequenceNumber, new NgramContext(prevWordsInfo), word, isValidWord,
+                count, timestamp);
+    }
+
+    /**
+     * Appends an entry to the log. The entry is buffered until the next {@link #sync()}.
+     *
+     * @return whether the entry has been appended.
+     */
+    public boolean append(@Nonnull final NgramContext ngramContext, final String word,
+            final boolean isValidWord, final int count, final int timestamp) {
+        if (mOutputStream == null) {
+            return false;
+        }
+        final int prevWordCount = ngramContext.getPrevWordCount();
+        final int[][] prevWordCodePointArrays = new int[prevWordCount][];
+        final boolean[] isBeginningOfSentenceArray = new boolean[prevWordCount];
+        ngramContext.outputToArray(prevWordCodePointArrays, isBeginningOfSentenceArray);
+        try {
+            mPayloadBuffer.reset();
+            mPayloadOutputStream.writeInt(mLastSequenceNumber + 1);
+            mPayloadOutputStream.writeByte(ENTRY_KIND_UPDATE);
+            mPayloadOutputStream.writeByte(prevWordCount);
+            for (int i = 0; i < prevWordCount; i++) {
+                if (isBeginningOfSentenceArray[i]) {
+                    mPayloadOutputStream.writeByte(PREV_WORD_KIND_BEGINNING_OF_SENTENCE);
+                } else if (prevWordCodePointArrays[i].length == 0) {
+                    mPayloadOutputStream.writeByte(PREV_WORD_KIND_EMPTY);
+                } else {
+                    mPayloadOutputStream.writeByte(PREV_WORD_KIND_WORD);
+                    mPayloadOutputStream.writeUTF(new String(prevWordCodePointArrays[i], 0,
+                            prevWordCodePointArrays[i].length));
+                }
+            }
+            mPayloadOutputStream.writeUTF(word);
+            mPayloadOutputStream.writeBoolean(isValidWord);
+            mPayloadOutputStream.writeInt(count);
+            mPayloadOutputStream.writeInt(timestamp);
+            return appendPayload();
+        } catch (final IOException e) {
+            Log.e(TAG, "Cannot append to " + mFile.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Appends the removal of a word to the log. The entry is buffered until the next
+     * {@link #sync()}.
+     *
+     * @return whether the entry has been appended.
+     */
+    public boolean appendUnigramRemoval(final String word) {
+        if (mOutputStream == null) {
+            return false;
+        }
+        try {
+            mPayloadBuffer.reset();
+            mPayloadOutputStream.writeInt(mLastSequenceNumber + 1);
+            mPayloadOutputStream.writeByte(ENTRY_KIND_UNIGRAM_REMOVAL);
+            mPayloadOutputStream.writeUTF(word);
+            return appendPayload();
+        } catch (final IOException e) {
+            Log.e(TAG, "Cannot append to " + mFile.getName(), e);
+            return false;
+        }
+    }
+
+    // Appends the entry written to mPayloadOutputStream to the log.
+    private boolean appendPayload() throws IOException {
+        mPayloadOutputStream.flush();
+        final int payloadSize = mPayloadBuffer.size();
+        if (payloadSize > MAX_ENTRY_PAYLOAD_SIZE) {
+            Log.e(TAG, "Too large entry: " + payloadSize);
+            return false;
+        }
+        final byte[] payload = mPayloadBuffer.toByteArray();
+        mChecksum.reset();
+        mChecksum.update(payload, 0, payloadSize);
+        mOutputStream.writeInt(payloadSize);
+        mOutputStream.write(payload, 0, payloadSize);
+        mOutputStream.writeInt((int)mChecksum.getValue());
+        mSize += payloadSize + ENTRY_OVERHEAD_SIZE;
+        mUnsyncedEntryCount++;
+        mLastSequenceNumber++;
+        return true;
+    }
+
+    /**
+     * Returns the number of the last entry appended to the log, or read from it. This is the
+     * checkpoint of a dictionary file written with all the entries.
+     */
+    public int getLastSequenceNumber() {
+        return mLastSequenceNumber;
+    }
+
+    /**
+     * Writes the appended entries to the disk.
+     *
+     * @return whether all the appended entries are on the disk.
+     */
+    public boolean sync() {
+        if (mUnsyncedEntryCount == 0) {
+            return mOutputStream != null;
+        }
+        final FileDescriptor fd = writeAppendedEntries();
+        return fd != null && syncWrittenEntries(fd);
+    }
+
+    /**
+     * Hands the appended entries over to the file system, without waiting for them to get to the
+     * disk. See {@link #syncWrittenEntries(FileDescriptor)}.
+     *
+     * @return the descriptor to sync the entries with, or null if there are no entries to write
+     * or they could not be written.
+     */
+    @Nullable
+    public FileDescriptor writeAppendedEntries() {
+        if (mOutputStream == null || mUnsyncedEntryCount == 0) {
+            return null;
+        }
+        try {
+            mOutputStream.flush();
+            mUnsyncedEntryCount = 0;
+            return mFileOutputStream.getFD();
+        } catch (final IOException e) {
+            Log.e(TAG, "Cannot write to " + mFile.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the entries written by {@link #writeAppendedEntries()} to get to the disk. This
+     * may take long, and does not touch the log, so it is safe to call from any thread while the
+     * log is being appended to. It fails if the log has been closed since.
+     *
+     * @return whether the entries are on the disk.
+     */
+    public static boolean syncWrittenEntries(@Nonnull final FileDescriptor fd) {
+        try {
+            fd.sync();
+            return true;
+        } catch (final SyncFailedException e) {
+            Log.e(TAG, "Cannot sync the update log", e);
+            return false;
+        }
+    }
+
+    /**
+     * Removes all the entries, after the dictionary file has been written with them. The log is
+     * not synced afterwards, since the entries are behind the checkpoint of the dictionary file
+     * and would be skipped anyway if they came back.
+     *
+     * @return whether the log has been emptied.
+     */
+    public boolean clear() {
+        if (mOutputStream == null) {
+            return false;
+        }
+        try {
+            // The buffered entries are in the dictionary file too, so they are simply dropped.
+            mOutputStream = new DataOutputStream(new BufferedOutputStream(mFileOutputStream));
+            mFileOutputStream.getChannel().truncate(0);
+            mSize = 0;
+            mUnsyncedEntryCount = 0;
+            return true;
+        } catch (final IOException e) {
+            Log.e(TAG, "Cannot clear " + mFile.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the appended entries to the disk and closes the log.
+     */
+    public void close() {
+        sync();
+        if (mFileOutputStream != null) {
+            try {
+                mFileOutputStream.close();
+            } catch (final IOException e) {
+                Log.e(TAG, "Cannot close " + mFile.getName(), e);
+            }
+        }
+        mFileOutputStream = null;
+        mOutputStream = null;
+    }
+
+    /**
+     * Returns the size of the log in bytes, including the entries that have not been synced yet.
+     */
+    public long getSize() {
+        return mSize;
+    }
+
+    public int getUnsyncedEntryCount() {
+        return mUnsyncedEntryCount;
+    }
+}
@@ -35,6 +35,7 @@ import com.android.inputmethod.latin.utils.ExecutorUtils;
 import com.android.inputmethod.latin.utils.WordInputEventForPersonalization;
 
 import java.io.File;
+import java.io.FileDescriptor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Locale;
@@ -42,6 +43,8 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -67,6 +70,14 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     private static final int TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS = 100;
 
+    // Updates logged to the update log are written to the disk in groups of this many updates,
+    // or after this duration when fewer updates come in.
+    private static final int UPDATE_LOG_GROUP_COMMIT_SIZE = 8;
+    private static final long UPDATE_LOG_GROUP_COMMIT_DELAY_IN_MILLISECONDS = 1000;
+
+    // The dictionary file is rewritten and the update log emptied once the log gets this large.
+    private static final long MAX_UPDATE_LOG_SIZE = 64 * 1024;
+
     /**
      * The maximum length of a word in this dictionary.
      */
@@ -109,6 +120,85 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     /* A extension for a binary dictionary file. */
     protected static final String DICT_FILE_EXTENSION = ".dict";
 
+    /* A suffix for the log of the updates that have not been written to the dictionary file. */
+    private static final String UPDATE_LOG_FILE_SUFFIX = ".log";
+
+    /**
+     * A read-only generation of the dictionary. Readers hold a reference while they use it, and
+     * the generation is closed when it has been replaced and the last reader has released it.
+     */
+    private static final class DictionarySnapshot {
+        public final BinaryDictionary mBinaryDictionary;
+        // The publisher holds one reference until the snapshot is replaced.
+        private final AtomicInteger mRefCount = new AtomicInteger(1);
+
+        public DictionarySnapshot(final BinaryDictionary binaryDictionary) {
+            mBinaryDictionary = binaryDictionary;
+        }
+
+        /**
+         * Tries to add a reference to this snapshot.
+         * @return false if the snapshot has already been closed.
+         */
+        public boolean acquire() {
+            while (true) {
+                final int refCount = mRefCount.get();
+                if (refCount <= 0) {
+                    return false;
+                }
+                if (mRefCount.compareAndSet(refCount, refCount + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        public void release() {
+            if (mRefCount.decrementAndGet() == 0) {
+                mBinaryDictionary.close();
+            }
+        }
+    }
+
+    /**
+     * The snapshot reads are served from while a writer holds the lock. It is opened from the
+     * dictionary file whenever the file has been loaded or written, so it never costs an extra
+     * write. It does not have the updates made since then.
+     */
+    private final AtomicReference<DictionarySnapshot> mSnapshot = new AtomicReference<>();
+
+    // The number of reads that found the lock held by a writer, and the number of snapshots
+    // opened for them. The latter is only accessed with the write lock held.
+    private final AtomicInteger mBlockedReadCount = new AtomicInteger();
+    private int mSnapshotOpenCount = 0;
+
+    /** The file the log of the updates not written to the dictionary file yet is kept in. */
+    private final File mUpdateLogFile;
+
+    /**
+     * The log of the updates not written to the dictionary file yet, if {@link #usesUpdateLog()}.
+     * Only accessed with the write lock held.
+     */
+    private DictionaryUpdateLog mUpdateLog = null;
+
+    /**
+     * The number of the last update log entry the dictionary is to be written with. See
+     * {@link DictionaryUpdateLog}. Only accessed with the write lock held.
+     */
+    private int mUpdateLogCheckpoint = DictionaryUpdateLog.NO_CHECKPOINT;
+
+    /** Indicates whether a task for writing the update log to the disk has been scheduled. */
+    private final AtomicBoolean mIsUpdateLogSyncScheduled = new AtomicBoolean();
+
+    // The last generation given to any dictionary, so that no generation is ever given twice,
+    // even to two different dictionaries.
+    private static final AtomicInteger sLastGeneration = new AtomicInteger();
+
+    /**
+     * The generation of the contents of the dictionary. It changes after every task that may
+     * have modified them, and when they need to be recreated. See {@link #getGeneration()}.
+     */
+    private volatile int mGeneration = sLastGeneration.incrementAndGet();
+
     /**
      * Abstract method for loading initial contents of a given dictionary.
      */
@@ -118,6 +208,17 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         return formatVersion == FormatSpec.VERSION4;
     }
 
+    /**
+     * Whether the updates made by {@link #updateEntriesForWord} and the removals made by
+     * {@link #removeUnigramEntryDynamically} are appended to an update log instead of being
+     * written to the disk only when the whole dictionary is. The log is written to the disk a few
+     * updates at a time, and the whole dictionary only when the log gets large.
+     * See {@link DictionaryUpdateLog}.
+     */
+    protected boolean usesUpdateLog() {
+        return false;
+    }
+
     private static boolean needsToMigrateDictionary(final int formatVersion) {
         // When we bump up the dictionary format version, the old version should be added to here
         // for supporting migration. Note that native code has to support reading such formats.
@@ -145,6 +246,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         mDictName = dictName;
         mContext = context;
         mDictFile = getDictFile(context, dictName, dictFile);
+        mUpdateLogFile = new File(mDictFile.getPath() + UPDATE_LOG_FILE_SUFFIX);
         mBinaryDictionary = null;
         mIsReloading = new AtomicBoolean();
         mNeedsToRecreate = false;
@@ -157,13 +259,39 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                 : new File(context.getFilesDir(), dictName + DICT_FILE_EXTENSION);
     }
 
+    @Nonnull
+    File getDictionaryFile() {
+        return mDictFile;
+    }
+
     public static String getDictName(final String name, final Locale locale,
             final File dictFile) {
         return dictFile != null ? dictFile.getName() : name + "." + locale.toString();
     }
 
     private void asyncExecuteTaskWithWriteLock(final Runnable task) {
-        asyncExecuteTaskWithLock(mLock.writeLock(), task);
+        asyncExecuteTaskWithLock(mLock.writeLock(), new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    // Still holding the lock, so that no read sees the new contents before the
+                    // new generation.
+                    mGeneration = sLastGeneration.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the generation of the contents of this dictionary. Results of reads of the
+     * dictionary can be cached with the generation read before them, and are stale when the
+     * generation has changed. Generations are unique across all the dictionaries, and newer ones
+     * are greater.
+     */
+    public int getGeneration() {
+        return mGeneration;
     }
 
     private static void asyncExecuteTaskWithLock(final Lock lock, final Runnable task) {
@@ -186,10 +314,108 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     void closeBinaryDictionary() {
+        if (mUpdateLog != null) {
+            mUpdateLog.close();
+            mUpdateLog = null;
+        }
         if (mBinaryDictionary != null) {
             mBinaryDictionary.close();
             mBinaryDictionary = null;
         }
+        replaceSnapshotLocked(null /* binaryDictionary */);
+    }
+
+    @Nullable
+    private DictionarySnapshot acquireSnapshot() {
+        while (true) {
+            final DictionarySnapshot snapshot = mSnapshot.get();
+            if (snapshot == null) {
+                return null;
+            }
+            if (snapshot.acquire()) {
+                return snapshot;
+            }
+            // The snapshot has just been replaced. Retry with the new one.
+        }
+    }
+
+    private void replaceSnapshotLocked(@Nullable final BinaryDictionary binaryDictionary) {
+        final DictionarySnapshot oldSnapshot = mSnapshot.getAndSet(
+                (binaryDictionary == null) ? null : new DictionarySnapshot(binaryDictionary));
+        if (oldSnapshot != null) {
+            oldSnapshot.release();
+        }
+    }
+
+    /**
+     * Publishes a new snapshot after the dictionary file has been loaded or written, so that it
+     * has the contents of the file. Open snapshots keep their files mapped, so it is safe to
+     * replace the files afterwards.
+     */
+    private void onDictFileWrittenLocked() {
+        if (mBinaryDictionary == null || !mBinaryDictionary.isValidDictionary()
+                || !mDictFile.exists()) {
+            replaceSnapshotLocked(null /* binaryDictionary */);
+            return;
+        }
+        final BinaryDictionary snapshotDictionary = new BinaryDictionary(
+                mDictFile.getAbsolutePath(), 0 /* offset */, mDictFile.length(),
+                true /* useFullEditDistance */, mLocale, mDictType, false /* isUpdatable */);
+        if (!snapshotDictionary.isValidDictionary()) {
+            Log.e(TAG, "Cannot open a snapshot of " + mDictName);
+            snapshotDictionary.close();
+            replaceSnapshotLocked(null /* binaryDictionary */);
+            return;
+        }
+        mSnapshotOpenCount++;
+        replaceSnapshotLocked(snapshotDictionary);
+    }
+
+    /**
+     * Drops the snapshot of a binary dictionary that has been found corrupted, if it is still the
+     * published one. The dictionary itself is not affected.
+     */
+    private void dropSnapshot(@Nonnull final BinaryDictionary binaryDictionary) {
+        final DictionarySnapshot snapshot = mSnapshot.get();
+        if (snapshot != null && snapshot.mBinaryDictionary == binaryDictionary
+                && mSnapshot.compareAndSet(snapshot, null)) {
+            snapshot.release();
+        }
+    }
+
+    private interface ReadTask<T> {
+        T run(@Nonnull BinaryDictionary binaryDictionary);
+    }
+
+    /**
+     * Runs a read on the dictionary. Reads run on the dictionary itself with the read lock held.
+     * When a writer holds the lock, they run on the snapshot instead without waiting. There is
+     * no snapshot only while the dictionary is being loaded or created.
+     *
+     * @return the result of the task, or defaultValue if the dictionary could not be read.
+     */
+    private <T> T readDictionary(final ReadTask<T> task, final T defaultValue) {
+        final Lock readLock = mLock.readLock();
+        if (!readLock.tryLock()) {
+            mBlockedReadCount.incrementAndGet();
+            final DictionarySnapshot snapshot = acquireSnapshot();
+            if (snapshot == null) {
+                return defaultValue;
+            }
+            try {
+                return task.run(snapshot.mBinaryDictionary);
+            } finally {
+                snapshot.release();
+            }
+        }
+        try {
+            if (mBinaryDictionary == null) {
+                return defaultValue;
+            }
+            return task.run(mBinaryDictionary);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
@@ -231,6 +457,9 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         if (mDictFile.exists() && !FileUtils.deleteRecursively(mDictFile)) {
             Log.e(TAG, "Can't remove a file: " + mDictFile.getName());
         }
+        if (mUpdateLogFile.exists() && !FileUtils.deleteRecursively(mUpdateLogFile)) {
+            Log.e(TAG, "Can't remove a file: " + mUpdateLogFile.getName());
+        }
     }
 
     private void openBinaryDictionaryLocked() {
@@ -251,6 +480,9 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
             public void run() {
                 removeBinaryDictionaryLocked();
                 createOnMemoryBinaryDictionaryLocked();
+                if (usesUpdateLog()) {
+                    openUpdateLogLocked();
+                }
             }
         });
     }
@@ -272,11 +504,200 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     protected void runGCIfRequiredLocked(final boolean mindsBlockByGC) {
         if (mBinaryDictionary.needsToRunGC(mindsBlockByGC)) {
-            mBinaryDictionary.flushWithGC();
+            checkpointUpdateLogLocked();
+            if (mBinaryDictionary.flushWithGC()) {
+                clearUpdateLogLocked();
+                onDictFileWrittenLocked();
+            }
+        }
+    }
+
+    /**
+     * Writes the dictionary to its file, running GC if needed, and empties the update log.
+     * Subclasses must write the file through this, so that the update log and the snapshot for
+     * reads follow the file.
+     */
+    protected void flushBinaryDictionaryLocked() {
+        checkpointUpdateLogLocked();
+        final boolean flushed;
+        if (mBinaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
+            flushed = mBinaryDictionary.flushWithGC();
+        } else {
+            flushed = mBinaryDictionary.flush();
+        }
+        if (flushed) {
+            clearUpdateLogLocked();
+            onDictFileWrittenLocked();
+        }
+    }
+
+    /**
+     * Records in the dictionary that it has all the logged updates. This must be done before
+     * writing the dictionary file, so that the updates are not applied twice when the log is read
+     * if the process is killed before the log has been emptied.
+     */
+    private void checkpointUpdateLogLocked() {
+        if (mUpdateLog != null) {
+            checkpointUpdateLogLocked(mUpdateLog.getLastSequenceNumber());
+        }
+    }
+
+    private void checkpointUpdateLogLocked(final int sequenceNumber) {
+        if (sequenceNumber == mUpdateLogCheckpoint) {
+            return;
+        }
+        if (!mBinaryDictionary.setHeaderIntAttribute(
+                DictionaryHeader.UPDATE_LOG_CHECKPOINT_KEY, sequenceNumber)) {
+            Log.e(TAG, "Cannot set the update log checkpoint of " + mDictName);
+            return;
+        }
+        mUpdateLogCheckpoint = sequenceNumber;
+    }
+
+    // Returns the update log checkpoint the dictionary file has been written with.
+    private int readUpdateLogCheckpointLocked() {
+        try {
+            final DictionaryHeader header = mBinaryDictionary.getHeader();
+            final String checkpoint = header == null ? null
+                    : header.mDictionaryOptions.mAttributes.get(
+                            DictionaryHeader.UPDATE_LOG_CHECKPOINT_KEY);
+            if (checkpoint != null) {
+                return Integer.parseInt(checkpoint);
+            }
+        } catch (final UnsupportedFormatException | NumberFormatException e) {
+            Log.e(TAG, "Cannot read the update log checkpoint of " + mDictName, e);
+        }
+        return DictionaryUpdateLog.NO_CHECKPOINT;
+    }
+
+    private void clearUpdateLogLocked() {
+        if (mUpdateLog != null && !mUpdateLog.clear()) {
+            // The log would only keep growing. Stop logging, the updates are written with the
+            // dictionary file from now on.
+            mUpdateLog.close();
+            mUpdateLog = null;
+            if (!FileUtils.deleteRecursively(mUpdateLogFile)) {
+                Log.e(TAG, "Can't remove a file: " + mUpdateLogFile.getName());
+            }
+        }
+    }
+
+    /**
+     * Opens the update log and applies the updates in it that are not in the dictionary file yet
+     * to the dictionary, which must have been loaded from its file or newly created.
+     */
+    private void openUpdateLogLocked() {
+        if (mUpdateLog != null) {
+            return;
+        }
+        // The log only makes sense on top of the dictionary file, so make sure it exists.
+        if (!mDictFile.exists()) {
+            if (!mBinaryDictionary.flushWithGC()) {
+                Log.e(TAG, "Cannot write the dictionary file of " + mDictName);
+                return;
+            }
+            onDictFileWrittenLocked();
+        }
+        mUpdateLogCheckpoint = readUpdateLogCheckpointLocked();
+        final DictionaryUpdateLog updateLog = new DictionaryUpdateLog(mUpdateLogFile);
+        final ArrayList<DictionaryUpdateLog.Entry> entries = updateLog.open(mUpdateLogCheckpoint);
+        if (entries == null) {
+            return;
+        }
+        mUpdateLog = updateLog;
+        int lastAppliedSequenceNumber = mUpdateLogCheckpoint;
+        for (final DictionaryUpdateLog.Entry entry : entries) {
+            if (mBinaryDictionary.needsToRunGC(true /* mindsBlockByGC */)) {
+                // The rest of the log is applied on top of the file written here.
+                checkpointUpdateLogLocked(lastAppliedSequenceNumber);
+                if (mBinaryDictionary.flushWithGC()) {
+                    onDictFileWrittenLocked();
+                }
+            }
+            if (entry.mIsUnigramRemoval) {
+                mBinaryDictionary.removeUnigramEntry(entry.mWord);
+            } else {
+                mBinaryDictionary.updateEntriesForWordWithNgramContext(entry.mNgramContext,
+                        entry.mWord, entry.mIsValidWord, entry.mCount, entry.mTimestamp);
+            }
+            lastAppliedSequenceNumber = entry.mSequenceNumber;
+        }
+    }
+
+    private void logUpdateLocked(@Nonnull final NgramContext ngramContext, final String word,
+            final boolean isValidWord, final int count, final int timestamp) {
+        if (mUpdateLog == null) {
+            return;
+        }
+        onUpdateLoggedLocked(
+                mUpdateLog.append(ngramContext, word, isValidWord, count, timestamp));
+    }
+
+    private void logUnigramRemovalLocked(final String word) {
+        if (mUpdateLog == null) {
+            return;
+        }
+        onUpdateLoggedLocked(mUpdateLog.appendUnigramRemoval(word));
+    }
+
+    // Writes the logged updates to the disk soon enough, or the whole dictionary if the update
+    // could not be logged.
+    private void onUpdateLoggedLocked(final boolean isLogged) {
+        if (!isLogged || mUpdateLog.getSize() >= MAX_UPDATE_LOG_SIZE) {
+            flushBinaryDictionaryLocked();
+            return;
+        }
+        if (mUpdateLog.getUnsyncedEntryCount() >= UPDATE_LOG_GROUP_COMMIT_SIZE) {
+            asyncSyncUpdateLog(mUpdateLog.writeAppendedEntries());
+            return;
         }
+        scheduleUpdateLogSync();
     }
 
-    private void updateDictionaryWithWriteLock(@Nonnull final Runnable updateTask) {
+    // Waits for the entries written to the update log to get to the disk without holding the
+    // lock, so that reads don't wait for the disk.
+    private static void asyncSyncUpdateLog(@Nullable final FileDescriptor fd) {
+        if (fd == null) {
+            return;
+        }
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+            @Override
+            public void run() {
+                DictionaryUpdateLog.syncWrittenEntries(fd);
+            }
+        });
+    }
+
+    private void scheduleUpdateLogSync() {
+        if (!mIsUpdateLogSyncScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        final Lock lock = mLock.writeLock();
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).schedule(new Runnable() {
+            @Override
+            public void run() {
+                FileDescriptor fd = null;
+                lock.lock();
+                try {
+                    mIsUpdateLogSyncScheduled.set(false);
+                    if (mUpdateLog != null) {
+                        fd = mUpdateLog.writeAppendedEntries();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (fd != null) {
+                    DictionaryUpdateLog.syncWrittenEntries(fd);
+                }
+            }
+        }, UPDATE_LOG_GROUP_COMMIT_DELAY_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a task that updates the dictionary contents with the write lock, once the dictionary
+     * has been loaded. The task is not run if the dictionary could not be loaded.
+     */
+    protected void updateDictionaryWithWriteLock(@Nonnull final Runnable updateTask) {
         reloadDictionaryIfRequired();
         final Runnable task = new Runnable() {
             @Override
@@ -315,6 +736,14 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         }
     }
 
+    protected void removeUnigramLocked(final String word) {
+        if (!mBinaryDictionary.removeUnigramEntry(word)) {
+            if (DEBUG) {
+                Log.i(TAG, "Cannot remove unigram entry: " + word);
+            }
+        }
+    }
+
     /**
      * Dynamically remove the unigram entry from the dictionary.
      */
@@ -323,16 +752,12 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         asyncExecuteTaskWithWriteLock(new Runnable() {
             @Override
             public void run() {
-                final BinaryDictionary binaryDictionary = getBinaryDictionary();
-                if (binaryDictionary == null) {
+                if (getBinaryDictionary() == null) {
                     return;
                 }
                 runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                if (!binaryDictionary.removeUnigramEntry(word)) {
-                    if (DEBUG) {
-                        Log.i(TAG, "Cannot remove unigram entry: " + word);
-                    }
-                }
+                removeUnigramLocked(word);
+                logUnigramRemovalLocked(word);
             }
         });
     }
@@ -365,6 +790,16 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         }
     }
 
+    protected void removeNgramEntryLocked(@Nonnull final NgramContext ngramContext,
+            final String word) {
+        if (!mBinaryDictionary.removeNgramEntry(ngramContext, word)) {
+            if (DEBUG) {
+                Log.i(TAG, "Cannot remove n-gram entry.");
+                Log.i(TAG, "  NgramContext: " + ngramContext + ", word: " + word);
+            }
+        }
+    }
+
     /**
      * Update dictionary for the word with the ngramContext.
      */
@@ -383,7 +818,9 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                         Log.e(TAG, "Cannot update counter. word: " + word
                                 + " context: " + ngramContext.toString());
                     }
+                    return;
                 }
+                logUpdateLocked(ngramContext, word, isValidWord, count, timestamp);
             }
         });
     }
@@ -416,9 +853,16 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                     if (binaryDictionary == null) {
                         return;
                     }
+                    // The dictionary file may be written in the middle of the events.
+                    checkpointUpdateLogLocked();
                     binaryDictionary.updateEntriesForInputEvents(
                             inputEvents.toArray(
                                     new WordInputEventForPersonalization[inputEvents.size()]));
+                    if (mUpdateLog != null) {
+                        // The events are not logged, and the dictionary file may have been
+                        // written in the middle of them. Write all of them out.
+                        flushBinaryDictionaryLocked();
+                    }
                 } finally {
                     if (callback != null) {
                         callback.onFinished();
@@ -434,87 +878,53 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
             final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
             final float weightForLocale, final float[] inOutWeightOfLangModelVsSpatialModel) {
         reloadDictionaryIfRequired();
-        boolean lockAcquired = false;
-        try {
-            lockAcquired = mLock.readLock().tryLock(
-                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
-            if (lockAcquired) {
-                if (mBinaryDictionary == null) {
-                    return null;
-                }
+        return readDictionary(new ReadTask<ArrayList<SuggestedWordInfo>>() {
+            @Override
+            public ArrayList<SuggestedWordInfo> run(
+                    @Nonnull final BinaryDictionary binaryDictionary) {
                 final ArrayList<SuggestedWordInfo> suggestions =
-                        mBinaryDictionary.getSuggestions(composedData, ngramContext,
+                        binaryDictionary.getSuggestions(composedData, ngramContext,
                                 proximityInfoHandle, settingsValuesForSuggestion, sessionId,
                                 weightForLocale, inOutWeightOfLangModelVsSpatialModel);
-                if (mBinaryDictionary.isCorrupted()) {
-                    Log.i(TAG, "Dictionary (" + mDictName +") is corrupted. "
-                            + "Remove and regenerate it.");
-                    removeBinaryDictionary();
+                if (binaryDictionary.isCorrupted()) {
+                    // Snapshots are separate instances, never the dictionary itself.
+                    if (binaryDictionary != mBinaryDictionary) {
+                        Log.i(TAG, "Snapshot of dictionary (" + mDictName + ") is corrupted. "
+                                + "Drop it.");
+                        dropSnapshot(binaryDictionary);
+                    } else {
+                        Log.i(TAG, "Dictionary (" + mDictName +") is corrupted. "
+                                + "Remove and regenerate it.");
+                        removeBinaryDictionary();
+                    }
                 }
                 return suggestions;
             }
-        } catch (final InterruptedException e) {
-            Log.e(TAG, "Interrupted tryLock() in getSuggestionsWithSessionId().", e);
-        } finally {
-            if (lockAcquired) {
-                mLock.readLock().unlock();
-            }
-        }
-        return null;
+        }, null /* defaultValue */);
     }
 
     @Override
     public boolean isInDictionary(final String word) {
         reloadDictionaryIfRequired();
-        boolean lockAcquired = false;
-        try {
-            lockAcquired = mLock.readLock().tryLock(
-                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
-            if (lockAcquired) {
-                if (mBinaryDictionary == null) {
-                    return false;
-                }
-                return isInDictionaryLocked(word);
-            }
-        } catch (final InterruptedException e) {
-            Log.e(TAG, "Interrupted tryLock() in isInDictionary().", e);
-        } finally {
-            if (lockAcquired) {
-                mLock.readLock().unlock();
+        return readDictionary(new ReadTask<Boolean>() {
+            @Override
+            public Boolean run(@Nonnull final BinaryDictionary binaryDictionary) {
+                return binaryDictionary.isInDictionary(word);
             }
-        }
-        return false;
-    }
-
-    protected boolean isInDictionaryLocked(final String word) {
-        if (mBinaryDictionary == null) return false;
-        return mBinaryDictionary.isInDictionary(word);
+        }, false /* defaultValue */);
     }
 
     @Override
     public int getMaxFrequencyOfExactMatches(final String word) {
         reloadDictionaryIfRequired();
-        boolean lockAcquired = false;
-        try {
-            lockAcquired = mLock.readLock().tryLock(
-                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
-            if (lockAcquired) {
-                if (mBinaryDictionary == null) {
-                    return NOT_A_PROBABILITY;
-                }
-                return mBinaryDictionary.getMaxFrequencyOfExactMatches(word);
-            }
-        } catch (final InterruptedException e) {
-            Log.e(TAG, "Interrupted tryLock() in getMaxFrequencyOfExactMatches().", e);
-        } finally {
-            if (lockAcquired) {
-                mLock.readLock().unlock();
+        return readDictionary(new ReadTask<Integer>() {
+            @Override
+            public Integer run(@Nonnull final BinaryDictionary binaryDictionary) {
+                return binaryDictionary.getMaxFrequencyOfExactMatches(word);
             }
-        }
-        return NOT_A_PROBABILITY;
+        }, NOT_A_PROBABILITY /* defaultValue */);
     }
 
-
     /**
      * Loads the current binary dictionary from internal storage. Assumes the dictionary file
      * exists.
@@ -562,6 +972,9 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
      */
     protected void setNeedsToRecreate() {
         mNeedsToRecreate = true;
+        // The contents are stale until the dictionary has been recreated, which happens only at
+        // the next read.
+        mGeneration = sLastGeneration.incrementAndGet();
     }
 
     void clearNeedsToRecreate() {
@@ -621,6 +1034,13 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                             createNewDictionaryLocked();
                         }
                     }
+                    // The snapshot has the contents of the file, without the updates replayed from
+                    // the log, if any.
+                    onDictFileWrittenLocked();
+                    if (usesUpdateLog() && getBinaryDictionary() != null
+                            && isValidDictionaryLocked()) {
+                        openUpdateLogLocked();
+                    }
                     clearNeedsToRecreate();
                 } finally {
                     isReloading.set(false);
@@ -636,15 +1056,10 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         asyncExecuteTaskWithWriteLock(new Runnable() {
             @Override
             public void run() {
-                final BinaryDictionary binaryDictionary = getBinaryDictionary();
-                if (binaryDictionary == null) {
+                if (getBinaryDictionary() == null) {
                     return;
                 }
-                if (binaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
-                    binaryDictionary.flushWithGC();
-                } else {
-                    binaryDictionary.flush();
-                }
+                flushBinaryDictionaryLocked();
             }
         });
     }
@@ -680,6 +1095,23 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         }
     }
 
+    /**
+     * Returns the number of reads that have found the lock held by a writer.
+     */
+    @UsedForTesting
+    public int getBlockedReadCountForTests() {
+        return mBlockedReadCount.get();
+    }
+
+    /**
+     * Returns the number of snapshots that have been opened for blocked reads. Must be called
+     * after {@link #waitAllTasksForTests()}.
+     */
+    @UsedForTesting
+    public int getSnapshotOpenCountForTests() {
+        return mSnapshotOpenCount;
+    }
+
     @UsedForTesting
     public void clearAndFlushDictionaryWithAdditionalAttributes(
             final Map<String, String> attributeMap) {
@@ -707,18 +1139,14 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                 } catch (final UnsupportedFormatException e) {
                     Log.d(tag, "Cannot fetch header information.", e);
                 }
-                int token = 0;
-                do {
-                    final BinaryDictionary.GetNextWordPropertyResult result =
-                            binaryDictionary.getNextWordProperty(token);
-                    final WordProperty wordProperty = result.mWordProperty;
-                    if (wordProperty == null) {
-                        Log.d(tag, " dictionary is empty.");
-                        break;
-                    }
-                    Log.d(tag, wordProperty.toString());
-                    token = result.mNextToken;
-                } while (token != 0);
+                final WordPropertyIterator iterator = binaryDictionary.getWordPropertyIterator();
+                if (!iterator.hasNext()) {
+                    Log.d(tag, " dictionary is empty.");
+                    return;
+                }
+                while (iterator.hasNext()) {
+                    Log.d(tag, iterator.next().toString());
+                }
             }
         });
     }
@@ -738,18 +1166,11 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                 if (binaryDictionary == null) {
                     return;
                 }
-                int token = 0;
-                do {
-                    // TODO: We need a new API that returns *new* un-synced data.
-                    final BinaryDictionary.GetNextWordPropertyResult nextWordPropertyResult =
-                            binaryDictionary.getNextWordProperty(token);
-                    final WordProperty wordProperty = nextWordPropertyResult.mWordProperty;
-                    if (wordProperty == null) {
-                        break;
-                    }
-                    wordPropertyList.add(wordProperty);
-                    token = nextWordPropertyResult.mNextToken;
-                } while (token != 0);
+                // TODO: We need a new API that returns *new* un-synced data.
+                final WordPropertyIterator iterator = binaryDictionary.getWordPropertyIterator();
+                while (iterator.hasNext()) {
+                    wordPropertyList.add(iterator.next());
+                }
                 result.set(wordPropertyList.toArray(new WordProperty[wordPropertyList.size()]));
             }
         });
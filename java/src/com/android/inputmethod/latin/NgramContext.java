@@ -43,6 +43,8 @@ public class NgramContext {
 
     public static final String CONTEXT_SEPARATOR = " ";
 
+    private static final int[] EMPTY_CODE_POINTS = new int[0];
+
     public static NgramContext getEmptyPrevWordsContext(int maxPrevWordCount) {
         return new NgramContext(maxPrevWordCount, WordInfo.EMPTY_WORD_INFO);
     }
@@ -108,6 +110,11 @@ public class NgramContext {
 
     private final int mMaxPrevWordCount;
 
+    // Code points of the previous words, computed on the first call to outputToArray. The same
+    // context is passed to every dictionary on every keystroke of a word, so it is only converted
+    // once. The arrays are shared with the callers, which must not modify them.
+    private volatile int[][] mPrevWordCodePointArrays;
+
     // Construct from the previous word information.
     public NgramContext(final WordInfo... prevWordsInfo) {
         this(DecoderSpecificConstants.MAX_PREV_WORD_COUNT_FOR_N_GRAM, prevWordsInfo);
@@ -207,16 +214,32 @@ public class NgramContext {
 
     public void outputToArray(final int[][] codePointArrays,
             final boolean[] isBeginningOfSentenceArray) {
+        final int[][] prevWordCodePointArrays = getPrevWordCodePointArrays();
+        for (int i = 0; i < mPrevWordsCount; i++) {
+            final WordInfo wordInfo = mPrevWordsInfo[i];
+            codePointArrays[i] = prevWordCodePointArrays[i];
+            isBeginningOfSentenceArray[i] =
+                    wordInfo != null && wordInfo.isValid() && wordInfo.mIsBeginningOfSentence;
+        }
+    }
+
+    private int[][] getPrevWordCodePointArrays() {
+        final int[][] cachedCodePointArrays = mPrevWordCodePointArrays;
+        if (cachedCodePointArrays != null) {
+            return cachedCodePointArrays;
+        }
+        final int[][] codePointArrays = new int[mPrevWordsCount][];
         for (int i = 0; i < mPrevWordsCount; i++) {
             final WordInfo wordInfo = mPrevWordsInfo[i];
             if (wordInfo == null || !wordInfo.isValid()) {
-                codePointArrays[i] = new int[0];
-                isBeginningOfSentenceArray[i] = false;
+                codePointArrays[i] = EMPTY_CODE_POINTS;
                 continue;
             }
             codePointArrays[i] = StringUtils.toCodePointArray(wordInfo.mWord);
-            isBeginningOfSentenceArray[i] = wordInfo.mIsBeginningOfSentence;
         }
+        // Concurrent callers may both compute the arrays; they are equal, so either one is fine.
+        mPrevWordCodePointArrays = codePointArrays;
+        return codePointArrays;
     }
 
     public int getPrevWordCount() {
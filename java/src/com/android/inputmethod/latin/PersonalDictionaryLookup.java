@@ -17,6 +17,7 @@
 package com.android.inputmethod.latin;
 
 import android.content.ContentResolver;
+import android.content.ContentUris;
 import android.content.Context;
 import android.database.ContentObserver;
 import android.database.Cursor;
@@ -26,7 +27,6 @@ import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.inputmethod.annotations.UsedForTesting;
-import com.android.inputmethod.latin.common.CollectionUtils;
 import com.android.inputmethod.latin.common.LocaleUtils;
 import com.android.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.utils.ExecutorUtils;
@@ -34,6 +34,7 @@ import com.android.inputmethod.latin.utils.ExecutorUtils;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -59,6 +60,11 @@ import javax.annotation.Nullable;
  * rarely) that {@link #isValidWord} or {@link #expandShortcut} is called before the initial load
  * has started.
  *
+ * The words and shortcuts of each locale are kept in a {@link PersonalDictionaryTrie}. Reloads
+ * build new tries in the background and swap them in at once, so lookups never lock. When the
+ * changes are notified for individual entries, only those entries are queried again, and only the
+ * tries of their locales are rebuilt.
+ *
  * The caller should explicitly call {@link #close} when the object is no longer needed, in order
  * to release any resources and references to this object.  A service should create this object in
  * {@link android.app.Service#onCreate} and close it in {@link android.app.Service#onDestroy}.
@@ -153,6 +159,14 @@ public class PersonalDictionaryLookup implements Closeable {
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.d(mTag, "onChange() : URI = " + uri);
             }
+            synchronized (mChangedEntryIds) {
+                final long id = (uri == null) ? -1 : getEntryId(uri);
+                if (id < 0) {
+                    mNeedsFullReload = true;
+                } else {
+                    mChangedEntryIds.add(id);
+                }
+            }
             // Cancel (but don't interrupt) any pending reloads (except the initial load).
             if (mReloadFuture != null && !mReloadFuture.isCancelled() &&
                     !mReloadFuture.isDone()) {
@@ -178,7 +192,34 @@ public class PersonalDictionaryLookup implements Closeable {
 
         @Override
         public void run() {
-            loadPersonalDictionary();
+            final boolean needsFullReload;
+            final ArrayList<Long> changedEntryIds;
+            synchronized (mChangedEntryIds) {
+                needsFullReload = mNeedsFullReload;
+                changedEntryIds = new ArrayList<>(mChangedEntryIds);
+                mNeedsFullReload = false;
+                mChangedEntryIds.clear();
+            }
+            if (needsFullReload) {
+                loadPersonalDictionary();
+            } else {
+                reloadChangedEntries(changedEntryIds);
+            }
+        }
+    }
+
+    // Returns the id of the entry the URI is for, or -1 if it is not for a single entry.
+    private static long getEntryId(@Nonnull final Uri uri) {
+        final List<String> pathSegments = uri.getPathSegments();
+        final List<String> wordsPathSegments = UserDictionary.Words.CONTENT_URI.getPathSegments();
+        if (pathSegments.size() != wordsPathSegments.size() + 1
+                || !pathSegments.subList(0, wordsPathSegments.size()).equals(wordsPathSegments)) {
+            return -1;
+        }
+        try {
+            return ContentUris.parseId(uri);
+        } catch (final NumberFormatException e) {
+            return -1;
         }
     }
 
@@ -196,16 +237,91 @@ public class PersonalDictionaryLookup implements Closeable {
     private AtomicBoolean mIsClosed = new AtomicBoolean(false);
 
     /**
-     * We store a map from a dictionary word to the set of locales & raw string(as it appears)
-     * We then iterate over the set of locales to find a match using LocaleUtils.
+     * An entry of the personal dictionary.
      */
-    private volatile HashMap<String, HashMap<Locale, String>> mDictWords;
+    private static final class Entry {
+        @Nonnull public final String mWord;
+        @Nonnull public final Locale mLocale;
+        @Nullable public final String mShortcut;
+        public final int mFrequency;
+
+        public Entry(@Nonnull final String word, @Nonnull final Locale locale,
+                @Nullable final String shortcut, final int frequency) {
+            mWord = word;
+            mLocale = locale;
+            mShortcut = shortcut;
+            mFrequency = frequency;
+        }
+    }
+
+    private static final Comparator<Entry> FREQUENCY_COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry entry1, final Entry entry2) {
+            return entry2.mFrequency - entry1.mFrequency;
+        }
+    };
 
     /**
-     * We store a map from a shortcut to a word for each locale.
-     * Shortcuts that apply to any locale are keyed by {@link #ANY_LOCALE}.
+     * The loaded personal dictionary. This is immutable, so that it can be replaced at once.
      */
-    private volatile HashMap<Locale, HashMap<String, String>> mShortcutsPerLocale;
+    private static final class LoadedDictionary {
+        // The entries by their id in UserDictionary.
+        @Nonnull public final HashMap<Long, Entry> mEntries;
+        // The words of each locale, ignoring their case. Words for any locale are keyed by
+        // ANY_LOCALE.
+        @Nonnull public final HashMap<Locale, PersonalDictionaryTrie> mWordsPerLocale;
+        // The shortcuts of each locale, mapped to their word.
+        @Nonnull public final HashMap<Locale, PersonalDictionaryTrie> mShortcutsPerLocale;
+        // The tries of mWordsPerLocale that match the input locale of the last lookup.
+        @Nullable public volatile LocaleTries mLastLocaleTries;
+
+        public LoadedDictionary(@Nonnull final HashMap<Long, Entry> entries,
+                @Nonnull final HashMap<Locale, PersonalDictionaryTrie> wordsPerLocale,
+                @Nonnull final HashMap<Locale, PersonalDictionaryTrie> shortcutsPerLocale) {
+            mEntries = entries;
+            mWordsPerLocale = wordsPerLocale;
+            mShortcutsPerLocale = shortcutsPerLocale;
+        }
+
+        public int getWordCount() {
+            int wordCount = 0;
+            for (final PersonalDictionaryTrie words : mWordsPerLocale.values()) {
+                wordCount += words.size();
+            }
+            return wordCount;
+        }
+
+        public int getShortcutCount() {
+            int shortcutCount = 0;
+            for (final PersonalDictionaryTrie shortcuts : mShortcutsPerLocale.values()) {
+                shortcutCount += shortcuts.size();
+            }
+            return shortcutCount;
+        }
+    }
+
+    /**
+     * The word tries that match an input locale.
+     */
+    private static final class LocaleTries {
+        @Nonnull public final Locale mInputLocale;
+        @Nonnull public final PersonalDictionaryTrie[] mWordTries;
+
+        public LocaleTries(@Nonnull final Locale inputLocale,
+                @Nonnull final PersonalDictionaryTrie[] wordTries) {
+            mInputLocale = inputLocale;
+            mWordTries = wordTries;
+        }
+    }
+
+    private volatile LoadedDictionary mLoadedDictionary;
+
+    /**
+     * The ids of the entries that have changed since the last reload, and whether changes that
+     * are not for single entries have been notified. Guarded by mChangedEntryIds.
+     */
+    private final HashSet<Long> mChangedEntryIds = new HashSet<>();
+    private boolean mNeedsFullReload = false;
 
     /**
      *  The last-scheduled reload future.  Saved in order to cancel a pending reload if a new one
@@ -301,7 +417,31 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return true if the initial load is successful
      */
     public boolean isLoaded() {
-        return mDictWords != null && mShortcutsPerLocale != null;
+        return mLoadedDictionary != null;
+    }
+
+    // Returns the word tries whose locale matches the input locale.
+    @Nonnull
+    private static PersonalDictionaryTrie[] getWordTries(
+            @Nonnull final LoadedDictionary loadedDictionary, @Nonnull final Locale inputLocale) {
+        final LocaleTries lastLocaleTries = loadedDictionary.mLastLocaleTries;
+        if (lastLocaleTries != null && lastLocaleTries.mInputLocale.equals(inputLocale)) {
+            return lastLocaleTries.mWordTries;
+        }
+        final ArrayList<PersonalDictionaryTrie> wordTries = new ArrayList<>();
+        final String inputLocaleString = inputLocale.toString();
+        for (final Map.Entry<Locale, PersonalDictionaryTrie> entry :
+                loadedDictionary.mWordsPerLocale.entrySet()) {
+            final int matchLevel = LocaleUtils.getMatchLevel(entry.getKey().toString(),
+                    inputLocaleString);
+            if (LocaleUtils.isMatch(matchLevel)) {
+                wordTries.add(entry.getValue());
+            }
+        }
+        final LocaleTries localeTries = new LocaleTries(inputLocale,
+                wordTries.toArray(new PersonalDictionaryTrie[wordTries.size()]));
+        loadedDictionary.mLastLocaleTries = localeTries;
+        return localeTries.mWordTries;
     }
 
     /**
@@ -316,24 +456,27 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return set of words that apply to the given locale.
      */
     public Set<String> getWordsForLocale(@Nonnull final Locale inputLocale) {
-        final HashMap<String, HashMap<Locale, String>> dictWords = mDictWords;
-        if (CollectionUtils.isNullOrEmpty(dictWords)) {
+        return getWordsWithPrefix("", inputLocale);
+    }
+
+    /**
+     * Returns the set of words that start with the given prefix, ignoring case, and are defined
+     * for the given locale and more general locales. This lets the personal dictionary be used
+     * to complete words.
+     *
+     * @param prefix the prefix of the words
+     * @param inputLocale the locale to restrict for
+     * @return set of words, as they appear in the dictionary.
+     */
+    public Set<String> getWordsWithPrefix(@Nonnull final String prefix,
+            @Nonnull final Locale inputLocale) {
+        final LoadedDictionary loadedDictionary = mLoadedDictionary;
+        if (loadedDictionary == null || loadedDictionary.mWordsPerLocale.isEmpty()) {
             return Collections.emptySet();
         }
-
         final Set<String> words = new HashSet<>();
-        final String inputLocaleString = inputLocale.toString();
-        for (String word : dictWords.keySet()) {
-            HashMap<Locale, String> localeStringMap = dictWords.get(word);
-                if (!CollectionUtils.isNullOrEmpty(localeStringMap)) {
-                    for (Locale wordLocale : localeStringMap.keySet()) {
-                        final String wordLocaleString = wordLocale.toString();
-                        final int match = LocaleUtils.getMatchLevel(wordLocaleString, inputLocaleString);
-                        if (LocaleUtils.isMatch(match)) {
-                            words.add(localeStringMap.get(wordLocale));
-                        }
-                    }
-            }
+        for (final PersonalDictionaryTrie wordTrie : getWordTries(loadedDictionary, inputLocale)) {
+            wordTrie.getValuesWithPrefix(prefix, words);
         }
         return words;
     }
@@ -350,37 +493,38 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return set of shortcuts that apply to the given locale.
      */
     public Set<String> getShortcutsForLocale(@Nonnull final Locale inputLocale) {
-        final Map<Locale, HashMap<String, String>> shortcutsPerLocale = mShortcutsPerLocale;
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
+        final LoadedDictionary loadedDictionary = mLoadedDictionary;
+        if (loadedDictionary == null || loadedDictionary.mShortcutsPerLocale.isEmpty()) {
             return Collections.emptySet();
         }
+        final Map<Locale, PersonalDictionaryTrie> shortcutsPerLocale =
+                loadedDictionary.mShortcutsPerLocale;
 
         final Set<String> shortcuts = new HashSet<>();
         if (!TextUtils.isEmpty(inputLocale.getCountry())) {
             // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
-            final Map<String, String> countryShortcuts = shortcutsPerLocale.get(inputLocale);
-            if (!CollectionUtils.isNullOrEmpty(countryShortcuts)) {
-                shortcuts.addAll(countryShortcuts.keySet());
-            }
+            addShortcuts(shortcutsPerLocale.get(inputLocale), shortcuts);
         }
 
         // Next look for the language-specific shortcut: en, fr, etc.
         final Locale languageOnlyLocale =
                 LocaleUtils.constructLocaleFromString(inputLocale.getLanguage());
-        final Map<String, String> languageShortcuts = shortcutsPerLocale.get(languageOnlyLocale);
-        if (!CollectionUtils.isNullOrEmpty(languageShortcuts)) {
-            shortcuts.addAll(languageShortcuts.keySet());
-        }
+        addShortcuts(shortcutsPerLocale.get(languageOnlyLocale), shortcuts);
 
         // If all else fails, look for a global shortcut.
-        final Map<String, String> globalShortcuts = shortcutsPerLocale.get(ANY_LOCALE);
-        if (!CollectionUtils.isNullOrEmpty(globalShortcuts)) {
-            shortcuts.addAll(globalShortcuts.keySet());
-        }
+        addShortcuts(shortcutsPerLocale.get(ANY_LOCALE), shortcuts);
 
         return shortcuts;
     }
 
+    private static void addShortcuts(@Nullable final PersonalDictionaryTrie localeShortcuts,
+            @Nonnull final Set<String> outShortcuts) {
+        if (localeShortcuts == null) {
+            return;
+        }
+        localeShortcuts.getKeys(outShortcuts);
+    }
+
     /**
      * Determines if the given word is a valid word in the given locale based on the dictionary.
      * It tries hard to find a match: for example, casing is ignored and if the word is present in a
@@ -392,7 +536,9 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return true iff the word has been matched for this locale in the dictionary.
      */
     public boolean isValidWord(@Nonnull final String word, @Nonnull final Locale inputLocale) {
-        if (!isLoaded()) {
+        // Atomically obtain the current copy of the dictionary.
+        final LoadedDictionary loadedDictionary = mLoadedDictionary;
+        if (loadedDictionary == null) {
             // This is a corner case in the event the initial load of the dictionary has not
             // completed. In that case, we assume the word is not a valid word in the dictionary.
             if (DebugFlags.DEBUG_ENABLED) {
@@ -404,47 +550,21 @@ public class PersonalDictionaryLookup implements Closeable {
         if (DebugFlags.DEBUG_ENABLED) {
             Log.d(mTag, "isValidWord() : Word [" + word + "] in Locale [" + inputLocale + "]");
         }
-        // Atomically obtain the current copy of mDictWords;
-        final HashMap<String, HashMap<Locale, String>> dictWords = mDictWords;
-        // Lowercase the word using the given locale. Note, that dictionary
-        // words are lowercased using their locale, and theoretically the
-        // lowercasing between two matching locales may differ. For simplicity
-        // we ignore that possibility.
-        final String lowercased = word.toLowerCase(inputLocale);
-        final HashMap<Locale, String> dictLocales = dictWords.get(lowercased);
-
-        if (CollectionUtils.isNullOrEmpty(dictLocales)) {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : No entry for word [" + word + "]");
-            }
-            return false;
-        } else {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : Found entry for word [" + word + "]");
-            }
-            // Iterate over the locales this word is in.
-            for (final Locale dictLocale : dictLocales.keySet()) {
-                final int matchLevel = LocaleUtils.getMatchLevel(dictLocale.toString(),
-                        inputLocale.toString());
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "isValidWord() : MatchLevel for DictLocale [" + dictLocale
-                            + "] and InputLocale [" + inputLocale + "] is " + matchLevel);
-                }
-                if (LocaleUtils.isMatch(matchLevel)) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "isValidWord() : MatchLevel " + matchLevel + " IS a match");
-                    }
-                    return true;
-                }
+        // The tries ignore case, so the word doesn't need to be lowercased. Note, that the case
+        // is folded character by character regardless of the locale, both for the dictionary
+        // words and for the looked up word, so that the two are always folded the same way.
+        for (final PersonalDictionaryTrie wordTrie : getWordTries(loadedDictionary, inputLocale)) {
+            if (wordTrie.contains(word)) {
                 if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "isValidWord() : MatchLevel " + matchLevel + " is NOT a match");
+                    Log.d(mTag, "isValidWord() : Found entry for word [" + word + "]");
                 }
+                return true;
             }
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : False, since none of the locales matched");
-            }
-            return false;
         }
+        if (DebugFlags.DEBUG_ENABLED) {
+            Log.d(mTag, "isValidWord() : No entry for word [" + word + "] in a matching locale");
+        }
+        return false;
     }
 
     /**
@@ -460,16 +580,18 @@ public class PersonalDictionaryLookup implements Closeable {
             Log.d(mTag, "expandShortcut() : Shortcut [" + shortcut + "] for [" + inputLocale + "]");
         }
 
-        // Atomically obtain the current copy of mShortcuts;
-        final HashMap<Locale, HashMap<String, String>> shortcutsPerLocale = mShortcutsPerLocale;
+        // Atomically obtain the current copy of the dictionary.
+        final LoadedDictionary loadedDictionary = mLoadedDictionary;
 
         // Exit as early as possible. Most users don't use shortcuts.
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
+        if (loadedDictionary == null || loadedDictionary.mShortcutsPerLocale.isEmpty()) {
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.d(mTag, "expandShortcut() : User has no shortcuts");
             }
             return null;
         }
+        final HashMap<Locale, PersonalDictionaryTrie> shortcutsPerLocale =
+                loadedDictionary.mShortcutsPerLocale;
 
         if (!TextUtils.isEmpty(inputLocale.getCountry())) {
             // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
@@ -506,17 +628,145 @@ public class PersonalDictionaryLookup implements Closeable {
     }
 
     @Nullable private String expandShortcut(
-            @Nullable final HashMap<Locale, HashMap<String, String>> shortcutsPerLocale,
+            @Nonnull final HashMap<Locale, PersonalDictionaryTrie> shortcutsPerLocale,
             @Nonnull final String shortcut,
             @Nonnull final Locale locale) {
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
+        final PersonalDictionaryTrie localeShortcuts = shortcutsPerLocale.get(locale);
+        if (localeShortcuts == null) {
             return null;
         }
-        final HashMap<String, String> localeShortcuts = shortcutsPerLocale.get(locale);
-        if (CollectionUtils.isNullOrEmpty(localeShortcuts)) {
+        return localeShortcuts.get(shortcut);
+    }
+
+    /**
+     * Reads the entry at the current position of the cursor.
+     *
+     * @return the entry, or null if it should be skipped.
+     */
+    @Nullable
+    private Entry readEntry(@Nonnull final Cursor cursor) {
+        // If there is no column for locale, skip this entry. An empty
+        // locale on the other hand will not be skipped.
+        final int dictLocaleIndex = cursor.getColumnIndex(UserDictionary.Words.LOCALE);
+        if (dictLocaleIndex < 0) {
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(mTag, "readEntry() : Entry without LOCALE, skipping");
+            }
             return null;
         }
-        return localeShortcuts.get(shortcut);
+        // If there is no column for word, skip this entry.
+        final int dictWordIndex = cursor.getColumnIndex(UserDictionary.Words.WORD);
+        if (dictWordIndex < 0) {
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(mTag, "readEntry() : Entry without WORD, skipping");
+            }
+            return null;
+        }
+        // If the word is null, skip this entry.
+        final String rawDictWord = cursor.getString(dictWordIndex);
+        if (null == rawDictWord) {
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(mTag, "readEntry() : Null word");
+            }
+            return null;
+        }
+        // If the locale is null, that's interpreted to mean all locales. Note, the special
+        // zz locale for an Alphabet (QWERTY) layout will not match any actual language.
+        String localeString = cursor.getString(dictLocaleIndex);
+        if (null == localeString) {
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(mTag, "readEntry() : Null locale for word [" +
+                        rawDictWord + "], assuming all locales");
+            }
+            // For purposes of LocaleUtils, an empty locale matches everything.
+            localeString = "";
+        }
+        final Locale dictLocale = LocaleUtils.constructLocaleFromString(localeString);
+        // If there is no column for a shortcut, or the shortcut is null, the entry has none.
+        final int shortcutIndex = cursor.getColumnIndex(UserDictionary.Words.SHORTCUT);
+        final String shortcut = (shortcutIndex < 0) ? null : cursor.getString(shortcutIndex);
+        final int frequencyIndex = cursor.getColumnIndex(UserDictionary.Words.FREQUENCY);
+        final int frequency = (frequencyIndex < 0) ? 0 : cursor.getInt(frequencyIndex);
+        if (DebugFlags.DEBUG_ENABLED) {
+            Log.d(mTag, "readEntry() : Word [" + rawDictWord + "] for locale " + dictLocale
+                    + " with shortcut " + shortcut);
+        }
+        return new Entry(rawDictWord, dictLocale, shortcut, frequency);
+    }
+
+    // Returns the id of the entry at the current position of the cursor, or -1 if it has none.
+    private static long readEntryId(@Nonnull final Cursor cursor) {
+        final int idIndex = cursor.getColumnIndex(UserDictionary.Words._ID);
+        return (idIndex < 0) ? -1 : cursor.getLong(idIndex);
+    }
+
+    /**
+     * Builds the tries of the given locales from the entries, and puts them in the maps. The
+     * tries of locales that have no words anymore are removed.
+     */
+    private static void buildTries(@Nonnull final HashMap<Long, Entry> entries,
+            @Nullable final Set<Locale> locales,
+            @Nonnull final HashMap<Locale, PersonalDictionaryTrie> wordsPerLocale,
+            @Nonnull final HashMap<Locale, PersonalDictionaryTrie> shortcutsPerLocale) {
+        // When a word or a shortcut is there several times, the most frequent entry wins.
+        final ArrayList<Entry> sortedEntries = new ArrayList<>(entries.values());
+        Collections.sort(sortedEntries, FREQUENCY_COMPARATOR);
+        final HashMap<Locale, PersonalDictionaryTrie.Builder> wordBuilders = new HashMap<>();
+        final HashMap<Locale, PersonalDictionaryTrie.Builder> shortcutBuilders = new HashMap<>();
+        for (final Entry entry : sortedEntries) {
+            if (locales != null && !locales.contains(entry.mLocale)) {
+                continue;
+            }
+            PersonalDictionaryTrie.Builder wordBuilder = wordBuilders.get(entry.mLocale);
+            if (wordBuilder == null) {
+                wordBuilder = new PersonalDictionaryTrie.Builder(true /* ignoresCase */);
+                wordBuilders.put(entry.mLocale, wordBuilder);
+            }
+            // Map to the raw word, which might be capitalized.
+            wordBuilder.add(entry.mWord, entry.mWord);
+            if (entry.mShortcut == null) {
+                continue;
+            }
+            PersonalDictionaryTrie.Builder shortcutBuilder = shortcutBuilders.get(entry.mLocale);
+            if (shortcutBuilder == null) {
+                shortcutBuilder = new PersonalDictionaryTrie.Builder(false /* ignoresCase */);
+                shortcutBuilders.put(entry.mLocale, shortcutBuilder);
+            }
+            // This lets the user create a shortcut from "gm" to "General Motors".
+            shortcutBuilder.add(entry.mShortcut, entry.mWord);
+        }
+        if (locales != null) {
+            wordsPerLocale.keySet().removeAll(locales);
+            shortcutsPerLocale.keySet().removeAll(locales);
+        }
+        for (final Map.Entry<Locale, PersonalDictionaryTrie.Builder> builder :
+                wordBuilders.entrySet()) {
+            wordsPerLocale.put(builder.getKey(), builder.getValue().build());
+        }
+        for (final Map.Entry<Locale, PersonalDictionaryTrie.Builder> builder :
+                shortcutBuilders.entrySet()) {
+            shortcutsPerLocale.put(builder.getKey(), builder.getValue().build());
+        }
+    }
+
+    /**
+     * Replaces the loaded dictionary, and notifies the listeners.
+     */
+    private void setLoadedDictionary(@Nonnull final LoadedDictionary loadedDictionary) {
+        final int wordCount = loadedDictionary.getWordCount();
+        final int shortcutCount = loadedDictionary.getShortcutCount();
+        List<DictionaryStats> stats = new ArrayList<>();
+        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER, wordCount));
+        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER_SHORTCUT, shortcutCount));
+        mDictionaryStats = stats;
+
+        // Atomically replace the copy of the dictionary.
+        mLoadedDictionary = loadedDictionary;
+
+        Log.i(mTag, "setLoadedDictionary() : Loaded " + wordCount + " words and " + shortcutCount
+                + " shortcuts");
+
+        notifyListeners();
     }
 
     /**
@@ -531,8 +781,7 @@ public class PersonalDictionaryLookup implements Closeable {
             return;
         }
         Log.i(mTag, "loadPersonalDictionary() : Start Loading");
-        HashMap<String, HashMap<Locale, String>> dictWords = new HashMap<>();
-        HashMap<Locale, HashMap<String, String>> shortcutsPerLocale = new HashMap<>();
+        final HashMap<Long, Entry> entries = new HashMap<>();
         // Load the dictionary.  Items are returned in the default sort order (by frequency).
         Cursor cursor = mResolver.query(UserDictionary.Words.CONTENT_URI,
                 null, null, null, UserDictionary.Words.DEFAULT_SORT_ORDER);
@@ -541,111 +790,75 @@ public class PersonalDictionaryLookup implements Closeable {
         } else {
             // Iterate over the entries in the personal dictionary.  Note, that iteration is in
             // descending frequency by default.
-            while (dictWords.size() < MAX_NUM_ENTRIES && cursor.moveToNext()) {
-                // If there is no column for locale, skip this entry. An empty
-                // locale on the other hand will not be skipped.
-                final int dictLocaleIndex = cursor.getColumnIndex(UserDictionary.Words.LOCALE);
-                if (dictLocaleIndex < 0) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Entry without LOCALE, skipping");
-                    }
-                    continue;
-                }
-                // If there is no column for word, skip this entry.
-                final int dictWordIndex = cursor.getColumnIndex(UserDictionary.Words.WORD);
-                if (dictWordIndex < 0) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Entry without WORD, skipping");
-                    }
-                    continue;
-                }
-                // If the word is null, skip this entry.
-                final String rawDictWord = cursor.getString(dictWordIndex);
-                if (null == rawDictWord) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Null word");
-                    }
-                    continue;
-                }
-                // If the locale is null, that's interpreted to mean all locales. Note, the special
-                // zz locale for an Alphabet (QWERTY) layout will not match any actual language.
-                String localeString = cursor.getString(dictLocaleIndex);
-                if (null == localeString) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Null locale for word [" +
-                                rawDictWord + "], assuming all locales");
-                    }
-                    // For purposes of LocaleUtils, an empty locale matches everything.
-                    localeString = "";
-                }
-                final Locale dictLocale = LocaleUtils.constructLocaleFromString(localeString);
-                // Lowercase the word before storing it.
-                final String dictWord = rawDictWord.toLowerCase(dictLocale);
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "loadPersonalDictionary() : Adding word [" + dictWord
-                            + "] for locale " + dictLocale + "with value" + rawDictWord);
+            while (entries.size() < MAX_NUM_ENTRIES && cursor.moveToNext()) {
+                final Entry entry = readEntry(cursor);
+                if (entry != null) {
+                    entries.put(readEntryId(cursor), entry);
                 }
-                // Check if there is an existing entry for this word.
-                HashMap<Locale, String> dictLocales = dictWords.get(dictWord);
-                if (CollectionUtils.isNullOrEmpty(dictLocales)) {
-                    // If there is no entry for this word, create one.
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Word [" + dictWord +
-                                "] not seen for other locales, creating new entry");
-                    }
-                    dictLocales = new HashMap<>();
-                    dictWords.put(dictWord, dictLocales);
-                }
-                // Append the locale to the list of locales this word is in.
-                dictLocales.put(dictLocale, rawDictWord);
-
-                // If there is no column for a shortcut, we're done.
-                final int shortcutIndex = cursor.getColumnIndex(UserDictionary.Words.SHORTCUT);
-                if (shortcutIndex < 0) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Entry without SHORTCUT, done");
-                    }
-                    continue;
-                }
-                // If the shortcut is null, we're done.
-                final String shortcut = cursor.getString(shortcutIndex);
-                if (shortcut == null) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Null shortcut");
-                    }
-                    continue;
-                }
-                // Else, save the shortcut.
-                HashMap<String, String> localeShortcuts = shortcutsPerLocale.get(dictLocale);
-                if (localeShortcuts == null) {
-                    localeShortcuts = new HashMap<>();
-                    shortcutsPerLocale.put(dictLocale, localeShortcuts);
-                }
-                // Map to the raw input, which might be capitalized.
-                // This lets the user create a shortcut from "gm" to "General Motors".
-                localeShortcuts.put(shortcut, rawDictWord);
             }
         }
-
-        List<DictionaryStats> stats = new ArrayList<>();
-        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER, dictWords.size()));
-        int numShortcuts = 0;
-        for (HashMap<String, String> shortcuts : shortcutsPerLocale.values()) {
-            numShortcuts += shortcuts.size();
+        if (null != cursor) {
+            cursor.close();
         }
-        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER_SHORTCUT, numShortcuts));
-        mDictionaryStats = stats;
 
-        // Atomically replace the copy of mDictWords and mShortcuts.
-        mDictWords = dictWords;
-        mShortcutsPerLocale = shortcutsPerLocale;
+        final HashMap<Locale, PersonalDictionaryTrie> wordsPerLocale = new HashMap<>();
+        final HashMap<Locale, PersonalDictionaryTrie> shortcutsPerLocale = new HashMap<>();
+        buildTries(entries, null /* locales */, wordsPerLocale, shortcutsPerLocale);
+        setLoadedDictionary(new LoadedDictionary(entries, wordsPerLocale, shortcutsPerLocale));
 
         // Allow other calls to loadPersonalDictionary to execute now.
         mIsLoading.set(false);
+    }
 
-        Log.i(mTag, "loadPersonalDictionary() : Loaded " + mDictWords.size()
-                + " words and " + numShortcuts + " shortcuts");
+    /**
+     * Queries the given entries again, and rebuilds the tries of their locales only.
+     */
+    private void reloadChangedEntries(@Nonnull final ArrayList<Long> changedEntryIds) {
+        final LoadedDictionary loadedDictionary = mLoadedDictionary;
+        if (loadedDictionary == null
+                || loadedDictionary.mEntries.size() + changedEntryIds.size() > MAX_NUM_ENTRIES) {
+            // Only a full load can tell which entries are the most frequent ones.
+            loadPersonalDictionary();
+            return;
+        }
+        if (!mIsLoading.compareAndSet(false, true)) {
+            Log.i(mTag, "reloadChangedEntries() : Already Loading (exit)");
+            return;
+        }
+        Log.i(mTag, "reloadChangedEntries() : Reloading " + changedEntryIds.size() + " entries");
+        final HashMap<Long, Entry> entries = new HashMap<>(loadedDictionary.mEntries);
+        final HashSet<Locale> changedLocales = new HashSet<>();
+        for (final Long id : changedEntryIds) {
+            // The entries that are not found again have been deleted.
+            final Entry oldEntry = entries.remove(id);
+            if (oldEntry != null) {
+                changedLocales.add(oldEntry.mLocale);
+            }
+        }
+        final Cursor cursor = mResolver.query(UserDictionary.Words.CONTENT_URI, null,
+                UserDictionary.Words._ID + " IN (" + TextUtils.join(",", changedEntryIds) + ")",
+                null, null);
+        if (null != cursor) {
+            try {
+                while (cursor.moveToNext()) {
+                    final Entry entry = readEntry(cursor);
+                    if (entry != null) {
+                        entries.put(readEntryId(cursor), entry);
+                        changedLocales.add(entry.mLocale);
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+        }
 
-        notifyListeners();
+        final HashMap<Locale, PersonalDictionaryTrie> wordsPerLocale =
+                new HashMap<>(loadedDictionary.mWordsPerLocale);
+        final HashMap<Locale, PersonalDictionaryTrie> shortcutsPerLocale =
+                new HashMap<>(loadedDictionary.mShortcutsPerLocale);
+        buildTries(entries, changedLocales, wordsPerLocale, shortcutsPerLocale);
+        setLoadedDictionary(new LoadedDictionary(entries, wordsPerLocale, shortcutsPerLocale));
+
+        mIsLoading.set(false);
     }
 }
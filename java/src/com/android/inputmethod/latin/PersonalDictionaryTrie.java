@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.TreeMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable trie that maps keys to values, used by {@link PersonalDictionaryLookup}.
+ *
+ * The nodes are stored in flat arrays in breadth-first order, so that the children of a node are
+ * contiguous and sorted by their character. Lookups don't allocate, and can ignore the case of
+ * the keys, in which case characters are compared after being case folded one by one.
+ */
+final class PersonalDictionaryTrie {
+    private static final int NOT_A_VALUE_INDEX = -1;
+
+    public static final class Builder {
+        private final boolean mIgnoresCase;
+        private final TreeMap<String, String> mEntries = new TreeMap<>();
+
+        public Builder(final boolean ignoresCase) {
+            mIgnoresCase = ignoresCase;
+        }
+
+        /**
+         * Adds an entry, unless there is one for the same key already.
+         */
+        public void add(@Nonnull final String key, @Nonnull final String value) {
+            final String trieKey = mIgnoresCase ? foldCase(key) : key;
+            if (!mEntries.containsKey(trieKey)) {
+                mEntries.put(trieKey, value);
+            }
+        }
+
+        public int size() {
+            return mEntries.size();
+        }
+
+        @Nonnull
+        public PersonalDictionaryTrie build() {
+            return new PersonalDictionaryTrie(mIgnoresCase, mEntries);
+        }
+    }
+
+    // A node of the trie while it is being built.
+    private static final class BuilderNode {
+        public final char mChar;
+        public final TreeMap<Character, BuilderNode> mChildren = new TreeMap<>();
+        public int mValueIndex = NOT_A_VALUE_INDEX;
+
+        public BuilderNode(final char c) {
+            mChar = c;
+        }
+    }
+
+    private final boolean mIgnoresCase;
+    // The character leading to each node. Node 0 is the root.
+    private final char[] mNodeChars;
+    // The children of node n are the nodes from mFirstChildIndices[n] to
+    // mFirstChildIndices[n + 1] - 1.
+    private final int[] mFirstChildIndices;
+    private final int[] mValueIndices;
+    private final String[] mValues;
+
+    private PersonalDictionaryTrie(final boolean ignoresCase,
+            final TreeMap<String, String> entries) {
+        mIgnoresCase = ignoresCase;
+        mValues = new String[entries.size()];
+        final BuilderNode root = new BuilderNode((char)0);
+        int nodeCount = 1;
+        for (final String key : entries.keySet()) {
+            BuilderNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                final char c = key.charAt(i);
+                BuilderNode child = node.mChildren.get(c);
+                if (child == null) {
+                    child = new BuilderNode(c);
+                    node.mChildren.put(c, child);
+                    nodeCount++;
+                }
+                node = child;
+            }
+            node.mValueIndex = 0;
+        }
+
+        mNodeChars = new char[nodeCount];
+        mFirstChildIndices = new int[nodeCount + 1];
+        mValueIndices = new int[nodeCount];
+        final ArrayDeque<BuilderNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int nodeIndex = 0;
+        int nextChildIndex = 1;
+        int valueCount = 0;
+        while (!queue.isEmpty()) {
+            final BuilderNode node = queue.poll();
+            mNodeChars[nodeIndex] = node.mChar;
+            mFirstChildIndices[nodeIndex] = nextChildIndex;
+            nextChildIndex += node.mChildren.size();
+            if (node.mValueIndex == NOT_A_VALUE_INDEX) {
+                mValueIndices[nodeIndex] = NOT_A_VALUE_INDEX;
+            } else {
+                mValueIndices[nodeIndex] = valueCount++;
+            }
+            queue.addAll(node.mChildren.values());
+            nodeIndex++;
+        }
+        mFirstChildIndices[nodeCount] = nextChildIndex;
+
+        // The values are numbered in breadth-first order, which is not the order of the keys.
+        // Walk the keys again to fill them in.
+        for (final String key : entries.keySet()) {
+            mValues[mValueIndices[findNode(key, false /* ignoresCase */)]] = entries.get(key);
+        }
+    }
+
+    static char foldCase(final char c) {
+        // Going through the upper case first folds characters like the dotless i, whose lower
+        // case is not the lower case of their upper case.
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @Nonnull
+    static String foldCase(@Nonnull final String s) {
+        final char[] chars = new char[s.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = foldCase(s.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    // Returns the index of the node of the key, or -1 if there is none.
+    private int findNode(@Nonnull final CharSequence key, final boolean ignoresCase) {
+        int nodeIndex = 0;
+        for (int i = 0; i < key.length(); i++) {
+            final char c = ignoresCase ? foldCase(key.charAt(i)) : key.charAt(i);
+            // Binary search the children, which are sorted by their character.
+            int low = mFirstChildIndices[nodeIndex];
+            int high = mFirstChildIndices[nodeIndex + 1] - 1;
+            nodeIndex = -1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final char middleChar = mNodeChars[middle];
+                if (middleChar < c) {
+                    low = middle + 1;
+                } else if (middleChar > c) {
+                    high = middle - 1;
+                } else {
+                    nodeIndex = middle;
+                    break;
+                }
+            }
+            if (nodeIndex < 0) {
+                return -1;
+            }
+        }
+        return nodeIndex;
+    }
+
+    public int size() {
+        return mValues.length;
+    }
+
+    @Nullable
+    public String get(@Nonnull final CharSequence key) {
+        final int nodeIndex = findNode(key, mIgnoresCase);
+        if (nodeIndex < 0 || mValueIndices[nodeIndex] == NOT_A_VALUE_INDEX) {
+            return null;
+        }
+        return mValues[mValueIndices[nodeIndex]];
+    }
+
+    public boolean contains(@Nonnull final CharSequence key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Adds the values of all the keys that start with the prefix to the collection.
+     */
+    public void getValuesWithPrefix(@Nonnull final CharSequence prefix,
+            @Nonnull final Collection<String> outValues) {
+        final int prefixNodeIndex = findNode(prefix, mIgnoresCase);
+        if (prefixNodeIndex < 0) {
+            return;
+        }
+        // Every node is pushed at most once, so the stack can't hold more than all of them.
+        final int[] stack = new int[mNodeChars.length];
+        int stackSize = 0;
+        stack[stackSize++] = prefixNodeIndex;
+        while (stackSize > 0) {
+            final int nodeIndex = stack[--stackSize];
+            if (mValueIndices[nodeIndex] != NOT_A_VALUE_INDEX) {
+                outValues.add(mValues[mValueIndices[nodeIndex]]);
+            }
+            for (int i = mFirstChildIndices[nodeIndex]; i < mFirstChildIndices[nodeIndex + 1];
+                    i++) {
+                stack[stackSize++] = i;
+            }
+        }
+    }
+
+    /**
+     * Adds all the keys to the collection. The keys of a trie that ignores case are case folded.
+     */
+    public void getKeys(@Nonnull final Collection<String> outKeys) {
+        getKeys(0 /* nodeIndex */, new StringBuilder(), outKeys);
+    }
+
+    private void getKeys(final int nodeIndex, @Nonnull final StringBuilder key,
+            @Nonnull final Collection<String> outKeys) {
+        if (mValueIndices[nodeIndex] != NOT_A_VALUE_INDEX) {
+            outKeys.add(key.toString());
+        }
+        for (int i = mFirstChildIndices[nodeIndex]; i < mFirstChildIndices[nodeIndex + 1]; i++) {
+            key.append(mNodeChars[i]);
+            getKeys(i, key, outKeys);
+            key.setLength(key.length() - 1);
+        }
+    }
+}
@@ -28,6 +28,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * This class provides binary dictionary reading operations with locking. An instance of this class
  * can be used by multiple threads. Note that different session IDs must be used when multiple
  * threads get suggestions using this class.
+ *
+ * Instances opened on the same file share the underlying native dictionary; see
+ * {@link SharedBinaryDictionaries}.
  */
 public final class ReadOnlyBinaryDictionary extends Dictionary {
     /**
@@ -36,17 +39,25 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
      */
     private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
 
+    private final SharedBinaryDictionaries.Lease mLease;
     private final BinaryDictionary mBinaryDictionary;
+    private boolean mIsClosed = false;
 
     public ReadOnlyBinaryDictionary(final String filename, final long offset, final long length,
             final boolean useFullEditDistance, final Locale locale, final String dictType) {
         super(dictType, locale);
-        mBinaryDictionary = new BinaryDictionary(filename, offset, length, useFullEditDistance,
-                locale, dictType, false /* isUpdatable */);
+        mLease = SharedBinaryDictionaries.acquire(filename, offset, length, useFullEditDistance,
+                locale, dictType);
+        mBinaryDictionary = mLease.getBinaryDictionary();
     }
 
     public boolean isValidDictionary() {
-        return mBinaryDictionary.isValidDictionary();
+        mLock.readLock().lock();
+        try {
+            return !mIsClosed && mBinaryDictionary.isValidDictionary();
+        } finally {
+            mLock.readLock().unlock();
+        }
     }
 
     @Override
@@ -57,8 +68,12 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
             final float[] inOutWeightOfLangModelVsSpatialModel) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return null;
+                }
                 return mBinaryDictionary.getSuggestions(composedData, ngramContext,
-                        proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                        proximityInfoHandle, settingsValuesForSuggestion,
+                        mLease.getTraverseSessionId(sessionId),
                         weightForLocale, inOutWeightOfLangModelVsSpatialModel);
             } finally {
                 mLock.readLock().unlock();
@@ -71,6 +86,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public boolean isInDictionary(final String word) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return false;
+                }
                 return mBinaryDictionary.isInDictionary(word);
             } finally {
                 mLock.readLock().unlock();
@@ -83,6 +101,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public boolean shouldAutoCommit(final SuggestedWordInfo candidate) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return false;
+                }
                 return mBinaryDictionary.shouldAutoCommit(candidate);
             } finally {
                 mLock.readLock().unlock();
@@ -95,6 +116,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public int getFrequency(final String word) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return NOT_A_PROBABILITY;
+                }
                 return mBinaryDictionary.getFrequency(word);
             } finally {
                 mLock.readLock().unlock();
@@ -107,6 +131,9 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public int getMaxFrequencyOfExactMatches(final String word) {
         if (mLock.readLock().tryLock()) {
             try {
+                if (mIsClosed) {
+                    return NOT_A_PROBABILITY;
+                }
                 return mBinaryDictionary.getMaxFrequencyOfExactMatches(word);
             } finally {
                 mLock.readLock().unlock();
@@ -119,7 +146,11 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
     public void close() {
         mLock.writeLock().lock();
         try {
-            mBinaryDictionary.close();
+            if (mIsClosed) {
+                return;
+            }
+            mIsClosed = true;
+            SharedBinaryDictionaries.release(mLease);
         } finally {
             mLock.writeLock().unlock();
         }
@@ -40,6 +40,7 @@ import com.android.inputmethod.latin.inputlogic.PrivateCommandPerformer;
 import com.android.inputmethod.latin.settings.SpacingAndPunctuations;
 import com.android.inputmethod.latin.utils.CapsModeUtils;
 import com.android.inputmethod.latin.utils.DebugLogUtils;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 import com.android.inputmethod.latin.utils.NgramContextUtils;
 import com.android.inputmethod.latin.utils.ScriptUtils;
 import com.android.inputmethod.latin.utils.SpannableStringUtils;
@@ -435,8 +436,10 @@ public final class RichInputConnection implements PrivateCommandPerformer {
         if (!isConnected()) {
             return null;
         }
+        final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_INPUT_CONNECTION);
         final long startTime = SystemClock.uptimeMillis();
         final CharSequence result = mIC.getTextBeforeCursor(n, flags);
+        LatencyTracer.end(LatencyTracer.STAGE_INPUT_CONNECTION, traceStartTime);
         detectLaggyConnection(operation, timeout, startTime);
         return result;
     }
@@ -454,8 +457,10 @@ public final class RichInputConnection implements PrivateCommandPerformer {
         if (!isConnected()) {
             return null;
         }
+        final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_INPUT_CONNECTION);
         final long startTime = SystemClock.uptimeMillis();
         final CharSequence result = mIC.getTextAfterCursor(n, flags);
+        LatencyTracer.end(LatencyTracer.STAGE_INPUT_CONNECTION, traceStartTime);
         detectLaggyConnection(operation, timeout, startTime);
         return result;
     }
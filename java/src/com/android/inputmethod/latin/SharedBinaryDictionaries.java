@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.util.Log;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+
+import java.io.File;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Process-wide registry of the native read-only dictionaries.
+ *
+ * The keyboard and the spell checker run in the same process and both open the main dictionary
+ * of the locales in use. Dictionaries opened through this class are keyed by file address, so
+ * that all users of the same file share one native dictionary and one mapping of the file. A
+ * dictionary is closed when its last user releases it.
+ *
+ * Users of a shared dictionary may each use the same session IDs, so every user is given its own
+ * range of native session IDs; see {@link Lease#getTraverseSessionId(int)}.
+ */
+final class SharedBinaryDictionaries {
+    private static final String TAG = SharedBinaryDictionaries.class.getSimpleName();
+    private static final boolean DEBUG = false;
+
+    // Number of session IDs reserved for each user of a shared dictionary. This must be larger
+    // than any session ID used by the callers of ReadOnlyBinaryDictionary.
+    @UsedForTesting
+    static final int SESSION_ID_RANGE_SIZE = 1024;
+
+    private static final HashMap<String, Entry> sEntries = new HashMap<>();
+
+    private static final class Entry {
+        public final String mKey;
+        public final BinaryDictionary mBinaryDictionary;
+        // Slots of the current users; the slot index picks the range of session IDs.
+        public final BitSet mUserSlots = new BitSet();
+
+        public Entry(final String key, final BinaryDictionary binaryDictionary) {
+            mKey = key;
+            mBinaryDictionary = binaryDictionary;
+        }
+    }
+
+    /**
+     * A reference to a shared dictionary. It must be released exactly once with
+     * {@link SharedBinaryDictionaries#release(Lease)}.
+     */
+    public static final class Lease {
+        private final Entry mEntry;
+        private final int mUserSlot;
+
+        Lease(final Entry entry, final int userSlot) {
+            mEntry = entry;
+            mUserSlot = userSlot;
+        }
+
+        @Nonnull
+        public BinaryDictionary getBinaryDictionary() {
+            return mEntry.mBinaryDictionary;
+        }
+
+        /**
+         * Maps a session ID of the caller to the session ID to use with the shared dictionary, so
+         * that two users never share a traverse session.
+         */
+        public int getTraverseSessionId(final int sessionId) {
+            return mUserSlot * SESSION_ID_RANGE_SIZE + sessionId;
+        }
+    }
+
+    private SharedBinaryDictionaries() {
+        // This utility class is not publicly instantiable.
+    }
+
+    /**
+     * Returns a lease on the dictionary at the given file address, opening it if no one in this
+     * process is currently using it. A dictionary that fails to open is not shared: the returned
+     * lease then refers to an invalid dictionary that belongs to the caller alone.
+     */
+    @Nonnull
+    public static Lease acquire(final String filename, final long offset, final long length,
+            final boolean useFullEditDistance, final Locale locale, final String dictType) {
+        final String key = getKey(filename, offset, length, useFullEditDistance, locale,
+                dictType);
+        synchronized (sEntries) {
+            final Entry existingEntry = sEntries.get(key);
+            if (existingEntry != null) {
+                final int userSlot = existingEntry.mUserSlots.nextClearBit(0);
+                existingEntry.mUserSlots.set(userSlot);
+                if (DEBUG) {
+                    Log.d(TAG, "Sharing " + key + " with " + userSlot + " other user(s)");
+                }
+                return new Lease(existingEntry, userSlot);
+            }
+        }
+        // Opening maps the file, which may take a while: don't block other dictionaries on it.
+        final long startTime = System.currentTimeMillis();
+        final BinaryDictionary binaryDictionary = new BinaryDictionary(filename, offset, length,
+                useFullEditDistance, locale, dictType, false /* isUpdatable */);
+        if (DEBUG) {
+            Log.d(TAG, "Opened " + key + " in " + (System.currentTimeMillis() - startTime)
+                    + "ms");
+        }
+        final Entry newEntry = new Entry(key, binaryDictionary);
+        newEntry.mUserSlots.set(0);
+        if (!binaryDictionary.isValidDictionary()) {
+            return new Lease(newEntry, 0);
+        }
+        synchronized (sEntries) {
+            final Entry existingEntry = sEntries.get(key);
+            if (existingEntry == null) {
+                sEntries.put(key, newEntry);
+                return new Lease(newEntry, 0);
+            }
+            // Another thread opened the same file in the meantime: use its dictionary.
+            final int userSlot = existingEntry.mUserSlots.nextClearBit(0);
+            existingEntry.mUserSlots.set(userSlot);
+            binaryDictionary.close();
+            return new Lease(existingEntry, userSlot);
+        }
+    }
+
+    /**
+     * Releases a lease. The dictionary is closed if no one else uses it.
+     */
+    public static void release(@Nonnull final Lease lease) {
+        final Entry entry = lease.mEntry;
+        synchronized (sEntries) {
+            entry.mUserSlots.clear(lease.mUserSlot);
+            if (!entry.mUserSlots.isEmpty()) {
+                return;
+            }
+            if (sEntries.get(entry.mKey) == entry) {
+                sEntries.remove(entry.mKey);
+            }
+        }
+        entry.mBinaryDictionary.close();
+    }
+
+    @UsedForTesting
+    static int getUserCount(@Nullable final String filename, final long offset,
+            final long length, final boolean useFullEditDistance, final Locale locale,
+            final String dictType) {
+        synchronized (sEntries) {
+            final Entry entry = sEntries.get(getKey(filename, offset, length, useFullEditDistance,
+                    locale, dictType));
+            return entry == null ? 0 : entry.mUserSlots.cardinality();
+        }
+    }
+
+    // The modification time of the file is part of the key: when a new version of a word list is
+    // moved in place of an old one, the users of the old version keep their mapping of the old
+    // file while the new ones open the new file.
+    private static String getKey(final String filename, final long offset, final long length,
+            final boolean useFullEditDistance, final Locale locale, final String dictType) {
+        final long lastModified = filename == null ? 0 : new File(filename).lastModified();
+        return filename + ":" + offset + ":" + length + ":" + lastModified + ":"
+                + useFullEditDistance + ":" + locale + ":" + dictType;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Dictionaries that are shared by the dictionary facilitators of the process.
+ *
+ * LatinIME and AndroidSpellCheckerService run in the same process and use the same main, contacts
+ * and user dictionaries for a locale. Instead of each of them loading the main dictionary and
+ * building the contacts and user dictionaries, the facilitators that share dictionaries take
+ * references to the ones here. A dictionary is created by the first facilitator that needs it,
+ * and is closed when the last reference to it is released.
+ *
+ * This class is thread safe.
+ */
+final class SharedDictionaries {
+    private static final String[] SHAREABLE_DICTIONARY_TYPES = new String[] {
+            Dictionary.TYPE_MAIN,
+            Dictionary.TYPE_CONTACTS,
+            Dictionary.TYPE_USER};
+
+    /**
+     * Creates the dictionary for a key.
+     */
+    public interface Creator {
+        @Nullable
+        Dictionary create();
+    }
+
+    private static final class Entry {
+        @Nonnull public final String mKey;
+        public int mReferenceCount = 1;
+
+        public Entry(@Nonnull final String key) {
+            mKey = key;
+        }
+    }
+
+    // A dictionary being created for a key. The callers that want the dictionary for the key in
+    // the meantime wait for it instead of creating another instance on the same files.
+    private static final class Creation {
+        public final CountDownLatch mLatch = new CountDownLatch(1);
+        // Guarded by sLock.
+        public int mWaiterCount = 0;
+        // Set before mLatch is released.
+        public Dictionary mDictionary;
+    }
+
+    private static final Object sLock = new Object();
+    // The current dictionary for each key. Guarded by sLock.
+    private static final HashMap<String, Dictionary> sDictionaries = new HashMap<>();
+    // The entries of all the shared dictionaries, including the ones that have been replaced for
+    // their key but are still referenced. Guarded by sLock.
+    private static final IdentityHashMap<Dictionary, Entry> sEntries = new IdentityHashMap<>();
+    // The dictionaries that are being created, by key. Guarded by sLock.
+    private static final HashMap<String, Creation> sCreations = new HashMap<>();
+
+    private SharedDictionaries() {
+        // This utility class is not publicly instantiable.
+    }
+
+    public static boolean isShareable(final String dictType) {
+        for (final String shareableDictType : SHAREABLE_DICTIONARY_TYPES) {
+            if (shareableDictType.equals(dictType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nonnull
+    public static String getKey(@Nonnull final String dictType, @Nonnull final Locale locale) {
+        return dictType + ":" + locale;
+    }
+
+    /**
+     * Takes a reference to the dictionary for the key.
+     *
+     * @return the dictionary, or null if there is none for the key.
+     */
+    @Nullable
+    public static Dictionary acquire(@Nonnull final String key) {
+        synchronized (sLock) {
+            final Dictionary dictionary = sDictionaries.get(key);
+            if (dictionary == null) {
+                return null;
+            }
+            sEntries.get(dictionary).mReferenceCount++;
+            return dictionary;
+        }
+    }
+
+    /**
+     * Takes a reference to the dictionary for the key, creating it if there is none. A dictionary
+     * that is not initialized is replaced by a new one too, since it may be available now.
+     *
+     * The dictionary is created without holding the lock, as creating the main dictionary loads
+     * it. The callers that want the dictionary for the same key in the meantime wait for it and
+     * share it, so that two callers never open two instances on the same files. The callers of
+     * other keys don't wait.
+     *
+     * @param forceCreate whether to replace the dictionary for the key even if it is initialized.
+     * The dictionary that was there for the key, if any, stays open until its references are
+     * released.
+     * @return the dictionary, or null if the creator returned null.
+     */
+    @Nullable
+    public static Dictionary acquireOrCreate(@Nonnull final String key,
+            final boolean forceCreate, @Nonnull final Creator creator) {
+        final Creation creation;
+        final Creation pendingCreation;
+        synchronized (sLock) {
+            pendingCreation = sCreations.get(key);
+            if (pendingCreation != null) {
+                // The reference is taken for this caller when the dictionary is published.
+                pendingCreation.mWaiterCount++;
+                creation = null;
+            } else {
+                final Dictionary dictionary = sDictionaries.get(key);
+                if (dictionary != null && !forceCreate && dictionary.isInitialized()) {
+                    sEntries.get(dictionary).mReferenceCount++;
+                    return dictionary;
+                }
+                creation = new Creation();
+                sCreations.put(key, creation);
+            }
+        }
+        if (pendingCreation != null) {
+            return waitForCreation(pendingCreation);
+        }
+        Dictionary newDictionary = null;
+        try {
+            newDictionary = creator.create();
+        } finally {
+            synchronized (sLock) {
+                sCreations.remove(key);
+                if (newDictionary != null) {
+                    final Entry entry = new Entry(key);
+                    entry.mReferenceCount += creation.mWaiterCount;
+                    sDictionaries.put(key, newDictionary);
+                    sEntries.put(newDictionary, entry);
+                }
+                creation.mDictionary = newDictionary;
+            }
+            creation.mLatch.countDown();
+        }
+        return newDictionary;
+    }
+
+    @Nullable
+    private static Dictionary waitForCreation(@Nonnull final Creation creation) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                creation.mLatch.await();
+                break;
+            } catch (final InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return creation.mDictionary;
+    }
+
+    /**
+     * Releases a reference to a dictionary, and closes it if it was the last one. Dictionaries
+     * that are not shared are closed right away.
+     */
+    public static void release(@Nullable final Dictionary dictionary) {
+        if (dictionary == null) {
+            return;
+        }
+        synchronized (sLock) {
+            final Entry entry = sEntries.get(dictionary);
+            if (entry != null) {
+                entry.mReferenceCount--;
+                if (entry.mReferenceCount > 0) {
+                    return;
+                }
+                sEntries.remove(dictionary);
+                if (sDictionaries.get(entry.mKey) == dictionary) {
+                    sDictionaries.remove(entry.mKey);
+                }
+            }
+        }
+        dictionary.close();
+    }
+
+    @UsedForTesting
+    static int getReferenceCount(@Nonnull final Dictionary dictionary) {
+        synchronized (sLock) {
+            final Entry entry = sEntries.get(dictionary);
+            return (entry == null) ? 0 : entry.mReferenceCount;
+        }
+    }
+
+    public static String dump() {
+        final StringBuilder builder = new StringBuilder("Shared dictionaries:");
+        synchronized (sLock) {
+            for (final Entry entry : sEntries.values()) {
+                builder.append("\n    ");
+                builder.append(entry.mKey);
+                builder.append(": references: ");
+                builder.append(entry.mReferenceCount);
+            }
+        }
+        return builder.toString();
+    }
+}
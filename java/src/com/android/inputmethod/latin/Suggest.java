@@ -29,6 +29,7 @@ import com.android.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
 import com.android.inputmethod.latin.utils.AutoCorrectionUtils;
 import com.android.inputmethod.latin.utils.BinaryDictionaryUtils;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 import com.android.inputmethod.latin.utils.SuggestionResults;
 
 import java.util.ArrayList;
@@ -100,6 +101,7 @@ public final class Suggest {
             final SettingsValuesForSuggestion settingsValuesForSuggestion,
             final boolean isCorrectionEnabled, final int inputStyle, final int sequenceNumber,
             final OnGetSuggestedWordsCallback callback) {
+        final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_SUGGEST);
         if (wordComposer.isBatchMode()) {
             getSuggestedWordsForBatchInput(wordComposer, ngramContext, keyboard,
                     settingsValuesForSuggestion, inputStyle, sequenceNumber, callback);
@@ -108,6 +110,7 @@ public final class Suggest {
                     settingsValuesForSuggestion, inputStyle, isCorrectionEnabled,
                     sequenceNumber, callback);
         }
+        LatencyTracer.end(LatencyTracer.STAGE_SUGGEST, traceStartTime);
     }
 
     private static ArrayList<SuggestedWordInfo> getTransformedSuggestedWordInfoList(
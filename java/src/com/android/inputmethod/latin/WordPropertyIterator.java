@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.makedict.NgramProperty;
+import com.android.inputmethod.latin.makedict.ProbabilityInfo;
+import com.android.inputmethod.latin.makedict.WeightedString;
+import com.android.inputmethod.latin.makedict.WordProperty;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates the properties of all the words in a {@link BinaryDictionary}.
+ *
+ * The words are exported by native code in chunks of thousands of words packed into an int array,
+ * instead of one JNI call and many small arrays per word. The format of a packed word property is
+ * described in JniDataUtils::packWordProperty() in native/jni/src/utils/jni_data_utils.cpp.
+ *
+ * Like {@link BinaryDictionary#getNextWordProperty(int)}, this relies on the iteration state of
+ * the native dictionary. The dictionary must not be modified or iterated by someone else until
+ * this iterator is done.
+ */
+public final class WordPropertyIterator implements Iterator<WordProperty> {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    // Flags of a packed word property.
+    // Must be equal to PACKED_WORD_PROPERTY_FLAG_* in native/jni/src/utils/jni_data_utils.cpp
+    private static final int FLAG_IS_NOT_A_WORD = 0x01;
+    private static final int FLAG_IS_POSSIBLY_OFFENSIVE = 0x02;
+    private static final int FLAG_HAS_NGRAMS = 0x04;
+    private static final int FLAG_HAS_SHORTCUTS = 0x08;
+    private static final int FLAG_IS_BEGINNING_OF_SENTENCE = 0x10;
+
+    private final BinaryDictionary mDictionary;
+    private final int[] mBuffer = new int[DEFAULT_BUFFER_SIZE];
+    private final int[] mNextTokenAndSize = new int[2];
+    // Either mBuffer or a larger array allocated by native code for a chunk that did not fit.
+    private int[] mPackedWordProperties = mBuffer;
+    private int mPackedSize = 0;
+    private int mPosition = 0;
+    private int mNextToken = 0;
+    private boolean mHasMoreChunks = true;
+
+    WordPropertyIterator(final BinaryDictionary dictionary) {
+        mDictionary = dictionary;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (mPosition < mPackedSize) {
+            return true;
+        }
+        if (!mHasMoreChunks) {
+            return false;
+        }
+        mPackedWordProperties = mDictionary.getNextWordProperties(mNextToken, mBuffer,
+                mNextTokenAndSize);
+        mNextToken = mNextTokenAndSize[0];
+        mPackedSize = mNextTokenAndSize[1];
+        mPosition = 0;
+        mHasMoreChunks = (mNextToken != 0);
+        return mPackedSize > 0;
+    }
+
+    @Override
+    public WordProperty next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final String word = readString();
+        final int flags = readInt();
+        final ProbabilityInfo probabilityInfo = readProbabilityInfo();
+
+        final int ngramCount = readInt();
+        final ArrayList<NgramProperty> ngrams = (ngramCount > 0) ? new ArrayList<NgramProperty>()
+                : null;
+        for (int i = 0; i < ngramCount; i++) {
+            final WordInfo[] prevWordsInfo = new WordInfo[readInt()];
+            for (int j = 0; j < prevWordsInfo.length; j++) {
+                final boolean isBeginningOfSentence = (readInt() != 0);
+                final String prevWord = readString();
+                prevWordsInfo[j] = isBeginningOfSentence
+                        ? WordInfo.BEGINNING_OF_SENTENCE_WORD_INFO : new WordInfo(prevWord);
+            }
+            final String targetWord = readString();
+            ngrams.add(new NgramProperty(new WeightedString(targetWord, readProbabilityInfo()),
+                    new NgramContext(prevWordsInfo)));
+        }
+
+        final int shortcutCount = readInt();
+        final ArrayList<WeightedString> shortcutTargets = new ArrayList<>(shortcutCount);
+        for (int i = 0; i < shortcutCount; i++) {
+            final String shortcutTarget = readString();
+            shortcutTargets.add(new WeightedString(shortcutTarget, readInt()));
+        }
+        return new WordProperty(word, probabilityInfo, shortcutTargets, ngrams,
+                (flags & FLAG_IS_NOT_A_WORD) != 0, (flags & FLAG_IS_POSSIBLY_OFFENSIVE) != 0,
+                (flags & FLAG_HAS_NGRAMS) != 0, (flags & FLAG_HAS_SHORTCUTS) != 0,
+                (flags & FLAG_IS_BEGINNING_OF_SENTENCE) != 0);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private int readInt() {
+        return mPackedWordProperties[mPosition++];
+    }
+
+    private String readString() {
+        final int codePointCount = readInt();
+        final String string = new String(mPackedWordProperties, mPosition, codePointCount);
+        mPosition += codePointCount;
+        return string;
+    }
+
+    private ProbabilityInfo readProbabilityInfo() {
+        final int probability = readInt();
+        final int timestamp = readInt();
+        final int level = readInt();
+        final int count = readInt();
+        return new ProbabilityInfo(probability, timestamp, level, count);
+    }
+}
@@ -25,6 +25,7 @@ import com.android.inputmethod.latin.LatinIME;
 import com.android.inputmethod.latin.SuggestedWords;
 import com.android.inputmethod.latin.Suggest.OnGetSuggestedWordsCallback;
 import com.android.inputmethod.latin.common.InputPointers;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 
 /**
  * A helper to manage deferred tasks for the input logic.
@@ -36,8 +37,16 @@ class InputLogicHandler implements Handler.Callback {
     final InputLogic mInputLogic;
     private final Object mLock = new Object();
     private boolean mInBatchInput; // synchronized using {@link #mLock}.
+    // The number of pointers of the last batch input update that suggestions were requested for.
+    private int mLastUpdatedBatchInputSize; // synchronized using {@link #mLock}.
 
-    private static final int MSG_GET_SUGGESTED_WORDS = 1;
+    static final int MSG_GET_SUGGESTED_WORDS = 1;
+    // Suggestions for a batch input are always computed from the latest pointers in the word
+    // composer, so a pending update request is superseded by any later batch input request.
+    static final int MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT = 2;
+    // Tail requests commit the word of their gesture, so they are never superseded, even by the
+    // requests of the next gesture.
+    static final int MSG_GET_SUGGESTED_WORDS_FOR_TAIL_BATCH_INPUT = 3;
 
     // A handler that never does anything. This is used for cases where events come before anything
     // is initialized, though probably only the monkey can actually do this.
@@ -95,8 +104,13 @@ class InputLogicHandler implements Handler.Callback {
     public boolean handleMessage(final Message msg) {
         switch (msg.what) {
             case MSG_GET_SUGGESTED_WORDS:
+            case MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT:
+            case MSG_GET_SUGGESTED_WORDS_FOR_TAIL_BATCH_INPUT:
+                final long traceStartTime =
+                        LatencyTracer.start(LatencyTracer.STAGE_GET_SUGGESTED_WORDS);
                 mLatinIME.getSuggestedWords(msg.arg1 /* inputStyle */,
                         msg.arg2 /* sequenceNumber */, (OnGetSuggestedWordsCallback) msg.obj);
+                LatencyTracer.end(LatencyTracer.STAGE_GET_SUGGESTED_WORDS, traceStartTime);
                 break;
         }
         return true;
@@ -106,6 +120,7 @@ class InputLogicHandler implements Handler.Callback {
     public void onStartBatchInput() {
         synchronized (mLock) {
             mInBatchInput = true;
+            mLastUpdatedBatchInputSize = 0;
         }
     }
 
@@ -132,6 +147,13 @@ class InputLogicHandler implements Handler.Callback {
                 // Batch input has ended or canceled while the message was being delivered.
                 return;
             }
+            final int batchInputSize = batchPointers.getPointerSize();
+            if (!isTailBatchInput && batchInputSize == mLastUpdatedBatchInputSize) {
+                // The stroke hasn't grown since the last update: the suggestions would be the
+                // same as the ones already requested.
+                return;
+            }
+            mLastUpdatedBatchInputSize = batchInputSize;
             mInputLogic.mWordComposer.setBatchInputPointers(batchPointers);
             final OnGetSuggestedWordsCallback callback = new OnGetSuggestedWordsCallback() {
                 @Override
@@ -139,8 +161,21 @@ class InputLogicHandler implements Handler.Callback {
                     showGestureSuggestionsWithPreviewVisuals(suggestedWords, isTailBatchInput);
                 }
             };
-            getSuggestedWords(isTailBatchInput ? SuggestedWords.INPUT_STYLE_TAIL_BATCH
-                    : SuggestedWords.INPUT_STYLE_UPDATE_BATCH, sequenceNumber, callback);
+            // If the search is slower than the stroke updates, the update requests that are
+            // still pending would all compute suggestions for the pointers set above. Only the
+            // latest request is worth running; the search session then resumes from where the
+            // last completed update left off. A pending tail request is kept, since the previous
+            // gesture has ended and its word still has to be committed.
+            mNonUIThreadHandler.removeMessages(MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT);
+            if (isTailBatchInput) {
+                mNonUIThreadHandler.obtainMessage(MSG_GET_SUGGESTED_WORDS_FOR_TAIL_BATCH_INPUT,
+                        SuggestedWords.INPUT_STYLE_TAIL_BATCH, sequenceNumber, callback)
+                        .sendToTarget();
+            } else {
+                mNonUIThreadHandler.obtainMessage(MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT,
+                        SuggestedWords.INPUT_STYLE_UPDATE_BATCH, sequenceNumber, callback)
+                        .sendToTarget();
+            }
         }
     }
 
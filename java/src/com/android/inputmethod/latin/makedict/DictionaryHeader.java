@@ -56,6 +56,9 @@ public final class DictionaryHeader {
     public static final String MAX_TRIGRAM_COUNT_KEY = "MAX_TRIGRAM_ENTRY_COUNT";
     public static final String ATTRIBUTE_VALUE_TRUE = "1";
     public static final String CODE_POINT_TABLE_KEY = "codePointTable";
+    // The number of the last update log entry the dictionary has been written with. Only known
+    // to ExpandableBinaryDictionary; the native code just keeps it.
+    public static final String UPDATE_LOG_CHECKPOINT_KEY = "UPDATE_LOG_CHECKPOINT";
 
     public DictionaryHeader(final int headerSize,
             @Nonnull final DictionaryOptions dictionaryOptions,
@@ -131,6 +131,23 @@ public final class WordProperty implements Comparable<WordProperty> {
         }
     }
 
+    // Construct word property from the word properties exported in bulk by native code.
+    public WordProperty(final String word, final ProbabilityInfo probabilityInfo,
+            final ArrayList<WeightedString> shortcutTargets,
+            @Nullable final ArrayList<NgramProperty> ngrams, final boolean isNotAWord,
+            final boolean isPossiblyOffensive, final boolean hasNgrams,
+            final boolean hasShortcuts, final boolean isBeginningOfSentence) {
+        mWord = word;
+        mProbabilityInfo = probabilityInfo;
+        mShortcutTargets = shortcutTargets;
+        mNgrams = ngrams;
+        mIsBeginningOfSentence = isBeginningOfSentence;
+        mIsNotAWord = isNotAWord;
+        mIsPossiblyOffensive = isPossiblyOffensive;
+        mHasShortcuts = hasShortcuts;
+        mHasNgrams = hasNgrams;
+    }
+
     // TODO: Remove
     @UsedForTesting
     public ArrayList<WeightedString> getBigrams() {
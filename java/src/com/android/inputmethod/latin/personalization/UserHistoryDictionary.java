@@ -107,10 +107,11 @@ public class UserHistoryDictionary extends ExpandableBinaryDictionary {
     }
 
     @Override
-    public void close() {
-        // Flush pending writes.
-        asyncFlushBinaryDictionary();
-        super.close();
+    protected boolean usesUpdateLog() {
+        // Learned and unlearned words are logged as they come in, so that they are kept even when the process
+        // is killed before the whole dictionary is written out. Closing the dictionary writes the
+        // log out, so it does not need to write the whole dictionary either.
+        return true;
     }
 
     @Override
@@ -56,6 +56,7 @@ public class LocalSettingsConstants {
         DebugSettings.PREF_KEY_PREVIEW_SHOW_UP_START_Y_SCALE,
         DebugSettings.PREF_RESIZE_KEYBOARD,
         DebugSettings.PREF_SHOULD_SHOW_LXX_SUGGESTION_UI,
-        DebugSettings.PREF_SLIDING_KEY_INPUT_PREVIEW
+        DebugSettings.PREF_SLIDING_KEY_INPUT_PREVIEW,
+        DebugSettings.PREF_TRACE_EVERY_INPUT_EVENT
     };
 }
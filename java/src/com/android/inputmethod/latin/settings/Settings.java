@@ -32,6 +32,7 @@ import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.common.StringUtils;
 import com.android.inputmethod.latin.utils.AdditionalSubtypeUtils;
 import com.android.inputmethod.latin.utils.JniUtils;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 import com.android.inputmethod.latin.utils.ResourceUtils;
 import com.android.inputmethod.latin.utils.RunInLocale;
 import com.android.inputmethod.latin.utils.StatsUtils;
@@ -184,6 +185,8 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
                 }
             };
             mSettingsValues = job.runInLocale(mRes, locale);
+            LatencyTracer.setSamplingInterval(mSettingsValues.mTracesEveryInputEvent
+                    ? 1 : LatencyTracer.DEFAULT_SAMPLING_INTERVAL);
         } finally {
             mSettingsValuesLock.unlock();
         }
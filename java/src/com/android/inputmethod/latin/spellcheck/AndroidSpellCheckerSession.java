@@ -28,14 +28,22 @@ import android.view.textservice.TextInfo;
 
 import com.android.inputmethod.compat.TextInfoCompatUtils;
 import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
 import com.android.inputmethod.latin.utils.SpannableStringUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class AndroidSpellCheckerSession extends AndroidWordLevelSpellCheckerSession {
     private static final String TAG = AndroidSpellCheckerSession.class.getSimpleName();
     private static final boolean DBG = false;
+    // Below this number of lookups, a batch is checked on the calling thread alone.
+    private static final int MIN_LOOKUPS_FOR_PARALLEL_BATCH = 8;
+    // Separates the previous word from the word in the keys of the lookups of a batch.
+    private static final String LOOKUP_KEY_SEPARATOR = "\u0000";
     private final Resources mResources;
     private SentenceLevelAdapter mSentenceLevelAdapter;
 
@@ -146,6 +154,7 @@ public final class AndroidSpellCheckerSession extends AndroidWordLevelSpellCheck
      * using private variables.
      * The default implementation splits the input text to words and returns
      * {@link SentenceSuggestionsInfo} which contains suggestions for each word.
+     * Unlike the framework, the words of all the texts are looked up together as one batch.
      * This function will run on the incoming IPC thread.
      * So, this is not called on the main thread,
      * but will be called in series on another thread.
@@ -173,25 +182,139 @@ public final class AndroidSpellCheckerSession extends AndroidWordLevelSpellCheck
         if (sentenceLevelAdapter == null) {
             return SentenceLevelAdapter.getEmptySentenceSuggestionsInfo();
         }
+        final long startTime = DBG ? System.currentTimeMillis() : 0;
         final int infosSize = textInfos.length;
+        final SentenceLevelAdapter.SentenceTextInfoParams[] textInfoParams =
+                new SentenceLevelAdapter.SentenceTextInfoParams[infosSize];
+        // The words of the whole batch are looked up once each. A word gets the same suggestions
+        // wherever it appears after the same previous word.
+        final ArrayList<TextInfo> lookupTextInfos = new ArrayList<>();
+        final ArrayList<NgramContext> lookupNgramContexts = new ArrayList<>();
+        final HashMap<String, Integer> lookupIndices = new HashMap<>();
+        final int[][] lookupIndicesOfWords = new int[infosSize][];
+        int wordCount = 0;
+        for (int i = 0; i < infosSize; ++i) {
+            textInfoParams[i] = sentenceLevelAdapter.getSplitWords(textInfos[i]);
+            final ArrayList<SentenceLevelAdapter.SentenceWordItem> items =
+                    textInfoParams[i].mItems;
+            final int itemsSize = items.size();
+            final int[] lookupIndicesOfSentence = new int[itemsSize];
+            CharSequence prevWord = null;
+            for (int j = 0; j < itemsSize; ++j) {
+                final TextInfo textInfo = items.get(j).mTextInfo;
+                final CharSequence word = TextInfoCompatUtils.getCharSequenceOrString(textInfo);
+                final String key = (prevWord == null ? "" : prevWord.toString())
+                        + LOOKUP_KEY_SEPARATOR + word;
+                Integer lookupIndex = lookupIndices.get(key);
+                if (lookupIndex == null) {
+                    lookupIndex = lookupTextInfos.size();
+                    lookupIndices.put(key, lookupIndex);
+                    lookupTextInfos.add(textInfo);
+                    lookupNgramContexts.add(
+                            new NgramContext(new NgramContext.WordInfo(prevWord)));
+                }
+                lookupIndicesOfSentence[j] = lookupIndex;
+                // Note that an empty string would be used to indicate the initial word in the
+                // future.
+                prevWord = TextUtils.isEmpty(word) ? null : word;
+            }
+            lookupIndicesOfWords[i] = lookupIndicesOfSentence;
+            wordCount += itemsSize;
+        }
+        final SuggestionsInfo[] lookupResults = getSuggestionsInBatch(lookupTextInfos,
+                lookupNgramContexts, suggestionsLimit);
+        final boolean[] isLookupResultUsed = new boolean[lookupResults.length];
         final SentenceSuggestionsInfo[] retval = new SentenceSuggestionsInfo[infosSize];
         for (int i = 0; i < infosSize; ++i) {
-            final SentenceLevelAdapter.SentenceTextInfoParams textInfoParams =
-                    sentenceLevelAdapter.getSplitWords(textInfos[i]);
-            final ArrayList<SentenceLevelAdapter.SentenceWordItem> mItems =
-                    textInfoParams.mItems;
-            final int itemsSize = mItems.size();
-            final TextInfo[] splitTextInfos = new TextInfo[itemsSize];
+            final ArrayList<SentenceLevelAdapter.SentenceWordItem> items =
+                    textInfoParams[i].mItems;
+            final int itemsSize = items.size();
+            final SuggestionsInfo[] results = new SuggestionsInfo[itemsSize];
             for (int j = 0; j < itemsSize; ++j) {
-                splitTextInfos[j] = mItems.get(j).mTextInfo;
+                final int lookupIndex = lookupIndicesOfWords[i][j];
+                final SuggestionsInfo lookupResult = lookupResults[lookupIndex];
+                // Each word needs its own instance, since its cookie and sequence are set on it.
+                results[j] = isLookupResultUsed[lookupIndex] ? copyOf(lookupResult)
+                        : lookupResult;
+                isLookupResultUsed[lookupIndex] = true;
+                final TextInfo textInfo = items.get(j).mTextInfo;
+                results[j].setCookieAndSequence(textInfo.getCookie(), textInfo.getSequence());
             }
-            retval[i] = SentenceLevelAdapter.reconstructSuggestions(
-                    textInfoParams, onGetSuggestionsMultiple(
-                            splitTextInfos, suggestionsLimit, true));
+            retval[i] = SentenceLevelAdapter.reconstructSuggestions(textInfoParams[i], results);
+        }
+        if (DBG) {
+            final long elapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+            Log.d(TAG, "Checked " + wordCount + " words with " + lookupTextInfos.size()
+                    + " lookups in " + elapsedTime + "ms: "
+                    + (wordCount * 1000L / elapsedTime) + " words/s");
         }
         return retval;
     }
 
+    private static SuggestionsInfo copyOf(final SuggestionsInfo suggestionsInfo) {
+        final String[] suggestions = new String[suggestionsInfo.getSuggestionsCount()];
+        for (int i = 0; i < suggestions.length; ++i) {
+            suggestions[i] = suggestionsInfo.getSuggestionAt(i);
+        }
+        return new SuggestionsInfo(suggestionsInfo.getSuggestionsAttributes(), suggestions);
+    }
+
+    /**
+     * Looks up a batch of words. The calling thread and the spell checking executor take the
+     * next word to look up from a shared index until none are left, so that a thread that gets
+     * quick lookups of valid words does not wait for another one stuck on a long suggestion
+     * search. Each lookup takes one of the sessions of the native dictionaries from the pool of
+     * the service, so there is no point in more threads than that pool has sessions.
+     */
+    private SuggestionsInfo[] getSuggestionsInBatch(final ArrayList<TextInfo> textInfos,
+            final ArrayList<NgramContext> ngramContexts, final int suggestionsLimit) {
+        final int lookupCount = textInfos.size();
+        final SuggestionsInfo[] results = new SuggestionsInfo[lookupCount];
+        final AtomicInteger nextLookupIndex = new AtomicInteger();
+        final CountDownLatch lookupsDone = new CountDownLatch(lookupCount);
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                for (int i = nextLookupIndex.getAndIncrement(); i < lookupCount;
+                        i = nextLookupIndex.getAndIncrement()) {
+                    try {
+                        results[i] = onGetSuggestionsInternal(textInfos.get(i),
+                                ngramContexts.get(i), suggestionsLimit);
+                    } finally {
+                        lookupsDone.countDown();
+                    }
+                }
+            }
+        };
+        if (lookupCount >= MIN_LOOKUPS_FOR_PARALLEL_BATCH) {
+            // A helper that starts after the calling thread has taken all the lookups just exits.
+            for (int i = 1; i < AndroidSpellCheckerService.MAX_NUM_OF_THREADS_READ_DICTIONARY;
+                    ++i) {
+                ExecutorUtils.getBackgroundExecutor(ExecutorUtils.SPELLING).execute(worker);
+            }
+        }
+        final long ident = Binder.clearCallingIdentity();
+        try {
+            worker.run();
+            try {
+                // Only waits for the lookups that helpers are still running.
+                lookupsDone.await();
+            } catch (final InterruptedException e) {
+                Log.w(TAG, "Interrupted while waiting for the lookups of a batch", e);
+                Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < lookupCount; ++i) {
+                if (results[i] == null) {
+                    results[i] = onGetSuggestionsInternal(textInfos.get(i), ngramContexts.get(i),
+                            suggestionsLimit);
+                }
+            }
+        } finally {
+            Binder.restoreCallingIdentity(ident);
+        }
+        return results;
+    }
+
     @Override
     public SuggestionsInfo[] onGetSuggestionsMultiple(TextInfo[] textInfos,
             int suggestionsLimit, boolean sequentialWords) {
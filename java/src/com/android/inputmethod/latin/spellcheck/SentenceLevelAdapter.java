@@ -177,10 +177,17 @@ public class SentenceLevelAdapter {
         final int[] offsets = new int[querySize];
         final int[] lengths = new int[querySize];
         final SuggestionsInfo[] reconstructedSuggestions = new SuggestionsInfo[querySize];
+        // Results usually come in the order of the words: only search when they don't.
+        final boolean resultsAreInOrder = (results.length == querySize);
         for (int i = 0; i < querySize; ++i) {
             final SentenceWordItem item = originalTextInfoParams.mItems.get(i);
             SuggestionsInfo result = null;
-            for (int j = 0; j < results.length; ++j) {
+            if (resultsAreInOrder && results[i] != null
+                    && results[i].getSequence() == item.mTextInfo.getSequence()) {
+                result = results[i];
+                result.setCookieAndSequence(originalCookie, originalSequence);
+            }
+            for (int j = 0; result == null && j < results.length; ++j) {
                 final SuggestionsInfo cur = results[j];
                 if (cur != null && cur.getSequence() == item.mTextInfo.getSequence()) {
                     result = cur;
@@ -52,6 +52,7 @@ import com.android.inputmethod.latin.settings.Settings;
 import com.android.inputmethod.latin.settings.SettingsValues;
 import com.android.inputmethod.latin.suggestions.MoreSuggestionsView.MoreSuggestionsListener;
 import com.android.inputmethod.latin.utils.ImportantNoticeUtils;
+import com.android.inputmethod.latin.utils.LatencyTracer;
 
 import java.util.ArrayList;
 
@@ -197,12 +198,14 @@ public final class SuggestionStripView extends RelativeLayout implements OnClick
     }
 
     public void setSuggestions(final SuggestedWords suggestedWords, final boolean isRtlLanguage) {
+        final long traceStartTime = LatencyTracer.start(LatencyTracer.STAGE_SUGGESTION_STRIP);
         clear();
         mStripVisibilityGroup.setLayoutDirection(isRtlLanguage);
         mSuggestedWords = suggestedWords;
         mStartIndexOfMoreSuggestions = mLayoutHelper.layoutAndReturnStartIndexOfMoreSuggestions(
                 getContext(), mSuggestedWords, mSuggestionsStrip, this);
         mStripVisibilityGroup.showSuggestionsStrip();
+        LatencyTracer.end(LatencyTracer.STAGE_SUGGESTION_STRIP, traceStartTime);
     }
 
     public void setMoreSuggestionsHeight(final int remainingHeight) {
@@ -35,14 +35,31 @@ public class ExecutorUtils {
 
     public static final String KEYBOARD = "Keyboard";
     public static final String SPELLING = "Spelling";
+    public static final String SUGGESTION = "Suggestion";
+    public static final String KEYBOARD_LAYOUT = "KeyboardLayout";
+
+    // One worker per dictionary type that can be queried for suggestions at the same time.
+    private static final int SUGGESTION_EXECUTOR_POOL_SIZE = 4;
+    // The keyboard that is shown first is built on the UI thread, so a couple of workers are
+    // enough to build the other keyboards of a layout set before the user switches to them.
+    private static final int KEYBOARD_LAYOUT_EXECUTOR_POOL_SIZE = 2;
 
     private static ScheduledExecutorService sKeyboardExecutorService = newExecutorService(KEYBOARD);
     private static ScheduledExecutorService sSpellingExecutorService = newExecutorService(SPELLING);
+    private static ScheduledExecutorService sSuggestionExecutorService =
+            newPooledExecutorService(SUGGESTION, SUGGESTION_EXECUTOR_POOL_SIZE);
+    private static ScheduledExecutorService sKeyboardLayoutExecutorService =
+            newPooledExecutorService(KEYBOARD_LAYOUT, KEYBOARD_LAYOUT_EXECUTOR_POOL_SIZE);
 
     private static ScheduledExecutorService newExecutorService(final String name) {
         return Executors.newSingleThreadScheduledExecutor(new ExecutorFactory(name));
     }
 
+    private static ScheduledExecutorService newPooledExecutorService(final String name,
+            final int poolSize) {
+        return Executors.newScheduledThreadPool(poolSize, new ExecutorFactory(name));
+    }
+
     private static class ExecutorFactory implements ThreadFactory {
         private final String mName;
 
@@ -89,6 +106,10 @@ public class ExecutorUtils {
                 return sKeyboardExecutorService;
             case SPELLING:
                 return sSpellingExecutorService;
+            case SUGGESTION:
+                return sSuggestionExecutorService;
+            case KEYBOARD_LAYOUT:
+                return sKeyboardLayoutExecutorService;
             default:
                 throw new IllegalArgumentException("Invalid executor: " + name);
         }
@@ -113,6 +134,14 @@ public class ExecutorUtils {
             case SPELLING:
                 sSpellingExecutorService = newExecutorService(SPELLING);
                 break;
+            case SUGGESTION:
+                sSuggestionExecutorService =
+                        newPooledExecutorService(SUGGESTION, SUGGESTION_EXECUTOR_POOL_SIZE);
+                break;
+            case KEYBOARD_LAYOUT:
+                sKeyboardLayoutExecutorService = newPooledExecutorService(KEYBOARD_LAYOUT,
+                        KEYBOARD_LAYOUT_EXECUTOR_POOL_SIZE);
+                break;
             default:
                 throw new IllegalArgumentException("Invalid executor: " + name);
         }
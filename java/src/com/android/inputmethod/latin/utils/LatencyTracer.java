@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.utils;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records how long each stage of the pipeline from a touch event to the suggestion strip takes.
+ *
+ * Usage:
+ * <pre>
+ * final long startTime = LatencyTracer.start(LatencyTracer.STAGE_SUGGEST);
+ * ...
+ * LatencyTracer.end(LatencyTracer.STAGE_SUGGEST, startTime);
+ * </pre>
+ *
+ * Only one in {@link #getSamplingInterval()} calls of each stage is measured, and measurements
+ * go into a fixed size ring buffer, so the tracer neither allocates nor locks while typing and can
+ * be left on. Stages may nest, e.g. {@link #STAGE_CODE_INPUT} runs inside
+ * {@link #STAGE_TOUCH_EVENT}, so their durations must not be added up.
+ *
+ * The sampling counters are not synchronized. Losing an increment now and then only shifts which
+ * calls are sampled.
+ */
+public final class LatencyTracer {
+    // Stages of the pipeline. Must be contiguous and start at 0.
+    public static final int STAGE_TOUCH_EVENT = 0;
+    public static final int STAGE_CODE_INPUT = 1;
+    public static final int STAGE_INPUT_CONNECTION = 2;
+    public static final int STAGE_GET_SUGGESTED_WORDS = 3;
+    public static final int STAGE_SUGGEST = 4;
+    public static final int STAGE_DICTIONARY_QUERY = 5;
+    public static final int STAGE_SUGGESTION_STRIP = 6;
+    public static final int STAGE_KEYBOARD_SWITCH = 7;
+    private static final String[] STAGE_NAMES = {
+        "touch event",
+        "code input",
+        "input connection",
+        "get suggested words",
+        "suggest",
+        "dictionary query",
+        "suggestion strip",
+        "keyboard switch"
+    };
+    private static final int STAGE_COUNT = STAGE_NAMES.length;
+
+    public static final int DEFAULT_SAMPLING_INTERVAL = 16;
+    public static final long NOT_SAMPLED = 0;
+
+    // A record packs the duration in nanoseconds above the stage + 1, so that 0 means an empty
+    // slot.
+    private static final int STAGE_BITS = 4;
+    private static final long STAGE_MASK = (1 << STAGE_BITS) - 1;
+    // Must be a power of 2.
+    private static final int RECORD_COUNT = 4096;
+
+    private static final AtomicLongArray sRecords = new AtomicLongArray(RECORD_COUNT);
+    private static final AtomicInteger sNextRecordIndex = new AtomicInteger(0);
+    private static final int[] sCallCounts = new int[STAGE_COUNT];
+    private static volatile int sSamplingInterval = DEFAULT_SAMPLING_INTERVAL;
+
+    private LatencyTracer() {
+        // This utility class is not publicly instantiable.
+    }
+
+    /**
+     * Sets how many calls of a stage are made for each one that is measured. 1 measures every
+     * call and 0 turns the tracer off.
+     */
+    public static void setSamplingInterval(final int samplingInterval) {
+        sSamplingInterval = Math.max(samplingInterval, 0);
+    }
+
+    public static int getSamplingInterval() {
+        return sSamplingInterval;
+    }
+
+    /**
+     * Starts measuring a call of a stage.
+     *
+     * @return the start time to pass to {@link #end(int, long)}, or {@link #NOT_SAMPLED} if this
+     * call is not measured.
+     */
+    public static long start(final int stage) {
+        final int samplingInterval = sSamplingInterval;
+        if (samplingInterval <= 0) {
+            return NOT_SAMPLED;
+        }
+        final int callCount = sCallCounts[stage]++;
+        if (callCount % samplingInterval != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    public static void end(final int stage, final long startTime) {
+        if (startTime == NOT_SAMPLED) {
+            return;
+        }
+        record(stage, System.nanoTime() - startTime);
+    }
+
+    @UsedForTesting
+    static void record(final int stage, final long durationInNanos) {
+        final int index = sNextRecordIndex.getAndIncrement() & (RECORD_COUNT - 1);
+        sRecords.set(index, (Math.max(durationInNanos, 0) << STAGE_BITS) | (stage + 1));
+    }
+
+    @UsedForTesting
+    static void reset() {
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            sRecords.set(i, 0);
+        }
+        sNextRecordIndex.set(0);
+        Arrays.fill(sCallCounts, 0);
+    }
+
+    // Returns the sorted durations recorded for each stage.
+    private static long[][] getSortedDurationsInNanos() {
+        final long[] records = new long[RECORD_COUNT];
+        final int[] durationCounts = new int[STAGE_COUNT];
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records[i] = sRecords.get(i);
+            if (records[i] != 0) {
+                durationCounts[(int)(records[i] & STAGE_MASK) - 1]++;
+            }
+        }
+        final long[][] durations = new long[STAGE_COUNT][];
+        for (int stage = 0; stage < STAGE_COUNT; stage++) {
+            durations[stage] = new long[durationCounts[stage]];
+        }
+        Arrays.fill(durationCounts, 0);
+        for (final long record : records) {
+            if (record == 0) {
+                continue;
+            }
+            final int stage = (int)(record & STAGE_MASK) - 1;
+            durations[stage][durationCounts[stage]++] = record >>> STAGE_BITS;
+        }
+        for (final long[] stageDurations : durations) {
+            Arrays.sort(stageDurations);
+        }
+        return durations;
+    }
+
+    // Nearest-rank percentile of sorted values.
+    private static long getPercentile(final long[] sortedValues, final int percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        final int rank = (int)Math.ceil(sortedValues.length * percentile / 100.0);
+        return sortedValues[Math.max(rank - 1, 0)];
+    }
+
+    @UsedForTesting
+    static long getPercentileInNanos(final int stage, final int percentile) {
+        return getPercentile(getSortedDurationsInNanos()[stage], percentile);
+    }
+
+    private static String toMicrosString(final long timeInNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(timeInNanos) + "us";
+    }
+
+    public static String dump() {
+        final StringBuilder builder = new StringBuilder("Latency (sampling interval: ");
+        builder.append(sSamplingInterval);
+        builder.append(")");
+        final long[][] durations = getSortedDurationsInNanos();
+        for (int stage = 0; stage < STAGE_COUNT; stage++) {
+            final long[] stageDurations = durations[stage];
+            if (stageDurations.length == 0) {
+                continue;
+            }
+            builder.append("\n    ");
+            builder.append(STAGE_NAMES[stage]);
+            builder.append(": samples: ");
+            builder.append(stageDurations.length);
+            builder.append(", p50: ");
+            builder.append(toMicrosString(getPercentile(stageDurations, 50)));
+            builder.append(", p95: ");
+            builder.append(toMicrosString(getPercentile(stageDurations, 95)));
+            builder.append(", p99: ");
+            builder.append(toMicrosString(getPercentile(stageDurations, 99)));
+            builder.append(", max: ");
+            builder.append(toMicrosString(stageDurations[stageDurations.length - 1]));
+        }
+        return builder.toString();
+    }
+}
@@ -19,22 +19,45 @@ package com.android.inputmethod.latin.utils;
 import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
 import com.android.inputmethod.latin.define.ProductionFlags;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.TreeSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 /**
- * A TreeSet of SuggestedWordInfo that is bounded in size and throws everything that's smaller
- * than its limit
+ * A collection of SuggestedWordInfo that is bounded in size and throws everything that's smaller
+ * than its limit.
+ *
+ * Only the best suggestion for each word is kept. The suggestions are kept in a fixed-size
+ * binary heap whose root is the worst suggestion, so each candidate takes at most O(log capacity)
+ * work to be inserted or rejected, and nothing is allocated when adding. Iteration returns the
+ * suggestions from the best to the worst.
  */
-public final class SuggestionResults extends TreeSet<SuggestedWordInfo> {
+public final class SuggestionResults extends AbstractCollection<SuggestedWordInfo> {
     public final ArrayList<SuggestedWordInfo> mRawSuggestions;
     // TODO: Instead of a boolean , we may want to include the context of this suggestion results,
     // such as {@link NgramContext}.
     public final boolean mIsBeginningOfSentence;
     public final boolean mFirstSuggestionExceedsConfidenceThreshold;
     private final int mCapacity;
+    private final Comparator<SuggestedWordInfo> mComparator;
+
+    // Heap of the kept suggestions: every suggestion ranks below its children, so mHeap[0] is the
+    // first one to be evicted.
+    private final SuggestedWordInfo[] mHeap;
+    private int mSize;
+    // Open-addressing hash table from a word to (1 + the index of its suggestion in mHeap), with
+    // linear probing. 0 marks an empty slot. mHeapTableSlots is the reverse mapping.
+    private final int[] mWordTable;
+    private final int[] mHeapTableSlots;
+    private final int mWordTableMask;
+    // The kept suggestions from the best to the worst, computed when first read after a change.
+    private final SuggestedWordInfo[] mSortedSuggestions;
+    private boolean mIsSorted;
 
     public SuggestionResults(final int capacity, final boolean isBeginningOfSentence,
             final boolean firstSuggestionExceedsConfidenceThreshold) {
@@ -45,7 +68,7 @@ public final class SuggestionResults extends TreeSet<SuggestedWordInfo> {
     private SuggestionResults(final Comparator<SuggestedWordInfo> comparator, final int capacity,
             final boolean isBeginningOfSentence,
             final boolean firstSuggestionExceedsConfidenceThreshold) {
-        super(comparator);
+        mComparator = comparator;
         mCapacity = capacity;
         if (ProductionFlags.INCLUDE_RAW_SUGGESTIONS) {
             mRawSuggestions = new ArrayList<>();
@@ -54,21 +77,194 @@ public final class SuggestionResults extends TreeSet<SuggestedWordInfo> {
         }
         mIsBeginningOfSentence = isBeginningOfSentence;
         mFirstSuggestionExceedsConfidenceThreshold = firstSuggestionExceedsConfidenceThreshold;
+        mHeap = new SuggestedWordInfo[capacity];
+        mHeapTableSlots = new int[capacity];
+        mSortedSuggestions = new SuggestedWordInfo[capacity];
+        // At least twice as many slots as suggestions, so that probe sequences stay short.
+        final int wordTableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2) * 2;
+        mWordTable = new int[wordTableSize];
+        mWordTableMask = wordTableSize - 1;
+        mSize = 0;
+        mIsSorted = true;
     }
 
     @Override
     public boolean add(final SuggestedWordInfo e) {
-        if (size() < mCapacity) return super.add(e);
-        if (comparator().compare(e, last()) > 0) return false;
-        super.add(e);
-        pollLast(); // removes the last element
+        final int tableSlot = findWordTableSlot(e.mWord);
+        final int heapIndexPlusOne = mWordTable[tableSlot];
+        if (0 != heapIndexPlusOne) {
+            // We already have this word: keep whichever suggestion ranks higher.
+            final int heapIndex = heapIndexPlusOne - 1;
+            if (mComparator.compare(e, mHeap[heapIndex]) >= 0) return false;
+            mHeap[heapIndex] = e;
+            siftDown(heapIndex);
+        } else if (mSize < mCapacity) {
+            final int heapIndex = mSize++;
+            mHeap[heapIndex] = e;
+            mHeapTableSlots[heapIndex] = tableSlot;
+            mWordTable[tableSlot] = heapIndex + 1;
+            siftUp(heapIndex);
+        } else {
+            if (0 == mCapacity || mComparator.compare(e, mHeap[0]) >= 0) return false;
+            removeFromWordTable(mHeapTableSlots[0]);
+            // Removing from the table may have moved entries, so the slot is looked up again.
+            final int newTableSlot = findWordTableSlot(e.mWord);
+            mHeap[0] = e;
+            mHeapTableSlots[0] = newTableSlot;
+            mWordTable[newTableSlot] = 1;
+            siftDown(0);
+        }
+        mIsSorted = false;
         return true;
     }
 
     @Override
     public boolean addAll(final Collection<? extends SuggestedWordInfo> e) {
         if (null == e) return false;
-        return super.addAll(e);
+        boolean modified = false;
+        if (e instanceof List && e instanceof RandomAccess) {
+            // Avoid allocating an iterator for the lists dictionaries return.
+            final List<? extends SuggestedWordInfo> list = (List<? extends SuggestedWordInfo>)e;
+            for (int i = 0; i < list.size(); ++i) {
+                modified |= add(list.get(i));
+            }
+        } else {
+            for (final SuggestedWordInfo info : e) {
+                modified |= add(info);
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * @return the best suggestion.
+     * @throws NoSuchElementException if there is no suggestion.
+     */
+    public SuggestedWordInfo first() {
+        if (0 == mSize) {
+            throw new NoSuchElementException();
+        }
+        sortIfNeeded();
+        return mSortedSuggestions[0];
+    }
+
+    @Override
+    public Iterator<SuggestedWordInfo> iterator() {
+        sortIfNeeded();
+        return new Iterator<SuggestedWordInfo>() {
+            private int mIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return mIndex < mSize;
+            }
+
+            @Override
+            public SuggestedWordInfo next() {
+                if (mIndex >= mSize) {
+                    throw new NoSuchElementException();
+                }
+                return mSortedSuggestions[mIndex++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private void sortIfNeeded() {
+        if (mIsSorted) return;
+        // Insertion sort: the capacity is small, and this runs once per query.
+        for (int i = 0; i < mSize; ++i) {
+            final SuggestedWordInfo info = mHeap[i];
+            int j = i;
+            while (j > 0 && mComparator.compare(info, mSortedSuggestions[j - 1]) < 0) {
+                mSortedSuggestions[j] = mSortedSuggestions[j - 1];
+                --j;
+            }
+            mSortedSuggestions[j] = info;
+        }
+        mIsSorted = true;
+    }
+
+    // Returns the slot of the word in mWordTable, or the empty slot where it should be added.
+    private int findWordTableSlot(final String word) {
+        int slot = getHomeSlot(word);
+        while (0 != mWordTable[slot] && !word.equals(mHeap[mWordTable[slot] - 1].mWord)) {
+            slot = (slot + 1) & mWordTableMask;
+        }
+        return slot;
+    }
+
+    private int getHomeSlot(final String word) {
+        final int hashCode = word.hashCode();
+        return (hashCode ^ (hashCode >>> 16)) & mWordTableMask;
+    }
+
+    // Empties a slot of mWordTable, moving back the entries that follow it in the same probe
+    // sequence so that they can still be found.
+    private void removeFromWordTable(final int tableSlot) {
+        int emptySlot = tableSlot;
+        int slot = tableSlot;
+        while (true) {
+            slot = (slot + 1) & mWordTableMask;
+            final int heapIndexPlusOne = mWordTable[slot];
+            if (0 == heapIndexPlusOne) break;
+            final int homeSlot = getHomeSlot(mHeap[heapIndexPlusOne - 1].mWord);
+            // The entry can move to the empty slot unless its home is between the two.
+            if (((slot - homeSlot) & mWordTableMask) >= ((slot - emptySlot) & mWordTableMask)) {
+                mWordTable[emptySlot] = heapIndexPlusOne;
+                mHeapTableSlots[heapIndexPlusOne - 1] = emptySlot;
+                emptySlot = slot;
+            }
+        }
+        mWordTable[emptySlot] = 0;
+    }
+
+    // Heap order: a parent ranks below (compares greater than) its children.
+    private boolean ranksBelow(final int heapIndex, final int otherHeapIndex) {
+        return mComparator.compare(mHeap[heapIndex], mHeap[otherHeapIndex]) > 0;
+    }
+
+    private void siftUp(final int heapIndex) {
+        int index = heapIndex;
+        while (index > 0) {
+            final int parent = (index - 1) / 2;
+            if (!ranksBelow(index, parent)) break;
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(final int heapIndex) {
+        int index = heapIndex;
+        while (true) {
+            final int left = index * 2 + 1;
+            if (left >= mSize) break;
+            final int right = left + 1;
+            final int lowest = (right < mSize && ranksBelow(right, left)) ? right : left;
+            if (!ranksBelow(lowest, index)) break;
+            swap(index, lowest);
+            index = lowest;
+        }
+    }
+
+    private void swap(final int heapIndex, final int otherHeapIndex) {
+        final SuggestedWordInfo info = mHeap[heapIndex];
+        mHeap[heapIndex] = mHeap[otherHeapIndex];
+        mHeap[otherHeapIndex] = info;
+        final int tableSlot = mHeapTableSlots[heapIndex];
+        mHeapTableSlots[heapIndex] = mHeapTableSlots[otherHeapIndex];
+        mHeapTableSlots[otherHeapIndex] = tableSlot;
+        mWordTable[mHeapTableSlots[heapIndex]] = heapIndex + 1;
+        mWordTable[mHeapTableSlots[otherHeapIndex]] = otherHeapIndex + 1;
     }
 
     static final class SuggestedWordInfoComparator implements Comparator<SuggestedWordInfo> {
@@ -83,7 +83,9 @@ LATIN_IME_CORE_SRC_FILES := \
         proximity_info_state.cpp \
         proximity_info_state_utils.cpp) \
     suggest/core/policy/weighting.cpp \
-    suggest/core/session/dic_traverse_session.cpp \
+    $(addprefix suggest/core/session/, \
+        dic_traverse_session.cpp \
+        suggestion_results_cache.cpp) \
     $(addprefix suggest/core/result/, \
         suggestion_results.cpp \
         suggestions_output_utils.cpp) \
@@ -139,6 +141,7 @@ LATIN_IME_CORE_TEST_FILES := \
     suggest/core/dicnode/dic_node_pool_test.cpp \
     suggest/core/layout/geometry_utils_test.cpp \
     suggest/core/layout/normal_distribution_2d_test.cpp \
+    suggest/core/session/suggestion_results_cache_test.cpp \
     suggest/policyimpl/utils/damerau_levenshtein_edit_distance_policy_test.cpp \
     utils/autocorrection_threshold_utils_test.cpp \
     utils/char_utils_test.cpp \
@@ -18,6 +18,7 @@
 
 #include "com_android_inputmethod_latin_BinaryDictionary.h"
 
+#include <algorithm>
 #include <cstring> // for memset()
 #include <vector>
 
@@ -107,6 +108,17 @@ static bool latinime_BinaryDictionary_flush(JNIEnv *env, jclass clazz, jlong dic
     return dictionary->flush(filePathChars);
 }
 
+static bool latinime_BinaryDictionary_setHeaderIntAttribute(JNIEnv *env, jclass clazz,
+        jlong dict, jstring key, jint value) {
+    Dictionary *dictionary = reinterpret_cast<Dictionary *>(dict);
+    if (!dictionary) return false;
+    const jsize keyUtf8Length = env->GetStringUTFLength(key);
+    char keyChars[keyUtf8Length + 1];
+    env->GetStringUTFRegion(key, 0, env->GetStringLength(key), keyChars);
+    keyChars[keyUtf8Length] = '\0';
+    return dictionary->setHeaderIntAttribute(keyChars, value);
+}
+
 static bool latinime_BinaryDictionary_needsToRunGC(JNIEnv *env, jclass clazz,
         jlong dict, jboolean mindsBlockByGC) {
     Dictionary *dictionary = reinterpret_cast<Dictionary *>(dict);
@@ -356,6 +368,53 @@ static void latinime_BinaryDictionary_getWordProperty(JNIEnv *env, jclass clazz,
             outNgramTargets, outNgramProbabilityInfo, outShortcutTargets, outShortcutProbabilities);
 }
 
+// Method to export word properties in bulk. Starting from the word at the token, this method packs
+// the properties of as many words as fit in outBuffer, and always at least one word. The packed
+// properties are written to outBuffer when they fit. Otherwise, a larger array is allocated and
+// returned instead of outBuffer. outNextTokenAndSize receives the next token, which is 0 when all
+// words have been exported, and the number of ints used in the returned array.
+static jintArray latinime_BinaryDictionary_getNextWordProperties(JNIEnv *env, jclass clazz,
+        jlong dict, jint token, jintArray outBuffer, jintArray outNextTokenAndSize) {
+    Dictionary *dictionary = reinterpret_cast<Dictionary *>(dict);
+    if (!dictionary) return outBuffer;
+    const jsize bufferSize = env->GetArrayLength(outBuffer);
+    // Stop before the buffer is this close to being full, so that the next word rarely has to be
+    // returned in a new array.
+    const jsize reservedSize = std::min(bufferSize / 2, MAX_WORD_LENGTH * 16);
+    std::vector<int> packedWordProperties;
+    packedWordProperties.reserve(bufferSize);
+    int wordCodePoints[MAX_WORD_LENGTH];
+    int wordCodePointCount = 0;
+    int nextToken = token;
+    do {
+        nextToken = dictionary->getNextWordAndNextToken(nextToken, wordCodePoints,
+                &wordCodePointCount);
+        if (wordCodePointCount <= 0) {
+            // The dictionary is empty or the token is invalid.
+            nextToken = 0;
+            break;
+        }
+        const CodePointArrayView codePoints(wordCodePoints, wordCodePointCount);
+        JniDataUtils::packWordProperty(codePoints, dictionary->getWordProperty(codePoints),
+                &packedWordProperties);
+    } while (nextToken != 0
+            && static_cast<jsize>(packedWordProperties.size()) + reservedSize < bufferSize);
+    const jsize packedSize = static_cast<jsize>(packedWordProperties.size());
+    jintArray result = outBuffer;
+    if (packedSize > bufferSize) {
+        result = env->NewIntArray(packedSize);
+        if (!result) {
+            AKLOGE("Cannot allocate %d ints for word properties.", packedSize);
+            return outBuffer;
+        }
+    }
+    env->SetIntArrayRegion(result, 0 /* start */, packedSize, packedWordProperties.data());
+    const int nextTokenAndSize[] = {nextToken, packedSize};
+    env->SetIntArrayRegion(outNextTokenAndSize, 0 /* start */, NELEMS(nextTokenAndSize),
+            nextTokenAndSize);
+    return result;
+}
+
 static bool latinime_BinaryDictionary_addUnigramEntry(JNIEnv *env, jclass clazz, jlong dict,
         jintArray word, jint probability, jintArray shortcutTarget, jint shortcutProbability,
         jboolean isBeginningOfSentence, jboolean isNotAWord, jboolean isPossiblyOffensive,
@@ -647,6 +706,11 @@ static const JNINativeMethod sMethods[] = {
         const_cast<char *>("(JLjava/lang/String;)Z"),
         reinterpret_cast<void *>(latinime_BinaryDictionary_flush)
     },
+    {
+        const_cast<char *>("setHeaderIntAttributeNative"),
+        const_cast<char *>("(JLjava/lang/String;I)Z"),
+        reinterpret_cast<void *>(latinime_BinaryDictionary_setHeaderIntAttribute)
+    },
     {
         const_cast<char *>("needsToRunGCNative"),
         const_cast<char *>("(JZ)Z"),
@@ -689,6 +753,11 @@ static const JNINativeMethod sMethods[] = {
         const_cast<char *>("(JI[I[Z)I"),
         reinterpret_cast<void *>(latinime_BinaryDictionary_getNextWord)
     },
+    {
+        const_cast<char *>("getNextWordPropertiesNative"),
+        const_cast<char *>("(JI[I[I)[I"),
+        reinterpret_cast<void *>(latinime_BinaryDictionary_getNextWordProperties)
+    },
     {
         const_cast<char *>("addUnigramEntryNative"),
         const_cast<char *>("(J[II[IIZZZI)Z"),
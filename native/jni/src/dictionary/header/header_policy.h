@@ -191,6 +191,11 @@ class HeaderPolicy : public DictionaryHeaderStructurePolicy {
         return &mAttributeMap;
     }
 
+    // Sets an attribute that is written with the header from now on.
+    void setIntAttribute(const char *const key, const int value) {
+        HeaderReadWriteUtils::setIntAttribute(&mAttributeMap, key, value);
+    }
+
     AK_FORCE_INLINE int getForgettingCurveProbabilityValuesTableId() const {
         return mForgettingCurveProbabilityValuesTableId;
     }
@@ -99,6 +99,10 @@ class DictionaryStructureWithBufferPolicy {
 
     virtual bool needsToRunGC(const bool mindsBlockByGC) const = 0;
 
+    // Sets an int attribute of the header, which is written at the next flush. Returns whether
+    // the attribute was set or not.
+    virtual bool setHeaderIntAttribute(const char *const key, const int value) = 0;
+
     // Currently, this method is used only for testing. You may want to consider creating new
     // dedicated method instead of this if you want to use this in the production.
     virtual void getProperty(const char *const query, const int queryLength, char *const outResult,
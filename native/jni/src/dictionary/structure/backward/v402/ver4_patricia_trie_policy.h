@@ -127,6 +127,12 @@ class Ver4PatriciaTriePolicy : public DictionaryStructureWithBufferPolicy {
 
     bool needsToRunGC(const bool mindsBlockByGC) const;
 
+    bool setHeaderIntAttribute(const char *const key, const int value) {
+        // Header attributes are only set for dictionaries of the latest format.
+        AKLOGI("Warning: setHeaderIntAttribute() is called for a dictionary of an old format.");
+        return false;
+    }
+
     void getProperty(const char *const query, const int queryLength, char *const outResult,
             const int maxResultLength);
 
@@ -133,6 +133,12 @@ class PatriciaTriePolicy : public DictionaryStructureWithBufferPolicy {
         return false;
     }
 
+    bool setHeaderIntAttribute(const char *const key, const int value) {
+        // This method should not be called for non-updatable dictionary.
+        AKLOGI("Warning: setHeaderIntAttribute() is called for non-updatable dictionary.");
+        return false;
+    }
+
     void getProperty(const char *const query, const int queryLength, char *const outResult,
             const int maxResultLength) {
         // getProperty is not supported for this class.
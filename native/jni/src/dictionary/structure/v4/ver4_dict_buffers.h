@@ -59,6 +59,10 @@ class Ver4DictBuffers {
         return &mHeaderPolicy;
     }
 
+    AK_FORCE_INLINE HeaderPolicy *getMutableHeaderPolicy() {
+        return &mHeaderPolicy;
+    }
+
     AK_FORCE_INLINE BufferWithExtendableBuffer *getWritableHeaderBuffer() {
         return &mExpandableHeaderBuffer;
     }
@@ -120,7 +124,7 @@ class Ver4DictBuffers {
 
     const MmappedBuffer::MmappedBufferPtr mHeaderBuffer;
     const MmappedBuffer::MmappedBufferPtr mDictBuffer;
-    const HeaderPolicy mHeaderPolicy;
+    HeaderPolicy mHeaderPolicy;
     BufferWithExtendableBuffer mExpandableHeaderBuffer;
     BufferWithExtendableBuffer mExpandableTrieBuffer;
     TerminalPositionLookupTable mTerminalPositionLookupTable;
@@ -440,6 +440,15 @@ bool Ver4PatriciaTriePolicy::flush(const char *const filePath) {
     return true;
 }
 
+bool Ver4PatriciaTriePolicy::setHeaderIntAttribute(const char *const key, const int value) {
+    if (!mBuffers->isUpdatable()) {
+        AKLOGI("Warning: setHeaderIntAttribute() is called for non-updatable dictionary.");
+        return false;
+    }
+    mBuffers->getMutableHeaderPolicy()->setIntAttribute(key, value);
+    return true;
+}
+
 bool Ver4PatriciaTriePolicy::flushWithGC(const char *const filePath) {
     if (!mBuffers->isUpdatable()) {
         AKLOGI("Warning: flushWithGC() is called for non-updatable dictionary.");
@@ -106,6 +106,8 @@ class Ver4PatriciaTriePolicy : public DictionaryStructureWithBufferPolicy {
 
     bool needsToRunGC(const bool mindsBlockByGC) const;
 
+    bool setHeaderIntAttribute(const char *const key, const int value);
+
     void getProperty(const char *const query, const int queryLength, char *const outResult,
             const int maxResultLength);
 
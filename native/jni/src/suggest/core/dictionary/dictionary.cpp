@@ -18,10 +18,14 @@
 
 #include "suggest/core/dictionary/dictionary.h"
 
+#include <cstdio>
+#include <cstring>
+
 #include "defines.h"
 #include "dictionary/interface/dictionary_header_structure_policy.h"
 #include "dictionary/property/ngram_context.h"
 #include "suggest/core/dictionary/dictionary_utils.h"
+#include "suggest/core/layout/proximity_info.h"
 #include "suggest/core/result/suggestion_results.h"
 #include "suggest/core/session/dic_traverse_session.h"
 #include "suggest/core/suggest.h"
@@ -35,12 +39,17 @@
 namespace latinime {
 
 const int Dictionary::HEADER_ATTRIBUTE_BUFFER_SIZE = 32;
+std::atomic<int> Dictionary::sLastGeneration(0);
+const char *const Dictionary::SUGGESTION_CACHE_HIT_COUNT_QUERY = "SUGGESTION_CACHE_HIT_COUNT";
+const char *const Dictionary::SUGGESTION_CACHE_MISS_COUNT_QUERY = "SUGGESTION_CACHE_MISS_COUNT";
 
 Dictionary::Dictionary(JNIEnv *env, DictionaryStructureWithBufferPolicy::StructurePolicyPtr
         dictionaryStructureWithBufferPolicy)
         : mDictionaryStructureWithBufferPolicy(std::move(dictionaryStructureWithBufferPolicy)),
           mGestureSuggest(new Suggest(GestureSuggestPolicyFactory::getGestureSuggestPolicy())),
-          mTypingSuggest(new Suggest(TypingSuggestPolicyFactory::getTypingSuggestPolicy())) {
+          mTypingSuggest(new Suggest(TypingSuggestPolicyFactory::getTypingSuggestPolicy())),
+          mGeneration(++sLastGeneration), mSuggestionCacheHitCount(0),
+          mSuggestionCacheMissCount(0) {
     logDictionaryInfo(env);
 }
 
@@ -51,10 +60,31 @@ void Dictionary::getSuggestions(ProximityInfo *proximityInfo, DicTraverseSession
         SuggestionResults *const outSuggestionResults) const {
     TimeKeeper::setCurrentTime();
     traverseSession->init(this, ngramContext, suggestOptions);
-    const auto &suggest = suggestOptions->isGesture() ? mGestureSuggest : mTypingSuggest;
-    suggest->getSuggestions(proximityInfo, traverseSession, xcoordinates,
+    if (suggestOptions->isGesture()) {
+        // Gestures are never repeated exactly, so they are not cached.
+        mGestureSuggest->getSuggestions(proximityInfo, traverseSession, xcoordinates,
+                ycoordinates, times, pointerIds, inputCodePoints, inputSize,
+                weightOfLangModelVsSpatialModel, outSuggestionResults);
+        return;
+    }
+    // Typing the next character already continues from the dic nodes cached by the session for
+    // the previous input. Inputs that are queried again with the same touch positions and times,
+    // e.g. the shorter input after a backspace, are answered without traversing the dictionary.
+    SuggestionResultsCache *const suggestionResultsCache =
+            traverseSession->getSuggestionResultsCache();
+    suggestionResultsCache->setQuery(mGeneration, proximityInfo->getId(),
+            traverseSession->getPrevWordIds(), suggestOptions->getOptions(),
+            suggestOptions->getOptionCount(), inputCodePoints, xcoordinates, ycoordinates, times,
+            pointerIds, inputSize, weightOfLangModelVsSpatialModel);
+    if (suggestionResultsCache->outputCachedResults(outSuggestionResults)) {
+        ++mSuggestionCacheHitCount;
+        return;
+    }
+    ++mSuggestionCacheMissCount;
+    mTypingSuggest->getSuggestions(proximityInfo, traverseSession, xcoordinates,
             ycoordinates, times, pointerIds, inputCodePoints, inputSize,
             weightOfLangModelVsSpatialModel, outSuggestionResults);
+    suggestionResultsCache->putResults(outSuggestionResults);
 }
 
 Dictionary::NgramListenerForPrediction::NgramListenerForPrediction(
@@ -135,22 +165,26 @@ bool Dictionary::addUnigramEntry(const CodePointArrayView codePoints,
         return false;
     }
     TimeKeeper::setCurrentTime();
+    mGeneration = ++sLastGeneration;
     return mDictionaryStructureWithBufferPolicy->addUnigramEntry(codePoints, unigramProperty);
 }
 
 bool Dictionary::removeUnigramEntry(const CodePointArrayView codePoints) {
     TimeKeeper::setCurrentTime();
+    mGeneration = ++sLastGeneration;
     return mDictionaryStructureWithBufferPolicy->removeUnigramEntry(codePoints);
 }
 
 bool Dictionary::addNgramEntry(const NgramProperty *const ngramProperty) {
     TimeKeeper::setCurrentTime();
+    mGeneration = ++sLastGeneration;
     return mDictionaryStructureWithBufferPolicy->addNgramEntry(ngramProperty);
 }
 
 bool Dictionary::removeNgramEntry(const NgramContext *const ngramContext,
         const CodePointArrayView codePoints) {
     TimeKeeper::setCurrentTime();
+    mGeneration = ++sLastGeneration;
     return mDictionaryStructureWithBufferPolicy->removeNgramEntry(ngramContext, codePoints);
 }
 
@@ -158,6 +192,7 @@ bool Dictionary::updateEntriesForWordWithNgramContext(const NgramContext *const
         const CodePointArrayView codePoints, const bool isValidWord,
         const HistoricalInfo historicalInfo) {
     TimeKeeper::setCurrentTime();
+    mGeneration = ++sLastGeneration;
     return mDictionaryStructureWithBufferPolicy->updateEntriesForWordWithNgramContext(ngramContext,
             codePoints, isValidWord, historicalInfo);
 }
@@ -169,6 +204,7 @@ bool Dictionary::flush(const char *const filePath) {
 
 bool Dictionary::flushWithGC(const char *const filePath) {
     TimeKeeper::setCurrentTime();
+    mGeneration = ++sLastGeneration;
     return mDictionaryStructureWithBufferPolicy->flushWithGC(filePath);
 }
 
@@ -177,9 +213,22 @@ bool Dictionary::needsToRunGC(const bool mindsBlockByGC) {
     return mDictionaryStructureWithBufferPolicy->needsToRunGC(mindsBlockByGC);
 }
 
+bool Dictionary::setHeaderIntAttribute(const char *const key, const int value) {
+    TimeKeeper::setCurrentTime();
+    return mDictionaryStructureWithBufferPolicy->setHeaderIntAttribute(key, value);
+}
+
 void Dictionary::getProperty(const char *const query, const int queryLength, char *const outResult,
         const int maxResultLength) {
     TimeKeeper::setCurrentTime();
+    const int compareLength = queryLength + 1 /* terminator */;
+    if (strncmp(query, SUGGESTION_CACHE_HIT_COUNT_QUERY, compareLength) == 0) {
+        snprintf(outResult, maxResultLength, "%d", mSuggestionCacheHitCount.load());
+        return;
+    } else if (strncmp(query, SUGGESTION_CACHE_MISS_COUNT_QUERY, compareLength) == 0) {
+        snprintf(outResult, maxResultLength, "%d", mSuggestionCacheMissCount.load());
+        return;
+    }
     return mDictionaryStructureWithBufferPolicy->getProperty(query, queryLength, outResult,
             maxResultLength);
 }
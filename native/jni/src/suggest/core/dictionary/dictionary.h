@@ -17,6 +17,7 @@
 #ifndef LATINIME_DICTIONARY_H
 #define LATINIME_DICTIONARY_H
 
+#include <atomic>
 #include <memory>
 
 #include "defines.h"
@@ -62,6 +63,10 @@ class Dictionary {
     static const int KIND_FLAG_EXACT_MATCH_WITH_INTENTIONAL_OMISSION = 0x20000000;
     static const int KIND_FLAG_APPROPRIATE_FOR_AUTOCORRECTION = 0x10000000;
 
+    // Note that there are corresponding definitions in Java side in BinaryDictionary.
+    static const char *const SUGGESTION_CACHE_HIT_COUNT_QUERY;
+    static const char *const SUGGESTION_CACHE_MISS_COUNT_QUERY;
+
     Dictionary(JNIEnv *env, DictionaryStructureWithBufferPolicy::StructurePolicyPtr
             dictionaryStructureWithBufferPolicy);
 
@@ -101,6 +106,8 @@ class Dictionary {
 
     bool needsToRunGC(const bool mindsBlockByGC);
 
+    bool setHeaderIntAttribute(const char *const key, const int value);
+
     void getProperty(const char *const query, const int queryLength, char *const outResult,
             const int maxResultLength);
 
@@ -138,11 +145,20 @@ class Dictionary {
     };
 
     static const int HEADER_ATTRIBUTE_BUFFER_SIZE;
+    static std::atomic<int> sLastGeneration;
 
     const DictionaryStructureWithBufferPolicy::StructurePolicyPtr
             mDictionaryStructureWithBufferPolicy;
     const SuggestInterfacePtr mGestureSuggest;
     const SuggestInterfacePtr mTypingSuggest;
+    // Unique among the dictionaries of the process, and changed by each update, so that the
+    // suggestions cached for the dictionary become stale. A dictionary that is later allocated at
+    // the same address doesn't get the suggestions cached for this one.
+    int mGeneration;
+    // Only used for stats. They are updated by the sessions of all the threads querying the
+    // dictionary.
+    mutable std::atomic<int> mSuggestionCacheHitCount;
+    mutable std::atomic<int> mSuggestionCacheMissCount;
 
     void logDictionaryInfo(JNIEnv *const env) const;
 };
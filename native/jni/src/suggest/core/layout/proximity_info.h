@@ -17,6 +17,7 @@
 #ifndef LATINIME_PROXIMITY_INFO_H
 #define LATINIME_PROXIMITY_INFO_H
 
+#include <atomic>
 #include <unordered_map>
 #include <vector>
 
@@ -36,6 +37,8 @@ class ProximityInfo {
             const jintArray keyCharCodes, const jfloatArray sweetSpotCenterXs,
             const jfloatArray sweetSpotCenterYs, const jfloatArray sweetSpotRadii);
     ~ProximityInfo();
+    // Unique among the instances created by the process, unlike their addresses.
+    int getId() const { return mId; }
     bool hasSpaceProximity(const int x, const int y) const;
     float getNormalizedSquaredDistanceFromCenterFloatG(
             const int keyId, const int x, const int y, const bool isGeometric) const;
@@ -92,6 +95,9 @@ class ProximityInfo {
 
     void initializeG();
 
+    static std::atomic<int> sLastId;
+
+    const int mId;
     const int GRID_WIDTH;
     const int GRID_HEIGHT;
     const int MOST_COMMON_KEY_WIDTH;
@@ -89,6 +89,15 @@ void SuggestionResults::getSortedScores(int *const outScores) const {
     }
 }
 
+void SuggestionResults::getSuggestedWords(
+        std::vector<SuggestedWord> *const outSuggestedWords) const {
+    auto copyOfSuggestedWords = mSuggestedWords;
+    while (!copyOfSuggestedWords.empty()) {
+        outSuggestedWords->push_back(copyOfSuggestedWords.top());
+        copyOfSuggestedWords.pop();
+    }
+}
+
 void SuggestionResults::dumpSuggestions() const {
     AKLOGE("weight of language model vs spatial model: %f", mWeightOfLangModelVsSpatialModel);
     std::vector<SuggestedWord> suggestedWords;
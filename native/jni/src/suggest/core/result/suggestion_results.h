@@ -43,12 +43,18 @@ class SuggestionResults {
             const int score, const int type, const int indexToPartialCommit,
             const int autocimmitFirstWordConfindence);
     void getSortedScores(int *const outScores) const;
+    // Adds the suggested words to outSuggestedWords, the worst one first.
+    void getSuggestedWords(std::vector<SuggestedWord> *const outSuggestedWords) const;
     void dumpSuggestions() const;
 
     void setWeightOfLangModelVsSpatialModel(const float weightOfLangModelVsSpatialModel) {
         mWeightOfLangModelVsSpatialModel = weightOfLangModelVsSpatialModel;
     }
 
+    float getWeightOfLangModelVsSpatialModel() const {
+        return mWeightOfLangModelVsSpatialModel;
+    }
+
     int getSuggestionCount() const {
         return mSuggestedWords.size();
     }
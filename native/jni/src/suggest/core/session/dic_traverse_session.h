@@ -24,6 +24,7 @@
 #include "jni.h"
 #include "suggest/core/dicnode/dic_nodes_cache.h"
 #include "suggest/core/layout/proximity_info_state.h"
+#include "suggest/core/session/suggestion_results_cache.h"
 #include "utils/int_array_view.h"
 
 namespace latinime {
@@ -53,6 +54,7 @@ class DicTraverseSession {
     AK_FORCE_INLINE DicTraverseSession(JNIEnv *env, jstring localeStr, bool usesLargeCache)
             : mPrevWordIdCount(0), mProximityInfo(nullptr), mDictionary(nullptr),
               mSuggestOptions(nullptr), mDicNodesCache(usesLargeCache), mMultiBigramMap(),
+              mSuggestionResultsCache(),
               mInputSize(0), mMaxPointerCount(1), mMultiWordCostMultiplier(1.0f) {
         // NOTE: mProximityInfoStates is an array of instances.
         // No need to initialize it explicitly here.
@@ -82,6 +84,7 @@ class DicTraverseSession {
     }
     DicNodesCache *getDicTraverseCache() { return &mDicNodesCache; }
     MultiBigramMap *getMultiBigramMap() { return &mMultiBigramMap; }
+    SuggestionResultsCache *getSuggestionResultsCache() { return &mSuggestionResultsCache; }
     const ProximityInfoState *getProximityInfoState(int id) const {
         return &mProximityInfoStates[id];
     }
@@ -175,6 +178,8 @@ class DicTraverseSession {
     DicNodesCache mDicNodesCache;
     // Temporary cache for bigram frequencies
     MultiBigramMap mMultiBigramMap;
+    // Suggestions of the previous queries, to answer repeated ones
+    SuggestionResultsCache mSuggestionResultsCache;
     ProximityInfoState mProximityInfoStates[MAX_POINTER_COUNT_G];
 
     int mInputSize;
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "suggest/core/session/suggestion_results_cache.h"
+
+#include <cstring> // for memcpy()
+
+#include "suggest/core/result/suggestion_results.h"
+
+namespace latinime {
+
+// Backspacing goes back through the previous inputs, most recent first. Retyping does not hit
+// the cache, since the touch positions and times differ, so a few entries are enough.
+const int SuggestionResultsCache::MAX_ENTRY_COUNT = 8;
+
+SuggestionResultsCache::Entry::Entry(const Query &query,
+        const SuggestionResults *const suggestionResults)
+        : mQuery(query), mSuggestedWords(),
+          mWeightOfLangModelVsSpatialModel(
+                  suggestionResults->getWeightOfLangModelVsSpatialModel()) {
+    suggestionResults->getSuggestedWords(&mSuggestedWords);
+}
+
+void SuggestionResultsCache::setQuery(const int dictionaryGeneration, const int proximityInfoId,
+        const WordIdArrayView prevWordIds, const int *const options, const int optionCount,
+        const int *const inputCodePoints, const int *const xCoordinates,
+        const int *const yCoordinates, const int *const times, const int *const pointerIds,
+        const int inputSize, const float weightOfLangModelVsSpatialModel) {
+    mQuery.mDictionaryGeneration = dictionaryGeneration;
+    mQuery.mProximityInfoId = proximityInfoId;
+    mQuery.mValues.clear();
+    appendToQuery(prevWordIds.data(), prevWordIds.size());
+    appendToQuery(options, optionCount);
+    appendToQuery(inputCodePoints, inputSize);
+    appendToQuery(xCoordinates, inputSize);
+    appendToQuery(yCoordinates, inputSize);
+    appendToQuery(times, inputSize);
+    appendToQuery(pointerIds, inputSize);
+    int weightBits = 0;
+    memcpy(&weightBits, &weightOfLangModelVsSpatialModel, sizeof(weightBits));
+    appendToQuery(&weightBits, 1 /* count */);
+}
+
+bool SuggestionResultsCache::outputCachedResults(SuggestionResults *const outSuggestionResults) {
+    for (auto it = mEntries.begin(); it != mEntries.end(); ++it) {
+        if (!(it->mQuery == mQuery)) {
+            continue;
+        }
+        for (const auto &suggestedWord : it->mSuggestedWords) {
+            outSuggestionResults->addSuggestion(suggestedWord.getCodePoint(),
+                    suggestedWord.getCodePointCount(), suggestedWord.getScore(),
+                    suggestedWord.getType(), suggestedWord.getIndexToPartialCommit(),
+                    suggestedWord.getAutoCommitFirstWordConfidence());
+        }
+        outSuggestionResults->setWeightOfLangModelVsSpatialModel(
+                it->mWeightOfLangModelVsSpatialModel);
+        // Make it the most recently used entry.
+        mEntries.splice(mEntries.begin(), mEntries, it);
+        return true;
+    }
+    return false;
+}
+
+void SuggestionResultsCache::putResults(const SuggestionResults *const suggestionResults) {
+    mEntries.emplace_front(mQuery, suggestionResults);
+    while (static_cast<int>(mEntries.size()) > MAX_ENTRY_COUNT) {
+        mEntries.pop_back();
+    }
+}
+
+void SuggestionResultsCache::appendToQuery(const int *const values, const int count) {
+    mQuery.mValues.push_back(count);
+    mQuery.mValues.insert(mQuery.mValues.end(), values, values + count);
+}
+
+} // namespace latinime
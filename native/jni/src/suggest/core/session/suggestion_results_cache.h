@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef LATINIME_SUGGESTION_RESULTS_CACHE_H
+#define LATINIME_SUGGESTION_RESULTS_CACHE_H
+
+#include <list>
+#include <vector>
+
+#include "defines.h"
+#include "suggest/core/result/suggested_word.h"
+#include "utils/int_array_view.h"
+
+namespace latinime {
+
+class SuggestionResults;
+
+/*
+ * LRU cache of the suggestions of a session for typing input.
+ *
+ * Backspacing queries an input that has been queried before, with the same code points, touch
+ * positions and times. Those queries are answered from here instead of traversing the dictionary
+ * again. Typing a word again does not hit the cache, since the touch positions and times are part
+ * of the query and differ from one try to the next. An entry is only used for the same dictionary
+ * and keyboard, and is stale once the dictionary has been updated. They are identified by their
+ * generation and id rather than by their addresses, which are reused once they are freed.
+ */
+class SuggestionResultsCache {
+ public:
+    SuggestionResultsCache() : mEntries(), mQuery() {}
+
+    // Sets the query that the following calls to outputCachedResults() and putResults() are for.
+    void setQuery(const int dictionaryGeneration, const int proximityInfoId,
+            const WordIdArrayView prevWordIds,
+            const int *const options, const int optionCount, const int *const inputCodePoints,
+            const int *const xCoordinates, const int *const yCoordinates, const int *const times,
+            const int *const pointerIds, const int inputSize,
+            const float weightOfLangModelVsSpatialModel);
+
+    // Returns whether the results of the query were found, and adds them to outSuggestionResults.
+    bool outputCachedResults(SuggestionResults *const outSuggestionResults);
+
+    void putResults(const SuggestionResults *const suggestionResults);
+
+    void clear() {
+        mEntries.clear();
+    }
+
+    int getEntryCount() const {
+        return mEntries.size();
+    }
+
+ private:
+    DISALLOW_COPY_AND_ASSIGN(SuggestionResultsCache);
+
+    class Query {
+     public:
+        Query() : mDictionaryGeneration(0), mProximityInfoId(0), mValues() {}
+
+        bool operator==(const Query &query) const {
+            return mDictionaryGeneration == query.mDictionaryGeneration
+                    && mProximityInfoId == query.mProximityInfoId && mValues == query.mValues;
+        }
+
+        int mDictionaryGeneration;
+        int mProximityInfoId;
+        // The previous word ids, the options and the input, each preceded by its size.
+        std::vector<int> mValues;
+    };
+
+    class Entry {
+     public:
+        Entry(const Query &query, const SuggestionResults *const suggestionResults);
+
+        const Query mQuery;
+        std::vector<SuggestedWord> mSuggestedWords;
+        const float mWeightOfLangModelVsSpatialModel;
+
+     private:
+        DISALLOW_DEFAULT_CONSTRUCTOR(Entry);
+    };
+
+    static const int MAX_ENTRY_COUNT;
+
+    // The most recently used entry comes first.
+    std::list<Entry> mEntries;
+    Query mQuery;
+
+    void appendToQuery(const int *const values, const int count);
+};
+} // namespace latinime
+#endif // LATINIME_SUGGESTION_RESULTS_CACHE_H
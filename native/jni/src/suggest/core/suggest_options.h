@@ -52,6 +52,14 @@ class SuggestOptions{
         return getBoolOption(key + ADDITIONAL_FEATURES_OPTIONS);
     }
 
+    const int *getOptions() const {
+        return mOptions;
+    }
+
+    int getOptionCount() const {
+        return mLength;
+    }
+
  private:
     DISALLOW_IMPLICIT_CONSTRUCTORS(SuggestOptions);
 
@@ -16,12 +16,19 @@
 
 #include "utils/jni_data_utils.h"
 
+#include <algorithm>
+
 #include "utils/int_array_view.h"
 
 namespace latinime {
 
 const int JniDataUtils::CODE_POINT_REPLACEMENT_CHARACTER = 0xFFFD;
 const int JniDataUtils::CODE_POINT_NULL = 0;
+const int JniDataUtils::PACKED_WORD_PROPERTY_FLAG_IS_NOT_A_WORD = 0x01;
+const int JniDataUtils::PACKED_WORD_PROPERTY_FLAG_IS_POSSIBLY_OFFENSIVE = 0x02;
+const int JniDataUtils::PACKED_WORD_PROPERTY_FLAG_HAS_NGRAMS = 0x04;
+const int JniDataUtils::PACKED_WORD_PROPERTY_FLAG_HAS_SHORTCUTS = 0x08;
+const int JniDataUtils::PACKED_WORD_PROPERTY_FLAG_IS_BEGINNING_OF_SENTENCE = 0x10;
 
 /* static */ void JniDataUtils::outputWordProperty(JNIEnv *const env,
         const WordProperty &wordProperty, jintArray outCodePoints, jbooleanArray outFlags,
@@ -112,4 +119,106 @@ const int JniDataUtils::CODE_POINT_NULL = 0;
     env->DeleteLocalRef(arrayListClass);
 }
 
+// A packed word property is laid out as follows. A code point sequence is its length followed by
+// the code points, and probability info is the probability, timestamp, level and count.
+// - word code points
+// - flags
+// - unigram probability info
+// - n-gram count, and for each n-gram:
+//   - previous word count, and for each previous word:
+//     - 1 if the word is beginning-of-sentence or 0 otherwise
+//     - previous word code points
+//   - target word code points
+//   - n-gram probability info
+// - shortcut count, and for each shortcut:
+//   - shortcut target code points
+//   - shortcut probability
+/* static */ void JniDataUtils::packWordProperty(const CodePointArrayView wordCodePoints,
+        const WordProperty &wordProperty, std::vector<int> *const outPackedWordProperties) {
+    packCodePoints(wordCodePoints.data(), static_cast<int>(wordCodePoints.size()),
+            outPackedWordProperties);
+    const UnigramProperty &unigramProperty = wordProperty.getUnigramProperty();
+    const std::vector<NgramProperty> &ngrams = wordProperty.getNgramProperties();
+    int flags = 0;
+    if (unigramProperty.isNotAWord()) {
+        flags |= PACKED_WORD_PROPERTY_FLAG_IS_NOT_A_WORD;
+    }
+    if (unigramProperty.isPossiblyOffensive()) {
+        flags |= PACKED_WORD_PROPERTY_FLAG_IS_POSSIBLY_OFFENSIVE;
+    }
+    if (!ngrams.empty()) {
+        flags |= PACKED_WORD_PROPERTY_FLAG_HAS_NGRAMS;
+    }
+    if (unigramProperty.hasShortcuts()) {
+        flags |= PACKED_WORD_PROPERTY_FLAG_HAS_SHORTCUTS;
+    }
+    if (unigramProperty.representsBeginningOfSentence()) {
+        flags |= PACKED_WORD_PROPERTY_FLAG_IS_BEGINNING_OF_SENTENCE;
+    }
+    outPackedWordProperties->push_back(flags);
+    packHistoricalInfo(unigramProperty.getProbability(), unigramProperty.getHistoricalInfo(),
+            outPackedWordProperties);
+
+    outPackedWordProperties->push_back(static_cast<int>(ngrams.size()));
+    for (const auto &ngramProperty : ngrams) {
+        const NgramContext *const ngramContext = ngramProperty.getNgramContext();
+        outPackedWordProperties->push_back(static_cast<int>(ngramContext->getPrevWordCount()));
+        for (size_t i = 0; i < ngramContext->getPrevWordCount(); ++i) {
+            outPackedWordProperties->push_back(
+                    ngramContext->isNthPrevWordBeginningOfSentence(i + 1) ? 1 : 0);
+            const CodePointArrayView codePoints = ngramContext->getNthPrevWordCodePoints(i + 1);
+            packCodePoints(codePoints.data(), static_cast<int>(codePoints.size()),
+                    outPackedWordProperties);
+        }
+        const std::vector<int> *const targetWordCodePoints = ngramProperty.getTargetCodePoints();
+        packCodePoints(targetWordCodePoints->data(),
+                static_cast<int>(targetWordCodePoints->size()), outPackedWordProperties);
+        packHistoricalInfo(ngramProperty.getProbability(), ngramProperty.getHistoricalInfo(),
+                outPackedWordProperties);
+    }
+
+    const std::vector<UnigramProperty::ShortcutProperty> &shortcuts =
+            unigramProperty.getShortcuts();
+    outPackedWordProperties->push_back(static_cast<int>(shortcuts.size()));
+    for (const auto &shortcut : shortcuts) {
+        const std::vector<int> *const targetCodePoints = shortcut.getTargetCodePoints();
+        packCodePoints(targetCodePoints->data(), static_cast<int>(targetCodePoints->size()),
+                outPackedWordProperties);
+        outPackedWordProperties->push_back(shortcut.getProbability());
+    }
+}
+
+// Same conversion as outputCodePoints().
+/* static */ void JniDataUtils::packCodePoints(const int *const codePoints,
+        const int codePointCount, std::vector<int> *const outPackedWordProperties) {
+    const size_t countIndex = outPackedWordProperties->size();
+    outPackedWordProperties->push_back(0);
+    int outputCodePointCount = 0;
+    for (int i = 0; i < std::min(codePointCount, MAX_WORD_LENGTH); ++i) {
+        const int codePoint = codePoints[i];
+        int codePointToOutput = codePoint;
+        if (!CharUtils::isInUnicodeSpace(codePoint)) {
+            if (codePoint == CODE_POINT_BEGINNING_OF_SENTENCE) {
+                // Just skip Beginning-of-Sentence marker.
+                continue;
+            }
+            codePointToOutput = CODE_POINT_REPLACEMENT_CHARACTER;
+        } else if (codePoint >= 0x01 && codePoint <= 0x1F) {
+            // Control code.
+            codePointToOutput = CODE_POINT_REPLACEMENT_CHARACTER;
+        }
+        outPackedWordProperties->push_back(codePointToOutput);
+        ++outputCodePointCount;
+    }
+    (*outPackedWordProperties)[countIndex] = outputCodePointCount;
+}
+
+/* static */ void JniDataUtils::packHistoricalInfo(const int probability,
+        const HistoricalInfo &historicalInfo, std::vector<int> *const outPackedWordProperties) {
+    outPackedWordProperties->push_back(probability);
+    outPackedWordProperties->push_back(historicalInfo.getTimestamp());
+    outPackedWordProperties->push_back(historicalInfo.getLevel());
+    outPackedWordProperties->push_back(historicalInfo.getCount());
+}
+
 } // namespace latinime
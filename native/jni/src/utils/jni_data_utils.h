@@ -26,6 +26,7 @@
 #include "dictionary/property/word_property.h"
 #include "jni.h"
 #include "utils/char_utils.h"
+#include "utils/int_array_view.h"
 
 namespace latinime {
 
@@ -147,11 +148,26 @@ class JniDataUtils {
             jobject outNgramTargets, jobject outNgramProbabilities, jobject outShortcutTargets,
             jobject outShortcutProbabilities);
 
+    // Appends the word property to the packed int array format read by
+    // com.android.inputmethod.latin.WordPropertyIterator.
+    static void packWordProperty(const CodePointArrayView wordCodePoints,
+            const WordProperty &wordProperty, std::vector<int> *const outPackedWordProperties);
+
  private:
     DISALLOW_IMPLICIT_CONSTRUCTORS(JniDataUtils);
 
     static const int CODE_POINT_REPLACEMENT_CHARACTER;
     static const int CODE_POINT_NULL;
+    static const int PACKED_WORD_PROPERTY_FLAG_IS_NOT_A_WORD;
+    static const int PACKED_WORD_PROPERTY_FLAG_IS_POSSIBLY_OFFENSIVE;
+    static const int PACKED_WORD_PROPERTY_FLAG_HAS_NGRAMS;
+    static const int PACKED_WORD_PROPERTY_FLAG_HAS_SHORTCUTS;
+    static const int PACKED_WORD_PROPERTY_FLAG_IS_BEGINNING_OF_SENTENCE;
+
+    static void packCodePoints(const int *const codePoints, const int codePointCount,
+            std::vector<int> *const outPackedWordProperties);
+    static void packHistoricalInfo(const int probability, const HistoricalInfo &historicalInfo,
+            std::vector<int> *const outPackedWordProperties);
 };
 } // namespace latinime
 #endif // LATINIME_JNI_DATA_UTILS_H
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "suggest/core/session/suggestion_results_cache.h"
+
+#include <gtest/gtest.h>
+
+#include <vector>
+
+#include "suggest/core/result/suggestion_results.h"
+
+namespace latinime {
+namespace {
+
+const int OPTIONS[] = { 0, 1, 0, 0, 1000 };
+const int OPTION_COUNT = NELEMS(OPTIONS);
+const float WEIGHT = 1.0f;
+const int PROXIMITY_INFO_ID = 1;
+
+void setQuery(SuggestionResultsCache *const cache, const int dictionaryGeneration,
+        const int proximityInfoId, const std::vector<int> &codePoints,
+        const std::vector<int> &xCoordinates) {
+    const std::vector<int> prevWordIds = { 1 };
+    const std::vector<int> zeros(codePoints.size(), 0);
+    cache->setQuery(dictionaryGeneration, proximityInfoId, WordIdArrayView(prevWordIds),
+            OPTIONS, OPTION_COUNT, codePoints.data(), xCoordinates.data(),
+            zeros.data() /* yCoordinates */,
+            zeros.data() /* times */, zeros.data() /* pointerIds */, codePoints.size(), WEIGHT);
+}
+
+void setQuery(SuggestionResultsCache *const cache, const int dictionaryGeneration,
+        const std::vector<int> &codePoints, const std::vector<int> &xCoordinates) {
+    setQuery(cache, dictionaryGeneration, PROXIMITY_INFO_ID, codePoints, xCoordinates);
+}
+
+void putResults(SuggestionResultsCache *const cache, const std::vector<int> &word,
+        const int score) {
+    SuggestionResults results(MAX_RESULTS);
+    results.addSuggestion(word.data(), word.size(), score, Dictionary::KIND_CORRECTION,
+            NOT_AN_INDEX, NOT_A_FIRST_WORD_CONFIDENCE);
+    results.setWeightOfLangModelVsSpatialModel(WEIGHT);
+    cache->putResults(&results);
+}
+
+TEST(SuggestionResultsCacheTest, TestExactRepeat) {
+    SuggestionResultsCache cache;
+    const std::vector<int> input = { 'h', 'e', 'l' };
+    const std::vector<int> xCoordinates = { 10, 20, 30 };
+    setQuery(&cache, 0 /* dictionaryGeneration */, input, xCoordinates);
+    SuggestionResults results(MAX_RESULTS);
+    EXPECT_FALSE(cache.outputCachedResults(&results));
+    putResults(&cache, { 'h', 'e', 'l', 'l', 'o' }, 100 /* score */);
+
+    setQuery(&cache, 0 /* dictionaryGeneration */, input, xCoordinates);
+    EXPECT_TRUE(cache.outputCachedResults(&results));
+    EXPECT_EQ(1, results.getSuggestionCount());
+    EXPECT_EQ(WEIGHT, results.getWeightOfLangModelVsSpatialModel());
+    std::vector<SuggestedWord> suggestedWords;
+    results.getSuggestedWords(&suggestedWords);
+    EXPECT_EQ(100, suggestedWords[0].getScore());
+    EXPECT_EQ(5, suggestedWords[0].getCodePointCount());
+}
+
+TEST(SuggestionResultsCacheTest, TestDifferentQueries) {
+    SuggestionResultsCache cache;
+    setQuery(&cache, 0 /* dictionaryGeneration */, { 'h', 'e' }, { 10, 20 });
+    putResults(&cache, { 'h', 'e' }, 100 /* score */);
+
+    SuggestionResults results(MAX_RESULTS);
+    // Same code points typed at another position.
+    setQuery(&cache, 0 /* dictionaryGeneration */, { 'h', 'e' }, { 10, 21 });
+    EXPECT_FALSE(cache.outputCachedResults(&results));
+    // A longer input.
+    setQuery(&cache, 0 /* dictionaryGeneration */, { 'h', 'e', 'l' }, { 10, 20, 30 });
+    EXPECT_FALSE(cache.outputCachedResults(&results));
+    // The dictionary has been updated, or replaced by another one.
+    setQuery(&cache, 1 /* dictionaryGeneration */, { 'h', 'e' }, { 10, 20 });
+    EXPECT_FALSE(cache.outputCachedResults(&results));
+    // The keyboard has been replaced by another one, even if it has the same address.
+    setQuery(&cache, 0 /* dictionaryGeneration */, PROXIMITY_INFO_ID + 1, { 'h', 'e' },
+            { 10, 20 });
+    EXPECT_FALSE(cache.outputCachedResults(&results));
+    EXPECT_EQ(0, results.getSuggestionCount());
+}
+
+TEST(SuggestionResultsCacheTest, TestEviction) {
+    static const int QUERY_COUNT = 100;
+    SuggestionResultsCache cache;
+    for (int i = 0; i < QUERY_COUNT; ++i) {
+        setQuery(&cache, 0 /* dictionaryGeneration */, { 'a' }, { i });
+        putResults(&cache, { 'a' }, i /* score */);
+    }
+    EXPECT_GT(QUERY_COUNT, cache.getEntryCount());
+
+    SuggestionResults results(MAX_RESULTS);
+    setQuery(&cache, 0 /* dictionaryGeneration */, { 'a' }, { 0 });
+    EXPECT_FALSE(cache.outputCachedResults(&results));
+    setQuery(&cache, 0 /* dictionaryGeneration */, { 'a' }, { QUERY_COUNT - 1 });
+    EXPECT_TRUE(cache.outputCachedResults(&results));
+
+    cache.clear();
+    EXPECT_EQ(0, cache.getEntryCount());
+}
+
+}  // namespace
+}  // namespace latinime
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.dictionarypack;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.os.ParcelFileDescriptor;
+import android.os.SystemClock;
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+import android.util.Log;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+@SmallTest
+public class UpdateHandlerTests extends AndroidTestCase {
+    private static final String TAG = UpdateHandlerTests.class.getSimpleName();
+    private static final String TEST_CLIENT_ID = "UpdateHandlerTests";
+    private static final String TEST_LOCALE = "zz";
+    private static final long TEST_DOWNLOAD_ID = 1;
+
+    // Stands in for DownloadManager, and serves a local file as the downloaded one.
+    private static final class LocalDownloadManagerWrapper extends DownloadManagerWrapper {
+        private final File mDownloadedFile;
+
+        public LocalDownloadManagerWrapper(final Context context, final File downloadedFile) {
+            super(context);
+            mDownloadedFile = downloadedFile;
+        }
+
+        @Override
+        public ParcelFileDescriptor openDownloadedFile(final long fileId)
+                throws FileNotFoundException {
+            assertEquals(TEST_DOWNLOAD_ID, fileId);
+            return ParcelFileDescriptor.open(mDownloadedFile, ParcelFileDescriptor.MODE_READ_ONLY);
+        }
+    }
+
+    private File mDownloadedFile;
+    private byte[] mData;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mData = new byte[100000];
+        new Random(0).nextBytes(mData);
+        mDownloadedFile = File.createTempFile("downloaded", null, getContext().getCacheDir());
+        final FileOutputStream out = new FileOutputStream(mDownloadedFile);
+        try {
+            out.write(mData);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mDownloadedFile.delete();
+        super.tearDown();
+    }
+
+    private DownloadRecord createDownloadRecord(final String checksum) {
+        final ContentValues attributes = new ContentValues();
+        attributes.put(MetadataDbHelper.STATUS_COLUMN, MetadataDbHelper.STATUS_DOWNLOADING);
+        attributes.put(MetadataDbHelper.LOCALE_COLUMN, TEST_LOCALE);
+        attributes.put(MetadataDbHelper.CHECKSUM_COLUMN, checksum);
+        return new DownloadRecord("clientId", attributes);
+    }
+
+    private static WordListMetadata createWordList(final String id, final int version,
+            final int formatVersion) {
+        return new WordListMetadata(id, MetadataDbHelper.TYPE_BULK, "Description of " + id,
+                0 /* lastUpdate */, 0 /* fileSize */, "" /* rawChecksum */, "" /* checksum */,
+                MetadataDbHelper.DICTIONARY_RETRY_THRESHOLD /* retryCount */,
+                null /* localFilename */, "http://example.com/" + id, version, formatVersion,
+                0 /* flags */, TEST_LOCALE);
+    }
+
+    private static ArrayList<WordListMetadata> createCatalog(final int size, final int version) {
+        final ArrayList<WordListMetadata> catalog = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            catalog.add(createWordList("wordlist" + i, version,
+                    UpdateHandler.MAXIMUM_SUPPORTED_FORMAT_VERSION));
+        }
+        return catalog;
+    }
+
+    private void refreshMetadata(final List<WordListMetadata> catalog) {
+        final long startTime = SystemClock.uptimeMillis();
+        UpdateHandler.computeUpgradeTo(getContext(), TEST_CLIENT_ID, catalog).execute(
+                getContext(), new ProblemReporter() {
+                    @Override
+                    public void report(final Exception e) {
+                        fail("Unexpected problem: " + e);
+                    }
+                });
+        Log.i(TAG, "Refreshing the metadata of " + catalog.size() + " word lists took "
+                + (SystemClock.uptimeMillis() - startTime) + "ms");
+    }
+
+    private byte[] readFile(final File file) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final byte[] buffer = new byte[8192];
+            for (int readBytes = in.read(buffer); readBytes >= 0; readBytes = in.read(buffer)) {
+                out.write(buffer, 0, readBytes);
+            }
+        } finally {
+            in.close();
+        }
+        return out.toByteArray();
+    }
+
+    public void testChecksumAndCopy() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final String checksum = MD5Calculator.checksumAndCopy(new ByteArrayInputStream(mData), out);
+        assertTrue(Arrays.equals(mData, out.toByteArray()));
+        assertEquals(MD5Calculator.checksum(new ByteArrayInputStream(mData)), checksum);
+    }
+
+    public void testHandleDownloadedWordList() throws IOException {
+        final String checksum = MD5Calculator.checksum(new ByteArrayInputStream(mData));
+        final DownloadRecord record = createDownloadRecord(checksum);
+        assertTrue(UpdateHandler.handleDownloadedFile(getContext(), record,
+                new LocalDownloadManagerWrapper(getContext(), mDownloadedFile),
+                TEST_DOWNLOAD_ID));
+
+        final String fileName =
+                record.mAttributes.getAsString(MetadataDbHelper.LOCAL_FILENAME_COLUMN);
+        assertNotNull(fileName);
+        final File copiedFile = getContext().getFileStreamPath(fileName);
+        try {
+            assertTrue(Arrays.equals(mData, readFile(copiedFile)));
+        } finally {
+            copiedFile.delete();
+        }
+    }
+
+    public void testHandleDownloadedWordListWithWrongChecksum() {
+        final DownloadRecord record = createDownloadRecord("0123456789abcdef0123456789abcdef");
+        assertFalse(UpdateHandler.handleDownloadedFile(getContext(), record,
+                new LocalDownloadManagerWrapper(getContext(), mDownloadedFile),
+                TEST_DOWNLOAD_ID));
+
+        final String fileName =
+                record.mAttributes.getAsString(MetadataDbHelper.LOCAL_FILENAME_COLUMN);
+        assertFalse(getContext().getFileStreamPath(fileName).exists());
+    }
+
+    public void testIndexWordListsById() {
+        final ArrayList<WordListMetadata> metadata = new ArrayList<>();
+        final WordListMetadata supported =
+                createWordList("a", 1, UpdateHandler.MAXIMUM_SUPPORTED_FORMAT_VERSION);
+        metadata.add(createWordList("a", 1, UpdateHandler.MAXIMUM_SUPPORTED_FORMAT_VERSION - 1));
+        metadata.add(supported);
+        metadata.add(createWordList("a", 1, UpdateHandler.MAXIMUM_SUPPORTED_FORMAT_VERSION + 1));
+        metadata.add(createWordList("b", 1, UpdateHandler.MAXIMUM_SUPPORTED_FORMAT_VERSION + 1));
+
+        final HashMap<String, WordListMetadata> wordListsById =
+                MetadataHandler.indexWordListsById(metadata);
+        assertEquals(1, wordListsById.size());
+        assertSame(supported, wordListsById.get("a"));
+        assertSame(MetadataHandler.findWordListById(metadata, "a"), wordListsById.get("a"));
+        assertNull(wordListsById.get("b"));
+    }
+
+    public void testRefreshLargeCatalog() {
+        final int catalogSize = 1000;
+        MetadataDbHelper.deleteClient(getContext(), TEST_CLIENT_ID);
+        try {
+            // All the word lists are new.
+            refreshMetadata(createCatalog(catalogSize, 1 /* version */));
+            assertEquals(catalogSize,
+                    MetadataHandler.getCurrentMetadata(getContext(), TEST_CLIENT_ID).size());
+            // All the word lists are updated in place.
+            refreshMetadata(createCatalog(catalogSize, 1 /* version */));
+            assertEquals(catalogSize,
+                    MetadataHandler.getCurrentMetadata(getContext(), TEST_CLIENT_ID).size());
+            // All the word lists have a new version, and the old ones are forgotten.
+            refreshMetadata(createCatalog(catalogSize, 2 /* version */));
+            final List<WordListMetadata> metadata =
+                    MetadataHandler.getCurrentMetadata(getContext(), TEST_CLIENT_ID);
+            assertEquals(catalogSize, metadata.size());
+            for (final WordListMetadata wordList : metadata) {
+                assertEquals(2, wordList.mVersion);
+            }
+        } finally {
+            MetadataDbHelper.deleteClient(getContext(), TEST_CLIENT_ID);
+        }
+    }
+}
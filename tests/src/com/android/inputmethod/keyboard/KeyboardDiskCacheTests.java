@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.test.suitebuilder.annotation.SmallTest;
+import android.view.inputmethod.EditorInfo;
+
+import com.android.inputmethod.keyboard.internal.KeyboardBuilder;
+import com.android.inputmethod.keyboard.internal.KeyboardParams;
+import com.android.inputmethod.keyboard.internal.UniqueKeysCache;
+import com.android.inputmethod.latin.R;
+import com.android.inputmethod.latin.utils.SubtypeLocaleUtils;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+@SmallTest
+public class KeyboardDiskCacheTests extends KeyboardLayoutSetTestsBase {
+    private static final String CACHE_KEY = "test";
+
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    private KeyboardParams mParams;
+    private Keyboard mKeyboard;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final KeyboardLayoutSet layoutSet = createKeyboardLayoutSet(
+                getSubtype(Locale.US, SubtypeLocaleUtils.QWERTY), new EditorInfo());
+        final KeyboardId id = layoutSet.getKeyboard(KeyboardId.ELEMENT_ALPHABET).mId;
+        mParams = new KeyboardParams();
+        final KeyboardBuilder<KeyboardParams> builder =
+                new KeyboardBuilder<>(getContext(), mParams);
+        builder.load(R.xml.kbd_qwerty, id);
+        mKeyboard = builder.build();
+    }
+
+    private ByteBuffer writeKeyboard() throws IOException {
+        return ByteBuffer.wrap(KeyboardDiskCache.writeKeyboard(CACHE_KEY, mKeyboard, mParams));
+    }
+
+    private Keyboard readKeyboard(final ByteBuffer buffer, final String cacheKey) {
+        return KeyboardDiskCache.readKeyboard(getContext(), buffer, cacheKey, mKeyboard.mId,
+                UniqueKeysCache.NO_CACHE);
+    }
+
+    public void testRoundTrip() throws IOException {
+        final Keyboard keyboard = readKeyboard(writeKeyboard(), CACHE_KEY);
+        assertNotNull(keyboard);
+        assertEquals(mKeyboard.mId, keyboard.mId);
+        assertEquals(mKeyboard.mThemeId, keyboard.mThemeId);
+        assertEquals(mKeyboard.mOccupiedWidth, keyboard.mOccupiedWidth);
+        assertEquals(mKeyboard.mOccupiedHeight, keyboard.mOccupiedHeight);
+        assertEquals(mKeyboard.mMostCommonKeyWidth, keyboard.mMostCommonKeyWidth);
+        assertEquals(mKeyboard.mMostCommonKeyHeight, keyboard.mMostCommonKeyHeight);
+        assertEquals(mKeyboard.mMoreKeysTemplate, keyboard.mMoreKeysTemplate);
+
+        final List<Key> expectedKeys = mKeyboard.getSortedKeys();
+        final List<Key> actualKeys = keyboard.getSortedKeys();
+        assertEquals(expectedKeys, actualKeys);
+        for (int i = 0; i < expectedKeys.size(); i++) {
+            final Key expectedKey = expectedKeys.get(i);
+            final Key actualKey = actualKeys.get(i);
+            assertEquals(expectedKey.isSpacer(), actualKey.isSpacer());
+            assertEquals(expectedKey.getHitBox(), actualKey.getHitBox());
+            assertEquals(expectedKey.isEnabled(), actualKey.isEnabled());
+            assertEquals(expectedKey.getAltCode(), actualKey.getAltCode());
+        }
+        assertEquals(mKeyboard.mShiftKeys, keyboard.mShiftKeys);
+        assertEquals(mKeyboard.mAltCodeKeysWhileTyping, keyboard.mAltCodeKeysWhileTyping);
+        assertTrue(Arrays.equals(mKeyboard.getProximityInfo().getGridNeighborOffsets(),
+                keyboard.getProximityInfo().getGridNeighborOffsets()));
+        assertTrue(Arrays.equals(mKeyboard.getProximityInfo().getGridNeighborKeyIndices(),
+                keyboard.getProximityInfo().getGridNeighborKeyIndices()));
+    }
+
+    public void testOtherCacheKey() throws IOException {
+        assertNull(readKeyboard(writeKeyboard(), CACHE_KEY + "2"));
+    }
+
+    public void testTruncatedData() throws IOException {
+        final ByteBuffer buffer = writeKeyboard();
+        buffer.limit(buffer.limit() / 2);
+        try {
+            readKeyboard(buffer, CACHE_KEY);
+            fail("Truncated data must not be read");
+        } catch (final BufferUnderflowException e) {
+            // Expected.
+        }
+    }
+}
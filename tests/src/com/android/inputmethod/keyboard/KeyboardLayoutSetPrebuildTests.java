@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.test.suitebuilder.annotation.SmallTest;
+import android.view.inputmethod.EditorInfo;
+
+import com.android.inputmethod.latin.utils.SubtypeLocaleUtils;
+
+import java.util.Locale;
+
+@SmallTest
+public class KeyboardLayoutSetPrebuildTests extends KeyboardLayoutSetTestsBase {
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        KeyboardLayoutSet.waitForPrebuiltKeyboardsForTests();
+        KeyboardLayoutSet.onKeyboardThemeChanged();
+        super.tearDown();
+    }
+
+    private KeyboardLayoutSet createKeyboardLayoutSet() {
+        // Each text field gets a layout set of its own.
+        return createKeyboardLayoutSet(getSubtype(Locale.US, SubtypeLocaleUtils.QWERTY),
+                new EditorInfo());
+    }
+
+    private KeyboardLayoutSet createPrebuiltKeyboardLayoutSet() {
+        final KeyboardLayoutSet layoutSet = createKeyboardLayoutSet();
+        layoutSet.getKeyboard(KeyboardId.ELEMENT_ALPHABET);
+        layoutSet.prebuildKeyboards();
+        return layoutSet;
+    }
+
+    public void testPrebuiltKeyboardsAreSharedBetweenLayoutSets() {
+        createPrebuiltKeyboardLayoutSet();
+        final int pendingCount = KeyboardLayoutSet.getPendingPrebuiltKeyboardCountForTests();
+        assertTrue(pendingCount > 0);
+        // Another layout set takes the keyboard that is being prebuilt instead of building it.
+        final Keyboard symbols =
+                createKeyboardLayoutSet().getKeyboard(KeyboardId.ELEMENT_SYMBOLS);
+        assertEquals(pendingCount - 1,
+                KeyboardLayoutSet.getPendingPrebuiltKeyboardCountForTests());
+        assertSame(symbols, createKeyboardLayoutSet().getKeyboard(KeyboardId.ELEMENT_SYMBOLS));
+    }
+
+    public void testPrebuiltKeyboardsArePublishedToCache() {
+        createPrebuiltKeyboardLayoutSet();
+        KeyboardLayoutSet.waitForPrebuiltKeyboardsForTests();
+        assertEquals(0, KeyboardLayoutSet.getPendingPrebuiltKeyboardCountForTests());
+        // The keyboards built for the first layout set are all cached, so there is nothing left
+        // to prebuild for the next one.
+        final KeyboardLayoutSet layoutSet = createPrebuiltKeyboardLayoutSet();
+        assertEquals(0, KeyboardLayoutSet.getPendingPrebuiltKeyboardCountForTests());
+        assertSame(layoutSet.getKeyboard(KeyboardId.ELEMENT_SYMBOLS),
+                createKeyboardLayoutSet().getKeyboard(KeyboardId.ELEMENT_SYMBOLS));
+    }
+
+    public void testThemeChangeDropsPrebuiltKeyboards() {
+        createPrebuiltKeyboardLayoutSet();
+        KeyboardLayoutSet.onKeyboardThemeChanged();
+        assertEquals(0, KeyboardLayoutSet.getPendingPrebuiltKeyboardCountForTests());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.test.suitebuilder.annotation.SmallTest;
+import android.view.inputmethod.EditorInfo;
+
+import com.android.inputmethod.keyboard.internal.KeyboardBuilder;
+import com.android.inputmethod.keyboard.internal.KeyboardParams;
+import com.android.inputmethod.latin.R;
+import com.android.inputmethod.latin.utils.SubtypeLocaleUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+@SmallTest
+public class ProximityInfoTests extends KeyboardLayoutSetTestsBase {
+    // Same as ProximityInfo.SEARCH_DISTANCE.
+    private static final float SEARCH_DISTANCE = 1.2f;
+
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    private KeyboardParams mParams;
+    private Keyboard mKeyboard;
+    private int mCellWidth;
+    private int mCellHeight;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final KeyboardLayoutSet layoutSet = createKeyboardLayoutSet(
+                getSubtype(Locale.US, SubtypeLocaleUtils.QWERTY), new EditorInfo());
+        final KeyboardId id = layoutSet.getKeyboard(KeyboardId.ELEMENT_ALPHABET).mId;
+        mParams = new KeyboardParams();
+        final KeyboardBuilder<KeyboardParams> builder =
+                new KeyboardBuilder<>(getContext(), mParams);
+        builder.load(R.xml.kbd_qwerty, id);
+        mKeyboard = builder.build();
+        mCellWidth = (mKeyboard.mOccupiedWidth + mParams.GRID_WIDTH - 1) / mParams.GRID_WIDTH;
+        mCellHeight = (mKeyboard.mOccupiedHeight + mParams.GRID_HEIGHT - 1) / mParams.GRID_HEIGHT;
+    }
+
+    // The neighbors of a point, found by measuring the distance to every key.
+    private int[] getExpectedNearestKeyIndices(final int x, final int y) {
+        final int threshold = (int) (mKeyboard.mMostCommonKeyWidth * SEARCH_DISTANCE);
+        final List<Key> sortedKeys = mKeyboard.getSortedKeys();
+        final int[] keyIndices = new int[sortedKeys.size()];
+        int count = 0;
+        for (int keyIndex = 0; keyIndex < sortedKeys.size(); keyIndex++) {
+            final Key key = sortedKeys.get(keyIndex);
+            if (!key.isSpacer() && key.squaredDistanceToEdge(x, y) < threshold * threshold) {
+                keyIndices[count++] = keyIndex;
+            }
+        }
+        return Arrays.copyOf(keyIndices, count);
+    }
+
+    private static int[] getNearestKeyIndices(final ProximityInfo proximityInfo, final int x,
+            final int y, final int maxCount) {
+        final int[] keyIndices = new int[maxCount];
+        final int count = proximityInfo.fillArrayWithNearestKeyIndices(x, y, keyIndices);
+        return Arrays.copyOf(keyIndices, count);
+    }
+
+    public void testNearestKeyIndicesOfCells() {
+        final ProximityInfo proximityInfo = mKeyboard.getProximityInfo();
+        final int keyCount = mKeyboard.getSortedKeys().size();
+        for (int row = 0; row < mParams.GRID_HEIGHT; row++) {
+            for (int column = 0; column < mParams.GRID_WIDTH; column++) {
+                // The neighbors of a cell are the keys close enough to its center.
+                final int centerX = column * mCellWidth + mCellWidth / 2;
+                final int centerY = row * mCellHeight + mCellHeight / 2;
+                if (centerX >= mKeyboard.mOccupiedWidth || centerY >= mKeyboard.mOccupiedHeight) {
+                    continue;
+                }
+                final int[] expectedKeyIndices = getExpectedNearestKeyIndices(centerX, centerY);
+                final String message = "cell " + column + "," + row;
+                assertTrue(message, Arrays.equals(expectedKeyIndices,
+                        getNearestKeyIndices(proximityInfo, centerX, centerY, keyCount)));
+                // Any point of the cell has the neighbors of the cell.
+                assertTrue(message, Arrays.equals(expectedKeyIndices,
+                        getNearestKeyIndices(proximityInfo, column * mCellWidth,
+                                row * mCellHeight, keyCount)));
+            }
+        }
+    }
+
+    public void testNearestKeyIndicesThatDontFit() {
+        final ProximityInfo proximityInfo = mKeyboard.getProximityInfo();
+        final int x = mKeyboard.mOccupiedWidth / 2;
+        final int y = mKeyboard.mOccupiedHeight / 2;
+        final int[] allKeyIndices =
+                getNearestKeyIndices(proximityInfo, x, y, mKeyboard.getSortedKeys().size());
+        assertTrue(allKeyIndices.length > 1);
+        assertTrue(Arrays.equals(Arrays.copyOf(allKeyIndices, 1),
+                getNearestKeyIndices(proximityInfo, x, y, 1)));
+        assertEquals(0, getNearestKeyIndices(proximityInfo, x, y, 0).length);
+    }
+
+    public void testNearestKeyIndicesOutOfGrid() {
+        final ProximityInfo proximityInfo = mKeyboard.getProximityInfo();
+        final int keyCount = mKeyboard.getSortedKeys().size();
+        assertEquals(0, getNearestKeyIndices(proximityInfo, -1, 0, keyCount).length);
+        assertEquals(0, getNearestKeyIndices(proximityInfo, 0, mKeyboard.mOccupiedHeight,
+                keyCount).length);
+
+        // The keyboard moves the points at its edges into the grid.
+        final int[] keyIndices = new int[keyCount];
+        final int count = mKeyboard.getNearestKeyIndices(-10, -10, keyIndices);
+        assertTrue(count > 0);
+        assertTrue(Arrays.equals(getNearestKeyIndices(proximityInfo, 0, 0, keyCount),
+                Arrays.copyOf(keyIndices, count)));
+    }
+}
@@ -857,6 +857,59 @@ public class BinaryDictionaryTests extends AndroidTestCase {
         assertTrue(bigramSet.isEmpty());
     }
 
+    public void testWordPropertyIterator() {
+        final Random random = new Random(123456);
+        final int UNIGRAM_COUNT = 1000;
+        final int BIGRAM_COUNT = 1000;
+        final int codePointSetSize = 20;
+        final int[] codePointSet = CodePointUtils.generateCodePointSet(codePointSetSize, random);
+        final BinaryDictionary binaryDictionary = getEmptyBinaryDictionary(FormatSpec.VERSION403);
+        assertFalse(binaryDictionary.getWordPropertyIterator().hasNext());
+
+        final ArrayList<String> words = new ArrayList<>();
+        for (int i = 0; i < UNIGRAM_COUNT; i++) {
+            final String word = CodePointUtils.generateWord(random, codePointSet);
+            final String shortcutTarget = random.nextBoolean()
+                    ? CodePointUtils.generateWord(random, codePointSet) : null;
+            binaryDictionary.addUnigramEntry(word, random.nextInt(0xFF), shortcutTarget,
+                    random.nextInt(0xF), false /* isBeginningOfSentence */,
+                    random.nextBoolean() /* isNotAWord */,
+                    random.nextBoolean() /* isPossiblyOffensive */,
+                    BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            if (binaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
+                binaryDictionary.flushWithGC();
+            }
+            words.add(word);
+        }
+        for (int i = 0; i < BIGRAM_COUNT; i++) {
+            final String word0 = words.get(random.nextInt(words.size()));
+            final String word1 = words.get(random.nextInt(words.size()));
+            addBigramWords(binaryDictionary, word0, word1, random.nextInt(0xFF));
+            if (binaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
+                binaryDictionary.flushWithGC();
+            }
+        }
+
+        final ArrayList<WordProperty> expectedWordProperties = new ArrayList<>();
+        int token = 0;
+        do {
+            final BinaryDictionary.GetNextWordPropertyResult result =
+                    binaryDictionary.getNextWordProperty(token);
+            expectedWordProperties.add(result.mWordProperty);
+            token = result.mNextToken;
+        } while (token != 0);
+        final WordPropertyIterator iterator = binaryDictionary.getWordPropertyIterator();
+        for (final WordProperty expectedWordProperty : expectedWordProperties) {
+            assertTrue(iterator.hasNext());
+            final WordProperty wordProperty = iterator.next();
+            assertEquals(expectedWordProperty, wordProperty);
+            assertEquals(expectedWordProperty.mIsBeginningOfSentence,
+                    wordProperty.mIsBeginningOfSentence);
+            assertEquals(expectedWordProperty.mHasShortcuts, wordProperty.mHasShortcuts);
+        }
+        assertFalse(iterator.hasNext());
+    }
+
     public void testAddShortcuts() {
         final BinaryDictionary binaryDictionary = getEmptyBinaryDictionary(FormatSpec.VERSION403);
 
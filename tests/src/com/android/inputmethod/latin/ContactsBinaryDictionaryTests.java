@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.provider.ContactsContract;
+import android.provider.ContactsContract.Contacts;
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.common.FileUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Tests for applying changes to the contacts to a {@link ContactsBinaryDictionary}.
+ */
+@LargeTest
+public class ContactsBinaryDictionaryTests extends AndroidTestCase {
+    private static final String DICT_NAME = "ContactsBinaryDictionaryTests";
+
+    private ContactsManager mContactsManager;
+    private File mDictFile;
+    private ContactsBinaryDictionary mDict;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mContactsManager = mock(ContactsManager.class);
+        when(mContactsManager.getValidNames(eq(ContactsContract.Profile.CONTENT_URI)))
+                .thenReturn(new ArrayList<String>());
+        mDictFile = new File(getContext().getCacheDir(),
+                DICT_NAME + ExpandableBinaryDictionary.DICT_FILE_EXTENSION);
+        FileUtils.deleteRecursively(mDictFile);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (mDict != null) {
+            mDict.close();
+            mDict.waitAllTasksForTests();
+        }
+        FileUtils.deleteRecursively(mDictFile);
+        super.tearDown();
+    }
+
+    private void setContactNames(final String... names) {
+        when(mContactsManager.getValidNames(eq(Contacts.CONTENT_URI)))
+                .thenReturn(new ArrayList<>(Arrays.asList(names)));
+    }
+
+    private void createDictionary(final String... names) {
+        setContactNames(names);
+        mDict = new ContactsBinaryDictionary(getContext(), Locale.US, mDictFile, DICT_NAME,
+                mContactsManager);
+        mDict.waitAllTasksForTests();
+    }
+
+    private void changeContacts(final String... names) {
+        setContactNames(names);
+        mDict.onContactsChange();
+        mDict.waitAllTasksForTests();
+    }
+
+    private boolean isValidBigram(final String prevWord, final String word) {
+        return mDict.getBinaryDictionary().isValidNgram(
+                new NgramContext(new WordInfo(prevWord)), word);
+    }
+
+    public void testAddAndRemoveContacts() {
+        createDictionary("Alice Smithers");
+        assertTrue(mDict.isInDictionary("Alice"));
+        assertTrue(mDict.isInDictionary("Smithers"));
+        assertTrue(isValidBigram("Alice", "Smithers"));
+        assertFalse(mDict.isInDictionary("Carol"));
+
+        changeContacts("Alice Smithers", "Carol Jones");
+        assertTrue(mDict.isInDictionary("Carol"));
+        assertTrue(mDict.isInDictionary("Jones"));
+        assertTrue(isValidBigram("Carol", "Jones"));
+        assertTrue(mDict.isInDictionary("Alice"));
+
+        changeContacts("Carol Jones");
+        assertFalse(mDict.isInDictionary("Alice"));
+        assertFalse(mDict.isInDictionary("Smithers"));
+        assertFalse(isValidBigram("Alice", "Smithers"));
+        assertTrue(mDict.isInDictionary("Carol"));
+        assertTrue(isValidBigram("Carol", "Jones"));
+    }
+
+    public void testRenameContact() {
+        createDictionary("Bob Smithers");
+        changeContacts("Robert Smithers");
+        assertFalse(mDict.isInDictionary("Bob"));
+        assertFalse(isValidBigram("Bob", "Smithers"));
+        assertTrue(mDict.isInDictionary("Robert"));
+        assertTrue(mDict.isInDictionary("Smithers"));
+        assertTrue(isValidBigram("Robert", "Smithers"));
+    }
+
+    public void testWrittenChangesArePublishedToSnapshot() {
+        createDictionary("Alice Smithers");
+        final int snapshotOpenCount = mDict.getSnapshotOpenCountForTests();
+        // Writing the changes to the file publishes them to the reads blocked by later updates.
+        changeContacts("Alice Smithers", "Carol Jones");
+        assertEquals(snapshotOpenCount + 1, mDict.getSnapshotOpenCountForTests());
+        changeContacts("Alice Smithers", "Carol Jones");
+        assertEquals(snapshotOpenCount + 1, mDict.getSnapshotOpenCountForTests());
+    }
+
+    public void testSharedWordsAreKeptUntilTheLastNameIsRemoved() {
+        createDictionary("Alice Smithers", "Bob Smithers", "Alice Smithers Junior");
+
+        // "Alice Smithers Junior" still has the words and the bigram of "Alice Smithers".
+        changeContacts("Bob Smithers", "Alice Smithers Junior");
+        assertTrue(mDict.isInDictionary("Alice"));
+        assertTrue(mDict.isInDictionary("Smithers"));
+        assertTrue(isValidBigram("Alice", "Smithers"));
+
+        // "Bob Smithers" still has "Smithers".
+        changeContacts("Bob Smithers");
+        assertFalse(mDict.isInDictionary("Alice"));
+        assertFalse(mDict.isInDictionary("Junior"));
+        assertFalse(isValidBigram("Alice", "Smithers"));
+        assertFalse(isValidBigram("Smithers", "Junior"));
+        assertTrue(mDict.isInDictionary("Smithers"));
+        assertTrue(isValidBigram("Bob", "Smithers"));
+
+        changeContacts();
+        assertFalse(mDict.isInDictionary("Bob"));
+        assertFalse(mDict.isInDictionary("Smithers"));
+    }
+}
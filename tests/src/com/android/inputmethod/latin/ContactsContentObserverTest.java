@@ -16,14 +16,18 @@
 
 package com.android.inputmethod.latin;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.validateMockitoUsage;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.content.Context;
 import android.provider.ContactsContract.Contacts;
+import android.test.suitebuilder.annotation.LargeTest;
 import android.test.suitebuilder.annotation.SmallTest;
 
 import org.junit.After;
@@ -33,6 +37,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.ArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Tests for {@link ContactsContentObserver}.
@@ -91,4 +97,37 @@ public class ContactsContentObserverTest {
         when(mMockManager.getHashCodeAtLastRebuild()).thenReturn(STALE_NAMES_LIST.hashCode());
         assertTrue(mObserver.haveContentsChanged());
     }
+
+    @Test
+    @LargeTest
+    public void testChangesAreCoalesced() throws InterruptedException {
+        // The contacts have not changed, so the checks don't notify any listener.
+        when(mMockManager.getContactCount()).thenReturn(STALE_CONTACT_COUNT);
+        when(mMockManager.getContactCountAtLastRebuild()).thenReturn(STALE_CONTACT_COUNT);
+        when(mMockManager.getValidNames(eq(Contacts.CONTENT_URI))).thenReturn(STALE_NAMES_LIST);
+        when(mMockManager.getHashCodeAtLastRebuild()).thenReturn(STALE_NAMES_LIST.hashCode());
+        final Semaphore checks = new Semaphore(0);
+        final ContactsContentObserver observer =
+                new ContactsContentObserver(mMockManager, mContext) {
+                    @Override
+                    public void run() {
+                        super.run();
+                        checks.release();
+                    }
+                };
+        final long timeout = ContactsContentObserver.CHANGE_COALESCING_DELAY_IN_MILLISECONDS * 3;
+
+        // Changes notified before the scheduled check runs are checked together.
+        observer.scheduleCheck();
+        observer.scheduleCheck();
+        observer.scheduleCheck();
+        assertTrue(checks.tryAcquire(timeout, TimeUnit.MILLISECONDS));
+        verify(mMockManager, times(1)).getContactCount();
+
+        // A change notified after the check has run needs another check.
+        observer.scheduleCheck();
+        assertTrue(checks.tryAcquire(timeout, TimeUnit.MILLISECONDS));
+        verify(mMockManager, times(2)).getContactCount();
+        assertEquals(0, checks.availablePermits());
+    }
 }
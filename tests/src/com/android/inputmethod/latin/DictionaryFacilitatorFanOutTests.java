@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.content.Context;
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.common.InputPointers;
+import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
+import com.android.inputmethod.latin.utils.SuggestionResults;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for querying the dictionaries of a facilitator in parallel.
+ */
+@LargeTest
+public class DictionaryFacilitatorFanOutTests extends AndroidTestCase {
+    private static final long DEADLINE_IN_MILLISECONDS = 50;
+    private static final long WAIT_FOR_SLOW_DICTIONARY_IN_MILLISECONDS = 5000;
+    private static final SettingsValuesForSuggestion SETTINGS_VALUES_FOR_SUGGESTION =
+            new SettingsValuesForSuggestion(false /* blockPotentiallyOffensive */);
+
+    // Like the native dictionaries, the weight of the language model vs the spatial model is
+    // computed from the input by whichever dictionary is queried first, and reused by the others.
+    private static float getWeightOfLangModelVsSpatialModel(final ComposedData composedData,
+            final float[] inOutWeightOfLangModelVsSpatialModel) {
+        if (inOutWeightOfLangModelVsSpatialModel[0]
+                == Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL) {
+            inOutWeightOfLangModelVsSpatialModel[0] = 1.0f + composedData.mTypedWord.length();
+        }
+        return inOutWeightOfLangModelVsSpatialModel[0];
+    }
+
+    private static ArrayList<SuggestedWordInfo> createSuggestions(final Dictionary dictionary,
+            final String[] words, final int[] probabilities, final ComposedData composedData,
+            final float weightForLocale, final float[] inOutWeightOfLangModelVsSpatialModel) {
+        final float weight = getWeightOfLangModelVsSpatialModel(composedData,
+                inOutWeightOfLangModelVsSpatialModel);
+        final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            suggestions.add(new SuggestedWordInfo(words[i], "" /* prevWordsContext */,
+                    (int)(probabilities[i] * weight * weightForLocale),
+                    SuggestedWordInfo.KIND_CORRECTION, dictionary,
+                    SuggestedWordInfo.NOT_AN_INDEX /* indexOfTouchPointOfSecondWord */,
+                    SuggestedWordInfo.NOT_A_CONFIDENCE /* autoCommitFirstWordConfidence */));
+        }
+        return suggestions;
+    }
+
+    private static final class TestMainDictionary extends Dictionary {
+        private final String[] mWords;
+        private final int[] mProbabilities;
+
+        public TestMainDictionary(final String[] words, final int[] probabilities) {
+            super(Dictionary.TYPE_MAIN, Locale.US);
+            mWords = words;
+            mProbabilities = probabilities;
+        }
+
+        @Override
+        public ArrayList<SuggestedWordInfo> getSuggestions(final ComposedData composedData,
+                final NgramContext ngramContext, final long proximityInfoHandle,
+                final SettingsValuesForSuggestion settingsValuesForSuggestion,
+                final int sessionId, final float weightForLocale,
+                final float[] inOutWeightOfLangModelVsSpatialModel) {
+            return createSuggestions(this, mWords, mProbabilities, composedData,
+                    weightForLocale, inOutWeightOfLangModelVsSpatialModel);
+        }
+
+        @Override
+        public boolean isInDictionary(final String word) {
+            return false;
+        }
+    }
+
+    private static final class TestSubDictionary extends ExpandableBinaryDictionary {
+        private final String[] mWords;
+        private final int[] mProbabilities;
+        // Released to let the queries return, or null for queries that return right away.
+        private final CountDownLatch mQueryLatch;
+
+        public TestSubDictionary(final Context context, final String dictType,
+                final String[] words, final int[] probabilities,
+                final CountDownLatch queryLatch) {
+            super(context, "FanOutTests." + dictType, Locale.US, dictType, null /* dictFile */);
+            mWords = words;
+            mProbabilities = probabilities;
+            mQueryLatch = queryLatch;
+        }
+
+        @Override
+        protected void loadInitialContentsLocked() {
+        }
+
+        @Override
+        public ArrayList<SuggestedWordInfo> getSuggestions(final ComposedData composedData,
+                final NgramContext ngramContext, final long proximityInfoHandle,
+                final SettingsValuesForSuggestion settingsValuesForSuggestion,
+                final int sessionId, final float weightForLocale,
+                final float[] inOutWeightOfLangModelVsSpatialModel) {
+            if (mQueryLatch != null) {
+                try {
+                    mQueryLatch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return createSuggestions(this, mWords, mProbabilities, composedData,
+                    weightForLocale, inOutWeightOfLangModelVsSpatialModel);
+        }
+    }
+
+    private DictionaryFacilitatorImpl createFacilitator(final CountDownLatch contactsQueryLatch) {
+        final DictionaryFacilitatorImpl facilitator = new DictionaryFacilitatorImpl();
+        final HashMap<String, ExpandableBinaryDictionary> subDicts = new HashMap<>();
+        subDicts.put(Dictionary.TYPE_USER_HISTORY, new TestSubDictionary(getContext(),
+                Dictionary.TYPE_USER_HISTORY, new String[] { "abc", "abd" },
+                new int[] { 30, 5 }, null /* queryLatch */));
+        subDicts.put(Dictionary.TYPE_CONTACTS, new TestSubDictionary(getContext(),
+                Dictionary.TYPE_CONTACTS, new String[] { "abe" }, new int[] { 20 },
+                contactsQueryLatch));
+        facilitator.setDictionariesForTesting(Locale.US, new TestMainDictionary(
+                new String[] { "abc", "abf", "abg" }, new int[] { 10, 25, 15 }), subDicts);
+        return facilitator;
+    }
+
+    private static ComposedData createComposedData() {
+        return new ComposedData(new InputPointers(1), false /* isBatchMode */, "ab");
+    }
+
+    private static SuggestionResults getSuggestionResults(
+            final DictionaryFacilitatorImpl facilitator) {
+        return facilitator.getSuggestionResults(createComposedData(),
+                NgramContext.BEGINNING_OF_SENTENCE, 0 /* proximityInfoHandle */,
+                SETTINGS_VALUES_FOR_SUGGESTION, 0 /* sessionId */);
+    }
+
+    private static ArrayList<String> toStrings(final SuggestionResults suggestionResults) {
+        final ArrayList<String> strings = new ArrayList<>();
+        for (final SuggestedWordInfo suggestion : suggestionResults) {
+            strings.add(suggestion.mWord + ":" + suggestion.mScore + ":"
+                    + suggestion.mSourceDict.mDictType);
+        }
+        return strings;
+    }
+
+    private static boolean containsWord(final SuggestionResults suggestionResults,
+            final String word) {
+        for (final SuggestedWordInfo suggestion : suggestionResults) {
+            if (word.equals(suggestion.mWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void testParallelResultsMatchSequentialResults() {
+        final DictionaryFacilitatorImpl facilitator = createFacilitator(null /* queryLatch */);
+        try {
+            facilitator.setSuggestionFanOutEnabled(false, DEADLINE_IN_MILLISECONDS);
+            final ArrayList<String> sequentialResults =
+                    toStrings(getSuggestionResults(facilitator));
+            // Generous deadline, so that no dictionary is left out on a slow device.
+            facilitator.setSuggestionFanOutEnabled(true, WAIT_FOR_SLOW_DICTIONARY_IN_MILLISECONDS);
+            final ArrayList<String> parallelResults = toStrings(getSuggestionResults(facilitator));
+            assertEquals(sequentialResults, parallelResults);
+            // All the words of all the dictionaries, with the best suggestion of "abc".
+            assertEquals(5, parallelResults.size());
+            assertEquals("abc:90:" + Dictionary.TYPE_USER_HISTORY, parallelResults.get(0));
+        } finally {
+            facilitator.closeDictionaries();
+        }
+    }
+
+    public void testSlowDictionaryMissesDeadline() throws InterruptedException {
+        final CountDownLatch contactsQueryLatch = new CountDownLatch(1);
+        final DictionaryFacilitatorImpl facilitator = createFacilitator(contactsQueryLatch);
+        try {
+            facilitator.setSuggestionFanOutEnabled(true, DEADLINE_IN_MILLISECONDS);
+            final long startTime = System.nanoTime();
+            final SuggestionResults missedDeadlineResults = getSuggestionResults(facilitator);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+                    < WAIT_FOR_SLOW_DICTIONARY_IN_MILLISECONDS);
+            assertFalse(containsWord(missedDeadlineResults, "abe"));
+            assertTrue(containsWord(missedDeadlineResults, "abc"));
+            assertTrue(containsWord(missedDeadlineResults, "abf"));
+
+            // The contacts dictionary is still busy with the first query, so it is skipped
+            // instead of being queried from a second thread.
+            facilitator.setSuggestionFanOutEnabled(true, WAIT_FOR_SLOW_DICTIONARY_IN_MILLISECONDS);
+            final SuggestionResults skippedResults = getSuggestionResults(facilitator);
+            assertFalse(containsWord(skippedResults, "abe"));
+            assertTrue(containsWord(skippedResults, "abf"));
+
+            // Once the first query has returned, the dictionary is queried again.
+            contactsQueryLatch.countDown();
+            final long deadline = System.nanoTime()
+                    + TimeUnit.MILLISECONDS.toNanos(WAIT_FOR_SLOW_DICTIONARY_IN_MILLISECONDS);
+            boolean hasContactsSuggestion = false;
+            while (!hasContactsSuggestion && System.nanoTime() < deadline) {
+                hasContactsSuggestion =
+                        containsWord(getSuggestionResults(facilitator), "abe");
+                if (!hasContactsSuggestion) {
+                    Thread.sleep(10);
+                }
+            }
+            assertTrue(hasContactsSuggestion);
+        } finally {
+            contactsQueryLatch.countDown();
+            facilitator.closeDictionaries();
+        }
+    }
+
+    public void testPendingQueriesOfReplacedDictionariesAreForgotten() {
+        final CountDownLatch contactsQueryLatch = new CountDownLatch(1);
+        final DictionaryFacilitatorImpl facilitator = createFacilitator(contactsQueryLatch);
+        try {
+            facilitator.setSuggestionFanOutEnabled(true, DEADLINE_IN_MILLISECONDS);
+            assertFalse(containsWord(getSuggestionResults(facilitator), "abe"));
+            assertEquals(1, facilitator.getPendingSuggestionQueryCountForTesting());
+
+            // The query of the contacts dictionary is still running, but the dictionary has been
+            // replaced.
+            facilitator.setDictionariesForTesting(Locale.US, new TestMainDictionary(
+                    new String[] { "abc" }, new int[] { 10 }),
+                    new HashMap<String, ExpandableBinaryDictionary>());
+            assertEquals(0, facilitator.getPendingSuggestionQueryCountForTesting());
+        } finally {
+            contactsQueryLatch.countDown();
+            facilitator.closeDictionaries();
+        }
+    }
+
+    public void testPendingQueriesOfClosedDictionariesAreForgotten() {
+        final CountDownLatch contactsQueryLatch = new CountDownLatch(1);
+        final DictionaryFacilitatorImpl facilitator = createFacilitator(contactsQueryLatch);
+        try {
+            facilitator.setSuggestionFanOutEnabled(true, DEADLINE_IN_MILLISECONDS);
+            assertFalse(containsWord(getSuggestionResults(facilitator), "abe"));
+            assertEquals(1, facilitator.getPendingSuggestionQueryCountForTesting());
+        } finally {
+            contactsQueryLatch.countDown();
+            facilitator.closeDictionaries();
+        }
+        assertEquals(0, facilitator.getPendingSuggestionQueryCountForTesting());
+    }
+}
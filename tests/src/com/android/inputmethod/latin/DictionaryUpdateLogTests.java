@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+@SmallTest
+public class DictionaryUpdateLogTests extends AndroidTestCase {
+    private static final NgramContext WORD_CONTEXT =
+            new NgramContext(new WordInfo("b"), new WordInfo("a"));
+
+    private File mLogFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mLogFile = File.createTempFile("DictionaryUpdateLogTests", ".log",
+                getContext().getCacheDir());
+        mLogFile.delete();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mLogFile.delete();
+        super.tearDown();
+    }
+
+    private DictionaryUpdateLog openLog(final int expectedEntryCount) {
+        final DictionaryUpdateLog log = new DictionaryUpdateLog(mLogFile);
+        final ArrayList<DictionaryUpdateLog.Entry> entries =
+                log.open(DictionaryUpdateLog.NO_CHECKPOINT);
+        assertNotNull(entries);
+        assertEquals(expectedEntryCount, entries.size());
+        return log;
+    }
+
+    private ArrayList<DictionaryUpdateLog.Entry> readLog() {
+        final DictionaryUpdateLog log = new DictionaryUpdateLog(mLogFile);
+        final ArrayList<DictionaryUpdateLog.Entry> entries =
+                log.open(DictionaryUpdateLog.NO_CHECKPOINT);
+        log.close();
+        return entries;
+    }
+
+    public void testReadAppendedEntries() {
+        final DictionaryUpdateLog log = openLog(0 /* expectedEntryCount */);
+        assertTrue(log.append(NgramContext.BEGINNING_OF_SENTENCE, "abc", true /* isValidWord */,
+                1 /* count */, 100 /* timestamp */));
+        assertTrue(log.append(NgramContext.EMPTY_PREV_WORDS_INFO, "def", false /* isValidWord */,
+                2 /* count */, 200 /* timestamp */));
+        assertTrue(log.append(WORD_CONTEXT, "ghi", true /* isValidWord */, 3 /* count */,
+                300 /* timestamp */));
+        assertEquals(3, log.getUnsyncedEntryCount());
+        assertTrue(log.sync());
+        assertEquals(0, log.getUnsyncedEntryCount());
+        assertEquals(mLogFile.length(), log.getSize());
+        log.close();
+
+        final ArrayList<DictionaryUpdateLog.Entry> entries = readLog();
+        assertEquals(3, entries.size());
+        assertEquals(NgramContext.BEGINNING_OF_SENTENCE, entries.get(0).mNgramContext);
+        assertEquals("abc", entries.get(0).mWord);
+        assertTrue(entries.get(0).mIsValidWord);
+        assertEquals(1, entries.get(0).mCount);
+        assertEquals(100, entries.get(0).mTimestamp);
+        assertEquals(NgramContext.EMPTY_PREV_WORDS_INFO, entries.get(1).mNgramContext);
+        assertEquals("def", entries.get(1).mWord);
+        assertFalse(entries.get(1).mIsValidWord);
+        assertEquals(2, entries.get(1).mCount);
+        assertEquals(200, entries.get(1).mTimestamp);
+        assertEquals(WORD_CONTEXT, entries.get(2).mNgramContext);
+        assertEquals("ghi", entries.get(2).mWord);
+        assertEquals(3, entries.get(2).mCount);
+        assertEquals(300, entries.get(2).mTimestamp);
+    }
+
+    public void testReadUnigramRemovals() {
+        final DictionaryUpdateLog log = openLog(0 /* expectedEntryCount */);
+        assertTrue(log.append(WORD_CONTEXT, "abc", true /* isValidWord */, 1 /* count */,
+                100 /* timestamp */));
+        assertTrue(log.appendUnigramRemoval("abc"));
+        assertEquals(2, log.getUnsyncedEntryCount());
+        log.close();
+
+        final ArrayList<DictionaryUpdateLog.Entry> entries = readLog();
+        assertEquals(2, entries.size());
+        assertFalse(entries.get(0).mIsUnigramRemoval);
+        assertEquals("abc", entries.get(0).mWord);
+        assertTrue(entries.get(1).mIsUnigramRemoval);
+        assertEquals("abc", entries.get(1).mWord);
+    }
+
+    public void testBrokenEndIsTruncated() throws IOException {
+        final DictionaryUpdateLog log = openLog(0 /* expectedEntryCount */);
+        log.append(WORD_CONTEXT, "abc", true /* isValidWord */, 1 /* count */,
+                100 /* timestamp */);
+        log.append(WORD_CONTEXT, "def", true /* isValidWord */, 1 /* count */,
+                200 /* timestamp */);
+        log.close();
+        final long validSize = mLogFile.length();
+
+        // Simulate an entry partially written by a killed process.
+        final FileOutputStream outputStream = new FileOutputStream(mLogFile, true /* append */);
+        try {
+            outputStream.write(new byte[] { 0, 0, 0, 20, 1, 2, 3 });
+        } finally {
+            outputStream.close();
+        }
+
+        final DictionaryUpdateLog reopenedLog = openLog(2 /* expectedEntryCount */);
+        assertEquals(validSize, mLogFile.length());
+        reopenedLog.append(WORD_CONTEXT, "ghi", true /* isValidWord */, 1 /* count */,
+                300 /* timestamp */);
+        reopenedLog.close();
+
+        final ArrayList<DictionaryUpdateLog.Entry> entries = readLog();
+        assertEquals(3, entries.size());
+        assertEquals("ghi", entries.get(2).mWord);
+    }
+
+    public void testEntriesUpToCheckpointAreSkipped() {
+        final DictionaryUpdateLog log = openLog(0 /* expectedEntryCount */);
+        log.append(WORD_CONTEXT, "abc", true /* isValidWord */, 1 /* count */,
+                100 /* timestamp */);
+        log.appendUnigramRemoval("abc");
+        log.append(WORD_CONTEXT, "def", true /* isValidWord */, 1 /* count */,
+                200 /* timestamp */);
+        assertEquals(3, log.getLastSequenceNumber());
+        log.close();
+
+        // The dictionary file has been written with the first two entries.
+        final DictionaryUpdateLog reopenedLog = new DictionaryUpdateLog(mLogFile);
+        ArrayList<DictionaryUpdateLog.Entry> entries = reopenedLog.open(2 /* checkpoint */);
+        assertEquals(1, entries.size());
+        assertEquals(3, entries.get(0).mSequenceNumber);
+        assertEquals("def", entries.get(0).mWord);
+        assertEquals(3, reopenedLog.getLastSequenceNumber());
+        reopenedLog.close();
+
+        // Entries appended after a checkpoint beyond the end of the log, as left by a log that
+        // has been emptied, are numbered after the checkpoint.
+        final DictionaryUpdateLog clearedLog = new DictionaryUpdateLog(mLogFile);
+        entries = clearedLog.open(5 /* checkpoint */);
+        assertEquals(0, entries.size());
+        clearedLog.append(WORD_CONTEXT, "ghi", true /* isValidWord */, 1 /* count */,
+                300 /* timestamp */);
+        clearedLog.close();
+        entries = readLog();
+        assertEquals(4, entries.size());
+        assertEquals(6, entries.get(3).mSequenceNumber);
+    }
+
+    public void testSyncWrittenEntries() {
+        final DictionaryUpdateLog log = openLog(0 /* expectedEntryCount */);
+        assertNull(log.writeAppendedEntries());
+        log.append(WORD_CONTEXT, "abc", true /* isValidWord */, 1 /* count */,
+                100 /* timestamp */);
+        final FileDescriptor fd = log.writeAppendedEntries();
+        assertNotNull(fd);
+        assertEquals(0, log.getUnsyncedEntryCount());
+        assertEquals(log.getSize(), mLogFile.length());
+        assertTrue(DictionaryUpdateLog.syncWrittenEntries(fd));
+        log.close();
+        // The descriptor can't be synced once the log has been closed.
+        assertFalse(DictionaryUpdateLog.syncWrittenEntries(fd));
+    }
+
+    public void testClear() {
+        final DictionaryUpdateLog log = openLog(0 /* expectedEntryCount */);
+        log.append(WORD_CONTEXT, "abc", true /* isValidWord */, 1 /* count */,
+                100 /* timestamp */);
+        log.sync();
+        log.append(WORD_CONTEXT, "def", true /* isValidWord */, 1 /* count */,
+                200 /* timestamp */);
+        assertTrue(log.clear());
+        assertEquals(0, log.getSize());
+        log.append(WORD_CONTEXT, "ghi", true /* isValidWord */, 1 /* count */,
+                300 /* timestamp */);
+        log.close();
+
+        final ArrayList<DictionaryUpdateLog.Entry> entries = readLog();
+        assertEquals(1, entries.size());
+        assertEquals("ghi", entries.get(0).mWord);
+    }
+}
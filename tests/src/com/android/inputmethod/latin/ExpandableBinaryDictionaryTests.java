@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.content.Context;
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.LruCache;
+
+import com.android.inputmethod.latin.common.FileUtils;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tests for the generations of an ExpandableBinaryDictionary, and for its reads while writers
+ * hold its lock.
+ */
+@LargeTest
+public class ExpandableBinaryDictionaryTests extends AndroidTestCase {
+    private static final int PROBABILITY = 100;
+
+    private static final class TestDictionary extends ExpandableBinaryDictionary {
+        private volatile CountDownLatch mUpdateStartedLatch;
+        private volatile CountDownLatch mUpdateLatch;
+
+        public TestDictionary(final Context context, final File dictFile) {
+            super(context, dictFile.getName(), Locale.US, Dictionary.TYPE_USER, dictFile);
+        }
+
+        @Override
+        protected void loadInitialContentsLocked() {
+        }
+
+        @Override
+        protected void addUnigramLocked(final String word, final int frequency,
+                final String shortcutTarget, final int shortcutFreq, final boolean isNotAWord,
+                final boolean isPossiblyOffensive, final int timestamp) {
+            super.addUnigramLocked(word, frequency, shortcutTarget, shortcutFreq, isNotAWord,
+                    isPossiblyOffensive, timestamp);
+            final CountDownLatch updateLatch = mUpdateLatch;
+            if (updateLatch == null) {
+                return;
+            }
+            mUpdateStartedLatch.countDown();
+            try {
+                updateLatch.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        public void addWord(final String word) {
+            addUnigramEntry(word, PROBABILITY, null /* shortcutTarget */, 0 /* shortcutFreq */,
+                    false /* isNotAWord */, false /* isPossiblyOffensive */,
+                    BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+        }
+
+        /**
+         * Adds a word with an update that keeps holding the write lock until the returned latch
+         * is released.
+         */
+        public CountDownLatch addWordAndBlock(final String word) throws InterruptedException {
+            final CountDownLatch updateLatch = new CountDownLatch(1);
+            mUpdateStartedLatch = new CountDownLatch(1);
+            mUpdateLatch = updateLatch;
+            addWord(word);
+            mUpdateStartedLatch.await();
+            mUpdateLatch = null;
+            return updateLatch;
+        }
+
+        public void flush() {
+            asyncFlushBinaryDictionary();
+            waitAllTasksForTests();
+        }
+    }
+
+    private File mDictFile;
+    private TestDictionary mDict;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mDictFile = new File(getContext().getCacheDir(),
+                "ExpandableBinaryDictionaryTests" + ExpandableBinaryDictionary.DICT_FILE_EXTENSION);
+        FileUtils.deleteRecursively(mDictFile);
+        mDict = new TestDictionary(getContext(), mDictFile);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mDict.close();
+        mDict.waitAllTasksForTests();
+        FileUtils.deleteRecursively(mDictFile);
+        super.tearDown();
+    }
+
+    public void testGenerationChangesAfterUpdates() {
+        final int initialGeneration = mDict.getGeneration();
+        mDict.addWord("alpha");
+        mDict.waitAllTasksForTests();
+        final int generationAfterAdding = mDict.getGeneration();
+        assertTrue(generationAfterAdding > initialGeneration);
+        // Reads don't change the generation.
+        assertTrue(mDict.isInDictionary("alpha"));
+        assertEquals(generationAfterAdding, mDict.getGeneration());
+        mDict.removeUnigramEntryDynamically("alpha");
+        mDict.waitAllTasksForTests();
+        final int generationAfterRemoving = mDict.getGeneration();
+        assertTrue(generationAfterRemoving > generationAfterAdding);
+        assertFalse(mDict.isInDictionary("alpha"));
+        // A dictionary that needs to be recreated, like the personal dictionary once it has been
+        // edited, is stale before the next read reloads it.
+        mDict.setNeedsToRecreate();
+        assertTrue(mDict.getGeneration() > generationAfterRemoving);
+    }
+
+    public void testFacilitatorGenerationFollowsPersonalizedDictionaries() {
+        final File contactsDictFile = new File(getContext().getCacheDir(),
+                "ExpandableBinaryDictionaryTests.contacts"
+                        + ExpandableBinaryDictionary.DICT_FILE_EXTENSION);
+        FileUtils.deleteRecursively(contactsDictFile);
+        final TestDictionary contactsDict = new TestDictionary(getContext(), contactsDictFile);
+        try {
+            final HashMap<String, ExpandableBinaryDictionary> subDicts = new HashMap<>();
+            subDicts.put(Dictionary.TYPE_USER, mDict);
+            subDicts.put(Dictionary.TYPE_CONTACTS, contactsDict);
+            final DictionaryFacilitatorImpl facilitator = new DictionaryFacilitatorImpl();
+            facilitator.setDictionariesForTesting(Locale.US, null /* mainDict */, subDicts);
+            // A dictionary created later starts with a greater generation.
+            assertEquals(contactsDict.getGeneration(),
+                    facilitator.getPersonalizedDictionariesGeneration());
+
+            // Any update of any of the dictionaries gives a new generation, as the spell checker
+            // relies on to know which of the words it cached as valid are stale.
+            int generation = facilitator.getPersonalizedDictionariesGeneration();
+            mDict.addWord("alpha");
+            mDict.waitAllTasksForTests();
+            assertTrue(facilitator.getPersonalizedDictionariesGeneration() > generation);
+            generation = facilitator.getPersonalizedDictionariesGeneration();
+            contactsDict.addWord("beta");
+            contactsDict.waitAllTasksForTests();
+            assertTrue(facilitator.getPersonalizedDictionariesGeneration() > generation);
+            generation = facilitator.getPersonalizedDictionariesGeneration();
+            contactsDict.removeUnigramEntryDynamically("beta");
+            contactsDict.waitAllTasksForTests();
+            assertTrue(facilitator.getPersonalizedDictionariesGeneration() > generation);
+        } finally {
+            contactsDict.close();
+            contactsDict.waitAllTasksForTests();
+            FileUtils.deleteRecursively(contactsDictFile);
+        }
+    }
+
+    public void testFacilitatorValidSpellingWordCacheFollowsPersonalizedDictionaries() {
+        final HashMap<String, ExpandableBinaryDictionary> subDicts = new HashMap<>();
+        subDicts.put(Dictionary.TYPE_USER, mDict);
+        final DictionaryFacilitatorImpl facilitator = new DictionaryFacilitatorImpl();
+        facilitator.setDictionariesForTesting(Locale.US, null /* mainDict */, subDicts);
+        final LruCache<String, Boolean> cache = new LruCache<>(10);
+        facilitator.setValidSpellingWordReadCache(cache);
+
+        assertFalse(facilitator.isValidSpellingWord("alpha"));
+        assertEquals(Boolean.FALSE, cache.get("alpha"));
+        // The cached answer is looked up again once the dictionary has changed.
+        mDict.addWord("alpha");
+        mDict.waitAllTasksForTests();
+        assertTrue(facilitator.isValidSpellingWord("alpha"));
+        assertEquals(Boolean.TRUE, cache.get("alpha"));
+        mDict.removeUnigramEntryDynamically("alpha");
+        mDict.waitAllTasksForTests();
+        assertFalse(facilitator.isValidSpellingWord("alpha"));
+    }
+
+    public void testSnapshotIsPublishedOnEveryWrite() {
+        mDict.addWord("alpha");
+        mDict.flush();
+        final int snapshotOpenCount = mDict.getSnapshotOpenCountForTests();
+        assertTrue(snapshotOpenCount > 0);
+        // Unblocked reads don't use the snapshot.
+        assertTrue(mDict.isInDictionary("alpha"));
+        assertEquals(PROBABILITY, mDict.getMaxFrequencyOfExactMatches("alpha"));
+        assertEquals(0, mDict.getBlockedReadCountForTests());
+        mDict.flush();
+        assertEquals(snapshotOpenCount + 1, mDict.getSnapshotOpenCountForTests());
+    }
+
+    public void testBlockedReadsUseSnapshot() throws InterruptedException {
+        mDict.addWord("alpha");
+        mDict.flush();
+
+        // A read blocked by a writer is served from the snapshot of the last write of the file,
+        // which does not have the word being added.
+        CountDownLatch updateLatch = mDict.addWordAndBlock("beta");
+        assertTrue(mDict.isInDictionary("alpha"));
+        assertEquals(PROBABILITY, mDict.getMaxFrequencyOfExactMatches("alpha"));
+        assertFalse(mDict.isInDictionary("beta"));
+        updateLatch.countDown();
+        mDict.waitAllTasksForTests();
+        assertEquals(3, mDict.getBlockedReadCountForTests());
+        // Unblocked reads see all the updates.
+        assertTrue(mDict.isInDictionary("beta"));
+
+        // The snapshot is replaced at the next write of the file.
+        mDict.flush();
+        mDict.addWord("gamma");
+        updateLatch = mDict.addWordAndBlock("delta");
+        assertTrue(mDict.isInDictionary("alpha"));
+        assertTrue(mDict.isInDictionary("beta"));
+        assertFalse(mDict.isInDictionary("gamma"));
+        updateLatch.countDown();
+        mDict.waitAllTasksForTests();
+        assertEquals(6, mDict.getBlockedReadCountForTests());
+        assertTrue(mDict.isInDictionary("gamma"));
+        assertTrue(mDict.isInDictionary("delta"));
+    }
+
+    public void testBlockedReadsUseSnapshotOfLoadedDictionary() throws InterruptedException {
+        mDict.addWord("alpha");
+        mDict.flush();
+        mDict.close();
+        mDict.waitAllTasksForTests();
+
+        // The dictionary is loaded from its file before the update that blocks reads.
+        mDict = new TestDictionary(getContext(), mDictFile);
+        final CountDownLatch updateLatch = mDict.addWordAndBlock("beta");
+        assertTrue(mDict.isInDictionary("alpha"));
+        updateLatch.countDown();
+        mDict.waitAllTasksForTests();
+        assertEquals(1, mDict.getBlockedReadCountForTests());
+        assertTrue(mDict.isInDictionary("beta"));
+    }
+}
@@ -123,6 +123,27 @@ public class NgramContextTests extends AndroidTestCase {
         assertEquals("a", ngramContext_a_empty.extractPrevWordsContextArray()[0]);
     }
 
+    public void testOutputToArray() {
+        final NgramContext ngramContext = new NgramContext(new WordInfo("b"),
+                WordInfo.EMPTY_WORD_INFO, WordInfo.BEGINNING_OF_SENTENCE_WORD_INFO);
+        final int[][] codePointArrays = new int[3][];
+        final boolean[] isBeginningOfSentenceArray = new boolean[3];
+        ngramContext.outputToArray(codePointArrays, isBeginningOfSentenceArray);
+        assertEquals(1, codePointArrays[0].length);
+        assertEquals('b', codePointArrays[0][0]);
+        assertFalse(isBeginningOfSentenceArray[0]);
+        assertEquals(0, codePointArrays[1].length);
+        assertFalse(isBeginningOfSentenceArray[1]);
+        assertEquals(0, codePointArrays[2].length);
+        assertTrue(isBeginningOfSentenceArray[2]);
+
+        // The conversion is only done once per context.
+        final int[][] secondCodePointArrays = new int[3][];
+        ngramContext.outputToArray(secondCodePointArrays, isBeginningOfSentenceArray);
+        assertSame(codePointArrays[0], secondCodePointArrays[0]);
+        assertTrue(isBeginningOfSentenceArray[2]);
+    }
+
     public void testGetNgramContextFromNthPreviousWord() {
         SpacingAndPunctuations spacingAndPunctuations = new SpacingAndPunctuations(
                 mContext.getResources());
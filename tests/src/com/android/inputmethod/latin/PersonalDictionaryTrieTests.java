@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import java.util.HashSet;
+
+@SmallTest
+public class PersonalDictionaryTrieTests extends AndroidTestCase {
+    public void testIgnoreCase() {
+        final PersonalDictionaryTrie.Builder builder =
+                new PersonalDictionaryTrie.Builder(true /* ignoresCase */);
+        builder.add("Foo", "Foo");
+        // The first entry for a key wins.
+        builder.add("foo", "foo");
+        builder.add("IŞIK", "IŞIK");
+        final PersonalDictionaryTrie trie = builder.build();
+
+        assertEquals(2, trie.size());
+        assertEquals("Foo", trie.get("foo"));
+        assertEquals("Foo", trie.get("FOO"));
+        assertEquals("IŞIK", trie.get("ışık"));
+        assertFalse(trie.contains("fo"));
+        assertFalse(trie.contains("fooo"));
+        assertFalse(trie.contains(""));
+    }
+
+    public void testMatchCase() {
+        final PersonalDictionaryTrie.Builder builder =
+                new PersonalDictionaryTrie.Builder(false /* ignoresCase */);
+        builder.add("gm", "General Motors");
+        final PersonalDictionaryTrie trie = builder.build();
+
+        assertEquals("General Motors", trie.get("gm"));
+        assertNull(trie.get("GM"));
+        final HashSet<String> keys = new HashSet<>();
+        trie.getKeys(keys);
+        assertEquals(1, keys.size());
+        assertTrue(keys.contains("gm"));
+    }
+
+    public void testPrefix() {
+        final PersonalDictionaryTrie.Builder builder =
+                new PersonalDictionaryTrie.Builder(true /* ignoresCase */);
+        builder.add("bar", "bar");
+        builder.add("Foo", "Foo");
+        builder.add("football", "football");
+        final PersonalDictionaryTrie trie = builder.build();
+
+        final HashSet<String> values = new HashSet<>();
+        trie.getValuesWithPrefix("FO", values);
+        assertEquals(2, values.size());
+        assertTrue(values.contains("Foo"));
+        assertTrue(values.contains("football"));
+
+        values.clear();
+        trie.getValuesWithPrefix("", values);
+        assertEquals(3, values.size());
+
+        values.clear();
+        trie.getValuesWithPrefix("baz", values);
+        assertTrue(values.isEmpty());
+    }
+
+    public void testEmpty() {
+        final PersonalDictionaryTrie trie =
+                new PersonalDictionaryTrie.Builder(true /* ignoresCase */).build();
+        assertEquals(0, trie.size());
+        assertNull(trie.get("foo"));
+        final HashSet<String> values = new HashSet<>();
+        trie.getValuesWithPrefix("", values);
+        assertTrue(values.isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+
+import com.android.inputmethod.latin.common.FileUtils;
+import com.android.inputmethod.latin.makedict.FormatSpec;
+import com.android.inputmethod.latin.utils.BinaryDictionaryUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+
+@LargeTest
+public class ReadOnlyBinaryDictionaryTests extends AndroidTestCase {
+    private static final String TEST_DICT_FILE_EXTENSION = ".testDict";
+    private static final String DICTIONARY_ID = "TestReadOnlyBinaryDictionary";
+
+    private File mDictFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mDictFile = File.createTempFile(DICTIONARY_ID, TEST_DICT_FILE_EXTENSION,
+                getContext().getCacheDir());
+        mDictFile.delete();
+        mDictFile.mkdir();
+        if (!BinaryDictionaryUtils.createEmptyDictFile(mDictFile.getAbsolutePath(),
+                FormatSpec.VERSION403, Locale.ENGLISH, new HashMap<String, String>())) {
+            throw new IOException("Empty dictionary " + mDictFile.getAbsolutePath()
+                    + " cannot be created.");
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        FileUtils.deleteRecursively(mDictFile);
+        super.tearDown();
+    }
+
+    private ReadOnlyBinaryDictionary openDictionary() {
+        return new ReadOnlyBinaryDictionary(mDictFile.getAbsolutePath(), 0 /* offset */,
+                mDictFile.length(), false /* useFullEditDistance */, Locale.ENGLISH,
+                Dictionary.TYPE_MAIN);
+    }
+
+    private int getUserCount() {
+        return SharedBinaryDictionaries.getUserCount(mDictFile.getAbsolutePath(),
+                0 /* offset */, mDictFile.length(), false /* useFullEditDistance */,
+                Locale.ENGLISH, Dictionary.TYPE_MAIN);
+    }
+
+    public void testSharing() {
+        final ReadOnlyBinaryDictionary first = openDictionary();
+        assertTrue(first.isValidDictionary());
+        assertEquals(1, getUserCount());
+        final ReadOnlyBinaryDictionary second = openDictionary();
+        assertTrue(second.isValidDictionary());
+        assertEquals(2, getUserCount());
+
+        first.close();
+        assertFalse(first.isValidDictionary());
+        assertTrue(second.isValidDictionary());
+        assertEquals(1, getUserCount());
+        // Closing twice must not release the reference of another user.
+        first.close();
+        assertEquals(1, getUserCount());
+
+        second.close();
+        assertFalse(second.isValidDictionary());
+        assertEquals(0, getUserCount());
+    }
+
+    public void testInvalidDictionaryIsNotShared() {
+        FileUtils.deleteRecursively(mDictFile);
+        final ReadOnlyBinaryDictionary dictionary = openDictionary();
+        assertFalse(dictionary.isValidDictionary());
+        assertEquals(0, getUserCount());
+        dictionary.close();
+    }
+}
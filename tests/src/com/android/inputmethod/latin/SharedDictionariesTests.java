@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SmallTest
+public class SharedDictionariesTests extends AndroidTestCase {
+    private static final class TestDictionary extends Dictionary {
+        public int mCloseCount = 0;
+        public boolean mIsInitialized = true;
+
+        public TestDictionary() {
+            super(Dictionary.TYPE_MAIN, Locale.US);
+        }
+
+        @Override
+        public ArrayList<SuggestedWordInfo> getSuggestions(final ComposedData composedData,
+                final NgramContext ngramContext, final long proximityInfoHandle,
+                final SettingsValuesForSuggestion settingsValuesForSuggestion,
+                final int sessionId, final float weightForLocale,
+                final float[] inOutWeightOfLangModelVsSpatialModel) {
+            return null;
+        }
+
+        @Override
+        public boolean isInDictionary(final String word) {
+            return false;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return mIsInitialized;
+        }
+
+        @Override
+        public void close() {
+            mCloseCount++;
+        }
+    }
+
+    private static class TestCreator implements SharedDictionaries.Creator {
+        public final AtomicInteger mCreateCount = new AtomicInteger();
+
+        @Override
+        public Dictionary create() {
+            mCreateCount.incrementAndGet();
+            return new TestDictionary();
+        }
+    }
+
+    private static TestDictionary acquireOrCreate(final String key, final boolean forceCreate,
+            final SharedDictionaries.Creator creator) {
+        return (TestDictionary)SharedDictionaries.acquireOrCreate(key, forceCreate, creator);
+    }
+
+    // Each test uses its own key, as the shared dictionaries are static.
+    private String getKey() {
+        return SharedDictionaries.getKey(Dictionary.TYPE_MAIN, Locale.US) + ":" + getName();
+    }
+
+    public void testIsShareable() {
+        assertTrue(SharedDictionaries.isShareable(Dictionary.TYPE_MAIN));
+        assertTrue(SharedDictionaries.isShareable(Dictionary.TYPE_CONTACTS));
+        assertTrue(SharedDictionaries.isShareable(Dictionary.TYPE_USER));
+        assertFalse(SharedDictionaries.isShareable(Dictionary.TYPE_USER_HISTORY));
+    }
+
+    public void testAcquireAndRelease() {
+        final String key = getKey();
+        assertNull(SharedDictionaries.acquire(key));
+        final TestCreator creator = new TestCreator();
+        final TestDictionary dictionary = acquireOrCreate(key, false /* forceCreate */, creator);
+        assertSame(dictionary, SharedDictionaries.acquire(key));
+        assertEquals(2, SharedDictionaries.getReferenceCount(dictionary));
+        assertEquals(1, creator.mCreateCount.get());
+
+        SharedDictionaries.release(dictionary);
+        assertEquals(0, dictionary.mCloseCount);
+        SharedDictionaries.release(dictionary);
+        assertEquals(1, dictionary.mCloseCount);
+        assertEquals(0, SharedDictionaries.getReferenceCount(dictionary));
+        assertNull(SharedDictionaries.acquire(key));
+    }
+
+    public void testReplacedDictionaryStaysOpen() {
+        final String key = getKey();
+        final TestCreator creator = new TestCreator();
+        final TestDictionary oldDictionary = acquireOrCreate(key, false /* forceCreate */, creator);
+        final TestDictionary newDictionary = acquireOrCreate(key, true /* forceCreate */, creator);
+        assertNotSame(oldDictionary, newDictionary);
+        assertSame(newDictionary, SharedDictionaries.acquire(key));
+        assertEquals(0, oldDictionary.mCloseCount);
+
+        SharedDictionaries.release(oldDictionary);
+        assertEquals(1, oldDictionary.mCloseCount);
+        SharedDictionaries.release(newDictionary);
+        SharedDictionaries.release(newDictionary);
+        assertEquals(1, newDictionary.mCloseCount);
+    }
+
+    public void testUninitializedDictionaryIsReplaced() {
+        final String key = getKey();
+        final TestCreator creator = new TestCreator();
+        final TestDictionary oldDictionary = acquireOrCreate(key, false /* forceCreate */, creator);
+        oldDictionary.mIsInitialized = false;
+        final TestDictionary newDictionary = acquireOrCreate(key, false /* forceCreate */, creator);
+        assertNotSame(oldDictionary, newDictionary);
+        assertEquals(2, creator.mCreateCount.get());
+        assertEquals(1, SharedDictionaries.getReferenceCount(oldDictionary));
+        SharedDictionaries.release(oldDictionary);
+        SharedDictionaries.release(newDictionary);
+        assertEquals(1, oldDictionary.mCloseCount);
+        assertEquals(1, newDictionary.mCloseCount);
+    }
+
+    public void testConcurrentAcquireOrCreate() throws InterruptedException {
+        final int threadCount = 8;
+        final String key = getKey();
+        final TestCreator creator = new TestCreator() {
+            @Override
+            public Dictionary create() {
+                // Leave time for the other threads to come in while the dictionary is created.
+                try {
+                    Thread.sleep(50);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.create();
+            }
+        };
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final TestDictionary[] dictionaries = new TestDictionary[threadCount];
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    dictionaries[index] = acquireOrCreate(key, false /* forceCreate */, creator);
+                }
+            });
+            threads[i].start();
+        }
+        startLatch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        // Only one instance is opened, and each thread holds a reference to it.
+        assertEquals(1, creator.mCreateCount.get());
+        for (final TestDictionary dictionary : dictionaries) {
+            assertSame(dictionaries[0], dictionary);
+        }
+        assertEquals(threadCount, SharedDictionaries.getReferenceCount(dictionaries[0]));
+        for (final TestDictionary dictionary : dictionaries) {
+            SharedDictionaries.release(dictionary);
+        }
+        assertEquals(1, dictionaries[0].mCloseCount);
+    }
+
+    public void testCreationDoesNotBlockOtherKeys() throws InterruptedException {
+        final String key = getKey();
+        final String otherKey = getKey() + ":other";
+        final CountDownLatch createStartedLatch = new CountDownLatch(1);
+        final CountDownLatch createLatch = new CountDownLatch(1);
+        final TestCreator slowCreator = new TestCreator() {
+            @Override
+            public Dictionary create() {
+                createStartedLatch.countDown();
+                try {
+                    createLatch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.create();
+            }
+        };
+        final TestDictionary[] dictionaries = new TestDictionary[2];
+        final Thread[] threads = new Thread[dictionaries.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    dictionaries[index] = acquireOrCreate(key, false /* forceCreate */,
+                            slowCreator);
+                }
+            });
+            threads[i].start();
+            if (i == 0) {
+                createStartedLatch.await();
+            }
+        }
+
+        // The dictionaries of the other keys are created, acquired and released meanwhile.
+        final TestCreator creator = new TestCreator();
+        final TestDictionary otherDictionary =
+                acquireOrCreate(otherKey, false /* forceCreate */, creator);
+        assertSame(otherDictionary, SharedDictionaries.acquire(otherKey));
+        SharedDictionaries.release(otherDictionary);
+        SharedDictionaries.release(otherDictionary);
+        assertEquals(1, otherDictionary.mCloseCount);
+        assertNull(SharedDictionaries.acquire(key));
+
+        createLatch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        // Both callers share the one dictionary that was created.
+        assertEquals(1, slowCreator.mCreateCount.get());
+        assertSame(dictionaries[0], dictionaries[1]);
+        assertEquals(2, SharedDictionaries.getReferenceCount(dictionaries[0]));
+        SharedDictionaries.release(dictionaries[0]);
+        SharedDictionaries.release(dictionaries[1]);
+        assertEquals(1, dictionaries[0].mCloseCount);
+    }
+
+    public void testReleaseDictionaryThatIsNotShared() {
+        final TestDictionary dictionary = new TestDictionary();
+        SharedDictionaries.release(dictionary);
+        assertEquals(1, dictionary.mCloseCount);
+        SharedDictionaries.release(null);
+    }
+}
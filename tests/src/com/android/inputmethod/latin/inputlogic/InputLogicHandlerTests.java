@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.inputlogic;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.common.InputPointers;
+
+import java.util.concurrent.CountDownLatch;
+
+@SmallTest
+public class InputLogicHandlerTests extends AndroidTestCase {
+    private InputLogicHandler mInputLogicHandler;
+    private CountDownLatch mHandlerThreadLatch;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mInputLogicHandler = new InputLogicHandler(null /* latinIME */,
+                new InputLogic(null /* latinIME */, null /* suggestionStripViewAccessor */,
+                        null /* dictionaryFacilitator */));
+        // Keep the handler thread busy, so that the requests stay queued. Running them would need
+        // a LatinIME.
+        final CountDownLatch handlerThreadLatch = new CountDownLatch(1);
+        mHandlerThreadLatch = handlerThreadLatch;
+        mInputLogicHandler.mNonUIThreadHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    handlerThreadLatch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mInputLogicHandler.reset();
+        mHandlerThreadLatch.countDown();
+        mInputLogicHandler.destroy();
+        super.tearDown();
+    }
+
+    private static InputPointers createBatchPointers(final int size) {
+        final InputPointers batchPointers = new InputPointers(size);
+        for (int i = 0; i < size; i++) {
+            batchPointers.addPointer(i * 10 /* x */, 0 /* y */, 0 /* pointerId */,
+                    i * 20 /* time */);
+        }
+        return batchPointers;
+    }
+
+    private boolean hasPendingRequest(final int what) {
+        return mInputLogicHandler.mNonUIThreadHandler.hasMessages(what);
+    }
+
+    public void testTailSupersedesUpdates() {
+        mInputLogicHandler.onStartBatchInput();
+        mInputLogicHandler.onUpdateBatchInput(createBatchPointers(1), 1 /* sequenceNumber */);
+        mInputLogicHandler.onUpdateBatchInput(createBatchPointers(2), 2 /* sequenceNumber */);
+        assertTrue(hasPendingRequest(
+                InputLogicHandler.MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT));
+        mInputLogicHandler.updateTailBatchInput(createBatchPointers(3), 3 /* sequenceNumber */);
+        assertFalse(hasPendingRequest(
+                InputLogicHandler.MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT));
+        assertTrue(hasPendingRequest(
+                InputLogicHandler.MSG_GET_SUGGESTED_WORDS_FOR_TAIL_BATCH_INPUT));
+    }
+
+    public void testTailIsKeptForNextGesture() {
+        mInputLogicHandler.onStartBatchInput();
+        mInputLogicHandler.onUpdateBatchInput(createBatchPointers(2), 1 /* sequenceNumber */);
+        mInputLogicHandler.updateTailBatchInput(createBatchPointers(3), 2 /* sequenceNumber */);
+        // The next gesture starts before the tail request of the previous one has run.
+        mInputLogicHandler.onStartBatchInput();
+        mInputLogicHandler.onUpdateBatchInput(createBatchPointers(1), 3 /* sequenceNumber */);
+        mInputLogicHandler.onUpdateBatchInput(createBatchPointers(2), 4 /* sequenceNumber */);
+        assertTrue(hasPendingRequest(
+                InputLogicHandler.MSG_GET_SUGGESTED_WORDS_FOR_TAIL_BATCH_INPUT));
+        assertTrue(hasPendingRequest(
+                InputLogicHandler.MSG_GET_SUGGESTED_WORDS_FOR_UPDATE_BATCH_INPUT));
+    }
+}
@@ -29,6 +29,11 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Encodes binary files for a FusionDictionary.
@@ -52,6 +57,13 @@ public class BinaryDictEncoderUtils {
     // suspicion that a bug might be causing an infinite loop.
     private static final int MAX_PASSES = 24;
 
+    // Below this number of PtNode arrays, the compression passes run on the calling thread: for
+    // small dictionaries, dispatching them to worker threads costs more than it saves.
+    private static final int MIN_PTNODE_ARRAYS_FOR_PARALLEL_PASSES = 4096;
+    // Each thread processes this many ranges of PtNode arrays per pass on average, so that
+    // ranges with a lot of attributes don't hold back the whole pass.
+    private static final int PTNODE_ARRAY_RANGES_PER_THREAD = 4;
+
     /**
      * Compute the binary size of the character array.
      *
@@ -466,6 +478,27 @@ public class BinaryDictEncoderUtils {
     /* package */ static ArrayList<PtNodeArray> computeAddresses(final FusionDictionary dict,
             final ArrayList<PtNodeArray> flatNodes,
             final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
+        final int threadCount = flatNodes.size() < MIN_PTNODE_ARRAYS_FOR_PARALLEL_PASSES ? 0
+                : Runtime.getRuntime().availableProcessors();
+        return computeAddresses(dict, flatNodes, codePointToOneByteCodeMap, threadCount);
+    }
+
+    /**
+     * Compute the addresses and sizes of an ordered list of PtNode arrays, using the given number
+     * of threads for the compression passes.
+     *
+     * With worker threads, each pass computes the size of every PtNode array from the layout of
+     * the previous pass, so that ranges of PtNode arrays can be processed independently. This
+     * takes a pass or two more but converges to the same layout as the passes on the calling
+     * thread, and the bigram targets are only looked up once.
+     *
+     * @param threadCount the number of worker threads, or 0 to run the passes on the calling
+     *   thread.
+     */
+    @UsedForTesting
+    /* package */ static ArrayList<PtNodeArray> computeAddresses(final FusionDictionary dict,
+            final ArrayList<PtNodeArray> flatNodes,
+            final HashMap<Integer, Integer> codePointToOneByteCodeMap, final int threadCount) {
         // First get the worst possible sizes and offsets
         for (final PtNodeArray n : flatNodes) {
             calculatePtNodeArrayMaximumSize(n, codePointToOneByteCodeMap);
@@ -475,6 +508,27 @@ public class BinaryDictEncoderUtils {
         MakedictLog.i("Compressing the array addresses. Original size : " + offset);
         MakedictLog.i("(Recursively seen size : " + offset + ")");
 
+        final int passes = threadCount > 0
+                ? compressAddressesInParallel(dict, flatNodes, codePointToOneByteCodeMap,
+                        threadCount)
+                : compressAddresses(dict, flatNodes, codePointToOneByteCodeMap);
+
+        final PtNodeArray lastPtNodeArray = flatNodes.get(flatNodes.size() - 1);
+        MakedictLog.i("Compression complete in " + passes + " passes.");
+        MakedictLog.i("After address compression : "
+                + (lastPtNodeArray.mCachedAddressAfterUpdate + lastPtNodeArray.mCachedSize));
+
+        return flatNodes;
+    }
+
+    /**
+     * Runs address compression passes on the calling thread until the layout converges.
+     *
+     * @return the number of passes.
+     */
+    private static int compressAddresses(final FusionDictionary dict,
+            final ArrayList<PtNodeArray> flatNodes,
+            final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
         int passes = 0;
         boolean changesDone = false;
         do {
@@ -496,13 +550,244 @@ public class BinaryDictEncoderUtils {
             ++passes;
             if (passes > MAX_PASSES) throw new RuntimeException("Too many passes - probably a bug");
         } while (changesDone);
+        return passes;
+    }
 
-        final PtNodeArray lastPtNodeArray = flatNodes.get(flatNodes.size() - 1);
-        MakedictLog.i("Compression complete in " + passes + " passes.");
-        MakedictLog.i("After address compression : "
-                + (lastPtNodeArray.mCachedAddressAfterUpdate + lastPtNodeArray.mCachedSize));
+    /**
+     * Runs address compression passes on ranges of PtNode arrays in parallel until the layout
+     * converges.
+     *
+     * The bigram targets are looked up once beforehand rather than in each pass.
+     *
+     * @return the number of passes.
+     */
+    private static int compressAddressesInParallel(final FusionDictionary dict,
+            final ArrayList<PtNodeArray> flatNodes,
+            final HashMap<Integer, Integer> codePointToOneByteCodeMap, final int threadCount) {
+        final int arrayCount = flatNodes.size();
+        final int rangeCount = Math.min(arrayCount, threadCount * PTNODE_ARRAY_RANGES_PER_THREAD);
+        final PtNode[][][] bigramTargets = new PtNode[arrayCount][][];
+        final int[][][] addressFieldOffsets = new int[arrayCount][][];
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            runOnPtNodeArrayRanges(executor, arrayCount, rangeCount, new PtNodeArrayRangeTask() {
+                @Override
+                public boolean run(final int start, final int end) {
+                    for (int i = start; i < end; ++i) {
+                        bigramTargets[i] = findBigramTargets(dict, flatNodes.get(i));
+                        addressFieldOffsets[i] = initializeAddressFieldOffsets(flatNodes.get(i),
+                                codePointToOneByteCodeMap);
+                    }
+                    return false;
+                }
+            });
+            final PtNodeArrayRangeTask computeSizesTask = new PtNodeArrayRangeTask() {
+                @Override
+                public boolean run(final int start, final int end) {
+                    boolean changed = false;
+                    for (int i = start; i < end; ++i) {
+                        changed |= computePtNodeArraySizeFromPreviousLayout(flatNodes.get(i),
+                                bigramTargets[i], addressFieldOffsets[i],
+                                codePointToOneByteCodeMap);
+                    }
+                    return changed;
+                }
+            };
+            int passes = 0;
+            boolean changesDone = false;
+            do {
+                changesDone = runOnPtNodeArrayRanges(executor, arrayCount, rangeCount,
+                        computeSizesTask);
+                int ptNodeArrayStartOffset = 0;
+                for (final PtNodeArray ptNodeArray : flatNodes) {
+                    ptNodeArray.mCachedAddressAfterUpdate = ptNodeArrayStartOffset;
+                    int ptNodeOffset = ptNodeArrayStartOffset + getPtNodeCountSize(ptNodeArray);
+                    for (final PtNode ptNode : ptNodeArray.mData) {
+                        ptNode.mCachedAddressAfterUpdate = ptNodeOffset;
+                        ptNodeOffset += ptNode.mCachedSize;
+                    }
+                    ptNodeArrayStartOffset += ptNodeArray.mCachedSize;
+                }
+                updatePtNodeArraysCachedAddresses(flatNodes);
+                ++passes;
+                if (passes > MAX_PASSES) {
+                    throw new RuntimeException("Too many passes - probably a bug");
+                }
+            } while (changesDone);
+            return passes;
+        } finally {
+            executor.shutdown();
+        }
+    }
 
-        return flatNodes;
+    private interface PtNodeArrayRangeTask {
+        /**
+         * Processes the PtNode arrays from start (inclusive) to end (exclusive).
+         *
+         * @return whether anything changed.
+         */
+        boolean run(int start, int end);
+    }
+
+    /**
+     * Splits [0, arrayCount) into rangeCount ranges and runs the task on all of them.
+     *
+     * @return true if the task returned true for any of the ranges.
+     */
+    private static boolean runOnPtNodeArrayRanges(final ExecutorService executor,
+            final int arrayCount, final int rangeCount, final PtNodeArrayRangeTask task) {
+        final ArrayList<Future<Boolean>> futures = new ArrayList<>(rangeCount);
+        for (int range = 0; range < rangeCount; ++range) {
+            final int start = (int) ((long) arrayCount * range / rangeCount);
+            final int end = (int) ((long) arrayCount * (range + 1) / rangeCount);
+            futures.add(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return task.run(start, end);
+                }
+            }));
+        }
+        boolean result = false;
+        try {
+            for (final Future<Boolean> future : futures) {
+                result |= future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while computing addresses", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Finds the target PtNodes of the bigrams of each PtNode in a node array.
+     *
+     * @return an array indexed like the PtNodes of the node array, holding null for PtNodes
+     *   without bigrams, or null if no PtNode of the array has bigrams.
+     */
+    private static PtNode[][] findBigramTargets(final FusionDictionary dict,
+            final PtNodeArray ptNodeArray) {
+        PtNode[][] targets = null;
+        final int ptNodeCount = ptNodeArray.mData.size();
+        for (int i = 0; i < ptNodeCount; ++i) {
+            final ArrayList<WeightedString> bigrams = ptNodeArray.mData.get(i).mBigrams;
+            if (null == bigrams || bigrams.isEmpty()) continue;
+            if (null == targets) {
+                targets = new PtNode[ptNodeCount][];
+            }
+            final PtNode[] bigramTargets = new PtNode[bigrams.size()];
+            for (int j = 0; j < bigramTargets.length; ++j) {
+                bigramTargets[j] =
+                        FusionDictionary.findWordInTree(dict.mRootNodeArray, bigrams.get(j).mWord);
+            }
+            targets[i] = bigramTargets;
+        }
+        return targets;
+    }
+
+    /**
+     * Computes where the addresses of each PtNode of a node array start in the layout of
+     * {@link #calculatePtNodeArrayMaximumSize}, relative to the start of the PtNode.
+     *
+     * @return an array indexed like the PtNodes of the node array, holding for each PtNode the
+     *   offset of its children address followed by the offsets of its bigram addresses.
+     */
+    private static int[][] initializeAddressFieldOffsets(final PtNodeArray ptNodeArray,
+            final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
+        final int ptNodeCount = ptNodeArray.mData.size();
+        final int[][] addressFieldOffsets = new int[ptNodeCount][];
+        for (int i = 0; i < ptNodeCount; ++i) {
+            final PtNode ptNode = ptNodeArray.mData.get(i);
+            final int bigramCount = null == ptNode.mBigrams ? 0 : ptNode.mBigrams.size();
+            final int[] offsets = new int[1 + bigramCount];
+            int nodeSize = getNodeHeaderSize(ptNode, codePointToOneByteCodeMap);
+            if (ptNode.isTerminal()) {
+                nodeSize += FormatSpec.PTNODE_FREQUENCY_SIZE;
+            }
+            offsets[0] = nodeSize;
+            nodeSize += FormatSpec.PTNODE_MAX_ADDRESS_SIZE;
+            nodeSize += getShortcutListSize(ptNode.mShortcutTargets,
+                    null /* codePointToOneByteCodeMap */);
+            for (int j = 0; j < bigramCount; ++j) {
+                nodeSize += FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE;
+                offsets[1 + j] = nodeSize;
+                nodeSize += FormatSpec.PTNODE_ATTRIBUTE_MAX_ADDRESS_SIZE;
+            }
+            addressFieldOffsets[i] = offsets;
+        }
+        return addressFieldOffsets;
+    }
+
+    /**
+     * Computes the size of a node array from the layout of the previous pass.
+     *
+     * Unlike {@link #computeActualPtNodeArraySize}, this only reads the BeforeUpdate addresses,
+     * so it can run on all node arrays at the same time. Both ends of every offset are taken
+     * from the previous layout: the address of the target, and the address of the PtNode plus
+     * the offset of the address inside the PtNode in that layout. As no address field grows
+     * from one pass to the next, no offset does either, and the sizes computed here decrease
+     * until they are exact.
+     *
+     * @param ptNodeArray the node array to compute the size of.
+     * @param bigramTargets the bigram targets of its PtNodes, as returned by
+     *   {@link #findBigramTargets}.
+     * @param addressFieldOffsets the offsets of the addresses inside each PtNode in the previous
+     *   layout, as returned by {@link #initializeAddressFieldOffsets}. They are updated to the
+     *   new layout.
+     * @return whether the size of the node array or of any of its PtNodes changed.
+     */
+    private static boolean computePtNodeArraySizeFromPreviousLayout(
+            final PtNodeArray ptNodeArray, final PtNode[][] bigramTargets,
+            final int[][] addressFieldOffsets,
+            final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
+        boolean changed = false;
+        int size = getPtNodeCountSize(ptNodeArray);
+        final int ptNodeCount = ptNodeArray.mData.size();
+        for (int i = 0; i < ptNodeCount; ++i) {
+            final PtNode ptNode = ptNodeArray.mData.get(i);
+            final int ptNodeAddress = ptNode.mCachedAddressBeforeUpdate;
+            final int[] offsets = addressFieldOffsets[i];
+            int nodeSize = getNodeHeaderSize(ptNode, codePointToOneByteCodeMap);
+            if (ptNode.isTerminal()) {
+                nodeSize += FormatSpec.PTNODE_FREQUENCY_SIZE;
+            }
+            if (null != ptNode.mChildren) {
+                final int offset = ptNode.mChildren.mCachedAddressBeforeUpdate
+                        - (ptNodeAddress + offsets[0]);
+                offsets[0] = nodeSize;
+                nodeSize += getByteSize(offset);
+            }
+            // TODO: Use codePointToOneByteCodeMap for shortcuts.
+            nodeSize += getShortcutListSize(ptNode.mShortcutTargets,
+                    null /* codePointToOneByteCodeMap */);
+            if (null != bigramTargets && null != bigramTargets[i]) {
+                for (int j = 0; j < bigramTargets[i].length; ++j) {
+                    final int offset = bigramTargets[i][j].mCachedAddressBeforeUpdate
+                            - (ptNodeAddress + offsets[1 + j]);
+                    nodeSize += FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE;
+                    offsets[1 + j] = nodeSize;
+                    nodeSize += getByteSize(offset);
+                }
+            }
+            if (ptNode.mCachedSize != nodeSize) {
+                ptNode.mCachedSize = nodeSize;
+                changed = true;
+            }
+            size += nodeSize;
+        }
+        if (ptNodeArray.mCachedSize != size) {
+            if (ptNodeArray.mCachedSize < size) {
+                throw new RuntimeException("Increased size ?!");
+            }
+            ptNodeArray.mCachedSize = size;
+            changed = true;
+        }
+        return changed;
     }
 
     /**
@@ -530,12 +530,23 @@ public final class FusionDictionary implements Iterable<WordProperty> {
      * Finds the insertion index of a character within a node array.
      */
     private static int findInsertionIndex(final PtNodeArray nodeArray, int character) {
+        // This is called for each character of each added word, so binary search on the first
+        // characters directly rather than allocating a reference PtNode for the comparator.
         final ArrayList<PtNode> data = nodeArray.mData;
-        final PtNode reference = new PtNode(new int[] { character },
-                null /* shortcutTargets */, null /* bigrams */, null /* probabilityInfo */,
-                false /* isNotAWord */, false /* isPossiblyOffensive */);
-        int result = Collections.binarySearch(data, reference, PTNODE_COMPARATOR);
-        return result >= 0 ? result : -result - 1;
+        int low = 0;
+        int high = data.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midCharacter = data.get(mid).mChars[0];
+            if (midCharacter < character) {
+                low = mid + 1;
+            } else if (midCharacter > character) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return low;
     }
 
     /**
@@ -18,6 +18,7 @@ package com.android.inputmethod.latin.makedict;
 
 import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.WordPropertyIterator;
 import com.android.inputmethod.latin.common.FileUtils;
 
 import java.io.File;
@@ -64,22 +65,18 @@ public class Ver4DictDecoder extends AbstractDictDecoder {
         final DictionaryHeader header = readHeader();
         final FusionDictionary fusionDict =
                 new FusionDictionary(new FusionDictionary.PtNodeArray(), header.mDictionaryOptions);
-        int token = 0;
-        final ArrayList<WordProperty> wordProperties = new ArrayList<>();
-        do {
-            final BinaryDictionary.GetNextWordPropertyResult result =
-                    binaryDictionary.getNextWordProperty(token);
-            final WordProperty wordProperty = result.mWordProperty;
-            if (wordProperty == null) {
-                binaryDictionary.close();
-                if (deleteDictIfBroken) {
-                    FileUtils.deleteRecursively(mDictDirectory);
-                }
-                return null;
+        if (!binaryDictionary.isValidDictionary()) {
+            binaryDictionary.close();
+            if (deleteDictIfBroken) {
+                FileUtils.deleteRecursively(mDictDirectory);
             }
-            wordProperties.add(wordProperty);
-            token = result.mNextToken;
-        } while (token != 0);
+            return null;
+        }
+        final ArrayList<WordProperty> wordProperties = new ArrayList<>();
+        final WordPropertyIterator iterator = binaryDictionary.getWordPropertyIterator();
+        while (iterator.hasNext()) {
+            wordProperties.add(iterator.next());
+        }
 
         // Insert unigrams into the fusion dictionary.
         for (final WordProperty wordProperty : wordProperties) {
@@ -20,12 +20,21 @@ import android.test.AndroidTestCase;
 import android.test.suitebuilder.annotation.LargeTest;
 import android.util.Log;
 
+import com.android.inputmethod.latin.BinaryDictionary;
 import com.android.inputmethod.latin.ExpandableBinaryDictionary;
+import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.NgramContext.WordInfo;
 import com.android.inputmethod.latin.utils.BinaryDictionaryUtils;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for UserHistoryDictionary
@@ -210,4 +219,182 @@ public class UserHistoryDictionaryTests extends AndroidTestCase {
                 numberOfWords, random, true /* checksContents */, mCurrentTime));
         assertDictionaryExists(dict, dictFile);
     }
-}
\ No newline at end of file
+
+    public void testRemovalsAreReplayedFromUpdateLog() {
+        final Locale dummyLocale =
+                UserHistoryDictionaryTestsHelper.getDummyLocale("removals_replayed");
+        final String dictName = UserHistoryDictionary.getUserHistoryDictName(
+                UserHistoryDictionary.NAME, dummyLocale, null /* dictFile */, TEST_ACCOUNT);
+        final File dictFile = ExpandableBinaryDictionary.getDictFile(
+                mContext, dictName, null /* dictFile */);
+        final File updateLogFile = new File(dictFile.getPath() + ".log");
+        final UserHistoryDictionary dict = PersonalizationHelper.getUserHistoryDictionary(
+                getContext(), dummyLocale, TEST_ACCOUNT);
+        clearHistory(dict);
+        UserHistoryDictionary.addToDictionary(dict, NgramContext.BEGINNING_OF_SENTENCE,
+                "kept", true /* isValid */, mCurrentTime);
+        UserHistoryDictionary.addToDictionary(dict, NgramContext.BEGINNING_OF_SENTENCE,
+                "removed", true /* isValid */, mCurrentTime);
+        dict.asyncFlushBinaryDictionary();
+        dict.waitAllTasksForTests();
+        assertTrue(dict.isInDictionary("removed"));
+
+        // The removal is only in the update log, as the dictionary file is not written again.
+        dict.removeUnigramEntryDynamically("removed");
+        dict.waitAllTasksForTests();
+        assertFalse(dict.isInDictionary("removed"));
+        dict.close();
+        dict.waitAllTasksForTests();
+        assertTrue(updateLogFile.length() > 0);
+
+        // Reloading the dictionary from its file replays the removal.
+        dict.reloadDictionaryIfRequired();
+        dict.waitAllTasksForTests();
+        assertTrue(dict.isInDictionary("kept"));
+        assertFalse(dict.isInDictionary("removed"));
+        clearHistory(dict);
+    }
+
+    private static byte[] readFile(final File file) throws IOException {
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            final byte[] contents = new byte[(int)randomAccessFile.length()];
+            randomAccessFile.readFully(contents);
+            return contents;
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private static void writeFile(final File file, final byte[] contents) throws IOException {
+        final FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(contents);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    public void testUpdateLogEntriesInDictionaryFileAreSkipped() throws IOException {
+        final Locale dummyLocale =
+                UserHistoryDictionaryTestsHelper.getDummyLocale("update_log_checkpoint");
+        final String dictName = UserHistoryDictionary.getUserHistoryDictName(
+                UserHistoryDictionary.NAME, dummyLocale, null /* dictFile */, TEST_ACCOUNT);
+        final File dictFile = ExpandableBinaryDictionary.getDictFile(
+                mContext, dictName, null /* dictFile */);
+        final File updateLogFile = new File(dictFile.getPath() + ".log");
+        final UserHistoryDictionary dict = PersonalizationHelper.getUserHistoryDictionary(
+                getContext(), dummyLocale, TEST_ACCOUNT);
+        clearHistory(dict);
+        UserHistoryDictionary.addToDictionary(dict, NgramContext.BEGINNING_OF_SENTENCE,
+                "added", true /* isValid */, mCurrentTime);
+        dict.close();
+        dict.waitAllTasksForTests();
+        final byte[] logWithAddition = readFile(updateLogFile);
+        assertTrue(logWithAddition.length > 0);
+
+        // Writing the dictionary file with the removal too empties the log.
+        dict.removeUnigramEntryDynamically("added");
+        dict.asyncFlushBinaryDictionary();
+        dict.waitAllTasksForTests();
+        assertFalse(dict.isInDictionary("added"));
+        assertEquals(0, updateLogFile.length());
+        dict.close();
+        dict.waitAllTasksForTests();
+
+        // Simulate the process being killed before the log was emptied. The addition is behind
+        // the checkpoint of the dictionary file, so it is not applied again on top of the
+        // removal.
+        writeFile(updateLogFile, logWithAddition);
+        dict.reloadDictionaryIfRequired();
+        dict.waitAllTasksForTests();
+        assertFalse(dict.isInDictionary("added"));
+        clearHistory(dict);
+    }
+
+    public void testReadsDuringUpdates() throws InterruptedException {
+        final int numberOfInitialWords = 100;
+        final int numberOfAddedWords = 5000;
+        final int numberOfReaders = 3;
+        final Locale dummyLocale =
+                UserHistoryDictionaryTestsHelper.getDummyLocale("reads_during_updates");
+        final String dictName = UserHistoryDictionary.getUserHistoryDictName(
+                UserHistoryDictionary.NAME, dummyLocale, null /* dictFile */, TEST_ACCOUNT);
+        final File dictFile = ExpandableBinaryDictionary.getDictFile(
+                mContext, dictName, null /* dictFile */);
+        final UserHistoryDictionary dict = PersonalizationHelper.getUserHistoryDictionary(
+                getContext(), dummyLocale, TEST_ACCOUNT);
+        clearHistory(dict);
+        final Random random = new Random(123456);
+        final List<String> initialWords =
+                UserHistoryDictionaryTestsHelper.generateWords(numberOfInitialWords, random);
+        for (final String word : initialWords) {
+            UserHistoryDictionary.addToDictionary(dict, NgramContext.BEGINNING_OF_SENTENCE,
+                    word, true /* isValid */, mCurrentTime);
+        }
+        dict.asyncFlushBinaryDictionary();
+        dict.waitAllTasksForTests();
+        // Generated words are made of letters only, so these are never added.
+        final String[] absentWords = { "0", "1", "42" };
+
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+        final AtomicInteger readCount = new AtomicInteger(0);
+        final AtomicInteger failedReadCount = new AtomicInteger(0);
+        final AtomicInteger missedReadCount = new AtomicInteger(0);
+        final Thread[] readers = new Thread[numberOfReaders];
+        for (int i = 0; i < numberOfReaders; i++) {
+            readers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    int index = 0;
+                    while (isWriting.get()) {
+                        final String word = initialWords.get(index % numberOfInitialWords);
+                        // Whether served from the dictionary or from a snapshot, reads must find
+                        // the words written before and must not see words that were not added.
+                        if (!dict.isInDictionary(word)) {
+                            missedReadCount.incrementAndGet();
+                        }
+                        if (dict.isInDictionary(absentWords[index % absentWords.length])) {
+                            failedReadCount.incrementAndGet();
+                        }
+                        readCount.incrementAndGet();
+                        index++;
+                    }
+                }
+            });
+            readers[i].start();
+        }
+
+        final List<String> addedWords =
+                UserHistoryDictionaryTestsHelper.generateWords(numberOfAddedWords, random);
+        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
+                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        for (final String word : addedWords) {
+            dict.addNgramEntry(ngramContext, word, 100 /* frequency */, mCurrentTime);
+            ngramContext = ngramContext.getNextNgramContext(new WordInfo(word));
+        }
+        // Readers keep running until all the updates have been applied and written.
+        dict.asyncFlushBinaryDictionary();
+        dict.waitAllTasksForTests();
+        isWriting.set(false);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        Log.d(TAG, "testReadsDuringUpdates: " + readCount.get() + " reads, "
+                + dict.getBlockedReadCountForTests() + " blocked, "
+                + missedReadCount.get() + " missed, "
+                + dict.getSnapshotOpenCountForTests() + " snapshots");
+        assertTrue(readCount.get() > 0);
+        assertEquals(0, failedReadCount.get());
+        assertEquals(0, missedReadCount.get());
+        // Snapshots are opened from the dictionary file, so nothing else is written.
+        for (final File file : dictFile.getParentFile().listFiles()) {
+            final String fileName = file.getName();
+            if (fileName.startsWith(dictFile.getName())) {
+                assertTrue(fileName, fileName.equals(dictFile.getName())
+                        || fileName.equals(dictFile.getName() + ".log"));
+            }
+        }
+        clearHistory(dict);
+    }
+}
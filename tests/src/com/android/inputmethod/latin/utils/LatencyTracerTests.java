@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.utils;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+@SmallTest
+public class LatencyTracerTests extends AndroidTestCase {
+    private int mSamplingInterval;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mSamplingInterval = LatencyTracer.getSamplingInterval();
+        LatencyTracer.reset();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        LatencyTracer.reset();
+        LatencyTracer.setSamplingInterval(mSamplingInterval);
+        super.tearDown();
+    }
+
+    public void testPercentiles() {
+        for (int i = 100; i >= 1; i--) {
+            LatencyTracer.record(LatencyTracer.STAGE_SUGGEST, i);
+        }
+        LatencyTracer.record(LatencyTracer.STAGE_TOUCH_EVENT, 1000);
+        assertEquals(50, LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_SUGGEST, 50));
+        assertEquals(95, LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_SUGGEST, 95));
+        assertEquals(99, LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_SUGGEST, 99));
+        assertEquals(1000,
+                LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_TOUCH_EVENT, 50));
+        assertEquals(0, LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_CODE_INPUT, 50));
+    }
+
+    public void testSampling() {
+        LatencyTracer.setSamplingInterval(4);
+        int sampledCount = 0;
+        for (int i = 0; i < 16; i++) {
+            if (LatencyTracer.start(LatencyTracer.STAGE_SUGGEST) != LatencyTracer.NOT_SAMPLED) {
+                sampledCount++;
+            }
+        }
+        assertEquals(4, sampledCount);
+
+        LatencyTracer.setSamplingInterval(0);
+        assertEquals(LatencyTracer.NOT_SAMPLED, LatencyTracer.start(LatencyTracer.STAGE_SUGGEST));
+    }
+
+    public void testOldRecordsAreOverwritten() {
+        for (int i = 0; i < 10000; i++) {
+            LatencyTracer.record(LatencyTracer.STAGE_SUGGEST, 1);
+        }
+        for (int i = 0; i < 10000; i++) {
+            LatencyTracer.record(LatencyTracer.STAGE_CODE_INPUT, 2);
+        }
+        assertEquals(0, LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_SUGGEST, 99));
+        assertEquals(2, LatencyTracer.getPercentileInNanos(LatencyTracer.STAGE_CODE_INPUT, 99));
+    }
+}
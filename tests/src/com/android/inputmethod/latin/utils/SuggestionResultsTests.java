@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.utils;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests for {@link SuggestionResults}.
+ */
+@SmallTest
+public class SuggestionResultsTests extends AndroidTestCase {
+    private static SuggestedWordInfo createInfo(final String word, final int score) {
+        return new SuggestedWordInfo(word, "" /* prevWordsContext */, score,
+                SuggestedWordInfo.KIND_CORRECTION, null /* sourceDict */,
+                SuggestedWordInfo.NOT_AN_INDEX, SuggestedWordInfo.NOT_A_CONFIDENCE);
+    }
+
+    private static SuggestionResults createResults(final int capacity) {
+        return new SuggestionResults(capacity, false /* isBeginningOfSentence */,
+                false /* firstSuggestionExceedsConfidenceThreshold */);
+    }
+
+    private static List<String> getWords(final SuggestionResults results) {
+        final ArrayList<String> words = new ArrayList<>();
+        for (final SuggestedWordInfo info : results) {
+            words.add(info.mWord);
+        }
+        return words;
+    }
+
+    public void testOrder() {
+        final SuggestionResults results = createResults(10);
+        results.add(createInfo("b", 10));
+        results.add(createInfo("aa", 20));
+        results.add(createInfo("c", 20));
+        results.add(createInfo("a", 20));
+        results.add(createInfo("d", 30));
+        // Higher scores first, then shorter words, then alphabetical order.
+        assertEquals(Arrays.asList("d", "a", "c", "aa", "b"), getWords(results));
+        assertEquals("d", results.first().mWord);
+        assertEquals(5, results.size());
+    }
+
+    public void testCapacity() {
+        final SuggestionResults results = createResults(3);
+        assertTrue(results.add(createInfo("a", 10)));
+        assertTrue(results.add(createInfo("b", 20)));
+        assertTrue(results.add(createInfo("c", 30)));
+        assertTrue(results.add(createInfo("d", 40)));
+        assertFalse(results.add(createInfo("e", 5)));
+        assertEquals(Arrays.asList("d", "c", "b"), getWords(results));
+    }
+
+    public void testDuplicates() {
+        final SuggestionResults results = createResults(3);
+        assertTrue(results.add(createInfo("a", 10)));
+        assertTrue(results.add(createInfo("b", 20)));
+        assertFalse(results.add(createInfo("a", 5)));
+        assertEquals(2, results.size());
+        assertTrue(results.add(createInfo("a", 30)));
+        assertEquals(Arrays.asList("a", "b"), getWords(results));
+        assertEquals(30, results.first().mScore);
+    }
+
+    public void testEmpty() {
+        final SuggestionResults results = createResults(3);
+        assertTrue(results.isEmpty());
+        assertFalse(results.iterator().hasNext());
+        try {
+            results.first();
+            fail("first() should throw on empty results");
+        } catch (final NoSuchElementException e) {
+            // Expected
+        }
+        assertFalse(results.addAll(null));
+    }
+
+    public void testAddAfterIterating() {
+        final SuggestionResults results = createResults(3);
+        results.add(createInfo("a", 10));
+        assertEquals("a", results.first().mWord);
+        results.add(createInfo("b", 20));
+        assertEquals("b", results.first().mWord);
+        final Iterator<SuggestedWordInfo> iterator = results.iterator();
+        assertEquals("b", iterator.next().mWord);
+        assertEquals("a", iterator.next().mWord);
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testRandomCandidates() {
+        final int capacity = 18;
+        final Random random = new Random(42);
+        for (int round = 0; round < 100; ++round) {
+            final SuggestionResults results = createResults(capacity);
+            final ArrayList<SuggestedWordInfo> bestInfos = new ArrayList<>();
+            for (int i = 0; i < 4 * capacity; ++i) {
+                final SuggestedWordInfo info =
+                        createInfo("word" + random.nextInt(2 * capacity), random.nextInt(100));
+                results.add(info);
+                // Keep the best suggestion for each word.
+                boolean isNewWord = true;
+                for (int j = 0; j < bestInfos.size(); ++j) {
+                    if (bestInfos.get(j).mWord.equals(info.mWord)) {
+                        isNewWord = false;
+                        if (new SuggestionResults.SuggestedWordInfoComparator().compare(
+                                info, bestInfos.get(j)) < 0) {
+                            bestInfos.set(j, info);
+                        }
+                    }
+                }
+                if (isNewWord) {
+                    bestInfos.add(info);
+                }
+            }
+            Collections.sort(bestInfos, new SuggestionResults.SuggestedWordInfoComparator());
+            final ArrayList<SuggestedWordInfo> actualInfos = new ArrayList<>(results);
+            assertEquals(Math.min(capacity, bestInfos.size()), actualInfos.size());
+            for (int i = 0; i < actualInfos.size(); ++i) {
+                assertSame(bestInfos.get(i), actualInfos.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+#
+# Copyright (C) 2015 The Android Open Source Project
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#      http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+# Only build if it's explicitly requested, or running mm/mmm.
+ifneq ($(ONE_SHOT_MAKEFILE)$(filter $(MAKECMDGOALS),latinime_benchmark_aosp),)
+
+# HACK: Temporarily disable host tool build on Mac until the build system is ready for C++11.
+LATINIME_HOST_OSNAME := $(shell uname -s)
+ifeq ($(LATINIME_HOST_OSNAME), Darwin) # TODO: Remove this
+$(warning latinime_benchmark_aosp is not supported on $(LATINIME_HOST_OSNAME))
+else # TODO: Remove this
+
+LATINIME_BENCHMARK_AOSP_LOCAL_PATH := $(call my-dir)
+# The native library is built from the same makefile as Dicttool's, under its own name so that
+# both tools can be built in the same tree.
+LATINIME_HOST_NATIVE_LIBNAME := liblatinime-aosp-benchmark-host
+include $(LATINIME_BENCHMARK_AOSP_LOCAL_PATH)/../dicttool/NativeLib.mk
+
+######################################
+LOCAL_PATH := $(LATINIME_BENCHMARK_AOSP_LOCAL_PATH)
+include $(CLEAR_VARS)
+
+LATINIME_LOCAL_DIR := ../..
+LATINIME_BASE_SRC_DIR := $(LATINIME_LOCAL_DIR)/java/src/com/android/inputmethod
+LATINIME_BASE_OVERRIDABLE_SRC_DIR := \
+        $(LATINIME_LOCAL_DIR)/java-overridable/src/com/android/inputmethod
+LATINIME_TESTS_SRC_DIR := $(LATINIME_LOCAL_DIR)/tests/src/com/android/inputmethod/latin
+DICTTOOL_DIR := ../dicttool
+
+# Dependencies for the benchmarks. This is the set of files Dicttool uses to run BinaryDictionary
+# on the host, plus the Java side of the suggestion pipeline that runs without a keyboard. The
+# Android dependencies are mocked in Dicttool's compat/ directory, except for the name of the
+# native library and AndroidTestCase that are overridden in our own compat/ directory.
+LATINIME_SRC_FILES_FOR_BENCHMARK := \
+        latin/BinaryDictionary.java \
+        latin/DicTraverseSession.java \
+        latin/Dictionary.java \
+        latin/NgramContext.java \
+        latin/SuggestedWords.java \
+        latin/WordPropertyIterator.java \
+        latin/makedict/DictionaryHeader.java \
+        latin/makedict/FormatSpec.java \
+        latin/makedict/NgramProperty.java \
+        latin/makedict/ProbabilityInfo.java \
+        latin/makedict/UnsupportedFormatException.java \
+        latin/makedict/WeightedString.java \
+        latin/makedict/WordProperty.java \
+        latin/settings/SettingsValuesForSuggestion.java \
+        latin/utils/BinaryDictionaryUtils.java \
+        latin/utils/CombinedFormatUtils.java \
+        latin/utils/JniUtils.java \
+        latin/utils/SuggestionResults.java
+
+LATINIME_OVERRIDABLE_SRC_FILES_FOR_BENCHMARK := \
+        latin/define/DebugFlags.java \
+        latin/define/DecoderSpecificConstants.java \
+        latin/define/ProductionFlags.java
+
+LATINIME_TEST_SRC_FILES_FOR_BENCHMARK := \
+        utils/ByteArrayDictBuffer.java
+
+DICTTOOL_SRC_FILES_FOR_BENCHMARK := \
+        src/com/android/inputmethod/latin/dicttool/CombinedInputOutput.java
+
+USED_TARGETED_SRC_FILES := \
+        $(addprefix $(LATINIME_BASE_SRC_DIR)/, $(LATINIME_SRC_FILES_FOR_BENCHMARK)) \
+        $(addprefix $(LATINIME_BASE_OVERRIDABLE_SRC_DIR)/, \
+                $(LATINIME_OVERRIDABLE_SRC_FILES_FOR_BENCHMARK)) \
+        $(addprefix $(LATINIME_TESTS_SRC_DIR)/, $(LATINIME_TEST_SRC_FILES_FOR_BENCHMARK)) \
+        $(addprefix $(DICTTOOL_DIR)/, $(DICTTOOL_SRC_FILES_FOR_BENCHMARK)) \
+        $(call all-java-files-under, $(LATINIME_TESTS_SRC_DIR)/makedict)
+
+LOCAL_COMPAT_SRC_FILES := $(call all-java-files-under, compat)
+
+LOCAL_SRC_FILES := $(call all-java-files-under, src) \
+        $(LOCAL_COMPAT_SRC_FILES) \
+        $(filter-out $(addprefix %/, $(notdir $(LOCAL_COMPAT_SRC_FILES))), \
+                $(call all-java-files-under, $(DICTTOOL_DIR)/compat)) \
+        $(USED_TARGETED_SRC_FILES)
+
+LOCAL_JAVA_RESOURCE_DIRS := res
+LOCAL_JAVA_LIBRARIES := junit-host
+LOCAL_STATIC_JAVA_LIBRARIES := jsr305lib latinime-common-host jmh-core-host
+LOCAL_ANNOTATION_PROCESSORS := jmh-generator-annprocess-host
+LOCAL_ANNOTATION_PROCESSOR_CLASSES := org.openjdk.jmh.generators.BenchmarkProcessor
+LOCAL_REQUIRED_MODULES := $(LATINIME_HOST_NATIVE_LIBNAME)
+LOCAL_JAR_MANIFEST := etc/manifest.txt
+LOCAL_MODULE := latinime_benchmark_aosp
+
+include $(BUILD_HOST_JAVA_LIBRARY)
+include $(LOCAL_PATH)/etc/Android.mk
+
+endif # Darwin - TODO: Remove this
+
+# Clear our private variables
+LATINIME_BENCHMARK_AOSP_LOCAL_PATH :=
+LATINIME_LOCAL_DIR :=
+LATINIME_HOST_OSNAME :=
+DICTTOOL_DIR :=
+
+endif
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package android.test;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * This is a compatibility class that aims at emulating android.test.AndroidTestcase from the
+ * Android library as simply as possible, and only to the extent that is used by the client classes.
+ * Dicttool's version keeps its files in the temporary directory of its test command, which the
+ * benchmarks don't have, so this one uses a temporary directory of its own.
+ */
+public class AndroidTestCase extends TestCase {
+    private static File sCacheDir;
+
+    public File getCacheDir() {
+        synchronized (AndroidTestCase.class) {
+            if (sCacheDir == null) {
+                try {
+                    sCacheDir = Files.createTempDirectory("latinime_benchmark").toFile();
+                } catch (final IOException e) {
+                    throw new RuntimeException("Can't create the cache directory", e);
+                }
+                sCacheDir.deleteOnExit();
+            }
+            return sCacheDir;
+        }
+    }
+
+    public AndroidTestCase getContext() {
+        return this;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.benchmark;
+
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.Dictionary;
+import com.android.inputmethod.latin.common.LocaleUtils;
+import com.android.inputmethod.latin.dicttool.CombinedInputOutput;
+import com.android.inputmethod.latin.makedict.DictionaryHeader;
+import com.android.inputmethod.latin.makedict.FormatSpec;
+import com.android.inputmethod.latin.makedict.FusionDictionary;
+import com.android.inputmethod.latin.makedict.NgramProperty;
+import com.android.inputmethod.latin.makedict.WeightedString;
+import com.android.inputmethod.latin.makedict.WordProperty;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Builds the dictionaries the benchmarks run against from the word lists in dictionaries/.
+ */
+public final class BenchmarkDictionaries {
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private BenchmarkDictionaries() {
+        // This utility class is not publicly instantiable.
+    }
+
+    /**
+     * Reads a word list in the combined format, optionally gzipped, and returns it as an opened
+     * main dictionary.
+     *
+     * The dictionary is written in the dynamic format under the given directory, so it goes
+     * through the same native reading code as the user dictionaries. The caller must close it.
+     *
+     * @param combinedFilePath the path of the word list.
+     * @param workDir the directory to write the dictionary to.
+     * @return the dictionary, or null if it could not be built.
+     */
+    public static BinaryDictionary openMainDictionary(final String combinedFilePath,
+            final File workDir) throws IOException {
+        final FusionDictionary fusionDict = readCombinedDictionary(combinedFilePath);
+        final HashMap<String, String> attributes = fusionDict.mOptions.mAttributes;
+        final String localeString = attributes.get(DictionaryHeader.DICTIONARY_LOCALE_KEY);
+        final Locale locale = null == localeString ? Locale.ROOT
+                : LocaleUtils.constructLocaleFromString(localeString);
+        final File dictFile = new File(workDir, new File(combinedFilePath).getName() + ".dict");
+        final BinaryDictionary binaryDict = new BinaryDictionary(dictFile.getAbsolutePath(),
+                false /* useFullEditDistance */, locale, Dictionary.TYPE_MAIN,
+                FormatSpec.VERSION4, attributes);
+        for (final WordProperty wordProperty : fusionDict) {
+            final WeightedString shortcut = wordProperty.mShortcutTargets.isEmpty() ? null
+                    : wordProperty.mShortcutTargets.get(0);
+            binaryDict.addUnigramEntry(wordProperty.mWord, wordProperty.getProbability(),
+                    null == shortcut ? null : shortcut.mWord,
+                    null == shortcut ? 0 : shortcut.getProbability(),
+                    wordProperty.mIsBeginningOfSentence, wordProperty.mIsNotAWord,
+                    wordProperty.mIsPossiblyOffensive, BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            if (binaryDict.needsToRunGC(true /* mindsBlockByGC */)) {
+                binaryDict.flushWithGC();
+            }
+        }
+        // N-grams can only be added once all their words are in the dictionary.
+        for (final WordProperty wordProperty : fusionDict) {
+            if (!wordProperty.mHasNgrams) {
+                continue;
+            }
+            for (final NgramProperty ngram : wordProperty.mNgrams) {
+                binaryDict.addNgramEntry(ngram.mNgramContext, ngram.mTargetWord.mWord,
+                        ngram.mTargetWord.getProbability(),
+                        BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+                if (binaryDict.needsToRunGC(true /* mindsBlockByGC */)) {
+                    binaryDict.flushWithGC();
+                }
+            }
+        }
+        if (!binaryDict.flushWithGC()) {
+            binaryDict.close();
+            return null;
+        }
+        return binaryDict;
+    }
+
+    private static FusionDictionary readCombinedDictionary(final String combinedFilePath)
+            throws IOException {
+        final InputStream fileStream = new FileInputStream(combinedFilePath);
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                combinedFilePath.endsWith(GZIP_SUFFIX) ? new GZIPInputStream(fileStream)
+                        : fileStream, "UTF-8"))) {
+            return CombinedInputOutput.readDictionaryCombined(reader);
+        }
+    }
+}
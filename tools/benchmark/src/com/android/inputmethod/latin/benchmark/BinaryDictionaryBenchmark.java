@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.android.inputmethod.latin.benchmark;
+
+import com.android.inputmethod.keyboard.ProximityInfo;
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.Dictionary;
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.benchmark.InputSession.Query;
+import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays recorded input sessions against a real main dictionary, one suggestion query per
+ * benchmark invocation.
+ *
+ * This measures BinaryDictionary#getSuggestions as the keyboard calls it: marshalling of the
+ * input and the n-gram context to the native side, the native search, and the conversion of the
+ * results to SuggestedWordInfo objects. Sample time mode reports the latency percentiles of a
+ * single keystroke (or of a single gesture); run with "-prof gc" to get the allocation rate.
+ *
+ * The dictionary path is relative to the current directory, so run from the root of the
+ * LatinIME tree or pass "-p dictionary=<path>".
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BinaryDictionaryBenchmark {
+    private static final String INPUT_TYPE_TYPING = "typing";
+    private static final String INPUT_TYPE_GESTURE = "gesture";
+    private static final int SESSION_ID = 0;
+    private static final float WEIGHT_FOR_LOCALE = 1.0f;
+
+    @Param("dictionaries/en_US_wordlist.combined.gz")
+    public String dictionary;
+
+    @Param("en_US.txt")
+    public String session;
+
+    @Param({ INPUT_TYPE_TYPING, INPUT_TYPE_GESTURE })
+    public String inputType;
+
+    private File mWorkDir;
+    private BinaryDictionary mDictionary;
+    private ProximityInfo mProximityInfo;
+    private List<Query> mQueries;
+    private int mNextQueryIndex;
+    private final SettingsValuesForSuggestion mSettingsValuesForSuggestion =
+            new SettingsValuesForSuggestion(true /* blockPotentiallyOffensive */);
+    private final float[] mWeightOfLangModelVsSpatialModel = new float[1];
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final HostKeyboardLayout layout = new HostKeyboardLayout();
+        final InputSession inputSession = InputSession.load(session, layout);
+        mQueries = INPUT_TYPE_GESTURE.equals(inputType) ? inputSession.getGestureQueries()
+                : inputSession.getTypingQueries();
+        if (mQueries.isEmpty()) {
+            throw new IllegalStateException("No " + inputType + " input in session " + session);
+        }
+        mWorkDir = Files.createTempDirectory("latinime-benchmark").toFile();
+        mDictionary = BenchmarkDictionaries.openMainDictionary(dictionary, mWorkDir);
+        if (null == mDictionary) {
+            throw new IllegalStateException("Can't build a dictionary from " + dictionary);
+        }
+        mProximityInfo = layout.createProximityInfo();
+        mNextQueryIndex = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (null != mProximityInfo) {
+            mProximityInfo.close();
+        }
+        if (null != mDictionary) {
+            mDictionary.close();
+        }
+        if (null != mWorkDir) {
+            deleteRecursively(mWorkDir);
+        }
+    }
+
+    private static void deleteRecursively(final File file) {
+        final File[] children = file.listFiles();
+        if (null != children) {
+            for (final File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    @Benchmark
+    public ArrayList<SuggestedWordInfo> replayNextInput() {
+        final Query query = mQueries.get(mNextQueryIndex);
+        mNextQueryIndex = (mNextQueryIndex + 1) % mQueries.size();
+        mWeightOfLangModelVsSpatialModel[0] =
+                Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL;
+        return mDictionary.getSuggestions(query.mComposedData, query.mNgramContext,
+                mProximityInfo.getNativeProximityInfo(), mSettingsValuesForSuggestion,
+                SESSION_ID, WEIGHT_FOR_LOCALE, mWeightOfLangModelVsSpatialModel);
+    }
+}
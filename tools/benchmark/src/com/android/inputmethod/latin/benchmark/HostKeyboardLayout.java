@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.benchmark;
+
+import com.android.inputmethod.keyboard.ProximityInfo;
+import com.android.inputmethod.latin.common.Constants;
+
+/**
+ * A phone-sized QWERTY layout used to turn recorded text into touch coordinates on the host.
+ *
+ * The geometry is close to the default portrait keyboard of a 1080 pixels wide device: ten keys
+ * on the top row, each of the other letter rows shifted by half a key, and a space bar.
+ */
+public final class HostKeyboardLayout {
+    private static final String[] ROWS = { "qwertyuiop", "asdfghjkl", "zxcvbnm" };
+    private static final int KEY_WIDTH = 108;
+    private static final int KEY_HEIGHT = 162;
+    private static final int KEYBOARD_WIDTH = KEY_WIDTH * 10;
+    private static final int KEYBOARD_HEIGHT = KEY_HEIGHT * (ROWS.length + 1);
+    private static final int SPACE_KEY_X = KEY_WIDTH * 3;
+    private static final int SPACE_KEY_WIDTH = KEY_WIDTH * 4;
+    // Same values as config_keyboard_grid_width and config_keyboard_grid_height.
+    private static final int GRID_WIDTH = 32;
+    private static final int GRID_HEIGHT = 16;
+
+    private final int[] mKeyXCoordinates;
+    private final int[] mKeyYCoordinates;
+    private final int[] mKeyWidths;
+    private final int[] mKeyHeights;
+    private final int[] mKeyCodes;
+
+    public HostKeyboardLayout() {
+        int keyCount = 1; // The space key
+        for (final String row : ROWS) {
+            keyCount += row.length();
+        }
+        mKeyXCoordinates = new int[keyCount];
+        mKeyYCoordinates = new int[keyCount];
+        mKeyWidths = new int[keyCount];
+        mKeyHeights = new int[keyCount];
+        mKeyCodes = new int[keyCount];
+        int keyIndex = 0;
+        for (int rowIndex = 0; rowIndex < ROWS.length; ++rowIndex) {
+            final String row = ROWS[rowIndex];
+            final int rowOffset = rowIndex * KEY_WIDTH / 2;
+            for (int i = 0; i < row.length(); ++i) {
+                setKey(keyIndex++, row.charAt(i), rowOffset + i * KEY_WIDTH,
+                        rowIndex * KEY_HEIGHT, KEY_WIDTH);
+            }
+        }
+        setKey(keyIndex, Constants.CODE_SPACE, SPACE_KEY_X, ROWS.length * KEY_HEIGHT,
+                SPACE_KEY_WIDTH);
+    }
+
+    private void setKey(final int keyIndex, final int code, final int x, final int y,
+            final int width) {
+        mKeyXCoordinates[keyIndex] = x;
+        mKeyYCoordinates[keyIndex] = y;
+        mKeyWidths[keyIndex] = width;
+        mKeyHeights[keyIndex] = KEY_HEIGHT;
+        mKeyCodes[keyIndex] = code;
+    }
+
+    private int getKeyIndex(final int codePoint) {
+        final int code = Character.toLowerCase(codePoint);
+        for (int i = 0; i < mKeyCodes.length; ++i) {
+            if (mKeyCodes[i] == code) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the x coordinate of the center of the key for the code point, or
+     * {@link Constants#NOT_A_COORDINATE} if there is no such key.
+     */
+    public int getKeyCenterX(final int codePoint) {
+        final int keyIndex = getKeyIndex(codePoint);
+        if (keyIndex < 0) {
+            return Constants.NOT_A_COORDINATE;
+        }
+        return mKeyXCoordinates[keyIndex] + mKeyWidths[keyIndex] / 2;
+    }
+
+    /**
+     * @return the y coordinate of the center of the key for the code point, or
+     * {@link Constants#NOT_A_COORDINATE} if there is no such key.
+     */
+    public int getKeyCenterY(final int codePoint) {
+        final int keyIndex = getKeyIndex(codePoint);
+        if (keyIndex < 0) {
+            return Constants.NOT_A_COORDINATE;
+        }
+        return mKeyYCoordinates[keyIndex] + mKeyHeights[keyIndex] / 2;
+    }
+
+    /**
+     * Creates the native proximity info for this layout. The caller must close it.
+     */
+    public ProximityInfo createProximityInfo() {
+        return new ProximityInfo(KEYBOARD_WIDTH, KEYBOARD_HEIGHT, GRID_WIDTH, GRID_HEIGHT,
+                KEY_WIDTH, KEY_HEIGHT, mKeyXCoordinates, mKeyYCoordinates, mKeyWidths,
+                mKeyHeights, mKeyCodes);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.benchmark;
+
+import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.InputPointers;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A recorded input session, turned into the suggestion queries the keyboard would issue.
+ *
+ * A session is a text file with one input per line. Empty lines and lines starting with '#' are
+ * ignored.
+ * <ul>
+ * <li>{@code type <word>} types the word one key at a time; there is one query per keystroke,
+ * made of all the touches so far.</li>
+ * <li>{@code gesture <word>} draws the word as a straight trail through the centers of its keys;
+ * there is one query for the whole trail.</li>
+ * <li>{@code trail <word> <x>,<y>,<time> ...} replays a gesture trail recorded on a device with
+ * the same layout; there is one query for the whole trail.</li>
+ * <li>{@code .} ends the sentence.</li>
+ * </ul>
+ * Each word becomes the previous word of the next input, so the queries carry the same n-gram
+ * context as they would on the device.
+ */
+public final class InputSession {
+    private static final String COMMENT_LINE_STARTER = "#";
+    private static final String END_OF_SENTENCE = ".";
+    private static final String TYPE = "type";
+    private static final String GESTURE = "gesture";
+    private static final String TRAIL = "trail";
+    private static final String SESSION_RESOURCE_DIR = "/sessions/";
+
+    private static final int POINTER_ID = 0;
+    private static final int KEYSTROKE_INTERVAL_IN_MILLISECONDS = 150;
+    private static final int GESTURE_SAMPLES_PER_KEY = 8;
+    private static final int GESTURE_SAMPLE_INTERVAL_IN_MILLISECONDS = 8;
+
+    public static final class Query {
+        public final ComposedData mComposedData;
+        public final NgramContext mNgramContext;
+
+        Query(final ComposedData composedData, final NgramContext ngramContext) {
+            mComposedData = composedData;
+            mNgramContext = ngramContext;
+        }
+    }
+
+    private final ArrayList<Query> mTypingQueries = new ArrayList<>();
+    private final ArrayList<Query> mGestureQueries = new ArrayList<>();
+
+    private InputSession() {
+        // Use {@link #load(String, HostKeyboardLayout)}.
+    }
+
+    /**
+     * Loads a session, either from a file or from the sessions bundled with the benchmarks.
+     *
+     * @param name the path of a session file, or the name of a bundled session.
+     * @param layout the layout used to compute the coordinates of typed and gestured words.
+     */
+    public static InputSession load(final String name, final HostKeyboardLayout layout)
+            throws IOException {
+        final File file = new File(name);
+        try (final InputStream stream = file.isFile() ? new FileInputStream(file)
+                : InputSession.class.getResourceAsStream(SESSION_RESOURCE_DIR + name)) {
+            if (null == stream) {
+                throw new IOException("Can't find session " + name);
+            }
+            final InputSession session = new InputSession();
+            session.read(new BufferedReader(new InputStreamReader(stream, "UTF-8")), layout);
+            return session;
+        }
+    }
+
+    private void read(final BufferedReader reader, final HostKeyboardLayout layout)
+            throws IOException {
+        NgramContext ngramContext = NgramContext.BEGINNING_OF_SENTENCE;
+        String line;
+        int lineNumber = 0;
+        while (null != (line = reader.readLine())) {
+            ++lineNumber;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_LINE_STARTER)) {
+                continue;
+            }
+            if (END_OF_SENTENCE.equals(line)) {
+                ngramContext = NgramContext.BEGINNING_OF_SENTENCE;
+                continue;
+            }
+            final String[] args = line.split("\\s+");
+            if (args.length < 2) {
+                throw new IOException("Malformed input at line " + lineNumber + ": " + line);
+            }
+            final String word = args[1];
+            switch (args[0]) {
+            case TYPE:
+                addTypingQueries(word, ngramContext, layout);
+                break;
+            case GESTURE:
+                mGestureQueries.add(new Query(new ComposedData(
+                        getGestureTrail(word, layout), true /* isBatchMode */, word),
+                        ngramContext));
+                break;
+            case TRAIL:
+                mGestureQueries.add(new Query(new ComposedData(
+                        parseTrail(args, lineNumber), true /* isBatchMode */, word),
+                        ngramContext));
+                break;
+            default:
+                throw new IOException("Unknown input at line " + lineNumber + ": " + args[0]);
+            }
+            ngramContext = ngramContext.getNextNgramContext(new WordInfo(word));
+        }
+    }
+
+    private void addTypingQueries(final String word, final NgramContext ngramContext,
+            final HostKeyboardLayout layout) {
+        // Like WordComposer, each query owns a snapshot of the touches typed so far.
+        final InputPointers touches = new InputPointers(word.length());
+        int time = 0;
+        int touchIndex = 0;
+        for (int index = 0; index < word.length(); index = word.offsetByCodePoints(index, 1)) {
+            final int codePoint = word.codePointAt(index);
+            final int end = word.offsetByCodePoints(index, 1);
+            touches.addPointerAt(touchIndex++, layout.getKeyCenterX(codePoint),
+                    layout.getKeyCenterY(codePoint), POINTER_ID, time);
+            time += KEYSTROKE_INTERVAL_IN_MILLISECONDS;
+            final InputPointers snapshot = new InputPointers(touches.getPointerSize());
+            snapshot.copy(touches);
+            mTypingQueries.add(new Query(new ComposedData(snapshot, false /* isBatchMode */,
+                    word.substring(0, end)), ngramContext));
+        }
+    }
+
+    private static InputPointers getGestureTrail(final String word,
+            final HostKeyboardLayout layout) {
+        final InputPointers trail = new InputPointers(word.length() * GESTURE_SAMPLES_PER_KEY);
+        int lastX = Constants.NOT_A_COORDINATE;
+        int lastY = Constants.NOT_A_COORDINATE;
+        int time = 0;
+        for (int index = 0; index < word.length(); index = word.offsetByCodePoints(index, 1)) {
+            final int codePoint = word.codePointAt(index);
+            final int x = layout.getKeyCenterX(codePoint);
+            final int y = layout.getKeyCenterY(codePoint);
+            if (Constants.NOT_A_COORDINATE == x) {
+                // Characters that are not on the layout are not gestured.
+                continue;
+            }
+            if (Constants.NOT_A_COORDINATE == lastX) {
+                trail.addPointer(x, y, POINTER_ID, time);
+            } else {
+                for (int i = 1; i <= GESTURE_SAMPLES_PER_KEY; ++i) {
+                    time += GESTURE_SAMPLE_INTERVAL_IN_MILLISECONDS;
+                    trail.addPointer(lastX + (x - lastX) * i / GESTURE_SAMPLES_PER_KEY,
+                            lastY + (y - lastY) * i / GESTURE_SAMPLES_PER_KEY, POINTER_ID, time);
+                }
+            }
+            lastX = x;
+            lastY = y;
+        }
+        return trail;
+    }
+
+    private static InputPointers parseTrail(final String[] args, final int lineNumber)
+            throws IOException {
+        final InputPointers trail = new InputPointers(args.length - 2);
+        for (int i = 2; i < args.length; ++i) {
+            final String[] point = args[i].split(",");
+            if (point.length != 3) {
+                throw new IOException("Malformed trail point at line " + lineNumber + ": "
+                        + args[i]);
+            }
+            try {
+                trail.addPointer(Integer.parseInt(point[0]), Integer.parseInt(point[1]),
+                        POINTER_ID, Integer.parseInt(point[2]));
+            } catch (final NumberFormatException e) {
+                throw new IOException("Malformed trail point at line " + lineNumber + ": "
+                        + args[i], e);
+            }
+        }
+        return trail;
+    }
+
+    /**
+     * @return the queries issued while typing, one per keystroke.
+     */
+    public List<Query> getTypingQueries() {
+        return Collections.unmodifiableList(mTypingQueries);
+    }
+
+    /**
+     * @return the queries issued at the end of each gesture, one per gestured word.
+     */
+    public List<Query> getGestureQueries() {
+        return Collections.unmodifiableList(mGestureQueries);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.android.inputmethod.latin.benchmark;
+
+import com.android.inputmethod.latin.SuggestedWords;
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.utils.SuggestionResults;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the merge of the per-dictionary suggestions into the bounded SuggestionResults, as
+ * done by DictionaryFacilitatorImpl for every suggestion query, against the TreeSet-based
+ * implementation it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SuggestionResultsBenchmark {
+    // Fixed so that every run merges the same suggestions.
+    private static final long RANDOM_SEED = 42;
+    private static final int MAX_SCORE = 2000000;
+    // Dictionaries often suggest the same words, so the candidates are drawn from a pool that is
+    // smaller than the total number of candidates.
+    private static final int DISTINCT_WORD_COUNT = 40;
+
+    // The main, contacts, user history and personal dictionaries.
+    @Param("4")
+    public int dictionaryCount;
+
+    private final ArrayList<ArrayList<SuggestedWordInfo>> mSuggestionsPerDictionary =
+            new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(RANDOM_SEED);
+        final ArrayList<String> words = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_WORD_COUNT; ++i) {
+            words.add("word" + i);
+        }
+        for (int i = 0; i < dictionaryCount; ++i) {
+            // The native side returns at most as many suggestions as the keyboard shows, each
+            // word at most once.
+            Collections.shuffle(words, random);
+            final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>();
+            for (int j = 0; j < SuggestedWords.MAX_SUGGESTIONS; ++j) {
+                suggestions.add(new SuggestedWordInfo(words.get(j),
+                        "" /* prevWordsContext */, random.nextInt(MAX_SCORE),
+                        SuggestedWordInfo.KIND_CORRECTION, null /* sourceDict */,
+                        SuggestedWordInfo.NOT_AN_INDEX,
+                        SuggestedWordInfo.NOT_A_CONFIDENCE));
+            }
+            mSuggestionsPerDictionary.add(suggestions);
+        }
+    }
+
+    @Benchmark
+    public SuggestionResults addAll() {
+        final SuggestionResults suggestionResults = new SuggestionResults(
+                SuggestedWords.MAX_SUGGESTIONS, false /* isBeginningOfSentence */,
+                false /* firstSuggestionExceedsConfidenceThreshold */);
+        for (final ArrayList<SuggestedWordInfo> suggestions : mSuggestionsPerDictionary) {
+            suggestionResults.addAll(suggestions);
+        }
+        return suggestionResults;
+    }
+
+    @Benchmark
+    public TreeSetSuggestionResults addAllToTreeSet() {
+        final TreeSetSuggestionResults suggestionResults = new TreeSetSuggestionResults(
+                SuggestedWords.MAX_SUGGESTIONS, false /* isBeginningOfSentence */,
+                false /* firstSuggestionExceedsConfidenceThreshold */);
+        for (final ArrayList<SuggestedWordInfo> suggestions : mSuggestionsPerDictionary) {
+            suggestionResults.addAll(suggestions);
+        }
+        return suggestionResults;
+    }
+}
@@ -47,6 +47,7 @@ LATINIME_SRC_FILES_FOR_DICTTOOL := \
         latin/Dictionary.java \
         latin/NgramContext.java \
         latin/SuggestedWords.java \
+        latin/WordPropertyIterator.java \
         latin/settings/SettingsValuesForSuggestion.java \
         latin/utils/BinaryDictionaryUtils.java \
         latin/utils/CombinedFormatUtils.java \
@@ -16,8 +16,107 @@
 
 package com.android.inputmethod.keyboard;
 
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.utils.JniUtils;
+
+import java.util.Arrays;
+
+/**
+ * Host-side stand-in for the keyboard's ProximityInfo.
+ *
+ * The default instance has no native counterpart, which is all Dicttool needs. Host tools that
+ * run real suggestion queries can instead pass the geometry of a keyboard made of rectangular
+ * keys; the proximity grid is then computed the same way the on-device class does it and a
+ * native proximity info is created. Such instances must be released with {@link #close()}.
+ */
 public class ProximityInfo {
-    public long getNativeProximityInfo() { return 0l; }
+    // Must be equal to MAX_PROXIMITY_CHARS_SIZE in native/jni/src/defines.h
+    public static final int MAX_PROXIMITY_CHARS_SIZE = 16;
+    /** Number of key widths from current touch point to search for nearest keys. */
+    private static final float SEARCH_DISTANCE = 1.2f;
+
+    private long mNativeProximityInfo;
+
+    static {
+        JniUtils.loadNativeLibrary();
+    }
+
+    public ProximityInfo() {
+        mNativeProximityInfo = 0;
+    }
+
+    /**
+     * Creates a native proximity info for a keyboard of rectangular keys.
+     *
+     * The key arrays are parallel and must all be of the same length. Like on the device, they
+     * should only describe keys that input a character: no shift, delete or enter key.
+     */
+    public ProximityInfo(final int keyboardWidth, final int keyboardHeight, final int gridWidth,
+            final int gridHeight, final int mostCommonKeyWidth, final int mostCommonKeyHeight,
+            final int[] keyXCoordinates, final int[] keyYCoordinates, final int[] keyWidths,
+            final int[] keyHeights, final int[] keyCharCodes) {
+        final int[] proximityCharsArray = computeProximityChars(keyboardWidth, keyboardHeight,
+                gridWidth, gridHeight, mostCommonKeyWidth, keyXCoordinates, keyYCoordinates,
+                keyWidths, keyHeights, keyCharCodes);
+        // No touch position correction on the host: the native side uses the key centers.
+        mNativeProximityInfo = setProximityInfoNative(keyboardWidth, keyboardHeight, gridWidth,
+                gridHeight, mostCommonKeyWidth, mostCommonKeyHeight, proximityCharsArray,
+                keyCharCodes.length, keyXCoordinates, keyYCoordinates, keyWidths, keyHeights,
+                keyCharCodes, null /* sweetSpotCenterXs */, null /* sweetSpotCenterYs */,
+                null /* sweetSpotRadii */);
+    }
+
+    private static int[] computeProximityChars(final int keyboardWidth, final int keyboardHeight,
+            final int gridWidth, final int gridHeight, final int mostCommonKeyWidth,
+            final int[] keyXCoordinates, final int[] keyYCoordinates, final int[] keyWidths,
+            final int[] keyHeights, final int[] keyCharCodes) {
+        final int cellWidth = (keyboardWidth + gridWidth - 1) / gridWidth;
+        final int cellHeight = (keyboardHeight + gridHeight - 1) / gridHeight;
+        final int threshold = (int) (mostCommonKeyWidth * SEARCH_DISTANCE);
+        final int thresholdSquared = threshold * threshold;
+        final int[] proximityCharsArray =
+                new int[gridWidth * gridHeight * MAX_PROXIMITY_CHARS_SIZE];
+        Arrays.fill(proximityCharsArray, Constants.NOT_A_CODE);
+        for (int cellY = 0; cellY < gridHeight; ++cellY) {
+            final int centerY = cellY * cellHeight + cellHeight / 2;
+            for (int cellX = 0; cellX < gridWidth; ++cellX) {
+                final int centerX = cellX * cellWidth + cellWidth / 2;
+                int infoIndex = (cellY * gridWidth + cellX) * MAX_PROXIMITY_CHARS_SIZE;
+                final int infoEnd = infoIndex + MAX_PROXIMITY_CHARS_SIZE;
+                for (int i = 0; i < keyCharCodes.length && infoIndex < infoEnd; ++i) {
+                    if (squaredDistanceToEdge(centerX, centerY, keyXCoordinates[i],
+                            keyYCoordinates[i], keyWidths[i], keyHeights[i])
+                            < thresholdSquared) {
+                        proximityCharsArray[infoIndex++] = keyCharCodes[i];
+                    }
+                }
+            }
+        }
+        return proximityCharsArray;
+    }
+
+    private static int squaredDistanceToEdge(final int x, final int y, final int left,
+            final int top, final int width, final int height) {
+        final int right = left + width;
+        final int bottom = top + height;
+        final int edgeX = x < left ? left : (x > right ? right : x);
+        final int edgeY = y < top ? top : (y > bottom ? bottom : y);
+        final int dx = x - edgeX;
+        final int dy = y - edgeY;
+        return dx * dx + dy * dy;
+    }
+
+    public long getNativeProximityInfo() {
+        return mNativeProximityInfo;
+    }
+
+    public void close() {
+        if (mNativeProximityInfo != 0) {
+            releaseProximityInfoNative(mNativeProximityInfo);
+            mNativeProximityInfo = 0;
+        }
+    }
+
     private static native long setProximityInfoNative(int displayWidth, int displayHeight,
             int gridWidth, int gridHeight, int mostCommonKeyWidth, int mostCommonKeyHeight,
             int[] proximityCharsArray, int keyCount, int[] keyXCoordinates, int[] keyYCoordinates,
@@ -16,6 +16,9 @@
 
 package com.android.inputmethod.latin.dicttool;
 
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.Dictionary;
+import com.android.inputmethod.latin.common.LocaleUtils;
 import com.android.inputmethod.latin.makedict.BinaryDictDecoderUtils;
 import com.android.inputmethod.latin.makedict.BinaryDictIOUtils;
 import com.android.inputmethod.latin.makedict.DictDecoder;
@@ -38,6 +41,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.HashMap;
+import java.util.Locale;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -261,6 +265,53 @@ public final class BinaryDictOffdeviceUtils {
         return decodeDictionaryForProcess(src, new CopyProcessor());
     }
 
+    /**
+     * Returns a binary dictionary file that the native code can open, uncompressing and
+     * decrypting the given file as necessary.
+     */
+    @Nonnull
+    static File getRawBinaryDictionary(final String filename) throws UnsupportedFormatException {
+        final DecoderChainSpec<File> spec = getRawDictionaryOrNull(new File(filename));
+        if (null == spec
+                || CombinedInputOutput.isCombinedDictionary(spec.mResult.getAbsolutePath())) {
+            throw new UnsupportedFormatException(filename
+                    + " doesn't seem to be a binary dictionary file");
+        }
+        return spec.mResult;
+    }
+
+    /**
+     * Opens a raw binary dictionary file as a read-only main dictionary. The caller must close
+     * it.
+     */
+    @Nonnull
+    static BinaryDictionary openBinaryDictionary(final File dictFile, final Locale locale) {
+        final BinaryDictionary dictionary = new BinaryDictionary(dictFile.getAbsolutePath(),
+                0 /* offset */, dictFile.length(), false /* useFullEditDistance */, locale,
+                Dictionary.TYPE_MAIN, false /* isUpdatable */);
+        if (!dictionary.isValidDictionary()) {
+            dictionary.close();
+            throw new RuntimeException("Can't open dictionary " + dictFile);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Returns the locale in the header of a raw binary dictionary file.
+     */
+    @Nonnull
+    static Locale getBinaryDictionaryLocale(final File dictFile)
+            throws UnsupportedFormatException {
+        final BinaryDictionary dictionary = openBinaryDictionary(dictFile, Locale.ROOT);
+        try {
+            final DictionaryHeader header = dictionary.getHeader();
+            return null == header.mLocaleString ? Locale.ROOT
+                    : LocaleUtils.constructLocaleFromString(header.mLocaleString);
+        } finally {
+            dictionary.close();
+        }
+    }
+
     static FusionDictionary getDictionary(final String filename, final boolean report) {
         final File file = new File(filename);
         if (report) {
@@ -66,147 +66,201 @@ public class CombinedInputOutput {
     }
 
     /**
-     * Reads a dictionary from a combined format file.
-     *
-     * This is the public method that will read a combined file and return the corresponding memory
-     * representation.
-     *
-     * @param reader the buffered reader to read the data from.
-     * @return the in-memory representation of the dictionary.
+     * Reads the words of a combined format file one at a time, in the order of the file, so that
+     * the whole dictionary doesn't need to be in memory.
      */
-    public static FusionDictionary readDictionaryCombined(final BufferedReader reader)
-            throws IOException {
-        String headerLine = reader.readLine();
-        while (headerLine.startsWith(COMMENT_LINE_STARTER)) {
-            headerLine = reader.readLine();
-        }
-        final String header[] = headerLine.split(",");
-        final HashMap<String, String> attributes = new HashMap<>();
-        for (String item : header) {
-            final String keyValue[] = item.split("=");
-            if (2 != keyValue.length) {
-                throw new RuntimeException("Wrong header format : " + headerLine);
+    public static final class WordPropertyReader {
+        private final BufferedReader mReader;
+        private final HashMap<String, String> mAttributes = new HashMap<>();
+        // The line of the next word, read while reading the attributes of the previous word.
+        private String mNextWordLine;
+        // Like the probability, the historical info of a word defaults to that of the previous
+        // word.
+        private ProbabilityInfo mProbabilityInfo = new ProbabilityInfo(0);
+
+        /**
+         * Reads the header of a combined format file.
+         *
+         * @param reader the buffered reader to read the data from. It is not closed.
+         */
+        public WordPropertyReader(final BufferedReader reader) throws IOException {
+            mReader = reader;
+            String headerLine = reader.readLine();
+            while (headerLine.startsWith(COMMENT_LINE_STARTER)) {
+                headerLine = reader.readLine();
+            }
+            final String header[] = headerLine.split(",");
+            for (String item : header) {
+                final String keyValue[] = item.split("=");
+                if (2 != keyValue.length) {
+                    throw new RuntimeException("Wrong header format : " + headerLine);
+                }
+                mAttributes.put(keyValue[0], keyValue[1]);
             }
-            attributes.put(keyValue[0], keyValue[1]);
+            mAttributes.remove(OPTIONS_TAG);
+            // Attributes before the first word don't belong to any word.
+            do {
+                mNextWordLine = readNextLine();
+            } while (null != mNextWordLine && !isWordLine(mNextWordLine));
         }
 
-        attributes.remove(OPTIONS_TAG);
-        final FusionDictionary dict =
-                new FusionDictionary(new PtNodeArray(), new DictionaryOptions(attributes));
+        /**
+         * @return the attributes in the header of the file.
+         */
+        public HashMap<String, String> getAttributes() {
+            return mAttributes;
+        }
 
-        String line;
-        String word = null;
-        ProbabilityInfo probabilityInfo = new ProbabilityInfo(0);
-        boolean isNotAWord = false;
-        boolean isPossiblyOffensive = false;
-        ArrayList<WeightedString> bigrams = new ArrayList<>();
-        ArrayList<WeightedString> shortcuts = new ArrayList<>();
-        while (null != (line = reader.readLine())) {
-            if (line.startsWith(COMMENT_LINE_STARTER)) continue;
-            final String args[] = line.trim().split(",");
-            if (args[0].matches(CombinedFormatUtils.WORD_TAG + "=.*")) {
-                if (null != word) {
-                    dict.add(word, probabilityInfo, shortcuts.isEmpty() ? null : shortcuts,
-                            isNotAWord, isPossiblyOffensive);
-                    for (WeightedString s : bigrams) {
-                        dict.setBigram(word, s.mWord, s.mProbabilityInfo);
-                    }
-                }
-                if (!shortcuts.isEmpty()) shortcuts = new ArrayList<>();
-                if (!bigrams.isEmpty()) bigrams = new ArrayList<>();
-                isNotAWord = false;
-                isPossiblyOffensive = false;
-                for (String param : args) {
-                    final String params[] = param.split("=", 2);
-                    if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
-                    switch (params[0]) {
-                        case CombinedFormatUtils.WORD_TAG:
-                            word = params[1];
-                            break;
-                        case CombinedFormatUtils.PROBABILITY_TAG:
-                            probabilityInfo = new ProbabilityInfo(Integer.parseInt(params[1]),
-                                    probabilityInfo.mTimestamp, probabilityInfo.mLevel,
-                                    probabilityInfo.mCount);
-                            break;
-                        case CombinedFormatUtils.HISTORICAL_INFO_TAG:
-                            final String[] historicalInfoParams = params[1].split(
-                                    CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR);
-                            if (historicalInfoParams.length != HISTORICAL_INFO_ELEMENT_COUNT) {
-                                throw new RuntimeException("Wrong format (historical info) : "
-                                        + line);
-                            }
-                            probabilityInfo = new ProbabilityInfo(probabilityInfo.mProbability,
-                                    Integer.parseInt(historicalInfoParams[0]),
-                                    Integer.parseInt(historicalInfoParams[1]),
-                                    Integer.parseInt(historicalInfoParams[2]));
-                            break;
-                        case CombinedFormatUtils.NOT_A_WORD_TAG:
-                            isNotAWord = CombinedFormatUtils.isLiteralTrue(params[1]);
-                            break;
-                        case CombinedFormatUtils.POSSIBLY_OFFENSIVE_TAG:
-                            isPossiblyOffensive = CombinedFormatUtils.isLiteralTrue(params[1]);
-                            break;
-                    }
-                }
-            } else if (args[0].matches(CombinedFormatUtils.SHORTCUT_TAG + "=.*")) {
-                String shortcut = null;
-                int shortcutFreq = 0;
-                for (String param : args) {
-                    final String params[] = param.split("=", 2);
-                    if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
-                    if (CombinedFormatUtils.SHORTCUT_TAG.equals(params[0])) {
-                        shortcut = params[1];
-                    } else if (CombinedFormatUtils.PROBABILITY_TAG.equals(params[0])) {
-                        shortcutFreq = WHITELIST_TAG.equals(params[1])
-                                ? FormatSpec.SHORTCUT_WHITELIST_FREQUENCY
-                                : Integer.parseInt(params[1]);
-                    }
-                }
-                if (null != shortcut) {
-                    shortcuts.add(new WeightedString(shortcut, shortcutFreq));
-                } else {
-                    throw new RuntimeException("Wrong format : " + line);
-                }
-            } else if (args[0].matches(CombinedFormatUtils.BIGRAM_TAG + "=.*")) {
-                String secondWordOfBigram = null;
-                ProbabilityInfo bigramProbabilityInfo = new ProbabilityInfo(0);
-                for (String param : args) {
-                    final String params[] = param.split("=", 2);
-                    if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
-                    if (CombinedFormatUtils.BIGRAM_TAG.equals(params[0])) {
-                        secondWordOfBigram = params[1];
-                    } else if (CombinedFormatUtils.PROBABILITY_TAG.equals(params[0])) {
-                        bigramProbabilityInfo = new ProbabilityInfo(Integer.parseInt(params[1]),
-                                bigramProbabilityInfo.mTimestamp, bigramProbabilityInfo.mLevel,
-                                bigramProbabilityInfo.mCount);
-                    }  else if (CombinedFormatUtils.HISTORICAL_INFO_TAG.equals(params[0])) {
-                        final String[] historicalInfoParams =
-                                params[1].split(CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR);
+        /**
+         * Reads the next word.
+         *
+         * @return the next word with its shortcuts and bigrams, or null at the end of the file.
+         */
+        public WordProperty read() throws IOException {
+            if (null == mNextWordLine) {
+                return null;
+            }
+            final String wordLine = mNextWordLine;
+            String word = null;
+            boolean isNotAWord = false;
+            boolean isPossiblyOffensive = false;
+            for (String param : wordLine.trim().split(",")) {
+                final String params[] = param.split("=", 2);
+                if (2 != params.length) throw new RuntimeException("Wrong format : " + wordLine);
+                switch (params[0]) {
+                    case CombinedFormatUtils.WORD_TAG:
+                        word = params[1];
+                        break;
+                    case CombinedFormatUtils.PROBABILITY_TAG:
+                        mProbabilityInfo = new ProbabilityInfo(Integer.parseInt(params[1]),
+                                mProbabilityInfo.mTimestamp, mProbabilityInfo.mLevel,
+                                mProbabilityInfo.mCount);
+                        break;
+                    case CombinedFormatUtils.HISTORICAL_INFO_TAG:
+                        final String[] historicalInfoParams = params[1].split(
+                                CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR);
                         if (historicalInfoParams.length != HISTORICAL_INFO_ELEMENT_COUNT) {
-                            throw new RuntimeException("Wrong format (historical info) : " + line);
+                            throw new RuntimeException("Wrong format (historical info) : "
+                                    + wordLine);
                         }
-                        bigramProbabilityInfo = new ProbabilityInfo(
-                                bigramProbabilityInfo.mProbability,
+                        mProbabilityInfo = new ProbabilityInfo(mProbabilityInfo.mProbability,
                                 Integer.parseInt(historicalInfoParams[0]),
                                 Integer.parseInt(historicalInfoParams[1]),
                                 Integer.parseInt(historicalInfoParams[2]));
-                    }
+                        break;
+                    case CombinedFormatUtils.NOT_A_WORD_TAG:
+                        isNotAWord = CombinedFormatUtils.isLiteralTrue(params[1]);
+                        break;
+                    case CombinedFormatUtils.POSSIBLY_OFFENSIVE_TAG:
+                        isPossiblyOffensive = CombinedFormatUtils.isLiteralTrue(params[1]);
+                        break;
                 }
-                if (null != secondWordOfBigram) {
-                    bigrams.add(new WeightedString(secondWordOfBigram, bigramProbabilityInfo));
-                } else {
-                    throw new RuntimeException("Wrong format : " + line);
+            }
+            final ArrayList<WeightedString> shortcuts = new ArrayList<>();
+            final ArrayList<WeightedString> bigrams = new ArrayList<>();
+            String line;
+            while (null != (line = readNextLine()) && !isWordLine(line)) {
+                final String args[] = line.trim().split(",");
+                if (args[0].matches(CombinedFormatUtils.SHORTCUT_TAG + "=.*")) {
+                    shortcuts.add(readShortcut(line, args));
+                } else if (args[0].matches(CombinedFormatUtils.BIGRAM_TAG + "=.*")) {
+                    bigrams.add(readBigram(line, args));
+                }
+            }
+            mNextWordLine = line;
+            return new WordProperty(word, mProbabilityInfo, shortcuts,
+                    bigrams.isEmpty() ? null : bigrams, isNotAWord, isPossiblyOffensive);
+        }
+
+        private String readNextLine() throws IOException {
+            String line;
+            do {
+                line = mReader.readLine();
+            } while (null != line && line.startsWith(COMMENT_LINE_STARTER));
+            return line;
+        }
+
+        private static boolean isWordLine(final String line) {
+            return line.trim().split(",")[0].matches(CombinedFormatUtils.WORD_TAG + "=.*");
+        }
+
+        private static WeightedString readShortcut(final String line, final String[] args) {
+            String shortcut = null;
+            int shortcutFreq = 0;
+            for (String param : args) {
+                final String params[] = param.split("=", 2);
+                if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
+                if (CombinedFormatUtils.SHORTCUT_TAG.equals(params[0])) {
+                    shortcut = params[1];
+                } else if (CombinedFormatUtils.PROBABILITY_TAG.equals(params[0])) {
+                    shortcutFreq = WHITELIST_TAG.equals(params[1])
+                            ? FormatSpec.SHORTCUT_WHITELIST_FREQUENCY
+                            : Integer.parseInt(params[1]);
                 }
             }
+            if (null == shortcut) {
+                throw new RuntimeException("Wrong format : " + line);
+            }
+            return new WeightedString(shortcut, shortcutFreq);
         }
-        if (null != word) {
-            dict.add(word, probabilityInfo, shortcuts.isEmpty() ? null : shortcuts, isNotAWord,
-                    isPossiblyOffensive);
-            for (WeightedString s : bigrams) {
-                dict.setBigram(word, s.mWord, s.mProbabilityInfo);
+
+        private static WeightedString readBigram(final String line, final String[] args) {
+            String secondWordOfBigram = null;
+            ProbabilityInfo bigramProbabilityInfo = new ProbabilityInfo(0);
+            for (String param : args) {
+                final String params[] = param.split("=", 2);
+                if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
+                if (CombinedFormatUtils.BIGRAM_TAG.equals(params[0])) {
+                    secondWordOfBigram = params[1];
+                } else if (CombinedFormatUtils.PROBABILITY_TAG.equals(params[0])) {
+                    bigramProbabilityInfo = new ProbabilityInfo(Integer.parseInt(params[1]),
+                            bigramProbabilityInfo.mTimestamp, bigramProbabilityInfo.mLevel,
+                            bigramProbabilityInfo.mCount);
+                }  else if (CombinedFormatUtils.HISTORICAL_INFO_TAG.equals(params[0])) {
+                    final String[] historicalInfoParams =
+                            params[1].split(CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR);
+                    if (historicalInfoParams.length != HISTORICAL_INFO_ELEMENT_COUNT) {
+                        throw new RuntimeException("Wrong format (historical info) : " + line);
+                    }
+                    bigramProbabilityInfo = new ProbabilityInfo(
+                            bigramProbabilityInfo.mProbability,
+                            Integer.parseInt(historicalInfoParams[0]),
+                            Integer.parseInt(historicalInfoParams[1]),
+                            Integer.parseInt(historicalInfoParams[2]));
+                }
             }
+            if (null == secondWordOfBigram) {
+                throw new RuntimeException("Wrong format : " + line);
+            }
+            return new WeightedString(secondWordOfBigram, bigramProbabilityInfo);
         }
+    }
 
+    /**
+     * Reads a dictionary from a combined format file.
+     *
+     * This is the public method that will read a combined file and return the corresponding memory
+     * representation.
+     *
+     * @param reader the buffered reader to read the data from.
+     * @return the in-memory representation of the dictionary.
+     */
+    public static FusionDictionary readDictionaryCombined(final BufferedReader reader)
+            throws IOException {
+        final WordPropertyReader wordPropertyReader = new WordPropertyReader(reader);
+        final FusionDictionary dict = new FusionDictionary(new PtNodeArray(),
+                new DictionaryOptions(wordPropertyReader.getAttributes()));
+        WordProperty wordProperty;
+        while (null != (wordProperty = wordPropertyReader.read())) {
+            dict.add(wordProperty.mWord, wordProperty.mProbabilityInfo,
+                    wordProperty.mHasShortcuts ? wordProperty.mShortcutTargets : null,
+                    wordProperty.mIsNotAWord, wordProperty.mIsPossiblyOffensive);
+            if (wordProperty.mHasNgrams) {
+                for (WeightedString s : wordProperty.getBigrams()) {
+                    dict.setBigram(wordProperty.mWord, s.mWord, s.mProbabilityInfo);
+                }
+            }
+        }
         return dict;
     }
 
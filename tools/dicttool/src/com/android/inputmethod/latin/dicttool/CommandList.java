@@ -30,5 +30,7 @@ public class CommandList {
         Dicttool.addCommand("unpackage", Package.Unpackager.class);
         Dicttool.addCommand("makedict", Makedict.class);
         Dicttool.addCommand("test", Test.class);
+        Dicttool.addCommand("replay", Replay.class);
+        Dicttool.addCommand("serve", Serve.class);
     }
 }
@@ -35,6 +35,9 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.util.Arrays;
 import java.util.LinkedList;
 
@@ -198,8 +201,30 @@ public class DictionaryMaker {
     public static void main(String[] args)
             throws FileNotFoundException, IOException, UnsupportedFormatException {
         final Arguments parsedArgs = new Arguments(args);
+        final long startTime = System.currentTimeMillis();
         FusionDictionary dictionary = readInputFromParsedArgs(parsedArgs);
+        final long readTime = System.currentTimeMillis();
+        MakedictLog.i("Read the input in " + (readTime - startTime) + " ms");
         writeOutputToParsedArgs(parsedArgs, dictionary);
+        final long endTime = System.currentTimeMillis();
+        MakedictLog.i("Wrote the output in " + (endTime - readTime) + " ms");
+        MakedictLog.i("Total wall time : " + (endTime - startTime) + " ms, peak heap : "
+                + getPeakHeapUsage() / (1024 * 1024) + " MB");
+    }
+
+    /**
+     * Returns the sum of the peak usages of the heap memory pools since the start of the VM.
+     *
+     * The pools don't all peak at the same time, so this is an upper bound of the actual peak.
+     */
+    private static long getPeakHeapUsage() {
+        long peakHeapUsage = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && null != pool.getPeakUsage()) {
+                peakHeapUsage += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peakHeapUsage;
     }
 
     /**
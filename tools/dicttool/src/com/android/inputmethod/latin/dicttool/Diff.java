@@ -16,82 +16,205 @@
 
 package com.android.inputmethod.latin.dicttool;
 
-import com.android.inputmethod.latin.makedict.FusionDictionary;
-import com.android.inputmethod.latin.makedict.FusionDictionary.PtNode;
+import com.android.inputmethod.latin.makedict.UnsupportedFormatException;
 import com.android.inputmethod.latin.makedict.WeightedString;
 import com.android.inputmethod.latin.makedict.WordProperty;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * Dicttool command showing the differences between two dictionaries.
+ *
+ * The dictionaries are not read into memory. Their words are read in the order of their spelling
+ * through {@link SortedWordProperties}, and merge-joined. Batches of consecutive words are
+ * compared by a pool of threads, and their differences are written in the order of the words.
+ */
 public class Diff extends Dicttool.Command {
     public static final String COMMAND = "diff";
+    // The number of words of each dictionary kept in memory while sorting it.
+    private static final int MAX_RUN_SIZE = 100000;
+    // The number of consecutive words compared by a task.
+    private static final int BATCH_SIZE = 1000;
+    // The number of batches read ahead of the differences being written, per thread.
+    private static final int MAX_PENDING_BATCH_COUNT_PER_THREAD = 4;
+
+    private int mThreadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * A difference between the two dictionaries. The value before or after is null if the word,
+     * bigram or shortcut is not in that dictionary.
+     */
+    static final class Difference {
+        static final String WORD = "word";
+        static final String PROBABILITY = "probability";
+        static final String NOT_A_WORD = "not_a_word";
+        static final String POSSIBLY_OFFENSIVE = "possibly_offensive";
+        static final String BIGRAM = "bigram";
+        static final String SHORTCUT = "shortcut";
+        private static final String PLUMBING_SEPARATOR = "\t";
+
+        final String mType;
+        final String mWord;
+        // The second word of a bigram or the target of a shortcut.
+        final String mTarget;
+        final String mBefore;
+        final String mAfter;
+
+        Difference(final String type, final String word, final String target,
+                final String before, final String after) {
+            mType = type;
+            mWord = word;
+            mTarget = target;
+            mBefore = before;
+            mAfter = after;
+        }
+
+        Difference(final String type, final String word, final Object before,
+                final Object after) {
+            this(type, word, null /* target */, null == before ? null : String.valueOf(before),
+                    null == after ? null : String.valueOf(after));
+        }
+
+        /**
+         * @return the difference as tab-separated fields, for scripts: the type, the word, the
+         *   target, the value before and the value after, with empty fields for missing values.
+         */
+        String toPlumbingString() {
+            return mType + PLUMBING_SEPARATOR + mWord
+                    + PLUMBING_SEPARATOR + (null == mTarget ? "" : mTarget)
+                    + PLUMBING_SEPARATOR + (null == mBefore ? "" : mBefore)
+                    + PLUMBING_SEPARATOR + (null == mAfter ? "" : mAfter);
+        }
+
+        @Override
+        public String toString() {
+            switch (mType) {
+            case WORD:
+                return null == mBefore ? "Added: " + mWord + " " + mAfter
+                        : "Deleted: " + mWord + " " + mBefore;
+            case PROBABILITY:
+                return "Probability changed: " + mWord + " " + mBefore + " -> " + mAfter;
+            case NOT_A_WORD:
+                return "Not a word: " + mWord + " " + mBefore + " -> " + mAfter;
+            case POSSIBLY_OFFENSIVE:
+                return "Possibly-offensive: " + mWord + " " + mBefore + " -> " + mAfter;
+            default:
+                final String type = BIGRAM.equals(mType) ? "Bigram" : "Shortcut";
+                if (null == mBefore) {
+                    return type + " added: " + mWord + " " + mTarget + " " + mAfter;
+                }
+                if (null == mAfter) {
+                    return type + " removed: " + mWord + " " + mTarget + " " + mBefore;
+                }
+                return type + " freq changed: " + mWord + " " + mTarget + " " + mBefore + " -> "
+                        + mAfter;
+            }
+        }
+    }
 
     public Diff() {
     }
 
     @Override
     public String getHelp() {
-        return COMMAND + " [-p] <dict> <dict> : shows differences between two dictionaries.\n"
-                + "  If -p (plumbing) option is given, produce output suitable for a script";
+        return COMMAND + " [-p] [-t threadCount] <dict> <dict> : shows differences between two "
+                + "dictionaries.\n"
+                + "  If -p (plumbing) option is given, produce output suitable for a script: one "
+                + "line per difference, with tab-separated fields type, word, bigram or shortcut "
+                + "target, value before and value after, and empty fields for missing values.\n"
+                + "  The number of threads defaults to the number of processors.";
     }
 
     @Override
-    public void run() {
-        if (mArgs.length < 2) {
-            throw new RuntimeException("Not enough arguments for command " + COMMAND);
-        }
-        final boolean plumbing;
-        if ("-p".equals(mArgs[0])) {
-            plumbing = true;
-            mArgs = Arrays.copyOfRange(mArgs, 1, mArgs.length);
-            if (mArgs.length != 2) { // There should be only 2 arguments left
-                throw new RuntimeException("Wrong number of arguments for command " + COMMAND);
+    public void run() throws IOException, UnsupportedFormatException {
+        boolean plumbing = false;
+        int i = 0;
+        while (i < mArgs.length && mArgs[i].startsWith("-")) {
+            final String arg = mArgs[i++];
+            if ("-p".equals(arg)) {
+                plumbing = true;
+                continue;
+            }
+            if (i >= mArgs.length) {
+                throw new IllegalArgumentException("Missing value for option " + arg);
             }
-        } else {
-            plumbing = false;
-        }
-        final FusionDictionary dict0 =
-                BinaryDictOffdeviceUtils.getDictionary(mArgs[0], false /* report */);
-        if (null == dict0) throw new RuntimeException("Can't read dictionary " + mArgs[0]);
-        final FusionDictionary dict1 =
-                BinaryDictOffdeviceUtils.getDictionary(mArgs[1], false /* report */);
-        if (null == dict1) throw new RuntimeException("Can't read dictionary " + mArgs[1]);
-        if (!plumbing) {
-            System.out.println("Header :");
-            diffHeaders(dict0, dict1);
-            if (languageDiffers(dict0, dict1)) {
-                // We only check for the language here. The rationale is that one may meaningfully
-                // diff a en_US with a en_GB dictionary, but someone who diffs a de dict with a
-                // pt_BR dict is almost certainly only interested in header-level diff, and the word
-                // diff would be very large, meaningless, and annoying.
-                return;
+            if ("-t".equals(arg)) {
+                mThreadCount = Integer.parseInt(mArgs[i++]);
+            } else {
+                throw new IllegalArgumentException("Unknown option for command " + COMMAND + ": "
+                        + arg);
+            }
+        }
+        if (mArgs.length - i != 2 || mThreadCount < 1) {
+            throw new RuntimeException("Wrong arguments for command " + COMMAND + "\n"
+                    + getHelp());
+        }
+        final String filename1 = mArgs[i + 1];
+        final ExecutorService executor = Executors.newFixedThreadPool(mThreadCount);
+        try {
+            // Sort both dictionaries at the same time.
+            final Future<SortedWordProperties> dict1Future =
+                    executor.submit(new Callable<SortedWordProperties>() {
+                        @Override
+                        public SortedWordProperties call()
+                                throws IOException, UnsupportedFormatException {
+                            return SortedWordProperties.open(filename1, MAX_RUN_SIZE);
+                        }
+                    });
+            try (final SortedWordProperties dict0 =
+                            SortedWordProperties.open(mArgs[i], MAX_RUN_SIZE);
+                    final SortedWordProperties dict1 = getResult(dict1Future)) {
+                if (!plumbing) {
+                    System.out.println("Header :");
+                    diffHeaders(dict0.getAttributes(), dict1.getAttributes());
+                    if (languageDiffers(dict0.getAttributes(), dict1.getAttributes())) {
+                        // We only check for the language here. The rationale is that one may
+                        // meaningfully diff a en_US with a en_GB dictionary, but someone who diffs
+                        // a de dict with a pt_BR dict is almost certainly only interested in
+                        // header-level diff, and the word diff would be very large, meaningless,
+                        // and annoying.
+                        return;
+                    }
+                    System.out.println("Body :");
+                }
+                final int differenceCount = diffWords(dict0, dict1, executor,
+                        MAX_PENDING_BATCH_COUNT_PER_THREAD * mThreadCount, plumbing, System.out);
+                if (!plumbing && 0 == differenceCount) {
+                    System.out.println("  No differences");
+                }
             }
-            System.out.println("Body :");
+        } finally {
+            executor.shutdown();
         }
-        diffWords(dict0, dict1);
     }
 
-    private static boolean languageDiffers(final FusionDictionary dict0,
-            final FusionDictionary dict1) {
+    private static boolean languageDiffers(final HashMap<String, String> attributes0,
+            final HashMap<String, String> attributes1) {
         // If either of the dictionaries have no locale, assume it's okay
-        if (null == dict0.mOptions.mAttributes.get("locale")) return false;
-        if (null == dict1.mOptions.mAttributes.get("locale")) return false;
-        final String dict0Lang = dict0.mOptions.mAttributes.get("locale").split("_", 3)[0];
-        final String dict1Lang = dict1.mOptions.mAttributes.get("locale").split("_", 3)[0];
+        if (null == attributes0.get("locale")) return false;
+        if (null == attributes1.get("locale")) return false;
+        final String dict0Lang = attributes0.get("locale").split("_", 3)[0];
+        final String dict1Lang = attributes1.get("locale").split("_", 3)[0];
         return !dict0Lang.equals(dict1Lang);
     }
 
-    private static void diffHeaders(final FusionDictionary dict0, final FusionDictionary dict1) {
+    private static void diffHeaders(final HashMap<String, String> attributes0,
+            final HashMap<String, String> attributes1) {
         boolean hasDifferences = false;
-        final HashMap<String, String> options1 = new HashMap<>(dict1.mOptions.mAttributes);
-        for (final String optionKey : dict0.mOptions.mAttributes.keySet()) {
-            if (!dict0.mOptions.mAttributes.get(optionKey).equals(
-                    dict1.mOptions.mAttributes.get(optionKey))) {
-                System.out.println("  " + optionKey + " : "
-                        + dict0.mOptions.mAttributes.get(optionKey) + " <=> "
-                        + dict1.mOptions.mAttributes.get(optionKey));
+        final HashMap<String, String> options1 = new HashMap<>(attributes1);
+        for (final String optionKey : attributes0.keySet()) {
+            if (!attributes0.get(optionKey).equals(attributes1.get(optionKey))) {
+                System.out.println("  " + optionKey + " : " + attributes0.get(optionKey) + " <=> "
+                        + attributes1.get(optionKey));
                 hasDifferences = true;
             }
             options1.remove(optionKey);
@@ -105,104 +228,174 @@ public class Diff extends Dicttool.Command {
         }
     }
 
-    private static void diffWords(final FusionDictionary dict0, final FusionDictionary dict1) {
-        boolean hasDifferences = false;
-        for (final WordProperty word0Property : dict0) {
-            final PtNode word1PtNode = FusionDictionary.findWordInTree(dict1.mRootNodeArray,
-                    word0Property.mWord);
-            if (null == word1PtNode) {
-                // This word is not in dict1
-                System.out.println("Deleted: " + word0Property.mWord + " "
-                        + word0Property.getProbability());
-                hasDifferences = true;
-            } else {
-                // We found the word. Compare frequencies, shortcuts, bigrams
-                if (word0Property.getProbability() != word1PtNode.getProbability()) {
-                    System.out.println("Probability changed: " + word0Property.mWord + " "
-                            + word0Property.getProbability() + " -> "
-                            + word1PtNode.getProbability());
-                    hasDifferences = true;
+    /**
+     * Merge-joins the words of two dictionaries and writes their differences.
+     *
+     * @param dict0 the words of the first dictionary.
+     * @param dict1 the words of the second dictionary.
+     * @param executor the executor comparing batches of words.
+     * @param maxPendingBatchCount the number of batches that may be read ahead of the
+     *   differences being written.
+     * @param plumbing whether to write the differences for a script.
+     * @param out the stream to write the differences to, in the order of the words.
+     * @return the number of differences.
+     */
+    static int diffWords(final SortedWordProperties dict0, final SortedWordProperties dict1,
+            final ExecutorService executor, final int maxPendingBatchCount,
+            final boolean plumbing, final PrintStream out) throws IOException {
+        final ArrayDeque<Future<ArrayList<Difference>>> pendingBatches = new ArrayDeque<>();
+        int differenceCount = 0;
+        WordProperty word0Property = dict0.read();
+        WordProperty word1Property = dict1.read();
+        while (null != word0Property || null != word1Property) {
+            // The words of a batch, or null where the word is not in that dictionary.
+            final ArrayList<WordProperty> batch0 = new ArrayList<>(BATCH_SIZE);
+            final ArrayList<WordProperty> batch1 = new ArrayList<>(BATCH_SIZE);
+            while (batch0.size() < BATCH_SIZE
+                    && (null != word0Property || null != word1Property)) {
+                final int order;
+                if (null == word0Property) {
+                    order = 1;
+                } else if (null == word1Property) {
+                    order = -1;
+                } else {
+                    order = SortedWordProperties.WORD_COMPARATOR.compare(word0Property,
+                            word1Property);
                 }
-                if (word0Property.mIsNotAWord != word1PtNode.getIsNotAWord()) {
-                    System.out.println("Not a word: " + word0Property.mWord + " "
-                            + word0Property.mIsNotAWord + " -> " + word1PtNode.getIsNotAWord());
-                    hasDifferences = true;
+                batch0.add(order <= 0 ? word0Property : null);
+                batch1.add(order >= 0 ? word1Property : null);
+                if (order <= 0) {
+                    word0Property = dict0.read();
                 }
-                if (word0Property.mIsPossiblyOffensive != word1PtNode.getIsPossiblyOffensive()) {
-                    System.out.println("Possibly-offensive: " + word0Property.mWord + " "
-                            + word0Property.mIsPossiblyOffensive + " -> "
-                            + word1PtNode.getIsPossiblyOffensive());
-                    hasDifferences = true;
+                if (order >= 0) {
+                    word1Property = dict1.read();
                 }
-                hasDifferences |= hasAttributesDifferencesAndPrintThemIfAny(word0Property.mWord,
-                        "Bigram", word0Property.getBigrams(), word1PtNode.getBigrams());
-                hasDifferences |= hasAttributesDifferencesAndPrintThemIfAny(word0Property.mWord,
-                        "Shortcut", word0Property.mShortcutTargets,
-                        word1PtNode.getShortcutTargets());
             }
-        }
-        for (final WordProperty word1Property : dict1) {
-            final PtNode word0PtNode = FusionDictionary.findWordInTree(dict0.mRootNodeArray,
-                    word1Property.mWord);
-            if (null == word0PtNode) {
-                // This word is not in dict0
-                System.out.println("Added: " + word1Property.mWord + " "
-                        + word1Property.getProbability());
-                hasDifferences = true;
+            pendingBatches.add(executor.submit(new Callable<ArrayList<Difference>>() {
+                @Override
+                public ArrayList<Difference> call() {
+                    final ArrayList<Difference> differences = new ArrayList<>();
+                    for (int i = 0; i < batch0.size(); ++i) {
+                        diffWord(batch0.get(i), batch1.get(i), differences);
+                    }
+                    return differences;
+                }
+            }));
+            if (pendingBatches.size() >= maxPendingBatchCount) {
+                differenceCount += printDifferences(getResult(pendingBatches.poll()), plumbing,
+                        out);
             }
         }
-        if (!hasDifferences) {
-            System.out.println("  No differences");
+        while (!pendingBatches.isEmpty()) {
+            differenceCount += printDifferences(getResult(pendingBatches.poll()), plumbing, out);
         }
+        return differenceCount;
     }
 
-    private static boolean hasAttributesDifferencesAndPrintThemIfAny(final String word,
-            final String type, final ArrayList<WeightedString> list0,
-            final ArrayList<WeightedString> list1) {
-        if (null == list1) {
-            if (null == list0) return false;
-            for (final WeightedString attribute0 : list0) {
-                System.out.println(type + " removed: " + word + " " + attribute0.mWord + " "
-                        + attribute0.getProbability());
+    private static int printDifferences(final ArrayList<Difference> differences,
+            final boolean plumbing, final PrintStream out) {
+        for (final Difference difference : differences) {
+            out.println(plumbing ? difference.toPlumbingString() : difference.toString());
+        }
+        return differences.size();
+    }
+
+    private static <T> T getResult(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while diffing", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-            return true;
+            throw new RuntimeException(e.getCause());
         }
-        boolean hasDifferences = false;
+    }
+
+    /**
+     * Compares a word of each dictionary.
+     *
+     * @param word0Property the word in the first dictionary, or null if it's not there.
+     * @param word1Property the word in the second dictionary, or null if it's not there.
+     * @param differences the list to add the differences to.
+     */
+    static void diffWord(final WordProperty word0Property, final WordProperty word1Property,
+            final ArrayList<Difference> differences) {
+        if (null == word1Property) {
+            // This word is not in dict1
+            differences.add(new Difference(Difference.WORD, word0Property.mWord,
+                    word0Property.getProbability(), null));
+            return;
+        }
+        if (null == word0Property) {
+            // This word is not in dict0
+            differences.add(new Difference(Difference.WORD, word1Property.mWord, null,
+                    word1Property.getProbability()));
+            return;
+        }
+        // We found the word. Compare frequencies, shortcuts, bigrams
+        final String word = word0Property.mWord;
+        if (word0Property.getProbability() != word1Property.getProbability()) {
+            differences.add(new Difference(Difference.PROBABILITY, word,
+                    word0Property.getProbability(), word1Property.getProbability()));
+        }
+        if (word0Property.mIsNotAWord != word1Property.mIsNotAWord) {
+            differences.add(new Difference(Difference.NOT_A_WORD, word,
+                    word0Property.mIsNotAWord, word1Property.mIsNotAWord));
+        }
+        if (word0Property.mIsPossiblyOffensive != word1Property.mIsPossiblyOffensive) {
+            differences.add(new Difference(Difference.POSSIBLY_OFFENSIVE, word,
+                    word0Property.mIsPossiblyOffensive, word1Property.mIsPossiblyOffensive));
+        }
+        diffAttributes(word, Difference.BIGRAM, word0Property.getBigrams(),
+                word1Property.getBigrams(), differences);
+        diffAttributes(word, Difference.SHORTCUT, word0Property.mShortcutTargets,
+                word1Property.mShortcutTargets, differences);
+    }
+
+    private static void diffAttributes(final String word, final String type,
+            final ArrayList<WeightedString> list0, final ArrayList<WeightedString> list1,
+            final ArrayList<Difference> differences) {
+        // The attributes of list1 that don't match any attribute of list0 so far.
+        final ArrayList<WeightedString> remainingList1 = (null == list1)
+                ? new ArrayList<WeightedString>() : new ArrayList<>(list1);
         if (null != list0) {
             for (final WeightedString attribute0 : list0) {
                 // The following tests with #equals(). The WeightedString#equals() method returns
                 // true if both the string and the frequency are the same.
-                if (!list1.contains(attribute0)) {
-                    hasDifferences = true;
-                    // Search for a word with the same string but a different frequency
-                    boolean foundString = false;
-                    for (final WeightedString attribute1 : list1) {
-                        if (attribute0.mWord.equals(attribute1.mWord)) {
-                            System.out.println(type + " freq changed: " + word + " "
-                                    + attribute0.mWord + " " + attribute0.getProbability() + " -> "
-                                    + attribute1.getProbability());
-                            list1.remove(attribute1);
-                            foundString = true;
-                            break;
-                        }
-                    }
-                    if (!foundString) {
-                        // We come here if we haven't found any matching string.
-                        System.out.println(type + " removed: " + word + " " + attribute0.mWord + " "
-                                + attribute0.getProbability());
+                if (remainingList1.remove(attribute0)) {
+                    continue;
+                }
+                // Search for a word with the same string but a different frequency
+                WeightedString sameStringAttribute1 = null;
+                for (final WeightedString attribute1 : remainingList1) {
+                    if (attribute0.mWord.equals(attribute1.mWord)) {
+                        sameStringAttribute1 = attribute1;
+                        break;
                     }
+                }
+                if (null != sameStringAttribute1) {
+                    remainingList1.remove(sameStringAttribute1);
+                    differences.add(new Difference(type, word, attribute0.mWord,
+                            String.valueOf(attribute0.getProbability()),
+                            String.valueOf(sameStringAttribute1.getProbability())));
                 } else {
-                    list1.remove(attribute0);
+                    // We come here if we haven't found any matching string.
+                    differences.add(new Difference(type, word, attribute0.mWord,
+                            String.valueOf(attribute0.getProbability()), null));
                 }
             }
         }
-        // We removed any matching word that we found, so now list1 only contains words that
-        // are not included in list0.
-        for (final WeightedString attribute1 : list1) {
-            hasDifferences = true;
-            System.out.println(type + " added: " + word + " " + attribute1.mWord + " "
-                    + attribute1.getProbability());
+        // We removed any matching word that we found, so now remainingList1 only contains words
+        // that are not included in list0.
+        for (final WeightedString attribute1 : remainingList1) {
+            differences.add(new Difference(type, word, attribute1.mWord, null,
+                    String.valueOf(attribute1.getProbability())));
         }
-        return hasDifferences;
     }
 }
@@ -0,0 +1,224 @@
+/**
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.keyboard.ProximityInfo;
+import com.android.inputmethod.latin.common.Constants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The geometry of a keyboard layout, read from a text description.
+ *
+ * The description has one statement per line. Empty lines and lines starting with '#' are
+ * ignored.
+ * <ul>
+ * <li>{@code keyboard <width> <height> [<gridWidth> <gridHeight>]} gives the size of the
+ * keyboard in pixels, and optionally the size of the proximity grid. It must come first.</li>
+ * <li>{@code key <letter> <x> <y> <width> <height>} adds a key inputting the letter, with its
+ * top left corner at (x, y).</li>
+ * </ul>
+ * Like on the device, only keys that input a character should be described.
+ */
+public final class KeyboardGeometry {
+    private static final String COMMENT_LINE_STARTER = "#";
+    private static final String KEYBOARD = "keyboard";
+    private static final String KEY = "key";
+    // Same values as config_keyboard_grid_width and config_keyboard_grid_height.
+    private static final int DEFAULT_GRID_WIDTH = 32;
+    private static final int DEFAULT_GRID_HEIGHT = 16;
+
+    public final int mWidth;
+    public final int mHeight;
+    public final int mGridWidth;
+    public final int mGridHeight;
+    private final int[] mKeyXCoordinates;
+    private final int[] mKeyYCoordinates;
+    private final int[] mKeyWidths;
+    private final int[] mKeyHeights;
+    private final int[] mKeyCodes;
+
+    private KeyboardGeometry(final int width, final int height, final int gridWidth,
+            final int gridHeight, final int[] keyXCoordinates, final int[] keyYCoordinates,
+            final int[] keyWidths, final int[] keyHeights, final int[] keyCodes) {
+        mWidth = width;
+        mHeight = height;
+        mGridWidth = gridWidth;
+        mGridHeight = gridHeight;
+        mKeyXCoordinates = keyXCoordinates;
+        mKeyYCoordinates = keyYCoordinates;
+        mKeyWidths = keyWidths;
+        mKeyHeights = keyHeights;
+        mKeyCodes = keyCodes;
+    }
+
+    /**
+     * Reads a keyboard description.
+     *
+     * @param reader the reader to read the description from. It is not closed.
+     * @return the geometry of the keyboard.
+     * @throws IOException if the description can't be read or is malformed.
+     */
+    public static KeyboardGeometry read(final BufferedReader reader) throws IOException {
+        int[] size = null;
+        final ArrayList<int[]> keys = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while (null != (line = reader.readLine())) {
+            ++lineNumber;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_LINE_STARTER)) {
+                continue;
+            }
+            final String[] args = line.split("\\s+");
+            if (KEYBOARD.equals(args[0]) && null == size
+                    && (3 == args.length || 5 == args.length)) {
+                size = new int[] { parseInt(args[1], lineNumber), parseInt(args[2], lineNumber),
+                        5 == args.length ? parseInt(args[3], lineNumber) : DEFAULT_GRID_WIDTH,
+                        5 == args.length ? parseInt(args[4], lineNumber) : DEFAULT_GRID_HEIGHT };
+            } else if (KEY.equals(args[0]) && null != size && 6 == args.length
+                    && 1 == args[1].codePointCount(0, args[1].length())) {
+                keys.add(new int[] { args[1].codePointAt(0), parseInt(args[2], lineNumber),
+                        parseInt(args[3], lineNumber), parseInt(args[4], lineNumber),
+                        parseInt(args[5], lineNumber) });
+            } else {
+                throw new IOException("Malformed keyboard description at line " + lineNumber
+                        + ": " + line);
+            }
+        }
+        if (null == size || keys.isEmpty()) {
+            throw new IOException("The keyboard description doesn't describe any key");
+        }
+        final int keyCount = keys.size();
+        final int[] keyCodes = new int[keyCount];
+        final int[] keyXCoordinates = new int[keyCount];
+        final int[] keyYCoordinates = new int[keyCount];
+        final int[] keyWidths = new int[keyCount];
+        final int[] keyHeights = new int[keyCount];
+        for (int i = 0; i < keyCount; ++i) {
+            final int[] key = keys.get(i);
+            keyCodes[i] = key[0];
+            keyXCoordinates[i] = key[1];
+            keyYCoordinates[i] = key[2];
+            keyWidths[i] = key[3];
+            keyHeights[i] = key[4];
+        }
+        return new KeyboardGeometry(size[0], size[1], size[2], size[3], keyXCoordinates,
+                keyYCoordinates, keyWidths, keyHeights, keyCodes);
+    }
+
+    private static int parseInt(final String value, final int lineNumber) throws IOException {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new IOException("Malformed number at line " + lineNumber + ": " + value, e);
+        }
+    }
+
+    private int getKeyIndex(final int codePoint) {
+        final int lowerCaseCodePoint = Character.toLowerCase(codePoint);
+        for (int i = 0; i < mKeyCodes.length; ++i) {
+            if (mKeyCodes[i] == codePoint || mKeyCodes[i] == lowerCaseCodePoint) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the x coordinate of the center of the key for the code point, or
+     * {@link Constants#NOT_A_COORDINATE} if there is no such key.
+     */
+    public int getKeyCenterX(final int codePoint) {
+        final int keyIndex = getKeyIndex(codePoint);
+        if (keyIndex < 0) {
+            return Constants.NOT_A_COORDINATE;
+        }
+        return mKeyXCoordinates[keyIndex] + mKeyWidths[keyIndex] / 2;
+    }
+
+    /**
+     * @return the y coordinate of the center of the key for the code point, or
+     * {@link Constants#NOT_A_COORDINATE} if there is no such key.
+     */
+    public int getKeyCenterY(final int codePoint) {
+        final int keyIndex = getKeyIndex(codePoint);
+        if (keyIndex < 0) {
+            return Constants.NOT_A_COORDINATE;
+        }
+        return mKeyYCoordinates[keyIndex] + mKeyHeights[keyIndex] / 2;
+    }
+
+    /**
+     * Returns the code of the key a touch lands on, like the key detector of the keyboard does:
+     * the key under the touch, or else the nearest one.
+     */
+    public int getCodeAt(final int x, final int y) {
+        int nearestKeyIndex = 0;
+        long nearestSquaredDistance = Long.MAX_VALUE;
+        for (int i = 0; i < mKeyCodes.length; ++i) {
+            final int left = mKeyXCoordinates[i];
+            final int top = mKeyYCoordinates[i];
+            final int right = left + mKeyWidths[i];
+            final int bottom = top + mKeyHeights[i];
+            final long dx = x < left ? left - x : (x >= right ? x - right + 1 : 0);
+            final long dy = y < top ? top - y : (y >= bottom ? y - bottom + 1 : 0);
+            final long squaredDistance = dx * dx + dy * dy;
+            if (squaredDistance < nearestSquaredDistance) {
+                nearestKeyIndex = i;
+                nearestSquaredDistance = squaredDistance;
+            }
+        }
+        return mKeyCodes[nearestKeyIndex];
+    }
+
+    private static int getMostCommonValue(final int[] values) {
+        final HashMap<Integer, Integer> counts = new HashMap<>();
+        int mostCommonValue = 0;
+        int mostCommonValueCount = 0;
+        for (final int value : values) {
+            final Integer count = counts.get(value);
+            final int newCount = null == count ? 1 : count + 1;
+            counts.put(value, newCount);
+            if (newCount > mostCommonValueCount) {
+                mostCommonValue = value;
+                mostCommonValueCount = newCount;
+            }
+        }
+        return mostCommonValue;
+    }
+
+    public int getMostCommonKeyWidth() {
+        return getMostCommonValue(mKeyWidths);
+    }
+
+    public int getMostCommonKeyHeight() {
+        return getMostCommonValue(mKeyHeights);
+    }
+
+    /**
+     * Creates the native proximity info for this keyboard. The caller must close it.
+     */
+    public ProximityInfo createProximityInfo() {
+        return new ProximityInfo(mWidth, mHeight, mGridWidth, mGridHeight,
+                getMostCommonKeyWidth(), getMostCommonKeyHeight(), mKeyXCoordinates,
+                mKeyYCoordinates, mKeyWidths, mKeyHeights, mKeyCodes);
+    }
+}
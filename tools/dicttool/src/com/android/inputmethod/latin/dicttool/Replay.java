@@ -0,0 +1,370 @@
+/**
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.keyboard.ProximityInfo;
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.Dictionary;
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.dicttool.ReplayCorpus.Input;
+import com.android.inputmethod.latin.makedict.UnsupportedFormatException;
+import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dicttool command replaying touch input against a dictionary, to evaluate it off-device.
+ *
+ * The queries go through BinaryDictionary#getSuggestions and its DicTraverseSession with the same
+ * arguments as Suggest uses. The corpus is split by sentence between worker threads. Each worker
+ * opens its own instance of the dictionary, since the keyboard never queries a native dictionary
+ * from several threads at once; the instances map the same file, so this costs little memory.
+ */
+public class Replay extends Dicttool.Command {
+    public static final String COMMAND = "replay";
+    private static final int SESSION_ID = 0;
+    private static final float WEIGHT_FOR_LOCALE = 1.0f;
+    // The number of suggestions the suggestion strip shows.
+    private static final int SUGGESTION_STRIP_SIZE = 3;
+    private static final int[] LATENCY_PERCENTILES = { 50, 90, 99 };
+
+    // Same order as SuggestionResults: by decreasing score, then shorter words first.
+    static final Comparator<SuggestedWordInfo> SUGGESTION_COMPARATOR =
+            new Comparator<SuggestedWordInfo>() {
+                @Override
+                public int compare(final SuggestedWordInfo o1, final SuggestedWordInfo o2) {
+                    if (o1.mScore != o2.mScore) {
+                        return o1.mScore > o2.mScore ? -1 : 1;
+                    }
+                    if (o1.mWord.length() != o2.mWord.length()) {
+                        return o1.mWord.length() < o2.mWord.length() ? -1 : 1;
+                    }
+                    return o1.mWord.compareTo(o2.mWord);
+                }
+            };
+
+    /**
+     * The outcome of replaying the input of one word.
+     */
+    static final class WordResult {
+        final boolean mIsGesture;
+        // The number of taps needed to type the word without the suggestions. Zero for gestures.
+        final int mTapCount;
+        // The number of taps after which the word first showed in the suggestion strip, or 0.
+        int mTapCountToSuggest;
+        // Whether the word was the first suggestion, or in the strip, once all the input was in.
+        boolean mIsFirstSuggestion;
+        boolean mIsInSuggestionStrip;
+        final long[] mLatenciesInNanoseconds;
+
+        WordResult(final boolean isGesture, final int queryCount) {
+            mIsGesture = isGesture;
+            mTapCount = isGesture ? 0 : queryCount;
+            mLatenciesInNanoseconds = new long[queryCount];
+        }
+
+        /**
+         * @return the number of taps to input the word when picking it from the suggestion
+         *   strip as soon as it shows there. Picking it is one tap.
+         */
+        int getKeystrokeCount() {
+            if (0 == mTapCountToSuggest) {
+                return mTapCount;
+            }
+            return Math.min(mTapCountToSuggest + 1, mTapCount);
+        }
+    }
+
+    private int mThreadCount = Runtime.getRuntime().availableProcessors();
+    private float mNoise = 0.0f;
+    private long mSeed = 0;
+
+    public Replay() {
+    }
+
+    @Override
+    public String getHelp() {
+        return COMMAND + " [-t threadCount] [-n noise] [-s seed] <keyboard> <dictionary> <corpus>\n"
+                + "Replays touch input against a dictionary, and reports the suggestion "
+                + "accuracy, the keystroke savings and the latency of the queries.\n"
+                + "See KeyboardGeometry for the format of the keyboard description, and "
+                + "ReplayCorpus for the format of the corpus.\n"
+                + "The noise is the standard deviation in pixels of the synthesized taps "
+                + "around the center of their key. It is 0 by default, with a seed of 0.\n"
+                + "The number of threads defaults to the number of processors.";
+    }
+
+    @Override
+    public void run() throws IOException, UnsupportedFormatException {
+        int i = 0;
+        while (i < mArgs.length && mArgs[i].startsWith("-")) {
+            final String arg = mArgs[i++];
+            if (i >= mArgs.length) {
+                throw new IllegalArgumentException("Missing value for option " + arg);
+            }
+            if ("-t".equals(arg)) {
+                mThreadCount = Integer.parseInt(mArgs[i++]);
+            } else if ("-n".equals(arg)) {
+                mNoise = Float.parseFloat(mArgs[i++]);
+            } else if ("-s".equals(arg)) {
+                mSeed = Long.parseLong(mArgs[i++]);
+            } else {
+                throw new IllegalArgumentException("Unknown option for command " + COMMAND + ": "
+                        + arg);
+            }
+        }
+        if (mArgs.length - i != 3 || mThreadCount < 1) {
+            throw new RuntimeException("Wrong arguments for command " + COMMAND + "\n"
+                    + getHelp());
+        }
+        final KeyboardGeometry geometry;
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getFileInputStream(new File(mArgs[i])), "UTF-8"))) {
+            geometry = KeyboardGeometry.read(reader);
+        }
+        final File dictFile = BinaryDictOffdeviceUtils.getRawBinaryDictionary(mArgs[i + 1]);
+        final ReplayCorpus corpus;
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getFileInputStream(new File(mArgs[i + 2])), "UTF-8"))) {
+            corpus = ReplayCorpus.read(reader, geometry, mNoise, mSeed);
+        }
+        System.out.println("Dictionary : " + new File(mArgs[i + 1]).getAbsolutePath());
+        System.out.println("Corpus : " + new File(mArgs[i + 2]).getAbsolutePath());
+        System.out.println("Words : " + corpus.getInputCount());
+        System.out.println("Queries : " + corpus.getQueryCount());
+        System.out.println("Threads : " + mThreadCount);
+
+        final ProximityInfo proximityInfo = geometry.createProximityInfo();
+        try {
+            final long startTime = System.nanoTime();
+            final List<WordResult> results = replay(dictFile, corpus, proximityInfo);
+            final long wallTime = System.nanoTime() - startTime;
+            printReport(results);
+            System.out.println("Wall time : " + wallTime / 1000000 + " ms");
+        } finally {
+            proximityInfo.close();
+        }
+    }
+
+    private List<WordResult> replay(final File dictFile, final ReplayCorpus corpus,
+            final ProximityInfo proximityInfo) throws UnsupportedFormatException {
+        final Locale locale = BinaryDictOffdeviceUtils.getBinaryDictionaryLocale(dictFile);
+        final List<List<Input>> sentences = corpus.getSentences();
+        final WordResult[][] results = new WordResult[sentences.size()][];
+        final AtomicInteger nextSentenceIndex = new AtomicInteger(0);
+        final ExecutorService executor = Executors.newFixedThreadPool(mThreadCount);
+        try {
+            final ArrayList<Future<Void>> futures = new ArrayList<>(mThreadCount);
+            for (int i = 0; i < mThreadCount; ++i) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        final BinaryDictionary dictionary =
+                                BinaryDictOffdeviceUtils.openBinaryDictionary(dictFile, locale);
+                        try {
+                            for (int sentenceIndex = nextSentenceIndex.getAndIncrement();
+                                    sentenceIndex < sentences.size();
+                                    sentenceIndex = nextSentenceIndex.getAndIncrement()) {
+                                results[sentenceIndex] = replaySentence(dictionary,
+                                        proximityInfo, sentences.get(sentenceIndex));
+                            }
+                        } finally {
+                            dictionary.close();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while replaying", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        final ArrayList<WordResult> allResults = new ArrayList<>(corpus.getInputCount());
+        for (final WordResult[] sentenceResults : results) {
+            Collections.addAll(allResults, sentenceResults);
+        }
+        return allResults;
+    }
+
+    private static WordResult[] replaySentence(final BinaryDictionary dictionary,
+            final ProximityInfo proximityInfo, final List<Input> sentence) {
+        final SettingsValuesForSuggestion settingsValuesForSuggestion =
+                new SettingsValuesForSuggestion(true /* blockPotentiallyOffensive */);
+        final float[] weightOfLangModelVsSpatialModel = new float[1];
+        final WordResult[] results = new WordResult[sentence.size()];
+        for (int i = 0; i < sentence.size(); ++i) {
+            final Input input = sentence.get(i);
+            final WordResult result = new WordResult(input.mIsGesture, input.mQueries.size());
+            for (int queryIndex = 0; queryIndex < input.mQueries.size(); ++queryIndex) {
+                final ComposedData query = input.mQueries.get(queryIndex);
+                weightOfLangModelVsSpatialModel[0] =
+                        Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL;
+                final long startTime = System.nanoTime();
+                final ArrayList<SuggestedWordInfo> suggestions = dictionary.getSuggestions(query,
+                        input.mNgramContext, proximityInfo.getNativeProximityInfo(),
+                        settingsValuesForSuggestion, SESSION_ID, WEIGHT_FOR_LOCALE,
+                        weightOfLangModelVsSpatialModel);
+                result.mLatenciesInNanoseconds[queryIndex] = System.nanoTime() - startTime;
+                final int rank = getRank(suggestions, input.mWord);
+                final boolean isInSuggestionStrip = rank >= 0 && rank < SUGGESTION_STRIP_SIZE;
+                if (isInSuggestionStrip && 0 == result.mTapCountToSuggest && !input.mIsGesture) {
+                    result.mTapCountToSuggest = queryIndex + 1;
+                }
+                if (queryIndex == input.mQueries.size() - 1) {
+                    result.mIsFirstSuggestion = 0 == rank;
+                    result.mIsInSuggestionStrip = isInSuggestionStrip;
+                }
+            }
+            results[i] = result;
+        }
+        return results;
+    }
+
+    /**
+     * @return the rank of the word among the suggestions, or -1 if it is not suggested.
+     */
+    static int getRank(final ArrayList<SuggestedWordInfo> suggestions, final String word) {
+        if (null == suggestions) {
+            return -1;
+        }
+        final ArrayList<SuggestedWordInfo> sortedSuggestions = new ArrayList<>(suggestions);
+        Collections.sort(sortedSuggestions, SUGGESTION_COMPARATOR);
+        for (int i = 0; i < sortedSuggestions.size(); ++i) {
+            if (word.equals(sortedSuggestions.get(i).mWord)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the value at the given percentile of sorted values, with the nearest-rank method.
+     */
+    static long getPercentile(final long[] sortedValues, final int percentile) {
+        if (0 == sortedValues.length) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    private static String formatRatio(final long count, final long total) {
+        if (0 == total) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.2f%%", 100.0 * count / total);
+    }
+
+    private static void printLatencies(final String name, final List<WordResult> results,
+            final boolean isGesture) {
+        int queryCount = 0;
+        for (final WordResult result : results) {
+            if (result.mIsGesture == isGesture) {
+                queryCount += result.mLatenciesInNanoseconds.length;
+            }
+        }
+        if (0 == queryCount) {
+            return;
+        }
+        final long[] latencies = new long[queryCount];
+        int index = 0;
+        long totalLatency = 0;
+        for (final WordResult result : results) {
+            if (result.mIsGesture != isGesture) {
+                continue;
+            }
+            for (final long latency : result.mLatenciesInNanoseconds) {
+                latencies[index++] = latency;
+                totalLatency += latency;
+            }
+        }
+        Arrays.sort(latencies);
+        final StringBuilder sb = new StringBuilder(name);
+        sb.append(" query latency (us) : mean ").append(totalLatency / queryCount / 1000);
+        for (final int percentile : LATENCY_PERCENTILES) {
+            sb.append(", p").append(percentile).append(' ')
+                    .append(getPercentile(latencies, percentile) / 1000);
+        }
+        sb.append(", max ").append(latencies[queryCount - 1] / 1000);
+        System.out.println(sb);
+    }
+
+    private static void printReport(final List<WordResult> results) {
+        int typedWordCount = 0;
+        int typedFirstCount = 0;
+        int typedInStripCount = 0;
+        long tapCount = 0;
+        long keystrokeCount = 0;
+        int gesturedWordCount = 0;
+        int gesturedFirstCount = 0;
+        int gesturedInStripCount = 0;
+        for (final WordResult result : results) {
+            if (result.mIsGesture) {
+                ++gesturedWordCount;
+                gesturedFirstCount += result.mIsFirstSuggestion ? 1 : 0;
+                gesturedInStripCount += result.mIsInSuggestionStrip ? 1 : 0;
+            } else {
+                ++typedWordCount;
+                typedFirstCount += result.mIsFirstSuggestion ? 1 : 0;
+                typedInStripCount += result.mIsInSuggestionStrip ? 1 : 0;
+                tapCount += result.mTapCount;
+                keystrokeCount += result.getKeystrokeCount();
+            }
+        }
+        if (0 != typedWordCount) {
+            System.out.println("Typed words : " + typedWordCount + ", first suggestion "
+                    + formatRatio(typedFirstCount, typedWordCount) + ", in suggestion strip "
+                    + formatRatio(typedInStripCount, typedWordCount));
+            System.out.println("Keystroke savings : "
+                    + formatRatio(tapCount - keystrokeCount, tapCount));
+            printLatencies("Typing", results, false /* isGesture */);
+        }
+        if (0 != gesturedWordCount) {
+            System.out.println("Gestured words : " + gesturedWordCount + ", first suggestion "
+                    + formatRatio(gesturedFirstCount, gesturedWordCount)
+                    + ", in suggestion strip "
+                    + formatRatio(gesturedInStripCount, gesturedWordCount));
+            printLatencies("Gesture", results, true /* isGesture */);
+        }
+    }
+}
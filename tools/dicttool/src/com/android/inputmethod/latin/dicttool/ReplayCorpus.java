@@ -0,0 +1,264 @@
+/**
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.InputPointers;
+import com.android.inputmethod.latin.common.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A corpus of touch input to replay, turned into the suggestion queries the keyboard would issue.
+ *
+ * The corpus has one input per line. Empty lines and lines starting with '#' are ignored.
+ * <ul>
+ * <li>{@code type <word>} synthesizes a tap on the key of each letter of the word.</li>
+ * <li>{@code taps <word> <x>,<y>,<time> ...} replays taps recorded while typing the word. The
+ * letters typed are those of the keys the taps land on, so they may differ from the word.</li>
+ * <li>{@code trail <word> <x>,<y>,<time> ...} replays a gesture trail recorded while drawing the
+ * word.</li>
+ * <li>{@code .} ends the sentence.</li>
+ * </ul>
+ * Typing makes one query per tap, with all the taps so far, and a gesture makes one query for the
+ * whole trail. Each word becomes the previous word of the next input, so the queries carry the
+ * same n-gram context as they would on the device.
+ */
+public final class ReplayCorpus {
+    private static final String COMMENT_LINE_STARTER = "#";
+    private static final String END_OF_SENTENCE = ".";
+    private static final String TYPE = "type";
+    private static final String TAPS = "taps";
+    private static final String TRAIL = "trail";
+
+    private static final int POINTER_ID = 0;
+    private static final int KEYSTROKE_INTERVAL_IN_MILLISECONDS = 150;
+
+    /**
+     * The input of one word.
+     */
+    public static final class Input {
+        public final String mWord;
+        public final boolean mIsGesture;
+        public final NgramContext mNgramContext;
+        // One query per tap when typing, or a single query for a gesture.
+        public final List<ComposedData> mQueries;
+
+        Input(final String word, final boolean isGesture, final NgramContext ngramContext,
+                final List<ComposedData> queries) {
+            mWord = word;
+            mIsGesture = isGesture;
+            mNgramContext = ngramContext;
+            mQueries = queries;
+        }
+    }
+
+    private final ArrayList<List<Input>> mSentences = new ArrayList<>();
+    private int mInputCount;
+    private int mQueryCount;
+
+    private ReplayCorpus() {
+        // Use {@link #read(BufferedReader, KeyboardGeometry, float, long)}.
+    }
+
+    /**
+     * Reads a corpus.
+     *
+     * @param reader the reader to read the corpus from. It is not closed.
+     * @param geometry the keyboard the input was made on.
+     * @param noise the standard deviation, in pixels, of the synthesized taps around the center
+     *   of their key.
+     * @param seed the seed for the noise.
+     * @throws IOException if the corpus can't be read or is malformed.
+     */
+    public static ReplayCorpus read(final BufferedReader reader, final KeyboardGeometry geometry,
+            final float noise, final long seed) throws IOException {
+        final ReplayCorpus corpus = new ReplayCorpus();
+        final Random random = new Random(seed);
+        ArrayList<Input> sentence = new ArrayList<>();
+        NgramContext ngramContext = NgramContext.BEGINNING_OF_SENTENCE;
+        String line;
+        int lineNumber = 0;
+        while (null != (line = reader.readLine())) {
+            ++lineNumber;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_LINE_STARTER)) {
+                continue;
+            }
+            if (END_OF_SENTENCE.equals(line)) {
+                corpus.addSentence(sentence);
+                sentence = new ArrayList<>();
+                ngramContext = NgramContext.BEGINNING_OF_SENTENCE;
+                continue;
+            }
+            final String[] args = line.split("\\s+");
+            if (args.length < 2) {
+                throw new IOException("Malformed input at line " + lineNumber + ": " + line);
+            }
+            final String word = args[1];
+            final Input input;
+            switch (args[0]) {
+            case TYPE:
+                input = new Input(word, false /* isGesture */, ngramContext,
+                        getTypingQueries(synthesizeTaps(word, geometry, noise, random),
+                                word, geometry, lineNumber));
+                break;
+            case TAPS:
+                input = new Input(word, false /* isGesture */, ngramContext,
+                        getTypingQueries(parsePoints(args, lineNumber), word, geometry,
+                                lineNumber));
+                break;
+            case TRAIL:
+                input = new Input(word, true /* isGesture */, ngramContext,
+                        Collections.singletonList(new ComposedData(parsePoints(args, lineNumber),
+                                true /* isBatchMode */, word)));
+                break;
+            default:
+                throw new IOException("Unknown input at line " + lineNumber + ": " + args[0]);
+            }
+            if (!input.mIsGesture
+                    && input.mQueries.size() > BinaryDictionary.DICTIONARY_MAX_WORD_LENGTH) {
+                throw new IOException("Too many taps for the input at line " + lineNumber);
+            }
+            sentence.add(input);
+            ngramContext = ngramContext.getNextNgramContext(new WordInfo(word));
+        }
+        corpus.addSentence(sentence);
+        return corpus;
+    }
+
+    private void addSentence(final List<Input> sentence) {
+        if (sentence.isEmpty()) {
+            return;
+        }
+        mSentences.add(Collections.unmodifiableList(sentence));
+        mInputCount += sentence.size();
+        for (final Input input : sentence) {
+            mQueryCount += input.mQueries.size();
+        }
+    }
+
+    private static InputPointers synthesizeTaps(final String word,
+            final KeyboardGeometry geometry, final float noise, final Random random) {
+        final InputPointers taps = new InputPointers(word.length());
+        int time = 0;
+        for (int index = 0; index < word.length(); index = word.offsetByCodePoints(index, 1)) {
+            final int codePoint = word.codePointAt(index);
+            int x = geometry.getKeyCenterX(codePoint);
+            int y = geometry.getKeyCenterY(codePoint);
+            // Characters that are not on the keyboard are input from another layout, so there
+            // are no coordinates for them.
+            if (Constants.NOT_A_COORDINATE != x && noise > 0.0f) {
+                x += Math.round(random.nextGaussian() * noise);
+                y += Math.round(random.nextGaussian() * noise);
+            }
+            taps.addPointer(x, y, POINTER_ID, time);
+            time += KEYSTROKE_INTERVAL_IN_MILLISECONDS;
+        }
+        return taps;
+    }
+
+    private static InputPointers parsePoints(final String[] args, final int lineNumber)
+            throws IOException {
+        if (args.length < 3) {
+            throw new IOException("No point for the input at line " + lineNumber);
+        }
+        final InputPointers points = new InputPointers(args.length - 2);
+        for (int i = 2; i < args.length; ++i) {
+            final String[] point = args[i].split(",");
+            if (point.length != 3) {
+                throw new IOException("Malformed point at line " + lineNumber + ": " + args[i]);
+            }
+            try {
+                points.addPointer(Integer.parseInt(point[0]), Integer.parseInt(point[1]),
+                        POINTER_ID, Integer.parseInt(point[2]));
+            } catch (final NumberFormatException e) {
+                throw new IOException("Malformed point at line " + lineNumber + ": " + args[i], e);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Returns the queries made while typing, one per tap.
+     *
+     * Like WordComposer, each query owns a snapshot of the taps so far, and the letters typed are
+     * those of the keys the taps land on. A tap on the key of the letter of the word at the same
+     * position types that letter, so that it keeps its case.
+     */
+    private static List<ComposedData> getTypingQueries(final InputPointers taps,
+            final String word, final KeyboardGeometry geometry, final int lineNumber)
+            throws IOException {
+        final int tapCount = taps.getPointerSize();
+        final int[] wordCodePoints = StringUtils.toCodePointArray(word);
+        final StringBuilder typedWord = new StringBuilder();
+        final ArrayList<ComposedData> queries = new ArrayList<>(tapCount);
+        for (int i = 0; i < tapCount; ++i) {
+            final int x = taps.getXCoordinates()[i];
+            final int y = taps.getYCoordinates()[i];
+            final int wordCodePoint = i < wordCodePoints.length ? wordCodePoints[i]
+                    : Constants.NOT_A_CODE;
+            final int codePoint;
+            if (Constants.NOT_A_COORDINATE == x) {
+                codePoint = wordCodePoint;
+            } else {
+                final int keyCode = geometry.getCodeAt(x, y);
+                codePoint = keyCode == Character.toLowerCase(wordCodePoint) ? wordCodePoint
+                        : keyCode;
+            }
+            if (Constants.NOT_A_CODE == codePoint) {
+                throw new IOException("Tap without coordinates past the end of the word at line "
+                        + lineNumber);
+            }
+            typedWord.appendCodePoint(codePoint);
+            queries.add(new ComposedData(getFirstPointers(taps, i + 1), false /* isBatchMode */,
+                    typedWord.toString()));
+        }
+        return queries;
+    }
+
+    private static InputPointers getFirstPointers(final InputPointers pointers, final int count) {
+        final InputPointers firstPointers = new InputPointers(count);
+        for (int i = 0; i < count; ++i) {
+            firstPointers.addPointerAt(i, pointers.getXCoordinates()[i],
+                    pointers.getYCoordinates()[i], pointers.getPointerIds()[i],
+                    pointers.getTimes()[i]);
+        }
+        return firstPointers;
+    }
+
+    public List<List<Input>> getSentences() {
+        return Collections.unmodifiableList(mSentences);
+    }
+
+    public int getInputCount() {
+        return mInputCount;
+    }
+
+    public int getQueryCount() {
+        return mQueryCount;
+    }
+}
@@ -0,0 +1,479 @@
+/**
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.keyboard.ProximityInfo;
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.Dictionary;
+import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.common.InputPointers;
+import com.android.inputmethod.latin.makedict.UnsupportedFormatException;
+import com.android.inputmethod.latin.makedict.WordProperty;
+import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
+import com.android.inputmethod.latin.utils.CombinedFormatUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Dicttool command answering queries about dictionaries, for jobs that make many of them.
+ *
+ * The dictionaries are opened once, through the native BinaryDictionary, and the requests are
+ * answered by a pool of worker threads. Each worker opens its own instance of each dictionary,
+ * with its own traverse session, since the keyboard never queries a native dictionary from
+ * several threads at once; the instances map the same file, so this costs little memory.
+ *
+ * There is one request per line, with fields separated by tabs. Previous words come oldest first,
+ * and {@value #BEGINNING_OF_SENTENCE} stands for the beginning of a sentence.
+ * <ul>
+ * <li>{@code probability <dictionary> <word>}: the probability of the word.</li>
+ * <li>{@code ngram <dictionary> <previous word>... <word>}: the probability of the word after
+ * the previous words.</li>
+ * <li>{@code property <dictionary> <word>}: the property of the word in the combined format,
+ * one field per line of the format, or no field if the word is not in the dictionary.</li>
+ * <li>{@code suggest <dictionary> <count> <previous word>... <word>}: the best suggestions for
+ * typing the word on the keyboard given with -k, as word:score fields.</li>
+ * </ul>
+ * There is one response line per request, in the order of the requests: "ok" followed by the
+ * result fields, or "error" followed by a message.
+ */
+public class Serve extends Dicttool.Command {
+    public static final String COMMAND = "serve";
+    static final String FIELD_SEPARATOR = "\t";
+    static final String BEGINNING_OF_SENTENCE = "<s>";
+    private static final String PROBABILITY = "probability";
+    private static final String NGRAM = "ngram";
+    private static final String PROPERTY = "property";
+    private static final String SUGGEST = "suggest";
+    private static final String OK = "ok";
+    private static final String ERROR = "error";
+
+    private static final int SESSION_ID = 0;
+    private static final float WEIGHT_FOR_LOCALE = 1.0f;
+    private static final int POINTER_ID = 0;
+    // Requests read ahead of the response being written, per connection. Reading stops when there
+    // are that many, until the oldest one has been answered.
+    private static final int MAX_PENDING_REQUEST_COUNT = 1024;
+
+    /**
+     * A request, and its response once a worker has answered it.
+     */
+    static final class Request {
+        final String mLine;
+        private final CountDownLatch mAnsweredLatch = new CountDownLatch(1);
+        private String mResponse;
+
+        Request(final String line) {
+            mLine = line;
+        }
+
+        void setResponse(final String response) {
+            mResponse = response;
+            mAnsweredLatch.countDown();
+        }
+
+        String awaitResponse() throws InterruptedException {
+            mAnsweredLatch.await();
+            return mResponse;
+        }
+    }
+
+    // Marks the end of the requests of a connection in its queue of pending requests.
+    private static final Request END_OF_REQUESTS = new Request(null);
+
+    /**
+     * Answers requests with the dictionaries of one worker thread.
+     */
+    private static final class RequestHandler {
+        private final HashMap<String, BinaryDictionary> mDictionaries;
+        private final KeyboardGeometry mGeometry;
+        private final ProximityInfo mProximityInfo;
+        private final SettingsValuesForSuggestion mSettingsValuesForSuggestion =
+                new SettingsValuesForSuggestion(true /* blockPotentiallyOffensive */);
+        private final float[] mWeightOfLangModelVsSpatialModel = new float[1];
+
+        RequestHandler(final HashMap<String, BinaryDictionary> dictionaries,
+                final KeyboardGeometry geometry, final ProximityInfo proximityInfo) {
+            mDictionaries = dictionaries;
+            mGeometry = geometry;
+            mProximityInfo = proximityInfo;
+        }
+
+        String answer(final String line) {
+            final String[] fields = line.split(FIELD_SEPARATOR, -1 /* limit */);
+            if (fields.length < 3) {
+                return ERROR + FIELD_SEPARATOR + "Malformed request";
+            }
+            final BinaryDictionary dictionary = mDictionaries.get(fields[1]);
+            if (null == dictionary) {
+                return ERROR + FIELD_SEPARATOR + "Unknown dictionary " + fields[1];
+            }
+            final String word = fields[fields.length - 1];
+            try {
+                switch (fields[0]) {
+                case PROBABILITY:
+                    if (3 != fields.length) {
+                        break;
+                    }
+                    return OK + FIELD_SEPARATOR + dictionary.getFrequency(word);
+                case NGRAM:
+                    if (fields.length < 4) {
+                        break;
+                    }
+                    return OK + FIELD_SEPARATOR + dictionary.getNgramProbability(
+                            getNgramContext(fields, 2, fields.length - 1), word);
+                case PROPERTY:
+                    if (3 != fields.length) {
+                        break;
+                    }
+                    return OK + formatWordProperty(
+                            dictionary.getWordProperty(word, false /* isBeginningOfSentence */));
+                case SUGGEST:
+                    if (fields.length < 4) {
+                        break;
+                    }
+                    return suggest(dictionary, Integer.parseInt(fields[2]),
+                            getNgramContext(fields, 3, fields.length - 1), word);
+                default:
+                    return ERROR + FIELD_SEPARATOR + "Unknown request " + fields[0];
+                }
+                return ERROR + FIELD_SEPARATOR + "Wrong number of fields for " + fields[0];
+            } catch (final RuntimeException e) {
+                return ERROR + FIELD_SEPARATOR + e;
+            }
+        }
+
+        private static String formatWordProperty(final WordProperty wordProperty) {
+            if (null == wordProperty
+                    || wordProperty.mProbabilityInfo.mProbability == Dictionary.NOT_A_PROBABILITY) {
+                return "";
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (final String line : CombinedFormatUtils.formatWordProperty(wordProperty)
+                    .split("\n")) {
+                sb.append(FIELD_SEPARATOR).append(line.trim());
+            }
+            return sb.toString();
+        }
+
+        private String suggest(final BinaryDictionary dictionary, final int count,
+                final NgramContext ngramContext, final String word) {
+            if (null == mProximityInfo) {
+                return ERROR + FIELD_SEPARATOR + "No keyboard to suggest with";
+            }
+            // Taps at the centers of the keys of the word, like ReplayCorpus does without noise.
+            final InputPointers taps = new InputPointers(word.length());
+            int tapIndex = 0;
+            for (int index = 0; index < word.length(); index = word.offsetByCodePoints(index, 1)) {
+                final int codePoint = word.codePointAt(index);
+                taps.addPointerAt(tapIndex, mGeometry.getKeyCenterX(codePoint),
+                        mGeometry.getKeyCenterY(codePoint), POINTER_ID, tapIndex);
+                ++tapIndex;
+            }
+            mWeightOfLangModelVsSpatialModel[0] =
+                    Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL;
+            final ArrayList<SuggestedWordInfo> suggestions = dictionary.getSuggestions(
+                    new ComposedData(taps, false /* isBatchMode */, word), ngramContext,
+                    mProximityInfo.getNativeProximityInfo(), mSettingsValuesForSuggestion,
+                    SESSION_ID, WEIGHT_FOR_LOCALE, mWeightOfLangModelVsSpatialModel);
+            final StringBuilder sb = new StringBuilder(OK);
+            if (null == suggestions) {
+                return sb.toString();
+            }
+            Collections.sort(suggestions, Replay.SUGGESTION_COMPARATOR);
+            for (int i = 0; i < count && i < suggestions.size(); ++i) {
+                final SuggestedWordInfo suggestion = suggestions.get(i);
+                sb.append(FIELD_SEPARATOR).append(suggestion.mWord).append(':')
+                        .append(suggestion.mScore);
+            }
+            return sb.toString();
+        }
+
+        void close() {
+            for (final BinaryDictionary dictionary : mDictionaries.values()) {
+                dictionary.close();
+            }
+        }
+    }
+
+    /**
+     * @return the n-gram context of the previous words in fields [start, end), oldest first.
+     *   Only the most recent words that n-grams can use are kept.
+     */
+    static NgramContext getNgramContext(final String[] fields, final int start, final int end) {
+        if (start >= end) {
+            return NgramContext.EMPTY_PREV_WORDS_INFO;
+        }
+        final int prevWordCount =
+                Math.min(end - start, BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        final WordInfo[] prevWordsInfo = new WordInfo[prevWordCount];
+        for (int i = 0; i < prevWordCount; ++i) {
+            final String prevWord = fields[end - 1 - i];
+            prevWordsInfo[i] = BEGINNING_OF_SENTENCE.equals(prevWord)
+                    ? WordInfo.BEGINNING_OF_SENTENCE_WORD_INFO : new WordInfo(prevWord);
+        }
+        return new NgramContext(prevWordsInfo);
+    }
+
+    private int mThreadCount = Runtime.getRuntime().availableProcessors();
+    private int mPort = 0;
+    private String mKeyboardFilename = null;
+    // Requests waiting for a worker, from all connections.
+    private final LinkedBlockingQueue<Request> mRequests = new LinkedBlockingQueue<>();
+
+    public Serve() {
+    }
+
+    @Override
+    public String getHelp() {
+        return COMMAND + " [-t threadCount] [-p port] [-k keyboard] <name>=<dictionary>...\n"
+                + "Opens the dictionaries once, and answers requests about them from the "
+                + "standard input, or from connections to the given port on the loopback "
+                + "interface.\n"
+                + "See Serve for the format of the requests, and KeyboardGeometry for the "
+                + "format of the keyboard description, which suggestions need.\n"
+                + "The number of threads defaults to the number of processors.";
+    }
+
+    @Override
+    public void run() throws IOException, UnsupportedFormatException, InterruptedException {
+        int i = 0;
+        while (i < mArgs.length && mArgs[i].startsWith("-")) {
+            final String arg = mArgs[i++];
+            if (i >= mArgs.length) {
+                throw new IllegalArgumentException("Missing value for option " + arg);
+            }
+            if ("-t".equals(arg)) {
+                mThreadCount = Integer.parseInt(mArgs[i++]);
+            } else if ("-p".equals(arg)) {
+                mPort = Integer.parseInt(mArgs[i++]);
+            } else if ("-k".equals(arg)) {
+                mKeyboardFilename = mArgs[i++];
+            } else {
+                throw new IllegalArgumentException("Unknown option for command " + COMMAND + ": "
+                        + arg);
+            }
+        }
+        if (i >= mArgs.length || mThreadCount < 1) {
+            throw new RuntimeException("Wrong arguments for command " + COMMAND + "\n"
+                    + getHelp());
+        }
+        final HashMap<String, File> dictFiles = new HashMap<>();
+        for (; i < mArgs.length; ++i) {
+            final int separatorIndex = mArgs[i].indexOf('=');
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("Dictionaries must be given as "
+                        + "<name>=<dictionary>: " + mArgs[i]);
+            }
+            dictFiles.put(mArgs[i].substring(0, separatorIndex),
+                    BinaryDictOffdeviceUtils.getRawBinaryDictionary(
+                            mArgs[i].substring(separatorIndex + 1)));
+        }
+        KeyboardGeometry geometry = null;
+        if (null != mKeyboardFilename) {
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    getFileInputStream(new File(mKeyboardFilename)), "UTF-8"))) {
+                geometry = KeyboardGeometry.read(reader);
+            }
+        }
+        final ProximityInfo proximityInfo = null == geometry ? null
+                : geometry.createProximityInfo();
+        final ArrayList<Thread> workers = new ArrayList<>(mThreadCount);
+        try {
+            final HashMap<String, Locale> locales = new HashMap<>();
+            for (final Map.Entry<String, File> entry : dictFiles.entrySet()) {
+                locales.put(entry.getKey(),
+                        BinaryDictOffdeviceUtils.getBinaryDictionaryLocale(entry.getValue()));
+            }
+            for (int workerIndex = 0; workerIndex < mThreadCount; ++workerIndex) {
+                final HashMap<String, BinaryDictionary> dictionaries = new HashMap<>();
+                boolean isWorkerStarted = false;
+                try {
+                    for (final Map.Entry<String, File> entry : dictFiles.entrySet()) {
+                        dictionaries.put(entry.getKey(),
+                                BinaryDictOffdeviceUtils.openBinaryDictionary(entry.getValue(),
+                                        locales.get(entry.getKey())));
+                    }
+                    workers.add(startWorker(new RequestHandler(dictionaries, geometry,
+                            proximityInfo)));
+                    isWorkerStarted = true;
+                } finally {
+                    // A started worker closes its dictionaries when it stops.
+                    if (!isWorkerStarted) {
+                        for (final BinaryDictionary dictionary : dictionaries.values()) {
+                            dictionary.close();
+                        }
+                    }
+                }
+            }
+            if (0 == mPort) {
+                serveRequests(new BufferedReader(new InputStreamReader(System.in, "UTF-8")),
+                        new BufferedWriter(new OutputStreamWriter(System.out, "UTF-8")),
+                        mRequests);
+            } else {
+                listen();
+            }
+        } finally {
+            for (final Thread worker : workers) {
+                worker.interrupt();
+            }
+            for (final Thread worker : workers) {
+                worker.join();
+            }
+            if (null != proximityInfo) {
+                proximityInfo.close();
+            }
+        }
+    }
+
+    private Thread startWorker(final RequestHandler handler) {
+        final Thread worker = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        final Request request = mRequests.take();
+                        request.setResponse(handler.answer(request.mLine));
+                    }
+                } catch (final InterruptedException e) {
+                    // The server is shutting down.
+                } finally {
+                    handler.close();
+                }
+            }
+        };
+        worker.start();
+        return worker;
+    }
+
+    private void listen() throws IOException {
+        try (final ServerSocket serverSocket =
+                new ServerSocket(mPort, 0 /* backlog */, InetAddress.getLoopbackAddress())) {
+            System.err.println("Listening on " + serverSocket.getLocalSocketAddress());
+            while (true) {
+                final Socket socket = serverSocket.accept();
+                new Thread() {
+                    @Override
+                    public void run() {
+                        try {
+                            serveConnection(socket.getInputStream(), socket.getOutputStream());
+                        } catch (final IOException | InterruptedException e) {
+                            System.err.println("Connection failed : " + e);
+                        } finally {
+                            try {
+                                socket.close();
+                            } catch (final IOException e) {
+                                // Nothing more to do with this connection.
+                            }
+                        }
+                    }
+                }.start();
+            }
+        }
+    }
+
+    private void serveConnection(final InputStream in, final OutputStream out)
+            throws IOException, InterruptedException {
+        serveRequests(new BufferedReader(new InputStreamReader(in, "UTF-8")),
+                new BufferedWriter(new OutputStreamWriter(out, "UTF-8")), mRequests);
+    }
+
+    /**
+     * Reads requests until the end of the input, and writes their responses in the same order.
+     *
+     * Requests are queued for the workers as soon as they are read, so they are answered in
+     * parallel, while a separate thread writes the responses in order as they come. The output is
+     * flushed whenever there is no response left to write, so a client sending one request at a
+     * time gets each response immediately, and a client sending many gets them in large writes.
+     *
+     * @param reader the reader to read the requests from.
+     * @param writer the writer to write the responses to.
+     * @param requests the queue the workers take the requests to answer from.
+     */
+    static void serveRequests(final BufferedReader reader, final Writer writer,
+            final BlockingQueue<Request> requests) throws IOException, InterruptedException {
+        final BlockingQueue<Request> pendingRequests =
+                new ArrayBlockingQueue<>(MAX_PENDING_REQUEST_COUNT);
+        final IOException[] writeException = new IOException[1];
+        final Thread responseWriter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    for (Request request = pendingRequests.take(); END_OF_REQUESTS != request;
+                            request = pendingRequests.take()) {
+                        final String response = request.awaitResponse();
+                        if (null != writeException[0]) {
+                            // Keep taking the requests so that reading them doesn't block.
+                            continue;
+                        }
+                        try {
+                            writer.write(response);
+                            writer.write('\n');
+                            if (pendingRequests.isEmpty()) {
+                                writer.flush();
+                            }
+                        } catch (final IOException e) {
+                            writeException[0] = e;
+                        }
+                    }
+                    writer.flush();
+                } catch (final IOException e) {
+                    writeException[0] = e;
+                } catch (final InterruptedException e) {
+                    // The server is shutting down.
+                }
+            }
+        };
+        responseWriter.start();
+        try {
+            String line;
+            while (null != (line = reader.readLine())) {
+                final Request request = new Request(line);
+                pendingRequests.put(request);
+                requests.put(request);
+            }
+        } finally {
+            pendingRequests.put(END_OF_REQUESTS);
+            responseWriter.join();
+        }
+        if (null != writeException[0]) {
+            throw writeException[0];
+        }
+    }
+}
@@ -0,0 +1,520 @@
+/**
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.latin.BinaryDictionary;
+import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.NgramContext.WordInfo;
+import com.android.inputmethod.latin.WordPropertyIterator;
+import com.android.inputmethod.latin.dicttool.BinaryDictOffdeviceUtils.DecoderChainSpec;
+import com.android.inputmethod.latin.makedict.NgramProperty;
+import com.android.inputmethod.latin.makedict.ProbabilityInfo;
+import com.android.inputmethod.latin.makedict.UnsupportedFormatException;
+import com.android.inputmethod.latin.makedict.WeightedString;
+import com.android.inputmethod.latin.makedict.WordProperty;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * Reads the words of a dictionary in the order of their spelling, with bounded memory.
+ *
+ * Neither format stores the words in that order: combined format files are ordered by
+ * probability, and the order of a binary dictionary depends on how it was built. So the words are
+ * read in runs of at most a given number of words, and each run is sorted. If the dictionary
+ * doesn't fit in a single run, the runs are written to temporary files and merged as the words
+ * are read.
+ *
+ * If a word appears several times, its occurrences are merged into one word as when the dictionary
+ * is read into a FusionDictionary: the word keeps its highest probability, the union of its
+ * shortcuts and n-grams with the highest probability of each, and the flags of its last
+ * occurrence. Likewise, the target of a bigram of a combined format file that is not a word of the
+ * file is read as a word with a probability of 0.
+ */
+public final class SortedWordProperties implements Closeable {
+    private static final String PREFIX = "dicttool";
+    private static final String SUFFIX = ".tmp";
+    // The probability of the words that are only implied by the bigrams of a combined format
+    // file. It is compared by identity, so that the implied words are told from the others.
+    private static final ProbabilityInfo IMPLIED_WORD_PROBABILITY_INFO = new ProbabilityInfo(0);
+
+    static final Comparator<WordProperty> WORD_COMPARATOR = new Comparator<WordProperty>() {
+        @Override
+        public int compare(final WordProperty wordProperty0, final WordProperty wordProperty1) {
+            return wordProperty0.mWord.compareTo(wordProperty1.mWord);
+        }
+    };
+
+    /**
+     * The words of a dictionary, in any order.
+     */
+    interface Source {
+        /**
+         * @return the next word, or null if there are no more words.
+         */
+        WordProperty read() throws IOException;
+    }
+
+    /**
+     * Adds the targets of the bigrams of the words of a combined format file as implied words,
+     * as FusionDictionary#setBigram does when it reads the file.
+     */
+    static Source withImpliedBigramTargets(final Source source) {
+        final ArrayList<WordProperty> impliedWordProperties = new ArrayList<>();
+        return new Source() {
+            @Override
+            public WordProperty read() throws IOException {
+                if (!impliedWordProperties.isEmpty()) {
+                    return impliedWordProperties.remove(impliedWordProperties.size() - 1);
+                }
+                final WordProperty wordProperty = source.read();
+                if (null != wordProperty && wordProperty.mHasNgrams) {
+                    for (final WeightedString bigramTarget : wordProperty.getBigrams()) {
+                        impliedWordProperties.add(createWordProperty(bigramTarget.mWord,
+                                IMPLIED_WORD_PROBABILITY_INFO));
+                    }
+                }
+                return wordProperty;
+            }
+        };
+    }
+
+    private static WordProperty createWordProperty(final String word,
+            final ProbabilityInfo probabilityInfo) {
+        return new WordProperty(word, probabilityInfo, new ArrayList<WeightedString>(),
+                null /* bigrams */, false /* isNotAWord */, false /* isPossiblyOffensive */);
+    }
+
+    private static boolean isImpliedWord(final WordProperty wordProperty) {
+        return IMPLIED_WORD_PROBABILITY_INFO == wordProperty.mProbabilityInfo;
+    }
+
+    /**
+     * A sorted run written to a temporary file, and its next word.
+     */
+    private static final class Run {
+        final int mIndex;
+        final DataInputStream mInput;
+        WordProperty mHead;
+
+        Run(final int index, final DataInputStream input) {
+            mIndex = index;
+            mInput = input;
+        }
+    }
+
+    private static final Comparator<Run> RUN_COMPARATOR = new Comparator<Run>() {
+        @Override
+        public int compare(final Run run0, final Run run1) {
+            final int result = WORD_COMPARATOR.compare(run0.mHead, run1.mHead);
+            // Earlier runs first, so that the flags of the last occurrence of a word win.
+            return 0 != result ? result : run0.mIndex - run1.mIndex;
+        }
+    };
+
+    private final HashMap<String, String> mAttributes;
+    private final ArrayList<File> mRunFiles = new ArrayList<>();
+    private final ArrayList<Run> mRuns = new ArrayList<>();
+    private final PriorityQueue<Run> mRunsByHead = new PriorityQueue<>(11, RUN_COMPARATOR);
+    // The words of the only run, when the dictionary fits in memory.
+    private Iterator<WordProperty> mInMemoryRun;
+    private WordProperty mNextWordProperty;
+
+    /**
+     * Reads and sorts all the words of a source.
+     *
+     * @param attributes the attributes in the header of the dictionary.
+     * @param source the words of the dictionary. They are all read before this returns.
+     * @param maxRunSize the maximum number of words to keep in memory.
+     */
+    SortedWordProperties(final HashMap<String, String> attributes, final Source source,
+            final int maxRunSize) throws IOException {
+        mAttributes = attributes;
+        boolean success = false;
+        try {
+            final ArrayList<WordProperty> run = new ArrayList<>();
+            WordProperty wordProperty;
+            while (null != (wordProperty = source.read())) {
+                run.add(wordProperty);
+                if (run.size() >= maxRunSize) {
+                    writeRun(run);
+                    run.clear();
+                }
+            }
+            if (mRunFiles.isEmpty()) {
+                Collections.sort(run, WORD_COMPARATOR);
+                mInMemoryRun = run.iterator();
+            } else {
+                if (!run.isEmpty()) {
+                    writeRun(run);
+                }
+                for (final File runFile : mRunFiles) {
+                    final Run fileRun = new Run(mRuns.size(), new DataInputStream(
+                            new BufferedInputStream(new FileInputStream(runFile))));
+                    mRuns.add(fileRun);
+                    fileRun.mHead = readWordProperty(fileRun.mInput);
+                    if (null != fileRun.mHead) {
+                        mRunsByHead.add(fileRun);
+                    }
+                }
+            }
+            mNextWordProperty = readSortedWordProperty();
+            success = true;
+        } finally {
+            if (!success) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Reads and sorts the words of a dictionary file.
+     *
+     * @param filename the name of a dictionary in the combined format or the binary format,
+     *   compressed or encrypted or not. Binary dictionaries are read through the native library.
+     * @param maxRunSize the maximum number of words to keep in memory.
+     */
+    public static SortedWordProperties open(final String filename, final int maxRunSize)
+            throws IOException, UnsupportedFormatException {
+        final DecoderChainSpec<File> spec =
+                BinaryDictOffdeviceUtils.getRawDictionaryOrNull(new File(filename));
+        if (null == spec) {
+            throw new UnsupportedFormatException(filename
+                    + " doesn't seem to be a dictionary file");
+        }
+        final File dictFile = spec.mResult;
+        if (CombinedInputOutput.isCombinedDictionary(dictFile.getAbsolutePath())) {
+            try (final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new FileInputStream(dictFile), "UTF-8"))) {
+                final CombinedInputOutput.WordPropertyReader wordPropertyReader =
+                        new CombinedInputOutput.WordPropertyReader(reader);
+                return new SortedWordProperties(wordPropertyReader.getAttributes(),
+                        withImpliedBigramTargets(new Source() {
+                            @Override
+                            public WordProperty read() throws IOException {
+                                return wordPropertyReader.read();
+                            }
+                        }), maxRunSize);
+            }
+        }
+        final BinaryDictionary dictionary =
+                BinaryDictOffdeviceUtils.openBinaryDictionary(dictFile, Locale.ROOT);
+        try {
+            final WordPropertyIterator iterator = dictionary.getWordPropertyIterator();
+            return new SortedWordProperties(
+                    new HashMap<>(dictionary.getHeader().mDictionaryOptions.mAttributes),
+                    new Source() {
+                        @Override
+                        public WordProperty read() {
+                            return iterator.hasNext() ? iterator.next() : null;
+                        }
+                    }, maxRunSize);
+        } finally {
+            dictionary.close();
+        }
+    }
+
+    /**
+     * @return the attributes in the header of the dictionary.
+     */
+    public HashMap<String, String> getAttributes() {
+        return mAttributes;
+    }
+
+    /**
+     * @return the number of runs written to temporary files, or 0 if the words fit in memory.
+     */
+    int getRunFileCount() {
+        return mRunFiles.size();
+    }
+
+    /**
+     * Reads the next word in the order of spelling.
+     *
+     * @return the next word, or null if there are no more words.
+     */
+    public WordProperty read() throws IOException {
+        WordProperty wordProperty = mNextWordProperty;
+        if (null == wordProperty) {
+            return null;
+        }
+        mNextWordProperty = readSortedWordProperty();
+        while (null != mNextWordProperty && wordProperty.mWord.equals(mNextWordProperty.mWord)) {
+            wordProperty = merge(wordProperty, mNextWordProperty);
+            mNextWordProperty = readSortedWordProperty();
+        }
+        if (isImpliedWord(wordProperty)) {
+            return createWordProperty(wordProperty.mWord, new ProbabilityInfo(0));
+        }
+        return wordProperty;
+    }
+
+    /**
+     * Merges two occurrences of a word like FusionDictionary.PtNode#update. An implied word
+     * is only added if the word isn't there yet, so it never changes the other occurrences.
+     */
+    private static WordProperty merge(final WordProperty wordProperty,
+            final WordProperty nextWordProperty) {
+        if (isImpliedWord(nextWordProperty)) {
+            return wordProperty;
+        }
+        if (isImpliedWord(wordProperty)) {
+            return nextWordProperty;
+        }
+        final ArrayList<WeightedString> shortcutTargets = mergeWeightedStrings(
+                wordProperty.mShortcutTargets, nextWordProperty.mShortcutTargets);
+        final ArrayList<NgramProperty> ngrams;
+        if (null == wordProperty.mNgrams || null == nextWordProperty.mNgrams) {
+            ngrams = null == wordProperty.mNgrams ? nextWordProperty.mNgrams : wordProperty.mNgrams;
+        } else {
+            ngrams = new ArrayList<>(wordProperty.mNgrams);
+            for (final NgramProperty ngram : nextWordProperty.mNgrams) {
+                final int index = indexOfNgram(ngrams, ngram);
+                if (index < 0) {
+                    ngrams.add(ngram);
+                } else {
+                    final WeightedString existingTarget = ngrams.get(index).mTargetWord;
+                    ngrams.set(index, new NgramProperty(new WeightedString(existingTarget.mWord,
+                            ProbabilityInfo.max(existingTarget.mProbabilityInfo,
+                                    ngram.mTargetWord.mProbabilityInfo)),
+                            ngram.mNgramContext));
+                }
+            }
+        }
+        return new WordProperty(wordProperty.mWord,
+                ProbabilityInfo.max(wordProperty.mProbabilityInfo,
+                        nextWordProperty.mProbabilityInfo),
+                shortcutTargets, ngrams, nextWordProperty.mIsNotAWord,
+                nextWordProperty.mIsPossiblyOffensive,
+                wordProperty.mHasNgrams || nextWordProperty.mHasNgrams,
+                wordProperty.mHasShortcuts || nextWordProperty.mHasShortcuts,
+                nextWordProperty.mIsBeginningOfSentence);
+    }
+
+    private static ArrayList<WeightedString> mergeWeightedStrings(
+            final ArrayList<WeightedString> weightedStrings,
+            final ArrayList<WeightedString> nextWeightedStrings) {
+        if (null == weightedStrings || null == nextWeightedStrings) {
+            return null == weightedStrings ? nextWeightedStrings : weightedStrings;
+        }
+        final ArrayList<WeightedString> result = new ArrayList<>(weightedStrings);
+        for (final WeightedString weightedString : nextWeightedStrings) {
+            final int index = indexOfWord(result, weightedString.mWord);
+            if (index < 0) {
+                result.add(weightedString);
+            } else {
+                result.set(index, new WeightedString(weightedString.mWord,
+                        ProbabilityInfo.max(result.get(index).mProbabilityInfo,
+                                weightedString.mProbabilityInfo)));
+            }
+        }
+        return result;
+    }
+
+    private static int indexOfWord(final ArrayList<WeightedString> weightedStrings,
+            final String word) {
+        for (int i = 0; i < weightedStrings.size(); ++i) {
+            if (weightedStrings.get(i).mWord.equals(word)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfNgram(final ArrayList<NgramProperty> ngrams,
+            final NgramProperty ngram) {
+        for (int i = 0; i < ngrams.size(); ++i) {
+            final NgramProperty existingNgram = ngrams.get(i);
+            if (existingNgram.mTargetWord.mWord.equals(ngram.mTargetWord.mWord)
+                    && existingNgram.mNgramContext.equals(ngram.mNgramContext)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private WordProperty readSortedWordProperty() throws IOException {
+        if (null != mInMemoryRun) {
+            return mInMemoryRun.hasNext() ? mInMemoryRun.next() : null;
+        }
+        final Run run = mRunsByHead.poll();
+        if (null == run) {
+            return null;
+        }
+        final WordProperty wordProperty = run.mHead;
+        run.mHead = readWordProperty(run.mInput);
+        if (null != run.mHead) {
+            mRunsByHead.add(run);
+        }
+        return wordProperty;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Run run : mRuns) {
+            run.mInput.close();
+        }
+        mRuns.clear();
+        mRunsByHead.clear();
+        for (final File runFile : mRunFiles) {
+            runFile.delete();
+        }
+        mRunFiles.clear();
+    }
+
+    private void writeRun(final ArrayList<WordProperty> run) throws IOException {
+        Collections.sort(run, WORD_COMPARATOR);
+        final File runFile = File.createTempFile(PREFIX, SUFFIX);
+        runFile.deleteOnExit();
+        mRunFiles.add(runFile);
+        try (final DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(runFile)))) {
+            for (final WordProperty wordProperty : run) {
+                writeWordProperty(output, wordProperty);
+            }
+        }
+    }
+
+    // Runs are written with everything a WordProperty holds, so that reading a dictionary
+    // through temporary files gives the same words as reading it in memory.
+    private static void writeWordProperty(final DataOutputStream output,
+            final WordProperty wordProperty) throws IOException {
+        output.writeUTF(wordProperty.mWord);
+        output.writeBoolean(isImpliedWord(wordProperty));
+        if (isImpliedWord(wordProperty)) {
+            return;
+        }
+        writeProbabilityInfo(output, wordProperty.mProbabilityInfo);
+        output.writeBoolean(wordProperty.mIsNotAWord);
+        output.writeBoolean(wordProperty.mIsPossiblyOffensive);
+        output.writeBoolean(wordProperty.mHasNgrams);
+        output.writeBoolean(wordProperty.mHasShortcuts);
+        output.writeBoolean(wordProperty.mIsBeginningOfSentence);
+        if (null == wordProperty.mNgrams) {
+            output.writeInt(-1);
+        } else {
+            output.writeInt(wordProperty.mNgrams.size());
+            for (final NgramProperty ngram : wordProperty.mNgrams) {
+                final NgramContext ngramContext = ngram.mNgramContext;
+                output.writeInt(ngramContext.getPrevWordCount());
+                for (int i = 1; i <= ngramContext.getPrevWordCount(); ++i) {
+                    final boolean isBeginningOfSentence =
+                            ngramContext.isNthPrevWordBeginningOfSentence(i);
+                    output.writeBoolean(isBeginningOfSentence);
+                    output.writeUTF(isBeginningOfSentence ? ""
+                            : ngramContext.getNthPrevWord(i).toString());
+                }
+                writeWeightedString(output, ngram.mTargetWord);
+            }
+        }
+        if (null == wordProperty.mShortcutTargets) {
+            output.writeInt(-1);
+        } else {
+            output.writeInt(wordProperty.mShortcutTargets.size());
+            for (final WeightedString shortcutTarget : wordProperty.mShortcutTargets) {
+                writeWeightedString(output, shortcutTarget);
+            }
+        }
+    }
+
+    private static WordProperty readWordProperty(final DataInputStream input)
+            throws IOException {
+        final String word;
+        try {
+            word = input.readUTF();
+        } catch (final EOFException e) {
+            return null;
+        }
+        if (input.readBoolean()) {
+            return createWordProperty(word, IMPLIED_WORD_PROBABILITY_INFO);
+        }
+        final ProbabilityInfo probabilityInfo = readProbabilityInfo(input);
+        final boolean isNotAWord = input.readBoolean();
+        final boolean isPossiblyOffensive = input.readBoolean();
+        final boolean hasNgrams = input.readBoolean();
+        final boolean hasShortcuts = input.readBoolean();
+        final boolean isBeginningOfSentence = input.readBoolean();
+        final int ngramCount = input.readInt();
+        final ArrayList<NgramProperty> ngrams = ngramCount < 0 ? null
+                : new ArrayList<NgramProperty>(ngramCount);
+        for (int i = 0; i < ngramCount; ++i) {
+            final WordInfo[] prevWordsInfo = new WordInfo[input.readInt()];
+            for (int j = 0; j < prevWordsInfo.length; ++j) {
+                final boolean isPrevWordBeginningOfSentence = input.readBoolean();
+                final String prevWord = input.readUTF();
+                prevWordsInfo[j] = isPrevWordBeginningOfSentence
+                        ? WordInfo.BEGINNING_OF_SENTENCE_WORD_INFO : new WordInfo(prevWord);
+            }
+            final WeightedString targetWord = readWeightedString(input);
+            ngrams.add(new NgramProperty(targetWord, new NgramContext(prevWordsInfo)));
+        }
+        final int shortcutCount = input.readInt();
+        final ArrayList<WeightedString> shortcutTargets = shortcutCount < 0 ? null
+                : new ArrayList<WeightedString>(shortcutCount);
+        for (int i = 0; i < shortcutCount; ++i) {
+            shortcutTargets.add(readWeightedString(input));
+        }
+        return new WordProperty(word, probabilityInfo, shortcutTargets, ngrams, isNotAWord,
+                isPossiblyOffensive, hasNgrams, hasShortcuts, isBeginningOfSentence);
+    }
+
+    private static void writeWeightedString(final DataOutputStream output,
+            final WeightedString weightedString) throws IOException {
+        output.writeUTF(weightedString.mWord);
+        writeProbabilityInfo(output, weightedString.mProbabilityInfo);
+    }
+
+    private static WeightedString readWeightedString(final DataInputStream input)
+            throws IOException {
+        final String word = input.readUTF();
+        return new WeightedString(word, readProbabilityInfo(input));
+    }
+
+    private static void writeProbabilityInfo(final DataOutputStream output,
+            final ProbabilityInfo probabilityInfo) throws IOException {
+        output.writeInt(probabilityInfo.mProbability);
+        output.writeInt(probabilityInfo.mTimestamp);
+        output.writeInt(probabilityInfo.mLevel);
+        output.writeInt(probabilityInfo.mCount);
+    }
+
+    private static ProbabilityInfo readProbabilityInfo(final DataInputStream input)
+            throws IOException {
+        final int probability = input.readInt();
+        final int timestamp = input.readInt();
+        final int level = input.readInt();
+        final int count = input.readInt();
+        return new ProbabilityInfo(probability, timestamp, level, count);
+    }
+}
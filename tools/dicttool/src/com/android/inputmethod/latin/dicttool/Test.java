@@ -18,6 +18,7 @@ package com.android.inputmethod.latin.dicttool;
 
 import com.android.inputmethod.latin.common.FileUtils;
 import com.android.inputmethod.latin.makedict.BinaryDictDecoderEncoderTests;
+import com.android.inputmethod.latin.makedict.BinaryDictEncoderComputeAddressesTests;
 import com.android.inputmethod.latin.makedict.BinaryDictEncoderFlattenTreeTests;
 import com.android.inputmethod.latin.makedict.FusionDictionaryTest;
 
@@ -52,6 +53,10 @@ public class Test extends Dicttool.Command {
         FusionDictionaryTest.class,
         BinaryDictDecoderEncoderTests.class,
         BinaryDictEncoderFlattenTreeTests.class,
+        BinaryDictEncoderComputeAddressesTests.class,
+        DiffTests.class,
+        ReplayTests.class,
+        ServeTests.class,
     };
     private ArrayList<Method> mAllTestMethods = new ArrayList<>();
     private ArrayList<String> mUsedTestMethods = new ArrayList<>();
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.latin.dicttool.Diff.Difference;
+import com.android.inputmethod.latin.makedict.ProbabilityInfo;
+import com.android.inputmethod.latin.makedict.WeightedString;
+import com.android.inputmethod.latin.makedict.WordProperty;
+
+import junit.framework.TestCase;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for the diff command and the sorted reading of dictionaries.
+ */
+public class DiffTests extends TestCase {
+    private static final int THREAD_COUNT = 4;
+
+    private static WordProperty createWordProperty(final String word, final int probability,
+            final ArrayList<WeightedString> shortcuts, final ArrayList<WeightedString> bigrams) {
+        return new WordProperty(word, new ProbabilityInfo(probability), shortcuts, bigrams,
+                false /* isNotAWord */, false /* isPossiblyOffensive */);
+    }
+
+    private static WordProperty createWordProperty(final String word, final int probability) {
+        return createWordProperty(word, probability, new ArrayList<WeightedString>(),
+                null /* bigrams */);
+    }
+
+    private static SortedWordProperties sort(final List<WordProperty> wordProperties,
+            final int maxRunSize) throws IOException {
+        final ArrayList<WordProperty> source = new ArrayList<>(wordProperties);
+        return new SortedWordProperties(new HashMap<String, String>(),
+                new SortedWordProperties.Source() {
+                    @Override
+                    public WordProperty read() {
+                        return source.isEmpty() ? null : source.remove(0);
+                    }
+                }, maxRunSize);
+    }
+
+    private static SortedWordProperties sortCombined(final String dictionary,
+            final int maxRunSize) throws IOException {
+        final CombinedInputOutput.WordPropertyReader reader =
+                new CombinedInputOutput.WordPropertyReader(
+                        new BufferedReader(new StringReader(dictionary)));
+        return new SortedWordProperties(reader.getAttributes(),
+                SortedWordProperties.withImpliedBigramTargets(new SortedWordProperties.Source() {
+                    @Override
+                    public WordProperty read() throws IOException {
+                        return reader.read();
+                    }
+                }), maxRunSize);
+    }
+
+    private static String diff(final List<WordProperty> wordProperties0,
+            final List<WordProperty> wordProperties1, final int maxRunSize) throws IOException {
+        return diff(sort(wordProperties0, maxRunSize), sort(wordProperties1, maxRunSize));
+    }
+
+    private static String diff(final SortedWordProperties sorted0,
+            final SortedWordProperties sorted1) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try (final SortedWordProperties dict0 = sorted0;
+                final SortedWordProperties dict1 = sorted1;
+                final PrintStream out = new PrintStream(output, true /* autoFlush */, "UTF-8")) {
+            Diff.diffWords(dict0, dict1, executor, 1 /* maxPendingBatchCount */,
+                    true /* plumbing */, out);
+        } finally {
+            executor.shutdown();
+        }
+        return output.toString("UTF-8");
+    }
+
+    public void testCombinedWordPropertyReader() throws IOException {
+        final String dictionary = "# A comment\n"
+                + "dictionary=main,locale=en_US,version=1\n"
+                + " word=beta,f=100\n"
+                + "  shortcut=b,f=whitelist\n"
+                + "  bigram=alpha,f=50\n"
+                + " word=alpha,f=120,not_a_word=true\n";
+        final CombinedInputOutput.WordPropertyReader reader =
+                new CombinedInputOutput.WordPropertyReader(
+                        new BufferedReader(new StringReader(dictionary)));
+        assertEquals("en_US", reader.getAttributes().get("locale"));
+        final WordProperty beta = reader.read();
+        assertEquals("beta", beta.mWord);
+        assertEquals(100, beta.getProbability());
+        assertEquals(1, beta.mShortcutTargets.size());
+        assertEquals("b", beta.mShortcutTargets.get(0).mWord);
+        assertEquals(1, beta.getBigrams().size());
+        assertEquals("alpha", beta.getBigrams().get(0).mWord);
+        assertEquals(50, beta.getBigrams().get(0).getProbability());
+        final WordProperty alpha = reader.read();
+        assertEquals("alpha", alpha.mWord);
+        assertTrue(alpha.mIsNotAWord);
+        assertFalse(alpha.mHasShortcuts);
+        assertNull(alpha.getBigrams());
+        assertNull(reader.read());
+    }
+
+    public void testSortedWordProperties() throws IOException {
+        final ArrayList<WeightedString> bigrams = new ArrayList<>();
+        bigrams.add(new WeightedString("c", new ProbabilityInfo(10)));
+        final ArrayList<WeightedString> shortcuts = new ArrayList<>();
+        shortcuts.add(new WeightedString("bee", 15));
+        final ArrayList<WeightedString> otherBigrams = new ArrayList<>();
+        otherBigrams.add(new WeightedString("c", new ProbabilityInfo(30)));
+        otherBigrams.add(new WeightedString("d", new ProbabilityInfo(7)));
+        final ArrayList<WeightedString> otherShortcuts = new ArrayList<>();
+        otherShortcuts.add(new WeightedString("bee", 5));
+        otherShortcuts.add(new WeightedString("be", 12));
+        final ArrayList<WordProperty> wordProperties = new ArrayList<>();
+        wordProperties.add(createWordProperty("d", 10));
+        wordProperties.add(createWordProperty("b", 20, shortcuts, bigrams));
+        wordProperties.add(createWordProperty("a", 30));
+        wordProperties.add(createWordProperty("c", 40));
+        // The occurrences of a word are merged like in a FusionDictionary: the highest
+        // probabilities win, and the flags of the last occurrence.
+        wordProperties.add(createWordProperty("a", 50));
+        wordProperties.add(new WordProperty("c", new ProbabilityInfo(20),
+                new ArrayList<WeightedString>(), null /* bigrams */, true /* isNotAWord */,
+                false /* isPossiblyOffensive */));
+        wordProperties.add(createWordProperty("b", 15, otherShortcuts, otherBigrams));
+
+        for (final int maxRunSize : new int[] { 2, 100 }) {
+            try (final SortedWordProperties sorted = sort(wordProperties, maxRunSize)) {
+                assertEquals(2 == maxRunSize ? 4 : 0, sorted.getRunFileCount());
+                final WordProperty a = sorted.read();
+                assertEquals("a", a.mWord);
+                assertEquals(50, a.getProbability());
+                final WordProperty b = sorted.read();
+                assertEquals("b", b.mWord);
+                assertEquals(20, b.getProbability());
+                assertEquals(2, b.mShortcutTargets.size());
+                assertEquals("bee", b.mShortcutTargets.get(0).mWord);
+                assertEquals(15, b.mShortcutTargets.get(0).getProbability());
+                assertEquals("be", b.mShortcutTargets.get(1).mWord);
+                assertEquals(12, b.mShortcutTargets.get(1).getProbability());
+                assertEquals(2, b.getBigrams().size());
+                assertEquals("c", b.getBigrams().get(0).mWord);
+                assertEquals(30, b.getBigrams().get(0).getProbability());
+                assertEquals("d", b.getBigrams().get(1).mWord);
+                assertEquals(7, b.getBigrams().get(1).getProbability());
+                final WordProperty c = sorted.read();
+                assertEquals("c", c.mWord);
+                assertEquals(40, c.getProbability());
+                assertTrue(c.mIsNotAWord);
+                assertEquals("d", sorted.read().mWord);
+                assertNull(sorted.read());
+            }
+        }
+    }
+
+    public void testImpliedBigramTargets() throws IOException {
+        final String header = "dictionary=main,locale=en_US,version=1\n";
+        // "zeta" is only the target of a bigram. Like in a FusionDictionary, it is read as a word
+        // with a probability of 0, and "alpha" being the target of a bigram too changes nothing.
+        final String dictionary0 = header
+                + " word=beta,f=90,not_a_word=true\n"
+                + "  bigram=alpha,f=40\n"
+                + " word=alpha,f=100\n"
+                + "  bigram=zeta,f=50\n";
+        final String dictionary1 = header
+                + " word=beta,f=90,not_a_word=true\n"
+                + "  bigram=alpha,f=40\n"
+                + " word=alpha,f=100\n";
+        for (final int maxRunSize : new int[] { 1, 100 }) {
+            try (final SortedWordProperties sorted = sortCombined(dictionary0, maxRunSize)) {
+                final WordProperty alpha = sorted.read();
+                assertEquals("alpha", alpha.mWord);
+                assertEquals(100, alpha.getProbability());
+                assertEquals(1, alpha.getBigrams().size());
+                final WordProperty beta = sorted.read();
+                assertEquals("beta", beta.mWord);
+                assertTrue(beta.mIsNotAWord);
+                final WordProperty zeta = sorted.read();
+                assertEquals("zeta", zeta.mWord);
+                assertEquals(0, zeta.getProbability());
+                assertFalse(zeta.mHasNgrams);
+                assertNull(sorted.read());
+            }
+            assertEquals("bigram\talpha\tzeta\t50\t\n" + "word\tzeta\t\t0\t\n",
+                    diff(sortCombined(dictionary0, maxRunSize),
+                            sortCombined(dictionary1, maxRunSize)));
+        }
+    }
+
+    public void testDiffWord() {
+        final ArrayList<WeightedString> bigrams0 = new ArrayList<>();
+        bigrams0.add(new WeightedString("x", new ProbabilityInfo(10)));
+        bigrams0.add(new WeightedString("y", new ProbabilityInfo(20)));
+        final ArrayList<WeightedString> bigrams1 = new ArrayList<>();
+        bigrams1.add(new WeightedString("y", new ProbabilityInfo(30)));
+        bigrams1.add(new WeightedString("z", new ProbabilityInfo(40)));
+        final ArrayList<Difference> differences = new ArrayList<>();
+        Diff.diffWord(createWordProperty("w", 100, new ArrayList<WeightedString>(), bigrams0),
+                createWordProperty("w", 110, new ArrayList<WeightedString>(), bigrams1),
+                differences);
+        assertEquals(4, differences.size());
+        assertEquals("Probability changed: w 100 -> 110", differences.get(0).toString());
+        assertEquals("Bigram removed: w x 10", differences.get(1).toString());
+        assertEquals("Bigram freq changed: w y 20 -> 30", differences.get(2).toString());
+        assertEquals("Bigram added: w z 40", differences.get(3).toString());
+        assertEquals("bigram\tw\tz\t\t40", differences.get(3).toPlumbingString());
+
+        differences.clear();
+        Diff.diffWord(createWordProperty("w", 100), null, differences);
+        Diff.diffWord(null, createWordProperty("v", 90), differences);
+        Diff.diffWord(createWordProperty("u", 80), createWordProperty("u", 80), differences);
+        assertEquals(2, differences.size());
+        assertEquals("Deleted: w 100", differences.get(0).toString());
+        assertEquals("word\tw\t\t100\t", differences.get(0).toPlumbingString());
+        assertEquals("Added: v 90", differences.get(1).toString());
+    }
+
+    public void testDiffWords() throws IOException {
+        final ArrayList<WordProperty> wordProperties0 = new ArrayList<>();
+        final ArrayList<WordProperty> wordProperties1 = new ArrayList<>();
+        final StringBuilder expectedOutput = new StringBuilder();
+        // More words than fit in a batch or in a run.
+        for (int i = 0; i < 5000; ++i) {
+            final String word = String.format("w%05d", i);
+            switch (i % 4) {
+            case 0:
+                wordProperties0.add(createWordProperty(word, 100));
+                wordProperties1.add(createWordProperty(word, 100));
+                break;
+            case 1:
+                wordProperties0.add(createWordProperty(word, 100));
+                expectedOutput.append("word\t" + word + "\t\t100\t\n");
+                break;
+            case 2:
+                wordProperties1.add(createWordProperty(word, 120));
+                expectedOutput.append("word\t" + word + "\t\t\t120\n");
+                break;
+            default:
+                wordProperties0.add(createWordProperty(word, 100));
+                wordProperties1.add(createWordProperty(word, 130));
+                expectedOutput.append("probability\t" + word + "\t\t100\t130\n");
+                break;
+            }
+        }
+        final Random random = new Random(0);
+        Collections.shuffle(wordProperties0, random);
+        Collections.shuffle(wordProperties1, random);
+        assertEquals(expectedOutput.toString(),
+                diff(wordProperties0, wordProperties1, 700 /* maxRunSize */));
+        assertEquals("", diff(wordProperties0, wordProperties0, 700 /* maxRunSize */));
+    }
+}
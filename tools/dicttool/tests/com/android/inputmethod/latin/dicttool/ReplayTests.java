@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.dicttool.ReplayCorpus.Input;
+
+import junit.framework.TestCase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the replay command, its keyboard description and its corpus.
+ */
+public class ReplayTests extends TestCase {
+    // Three keys of 100x100 pixels in a row.
+    private static final String KEYBOARD = "# A small keyboard\n"
+            + "keyboard 300 100\n"
+            + "key a 0 0 100 100\n"
+            + "key b 100 0 100 100\n"
+            + "key c 200 0 100 100\n";
+
+    private static BufferedReader getReader(final String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
+    private static KeyboardGeometry readKeyboard() throws IOException {
+        return KeyboardGeometry.read(getReader(KEYBOARD));
+    }
+
+    private static SuggestedWordInfo createSuggestion(final String word, final int score) {
+        return new SuggestedWordInfo(word, "" /* prevWordsContext */, score,
+                SuggestedWordInfo.KIND_CORRECTION, null /* sourceDict */,
+                SuggestedWordInfo.NOT_AN_INDEX /* indexOfTouchPointOfSecondWord */,
+                SuggestedWordInfo.NOT_A_CONFIDENCE /* autoCommitFirstWordConfidence */);
+    }
+
+    public void testKeyboardGeometry() throws IOException {
+        final KeyboardGeometry geometry = readKeyboard();
+        assertEquals(300, geometry.mWidth);
+        assertEquals(100, geometry.mHeight);
+        assertEquals(150, geometry.getKeyCenterX('b'));
+        assertEquals(150, geometry.getKeyCenterX('B'));
+        assertEquals(50, geometry.getKeyCenterY('b'));
+        assertEquals(Constants.NOT_A_COORDINATE, geometry.getKeyCenterX('d'));
+        assertEquals(100, geometry.getMostCommonKeyWidth());
+        assertEquals('a', geometry.getCodeAt(99, 50));
+        assertEquals('b', geometry.getCodeAt(100, 50));
+        // Touches off the keyboard land on the nearest key.
+        assertEquals('c', geometry.getCodeAt(400, 150));
+    }
+
+    public void testMalformedKeyboard() {
+        final String[] malformedKeyboards = {
+            "",
+            "keyboard 300 100\n",
+            "key a 0 0 100 100\nkeyboard 300 100\n",
+            "keyboard 300 100\nkey ab 0 0 100 100\n",
+            "keyboard 300 100\nkey a 0 0 100\n",
+            "keyboard 300 x\nkey a 0 0 100 100\n",
+        };
+        for (final String keyboard : malformedKeyboards) {
+            try {
+                KeyboardGeometry.read(getReader(keyboard));
+                fail("Read malformed keyboard: " + keyboard);
+            } catch (final IOException e) {
+                // Expected.
+            }
+        }
+    }
+
+    public void testCorpus() throws IOException {
+        final ReplayCorpus corpus = ReplayCorpus.read(getReader("type cab\n"
+                + "taps ab 50,50,0 250,50,100\n"
+                + ".\n"
+                + "# A gesture\n"
+                + "trail Abc 50,50,0 150,50,20 250,50,40\n"),
+                readKeyboard(), 0.0f /* noise */, 0 /* seed */);
+        assertEquals(3, corpus.getInputCount());
+        assertEquals(6, corpus.getQueryCount());
+        final List<List<Input>> sentences = corpus.getSentences();
+        assertEquals(2, sentences.size());
+
+        final Input typed = sentences.get(0).get(0);
+        assertFalse(typed.mIsGesture);
+        assertTrue(typed.mNgramContext.isBeginningOfSentenceContext());
+        assertEquals(3, typed.mQueries.size());
+        final ComposedData lastTypingQuery = typed.mQueries.get(2);
+        assertEquals("cab", lastTypingQuery.mTypedWord);
+        assertEquals(3, lastTypingQuery.mInputPointers.getPointerSize());
+        assertEquals(250, lastTypingQuery.mInputPointers.getXCoordinates()[0]);
+        assertEquals("ca", typed.mQueries.get(1).mTypedWord);
+
+        // The second tap lands on c instead of b.
+        final Input tapped = sentences.get(0).get(1);
+        assertEquals("ab", tapped.mWord);
+        assertEquals("ac", tapped.mQueries.get(1).mTypedWord);
+        assertEquals("cab", tapped.mNgramContext.getNthPrevWord(1).toString());
+
+        final Input gestured = sentences.get(1).get(0);
+        assertTrue(gestured.mIsGesture);
+        assertTrue(gestured.mNgramContext.isBeginningOfSentenceContext());
+        assertEquals(1, gestured.mQueries.size());
+        assertEquals(3, gestured.mQueries.get(0).mInputPointers.getPointerSize());
+    }
+
+    public void testCorpusNoise() throws IOException {
+        final String text = "type abcabcabcabc\n";
+        final ReplayCorpus corpus =
+                ReplayCorpus.read(getReader(text), readKeyboard(), 50.0f /* noise */, 1 /* seed */);
+        final ReplayCorpus sameCorpus =
+                ReplayCorpus.read(getReader(text), readKeyboard(), 50.0f /* noise */, 1 /* seed */);
+        final ComposedData query = corpus.getSentences().get(0).get(0).mQueries.get(11);
+        final ComposedData sameQuery = sameCorpus.getSentences().get(0).get(0).mQueries.get(11);
+        assertEquals(sameQuery.mTypedWord, query.mTypedWord);
+        assertFalse("abcabcabcabc".equals(query.mTypedWord));
+    }
+
+    public void testMalformedCorpus() throws IOException {
+        final String[] malformedCorpora = {
+            "type\n",
+            "swipe abc\n",
+            "taps ab 50,50\n",
+            "trail ab\n",
+        };
+        final KeyboardGeometry geometry = readKeyboard();
+        for (final String corpus : malformedCorpora) {
+            try {
+                ReplayCorpus.read(getReader(corpus), geometry, 0.0f /* noise */, 0 /* seed */);
+                fail("Read malformed corpus: " + corpus);
+            } catch (final IOException e) {
+                // Expected.
+            }
+        }
+    }
+
+    public void testGetRank() {
+        final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>();
+        suggestions.add(createSuggestion("abc", 10));
+        suggestions.add(createSuggestion("ab", 10));
+        suggestions.add(createSuggestion("b", 20));
+        assertEquals(0, Replay.getRank(suggestions, "b"));
+        assertEquals(1, Replay.getRank(suggestions, "ab"));
+        assertEquals(2, Replay.getRank(suggestions, "abc"));
+        assertEquals(-1, Replay.getRank(suggestions, "c"));
+        assertEquals(-1, Replay.getRank(null, "c"));
+    }
+
+    public void testKeystrokeCount() {
+        final Replay.WordResult result = new Replay.WordResult(false /* isGesture */, 5);
+        assertEquals(5, result.getKeystrokeCount());
+        result.mTapCountToSuggest = 2;
+        assertEquals(3, result.getKeystrokeCount());
+        // Picking the word after the last tap doesn't save anything.
+        result.mTapCountToSuggest = 5;
+        assertEquals(5, result.getKeystrokeCount());
+    }
+
+    public void testGetPercentile() {
+        final long[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        assertEquals(5, Replay.getPercentile(values, 50));
+        assertEquals(9, Replay.getPercentile(values, 90));
+        assertEquals(10, Replay.getPercentile(values, 99));
+        assertEquals(1, Replay.getPercentile(values, 0));
+        assertEquals(0, Replay.getPercentile(new long[0], 50));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.latin.NgramContext;
+import com.android.inputmethod.latin.dicttool.Serve.Request;
+
+import junit.framework.TestCase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Unit tests for the serve command.
+ */
+public class ServeTests extends TestCase {
+    private static final int REQUEST_COUNT = 5000;
+    private static final int WORKER_COUNT = 4;
+
+    public void testResponsesInRequestOrder() throws IOException, InterruptedException {
+        final LinkedBlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+        final ArrayList<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < WORKER_COUNT; ++i) {
+            final Random random = new Random(i);
+            final Thread worker = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        while (true) {
+                            final Request request = requests.take();
+                            // Answer out of order.
+                            if (random.nextInt(100) == 0) {
+                                Thread.sleep(1);
+                            }
+                            request.setResponse("ok" + Serve.FIELD_SEPARATOR + request.mLine);
+                        }
+                    } catch (final InterruptedException e) {
+                        // Done.
+                    }
+                }
+            };
+            worker.start();
+            workers.add(worker);
+        }
+        final StringBuilder input = new StringBuilder();
+        final StringBuilder expectedOutput = new StringBuilder();
+        for (int i = 0; i < REQUEST_COUNT; ++i) {
+            input.append("probability\tmain\tword").append(i).append('\n');
+            expectedOutput.append("ok\tprobability\tmain\tword").append(i).append('\n');
+        }
+        final StringWriter output = new StringWriter();
+        try {
+            Serve.serveRequests(new BufferedReader(new StringReader(input.toString())), output,
+                    requests);
+        } finally {
+            for (final Thread worker : workers) {
+                worker.interrupt();
+                worker.join();
+            }
+        }
+        assertEquals(expectedOutput.toString(), output.toString());
+    }
+
+    public void testGetNgramContext() {
+        final String[] fields = { "ngram", "main", Serve.BEGINNING_OF_SENTENCE, "I", "am", "here" };
+        final NgramContext ngramContext = Serve.getNgramContext(fields, 2, fields.length - 1);
+        assertEquals(3, ngramContext.getPrevWordCount());
+        assertEquals("am", ngramContext.getNthPrevWord(1).toString());
+        assertEquals("I", ngramContext.getNthPrevWord(2).toString());
+        assertTrue(ngramContext.isNthPrevWordBeginningOfSentence(3));
+
+        // Only the most recent words are kept.
+        final String[] longFields = { "ngram", "main", "a", "b", "c", "d", "e" };
+        final NgramContext longNgramContext =
+                Serve.getNgramContext(longFields, 2, longFields.length - 1);
+        assertEquals(3, longNgramContext.getPrevWordCount());
+        assertEquals("d", longNgramContext.getNthPrevWord(1).toString());
+        assertEquals("b", longNgramContext.getNthPrevWord(3).toString());
+
+        assertSame(NgramContext.EMPTY_PREV_WORDS_INFO, Serve.getNgramContext(fields, 2, 2));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2015 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.makedict;
+
+import com.android.inputmethod.latin.makedict.FormatSpec.DictionaryOptions;
+import com.android.inputmethod.latin.makedict.FusionDictionary.PtNode;
+import com.android.inputmethod.latin.makedict.FusionDictionary.PtNodeArray;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Unit tests for BinaryDictEncoderUtils.computeAddresses().
+ */
+public class BinaryDictEncoderComputeAddressesTests extends TestCase {
+    private static final int THREAD_COUNT = 4;
+
+    private static FusionDictionary makeRandomDictionary(final long seed, final int wordCount,
+            final int bigramCount) {
+        final Random random = new Random(seed);
+        final FusionDictionary dict = new FusionDictionary(new PtNodeArray(),
+                new DictionaryOptions(new HashMap<String, String>()));
+        final ArrayList<String> words = new ArrayList<>();
+        for (int i = 0; i < wordCount; ++i) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; ++j) {
+                sb.append((char) ('a' + random.nextInt(8)));
+            }
+            final String word = sb.toString();
+            words.add(word);
+            dict.add(word, new ProbabilityInfo(random.nextInt(FormatSpec.MAX_TERMINAL_FREQUENCY)),
+                    null /* shortcutTargets */, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */);
+        }
+        for (int i = 0; i < bigramCount; ++i) {
+            dict.setBigram(words.get(random.nextInt(wordCount)),
+                    words.get(random.nextInt(wordCount)),
+                    new ProbabilityInfo(random.nextInt(FormatSpec.MAX_BIGRAM_FREQUENCY)));
+        }
+        return dict;
+    }
+
+    private static ArrayList<PtNodeArray> computeAddresses(final long seed, final int wordCount,
+            final int bigramCount, final int threadCount) {
+        final FusionDictionary dict = makeRandomDictionary(seed, wordCount, bigramCount);
+        final ArrayList<PtNodeArray> flatNodes =
+                BinaryDictEncoderUtils.flattenTree(dict.mRootNodeArray);
+        return BinaryDictEncoderUtils.computeAddresses(dict, flatNodes,
+                null /* codePointToOneByteCodeMap */, threadCount);
+    }
+
+    private static int getLayoutSize(final ArrayList<PtNodeArray> ptNodeArrays) {
+        final PtNodeArray lastPtNodeArray = ptNodeArrays.get(ptNodeArrays.size() - 1);
+        return lastPtNodeArray.mCachedAddressAfterUpdate + lastPtNodeArray.mCachedSize;
+    }
+
+    // Parallel passes must converge to exactly the layout of the passes on the calling thread.
+    // Returns the size of the layout.
+    private static int checkParallelPassesGiveSameLayout(final long seed, final int wordCount,
+            final int bigramCount) {
+        final ArrayList<PtNodeArray> expected =
+                computeAddresses(seed, wordCount, bigramCount, 0 /* threadCount */);
+        final ArrayList<PtNodeArray> actual =
+                computeAddresses(seed, wordCount, bigramCount, THREAD_COUNT);
+        BinaryDictEncoderUtils.checkFlatPtNodeArrayList(actual);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            final PtNodeArray expectedArray = expected.get(i);
+            final PtNodeArray actualArray = actual.get(i);
+            assertEquals(expectedArray.mCachedAddressAfterUpdate,
+                    actualArray.mCachedAddressAfterUpdate);
+            assertEquals(expectedArray.mCachedSize, actualArray.mCachedSize);
+            assertEquals(expectedArray.mData.size(), actualArray.mData.size());
+            for (int j = 0; j < expectedArray.mData.size(); ++j) {
+                final PtNode expectedNode = expectedArray.mData.get(j);
+                final PtNode actualNode = actualArray.mData.get(j);
+                assertEquals(expectedNode.mCachedAddressAfterUpdate,
+                        actualNode.mCachedAddressAfterUpdate);
+                assertEquals(expectedNode.mCachedSize, actualNode.mCachedSize);
+            }
+        }
+        return getLayoutSize(actual);
+    }
+
+    public void testParallelPassesGiveSameLayout() {
+        for (long seed = 0; seed < 5; ++seed) {
+            checkParallelPassesGiveSameLayout(seed, 3000 /* wordCount */, 6000 /* bigramCount */);
+        }
+    }
+
+    // Offsets that all fit in one byte, or have to cross the one-byte boundary.
+    public void testParallelPassesGiveSameLayoutForSmallDictionaries() {
+        for (long seed = 0; seed < 20; ++seed) {
+            final int layoutSize = checkParallelPassesGiveSameLayout(seed,
+                    10 + (int) seed * 10 /* wordCount */, (int) seed * 10 /* bigramCount */);
+            if (0 == seed) {
+                assertTrue(layoutSize <= FormatSpec.UINT8_MAX);
+            }
+        }
+    }
+
+    // Offsets that have to cross the two-byte boundary.
+    public void testParallelPassesGiveSameLayoutForLargeDictionaries() {
+        for (long seed = 0; seed < 2; ++seed) {
+            final int layoutSize = checkParallelPassesGiveSameLayout(seed,
+                    20000 /* wordCount */, 40000 /* bigramCount */);
+            assertTrue(layoutSize > FormatSpec.UINT16_MAX);
+        }
+    }
+}
@@ -38,7 +38,13 @@ public class MoreKeysResources {
     private static final String MARK_TEXTS = "@TEXTS@";
     private static final String TEXTS_ARRAY_NAME_PREFIX = "TEXTS_";
     private static final String MARK_LOCALES_AND_TEXTS = "@LOCALES_AND_TEXTS@";
-    private static final String EMPTY_STRING_VAR = "EMPTY";
+
+    // These must be the same as in KeyboardTextsSet and KeyboardTextsTable.
+    private static final String PREFIX_TEXT = "!text/";
+    private static final char BACKSLASH = '\\';
+    private static final int MAX_REFERENCE_INDIRECTION = 10;
+    private static final char INDEX_SEPARATOR = '=';
+    private static final char TEXT_TERMINATOR = '\u0000';
 
     private final JarFile mJar;
     // String resources maps sorted by its language. The language is determined from the jar entry
@@ -162,8 +168,8 @@ public class MoreKeysResources {
     }
 
     private void dumpDefaultTexts(final PrintStream out) {
-        final int outputArraySize = dumpTextsInternal(out, mDefaultResourceMap);
-        mDefaultResourceMap.setOutputArraySize(outputArraySize);
+        final int outputTextCount = dumpTextsInternal(out, mDefaultResourceMap);
+        mDefaultResourceMap.setOutputTextCount(outputTextCount);
     }
 
     private static String getArrayNameForLocale(final Locale locale) {
@@ -176,59 +182,124 @@ public class MoreKeysResources {
             if (resMap == mDefaultResourceMap) continue;
             out.format("    /* Locale %s: %s */\n",
                     locale, LocaleUtils.getLocaleDisplayName(locale));
-            out.format("    private static final String[] " + getArrayNameForLocale(locale)
-                    + " = {\n");
-            final int outputArraySize = dumpTextsInternal(out, resMap);
-            resMap.setOutputArraySize(outputArraySize);
-            out.format("    };\n\n");
+            out.format("    private static final String " + getArrayNameForLocale(locale)
+                    + " =\n");
+            final int outputTextCount = dumpTextsInternal(out, resMap);
+            resMap.setOutputTextCount(outputTextCount);
+            out.format("\n");
         }
     }
 
     private void dumpLocalesMap(final PrintStream out) {
         for (final StringResourceMap resMap : mResourcesMap.values()) {
             final Locale locale = resMap.mLocale;
+            if (resMap == mDefaultResourceMap) continue;
             final String localeStr = LocaleUtils.getLocaleCode(locale);
-            final String localeToDump = (locale == LocaleUtils.DEFAULT_LOCALE)
-                    ? String.format("\"%s\"", localeStr)
-                    : String.format("\"%s\"%s", localeStr, "       ".substring(localeStr.length()));
-            out.format("        %s, %-12s /* %3d/%3d %s */\n",
-                    localeToDump, getArrayNameForLocale(locale) + ",",
-                    resMap.getResources().size(), resMap.getOutputArraySize(),
-                    LocaleUtils.getLocaleDisplayName(locale));
+            out.format("        case %-9s return %-13s /* %3d %s */\n",
+                    "\"" + localeStr + "\":", getArrayNameForLocale(locale) + ";",
+                    resMap.getOutputTextCount(), LocaleUtils.getLocaleDisplayName(locale));
         }
     }
 
+    // Dumps the packed texts of the locale as the initializer of a string constant. Only the
+    // texts that differ from the default ones are dumped.
     private int dumpTextsInternal(final PrintStream out, final StringResourceMap resMap) {
-        final ArrayInitializerFormatter formatter =
-                new ArrayInitializerFormatter(out, 100, "        ", mSortedResourceNames);
-        int outputArraySize = 0;
-        boolean successiveNull = false;
+        final StringBuilder sb = new StringBuilder();
+        int outputTextCount = 0;
         final int namesCount = mSortedResourceNames.length;
         for (int index = 0; index < namesCount; index++) {
             final String name = mSortedResourceNames[index];
+            final String text = getResolvedText(resMap, name);
             final StringResource res = resMap.get(name);
-            if (res != null) {
-                // TODO: Check whether the resource value is equal to the default.
-                if (res.mComment != null) {
-                    formatter.outCommentLines(addPrefix("        // ", res. mComment));
+            // A text that is not defined in the locale still has to be dumped when it refers to
+            // a text that is.
+            if (res == null && text.equals(getResolvedText(mDefaultResourceMap, name))) {
+                continue;
+            }
+            if (res != null && res.mComment != null) {
+                sb.append(addPrefix("            // ", res.mComment));
+            }
+            sb.append(String.format("            %s/* %s */ \"%s\"\n",
+                    (outputTextCount == 0) ? "" : "+ ", name,
+                    escapeJava(Integer.toString(index) + INDEX_SEPARATOR + text
+                            + TEXT_TERMINATOR)));
+            outputTextCount++;
+        }
+        if (outputTextCount == 0) {
+            sb.append("            \"\"\n");
+        }
+        // Terminate the initializer.
+        sb.insert(sb.length() - 1, ';');
+        out.print(sb);
+        return outputTextCount;
+    }
+
+    // Returns the text of the name in the locale, or the default text of the name if the locale
+    // doesn't define it.
+    private String getText(final StringResourceMap resMap, final String name) {
+        final StringResource res = resMap.contains(name) ? resMap.get(name)
+                : mDefaultResourceMap.get(name);
+        if (res == null) {
+            throw new RuntimeException("Unknown text name=" + name + " locale=" + resMap.mLocale);
+        }
+        return unescapeJava(res.mValue);
+    }
+
+    // Returns the text of the name in the locale with its "!text/" references resolved the same
+    // way as KeyboardTextsSet#resolveTextReference(String) would. "!string/" references are left
+    // as is, because string resources are resolved against the resources of the device.
+    private String getResolvedText(final StringResourceMap resMap, final String name) {
+        String text = getText(resMap, name);
+        for (int level = 1; ; level++) {
+            if (level >= MAX_REFERENCE_INDIRECTION) {
+                throw new RuntimeException("Too many " + PREFIX_TEXT
+                        + " reference indirection: " + name + " locale=" + resMap.mLocale);
+            }
+            final String expandedText = expandTextReferences(resMap, text);
+            if (expandedText == null) {
+                return text;
+            }
+            text = expandedText;
+        }
+    }
+
+    // Returns the text with its "!text/" references expanded once, or null if it has none.
+    private String expandTextReferences(final StringResourceMap resMap, final String text) {
+        StringBuilder sb = null;
+        final int size = text.length();
+        for (int pos = 0; pos < size; pos++) {
+            final char c = text.charAt(pos);
+            if (text.startsWith(PREFIX_TEXT, pos)) {
+                if (sb == null) {
+                    sb = new StringBuilder(text.substring(0, pos));
                 }
-                final String escaped = escapeNonAscii(res.mValue);
-                if (escaped.length() == 0) {
-                    formatter.outElement(EMPTY_STRING_VAR + ",");
-                } else {
-                    formatter.outElement(String.format("\"%s\",", escaped));
+                final int end = searchTextNameEnd(text, pos + PREFIX_TEXT.length());
+                sb.append(getText(resMap, text.substring(pos + PREFIX_TEXT.length(), end)));
+                pos = end - 1;
+            } else if (c == BACKSLASH) {
+                if (sb != null) {
+                    // Append both escape character and escaped character.
+                    sb.append(text.substring(pos, Math.min(pos + 2, size)));
                 }
-                successiveNull = false;
-                outputArraySize = formatter.getCurrentIndex();
-            } else {
-                formatter.outElement("null,");
-                successiveNull = true;
+                pos++;
+            } else if (sb != null) {
+                sb.append(c);
             }
         }
-        if (!successiveNull) {
-            formatter.flush();
+        return (sb == null) ? null : sb.toString();
+    }
+
+    private static int searchTextNameEnd(final String text, final int start) {
+        final int size = text.length();
+        for (int pos = start; pos < size; pos++) {
+            final char c = text.charAt(pos);
+            // Label name should be consisted of [a-zA-Z_0-9].
+            if ((c >= 'a' && c <= 'z') || c == '_' || (c >= '0' && c <= '9')) {
+                continue;
+            }
+            return pos;
         }
-        return outputArraySize;
+        return size;
     }
 
     private static String addPrefix(final String prefix, final String lines) {
@@ -239,12 +310,45 @@ public class MoreKeysResources {
         return sb.toString();
     }
 
-    private static String escapeNonAscii(final String text) {
+    // Converts a string resource value, which is escaped like a Java string literal, to the text
+    // it stands for.
+    private static String unescapeJava(final String value) {
+        final StringBuilder sb = new StringBuilder();
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c != BACKSLASH || i + 1 >= length) {
+                sb.append(c);
+                continue;
+            }
+            final char escaped = value.charAt(++i);
+            if (escaped == 'u' && i + 4 < length) {
+                sb.append((char)Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                i += 4;
+            } else if (escaped == 'n') {
+                sb.append('\n');
+            } else if (escaped == 't') {
+                sb.append('\t');
+            } else {
+                sb.append(escaped);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escapeJava(final String text) {
         final StringBuilder sb = new StringBuilder();
         final int length = text.length();
         for (int i = 0; i < length; i++) {
             final char c = text.charAt(i);
-            if (c >= ' ' && c < 0x7f) {
+            if (c == BACKSLASH || c == '"') {
+                sb.append(BACKSLASH).append(c);
+            } else if (c == '\n') {
+                // The unicode escape of a line terminator would end the line of the source.
+                sb.append("\\n");
+            } else if (c == '\t') {
+                sb.append("\\t");
+            } else if (c >= ' ' && c < 0x7f) {
                 sb.append(c);
             } else {
                 sb.append(String.format("\\u%04X", (int)c));
@@ -42,11 +42,11 @@ public class StringResourceMap {
     // Name to string resource map.
     private final Map<String, StringResource> mResourcesMap;
 
-    // The length of String[] that is created from this {@link StringResourceMap}. The length is
+    // The number of texts that are packed from this {@link StringResourceMap}. The number is
     // calculated in {@link MoreKeysResources#dumpTexts(OutputStream)} and recorded by
-    // {@link #setOutputArraySize(int)}. The recorded length is used as a part of comment by
-    // {@link MoreKeysResources#dumpLocaleMap(OutputStream)} via {@link #getOutputArraySize()}.
-    private int mOutputArraySize;
+    // {@link #setOutputTextCount(int)}. The recorded number is used as a part of comment by
+    // {@link MoreKeysResources#dumpLocaleMap(OutputStream)} via {@link #getOutputTextCount()}.
+    private int mOutputTextCount;
 
     public StringResourceMap(final String jarEntryName) {
         mLocale = JarUtils.getLocaleFromEntryName(jarEntryName);
@@ -92,12 +92,12 @@ public class StringResourceMap {
         return mResourcesMap.get(name);
     }
 
-    public void setOutputArraySize(final int arraySize) {
-        mOutputArraySize = arraySize;
+    public void setOutputTextCount(final int textCount) {
+        mOutputTextCount = textCount;
     }
 
-    public int getOutputArraySize() {
-        return mOutputArraySize;
+    public int getOutputTextCount() {
+        return mOutputTextCount;
     }
 
     static class StringResourceHandler extends DefaultHandler2 {